@@ -15,13 +15,19 @@
  */
 
 import com.linkedin.drelephant.DrElephant;
+import com.linkedin.drelephant.util.QueryAudit;
 import com.sun.security.sasl.util.AbstractSaslImpl;
 
 import play.Application;
 import play.GlobalSettings;
 import play.Logger;
+import play.libs.F;
+import play.mvc.Action;
+import play.mvc.Http;
+import play.mvc.SimpleResult;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.logging.Level;
 
@@ -55,6 +61,28 @@ public class Global extends GlobalSettings {
     }
   }
 
+  /**
+   * Attributes the statements audited while handling a request to its action, e.g. Application.search.
+   */
+  @Override
+  public Action onRequest(Http.Request request, Method actionMethod) {
+    if (!QueryAudit.isEnabled()) {
+      return super.onRequest(request, actionMethod);
+    }
+    final String endpoint = actionMethod.getDeclaringClass().getSimpleName() + "." + actionMethod.getName();
+    return new Action.Simple() {
+      @Override
+      public F.Promise<SimpleResult> call(Http.Context ctx) throws Throwable {
+        QueryAudit.setEndpoint(endpoint);
+        try {
+          return delegate.call(ctx);
+        } finally {
+          QueryAudit.clearEndpoint();
+        }
+      }
+    };
+  }
+
   /**
    * This hack is done in order to fix a problem in Java 1.6 when using Kerberos
    * <p/>
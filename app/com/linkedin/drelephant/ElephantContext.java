@@ -24,8 +24,10 @@ import com.linkedin.drelephant.analysis.ElephantFetcher;
 import com.linkedin.drelephant.analysis.HadoopApplicationData;
 import com.linkedin.drelephant.analysis.HadoopMetricsAggregator;
 import com.linkedin.drelephant.analysis.Heuristic;
+import com.linkedin.drelephant.analysis.HeuristicEvaluator;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.JobType;
+import com.linkedin.drelephant.analysis.JobTypeClassifier;
 import com.linkedin.drelephant.configurations.aggregator.AggregatorConfiguration;
 import com.linkedin.drelephant.configurations.aggregator.AggregatorConfigurationData;
 import com.linkedin.drelephant.configurations.fetcher.FetcherConfiguration;
@@ -42,7 +44,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
 
 import org.apache.commons.lang.StringUtils;
@@ -69,10 +70,17 @@ public class ElephantContext {
   private static final String GENERAL_CONF = "GeneralConf.xml";
   private static final String AUTO_TUNING_CONF = "AutoTuningConf.xml";
 
+  private static final String PARALLEL_HEURISTICS_KEY = "drelephant.analysis.heuristics.parallel.enabled";
+  private static final String PARALLEL_HEURISTICS_THREADS_KEY = "drelephant.analysis.heuristics.parallel.thread.count";
+  private static final String HEURISTIC_TIMEOUT_MS_KEY = "drelephant.analysis.heuristics.timeout.ms";
+  private static final long HEURISTIC_TIMEOUT_MS = 5 * 60 * 1000;
+  private static final String STREAMING_HEURISTICS_KEY = "drelephant.analysis.heuristics.streaming.enabled";
+
   private final Map<String, List<String>> _heuristicGroupedNames = new HashMap<String, List<String>>();
   private List<HeuristicConfigurationData> _heuristicsConfData;
   private List<FetcherConfigurationData> _fetchersConfData;
   private Configuration _generalConf;
+  private HeuristicEvaluator _heuristicEvaluator = new HeuristicEvaluator();
 
   private Configuration _autoTuningConf;
   private List<AggregatorConfigurationData> _aggregatorConfData;
@@ -85,8 +93,13 @@ public class ElephantContext {
   private final Map<ApplicationType, ElephantFetcher> _typeToFetcher = new HashMap<ApplicationType, ElephantFetcher>();
   private final Map<String, Html> _heuristicToView = new HashMap<String, Html>();
   private Map<ApplicationType, List<JobType>> _appTypeToJobTypes = new HashMap<ApplicationType, List<JobType>>();
+  private final Map<ApplicationType, JobTypeClassifier> _typeToClassifier =
+      new HashMap<ApplicationType, JobTypeClassifier>();
 
   public static void init() {
+    if (INSTANCE != null) {
+      INSTANCE._heuristicEvaluator.shutdown();
+    }
     INSTANCE = new ElephantContext();
   }
 
@@ -293,6 +306,7 @@ public class ElephantContext {
       }
 
       List<JobType> jobTypes = _appTypeToJobTypes.get(type);
+      _typeToClassifier.put(type, new JobTypeClassifier(jobTypes, heuristics));
       logger.info("Supports " + type.getName() + " application type, using " + _typeToFetcher.get(type).toString()
           + " fetcher class with Heuristics [" + StringUtils.join(classes, ", ") + "] and following JobTypes ["
           + StringUtils.join(jobTypes, ", ") + "].");
@@ -316,6 +330,19 @@ public class ElephantContext {
 
     _generalConf = new Configuration();
     _generalConf.addResource(this.getClass().getClassLoader().getResourceAsStream(GENERAL_CONF));
+
+    boolean parallel = _generalConf.getBoolean(PARALLEL_HEURISTICS_KEY, false);
+    int threads = Utils.getNonNegativeInt(_generalConf, PARALLEL_HEURISTICS_THREADS_KEY, 0);
+    long timeoutMs = Utils.getNonNegativeLong(_generalConf, HEURISTIC_TIMEOUT_MS_KEY, HEURISTIC_TIMEOUT_MS);
+    boolean streaming = _generalConf.getBoolean(STREAMING_HEURISTICS_KEY, false);
+    if (parallel) {
+      logger.info("Heuristics are evaluated in parallel on " + (threads > 0 ? threads : "one per processor")
+          + " threads with a timeout of " + timeoutMs + " ms");
+    }
+    if (streaming) {
+      logger.info("Streaming heuristics are evaluated while the data is fetched");
+    }
+    _heuristicEvaluator = new HeuristicEvaluator(parallel, threads, timeoutMs, streaming);
   }
 
   /**
@@ -402,6 +429,15 @@ public class ElephantContext {
     return _nameToType.get(typeName.toUpperCase());
   }
 
+  /**
+   * Get the evaluator which applies heuristics and aggregators to fetched data.
+   *
+   * @return the heuristic evaluator
+   */
+  public HeuristicEvaluator getHeuristicEvaluator() {
+    return _heuristicEvaluator;
+  }
+
   /**
    * Get the general configuration object.
    *
@@ -419,17 +455,27 @@ public class ElephantContext {
    */
   public JobType matchJobType(HadoopApplicationData data) {
     if (data != null) {
-      List<JobType> jobTypeList = _appTypeToJobTypes.get(data.getApplicationType());
-      Properties jobProp = data.getConf();
-      for (JobType type : jobTypeList) {
-        if (type.matchType(jobProp)) {
-          return type;
-        }
+      JobTypeClassifier classifier = _typeToClassifier.get(data.getApplicationType());
+      if (classifier != null) {
+        return classifier.classify(data.getConf());
       }
     }
     return null;
   }
 
+  /**
+   * Get the heuristics to apply to an application of the given type and job type, that is all the heuristics of the
+   * application type except the ones excluding the job type.
+   *
+   * @param type The application type
+   * @param jobType The job type returned by {@link #matchJobType(HadoopApplicationData)}, null if none matched
+   * @return The heuristics in configured order, null if the application type is not supported
+   */
+  public List<Heuristic> getHeuristicsForJobType(ApplicationType type, JobType jobType) {
+    JobTypeClassifier classifier = _typeToClassifier.get(type);
+    return classifier == null ? null : classifier.getHeuristics(jobType);
+  }
+
   public Map<ApplicationType, List<JobType>> getAppTypeToJobTypes() {
     return ImmutableMap.copyOf(_appTypeToJobTypes);
   }
@@ -25,11 +25,14 @@ import com.linkedin.drelephant.analysis.AnalyticJobGenerator;
 import com.linkedin.drelephant.analysis.AnalyticJobGeneratorHadoop2;
 import com.linkedin.drelephant.analysis.ApplicationType;
 import com.linkedin.drelephant.analysis.ElephantBackfillFetcher;
+import com.linkedin.drelephant.analysis.ElephantIncrementalBackfillFetcher;
 import com.linkedin.drelephant.analysis.HDFSContext;
 import com.linkedin.drelephant.analysis.HadoopSystemContext;
 import com.linkedin.drelephant.priorityexecutor.Priority;
 import com.linkedin.drelephant.priorityexecutor.PriorityBasedThreadPoolExecutor;
 import com.linkedin.drelephant.priorityexecutor.RunnableWithPriority;
+import com.linkedin.drelephant.retention.RetentionManager;
+import com.linkedin.drelephant.rollup.AppResultRollups;
 import com.linkedin.drelephant.security.HadoopSecurity;
 import com.linkedin.drelephant.util.Utils;
 import controllers.MetricsController;
@@ -98,6 +101,7 @@ public class ElephantRunner implements Runnable {
   private HadoopSecurity _hadoopSecurity;
   private ThreadPoolExecutor _threadPoolExecutor;
   private AnalyticJobGenerator _analyticJobGenerator;
+  private RetentionManager _retentionManager;
   private boolean _backfillEnabled = false;
   // Thread which is used for backfilling applications.
   private Thread _backFillThread = null;
@@ -169,6 +173,9 @@ public class ElephantRunner implements Runnable {
           _threadPoolExecutor = new PriorityBasedThreadPoolExecutor(_executorNum, _executorNum, 0L,
               TimeUnit.MILLISECONDS, factory);
 
+          _retentionManager = RetentionManager.fromConfiguration(ElephantContext.instance().getGeneralConf());
+          _retentionManager.start();
+
           boolean firstRun = true;
           while (_running.get() && !Thread.currentThread().isInterrupted()) {
             _analyticJobGenerator.updateResourceManagerAddresses();
@@ -379,7 +386,7 @@ public class ElephantRunner implements Runnable {
 
     @Override
     public void run() {
-      String appType = _analyticJob.getAppType().getName();
+      final String appType = _analyticJob.getAppType().getName();
       String analysisName = String.format("%s %s", appType, _analyticJob.getAppId());
       long analysisStartTimeMillis = System.currentTimeMillis();
       logger.info(String.format("Analyzing %s", analysisName));
@@ -394,14 +401,17 @@ public class ElephantRunner implements Runnable {
           final BackfillInfo backfillInfo = getBackfillInfoForSave(finishTimeInfo, appType, applicableFinishTime);
           jobFinishTime = result.finishTime;
           // Execute as a transaction.
+          long persistStartNanos = System.nanoTime();
           Ebean.execute(new TxRunnable() {
             public void run() {
+              AppResultRollups.record(result, appType);
               result.save();
               if (backfillInfo != null) {
                 backfillInfo.save();
               }
             }
           });
+          MetricsController.updatePersistMetrics(appType, System.nanoTime() - persistStartNanos);
           _appToAnalyticJobMap.remove(_analyticJob.getAppId());
           if (finishTimeInfo !=  null) {
             updateFinishTimeInfo(finishTimeInfo, backfillInfo, result.finishTime);
@@ -545,6 +555,9 @@ public class ElephantRunner implements Runnable {
     private ApplicationType _appType;
     private long _backfillTs;
     private ElephantBackfillFetcher _backfillFetcher;
+    // Finish time held in the app finish times map while jobs are being fetched incrementally, so that the backfill ts
+    // saved in backfill_info does not move past the slices which have not been submitted yet. -1 if not held.
+    private long _cursorHoldTs = -1;
     private BackfillData(ApplicationType appType, long backfillTs, ElephantBackfillFetcher backfillFetcher) {
       _appType = appType;
       _backfillTs = backfillTs;
@@ -615,6 +628,88 @@ public class ElephantRunner implements Runnable {
       }
     }
 
+    /**
+     * Fetches jobs for backfill slice by slice and submits each slice as soon as it is fetched. The backfill cursor
+     * is held at the end of the last submitted slice, so that if Dr.Elephant restarts, backfill continues from there.
+     * If fetching fails midway, a retry continues from the last submitted slice as well.
+     *
+     * @param data Backfill data for the app type.
+     * @return number of jobs submitted for analysis.
+     */
+    private int fetchAndSubmitJobsIncrementally(final BackfillData data) throws Exception {
+      final int[] numOfJobsSubmitted = {0};
+      if (data._cursorHoldTs < 0) {
+        holdBackfillCursor(data, data._backfillTs);
+      }
+      ((ElephantIncrementalBackfillFetcher) data._backfillFetcher).fetchJobsForBackfill(
+          data._backfillTs - BACKFILL_BUFFER_TIME, _lowestFinishTimeFromRM,
+          new ElephantIncrementalBackfillFetcher.BackfillSliceHandler() {
+            @Override
+            public void onSlice(long sliceStartTime, long sliceEndTime, List<AnalyticJob> jobs)
+                throws InterruptedException {
+              if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+              }
+              for (AnalyticJob job : jobs) {
+                if (job.getAppType() == null) {
+                  job.setAppType(data._appType);
+                }
+                if (submitBackfillJobIfRequired(job)) {
+                  numOfJobsSubmitted[0]++;
+                }
+              }
+              // All jobs which finished before the slice end have been submitted. Move the cursor past this slice.
+              holdBackfillCursor(data, sliceEndTime);
+              data._backfillTs = sliceEndTime + BACKFILL_BUFFER_TIME;
+            }
+          });
+      releaseBackfillCursor(data);
+      return numOfJobsSubmitted[0];
+    }
+
+    private void holdBackfillCursor(BackfillData data, long cursorTs) {
+      synchronized (_appsLock) {
+        releaseBackfillCursor(data);
+        addToFinishTimesMap(data._appType.getName(), cursorTs);
+        data._cursorHoldTs = cursorTs;
+      }
+    }
+
+    private void releaseBackfillCursor(BackfillData data) {
+      synchronized (_appsLock) {
+        if (data._cursorHoldTs >= 0) {
+          FinishTimeInfo info = _appTypeToFinishTimeInfo.get(data._appType.getName());
+          if (info != null) {
+            removeFromFinishTimesMap(info._appFinishTimesMap, data._cursorHoldTs);
+          }
+          data._cursorHoldTs = -1;
+        }
+      }
+    }
+
+    /**
+     * Submits the backfill job for analysis, unless it has already been picked up or analysed.
+     *
+     * @param job Backfill job to be submitted.
+     * @return true if the job was submitted, false otherwise.
+     */
+    private boolean submitBackfillJobIfRequired(AnalyticJob job) {
+      // This application has already been picked up for analysis. No need to submit again to executor.
+      if (_appToAnalyticJobMap.containsKey(job.getAppId())) {
+        return false;
+      }
+      // This application has already been analysed, no need to analyse again.
+      if (AppResult.find.byId(job.getAppId()) != null) {
+        return false;
+      }
+      // Set whatever fields we can based on information available.
+      augmentBackfillJob(job);
+      synchronized (_appsLock) {
+        submitBackfillJob(job);
+      }
+      return true;
+    }
+
     private void submitBackfillJob(AnalyticJob job) {
       // Submit backfill job with low/normal priority depending on config.
       Priority jobPriority = _submitBackfillJobWithLowPriority ? Priority.LOW : Priority.NORMAL;
@@ -638,8 +733,14 @@ public class ElephantRunner implements Runnable {
         List<AnalyticJob> backfillTodos = new ArrayList<AnalyticJob>();
         while (iterator.hasNext()) {
           BackfillData data = iterator.next();
+          // Fetching slice by slice advances the backfill timestamp, so keep the start of the range for the log.
+          long backfillStartTs = data._backfillTs - BACKFILL_BUFFER_TIME;
           try {
-            fetchJobsForBackfill(backfillTodos, data);
+            if (data._backfillFetcher instanceof ElephantIncrementalBackfillFetcher) {
+              numOfJobsBackfilled += fetchAndSubmitJobsIncrementally(data);
+            } else {
+              fetchJobsForBackfill(backfillTodos, data);
+            }
           } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             break;
@@ -649,7 +750,7 @@ public class ElephantRunner implements Runnable {
             continue;
           }
           logger.info("Jobs fetched for backfill for app type " + data._appType.getName() + " and time range: " +
-              DATE_FORMAT_GMT.format(new Date(data._backfillTs - BACKFILL_BUFFER_TIME)) + " to " +
+              DATE_FORMAT_GMT.format(new Date(backfillStartTs)) + " to " +
               DATE_FORMAT_GMT.format(new Date(_lowestFinishTimeFromRM)));
 
           iterator.remove();
@@ -657,18 +758,7 @@ public class ElephantRunner implements Runnable {
         if (!backfillTodos.isEmpty()) {
           sortBackfillJobs(backfillTodos);
           for (AnalyticJob job : backfillTodos) {
-            // This application has already been picked up for analysis. No need to submit again to executor.
-            if (_appToAnalyticJobMap.containsKey(job.getAppId())) {
-              continue;
-            }
-            // This application has already been analysed, no need to analyse again.
-            if (AppResult.find.byId(job.getAppId()) != null) {
-              continue;
-            }
-            // Set whatever fields we can based on information available.
-            augmentBackfillJob(job);
-            synchronized (_appsLock) {
-              submitBackfillJob(job);
+            if (submitBackfillJobIfRequired(job)) {
               numOfJobsBackfilled++;
             }
           }
@@ -757,6 +847,9 @@ public class ElephantRunner implements Runnable {
     if (_threadPoolExecutor != null) {
       _threadPoolExecutor.shutdownNow();
     }
+    if (_retentionManager != null) {
+      _retentionManager.stop();
+    }
     // Stop the backfill thread by sending an interrupt.
     if (_backFillThread != null) {
       _backFillThread.interrupt();
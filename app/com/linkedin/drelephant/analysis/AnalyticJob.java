@@ -17,11 +17,13 @@
 package com.linkedin.drelephant.analysis;
 
 import com.linkedin.drelephant.ElephantContext;
+import com.linkedin.drelephant.metrics.ThreadAllocation;
 import com.linkedin.drelephant.priorityexecutor.Priority;
 import com.linkedin.drelephant.util.InfoExtractor;
 import com.linkedin.drelephant.util.Utils;
+import controllers.MetricsController;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Future;
 import models.AppHeuristicResult;
@@ -37,10 +39,8 @@ import org.apache.log4j.Logger;
 public class AnalyticJob {
   private static final Logger logger = Logger.getLogger(AnalyticJob.class);
 
-  private static final String UNKNOWN_JOB_TYPE = "Unknown";   // The default job type when the data matches nothing.
   private static final int _RETRY_LIMIT = 3;                  // Number of times a job needs to be tried before going into second retry queue
   private static final int _SECOND_RETRY_LIMIT = 5;           // Number of times a job needs to be tried before dropping
-  private static final String EXCLUDE_JOBTYPE = "exclude_jobtypes_filter"; // excluded Job Types for heuristic
 
 
   public boolean readyForSecondRetry() {
@@ -70,6 +70,8 @@ public class AnalyticJob {
   // Backfill timestamp for the app type.
   private long _backfillTs;
   private Priority _jobExecutionPriority = Priority.NORMAL;
+  // Stream the fetcher publishes records to while this job is being analyzed.
+  private volatile HeuristicStream _heuristicStream = HeuristicStream.DISABLED;
 
   /**
    * Returns the application type
@@ -269,6 +271,16 @@ public class AnalyticJob {
    */
   public Future<?> getJobFuture() { return _jobFuture; }
 
+  /**
+   * Returns the stream the fetcher should publish the records of the application to while it fetches them.
+   * Streaming is disabled, and publishing a no-op, outside of {@link #getAnalysis()} or when not configured.
+   *
+   * @return the heuristic stream of the analysis in progress
+   */
+  public HeuristicStream getHeuristicStream() {
+    return _heuristicStream;
+  }
+
   /**
    * Returns the job execution priority.
    *
@@ -304,37 +316,41 @@ public class AnalyticJob {
    * @return the analysed AppResult
    */
   public AppResult getAnalysis() throws Exception {
+    HeuristicEvaluator evaluator = ElephantContext.instance().getHeuristicEvaluator();
+    HeuristicStream heuristicStream =
+        evaluator.newStream(ElephantContext.instance().getHeuristicsForApplicationType(getAppType()));
     ElephantFetcher fetcher = ElephantContext.instance().getFetcherForApplicationType(getAppType());
-    HadoopApplicationData data = fetcher.fetchData(this);
+    long fetchStartNanos = System.nanoTime();
+    long fetchStartAllocatedBytes = ThreadAllocation.currentThreadAllocatedBytes();
+    HadoopApplicationData data;
+    _heuristicStream = heuristicStream;
+    try {
+      data = fetcher.fetchData(this);
+    } finally {
+      _heuristicStream = HeuristicStream.DISABLED;
+    }
+    MetricsController.updateFetchMetrics(getAppType().getName(), fetcher.getClass().getSimpleName(),
+        System.nanoTime() - fetchStartNanos, ThreadAllocation.allocatedSince(fetchStartAllocatedBytes));
 
     JobType jobType = ElephantContext.instance().matchJobType(data);
-    String jobTypeName = jobType == null ? UNKNOWN_JOB_TYPE : jobType.getName();
+    String jobTypeName = jobType == null ? JobTypeClassifier.UNKNOWN_JOB_TYPE : jobType.getName();
 
-    // Run all heuristics over the fetched data
+    // Run all heuristics and the aggregator over the fetched data
     List<HeuristicResult> analysisResults = new ArrayList<HeuristicResult>();
+    List<Heuristic> applicableHeuristics = Collections.emptyList();
     if (data == null || data.isEmpty()) {
       // Example: a MR job has 0 mappers and 0 reducers
       logger.info("No Data Received for analytic job: " + getAppId());
       analysisResults.add(HeuristicResult.NO_DATA);
     } else {
-      List<Heuristic> heuristics = ElephantContext.instance().getHeuristicsForApplicationType(getAppType());
-      for (Heuristic heuristic : heuristics) {
-        String confExcludedApps = heuristic.getHeuristicConfData().getParamMap().get(EXCLUDE_JOBTYPE);
-
-        if (confExcludedApps == null || confExcludedApps.length() == 0 ||
-                !Arrays.asList(confExcludedApps.split(",")).contains(jobTypeName)) {
-          HeuristicResult result = heuristic.apply(data);
-          if (result != null) {
-            analysisResults.add(result);
-          }
-        }
-      }
+      applicableHeuristics = ElephantContext.instance().getHeuristicsForJobType(getAppType(), jobType);
     }
 
-
     HadoopMetricsAggregator hadoopMetricsAggregator = ElephantContext.instance().getAggregatorForApplicationType(getAppType());
-    hadoopMetricsAggregator.aggregate(data);
-    HadoopAggregatedData hadoopAggregatedData = hadoopMetricsAggregator.getResult();
+    HeuristicEvaluator.Evaluation evaluation =
+        evaluator.evaluate(applicableHeuristics, hadoopMetricsAggregator, data, heuristicStream);
+    analysisResults.addAll(evaluation.getHeuristicResults());
+    HadoopAggregatedData hadoopAggregatedData = evaluation.getAggregatedData();
 
     // Load app information
     AppResult result = new AppResult();
@@ -371,10 +387,10 @@ public class AnalyticJob {
       for (HeuristicResultDetails heuristicResultDetails : heuristicResult.getHeuristicResultDetails()) {
         AppHeuristicResultDetails heuristicDetail = new AppHeuristicResultDetails();
         heuristicDetail.yarnAppHeuristicResult = detail;
-        heuristicDetail.name = Utils.truncateField(heuristicResultDetails.getName(),
-            AppHeuristicResultDetails.NAME_LIMIT, getAppId());
-        heuristicDetail.value = Utils.truncateField(heuristicResultDetails.getValue(),
-            AppHeuristicResultDetails.VALUE_LIMIT, getAppId());
+        heuristicDetail.setName(Utils.truncateField(heuristicResultDetails.getName(),
+            AppHeuristicResultDetails.NAME_LIMIT, getAppId()));
+        heuristicDetail.setValue(Utils.truncateField(heuristicResultDetails.getValue(),
+            AppHeuristicResultDetails.VALUE_LIMIT, getAppId()));
         heuristicDetail.details = Utils.truncateField(heuristicResultDetails.getDetails(),
             AppHeuristicResultDetails.DETAILS_LIMIT, getAppId());
         // This was added for AnalyticTest. Commenting this out to fix a bug. Also disabling AnalyticJobTest.
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * Caches the {@link TaskMetrics} of an application per task array, so that the heuristics and the aggregator reading
+ * the same tasks (e.g. the mappers) share a single set of columns and statistics instead of each iterating over the
+ * task data again.
+ *
+ * @param <T> The task data type
+ * @param <C> The counter name type
+ */
+public class ApplicationMetricsView<T, C extends Enum<C>> {
+
+  private final TaskMetrics.TaskAccessor<T, C> _accessor;
+  private final Map<T[], TaskMetrics<T, C>> _taskMetrics = new IdentityHashMap<T[], TaskMetrics<T, C>>();
+
+  public ApplicationMetricsView(TaskMetrics.TaskAccessor<T, C> accessor) {
+    _accessor = accessor;
+  }
+
+  /**
+   * Returns the metrics of the given tasks, computing them on the first call for that array.
+   *
+   * @param tasks The tasks of the application, as returned by its data holder
+   * @return The metrics of the tasks
+   */
+  public synchronized TaskMetrics<T, C> of(T[] tasks) {
+    TaskMetrics<T, C> metrics = _taskMetrics.get(tasks);
+    if (metrics == null) {
+      metrics = new TaskMetrics<T, C>(tasks, _accessor);
+      _taskMetrics.put(tasks, metrics);
+    }
+    return metrics;
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+import java.util.List;
+
+/**
+ * Interface to be implemented by backfill fetchers which can split the backfill range into time slices and hand
+ * over the jobs slice by slice, instead of materializing the whole range at once.
+ */
+public interface ElephantIncrementalBackfillFetcher extends ElephantBackfillFetcher {
+  /**
+   * Fetches the jobs to be backfilled for analysis, slice by slice. Slices are handed over to the handler in ascending
+   * time order and the jobs within a slice are sorted by finish time, so jobs are emitted in finish time order.
+   *
+   * @param startTime Start time from when jobs have to be backfilled.
+   * @param endTime End time upto which jobs can be backfilled.
+   * @param handler Handler which is called for every slice, in order.
+   * @throws Exception
+   */
+  void fetchJobsForBackfill(long startTime, long endTime, BackfillSliceHandler handler) throws Exception;
+
+  /**
+   * Receives the jobs fetched for a single backfill time slice.
+   */
+  interface BackfillSliceHandler {
+    /**
+     * Called once per slice, in ascending time order.
+     *
+     * @param sliceStartTime Start time of the slice (inclusive).
+     * @param sliceEndTime End time of the slice. All jobs finishing before this time have been handed over once this
+     *                     call returns.
+     * @param jobs Jobs in the slice, sorted by finish time.
+     * @throws Exception
+     */
+    void onSlice(long sliceStartTime, long sliceEndTime, List<AnalyticJob> jobs) throws Exception;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+
+/**
+ * Accumulates the records of one application for a {@link StreamingHeuristic}.
+ *
+ * @param <T> The application data type
+ * @param <R> The type of the records streamed by the fetcher
+ */
+public interface HeuristicAccumulator<T extends HadoopApplicationData, R> {
+
+  /**
+   * Called by the fetching thread for every record, in the order the records appear in the application data.
+   *
+   * @param stream The stream the record belongs to, e.g. the mappers of a MapReduce job
+   * @param record The record
+   */
+  public void accept(String stream, R record);
+
+  /**
+   * Called once all the records have been accepted.
+   *
+   * @param data The fetched application data
+   * @return The heuristic result, the same as the heuristic would return for the data
+   */
+  public HeuristicResult finish(T data);
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+import com.linkedin.drelephant.metrics.ThreadAllocation;
+import controllers.MetricsController;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.log4j.Logger;
+
+
+/**
+ * Evaluates the heuristics and the metrics aggregator of an application.
+ *
+ * By default everything runs serially on the calling thread, exactly as it always has. When parallel evaluation is
+ * enabled, heuristics and the aggregator are submitted together to a fork-join pool shared by all analysis threads
+ * and the results are collected in the configured heuristic order, so the stored analysis does not depend on
+ * scheduling. The timeout bounds the whole evaluation: a heuristic which has not finished by then is cancelled, logged
+ * and left out of the results, and an aggregation which has not finished fails the evaluation, as the aggregated data
+ * is required. Cancelling interrupts the worker, but a heuristic which ignores interrupts keeps it busy until it
+ * returns.
+ *
+ * When streaming is enabled, {@link #newStream(List)} gives the accumulators of the {@link StreamingHeuristic}s to
+ * the fetcher, and their results are used in place of applying the heuristics to the fetched data.
+ */
+public class HeuristicEvaluator {
+  private static final Logger logger = Logger.getLogger(HeuristicEvaluator.class);
+
+  private final boolean _parallel;
+  private final boolean _streaming;
+  private final long _timeoutMs;
+  private final ForkJoinPool _pool;
+
+  /**
+   * Creates an evaluator that runs everything serially on the calling thread.
+   */
+  public HeuristicEvaluator() {
+    this(false, 0, 0, false);
+  }
+
+  public HeuristicEvaluator(boolean parallel, int parallelism, long timeoutMs) {
+    this(parallel, parallelism, timeoutMs, false);
+  }
+
+  /**
+   * @param parallel Whether heuristics are evaluated concurrently
+   * @param parallelism The number of worker threads of the shared pool, or 0 for the number of processors
+   * @param timeoutMs The time in ms to wait for the heuristics and the aggregator of an application when evaluating in
+   *                  parallel, or 0 to wait forever
+   * @param streaming Whether streaming heuristics are fed while the data is fetched
+   */
+  public HeuristicEvaluator(boolean parallel, int parallelism, long timeoutMs, boolean streaming) {
+    _parallel = parallel;
+    _streaming = streaming;
+    _timeoutMs = timeoutMs;
+    if (parallel) {
+      int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+      _pool = new ForkJoinPool(threads, new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+          ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+          thread.setName("dr-el-heuristic-thread-" + thread.getPoolIndex());
+          thread.setDaemon(true);
+          return thread;
+        }
+      }, null, false);
+    } else {
+      _pool = null;
+    }
+  }
+
+  public boolean isParallel() {
+    return _parallel;
+  }
+
+  public long getTimeoutMs() {
+    return _timeoutMs;
+  }
+
+  public boolean isStreaming() {
+    return _streaming;
+  }
+
+  /**
+   * Creates the stream the fetcher of an application publishes its records to.
+   *
+   * @param heuristics All the heuristics of the application type
+   * @return A new stream, or {@link HeuristicStream#DISABLED} if streaming is disabled
+   */
+  public HeuristicStream newStream(List<Heuristic> heuristics) {
+    return _streaming ? new HeuristicStream(heuristics) : HeuristicStream.DISABLED;
+  }
+
+  public Evaluation evaluate(List<Heuristic> heuristics, HadoopMetricsAggregator aggregator,
+      HadoopApplicationData data) throws Exception {
+    return evaluate(heuristics, aggregator, data, HeuristicStream.DISABLED);
+  }
+
+  /**
+   * Applies the heuristics and the aggregator to the data.
+   *
+   * @param heuristics The heuristics to apply, in the order their results should be reported
+   * @param aggregator The aggregator for the application type, may be null
+   * @param data The fetched application data
+   * @param stream The stream the data was fetched through
+   * @return The non-null heuristic results in heuristic order, and the aggregated data
+   * @throws Exception if a heuristic or the aggregator fails
+   */
+  public Evaluation evaluate(List<Heuristic> heuristics, final HadoopMetricsAggregator aggregator,
+      final HadoopApplicationData data, final HeuristicStream stream) throws Exception {
+    if (!_parallel) {
+      List<HeuristicResult> results = new ArrayList<HeuristicResult>();
+      for (Heuristic heuristic : heuristics) {
+        HeuristicResult result = apply(heuristic, data, stream);
+        if (result != null) {
+          results.add(result);
+        }
+      }
+      return new Evaluation(results, aggregate(aggregator, data));
+    }
+
+    // The aggregation is submitted first, as the evaluation fails without it
+    Future<HadoopAggregatedData> aggregation = submit(new Callable<HadoopAggregatedData>() {
+      @Override
+      public HadoopAggregatedData call() {
+        return aggregate(aggregator, data);
+      }
+    });
+    List<Future<HeuristicResult>> futures = new ArrayList<Future<HeuristicResult>>(heuristics.size());
+    for (final Heuristic heuristic : heuristics) {
+      futures.add(submit(new Callable<HeuristicResult>() {
+        @Override
+        public HeuristicResult call() {
+          return apply(heuristic, data, stream);
+        }
+      }));
+    }
+
+    long deadline = System.currentTimeMillis() + _timeoutMs;
+    List<HeuristicResult> results = new ArrayList<HeuristicResult>();
+    for (int i = 0; i < futures.size(); i++) {
+      Future<HeuristicResult> future = futures.get(i);
+      try {
+        HeuristicResult result = getBefore(future, deadline);
+        if (result != null) {
+          results.add(result);
+        }
+      } catch (TimeoutException e) {
+        future.cancel(true);
+        logger.warn("Heuristic " + nameOf(heuristics.get(i)) + " did not finish within "
+            + _timeoutMs + " ms for " + data.getAppId() + ", skipping it.");
+      } catch (ExecutionException e) {
+        cancelAll(futures, aggregation);
+        throw unwrap(e);
+      }
+    }
+
+    try {
+      return new Evaluation(results, getBefore(aggregation, deadline));
+    } catch (TimeoutException e) {
+      aggregation.cancel(true);
+      throw new TimeoutException("The aggregator did not finish within " + _timeoutMs + " ms for " + data.getAppId());
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    }
+  }
+
+  /**
+   * Runs the task on the shared pool. A FutureTask, unlike a fork-join task, interrupts the worker running it when it
+   * is cancelled.
+   */
+  private <T> Future<T> submit(Callable<T> task) {
+    FutureTask<T> future = new FutureTask<T>(task);
+    _pool.execute(future);
+    return future;
+  }
+
+  /**
+   * Waits for the future until the deadline, or forever if there is no timeout.
+   */
+  private <T> T getBefore(Future<T> future, long deadline)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    if (_timeoutMs <= 0) {
+      return future.get();
+    }
+    // A future which is already done is returned even when the deadline has passed
+    return future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops the shared pool. Heuristics which are already running are not interrupted.
+   */
+  public void shutdown() {
+    if (_pool != null) {
+      _pool.shutdown();
+    }
+  }
+
+  private static HeuristicResult apply(Heuristic heuristic, HadoopApplicationData data, HeuristicStream stream) {
+    long startNanos = System.nanoTime();
+    long startAllocatedBytes = ThreadAllocation.currentThreadAllocatedBytes();
+    HeuristicResult result = stream.apply(heuristic, data);
+    MetricsController.updateHeuristicMetrics(appTypeOf(data), heuristic.getClass().getSimpleName(),
+        System.nanoTime() - startNanos, ThreadAllocation.allocatedSince(startAllocatedBytes));
+    return result;
+  }
+
+  private static HadoopAggregatedData aggregate(HadoopMetricsAggregator aggregator, HadoopApplicationData data) {
+    if (aggregator == null) {
+      return null;
+    }
+    // Aggregators keep the result of the last call in the instance, so aggregate and read it in one step.
+    synchronized (aggregator) {
+      long startNanos = System.nanoTime();
+      aggregator.aggregate(data);
+      HadoopAggregatedData result = aggregator.getResult();
+      MetricsController.updateAggregateMetrics(appTypeOf(data), System.nanoTime() - startNanos);
+      return result;
+    }
+  }
+
+  private static String appTypeOf(HadoopApplicationData data) {
+    return data == null || data.getApplicationType() == null ? "UNKNOWN" : data.getApplicationType().getName();
+  }
+
+  private static String nameOf(Heuristic heuristic) {
+    return heuristic.getHeuristicConfData() != null ? heuristic.getHeuristicConfData().getHeuristicName()
+        : heuristic.getClass().getName();
+  }
+
+  private static void cancelAll(List<Future<HeuristicResult>> futures, Future<HadoopAggregatedData> aggregation) {
+    for (Future<HeuristicResult> future : futures) {
+      future.cancel(true);
+    }
+    aggregation.cancel(true);
+  }
+
+  private static Exception unwrap(ExecutionException e) {
+    Throwable cause = e.getCause();
+    // Fork-join tasks rethrow a copy of the exception with the original as its cause.
+    if (cause != null && cause.getCause() != null && cause.getCause().getClass() == cause.getClass()) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof Exception) {
+      return (Exception) cause;
+    }
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return e;
+  }
+
+  /**
+   * The outcome of evaluating an application.
+   */
+  public static final class Evaluation {
+    private final List<HeuristicResult> _heuristicResults;
+    private final HadoopAggregatedData _aggregatedData;
+
+    Evaluation(List<HeuristicResult> heuristicResults, HadoopAggregatedData aggregatedData) {
+      _heuristicResults = heuristicResults;
+      _aggregatedData = aggregatedData;
+    }
+
+    public List<HeuristicResult> getHeuristicResults() {
+      return _heuristicResults;
+    }
+
+    public HadoopAggregatedData getAggregatedData() {
+      return _aggregatedData;
+    }
+  }
+}
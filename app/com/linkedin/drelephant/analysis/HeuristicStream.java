@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Feeds the records of one application to the accumulators of its streaming heuristics while the fetcher parses
+ * them.
+ *
+ * A fetcher which supports streaming publishes every record of the application data, in order, and then marks the
+ * stream complete. Only a complete stream is used to produce heuristic results; otherwise, and for heuristics which
+ * do not stream, the heuristics are applied to the fetched data as usual.
+ *
+ * Streaming does not bound the memory of an analysis: the fetched data still holds every record, as the heuristics
+ * which do not stream and the aggregator read it. What it saves is the time of the streaming heuristics, which run
+ * while the fetcher waits on I/O, and their own pass over the data.
+ */
+public class HeuristicStream {
+  /**
+   * A stream without accumulators, for when streaming is disabled.
+   */
+  public static final HeuristicStream DISABLED = new HeuristicStream(new ArrayList<Heuristic>());
+
+  private final Map<Heuristic, HeuristicAccumulator> _accumulators =
+      new IdentityHashMap<Heuristic, HeuristicAccumulator>();
+  private final HeuristicAccumulator[] _targets;
+  private volatile boolean _complete = false;
+
+  /**
+   * @param heuristics The heuristics of the application type, the streaming ones get an accumulator
+   */
+  public HeuristicStream(List<Heuristic> heuristics) {
+    List<HeuristicAccumulator> targets = new ArrayList<HeuristicAccumulator>();
+    for (Heuristic heuristic : heuristics) {
+      if (heuristic instanceof StreamingHeuristic) {
+        HeuristicAccumulator accumulator = ((StreamingHeuristic) heuristic).newAccumulator();
+        _accumulators.put(heuristic, accumulator);
+        targets.add(accumulator);
+      }
+    }
+    _targets = targets.toArray(new HeuristicAccumulator[targets.size()]);
+  }
+
+  /**
+   * @return true if some heuristic accumulates the published records
+   */
+  public boolean isEnabled() {
+    return _targets.length > 0;
+  }
+
+  /**
+   * Publishes a record to all the accumulators.
+   *
+   * @param stream The stream the record belongs to
+   * @param record The record
+   */
+  @SuppressWarnings("unchecked")
+  public void publish(String stream, Object record) {
+    for (HeuristicAccumulator target : _targets) {
+      target.accept(stream, record);
+    }
+  }
+
+  /**
+   * Marks that every record of the application data has been published.
+   */
+  public void complete() {
+    _complete = true;
+  }
+
+  public boolean isComplete() {
+    return _complete;
+  }
+
+  /**
+   * Produces the result of a heuristic, from its accumulator if the stream is complete.
+   *
+   * @param heuristic The heuristic
+   * @param data The fetched application data
+   * @return The heuristic result
+   */
+  @SuppressWarnings("unchecked")
+  public HeuristicResult apply(Heuristic heuristic, HadoopApplicationData data) {
+    HeuristicAccumulator accumulator = _complete ? _accumulators.get(heuristic) : null;
+    if (accumulator != null) {
+      return accumulator.finish(data);
+    }
+    return heuristic.apply(data);
+  }
+}
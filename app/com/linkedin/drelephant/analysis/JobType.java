@@ -28,6 +28,8 @@ public class JobType {
   private final String _name;
   private final String _confName;
   private final Pattern _confPattern;
+  // The pattern itself when it has no regex meta characters, in which case matching is a plain comparison
+  private final String _confLiteral;
 
   /**
    * Constructor for a JobType
@@ -40,6 +42,16 @@ public class JobType {
     _name = name;
     _confName = confName;
     _confPattern = Pattern.compile(confPattern);
+    _confLiteral = isLiteral(confPattern) ? confPattern : null;
+  }
+
+  private static boolean isLiteral(String pattern) {
+    for (int i = 0; i < pattern.length(); i++) {
+      if ("\\[](){}.*+?^$|".indexOf(pattern.charAt(i)) >= 0) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -55,7 +67,32 @@ public class JobType {
       return false;
     }
 
-    return jobProp.containsKey(_confName) && _confPattern.matcher((String) jobProp.get(_confName)).matches();
+    return jobProp.containsKey(_confName) && matchValue((String) jobProp.get(_confName));
+  }
+
+  /**
+   * Check if the value of this JobType's configuration matches the pattern
+   *
+   * @param confValue The value of the configuration, may be null
+   * @return true if matched else false
+   */
+  public boolean matchValue(String confValue) {
+    if (confValue == null || _confPattern == null) {
+      return false;
+    }
+    if (_confLiteral != null) {
+      return _confLiteral.equals(confValue);
+    }
+    return _confPattern.matcher(confValue).matches();
+  }
+
+  /**
+   * Get the configuration this job type looks into
+   *
+   * @return The configuration name
+   */
+  public String getConfName() {
+    return _confName;
   }
 
   /**
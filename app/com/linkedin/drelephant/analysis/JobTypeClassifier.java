@@ -0,0 +1,165 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+
+/**
+ * Classifies the applications of one application type into job types and tells which heuristics apply to each job
+ * type. Everything is worked out once when the configuration is loaded:
+ * <ul>
+ *   <li>Every distinct configuration key used by the job types is read only once per application, however many job
+ *   types look into it.</li>
+ *   <li>The heuristics enabled for every job type, i.e. the ones whose <code>exclude_jobtypes_filter</code> does not
+ *   name it, are kept as a bitset over the configured heuristics, along with the list they select.</li>
+ * </ul>
+ */
+public class JobTypeClassifier {
+  public static final String EXCLUDE_JOBTYPE = "exclude_jobtypes_filter"; // excluded Job Types for heuristic
+  public static final String UNKNOWN_JOB_TYPE = "Unknown";   // The default job type when the data matches nothing.
+
+  private final JobType[] _jobTypes;
+  // The index in _confNames of the configuration each job type looks into, -1 if it has none
+  private final int[] _confIndex;
+  private final String[] _confNames;
+  // Enabled heuristics per job type, the last entry being for applications matching no job type
+  private final BitSet[] _enabledHeuristics;
+  private final List<List<Heuristic>> _heuristicsByJobType;
+  private final Map<JobType, Integer> _jobTypeIndex = new IdentityHashMap<JobType, Integer>();
+
+  /**
+   * @param jobTypes The job types of the application type, in matching order
+   * @param heuristics The heuristics of the application type, in configured order
+   */
+  public JobTypeClassifier(List<JobType> jobTypes, List<Heuristic> heuristics) {
+    _jobTypes = jobTypes.toArray(new JobType[jobTypes.size()]);
+    _confIndex = new int[_jobTypes.length];
+
+    Map<String, Integer> confNames = new HashMap<String, Integer>();
+    List<String> distinctConfNames = new ArrayList<String>();
+    for (int i = 0; i < _jobTypes.length; i++) {
+      _jobTypeIndex.put(_jobTypes[i], i);
+      String confName = _jobTypes[i].getConfName();
+      if (confName == null) {
+        _confIndex[i] = -1;
+        continue;
+      }
+      Integer index = confNames.get(confName);
+      if (index == null) {
+        index = distinctConfNames.size();
+        confNames.put(confName, index);
+        distinctConfNames.add(confName);
+      }
+      _confIndex[i] = index;
+    }
+    _confNames = distinctConfNames.toArray(new String[distinctConfNames.size()]);
+
+    List<List<String>> excludedJobTypes = new ArrayList<List<String>>(heuristics.size());
+    for (Heuristic heuristic : heuristics) {
+      excludedJobTypes.add(excludedJobTypes(heuristic));
+    }
+    _enabledHeuristics = new BitSet[_jobTypes.length + 1];
+    _heuristicsByJobType = new ArrayList<List<Heuristic>>(_jobTypes.length + 1);
+    for (int i = 0; i <= _jobTypes.length; i++) {
+      String jobTypeName = i < _jobTypes.length ? _jobTypes[i].getName() : UNKNOWN_JOB_TYPE;
+      BitSet enabled = new BitSet(heuristics.size());
+      List<Heuristic> enabledHeuristics = new ArrayList<Heuristic>();
+      for (int h = 0; h < heuristics.size(); h++) {
+        if (!excludedJobTypes.get(h).contains(jobTypeName)) {
+          enabled.set(h);
+          enabledHeuristics.add(heuristics.get(h));
+        }
+      }
+      _enabledHeuristics[i] = enabled;
+      _heuristicsByJobType.add(Collections.unmodifiableList(enabledHeuristics));
+    }
+  }
+
+  private static List<String> excludedJobTypes(Heuristic heuristic) {
+    if (heuristic.getHeuristicConfData() == null || heuristic.getHeuristicConfData().getParamMap() == null) {
+      return Collections.emptyList();
+    }
+    String confExcludedApps = heuristic.getHeuristicConfData().getParamMap().get(EXCLUDE_JOBTYPE);
+    if (confExcludedApps == null || confExcludedApps.length() == 0) {
+      return Collections.emptyList();
+    }
+    return Arrays.asList(confExcludedApps.split(","));
+  }
+
+  /**
+   * Find the first job type matching the application configuration.
+   *
+   * @param jobProp The application configuration
+   * @return The matched job type, null if none matches
+   */
+  public JobType classify(Properties jobProp) {
+    if (jobProp == null || _jobTypes.length == 0) {
+      return null;
+    }
+    String[] values = new String[_confNames.length];
+    boolean[] read = new boolean[_confNames.length];
+    for (int i = 0; i < _jobTypes.length; i++) {
+      int confIndex = _confIndex[i];
+      if (confIndex < 0) {
+        continue;
+      }
+      if (!read[confIndex]) {
+        Object value = jobProp.get(_confNames[confIndex]);
+        values[confIndex] = value instanceof String ? (String) value : null;
+        read[confIndex] = true;
+      }
+      if (_jobTypes[i].matchValue(values[confIndex])) {
+        return _jobTypes[i];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Get the heuristics to apply to applications of a job type.
+   *
+   * @param jobType A job type returned by {@link #classify(Properties)}, or null for an unmatched application
+   * @return The enabled heuristics in configured order
+   */
+  public List<Heuristic> getHeuristics(JobType jobType) {
+    return _heuristicsByJobType.get(indexOf(jobType));
+  }
+
+  /**
+   * Get the heuristics enabled for a job type as a bitset over the configured heuristics.
+   *
+   * @param jobType A job type returned by {@link #classify(Properties)}, or null for an unmatched application
+   * @return A copy of the bitset of enabled heuristics
+   */
+  public BitSet getEnabledHeuristics(JobType jobType) {
+    return (BitSet) _enabledHeuristics[indexOf(jobType)].clone();
+  }
+
+  private int indexOf(JobType jobType) {
+    Integer index = jobType == null ? null : _jobTypeIndex.get(jobType);
+    return index == null ? _jobTypes.length : index;
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+
+/**
+ * A heuristic which can also be evaluated while the application data is being fetched. The fetcher feeds the
+ * records it parses to an accumulator, which keeps only what the heuristic needs and produces the result once the
+ * data is complete.
+ *
+ * {@link #apply(HadoopApplicationData)} must still work on its own, and give the same result, because the
+ * accumulator is only used when the fetcher of the application type streams its records.
+ *
+ * @param <T> The application data type
+ * @param <R> The type of the records streamed by the fetcher
+ */
+public interface StreamingHeuristic<T extends HadoopApplicationData, R> extends Heuristic<T> {
+
+  /**
+   * Creates an accumulator for one application.
+   *
+   * @return A new accumulator
+   */
+  public HeuristicAccumulator<T, R> newAccumulator();
+}
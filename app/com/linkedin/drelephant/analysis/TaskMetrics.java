@@ -0,0 +1,388 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+import com.linkedin.drelephant.math.Statistics;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Columnar metrics of one set of tasks (e.g. the mappers of a job), shared by all the heuristics and the aggregator
+ * of an application.
+ * <p/>
+ * The time columns are read in a single pass when the metrics are created. Counter columns are read the first time
+ * they are asked for. Every derived column, summary and two-group split is computed once per task filter and then
+ * cached, so the returned arrays must not be modified by the callers.
+ * <p/>
+ * Metrics can also be collected one task at a time with a {@link Builder}, which keeps only the time columns and the
+ * counters it is asked for, so the task objects need not be retained.
+ *
+ * @param <T> The task data type
+ * @param <C> The counter name type
+ */
+public class TaskMetrics<T, C extends Enum<C>> {
+
+  /**
+   * Selects the tasks a metric is computed over, based on the data fetched for them.
+   */
+  public enum TaskFilter {
+    TIME,
+    COUNTERS,
+    TIME_AND_COUNTERS
+  }
+
+  public enum TimeColumn {
+    RUNTIME,
+    CODE_EXECUTION,
+    SHUFFLE,
+    SORT,
+    START,
+    FINISH
+  }
+
+  /**
+   * Reads the metrics of a single task of a given framework.
+   */
+  public interface TaskAccessor<T, C extends Enum<C>> {
+    Class<C> getCounterType();
+
+    boolean isTimeDataPresent(T task);
+
+    boolean isCounterDataPresent(T task);
+
+    long getTime(T task, TimeColumn column);
+
+    long getCounter(T task, C counter);
+  }
+
+  private static final TimeColumn[] TIME_COLUMNS = TimeColumn.values();
+
+  private final T[] _tasks;
+  private final TaskAccessor<T, C> _accessor;
+  private final int _numTasks;
+  private final boolean[] _timeDataPresent;
+  private final boolean[] _counterDataPresent;
+  private final long[][] _times;
+
+  private final Map<C, long[]> _counters;
+  private final Map<Key, long[]> _values = new HashMap<Key, long[]>();
+  private final Map<Key, Statistics.Summary> _summaries = new HashMap<Key, Statistics.Summary>();
+  private final Map<Key, TwoGroups> _groups = new HashMap<Key, TwoGroups>();
+
+  public TaskMetrics(T[] tasks, TaskAccessor<T, C> accessor) {
+    _tasks = tasks;
+    _accessor = accessor;
+    _numTasks = tasks == null ? 0 : tasks.length;
+    _timeDataPresent = new boolean[_numTasks];
+    _counterDataPresent = new boolean[_numTasks];
+    _times = new long[TIME_COLUMNS.length][_numTasks];
+    _counters = new EnumMap<C, long[]>(accessor.getCounterType());
+
+    for (int i = 0; i < _numTasks; i++) {
+      T task = tasks[i];
+      _timeDataPresent[i] = accessor.isTimeDataPresent(task);
+      _counterDataPresent[i] = accessor.isCounterDataPresent(task);
+      if (_timeDataPresent[i]) {
+        for (TimeColumn column : TIME_COLUMNS) {
+          _times[column.ordinal()][i] = accessor.getTime(task, column);
+        }
+      }
+    }
+  }
+
+  private TaskMetrics(TaskAccessor<T, C> accessor, int numTasks, boolean[] timeDataPresent,
+      boolean[] counterDataPresent, long[][] times, Map<C, long[]> counters) {
+    _tasks = null;
+    _accessor = accessor;
+    _numTasks = numTasks;
+    _timeDataPresent = timeDataPresent;
+    _counterDataPresent = counterDataPresent;
+    _times = times;
+    _counters = counters;
+  }
+
+  /**
+   * @return The number of tasks, including the ones without any data
+   */
+  public int getNumTasks() {
+    return _numTasks;
+  }
+
+  /**
+   * Returns the given time of the selected tasks, in task order.
+   */
+  public synchronized long[] getTimes(TimeColumn column, TaskFilter filter) {
+    Key key = new Key(column, filter);
+    long[] values = _values.get(key);
+    if (values == null) {
+      values = select(_times[column.ordinal()], filter);
+      _values.put(key, values);
+    }
+    return values;
+  }
+
+  public long[] getCounterValues(C counter, TaskFilter filter) {
+    return getCounterValues(Collections.singletonList(counter), filter);
+  }
+
+  /**
+   * Returns the sum of the given counters of the selected tasks, in task order.
+   */
+  public synchronized long[] getCounterValues(List<C> counters, TaskFilter filter) {
+    Key key = new Key(counters, filter);
+    long[] values = _values.get(key);
+    if (values == null) {
+      long[] sums = new long[_numTasks];
+      for (C counter : counters) {
+        long[] column = getCounterColumn(counter);
+        for (int i = 0; i < _numTasks; i++) {
+          sums[i] += column[i];
+        }
+      }
+      values = select(sums, filter);
+      _values.put(key, values);
+    }
+    return values;
+  }
+
+  public Statistics.Summary getTimeSummary(TimeColumn column, TaskFilter filter) {
+    return getSummary(new Key(column, filter));
+  }
+
+  public Statistics.Summary getCounterSummary(C counter, TaskFilter filter) {
+    return getCounterSummary(Collections.singletonList(counter), filter);
+  }
+
+  public Statistics.Summary getCounterSummary(List<C> counters, TaskFilter filter) {
+    return getSummary(new Key(counters, filter));
+  }
+
+  /**
+   * Splits the given time of the selected tasks into the two groups of {@link Statistics#findTwoGroups(long[])}.
+   */
+  public TwoGroups getTimeGroups(TimeColumn column, TaskFilter filter) {
+    return getGroups(new Key(column, filter));
+  }
+
+  /**
+   * Splits the sum of the given counters of the selected tasks into the two groups of
+   * {@link Statistics#findTwoGroups(long[])}.
+   */
+  public TwoGroups getCounterGroups(List<C> counters, TaskFilter filter) {
+    return getGroups(new Key(counters, filter));
+  }
+
+  private synchronized Statistics.Summary getSummary(Key key) {
+    Statistics.Summary summary = _summaries.get(key);
+    if (summary == null) {
+      summary = Statistics.summarize(valuesOf(key));
+      _summaries.put(key, summary);
+    }
+    return summary;
+  }
+
+  private synchronized TwoGroups getGroups(Key key) {
+    TwoGroups groups = _groups.get(key);
+    if (groups == null) {
+      long[] values = valuesOf(key).clone();
+      int split = Statistics.partitionTwoGroups(values, values.length);
+      groups = new TwoGroups(split, Statistics.average(values, 0, split), values.length - split,
+          Statistics.average(values, split, values.length));
+      _groups.put(key, groups);
+    }
+    return groups;
+  }
+
+  @SuppressWarnings("unchecked")
+  private long[] valuesOf(Key key) {
+    if (key._metric instanceof TimeColumn) {
+      return getTimes((TimeColumn) key._metric, key._filter);
+    }
+    return getCounterValues((List<C>) key._metric, key._filter);
+  }
+
+  private long[] getCounterColumn(C counter) {
+    long[] column = _counters.get(counter);
+    if (column == null) {
+      if (_tasks == null && _numTasks > 0) {
+        throw new IllegalStateException("Counter " + counter + " was not collected for these tasks");
+      }
+      column = new long[_numTasks];
+      for (int i = 0; i < _numTasks; i++) {
+        if (_counterDataPresent[i]) {
+          column[i] = _accessor.getCounter(_tasks[i], counter);
+        }
+      }
+      _counters.put(counter, column);
+    }
+    return column;
+  }
+
+  private long[] select(long[] column, TaskFilter filter) {
+    long[] values = new long[_numTasks];
+    int count = 0;
+    for (int i = 0; i < _numTasks; i++) {
+      if (isSelected(i, filter)) {
+        values[count++] = column[i];
+      }
+    }
+    return count == _numTasks ? values : Arrays.copyOf(values, count);
+  }
+
+  private boolean isSelected(int task, TaskFilter filter) {
+    switch (filter) {
+      case TIME:
+        return _timeDataPresent[task];
+      case COUNTERS:
+        return _counterDataPresent[task];
+      default:
+        return _timeDataPresent[task] && _counterDataPresent[task];
+    }
+  }
+
+  /**
+   * Collects the metrics of tasks one at a time, in task order.
+   */
+  public static final class Builder<T, C extends Enum<C>> {
+    private final TaskAccessor<T, C> _accessor;
+    private final List<C> _counterNames;
+    private int _numTasks = 0;
+    private boolean[] _timeDataPresent = new boolean[16];
+    private boolean[] _counterDataPresent = new boolean[16];
+    private long[][] _times = new long[TIME_COLUMNS.length][16];
+    private long[][] _counterColumns;
+
+    /**
+     * @param accessor The accessor for the task type
+     * @param counters The counters to collect, the others can't be asked for from the built metrics
+     */
+    public Builder(TaskAccessor<T, C> accessor, Collection<C> counters) {
+      _accessor = accessor;
+      _counterNames = new ArrayList<C>(counters);
+      _counterColumns = new long[_counterNames.size()][16];
+    }
+
+    public Builder<T, C> add(T task) {
+      if (_numTasks == _timeDataPresent.length) {
+        int capacity = _numTasks * 2;
+        _timeDataPresent = Arrays.copyOf(_timeDataPresent, capacity);
+        _counterDataPresent = Arrays.copyOf(_counterDataPresent, capacity);
+        for (int c = 0; c < _times.length; c++) {
+          _times[c] = Arrays.copyOf(_times[c], capacity);
+        }
+        for (int c = 0; c < _counterColumns.length; c++) {
+          _counterColumns[c] = Arrays.copyOf(_counterColumns[c], capacity);
+        }
+      }
+      int i = _numTasks++;
+      _timeDataPresent[i] = _accessor.isTimeDataPresent(task);
+      _counterDataPresent[i] = _accessor.isCounterDataPresent(task);
+      if (_timeDataPresent[i]) {
+        for (TimeColumn column : TIME_COLUMNS) {
+          _times[column.ordinal()][i] = _accessor.getTime(task, column);
+        }
+      }
+      if (_counterDataPresent[i]) {
+        for (int c = 0; c < _counterColumns.length; c++) {
+          _counterColumns[c][i] = _accessor.getCounter(task, _counterNames.get(c));
+        }
+      }
+      return this;
+    }
+
+    public int getNumTasks() {
+      return _numTasks;
+    }
+
+    public TaskMetrics<T, C> build() {
+      long[][] times = new long[_times.length][];
+      for (int c = 0; c < _times.length; c++) {
+        times[c] = Arrays.copyOf(_times[c], _numTasks);
+      }
+      Map<C, long[]> counters = new EnumMap<C, long[]>(_accessor.getCounterType());
+      for (int c = 0; c < _counterColumns.length; c++) {
+        counters.put(_counterNames.get(c), Arrays.copyOf(_counterColumns[c], _numTasks));
+      }
+      return new TaskMetrics<T, C>(_accessor, _numTasks, Arrays.copyOf(_timeDataPresent, _numTasks),
+          Arrays.copyOf(_counterDataPresent, _numTasks), times, counters);
+    }
+  }
+
+  /**
+   * The sizes and averages of the smaller and larger groups of a metric.
+   */
+  public static final class TwoGroups {
+    private final int _smallerCount;
+    private final long _smallerAverage;
+    private final int _largerCount;
+    private final long _largerAverage;
+
+    TwoGroups(int smallerCount, long smallerAverage, int largerCount, long largerAverage) {
+      _smallerCount = smallerCount;
+      _smallerAverage = smallerAverage;
+      _largerCount = largerCount;
+      _largerAverage = largerAverage;
+    }
+
+    public int getSmallerCount() {
+      return _smallerCount;
+    }
+
+    public long getSmallerAverage() {
+      return _smallerAverage;
+    }
+
+    public int getLargerCount() {
+      return _largerCount;
+    }
+
+    public long getLargerAverage() {
+      return _largerAverage;
+    }
+  }
+
+  private static final class Key {
+    private final Object _metric;
+    private final TaskFilter _filter;
+
+    Key(Object metric, TaskFilter filter) {
+      _metric = metric;
+      _filter = filter;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) other;
+      return _metric.equals(key._metric) && _filter == key._filter;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * _metric.hashCode() + _filter.hashCode();
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+import java.util.Collection;
+
+
+/**
+ * An accumulator collecting the {@link TaskMetrics} of the tasks of one stream, for heuristics computed from
+ * task metrics.
+ *
+ * @param <A> The application data type
+ * @param <T> The task data type
+ * @param <C> The counter name type
+ */
+public abstract class TaskMetricsAccumulator<A extends HadoopApplicationData, T, C extends Enum<C>>
+    implements HeuristicAccumulator<A, T> {
+  private final String _stream;
+  private final TaskMetrics.Builder<T, C> _builder;
+
+  /**
+   * @param stream The stream of the tasks to collect
+   * @param accessor The accessor for the task type
+   * @param counters The counters the heuristic needs
+   */
+  public TaskMetricsAccumulator(String stream, TaskMetrics.TaskAccessor<T, C> accessor, Collection<C> counters) {
+    _stream = stream;
+    _builder = new TaskMetrics.Builder<T, C>(accessor, counters);
+  }
+
+  @Override
+  public void accept(String stream, T task) {
+    if (_stream.equals(stream)) {
+      _builder.add(task);
+    }
+  }
+
+  @Override
+  public HeuristicResult finish(A data) {
+    return finish(data, _builder.build());
+  }
+
+  /**
+   * @param data The fetched application data
+   * @param metrics The metrics of the collected tasks
+   * @return The heuristic result
+   */
+  protected abstract HeuristicResult finish(A data, TaskMetrics<T, C> metrics);
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+import com.linkedin.drelephant.math.Statistics;
+import org.apache.commons.io.FileUtils;
+
+
+/**
+ * The resources used and wasted by a set of tasks, and the delay in running them, computed from primitive columns in
+ * a single pass.
+ */
+public final class TaskResourceUsage {
+
+  private static final double MEMORY_BUFFER = 1.5;
+  private static final double CLUSTER_MEMORY_FACTOR = 2.1;
+
+  private final long _resourceUsed;
+  private final long _resourceWasted;
+  private final long _delay;
+
+  private TaskResourceUsage(long resourceUsed, long resourceWasted, long delay) {
+    _resourceUsed = resourceUsed;
+    _resourceWasted = resourceWasted;
+    _delay = delay;
+  }
+
+  /**
+   * Computes the resource usage of the tasks. The columns hold one value per task, in the same order.
+   *
+   * @param startTimes The start times of the tasks
+   * @param finishTimes The finish times of the tasks
+   * @param physicalMemory The physical memory of the tasks, in bytes
+   * @param virtualMemory The virtual memory of the tasks, in bytes
+   * @param containerSize The container size of the tasks, in MB
+   * @param idealStartTime The ideal start time of the tasks
+   * @return The resources used and wasted in MB seconds, and the delay
+   */
+  public static TaskResourceUsage compute(long[] startTimes, long[] finishTimes, long[] physicalMemory,
+      long[] virtualMemory, long containerSize, long idealStartTime) {
+    long peakMemoryNeed = 0;
+    long taskFinishTimeMax = 0;
+    long taskDurationMax = 0;
+    // The costs are computed from whole seconds per task, so sum those and multiply once
+    long taskSeconds = 0;
+
+    for (int i = 0; i < finishTimes.length; i++) {
+      long taskMemory = physicalMemory[i] / FileUtils.ONE_MB; // MB
+      long taskVM = virtualMemory[i] / FileUtils.ONE_MB; // MB
+      long taskDuration = finishTimes[i] - startTimes[i]; // Milliseconds
+      taskSeconds += taskDuration / Statistics.SECOND_IN_MS;
+
+      //peak Memory usage
+      long memoryRequiredForVM = (long) (taskVM / CLUSTER_MEMORY_FACTOR);
+      long biggerMemoryRequirement = memoryRequiredForVM > taskMemory ? memoryRequiredForVM : taskMemory;
+      peakMemoryNeed = biggerMemoryRequirement > peakMemoryNeed ? biggerMemoryRequirement : peakMemoryNeed;
+
+      if (taskFinishTimeMax < finishTimes[i]) {
+        taskFinishTimeMax = finishTimes[i];
+      }
+      if (taskDurationMax < taskDuration) {
+        taskDurationMax = taskDuration;
+      }
+    }
+
+    long resourceUsed = containerSize * taskSeconds; // MB Seconds
+
+    // Compute the delay in starting the task. A negative delay is invalid.
+    long delay = Math.max(0, taskFinishTimeMax - (idealStartTime + taskDurationMax));
+
+    // wastedResources
+    long resourceWasted = 0;
+    long wastedMemory = containerSize - (long) (peakMemoryNeed * MEMORY_BUFFER); // give a 50% buffer
+    if (wastedMemory > 0) {
+      resourceWasted = wastedMemory * taskSeconds; // MB Seconds
+    }
+    return new TaskResourceUsage(resourceUsed, resourceWasted, delay);
+  }
+
+  /**
+   * @return The resources used by the tasks in MB Seconds
+   */
+  public long getResourceUsed() {
+    return _resourceUsed;
+  }
+
+  /**
+   * @return The resources wasted by the tasks in MB Seconds
+   */
+  public long getResourceWasted() {
+    return _resourceWasted;
+  }
+
+  /**
+   * @return The delay in running the tasks
+   */
+  public long getDelay() {
+    return _delay;
+  }
+}
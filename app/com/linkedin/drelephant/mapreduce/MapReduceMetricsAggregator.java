@@ -59,7 +59,8 @@ public class MapReduceMetricsAggregator implements HadoopMetricsAggregator {
     //overwrite reduceTaskSlowStartPercentage to 100%. TODO: make use of the slow start percent
     reduceTaskSlowStartPercentage = 100;
 
-    mapTasks = new TaskLevelAggregatedMetrics(data.getMapperData(), mapTaskContainerSize, data.getSubmitTime());
+    mapTasks = new TaskLevelAggregatedMetrics(data.getMetricsView(), data.getMapperData(), mapTaskContainerSize,
+        data.getSubmitTime());
 
     long reduceIdealStartTime = mapTasks.getNthPercentileFinishTime(reduceTaskSlowStartPercentage);
 
@@ -69,7 +70,8 @@ public class MapReduceMetricsAggregator implements HadoopMetricsAggregator {
       reduceIdealStartTime = Long.MAX_VALUE;
     }
 
-    reduceTasks = new TaskLevelAggregatedMetrics(data.getReducerData(), reduceTaskContainerSize, reduceIdealStartTime);
+    reduceTasks = new TaskLevelAggregatedMetrics(data.getMetricsView(), data.getReducerData(),
+        reduceTaskContainerSize, reduceIdealStartTime);
 
     _hadoopAggregatedData.setResourceUsed(mapTasks.getResourceUsed() + reduceTasks.getResourceUsed());
     _hadoopAggregatedData.setTotalDelay(mapTasks.getDelay() + reduceTasks.getDelay());
@@ -16,12 +16,12 @@
 
 package com.linkedin.drelephant.mapreduce;
 
+import com.linkedin.drelephant.analysis.ApplicationMetricsView;
+import com.linkedin.drelephant.analysis.TaskMetrics;
+import com.linkedin.drelephant.analysis.TaskResourceUsage;
 import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceTaskData;
 import com.linkedin.drelephant.math.Statistics;
-import java.util.ArrayList;
-import java.util.List;
-import org.apache.commons.io.FileUtils;
 import org.apache.log4j.Logger;
 
 
@@ -33,11 +33,7 @@ public class TaskLevelAggregatedMetrics {
   private long _resourceWasted = 0;
   private long _resourceUsed = 0;
 
-  private List<Long> finishTimes = new ArrayList<Long>();
-  private List<Long> durations = new ArrayList<Long>();
-
-  private static final double MEMORY_BUFFER = 1.5;
-  private static final double CLUSTER_MEMORY_FACTOR = 2.1;
+  private long[] _finishTimes = new long[0];
 
   /**
    * Returns the nth percentile finish job
@@ -46,10 +42,11 @@ public class TaskLevelAggregatedMetrics {
    */
   public long getNthPercentileFinishTime(int percentile)
   {
-    if(finishTimes == null || finishTimes.size() == 0 ) {
+    if(_finishTimes.length == 0) {
       return -1;
     }
-    return Statistics.percentile(finishTimes, percentile);
+    // The finish times are shared with the heuristics, so select on a copy
+    return Statistics.percentileInPlace(_finishTimes.clone(), _finishTimes.length, percentile);
   }
 
   /**
@@ -61,7 +58,21 @@ public class TaskLevelAggregatedMetrics {
    *                       the slow start time.
    */
   public TaskLevelAggregatedMetrics(MapReduceTaskData[] taskData, long containerSize, long idealStartTime) {
-    compute(taskData, containerSize, idealStartTime);
+    compute(new TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName>(taskData,
+        MapReduceTaskData.METRICS_ACCESSOR), containerSize, idealStartTime);
+  }
+
+  /**
+   * Constructor for TaskLevelAggregatedMetrics reading the task metrics shared with the heuristics
+   * @param metricsView The metrics view of the application
+   * @param taskData Array containing the task data for mappers and/or reducers
+   * @param containerSize The container size of the tasks
+   * @param idealStartTime The ideal start time for the task
+   */
+  public TaskLevelAggregatedMetrics(
+      ApplicationMetricsView<MapReduceTaskData, MapReduceCounterData.CounterName> metricsView,
+      MapReduceTaskData[] taskData, long containerSize, long idealStartTime) {
+    compute(metricsView.of(taskData), containerSize, idealStartTime);
   }
 
   /**
@@ -91,63 +102,28 @@ public class TaskLevelAggregatedMetrics {
   /**
    * Computes the aggregated metrics -> peakMemory, delay, total task duration, wasted resources and memory usage.
    * Aggregated metrics are expected to be approximation when sampling is enabled.
-   * @param taskDatas
+   * @param taskMetrics
    * @param containerSize
    * @param idealStartTime
    */
-  private void compute(MapReduceTaskData[] taskDatas, long containerSize, long idealStartTime) {
-
-    long peakMemoryNeed = 0;
-    long taskFinishTimeMax = 0;
-    long taskDurationMax = 0;
+  private void compute(TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> taskMetrics, long containerSize,
+      long idealStartTime) {
 
     // if there are zero tasks, then nothing to compute.
-    if(taskDatas == null || taskDatas.length == 0) {
+    if(taskMetrics.getNumTasks() == 0) {
       return;
     }
 
-    for (MapReduceTaskData taskData: taskDatas) {
-      if (!taskData.isTimeAndCounterDataPresent()) {
-        continue;
-      }
-      long taskMemory = taskData.getCounters().get(MapReduceCounterData.CounterName.PHYSICAL_MEMORY_BYTES)/ FileUtils.ONE_MB; // MB
-      long taskVM = taskData.getCounters().get(MapReduceCounterData.CounterName.VIRTUAL_MEMORY_BYTES)/ FileUtils.ONE_MB; // MB
-      long taskDuration = taskData.getFinishTimeMs() - taskData.getStartTimeMs(); // Milliseconds
-      long taskCost =  (containerSize) * (taskDuration / Statistics.SECOND_IN_MS); // MB Seconds
-
-      durations.add(taskDuration);
-      finishTimes.add(taskData.getFinishTimeMs());
-
-      //peak Memory usage
-      long memoryRequiredForVM = (long) (taskVM/CLUSTER_MEMORY_FACTOR);
-      long biggerMemoryRequirement = memoryRequiredForVM > taskMemory ? memoryRequiredForVM : taskMemory;
-      peakMemoryNeed = biggerMemoryRequirement > peakMemoryNeed ? biggerMemoryRequirement : peakMemoryNeed;
-
-      if(taskFinishTimeMax < taskData.getFinishTimeMs()) {
-        taskFinishTimeMax = taskData.getFinishTimeMs();
-      }
-
-      if(taskDurationMax < taskDuration) {
-        taskDurationMax = taskDuration;
-      }
-      _resourceUsed += taskCost;
-    }
-
-    // Compute the delay in starting the task.
-    _delay = taskFinishTimeMax - (idealStartTime + taskDurationMax);
-
-    // invalid delay
-    if(_delay < 0) {
-      _delay = 0;
-    }
-
-    // wastedResources
-    long wastedMemory = containerSize - (long) (peakMemoryNeed * MEMORY_BUFFER); // give a 50% buffer
-    if(wastedMemory > 0) {
-      for (long duration : durations) {
-        _resourceWasted += (wastedMemory) * (duration / Statistics.SECOND_IN_MS); // MB Seconds
-      }
-    }
+    TaskMetrics.TaskFilter filter = TaskMetrics.TaskFilter.TIME_AND_COUNTERS;
+    TaskResourceUsage usage = TaskResourceUsage.compute(taskMetrics.getTimes(TaskMetrics.TimeColumn.START, filter),
+        taskMetrics.getTimes(TaskMetrics.TimeColumn.FINISH, filter),
+        taskMetrics.getCounterValues(MapReduceCounterData.CounterName.PHYSICAL_MEMORY_BYTES, filter),
+        taskMetrics.getCounterValues(MapReduceCounterData.CounterName.VIRTUAL_MEMORY_BYTES, filter),
+        containerSize, idealStartTime);
+    _resourceUsed = usage.getResourceUsed();
+    _resourceWasted = usage.getResourceWasted();
+    _delay = usage.getDelay();
+    _finishTimes = taskMetrics.getTimes(TaskMetrics.TimeColumn.FINISH, filter);
   }
 
 }
@@ -16,6 +16,7 @@
 
 package com.linkedin.drelephant.mapreduce.data;
 
+import com.linkedin.drelephant.analysis.ApplicationMetricsView;
 import com.linkedin.drelephant.analysis.ApplicationType;
 import com.linkedin.drelephant.analysis.HadoopApplicationData;
 import java.util.Properties;
@@ -25,6 +26,10 @@ import java.util.Properties;
  * This class contains the MapReduce Application Information
  */
 public class MapReduceApplicationData implements HadoopApplicationData {
+  // Names of the task streams published by the fetchers, see HeuristicStream
+  public static final String MAPPER_STREAM = "mappers";
+  public static final String REDUCER_STREAM = "reducers";
+
   private static final ApplicationType APPLICATION_TYPE = new ApplicationType("MAPREDUCE");
 
   private boolean _succeeded = true;
@@ -43,6 +48,7 @@ public class MapReduceApplicationData implements HadoopApplicationData {
   private MapReduceTaskData[] _reducerData;
   private Properties _jobConf;
   private boolean _isRetry = false;
+  private ApplicationMetricsView<MapReduceTaskData, MapReduceCounterData.CounterName> _metricsView;
 
   public MapReduceApplicationData setSucceeded(boolean succeeded) {
     this._succeeded = succeeded;
@@ -106,11 +112,13 @@ public class MapReduceApplicationData implements HadoopApplicationData {
 
   public MapReduceApplicationData setMapperData(MapReduceTaskData[] mappers) {
     this._mapperData = mappers;
+    this._metricsView = null;
     return this;
   }
 
   public MapReduceApplicationData setReducerData(MapReduceTaskData[] reducers) {
     this._reducerData = reducers;
+    this._metricsView = null;
     return this;
   }
 
@@ -131,6 +139,20 @@ public class MapReduceApplicationData implements HadoopApplicationData {
     return _reducerData;
   }
 
+  /**
+   * Returns the task metrics shared by the heuristics and the aggregator of this application, e.g.
+   * {@code getMetricsView().of(getMapperData())}.
+   *
+   * @return The metrics view of this application
+   */
+  public synchronized ApplicationMetricsView<MapReduceTaskData, MapReduceCounterData.CounterName> getMetricsView() {
+    if (_metricsView == null) {
+      _metricsView = new ApplicationMetricsView<MapReduceTaskData, MapReduceCounterData.CounterName>(
+          MapReduceTaskData.METRICS_ACCESSOR);
+    }
+    return _metricsView;
+  }
+
   @Override
   public String getAppId() {
     return _appId;
@@ -30,6 +30,12 @@ public class MapReduceCounterData {
   // This is a map of group to all the counters in the group and their values.
   private final Map<String, Map<String, Long>> _pubCounters;
 
+  private static final int NUM_COUNTERS = CounterName.values().length;
+
+  // The values of the known counters by ordinal, whatever group they were set in, so that get needs neither to
+  // search the groups nor to unbox. A counter which was never set reads as 0.
+  private final long[] _counterValues = new long[NUM_COUNTERS];
+
   public String toString() {
     return _pubCounters.toString();
   }
@@ -41,23 +47,17 @@ public class MapReduceCounterData {
   /**
    * @return the value of the counter, 0 if not present.
    * This method is only used for job heuristics
-   * Due to h1 & h2 counter group incompatibility, we iterate every counter group (4 by default)
-   * to find a matching counter name, otherwise we have to hardcode the h1&h2 version of counter group
-   * and try twice with two names for each counter in this method.
-   * This approach is less efficient, but cleaner.
+   * Due to h1 & h2 counter group incompatibility, counters are matched by name whatever group they were
+   * set in, through an index kept by the setters. If the same counter is set in several groups, the last
+   * value set wins.
    */
   public long get(CounterName counterName) {
-    // For each counter group, try to match the counter name
-    for(Map<String, Long> counterGrp : _pubCounters.values()) {
-      if(counterGrp.containsKey(counterName._name)) {
-        return counterGrp.get(counterName._name);
-      }
-    }
-    return 0;
+    return _counterValues[counterName.ordinal()];
   }
 
   public void set(CounterName counterName, long value) {
-    set(counterName.getGroupName(), counterName.getName(), value);
+    setInGroup(counterName.getGroupName(), counterName.getName(), value);
+    _counterValues[counterName.ordinal()] = value;
   }
 
   /**
@@ -68,6 +68,14 @@ public class MapReduceCounterData {
    * @param value
    */
   public void set(String groupName, String counterName, long value) {
+    setInGroup(groupName, counterName, value);
+    CounterName knownCounter = CounterName._counterNameMap.get(counterName);
+    if (knownCounter != null) {
+      _counterValues[knownCounter.ordinal()] = value;
+    }
+  }
+
+  private void setInGroup(String groupName, String counterName, long value) {
     Map<String, Long> counterMap = _pubCounters.get(groupName);
     if (counterMap == null) {
       counterMap = new HashMap<String, Long>(4);
@@ -91,7 +99,8 @@ public class MapReduceCounterData {
     if (counterMap == null) {
       counterMap = new HashMap<String, Long>(1);
     }
-    return counterMap;
+    // Read only, as the known counters are also indexed by ordinal
+    return Collections.unmodifiableMap(counterMap);
   }
 
   public static enum GroupName {
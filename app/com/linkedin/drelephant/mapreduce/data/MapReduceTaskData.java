@@ -16,12 +16,58 @@
 
 package com.linkedin.drelephant.mapreduce.data;
 
+import com.linkedin.drelephant.analysis.TaskMetrics;
+
 
 /**
  * This class manages the MapReduce Tasks
  */
 public class MapReduceTaskData {
 
+  /**
+   * Reads the columns of {@link TaskMetrics} from MapReduce tasks
+   */
+  public static final TaskMetrics.TaskAccessor<MapReduceTaskData, MapReduceCounterData.CounterName> METRICS_ACCESSOR =
+      new TaskMetrics.TaskAccessor<MapReduceTaskData, MapReduceCounterData.CounterName>() {
+        @Override
+        public Class<MapReduceCounterData.CounterName> getCounterType() {
+          return MapReduceCounterData.CounterName.class;
+        }
+
+        @Override
+        public boolean isTimeDataPresent(MapReduceTaskData task) {
+          return task.isTimeDataPresent();
+        }
+
+        @Override
+        public boolean isCounterDataPresent(MapReduceTaskData task) {
+          return task.isCounterDataPresent();
+        }
+
+        @Override
+        public long getTime(MapReduceTaskData task, TaskMetrics.TimeColumn column) {
+          switch (column) {
+            case RUNTIME:
+              return task.getTotalRunTimeMs();
+            case CODE_EXECUTION:
+              return task.getCodeExecutionTimeMs();
+            case SHUFFLE:
+              return task.getShuffleTimeMs();
+            case SORT:
+              return task.getSortTimeMs();
+            case START:
+              return task.getStartTimeMs();
+            default:
+              return task.getFinishTimeMs();
+          }
+        }
+
+        @Override
+        public long getCounter(MapReduceTaskData task, MapReduceCounterData.CounterName counter) {
+          return task.getCounters().get(counter);
+        }
+      };
+
   private MapReduceCounterData _counterHolder;
   private String _state;
   private String _taskId;
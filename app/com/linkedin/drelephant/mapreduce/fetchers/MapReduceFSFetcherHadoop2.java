@@ -19,6 +19,7 @@ package com.linkedin.drelephant.mapreduce.fetchers;
 import com.google.common.annotations.VisibleForTesting;
 import com.linkedin.drelephant.analysis.AnalyticJob;
 import com.linkedin.drelephant.analysis.ElephantBackfillFetcher;
+import com.linkedin.drelephant.analysis.HeuristicStream;
 import com.linkedin.drelephant.configurations.fetcher.FetcherConfigurationData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceApplicationData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
@@ -286,10 +287,14 @@ public class MapReduceFSFetcherHadoop2 extends MapReduceFetcher implements Eleph
     if (jobInfo.getTotalReduces() > MAX_SAMPLE_SIZE) {
       logger.debug(jobId + " total reducers: " + reducerInfoList.size());
     }
-    MapReduceTaskData[] mapperList = getTaskData(jobId, mapperInfoList);
-    MapReduceTaskData[] reducerList = getTaskData(jobId, reducerInfoList);
+    HeuristicStream heuristicStream = job.getHeuristicStream();
+    MapReduceTaskData[] mapperList =
+        getTaskData(jobId, mapperInfoList, heuristicStream, MapReduceApplicationData.MAPPER_STREAM);
+    MapReduceTaskData[] reducerList =
+        getTaskData(jobId, reducerInfoList, heuristicStream, MapReduceApplicationData.REDUCER_STREAM);
 
     jobData.setCounters(jobCounter).setMapperData(mapperList).setReducerData(reducerList);
+    heuristicStream.complete();
 
     return jobData;
   }
@@ -343,6 +348,11 @@ public class MapReduceFSFetcherHadoop2 extends MapReduceFetcher implements Eleph
   }
 
   protected MapReduceTaskData[] getTaskData(String jobId, List<JobHistoryParser.TaskInfo> infoList) {
+    return getTaskData(jobId, infoList, HeuristicStream.DISABLED, null);
+  }
+
+  protected MapReduceTaskData[] getTaskData(String jobId, List<JobHistoryParser.TaskInfo> infoList,
+      HeuristicStream heuristicStream, String stream) {
     int sampleSize = sampleAndGetSize(jobId, infoList);
 
     List<MapReduceTaskData> taskList = new ArrayList<MapReduceTaskData>();
@@ -368,6 +378,7 @@ public class MapReduceFSFetcherHadoop2 extends MapReduceFetcher implements Eleph
 
       taskData.setTimeAndCounter(taskExecTime, taskCounterData);
       taskList.add(taskData);
+      heuristicStream.publish(stream, taskData);
     }
     return taskList.toArray(new MapReduceTaskData[taskList.size()]);
   }
@@ -17,6 +17,7 @@
 package com.linkedin.drelephant.mapreduce.fetchers;
 
 import com.linkedin.drelephant.analysis.AnalyticJob;
+import com.linkedin.drelephant.analysis.HeuristicStream;
 import com.linkedin.drelephant.mapreduce.data.MapReduceApplicationData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceTaskData;
@@ -37,6 +38,8 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.security.authentication.client.AuthenticationException;
 import org.apache.log4j.Logger;
 import org.codehaus.jackson.JsonNode;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
 
 
 /**
@@ -95,12 +98,13 @@ public class MapReduceFetcherHadoop2 extends MapReduceFetcher {
         URL taskListURL = _urlFactory.getTaskListURL(jobId);
         List<MapReduceTaskData> mapperList = new ArrayList<MapReduceTaskData>();
         List<MapReduceTaskData> reducerList = new ArrayList<MapReduceTaskData>();
-        _jsonFactory.getTaskDataAll(taskListURL, jobId, mapperList, reducerList);
+        _jsonFactory.getTaskDataAll(taskListURL, jobId, mapperList, reducerList, analyticJob.getHeuristicStream());
 
         MapReduceTaskData[] mapperData = mapperList.toArray(new MapReduceTaskData[mapperList.size()]);
         MapReduceTaskData[] reducerData = reducerList.toArray(new MapReduceTaskData[reducerList.size()]);
 
         jobData.setCounters(jobCounter).setMapperData(mapperData).setReducerData(reducerData);
+        analyticJob.getHeuristicStream().complete();
       } else if (state.equals("FAILED")) {
 
         jobData.setSucceeded(false);
@@ -111,12 +115,13 @@ public class MapReduceFetcherHadoop2 extends MapReduceFetcher {
         URL taskListURL = _urlFactory.getTaskListURL(jobId);
         List<MapReduceTaskData> mapperList = new ArrayList<MapReduceTaskData>();
         List<MapReduceTaskData> reducerList = new ArrayList<MapReduceTaskData>();
-        _jsonFactory.getTaskDataAll(taskListURL, jobId, mapperList, reducerList);
+        _jsonFactory.getTaskDataAll(taskListURL, jobId, mapperList, reducerList, analyticJob.getHeuristicStream());
 
         MapReduceTaskData[] mapperData = mapperList.toArray(new MapReduceTaskData[mapperList.size()]);
         MapReduceTaskData[] reducerData = reducerList.toArray(new MapReduceTaskData[reducerList.size()]);
 
         jobData.setCounters(jobCounter).setMapperData(mapperData).setReducerData(reducerData);
+        analyticJob.getHeuristicStream().complete();
 
         String diagnosticInfo;
         try {
@@ -157,6 +162,35 @@ public class MapReduceFetcherHadoop2 extends MapReduceFetcher {
     return _urlFactory.getTaskAttemptURL(jobId, taskId, attemptId);
   }
 
+  /**
+   * Moves a parser at the start of a document into the array at the given path of nested object fields, skipping
+   * every other field.
+   *
+   * @param parser The parser, before the first token of the document
+   * @param path The names of the fields leading to the array
+   * @return true if the parser is now on the start of the array, false if there is no array at the path
+   */
+  static boolean moveToArray(JsonParser parser, String... path) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      return false;
+    }
+    int depth = 0;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (!name.equals(path[depth])) {
+        parser.skipChildren();
+      } else if (depth == path.length - 1) {
+        return value == JsonToken.START_ARRAY;
+      } else if (value == JsonToken.START_OBJECT) {
+        depth++;
+      } else {
+        return false;
+      }
+    }
+    return false;
+  }
+
   private class URLFactory {
 
     private String _restRoot;
@@ -300,38 +334,64 @@ public class MapReduceFetcherHadoop2 extends MapReduceFetcher {
     }
 
     private void getTaskDataAll(URL url, String jobId, List<MapReduceTaskData> mapperList,
-        List<MapReduceTaskData> reducerList) throws IOException, AuthenticationException {
-
-      JsonNode rootNode = ThreadContextMR2.readJsonNode(url);
-      JsonNode tasks = rootNode.path("tasks").path("task");
-
-      for (JsonNode task : tasks) {
-        String state = task.get("state").getValueAsText();
-        String taskId = task.get("id").getValueAsText();
-        String attemptId = "";
-        if(state.equals("SUCCEEDED")) {
-           attemptId = task.get("successfulAttempt").getValueAsText();
-        } else {
-          JsonNode firstAttempt = getTaskFirstFailedAttempt(_urlFactory.getTaskAllAttemptsURL(jobId, taskId));
-          if( firstAttempt != null) {
-            attemptId = firstAttempt.get("id").getValueAsText();
+        List<MapReduceTaskData> reducerList, HeuristicStream heuristicStream)
+        throws IOException, AuthenticationException {
+
+      // The task list of a large job is read one task at a time rather than as a whole tree. The first failed attempt
+      // of a task which did not succeed takes a request of its own, so those tasks are only looked up once the task
+      // list has been read and its response closed.
+      List<Integer> failedMappers = new ArrayList<Integer>();
+      List<Integer> failedReducers = new ArrayList<Integer>();
+      JsonParser parser = ThreadContextMR2.readJsonParser(url);
+      try {
+        if (moveToArray(parser, "tasks", "task")) {
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            addTask(parser.readValueAsTree(), mapperList, reducerList, failedMappers, failedReducers);
           }
         }
+      } finally {
+        parser.close();
+      }
+      setFirstFailedAttempts(jobId, mapperList, failedMappers);
+      setFirstFailedAttempts(jobId, reducerList, failedReducers);
 
-        boolean isMapper = task.get("type").getValueAsText().equals("MAP");
+      getTaskData(jobId, mapperList, heuristicStream, MapReduceApplicationData.MAPPER_STREAM);
+      getTaskData(jobId, reducerList, heuristicStream, MapReduceApplicationData.REDUCER_STREAM);
+    }
 
-        if (isMapper) {
-          mapperList.add(new MapReduceTaskData(taskId, attemptId, state));
-        } else {
-          reducerList.add(new MapReduceTaskData(taskId, attemptId, state));
-        }
+    /**
+     * Adds the task to the mapper or reducer list. A task which did not succeed is added without an attempt id, and
+     * its index in the list is added to failedMappers or failedReducers.
+     */
+    private void addTask(JsonNode task, List<MapReduceTaskData> mapperList, List<MapReduceTaskData> reducerList,
+        List<Integer> failedMappers, List<Integer> failedReducers) {
+      String state = task.get("state").getValueAsText();
+      String taskId = task.get("id").getValueAsText();
+      String attemptId = "";
+      boolean isMapper = task.get("type").getValueAsText().equals("MAP");
+      List<MapReduceTaskData> taskList = isMapper ? mapperList : reducerList;
+      if(state.equals("SUCCEEDED")) {
+         attemptId = task.get("successfulAttempt").getValueAsText();
+      } else {
+        (isMapper ? failedMappers : failedReducers).add(taskList.size());
       }
+      taskList.add(new MapReduceTaskData(taskId, attemptId, state));
+    }
 
-      getTaskData(jobId, mapperList);
-      getTaskData(jobId, reducerList);
+    private void setFirstFailedAttempts(String jobId, List<MapReduceTaskData> taskList, List<Integer> failedTasks)
+        throws IOException, AuthenticationException {
+      for (int index : failedTasks) {
+        MapReduceTaskData task = taskList.get(index);
+        JsonNode firstAttempt = getTaskFirstFailedAttempt(_urlFactory.getTaskAllAttemptsURL(jobId, task.getTaskId()));
+        if (firstAttempt != null) {
+          String attemptId = firstAttempt.get("id").getValueAsText();
+          taskList.set(index, new MapReduceTaskData(task.getTaskId(), attemptId, task.getState()));
+        }
+      }
     }
 
-    private void getTaskData(String jobId, List<MapReduceTaskData> taskList) throws IOException, AuthenticationException {
+    private void getTaskData(String jobId, List<MapReduceTaskData> taskList, HeuristicStream heuristicStream,
+        String stream) throws IOException, AuthenticationException {
 
       int sampleSize = sampleAndGetSize(jobId, taskList);
 
@@ -347,6 +407,11 @@ public class MapReduceFetcherHadoop2 extends MapReduceFetcher {
           taskExecTime = getTaskExecTime(taskAttemptURL);
         }
         data.setTimeAndCounter(taskExecTime, taskCounter);
+        heuristicStream.publish(stream, data);
+      }
+      // Tasks left out by sampling stay in the job data without time and counters
+      for (int i = sampleSize; i < taskList.size(); i++) {
+        heuristicStream.publish(stream, taskList.get(i));
       }
     }
 
@@ -18,16 +18,18 @@ package com.linkedin.drelephant.mapreduce.heuristics;
 
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
 import com.linkedin.drelephant.util.Utils;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import com.linkedin.drelephant.analysis.Heuristic;
+import com.linkedin.drelephant.analysis.HeuristicAccumulator;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.StreamingHeuristic;
+import com.linkedin.drelephant.analysis.TaskMetrics;
+import com.linkedin.drelephant.analysis.TaskMetricsAccumulator;
 import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceApplicationData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceTaskData;
 import com.linkedin.drelephant.math.Statistics;
+import java.util.List;
 import java.util.Map;
 import org.apache.log4j.Logger;
 
@@ -35,13 +37,18 @@ import org.apache.log4j.Logger;
 /**
  * Analyses garbage collection efficiency
  */
-public abstract class GenericGCHeuristic implements Heuristic<MapReduceApplicationData> {
+public abstract class GenericGCHeuristic
+    implements StreamingHeuristic<MapReduceApplicationData, MapReduceTaskData> {
   private static final Logger logger = Logger.getLogger(GenericGCHeuristic.class);
 
   // Severity Parameters
   private static final String GC_RATIO_SEVERITY = "gc_ratio_severity";
   private static final String RUNTIME_SEVERITY = "runtime_severity_in_min";
 
+  // Counters read by the heuristic
+  private static final List<MapReduceCounterData.CounterName> GC_COUNTERS = Arrays.asList(
+      MapReduceCounterData.CounterName.CPU_MILLISECONDS, MapReduceCounterData.CounterName.GC_MILLISECONDS);
+
   // Default value of parameters
   private double[] gcRatioLimits = {0.01d, 0.02d, 0.03d, 0.04d};   // Garbage Collection Time / CPU Time
   private double[] runtimeLimits = {5, 10, 12, 15};                // Task Runtime in milli sec
@@ -78,6 +85,11 @@ public abstract class GenericGCHeuristic implements Heuristic<MapReduceApplicati
 
   protected abstract MapReduceTaskData[] getTasks(MapReduceApplicationData data);
 
+  /**
+   * @return The stream the tasks returned by {@link #getTasks(MapReduceApplicationData)} are published on
+   */
+  protected abstract String getTaskStream();
+
   @Override
   public HeuristicConfigurationData getHeuristicConfData() {
     return _heuristicConfData;
@@ -90,35 +102,44 @@ public abstract class GenericGCHeuristic implements Heuristic<MapReduceApplicati
       return null;
     }
 
-    MapReduceTaskData[] tasks = getTasks(data);
-    List<Long> gcMs = new ArrayList<Long>();
-    List<Long> cpuMs = new ArrayList<Long>();
-    List<Long> runtimesMs = new ArrayList<Long>();
+    return analyze(data, data.getMetricsView().of(getTasks(data)));
+  }
 
-    for (MapReduceTaskData task : tasks) {
-      if (task.isTimeAndCounterDataPresent()) {
-        runtimesMs.add(task.getTotalRunTimeMs());
-        gcMs.add(task.getCounters().get(MapReduceCounterData.CounterName.GC_MILLISECONDS));
-        cpuMs.add(task.getCounters().get(MapReduceCounterData.CounterName.CPU_MILLISECONDS));
+  @Override
+  public HeuristicAccumulator<MapReduceApplicationData, MapReduceTaskData> newAccumulator() {
+    return new TaskMetricsAccumulator<MapReduceApplicationData, MapReduceTaskData, MapReduceCounterData.CounterName>(
+        getTaskStream(), MapReduceTaskData.METRICS_ACCESSOR, GC_COUNTERS) {
+      @Override
+      protected HeuristicResult finish(MapReduceApplicationData data,
+          TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics) {
+        return data.getSucceeded() ? analyze(data, metrics) : null;
       }
-    }
+    };
+  }
+
+  private HeuristicResult analyze(MapReduceApplicationData data,
+      TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics) {
+    int numTasks = metrics.getNumTasks();
 
-    long avgRuntimeMs = Statistics.average(runtimesMs);
-    long avgCpuMs = Statistics.average(cpuMs);
-    long avgGcMs = Statistics.average(gcMs);
+    long avgRuntimeMs =
+        metrics.getTimeSummary(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME_AND_COUNTERS).getAverage();
+    long avgCpuMs = metrics.getCounterSummary(MapReduceCounterData.CounterName.CPU_MILLISECONDS,
+        TaskMetrics.TaskFilter.TIME_AND_COUNTERS).getAverage();
+    long avgGcMs = metrics.getCounterSummary(MapReduceCounterData.CounterName.GC_MILLISECONDS,
+        TaskMetrics.TaskFilter.TIME_AND_COUNTERS).getAverage();
     double ratio = avgCpuMs != 0 ? avgGcMs*(1.0)/avgCpuMs: 0;
 
     Severity severity;
-    if (tasks.length == 0) {
+    if (numTasks == 0) {
       severity = Severity.NONE;
     } else {
       severity = getGcRatioSeverity(avgRuntimeMs, avgCpuMs, avgGcMs);
     }
 
     HeuristicResult result = new HeuristicResult(_heuristicConfData.getClassName(),
-        _heuristicConfData.getHeuristicName(), severity, Utils.getHeuristicScore(severity, tasks.length));
+        _heuristicConfData.getHeuristicName(), severity, Utils.getHeuristicScore(severity, numTasks));
 
-    result.addResultDetail("Number of tasks", Integer.toString(tasks.length));
+    result.addResultDetail("Number of tasks", Integer.toString(numTasks));
     result.addResultDetail("Avg task runtime (ms)", Long.toString(avgRuntimeMs));
     result.addResultDetail("Avg task CPU time (ms)", Long.toString(avgCpuMs));
     result.addResultDetail("Avg task GC time (ms)", Long.toString(avgGcMs));
@@ -18,17 +18,19 @@ package com.linkedin.drelephant.mapreduce.heuristics;
 
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
 import com.linkedin.drelephant.util.Utils;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import com.linkedin.drelephant.analysis.Heuristic;
+import com.linkedin.drelephant.analysis.HeuristicAccumulator;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.StreamingHeuristic;
+import com.linkedin.drelephant.analysis.TaskMetrics;
+import com.linkedin.drelephant.analysis.TaskMetricsAccumulator;
 import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceApplicationData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceTaskData;
 import com.linkedin.drelephant.math.Statistics;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.commons.io.FileUtils;
 import org.apache.log4j.Logger;
@@ -37,10 +39,15 @@ import org.apache.log4j.Logger;
 /**
  * This heuristic deals with the efficiency of container size
  */
-public abstract class GenericMemoryHeuristic implements Heuristic<MapReduceApplicationData> {
+public abstract class GenericMemoryHeuristic
+    implements StreamingHeuristic<MapReduceApplicationData, MapReduceTaskData> {
   private static final Logger logger = Logger.getLogger(GenericMemoryHeuristic.class);
   private static final long CONTAINER_MEMORY_DEFAULT_MBYTES = 2048L;
 
+  // Counters read by the heuristic
+  private static final List<MapReduceCounterData.CounterName> MEMORY_COUNTERS = Arrays.asList(
+      MapReduceCounterData.CounterName.PHYSICAL_MEMORY_BYTES, MapReduceCounterData.CounterName.VIRTUAL_MEMORY_BYTES);
+
   // Severity Parameters
   private static final String MEM_RATIO_SEVERITY = "memory_ratio_severity";
   private static final String CONTAINER_MEM_SEVERITY = "container_memory_severity";
@@ -101,6 +108,11 @@ public abstract class GenericMemoryHeuristic implements Heuristic<MapReduceAppli
 
   protected abstract MapReduceTaskData[] getTasks(MapReduceApplicationData data);
 
+  /**
+   * @return The stream the tasks returned by {@link #getTasks(MapReduceApplicationData)} are published on
+   */
+  protected abstract String getTaskStream();
+
   @Override
   public HeuristicConfigurationData getHeuristicConfData() {
     return _heuristicConfData;
@@ -113,6 +125,25 @@ public abstract class GenericMemoryHeuristic implements Heuristic<MapReduceAppli
       return null;
     }
 
+    return analyze(data, data.getMetricsView().of(getTasks(data)));
+  }
+
+  @Override
+  public HeuristicAccumulator<MapReduceApplicationData, MapReduceTaskData> newAccumulator() {
+    return new TaskMetricsAccumulator<MapReduceApplicationData, MapReduceTaskData, MapReduceCounterData.CounterName>(
+        getTaskStream(), MapReduceTaskData.METRICS_ACCESSOR, MEMORY_COUNTERS) {
+      @Override
+      protected HeuristicResult finish(MapReduceApplicationData data,
+          TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics) {
+        return data.getSucceeded() ? analyze(data, metrics) : null;
+      }
+    };
+  }
+
+  private HeuristicResult analyze(MapReduceApplicationData data,
+      TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics) {
+    int numTasks = metrics.getNumTasks();
+
     String containerSizeStr = data.getConf().getProperty(_containerMemConf);
     long containerMem = -1L;
 
@@ -141,43 +172,28 @@ public abstract class GenericMemoryHeuristic implements Heuristic<MapReduceAppli
     }
     containerMem *= FileUtils.ONE_MB;
 
-    MapReduceTaskData[] tasks = getTasks(data);
-    List<Long> taskPMems = new ArrayList<Long>();
-    List<Long> taskVMems = new ArrayList<Long>();
-    List<Long> runtimesMs = new ArrayList<Long>();
-    long taskPMin = Long.MAX_VALUE;
-    long taskPMax = 0;
-    for (MapReduceTaskData task : tasks) {
-      if (task.isTimeAndCounterDataPresent()) {
-        runtimesMs.add(task.getTotalRunTimeMs());
-        long taskPMem = task.getCounters().get(MapReduceCounterData.CounterName.PHYSICAL_MEMORY_BYTES);
-        long taskVMem = task.getCounters().get(MapReduceCounterData.CounterName.VIRTUAL_MEMORY_BYTES);
-        taskPMems.add(taskPMem);
-        taskPMin = Math.min(taskPMin, taskPMem);
-        taskPMax = Math.max(taskPMax, taskPMem);
-        taskVMems.add(taskVMem);
-      }
-    }
-
-    if(taskPMin == Long.MAX_VALUE) {
-      taskPMin = 0;
-    }
+    Statistics.Summary taskPMems = metrics.getCounterSummary(MapReduceCounterData.CounterName.PHYSICAL_MEMORY_BYTES,
+        TaskMetrics.TaskFilter.TIME_AND_COUNTERS);
 
-    long taskPMemAvg = Statistics.average(taskPMems);
-    long taskVMemAvg = Statistics.average(taskVMems);
-    long averageTimeMs = Statistics.average(runtimesMs);
+    long taskPMin = taskPMems.getMin();
+    long taskPMax = taskPMems.getMax();
+    long taskPMemAvg = taskPMems.getAverage();
+    long taskVMemAvg = metrics.getCounterSummary(MapReduceCounterData.CounterName.VIRTUAL_MEMORY_BYTES,
+        TaskMetrics.TaskFilter.TIME_AND_COUNTERS).getAverage();
+    long averageTimeMs =
+        metrics.getTimeSummary(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME_AND_COUNTERS).getAverage();
 
     Severity severity;
-    if (tasks.length == 0) {
+    if (numTasks == 0) {
       severity = Severity.NONE;
     } else {
       severity = getTaskMemoryUtilSeverity(taskPMemAvg, containerMem);
     }
 
     HeuristicResult result = new HeuristicResult(_heuristicConfData.getClassName(),
-        _heuristicConfData.getHeuristicName(), severity, Utils.getHeuristicScore(severity, tasks.length));
+        _heuristicConfData.getHeuristicName(), severity, Utils.getHeuristicScore(severity, numTasks));
 
-    result.addResultDetail("Number of tasks", Integer.toString(tasks.length));
+    result.addResultDetail("Number of tasks", Integer.toString(numTasks));
     result.addResultDetail("Avg task runtime", Statistics.readableTimespan(averageTimeMs));
     result.addResultDetail("Avg Physical Memory (MB)", Long.toString(taskPMemAvg / FileUtils.ONE_MB));
     result.addResultDetail("Max Physical Memory (MB)", Long.toString(taskPMax / FileUtils.ONE_MB));
@@ -16,21 +16,21 @@
 
 package com.linkedin.drelephant.mapreduce.heuristics;
 
-import com.google.common.primitives.Longs;
 import com.linkedin.drelephant.analysis.HDFSContext;
-import com.linkedin.drelephant.analysis.Heuristic;
+import com.linkedin.drelephant.analysis.HeuristicAccumulator;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.StreamingHeuristic;
+import com.linkedin.drelephant.analysis.TaskMetrics;
+import com.linkedin.drelephant.analysis.TaskMetricsAccumulator;
 import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceApplicationData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceTaskData;
-import com.linkedin.drelephant.math.Statistics;
 
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
 import com.linkedin.drelephant.util.Utils;
 
 import java.util.Arrays;
-import java.util.ArrayList;
 import java.util.Map;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -43,7 +43,8 @@ import org.apache.log4j.Logger;
 /**
  * This Heuristic analyses the skewness in the task input data
  */
-public abstract class GenericSkewHeuristic implements Heuristic<MapReduceApplicationData> {
+public abstract class GenericSkewHeuristic
+    implements StreamingHeuristic<MapReduceApplicationData, MapReduceTaskData> {
   private static final Logger logger = Logger.getLogger(GenericSkewHeuristic.class);
 
   // Severity Parameters
@@ -99,6 +100,11 @@ public abstract class GenericSkewHeuristic implements Heuristic<MapReduceApplica
 
   protected abstract MapReduceTaskData[] getTasks(MapReduceApplicationData data);
 
+  /**
+   * @return The stream the tasks returned by {@link #getTasks(MapReduceApplicationData)} are published on
+   */
+  protected abstract String getTaskStream();
+
   @Override
   public HeuristicConfigurationData getHeuristicConfData() {
     return _heuristicConfData;
@@ -111,21 +117,31 @@ public abstract class GenericSkewHeuristic implements Heuristic<MapReduceApplica
       return null;
     }
 
-    MapReduceTaskData[] tasks = getTasks(data);
-
-    //Gathering data for checking time skew
-    List<Long> timeTaken = new ArrayList<Long>();
+    return analyze(data, data.getMetricsView().of(getTasks(data)));
+  }
 
-    for (int i = 0; i < tasks.length; i++) {
-      if (tasks[i].isTimeDataPresent()) {
-        timeTaken.add(tasks[i].getTotalRunTimeMs());
+  @Override
+  public HeuristicAccumulator<MapReduceApplicationData, MapReduceTaskData> newAccumulator() {
+    return new TaskMetricsAccumulator<MapReduceApplicationData, MapReduceTaskData, MapReduceCounterData.CounterName>(
+        getTaskStream(), MapReduceTaskData.METRICS_ACCESSOR, _counterNames) {
+      @Override
+      protected HeuristicResult finish(MapReduceApplicationData data,
+          TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics) {
+        return data.getSucceeded() ? analyze(data, metrics) : null;
       }
-    }
+    };
+  }
+
+  private HeuristicResult analyze(MapReduceApplicationData data,
+      TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics) {
+    int numTasks = metrics.getNumTasks();
 
-    long[][] groupsTime = Statistics.findTwoGroups(Longs.toArray(timeTaken));
+    //Checking time skew
+    TaskMetrics.TwoGroups groupsTime =
+        metrics.getTimeGroups(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME);
 
-    long timeAvg1 = Statistics.average(groupsTime[0]);
-    long timeAvg2 = Statistics.average(groupsTime[1]);
+    long timeAvg1 = groupsTime.getSmallerAverage();
+    long timeAvg2 = groupsTime.getLargerAverage();
 
     //seconds are used for calculating deviation as they provide a better idea than millisecond.
     long timeAvgSec1 = TimeUnit.MILLISECONDS.toSeconds(timeAvg1);
@@ -139,29 +155,14 @@ public abstract class GenericSkewHeuristic implements Heuristic<MapReduceApplica
 
     //This reduces severity if number of tasks is insignificant
     severityTime = Severity.min(severityTime,
-        Severity.getSeverityAscending(groupsTime[0].length, numTasksLimits[0], numTasksLimits[1], numTasksLimits[2],
-            numTasksLimits[3]));
-
-    //Gather data
-    List<Long> inputBytes = new ArrayList<Long>();
-
-    for (int i = 0; i < tasks.length; i++) {
-      if (tasks[i].isCounterDataPresent()) {
-        long inputByte = 0;
-        for (MapReduceCounterData.CounterName counterName : _counterNames) {
-          inputByte += tasks[i].getCounters().get(counterName);
-        }
-        inputBytes.add(inputByte);
-      }
-    }
+        Severity.getSeverityAscending(groupsTime.getSmallerCount(), numTasksLimits[0], numTasksLimits[1],
+            numTasksLimits[2], numTasksLimits[3]));
 
-    // Ratio of total tasks / sampled tasks
-    double scale = ((double) tasks.length) / inputBytes.size();
-    //Analyze data. TODO: This is a temp fix. findTwogroups should support list as input
-    long[][] groups = Statistics.findTwoGroups(Longs.toArray(inputBytes));
+    //Checking data skew
+    TaskMetrics.TwoGroups groups = metrics.getCounterGroups(_counterNames, TaskMetrics.TaskFilter.COUNTERS);
 
-    long avg1 = Statistics.average(groups[0]);
-    long avg2 = Statistics.average(groups[1]);
+    long avg1 = groups.getSmallerAverage();
+    long avg2 = groups.getLargerAverage();
 
     long min = Math.min(avg1, avg2);
     long diff = Math.abs(avg2 - avg1);
@@ -173,26 +174,26 @@ public abstract class GenericSkewHeuristic implements Heuristic<MapReduceApplica
 
     //This reduces severity if number of tasks is insignificant
     severityData = Severity.min(severityData,
-        Severity.getSeverityAscending(groups[0].length, numTasksLimits[0], numTasksLimits[1], numTasksLimits[2],
-            numTasksLimits[3]));
+        Severity.getSeverityAscending(groups.getSmallerCount(), numTasksLimits[0], numTasksLimits[1],
+            numTasksLimits[2], numTasksLimits[3]));
 
     Severity severity = Severity.max(severityData, severityTime);
 
     HeuristicResult result =
         new HeuristicResult(_heuristicConfData.getClassName(), _heuristicConfData.getHeuristicName(), severity,
-            Utils.getHeuristicScore(severityData, tasks.length));
+            Utils.getHeuristicScore(severityData, numTasks));
 
-    result.addResultDetail("Data skew (Number of tasks)", Integer.toString(tasks.length));
+    result.addResultDetail("Data skew (Number of tasks)", Integer.toString(numTasks));
     result.addResultDetail("Data skew (Group A)",
-        groups[0].length + " tasks @ " + FileUtils.byteCountToDisplaySize(avg1) + " avg");
+        groups.getSmallerCount() + " tasks @ " + FileUtils.byteCountToDisplaySize(avg1) + " avg");
     result.addResultDetail("Data skew (Group B)",
-        groups[1].length + " tasks @ " + FileUtils.byteCountToDisplaySize(avg2) + " avg");
+        groups.getLargerCount() + " tasks @ " + FileUtils.byteCountToDisplaySize(avg2) + " avg");
 
-    result.addResultDetail("Time skew (Number of tasks)", Integer.toString(tasks.length));
+    result.addResultDetail("Time skew (Number of tasks)", Integer.toString(numTasks));
     result.addResultDetail("Time skew (Group A)",
-        groupsTime[0].length + " tasks @ " + convertTimeMs(timeAvg1) + " avg");
+        groupsTime.getSmallerCount() + " tasks @ " + convertTimeMs(timeAvg1) + " avg");
     result.addResultDetail("Time skew (Group B)",
-        groupsTime[1].length + " tasks @ " + convertTimeMs(timeAvg2) + " avg");
+        groupsTime.getLargerCount() + " tasks @ " + convertTimeMs(timeAvg2) + " avg");
 
     return result;
   }
@@ -31,4 +31,9 @@ public class MapperGCHeuristic extends GenericGCHeuristic {
   protected MapReduceTaskData[] getTasks(MapReduceApplicationData data) {
     return data.getMapperData();
   }
+
+  @Override
+  protected String getTaskStream() {
+    return MapReduceApplicationData.MAPPER_STREAM;
+  }
 }
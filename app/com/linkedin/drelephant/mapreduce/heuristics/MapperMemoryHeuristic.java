@@ -32,4 +32,9 @@ public class MapperMemoryHeuristic extends GenericMemoryHeuristic {
   protected MapReduceTaskData[] getTasks(MapReduceApplicationData data) {
     return data.getMapperData();
   }
+
+  @Override
+  protected String getTaskStream() {
+    return MapReduceApplicationData.MAPPER_STREAM;
+  }
 }
@@ -42,4 +42,9 @@ public class MapperSkewHeuristic extends GenericSkewHeuristic {
   protected MapReduceTaskData[] getTasks(MapReduceApplicationData data) {
     return data.getMapperData();
   }
+
+  @Override
+  protected String getTaskStream() {
+    return MapReduceApplicationData.MAPPER_STREAM;
+  }
 }
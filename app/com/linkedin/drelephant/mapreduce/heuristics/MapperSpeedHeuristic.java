@@ -21,7 +21,6 @@ import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
 
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
 import com.linkedin.drelephant.util.Utils;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -29,6 +28,7 @@ import com.linkedin.drelephant.analysis.HDFSContext;
 import com.linkedin.drelephant.analysis.Heuristic;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.TaskMetrics;
 import com.linkedin.drelephant.mapreduce.data.MapReduceTaskData;
 import com.linkedin.drelephant.math.Statistics;
 
@@ -98,37 +98,28 @@ public class MapperSpeedHeuristic implements Heuristic<MapReduceApplicationData>
     if(!data.getSucceeded()) {
       return null;
     }
-    long totalInputByteSize=0;
 
     MapReduceTaskData[] tasks = data.getMapperData();
 
-    List<Long> inputByteSizes = new ArrayList<Long>();
-    List<Long> speeds = new ArrayList<Long>();
-    List<Long> runtimesMs = new ArrayList<Long>();
-
-    for (MapReduceTaskData task : tasks) {
-
-      if (task.isTimeAndCounterDataPresent()) {
-        long inputBytes = 0;
-        for (MapReduceCounterData.CounterName counterName: _counterNames) {
-          inputBytes += task.getCounters().get(counterName);
-        }
-        long runtimeMs = task.getTotalRunTimeMs();
-        inputByteSizes.add(inputBytes);
-        totalInputByteSize += inputBytes;
-        runtimesMs.add(runtimeMs);
-        //Speed is bytes per second
-        speeds.add((1000 * inputBytes) / (runtimeMs));
-      }
+    TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics = data.getMetricsView().of(tasks);
+    long[] inputByteSizes = metrics.getCounterValues(_counterNames, TaskMetrics.TaskFilter.TIME_AND_COUNTERS);
+    long[] runtimesMs = metrics.getTimes(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME_AND_COUNTERS);
+    long totalInputByteSize =
+        metrics.getCounterSummary(_counterNames, TaskMetrics.TaskFilter.TIME_AND_COUNTERS).getTotal();
+
+    long[] speeds = new long[runtimesMs.length];
+    for (int i = 0; i < speeds.length; i++) {
+      //Speed is bytes per second
+      speeds[i] = (1000 * inputByteSizes[i]) / (runtimesMs[i]);
     }
 
     long medianSpeed;
     long medianSize;
     long medianRuntimeMs;
     if (tasks.length != 0) {
-      medianSpeed = Statistics.median(speeds);
-      medianSize = Statistics.median(inputByteSizes);
-      medianRuntimeMs = Statistics.median(runtimesMs);
+      medianSpeed = Statistics.medianInPlace(speeds, speeds.length);
+      medianSize = Statistics.medianInPlace(inputByteSizes.clone(), inputByteSizes.length);
+      medianRuntimeMs = Statistics.medianInPlace(runtimesMs.clone(), runtimesMs.length);
     } else {
       medianSpeed = 0;
       medianSize = 0;
@@ -19,6 +19,7 @@ package com.linkedin.drelephant.mapreduce.heuristics;
 import com.linkedin.drelephant.analysis.Heuristic;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.TaskMetrics;
 import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceTaskData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceApplicationData;
@@ -84,18 +85,13 @@ public class MapperSpillHeuristic implements Heuristic<MapReduceApplicationData>
 
     MapReduceTaskData[] tasks = data.getMapperData();
 
-    long totalSpills = 0;
-    long totalOutputRecords = 0;
+    TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics = data.getMetricsView().of(tasks);
+    long totalSpills = metrics.getCounterSummary(MapReduceCounterData.CounterName.SPILLED_RECORDS,
+        TaskMetrics.TaskFilter.COUNTERS).getTotal();
+    long totalOutputRecords = metrics.getCounterSummary(MapReduceCounterData.CounterName.MAP_OUTPUT_RECORDS,
+        TaskMetrics.TaskFilter.COUNTERS).getTotal();
     double ratioSpills = 0.0;
 
-    for (MapReduceTaskData task : tasks) {
-
-      if (task.isCounterDataPresent()) {
-        totalSpills += task.getCounters().get(MapReduceCounterData.CounterName.SPILLED_RECORDS);
-        totalOutputRecords += task.getCounters().get(MapReduceCounterData.CounterName.MAP_OUTPUT_RECORDS);
-      }
-    }
-
     //If both totalSpills and totalOutputRecords are zero then set ratioSpills to zero.
     if (totalSpills == 0) {
       ratioSpills = 0;
@@ -20,13 +20,15 @@ import com.linkedin.drelephant.mapreduce.data.MapReduceApplicationData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
 import com.linkedin.drelephant.util.Utils;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import com.linkedin.drelephant.analysis.Heuristic;
+import com.linkedin.drelephant.analysis.HeuristicAccumulator;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.StreamingHeuristic;
+import com.linkedin.drelephant.analysis.TaskMetrics;
+import com.linkedin.drelephant.analysis.TaskMetricsAccumulator;
 import com.linkedin.drelephant.mapreduce.data.MapReduceTaskData;
 import com.linkedin.drelephant.math.Statistics;
 
@@ -35,7 +37,7 @@ import org.apache.commons.io.FileUtils;
 import org.apache.log4j.Logger;
 
 
-public class MapperTimeHeuristic implements Heuristic<MapReduceApplicationData> {
+public class MapperTimeHeuristic implements StreamingHeuristic<MapReduceApplicationData, MapReduceTaskData> {
   private static final Logger logger = Logger.getLogger(MapperTimeHeuristic.class);
 
   // Severity parameters.
@@ -106,43 +108,41 @@ public class MapperTimeHeuristic implements Heuristic<MapReduceApplicationData>
       return null;
     }
 
-    MapReduceTaskData[] tasks = data.getMapperData();
-
-    List<Long> inputBytes = new ArrayList<Long>();
-    List<Long> runtimesMs = new ArrayList<Long>();
-    long taskMinMs = Long.MAX_VALUE;
-    long taskMaxMs = 0;
-
-    for (MapReduceTaskData task : tasks) {
-
-      if (task.isTimeAndCounterDataPresent()) {
-        long inputByte = 0;
-        for (MapReduceCounterData.CounterName counterName: _counterNames) {
-          inputByte += task.getCounters().get(counterName);
-        }
-        inputBytes.add(inputByte);
-        long taskTime = task.getTotalRunTimeMs();
-        runtimesMs.add(taskTime);
-        taskMinMs = Math.min(taskMinMs, taskTime);
-        taskMaxMs = Math.max(taskMaxMs, taskTime);
+    return analyze(data, data.getMetricsView().of(data.getMapperData()));
+  }
+
+  @Override
+  public HeuristicAccumulator<MapReduceApplicationData, MapReduceTaskData> newAccumulator() {
+    return new TaskMetricsAccumulator<MapReduceApplicationData, MapReduceTaskData, MapReduceCounterData.CounterName>(
+        MapReduceApplicationData.MAPPER_STREAM, MapReduceTaskData.METRICS_ACCESSOR, _counterNames) {
+      @Override
+      protected HeuristicResult finish(MapReduceApplicationData data,
+          TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics) {
+        return data.getSucceeded() ? analyze(data, metrics) : null;
       }
-    }
+    };
+  }
 
-    if(taskMinMs == Long.MAX_VALUE) {
-      taskMinMs = 0;
-    }
+  private HeuristicResult analyze(MapReduceApplicationData data,
+      TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics) {
+    int numTasks = metrics.getNumTasks();
+    Statistics.Summary inputBytes = metrics.getCounterSummary(_counterNames, TaskMetrics.TaskFilter.TIME_AND_COUNTERS);
+    Statistics.Summary runtimesMs =
+        metrics.getTimeSummary(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME_AND_COUNTERS);
 
-    long averageSize = Statistics.average(inputBytes);
-    long averageTimeMs = Statistics.average(runtimesMs);
+    long averageSize = inputBytes.getAverage();
+    long averageTimeMs = runtimesMs.getAverage();
+    long taskMinMs = runtimesMs.getMin();
+    long taskMaxMs = runtimesMs.getMax();
 
-    Severity shortTaskSeverity = shortTaskSeverity(tasks.length, averageTimeMs);
-    Severity longTaskSeverity = longTaskSeverity(tasks.length, averageTimeMs);
+    Severity shortTaskSeverity = shortTaskSeverity(numTasks, averageTimeMs);
+    Severity longTaskSeverity = longTaskSeverity(numTasks, averageTimeMs);
     Severity severity = Severity.max(shortTaskSeverity, longTaskSeverity);
 
     HeuristicResult result = new HeuristicResult(_heuristicConfData.getClassName(),
-        _heuristicConfData.getHeuristicName(), severity, Utils.getHeuristicScore(severity, tasks.length));
+        _heuristicConfData.getHeuristicName(), severity, Utils.getHeuristicScore(severity, numTasks));
 
-    result.addResultDetail("Number of tasks", Integer.toString(tasks.length));
+    result.addResultDetail("Number of tasks", Integer.toString(numTasks));
     result.addResultDetail("Average task input size", FileUtils.byteCountToDisplaySize(averageSize));
     result.addResultDetail("Average task runtime", Statistics.readableTimespan(averageTimeMs));
     result.addResultDetail("Max task runtime", Statistics.readableTimespan(taskMaxMs));
@@ -31,4 +31,9 @@ public class ReducerGCHeuristic extends GenericGCHeuristic {
   protected MapReduceTaskData[] getTasks(MapReduceApplicationData data) {
     return data.getReducerData();
   }
+
+  @Override
+  protected String getTaskStream() {
+    return MapReduceApplicationData.REDUCER_STREAM;
+  }
 }
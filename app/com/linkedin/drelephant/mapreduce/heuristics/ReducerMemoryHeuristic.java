@@ -32,4 +32,9 @@ public class ReducerMemoryHeuristic extends GenericMemoryHeuristic {
   protected MapReduceTaskData[] getTasks(MapReduceApplicationData data) {
     return data.getReducerData();
   }
+
+  @Override
+  protected String getTaskStream() {
+    return MapReduceApplicationData.REDUCER_STREAM;
+  }
 }
@@ -38,4 +38,9 @@ public class ReducerSkewHeuristic extends GenericSkewHeuristic {
   protected MapReduceTaskData[] getTasks(MapReduceApplicationData data) {
     return data.getReducerData();
   }
+
+  @Override
+  protected String getTaskStream() {
+    return MapReduceApplicationData.REDUCER_STREAM;
+  }
 }
@@ -17,22 +17,25 @@
 package com.linkedin.drelephant.mapreduce.heuristics;
 
 import com.linkedin.drelephant.mapreduce.data.MapReduceApplicationData;
+import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceTaskData;
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
 import com.linkedin.drelephant.util.Utils;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Collections;
 
-import com.linkedin.drelephant.analysis.Heuristic;
+import com.linkedin.drelephant.analysis.HeuristicAccumulator;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.StreamingHeuristic;
+import com.linkedin.drelephant.analysis.TaskMetrics;
+import com.linkedin.drelephant.analysis.TaskMetricsAccumulator;
 import com.linkedin.drelephant.math.Statistics;
 import java.util.Map;
 import org.apache.log4j.Logger;
 
 
-public class ReducerTimeHeuristic implements Heuristic<MapReduceApplicationData> {
+public class ReducerTimeHeuristic implements StreamingHeuristic<MapReduceApplicationData, MapReduceTaskData> {
   private static final Logger logger = Logger.getLogger(ReducerTimeHeuristic.class);
 
   // Severity parameters.
@@ -97,36 +100,40 @@ public class ReducerTimeHeuristic implements Heuristic<MapReduceApplicationData>
       return null;
     }
 
-    MapReduceTaskData[] tasks = data.getReducerData();
-
-    List<Long> runTimesMs = new ArrayList<Long>();
-    long taskMinMs = Long.MAX_VALUE;
-    long taskMaxMs = 0;
+    return analyze(data, data.getMetricsView().of(data.getReducerData()));
+  }
 
-    for (MapReduceTaskData task : tasks) {
-      if (task.isTimeDataPresent()) {
-        long taskTime = task.getTotalRunTimeMs();
-        runTimesMs.add(taskTime);
-        taskMinMs = Math.min(taskMinMs, taskTime);
-        taskMaxMs = Math.max(taskMaxMs, taskTime);
+  @Override
+  public HeuristicAccumulator<MapReduceApplicationData, MapReduceTaskData> newAccumulator() {
+    return new TaskMetricsAccumulator<MapReduceApplicationData, MapReduceTaskData, MapReduceCounterData.CounterName>(
+        MapReduceApplicationData.REDUCER_STREAM, MapReduceTaskData.METRICS_ACCESSOR,
+        Collections.<MapReduceCounterData.CounterName>emptyList()) {
+      @Override
+      protected HeuristicResult finish(MapReduceApplicationData data,
+          TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics) {
+        return data.getSucceeded() ? analyze(data, metrics) : null;
       }
-    }
+    };
+  }
 
-    if(taskMinMs == Long.MAX_VALUE) {
-      taskMinMs = 0;
-    }
+  private HeuristicResult analyze(MapReduceApplicationData data,
+      TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics) {
+    int numTasks = metrics.getNumTasks();
+    Statistics.Summary runTimesMs = metrics.getTimeSummary(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME);
 
     //Analyze data
-    long averageRuntimeMs = Statistics.average(runTimesMs);
+    long averageRuntimeMs = runTimesMs.getAverage();
+    long taskMinMs = runTimesMs.getMin();
+    long taskMaxMs = runTimesMs.getMax();
 
-    Severity shortTimeSeverity = shortTimeSeverity(averageRuntimeMs, tasks.length);
-    Severity longTimeSeverity = longTimeSeverity(averageRuntimeMs, tasks.length);
+    Severity shortTimeSeverity = shortTimeSeverity(averageRuntimeMs, numTasks);
+    Severity longTimeSeverity = longTimeSeverity(averageRuntimeMs, numTasks);
     Severity severity = Severity.max(shortTimeSeverity, longTimeSeverity);
 
     HeuristicResult result = new HeuristicResult(_heuristicConfData.getClassName(),
-        _heuristicConfData.getHeuristicName(), severity, Utils.getHeuristicScore(severity, tasks.length));
+        _heuristicConfData.getHeuristicName(), severity, Utils.getHeuristicScore(severity, numTasks));
 
-    result.addResultDetail("Number of tasks", Integer.toString(tasks.length));
+    result.addResultDetail("Number of tasks", Integer.toString(numTasks));
     result.addResultDetail("Average task runtime", Statistics.readableTimespan(averageRuntimeMs));
     result.addResultDetail("Max task runtime", Statistics.readableTimespan(taskMaxMs));
     result.addResultDetail("Min task runtime", Statistics.readableTimespan(taskMinMs));
@@ -17,15 +17,15 @@
 package com.linkedin.drelephant.mapreduce.heuristics;
 
 import com.linkedin.drelephant.mapreduce.data.MapReduceApplicationData;
+import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
 import com.linkedin.drelephant.util.Utils;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 import com.linkedin.drelephant.analysis.Heuristic;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.TaskMetrics;
 import com.linkedin.drelephant.mapreduce.data.MapReduceTaskData;
 import com.linkedin.drelephant.math.Statistics;
 import java.util.Map;
@@ -89,22 +89,13 @@ public class ShuffleSortHeuristic implements Heuristic<MapReduceApplicationData>
 
     MapReduceTaskData[] tasks = data.getReducerData();
 
-    List<Long> execTimeMs = new ArrayList<Long>();
-    List<Long> shuffleTimeMs = new ArrayList<Long>();
-    List<Long> sortTimeMs = new ArrayList<Long>();
+    TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics = data.getMetricsView().of(tasks);
 
-    for (MapReduceTaskData task : tasks) {
-      if (task.isTimeDataPresent()) {
-        execTimeMs.add(task.getCodeExecutionTimeMs());
-        shuffleTimeMs.add(task.getShuffleTimeMs());
-        sortTimeMs.add(task.getSortTimeMs());
-      }
-    }
-
-    //Analyze data
-    long avgExecTimeMs = Statistics.average(execTimeMs);
-    long avgShuffleTimeMs = Statistics.average(shuffleTimeMs);
-    long avgSortTimeMs = Statistics.average(sortTimeMs);
+    long avgExecTimeMs =
+        metrics.getTimeSummary(TaskMetrics.TimeColumn.CODE_EXECUTION, TaskMetrics.TaskFilter.TIME).getAverage();
+    long avgShuffleTimeMs =
+        metrics.getTimeSummary(TaskMetrics.TimeColumn.SHUFFLE, TaskMetrics.TaskFilter.TIME).getAverage();
+    long avgSortTimeMs = metrics.getTimeSummary(TaskMetrics.TimeColumn.SORT, TaskMetrics.TaskFilter.TIME).getAverage();
 
     Severity shuffleSeverity = getShuffleSortSeverity(avgShuffleTimeMs, avgExecTimeMs);
     Severity sortSeverity = getShuffleSortSeverity(avgSortTimeMs, avgExecTimeMs);
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.math;
+
+import java.util.Arrays;
+
+
+/**
+ * A mergeable, approximate quantile sketch over long values.
+ * <p/>
+ * The sketch keeps a stack of compactors. Every value held at level h stands for 2^h of the values added. Once a level
+ * holds more than k values, it is sorted and every other value is promoted to the next level. The offset of the
+ * promoted values alternates between the compactions of a level, so the errors of successive compactions cancel out and
+ * the same values added in the same order always give the same quantiles. Memory is therefore O(k log(n / k)) regardless of the number of values added, and the rank of a returned
+ * quantile is off by roughly log2(n / k) / k of n. As long as no more than k values have been added, the sketch is
+ * exact and percentiles match {@link Statistics#percentile} and {@link Statistics#median}.
+ */
+public class QuantileSketch {
+
+  public static final int DEFAULT_K = 200;
+
+  private final int _k;
+  private long[][] _levels;
+  private int[] _levelSizes;
+  private int[] _levelCompactions;
+  private long _count = 0;
+  private long _min = Long.MAX_VALUE;
+  private long _max = Long.MIN_VALUE;
+
+  // Sorted view of the retained values and their cumulative weights, rebuilt lazily after an update.
+  private long[] _sortedValues;
+  private long[] _cumulativeWeights;
+
+  public QuantileSketch() {
+    this(DEFAULT_K);
+  }
+
+  /**
+   * @param k The number of values retained per level. Larger values of k give smaller errors at the cost of memory.
+   */
+  public QuantileSketch(int k) {
+    if (k < 2) {
+      throw new IllegalArgumentException("k has to be at least 2");
+    }
+    _k = k;
+    _levels = new long[][] { new long[k + 1] };
+    _levelSizes = new int[1];
+    _levelCompactions = new int[1];
+  }
+
+  public int getK() {
+    return _k;
+  }
+
+  /**
+   * Adds a value to the sketch.
+   *
+   * @param value The value to add
+   */
+  public void add(long value) {
+    _count++;
+    _min = Math.min(_min, value);
+    _max = Math.max(_max, value);
+    insert(0, value);
+    _sortedValues = null;
+  }
+
+  /**
+   * Merges another sketch into this one. The other sketch is left untouched.
+   *
+   * @param other The sketch to merge
+   */
+  public void merge(QuantileSketch other) {
+    if (other._count == 0) {
+      return;
+    }
+    _count += other._count;
+    _min = Math.min(_min, other._min);
+    _max = Math.max(_max, other._max);
+    for (int level = 0; level < other._levels.length; level++) {
+      for (int i = 0; i < other._levelSizes[level]; i++) {
+        insert(level, other._levels[level][i]);
+      }
+    }
+    _sortedValues = null;
+  }
+
+  public long getCount() {
+    return _count;
+  }
+
+  public boolean isEmpty() {
+    return _count == 0;
+  }
+
+  /**
+   * @return true if no value has been dropped yet, i.e. all the percentiles are exact.
+   */
+  public boolean isExact() {
+    return _levels.length == 1;
+  }
+
+  public long getMin() {
+    checkNotEmpty();
+    return _min;
+  }
+
+  public long getMax() {
+    checkNotEmpty();
+    return _max;
+  }
+
+  /**
+   * Returns the least value with at least the given percentile, using the nearest rank method like
+   * {@link Statistics#percentile}.
+   *
+   * @param percentile The percentile, between 0 and 100
+   * @return The (approximate) value at the percentile
+   */
+  public long percentile(int percentile) {
+    if (percentile > 100 || percentile < 0) {
+      throw new IllegalArgumentException("Percentile has to be between 0-100");
+    }
+    return quantile(percentile / 100.0);
+  }
+
+  /**
+   * Returns the least value with at least the given fraction of the values below or at it.
+   *
+   * @param fraction The fraction, between 0 and 1
+   * @return The (approximate) value at the quantile
+   */
+  public long quantile(double fraction) {
+    checkNotEmpty();
+    if (fraction > 1 || fraction < 0) {
+      throw new IllegalArgumentException("Quantile has to be between 0-1");
+    }
+    long rank = Math.max(1, (long) Math.ceil(_count * fraction));
+    return valueAtRank(rank);
+  }
+
+  /**
+   * Returns the median. While the sketch is exact, the two middle values are averaged for an even count, like
+   * {@link Statistics#median}.
+   *
+   * @return The (approximate) median
+   */
+  public long median() {
+    checkNotEmpty();
+    long middle = _count / 2;
+    if (isExact() && _count % 2 == 0) {
+      return (valueAtRank(middle) + valueAtRank(middle + 1)) / 2;
+    }
+    return valueAtRank(middle + 1);
+  }
+
+  private long valueAtRank(long rank) {
+    buildSortedView();
+    int low = 0;
+    int high = _cumulativeWeights.length - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (_cumulativeWeights[mid] < rank) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return _sortedValues[low];
+  }
+
+  private void insert(int level, long value) {
+    if (level == _levels.length) {
+      _levels = Arrays.copyOf(_levels, level + 1);
+      _levels[level] = new long[_k + 1];
+      _levelSizes = Arrays.copyOf(_levelSizes, level + 1);
+      _levelCompactions = Arrays.copyOf(_levelCompactions, level + 1);
+    }
+    long[] items = _levels[level];
+    items[_levelSizes[level]++] = value;
+    if (_levelSizes[level] > _k) {
+      compact(level);
+    }
+  }
+
+  private void compact(int level) {
+    long[] items = _levels[level];
+    int size = _levelSizes[level];
+    Arrays.sort(items, 0, size);
+    // An odd value out stays at this level, so that the total weight is preserved exactly.
+    int compactedSize = size & ~1;
+    long leftover = items[size - 1];
+    _levelSizes[level] = 0;
+    int offset = _levelCompactions[level]++ & 1;
+    for (int i = offset; i < compactedSize; i += 2) {
+      insert(level + 1, items[i]);
+    }
+    if (compactedSize < size) {
+      items[_levelSizes[level]++] = leftover;
+    }
+  }
+
+  private void buildSortedView() {
+    if (_sortedValues != null) {
+      return;
+    }
+    int numRetained = 0;
+    for (int size : _levelSizes) {
+      numRetained += size;
+    }
+    long[][] sortedLevels = new long[_levels.length][];
+    for (int level = 0; level < _levels.length; level++) {
+      sortedLevels[level] = Arrays.copyOf(_levels[level], _levelSizes[level]);
+      Arrays.sort(sortedLevels[level]);
+    }
+
+    // Merge the sorted levels. The number of levels is logarithmic, so a linear scan of the level heads is enough.
+    long[] values = new long[numRetained];
+    long[] cumulativeWeights = new long[numRetained];
+    int[] heads = new int[_levels.length];
+    long cumulativeWeight = 0;
+    for (int i = 0; i < numRetained; i++) {
+      int minLevel = -1;
+      for (int level = 0; level < sortedLevels.length; level++) {
+        if (heads[level] < sortedLevels[level].length && (minLevel == -1
+            || sortedLevels[level][heads[level]] < sortedLevels[minLevel][heads[minLevel]])) {
+          minLevel = level;
+        }
+      }
+      values[i] = sortedLevels[minLevel][heads[minLevel]++];
+      cumulativeWeight += 1L << minLevel;
+      cumulativeWeights[i] = cumulativeWeight;
+    }
+    _sortedValues = values;
+    _cumulativeWeights = cumulativeWeights;
+  }
+
+  private void checkNotEmpty() {
+    if (_count == 0) {
+      throw new IllegalArgumentException("Quantiles of an empty sketch are not defined.");
+    }
+  }
+}
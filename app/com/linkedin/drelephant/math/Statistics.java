@@ -17,16 +17,17 @@
 package com.linkedin.drelephant.math;
 
 import java.lang.reflect.Array;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
-import org.apache.commons.io.FileUtils;
 
 
 /**
- * This class includes all the statistical operations
+ * This class includes all the statistical operations.
+ * <p/>
+ * The operations work on primitive arrays. The List based methods are kept for existing callers and unbox their
+ * input into a single array before delegating, so none of them reorder the caller's list.
  */
 public final class Statistics {
 
@@ -37,6 +38,9 @@ public final class Statistics {
   public static final long MINUTE = 60L;
   public static final long HOUR = 60L * MINUTE;
 
+  // Ranges smaller than this are insertion sorted instead of partitioned any further
+  private static final int SELECT_INSERTION_THRESHOLD = 16;
+
   private Statistics() {
   }
 
@@ -60,21 +64,17 @@ public final class Statistics {
     //Find deviated elements
 
     long minimumDiff = Math.max(buffer, (long) (avg * factor));
-    List<Integer> deviatedElements = new ArrayList<Integer>();
+    int[] deviatedElements = new int[values.length];
+    int numDeviated = 0;
 
     for (int i = 0; i < values.length; i++) {
       long diff = values[i] - avg;
       if (diff > minimumDiff) {
-        deviatedElements.add(i);
+        deviatedElements[numDeviated++] = i;
       }
     }
 
-    int[] result = new int[deviatedElements.size()];
-    for (int i = 0; i < result.length; i++) {
-      result[i] = deviatedElements.get(i);
-    }
-
-    return result;
+    return numDeviated == deviatedElements.length ? deviatedElements : Arrays.copyOf(deviatedElements, numDeviated);
   }
 
   /**
@@ -84,10 +84,29 @@ public final class Statistics {
    * @return The least value from the list with at least the given percentile
    */
   public static long percentile(List<Long> values, int percentile) {
-
     if (values.size() == 0) {
       throw new IllegalArgumentException("Percentile of empty list is not defined.");
     }
+    return percentileInPlace(toArray(values), 0, values.size(), percentile);
+  }
+
+  /**
+   * Same as {@link #percentile(List, int)} for the first {@code length} values of the array. The values are
+   * partially reordered by the selection, so pass a copy if the order matters to the caller.
+   *
+   * @param values The values to find the percentile from
+   * @param length The number of values in use, starting from index 0
+   * @param percentile The percentile
+   * @return The least value with at least the given percentile
+   */
+  public static long percentileInPlace(long[] values, int length, int percentile) {
+    return percentileInPlace(values, 0, length, percentile);
+  }
+
+  private static long percentileInPlace(long[] values, int from, int to, int percentile) {
+    if (to - from <= 0) {
+      throw new IllegalArgumentException("Percentile of empty list is not defined.");
+    }
 
     if (percentile > 100 || percentile < 0) {
       throw new IllegalArgumentException("Percentile has to be between 0-100");
@@ -97,57 +116,99 @@ public final class Statistics {
       return 0;
     }
 
-    Collections.sort(values);
-
     // Use Nearest Rank method.
     // https://en.wikipedia.org/wiki/Percentile#The_Nearest_Rank_method
-    int position = (int) Math.ceil(values.size() * percentile / 100.0);
+    int position = (int) Math.ceil((to - from) * percentile / 100.0);
 
     // should never happen.
     if (position == 0) {
-      return values.get(position);
+      return select(values, from, to, from);
     }
 
     // position is always one greater than index. Return value at the proper index
-    return values.get(position - 1);
+    return select(values, from, to, from + position - 1);
   }
 
-
   public static long[][] findTwoGroups(long[] values) {
     return findTwoGroupsRecursive(values, average(values), 2);
   }
 
   public static long[][] findTwoGroupsRecursive(long[] values, long middle, int levels) {
-    if (levels > 0) {
-      long[][] result = twoMeans(values, middle);
-      long newMiddle = average(result[1]) - average(result[0]);
-      return findTwoGroupsRecursive(values, newMiddle, levels - 1);
+    return twoMeans(values, twoMeansMiddle(values, values.length, middle, levels));
+  }
+
+  /**
+   * Splits the first {@code length} values into the same two groups as {@link #findTwoGroups(long[])}, but in
+   * place: on return the smaller group occupies the front of the array and the larger group the rest, each in no
+   * particular order. Nothing is allocated, so callers can keep one scratch array across calls.
+   *
+   * @param values The values to split
+   * @param length The number of values in use, starting from index 0
+   * @return The size of the smaller group, i.e. the index where the larger group starts
+   */
+  public static int partitionTwoGroups(long[] values, int length) {
+    long middle = twoMeansMiddle(values, length, average(values, 0, length), 2);
+    int split = 0;
+    for (int i = 0; i < length; i++) {
+      if (values[i] < middle) {
+        swap(values, i, split++);
+      }
     }
-    return twoMeans(values, middle);
+    return split;
+  }
+
+  /**
+   * Runs the given number of two-means refinements, keeping only the running sums of both groups instead of the
+   * groups themselves.
+   */
+  private static long twoMeansMiddle(long[] values, int length, long middle, int levels) {
+    for (int level = levels; level > 0; level--) {
+      double smallerSum = 0d;
+      double largerSum = 0d;
+      int smallerCount = 0;
+      for (int i = 0; i < length; i++) {
+        if (values[i] < middle) {
+          smallerSum += values[i];
+          smallerCount++;
+        } else {
+          largerSum += values[i];
+        }
+      }
+      middle = (long) (largerSum / (double) (length - smallerCount)) - (long) (smallerSum / (double) smallerCount);
+    }
+    return middle;
   }
 
   private static long[][] twoMeans(long[] values, long middle) {
-    List<Long> smaller = new ArrayList<Long>();
-    List<Long> larger = new ArrayList<Long>();
-    for (int i = 0; i < values.length; i++) {
-      if (values[i] < middle) {
-        smaller.add(values[i]);
-      } else {
-        larger.add(values[i]);
+    int smallerCount = 0;
+    for (long value : values) {
+      if (value < middle) {
+        smallerCount++;
       }
     }
 
     long[][] result = new long[2][];
-    result[0] = toArray(smaller);
-    result[1] = toArray(larger);
+    result[0] = new long[smallerCount];
+    result[1] = new long[values.length - smallerCount];
+
+    int smallerIndex = 0;
+    int largerIndex = 0;
+    for (long value : values) {
+      if (value < middle) {
+        result[0][smallerIndex++] = value;
+      } else {
+        result[1][largerIndex++] = value;
+      }
+    }
 
     return result;
   }
 
   private static long[] toArray(List<Long> input) {
     long[] result = new long[input.size()];
-    for (int i = 0; i < result.length; i++) {
-      result[i] = input.get(i);
+    int i = 0;
+    for (long value : input) {
+      result[i++] = value;
     }
     return result;
   }
@@ -159,12 +220,24 @@ public final class Statistics {
    * @return The average(values)
    */
   public static long average(long[] values) {
+    return average(values, 0, values.length);
+  }
+
+  /**
+   * Compute average for the values of the array between {@code from} (inclusive) and {@code to} (exclusive)
+   *
+   * @param values the values
+   * @param from the first index to include
+   * @param to the index after the last one to include
+   * @return The average(values[from, to))
+   */
+  public static long average(long[] values, int from, int to) {
     //Find average
     double sum = 0d;
-    for (long value : values) {
-      sum += value;
+    for (int i = from; i < to; i++) {
+      sum += values[i];
     }
-    return (long) (sum / (double) values.length);
+    return (long) (sum / (double) (to - from));
   }
 
   /**
@@ -192,12 +265,196 @@ public final class Statistics {
     if (values.size() == 0) {
       throw new IllegalArgumentException("Median of an empty list is not defined.");
     }
-    Collections.sort(values);
-    int middle = values.size() / 2;
-    if (values.size() % 2 == 0) {
-      return (values.get(middle - 1) + values.get(middle)) / 2;
+    return medianInPlace(toArray(values), values.size());
+  }
+
+  /**
+   * Find the median of the first {@code length} values of the array. The values are partially reordered by the
+   * selection, so pass a copy if the order matters to the caller.
+   *
+   * @param values The values
+   * @param length The number of values in use, starting from index 0
+   * @return The median(values)
+   */
+  public static long medianInPlace(long[] values, int length) {
+    if (length <= 0) {
+      throw new IllegalArgumentException("Median of an empty list is not defined.");
+    }
+    int middle = length / 2;
+    long upper = select(values, 0, length, middle);
+    if (length % 2 == 0) {
+      // Selection leaves every value below the middle index no larger than the middle value
+      long lower = values[0];
+      for (int i = 1; i < middle; i++) {
+        lower = Math.max(lower, values[i]);
+      }
+      return (lower + upper) / 2;
     } else {
-      return values.get(middle);
+      return upper;
+    }
+  }
+
+  /**
+   * Summarizes the given values in a single pass.
+   *
+   * @param values the values
+   * @return The count, sum, min, max and variance of the values
+   */
+  public static Summary summarize(long[] values) {
+    return summarize(values, 0, values.length);
+  }
+
+  /**
+   * Summarizes the values of the array between {@code from} (inclusive) and {@code to} (exclusive) in a single pass.
+   *
+   * @param values the values
+   * @param from the first index to include
+   * @param to the index after the last one to include
+   * @return The count, sum, min, max and variance of the values
+   */
+  public static Summary summarize(long[] values, int from, int to) {
+    Summary summary = new Summary();
+    for (int i = from; i < to; i++) {
+      summary.add(values[i]);
+    }
+    return summary;
+  }
+
+  /**
+   * Moves the k-th smallest value of values[from, to) to index k and returns it. Values before k end up no larger
+   * and values after k no smaller than it. Runs in expected linear time without allocating.
+   */
+  private static long select(long[] values, int from, int to, int k) {
+    int lo = from;
+    int hi = to - 1;
+    while (hi - lo >= SELECT_INSERTION_THRESHOLD) {
+      int mid = (lo + hi) >>> 1;
+
+      // Median of three as the pivot, which also guards the scans below
+      if (values[mid] < values[lo]) {
+        swap(values, mid, lo);
+      }
+      if (values[hi] < values[lo]) {
+        swap(values, hi, lo);
+      }
+      if (values[hi] < values[mid]) {
+        swap(values, hi, mid);
+      }
+      long pivot = values[mid];
+
+      int i = lo;
+      int j = hi;
+      while (i <= j) {
+        while (values[i] < pivot) {
+          i++;
+        }
+        while (values[j] > pivot) {
+          j--;
+        }
+        if (i <= j) {
+          swap(values, i++, j--);
+        }
+      }
+
+      if (k <= j) {
+        hi = j;
+      } else if (k >= i) {
+        lo = i;
+      } else {
+        return values[k];
+      }
+    }
+
+    for (int i = lo + 1; i <= hi; i++) {
+      long value = values[i];
+      int j = i - 1;
+      while (j >= lo && values[j] > value) {
+        values[j + 1] = values[j];
+        j--;
+      }
+      values[j + 1] = value;
+    }
+    return values[k];
+  }
+
+  private static void swap(long[] values, int i, int j) {
+    long temp = values[i];
+    values[i] = values[j];
+    values[j] = temp;
+  }
+
+  /**
+   * Running count, sum, min, max and variance of a series of long values.
+   * <p/>
+   * The average is computed from a double sum exactly like {@link Statistics#average(long[])}, and the variance with
+   * Welford's method so it stays accurate for large values.
+   */
+  public static final class Summary {
+    private int _count = 0;
+    private double _sum = 0d;
+    private long _total = 0;
+    private long _min = Long.MAX_VALUE;
+    private long _max = Long.MIN_VALUE;
+    private double _mean = 0d;
+    private double _m2 = 0d;
+
+    public void add(long value) {
+      _count++;
+      _sum += value;
+      _total += value;
+      _min = Math.min(_min, value);
+      _max = Math.max(_max, value);
+
+      double delta = value - _mean;
+      _mean += delta / _count;
+      _m2 += delta * (value - _mean);
+    }
+
+    public int getCount() {
+      return _count;
+    }
+
+    public double getSum() {
+      return _sum;
+    }
+
+    /**
+     * @return The exact sum of the values, as opposed to the double sum the average is computed from
+     */
+    public long getTotal() {
+      return _total;
+    }
+
+    /**
+     * @return The average, same as {@link Statistics#average(long[])}, or 0 if no values were added
+     */
+    public long getAverage() {
+      return (long) (_sum / (double) _count);
+    }
+
+    /**
+     * @return The smallest value, or 0 if no values were added
+     */
+    public long getMin() {
+      return _count == 0 ? 0 : _min;
+    }
+
+    /**
+     * @return The largest value, or 0 if no values were added
+     */
+    public long getMax() {
+      return _count == 0 ? 0 : _max;
+    }
+
+    /**
+     * @return The population variance, or 0 if no values were added
+     */
+    public double getVariance() {
+      return _count == 0 ? 0d : _m2 / _count;
+    }
+
+    public double getStandardDeviation() {
+      return Math.sqrt(getVariance());
     }
   }
 
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+
+/**
+ * Reads the number of bytes allocated by the current thread, on JVMs whose <code>ThreadMXBean</code>
+ * supports it (HotSpot does). Everywhere else the methods return -1.
+ */
+public final class ThreadAllocation {
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = loadThreadMXBean();
+
+  private ThreadAllocation() {
+  }
+
+  private static com.sun.management.ThreadMXBean loadThreadMXBean() {
+    try {
+      ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+      if (bean instanceof com.sun.management.ThreadMXBean) {
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+          return sunBean;
+        }
+      }
+    } catch (LinkageError e) {
+      // Not a HotSpot compatible JVM
+    }
+    return null;
+  }
+
+  /**
+   * @return true if allocated bytes can be measured on this JVM
+   */
+  public static boolean isSupported() {
+    return THREAD_MX_BEAN != null;
+  }
+
+  /**
+   * @return the total number of bytes allocated by the current thread so far, or -1 if not supported
+   */
+  public static long currentThreadAllocatedBytes() {
+    if (THREAD_MX_BEAN == null) {
+      return -1;
+    }
+    return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * @param start A value previously returned by {@link #currentThreadAllocatedBytes()} on the same thread
+   * @return the number of bytes the current thread allocated since then, or -1 if not supported
+   */
+  public static long allocatedSince(long start) {
+    if (start < 0) {
+      return -1;
+    }
+    long now = currentThreadAllocatedBytes();
+    return now < 0 ? -1 : now - start;
+  }
+}
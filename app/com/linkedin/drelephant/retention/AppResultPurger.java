@@ -0,0 +1,248 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package com.linkedin.drelephant.retention;
+
+import com.avaje.ebean.Ebean;
+import com.avaje.ebean.SqlQuery;
+import com.avaje.ebean.SqlRow;
+import com.avaje.ebean.SqlUpdate;
+import com.avaje.ebean.Transaction;
+import com.avaje.ebean.TxRunnable;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import models.AppHeuristicResult;
+import models.AppHeuristicResultDetails;
+import models.AppResult;
+import org.apache.commons.lang.StringUtils;
+import org.apache.log4j.Logger;
+
+
+/**
+ * Removes the application results which finished before a cutoff, together with their heuristic results and details.
+ * <p/>
+ * By default the results are deleted in small batches, each in its own transaction, so that the purge neither holds
+ * long locks on yarn_app_result nor builds a large undo log. When yarn_app_result is range partitioned on
+ * finish_time, see scripts/partition_yarn_app_result.sql, whole days are dropped with their partition instead, after
+ * their heuristic results are deleted in batches, and the partitions of the coming days are created ahead of time.
+ * <p/>
+ * The rollups in yarn_app_result_rollup are kept, so the dashboards still count the purged applications.
+ */
+public class AppResultPurger {
+
+  private static final Logger logger = Logger.getLogger(AppResultPurger.class);
+
+  private static final String APP_TABLE = AppResult.TABLE.TABLE_NAME;
+  private static final String HEURISTIC_TABLE = AppHeuristicResult.TABLE.TABLE_NAME;
+  private static final String DETAILS_TABLE = AppHeuristicResultDetails.TABLE.TABLE_NAME;
+
+  private static final String MAX_VALUE = "MAXVALUE";
+
+  private static final String PARTITIONS_SQL = "SELECT partition_name, partition_description"
+      + " FROM information_schema.PARTITIONS WHERE table_schema = DATABASE() AND table_name = :table"
+      + " AND partition_name IS NOT NULL ORDER BY partition_ordinal_position";
+
+  private static final String EXPIRED_IDS_SQL = "SELECT id FROM " + APP_TABLE
+      + " WHERE finish_time < :cutoff ORDER BY finish_time";
+
+  private static final String EXPIRED_IDS_AFTER_SQL = "SELECT id FROM " + APP_TABLE
+      + " WHERE finish_time < :cutoff AND id > :after ORDER BY id";
+
+  // The databases which have no information_schema.PARTITIONS, so whose tables are never partitioned
+  private static final String[] UNPARTITIONED_DATABASES = { "H2" };
+
+  private final int _batchSize;
+  private volatile Boolean _partitionable;
+
+  public AppResultPurger(int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+    }
+    _batchSize = batchSize;
+  }
+
+  /**
+   * Returns the range partitions of yarn_app_result, in order.
+   *
+   * @return The partitions, or an empty list if the table is not partitioned, the database does not partition tables,
+   *     or the partitions cannot be read
+   */
+  public List<RangePartition> getPartitions() {
+    if (!isPartitionable()) {
+      return new ArrayList<RangePartition>();
+    }
+    List<SqlRow> rows;
+    try {
+      rows = Ebean.createSqlQuery(PARTITIONS_SQL).setParameter("table", APP_TABLE).findList();
+    } catch (RuntimeException e) {
+      // Batched deletes still purge a partitioned table, only more slowly
+      logger.warn("Unable to read the partitions of " + APP_TABLE + ", purging it with deletes", e);
+      return new ArrayList<RangePartition>();
+    }
+
+    List<RangePartition> partitions = new ArrayList<RangePartition>();
+    for (SqlRow row : rows) {
+      String bound = row.getString("partition_description");
+      partitions.add(new RangePartition(row.getString("partition_name"),
+          MAX_VALUE.equalsIgnoreCase(bound) ? RangePartition.MAX_VALUE : Long.parseLong(bound)));
+    }
+    return partitions;
+  }
+
+  /**
+   * Returns whether the database may partition tables, which is assumed unless it is known not to.
+   */
+  private boolean isPartitionable() {
+    if (_partitionable == null) {
+      Transaction transaction = Ebean.beginTransaction();
+      try {
+        String product = transaction.getConnection().getMetaData().getDatabaseProductName();
+        boolean partitionable = true;
+        for (String database : UNPARTITIONED_DATABASES) {
+          if (database.equalsIgnoreCase(product)) {
+            partitionable = false;
+          }
+        }
+        _partitionable = partitionable;
+      } catch (SQLException e) {
+        logger.warn("Unable to read the name of the database", e);
+        return true;
+      } finally {
+        Ebean.endTransaction();
+      }
+    }
+    return _partitionable;
+  }
+
+  /**
+   * Creates the given partitions after the existing ones. If the last partition is bounded by MAXVALUE, it is split
+   * so that it keeps holding everything after the new partitions.
+   *
+   * @param partitions The existing partitions, in order
+   * @param additions The partitions to create, in order
+   */
+  public void addPartitions(List<RangePartition> partitions, List<RangePartition> additions) {
+    if (additions.isEmpty()) {
+      return;
+    }
+    List<String> definitions = new ArrayList<String>();
+    for (RangePartition addition : additions) {
+      definitions.add("PARTITION " + addition.getName() + " VALUES LESS THAN (" + addition.getBound() + ")");
+    }
+
+    RangePartition last = partitions.isEmpty() ? null : partitions.get(partitions.size() - 1);
+    String sql;
+    if (last != null && last.isMaxValue()) {
+      definitions.add("PARTITION " + last.getName() + " VALUES LESS THAN " + MAX_VALUE);
+      sql = "ALTER TABLE " + APP_TABLE + " REORGANIZE PARTITION " + last.getName() + " INTO ("
+          + StringUtils.join(definitions, ", ") + ")";
+    } else {
+      sql = "ALTER TABLE " + APP_TABLE + " ADD PARTITION (" + StringUtils.join(definitions, ", ") + ")";
+    }
+    Ebean.createSqlUpdate(sql).execute();
+    logger.info("Added partitions " + additions + " to " + APP_TABLE);
+  }
+
+  /**
+   * Drops a partition of yarn_app_result, after deleting the heuristic results of its applications in batches. The
+   * earlier partitions must have been dropped already.
+   *
+   * @param partition The partition to drop
+   * @return The number of applications whose heuristic results were deleted
+   */
+  public int dropPartition(RangePartition partition) {
+    int count = 0;
+    String after = "";
+    while (true) {
+      List<String> ids = findIds(Ebean.createSqlQuery(EXPIRED_IDS_AFTER_SQL)
+          .setParameter("cutoff", partition.getBound())
+          .setParameter("after", after));
+      if (ids.isEmpty()) {
+        break;
+      }
+      deleteBatch(ids, false);
+      count += ids.size();
+      after = ids.get(ids.size() - 1);
+    }
+
+    Ebean.createSqlUpdate("ALTER TABLE " + APP_TABLE + " DROP PARTITION " + partition.getName()).execute();
+    logger.info("Dropped partition " + partition + " of " + APP_TABLE + " holding " + count + " applications");
+    return count;
+  }
+
+  /**
+   * Deletes the application results which finished before the cutoff, in batches, oldest first.
+   *
+   * @param cutoff The finish time before which the results are deleted
+   * @return The number of deleted application results
+   */
+  public int deleteBefore(long cutoff) {
+    int count = 0;
+    while (true) {
+      List<String> ids = findIds(Ebean.createSqlQuery(EXPIRED_IDS_SQL).setParameter("cutoff", cutoff));
+      if (ids.isEmpty()) {
+        break;
+      }
+      deleteBatch(ids, true);
+      count += ids.size();
+      if (ids.size() < _batchSize || Thread.currentThread().isInterrupted()) {
+        break;
+      }
+    }
+    if (count > 0) {
+      logger.info("Deleted " + count + " application results which finished before " + cutoff);
+    }
+    return count;
+  }
+
+  private List<String> findIds(SqlQuery query) {
+    List<String> ids = new ArrayList<String>();
+    for (SqlRow row : query.setMaxRows(_batchSize).findList()) {
+      ids.add(row.getString("id"));
+    }
+    return ids;
+  }
+
+  private void deleteBatch(final List<String> ids, final boolean deleteApps) {
+    List<String> params = new ArrayList<String>();
+    for (int i = 0; i < ids.size(); i++) {
+      params.add(":p" + i);
+    }
+    final String in = "(" + StringUtils.join(params, ", ") + ")";
+
+    Ebean.execute(new TxRunnable() {
+      @Override
+      public void run() {
+        execute("DELETE FROM " + DETAILS_TABLE + " WHERE yarn_app_heuristic_result_id IN (SELECT id FROM "
+            + HEURISTIC_TABLE + " WHERE yarn_app_result_id IN " + in + ")", ids);
+        execute("DELETE FROM " + HEURISTIC_TABLE + " WHERE yarn_app_result_id IN " + in, ids);
+        if (deleteApps) {
+          execute("DELETE FROM " + APP_TABLE + " WHERE id IN " + in, ids);
+        }
+      }
+    });
+  }
+
+  private static void execute(String sql, List<String> ids) {
+    SqlUpdate update = Ebean.createSqlUpdate(sql);
+    for (int i = 0; i < ids.size(); i++) {
+      update.setParameter("p" + i, ids.get(i));
+    }
+    update.execute();
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package com.linkedin.drelephant.retention;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+
+/**
+ * A range partition of yarn_app_result on finish_time, holding the results which finished before its bound and not
+ * in an earlier partition.
+ * <p/>
+ * The partitions managed by the retention are daily, named p followed by the GMT day they hold, e.g. p20160418 for
+ * the results which finished on April 18th 2016, bounded by the start of the following day. A last partition
+ * bounded by MAXVALUE may hold everything after them.
+ */
+public class RangePartition {
+
+  public static final long DAY = 24 * 60 * 60 * 1000L;
+
+  // The bound of the partition holding everything after the last day partition
+  public static final long MAX_VALUE = Long.MAX_VALUE;
+
+  private final String _name;
+  private final long _bound;
+
+  public RangePartition(String name, long bound) {
+    _name = name;
+    _bound = bound;
+  }
+
+  public String getName() {
+    return _name;
+  }
+
+  /**
+   * @return The exclusive upper bound of finish_time in this partition, or {@link #MAX_VALUE}
+   */
+  public long getBound() {
+    return _bound;
+  }
+
+  public boolean isMaxValue() {
+    return _bound == MAX_VALUE;
+  }
+
+  /**
+   * Returns the daily partition holding the results which finished on the day starting at the given time.
+   *
+   * @param dayStart The start of a GMT day in epoch millis
+   * @return The partition
+   */
+  public static RangePartition ofDay(long dayStart) {
+    SimpleDateFormat format = new SimpleDateFormat("yyyyMMdd");
+    format.setTimeZone(TimeZone.getTimeZone("GMT"));
+    return new RangePartition("p" + format.format(new Date(dayStart)), dayStart + DAY);
+  }
+
+  /**
+   * Returns the daily partitions to add so that the days up to the given number of days after today have their own
+   * partition, starting after the last bounded partition or today if there is none.
+   *
+   * @param partitions The existing partitions, in order
+   * @param now The current time
+   * @param daysAhead The number of days after today which should have a partition
+   * @return The partitions to add, in order
+   */
+  public static List<RangePartition> planAdditions(List<RangePartition> partitions, long now, int daysAhead) {
+    long today = now - now % DAY;
+    long dayStart = today;
+    for (RangePartition partition : partitions) {
+      if (!partition.isMaxValue() && partition.getBound() > dayStart) {
+        dayStart = partition.getBound();
+      }
+    }
+
+    List<RangePartition> additions = new ArrayList<RangePartition>();
+    for (long lastDay = today + daysAhead * DAY; dayStart <= lastDay; dayStart += DAY) {
+      additions.add(ofDay(dayStart));
+    }
+    return additions;
+  }
+
+  /**
+   * Returns the partitions whose results all finished before the cutoff. The partition bounded by MAXVALUE is never
+   * expired.
+   *
+   * @param partitions The existing partitions
+   * @param cutoff The finish time before which the results are expired
+   * @return The expired partitions, in order
+   */
+  public static List<RangePartition> planDrops(List<RangePartition> partitions, long cutoff) {
+    List<RangePartition> drops = new ArrayList<RangePartition>();
+    for (RangePartition partition : partitions) {
+      if (!partition.isMaxValue() && partition.getBound() <= cutoff) {
+        drops.add(partition);
+      }
+    }
+    return drops;
+  }
+
+  @Override
+  public String toString() {
+    return _name + " < " + (isMaxValue() ? "MAXVALUE" : String.valueOf(_bound));
+  }
+}
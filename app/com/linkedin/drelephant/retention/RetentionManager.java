@@ -0,0 +1,161 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package com.linkedin.drelephant.retention;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.drelephant.util.Utils;
+import controllers.ResponseCache;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.log4j.Logger;
+
+
+/**
+ * Periodically removes the application results older than the configured retention.
+ * <p/>
+ * In the auto mode, the expired days of a partitioned yarn_app_result are dropped with their partitions and the
+ * partitions of the coming days are created, while an unpartitioned table is purged with batched deletes. The delete
+ * mode always uses batched deletes. The retention is disabled unless drelephant.retention.days is set.
+ */
+public class RetentionManager implements Runnable {
+
+  private static final Logger logger = Logger.getLogger(RetentionManager.class);
+
+  public static final String RETENTION_DAYS_KEY = "drelephant.retention.days";
+  public static final String RETENTION_INTERVAL_KEY = "drelephant.retention.interval.ms";
+  public static final String RETENTION_MODE_KEY = "drelephant.retention.mode";
+  public static final String DELETE_BATCH_SIZE_KEY = "drelephant.retention.delete.batch.size";
+  public static final String PARTITIONS_AHEAD_DAYS_KEY = "drelephant.retention.partitions.ahead.days";
+
+  private static final long RETENTION_INTERVAL = 60 * 60 * 1000;
+  private static final int DELETE_BATCH_SIZE = 1000;
+  private static final int PARTITIONS_AHEAD_DAYS = 7;
+
+  public enum Mode {
+    AUTO, DELETE
+  }
+
+  private final AppResultPurger _purger;
+  private final int _retentionDays;
+  private final long _interval;
+  private final Mode _mode;
+  private final int _partitionsAheadDays;
+  private ScheduledExecutorService _scheduler;
+
+  @VisibleForTesting
+  RetentionManager(AppResultPurger purger, int retentionDays, long interval, Mode mode, int partitionsAheadDays) {
+    _purger = purger;
+    _retentionDays = retentionDays;
+    _interval = interval;
+    _mode = mode;
+    _partitionsAheadDays = partitionsAheadDays;
+  }
+
+  /**
+   * Creates the retention manager from the general configuration.
+   *
+   * @param conf The general configuration
+   * @return The retention manager
+   */
+  public static RetentionManager fromConfiguration(Configuration conf) {
+    String mode = conf.get(RETENTION_MODE_KEY, Mode.AUTO.name());
+    Mode retentionMode;
+    try {
+      retentionMode = Mode.valueOf(mode.trim().toUpperCase());
+    } catch (IllegalArgumentException e) {
+      logger.error("Invalid retention mode " + mode + ", using " + Mode.AUTO.name().toLowerCase());
+      retentionMode = Mode.AUTO;
+    }
+    return new RetentionManager(new AppResultPurger(Math.max(1, Utils.getNonNegativeInt(conf, DELETE_BATCH_SIZE_KEY,
+        DELETE_BATCH_SIZE))), Utils.getNonNegativeInt(conf, RETENTION_DAYS_KEY, 0),
+        Math.max(1, Utils.getNonNegativeLong(conf, RETENTION_INTERVAL_KEY, RETENTION_INTERVAL)), retentionMode,
+        Utils.getNonNegativeInt(conf, PARTITIONS_AHEAD_DAYS_KEY, PARTITIONS_AHEAD_DAYS));
+  }
+
+  public boolean isEnabled() {
+    return _retentionDays > 0;
+  }
+
+  /**
+   * Starts purging the expired results periodically, on a daemon thread. Does nothing if the retention is disabled.
+   */
+  public synchronized void start() {
+    if (!isEnabled()) {
+      logger.info("Retention of application results is disabled");
+      return;
+    }
+    if (_scheduler != null) {
+      return;
+    }
+    logger.info("Keeping application results for " + _retentionDays + " days, in " + _mode.name().toLowerCase()
+        + " mode");
+    _scheduler = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("dr-el-retention-thread-%d").setDaemon(true).build());
+    _scheduler.scheduleWithFixedDelay(this, 0, _interval, TimeUnit.MILLISECONDS);
+  }
+
+  public synchronized void stop() {
+    if (_scheduler != null) {
+      _scheduler.shutdownNow();
+      _scheduler = null;
+    }
+  }
+
+  @Override
+  public void run() {
+    try {
+      purge(System.currentTimeMillis());
+    } catch (Exception e) {
+      // Keep the schedule, the next run retries
+      logger.error("Failed to purge the expired application results", e);
+    }
+  }
+
+  /**
+   * Removes the results which finished more than the retention before the given time.
+   *
+   * @param now The current time
+   */
+  @VisibleForTesting
+  void purge(long now) {
+    long cutoff = now - _retentionDays * RangePartition.DAY;
+    boolean purged = false;
+    if (_mode == Mode.AUTO) {
+      List<RangePartition> partitions = _purger.getPartitions();
+      if (!partitions.isEmpty()) {
+        _purger.addPartitions(partitions, RangePartition.planAdditions(partitions, now, _partitionsAheadDays));
+        for (RangePartition partition : RangePartition.planDrops(partitions, cutoff)) {
+          _purger.dropPartition(partition);
+          purged = true;
+        }
+      }
+    }
+    // Deletes the rest of the expired results, e.g. those of the partially expired day of a partitioned table
+    if (_purger.deleteBefore(cutoff) > 0) {
+      purged = true;
+    }
+    if (purged) {
+      // The cached responses of the purged results must not outlive them
+      ResponseCache.instance().invalidateAll();
+    }
+  }
+}
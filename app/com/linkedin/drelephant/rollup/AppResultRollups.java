@@ -0,0 +1,219 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.rollup;
+
+import com.avaje.ebean.Ebean;
+import com.avaje.ebean.SqlQuery;
+import com.avaje.ebean.SqlRow;
+import com.avaje.ebean.SqlUpdate;
+import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.util.ReadReplica;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import models.AppResult;
+import org.apache.commons.lang.StringUtils;
+import org.apache.log4j.Logger;
+
+
+/**
+ * Keeps the yarn_app_result_rollup table, which counts the analyzed applications and sums their metrics per hour
+ * and per day, by severity, user, queue, job type and application type.
+ * <p/>
+ * The rollups are updated in the transaction which saves each application result, so the summaries of a range of
+ * time can be read from a number of buckets which depends on the length of the range rather than on the number of
+ * applications in it. See {@link RollupRange} for how a range is split between the rollups and the results.
+ */
+public class AppResultRollups {
+
+  private static final Logger logger = Logger.getLogger(AppResultRollups.class);
+
+  public static final String TABLE_NAME = "yarn_app_result_rollup";
+
+  private static final String KEY_CONDITION = "granularity = :granularity AND bucket_start = :bucketStart"
+      + " AND username = :username AND queue_name = :queueName AND job_type = :jobType AND app_type = :appType"
+      + " AND severity = :severity";
+
+  private static final String UPDATE_SQL = "UPDATE " + TABLE_NAME + " SET num_apps = num_apps + 1,"
+      + " resource_used = resource_used + :resourceUsed, resource_wasted = resource_wasted + :resourceWasted,"
+      + " runtime = runtime + :runtime, total_delay = total_delay + :totalDelay WHERE " + KEY_CONDITION;
+
+  private static final String INSERT_SQL = "INSERT INTO " + TABLE_NAME + " (granularity, bucket_start, username,"
+      + " queue_name, job_type, app_type, severity, num_apps, resource_used, resource_wasted, runtime, total_delay)"
+      + " VALUES (:granularity, :bucketStart, :username, :queueName, :jobType, :appType, :severity, 1,"
+      + " :resourceUsed, :resourceWasted, :runtime, :totalDelay)";
+
+  private AppResultRollups() {
+  }
+
+  /**
+   * Adds an application result to the rollups. This must run in the transaction which saves the result, so that
+   * the rollups and the results stay consistent.
+   *
+   * @param result The application result being saved
+   * @param appType The application type of the result
+   */
+  public static void record(AppResult result, String appType) {
+    for (RollupGranularity granularity : RollupGranularity.values()) {
+      if (updateBucket(UPDATE_SQL, granularity, result, appType) > 0) {
+        continue;
+      }
+      try {
+        updateBucket(INSERT_SQL, granularity, result, appType);
+      } catch (RuntimeException e) {
+        // Another instance may have created the bucket concurrently
+        logger.info("Failed to create rollup bucket, updating it instead: " + e.getMessage());
+        if (updateBucket(UPDATE_SQL, granularity, result, appType) == 0) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the totals of all the applications which finished in [begin, end).
+   *
+   * @param begin The first finish time
+   * @param end The finish time just after the range, or Long.MAX_VALUE for no end
+   * @return The totals
+   */
+  public static RollupTotals getTotals(long begin, long end) {
+    return getTotals(Collections.<String>emptyList(), begin, end, false);
+  }
+
+  /**
+   * Returns the totals of the applications of the given users which finished in [begin, end).
+   * <p/>
+   * The distinct jobs and flows cannot be added up across buckets, so they are counted over the application results
+   * of the whole range, and only if asked for.
+   *
+   * @param usernames The users, or an empty list for all the users
+   * @param begin The first finish time
+   * @param end The finish time just after the range, or Long.MAX_VALUE for no end
+   * @param countExecutions Whether to count the distinct jobs and flows of the applications
+   * @return The totals
+   */
+  public static RollupTotals getTotals(List<String> usernames, long begin, long end, boolean countExecutions) {
+    RollupRange range = RollupRange.split(begin, end);
+    RollupTotals totals = new RollupTotals();
+
+    List<String> bucketConditions = new ArrayList<String>();
+    List<RollupRange.Span> bucketSpans = new ArrayList<RollupRange.Span>();
+    for (RollupGranularity granularity : RollupGranularity.values()) {
+      for (RollupRange.Span span : range.getBucketSpans(granularity)) {
+        int i = bucketSpans.size();
+        bucketConditions.add("(granularity = '" + granularity.name() + "' AND bucket_start >= :begin" + i
+            + " AND bucket_start < :end" + i + ")");
+        bucketSpans.add(span);
+      }
+    }
+    if (!bucketSpans.isEmpty()) {
+      String sql = "SELECT " + severitySums("num_apps") + ", SUM(resource_used) AS resource_used,"
+          + " SUM(resource_wasted) AS resource_wasted, SUM(runtime) AS runtime, SUM(total_delay) AS total_delay FROM "
+          + TABLE_NAME;
+      addTotals(totals, query(sql, bucketConditions, bucketSpans, usernames));
+    }
+
+    List<String> rawConditions = new ArrayList<String>();
+    List<RollupRange.Span> rawSpans = range.getRawSpans();
+    for (int i = 0; i < rawSpans.size(); i++) {
+      rawConditions.add("(finish_time >= :begin" + i + " AND finish_time < :end" + i + ")");
+    }
+    if (!rawSpans.isEmpty()) {
+      String sql = "SELECT " + severitySums("1") + ", SUM(resource_used) AS resource_used,"
+          + " SUM(resource_wasted) AS resource_wasted, SUM(finish_time - start_time) AS runtime,"
+          + " SUM(total_delay) AS total_delay FROM " + AppResult.TABLE.TABLE_NAME;
+      addTotals(totals, query(sql, rawConditions, rawSpans, usernames));
+    }
+
+    if (countExecutions) {
+      String sql = "SELECT COUNT(DISTINCT job_exec_id) AS num_jobs, COUNT(DISTINCT flow_exec_id) AS num_flows FROM "
+          + AppResult.TABLE.TABLE_NAME;
+      SqlRow row = query(sql, Collections.singletonList("(finish_time >= :begin0 AND finish_time < :end0)"),
+          Collections.singletonList(new RollupRange.Span(begin, end)), usernames);
+      if (row != null) {
+        totals.setExecutions(getLong(row, "num_jobs"), getLong(row, "num_flows"));
+      }
+    }
+    return totals;
+  }
+
+  private static int updateBucket(String sql, RollupGranularity granularity, AppResult result, String appType) {
+    SqlUpdate update = Ebean.createSqlUpdate(sql);
+    update.setParameter("granularity", granularity.name());
+    update.setParameter("bucketStart", granularity.floor(result.finishTime));
+    update.setParameter("username", result.username);
+    update.setParameter("queueName", result.queueName == null ? "" : result.queueName);
+    update.setParameter("jobType", result.jobType);
+    update.setParameter("appType", appType);
+    update.setParameter("severity", result.severity.getValue());
+    update.setParameter("resourceUsed", result.resourceUsed);
+    update.setParameter("resourceWasted", result.resourceWasted);
+    update.setParameter("runtime", result.finishTime - result.startTime);
+    update.setParameter("totalDelay", result.totalDelay);
+    return update.execute();
+  }
+
+  private static String severitySums(String value) {
+    List<String> sums = new ArrayList<String>();
+    for (Severity severity : Severity.values()) {
+      sums.add("SUM(CASE WHEN severity = " + severity.getValue() + " THEN " + value + " ELSE 0 END) AS apps_"
+          + severity.getValue());
+    }
+    return StringUtils.join(sums, ", ");
+  }
+
+  private static SqlRow query(String select, List<String> spanConditions, List<RollupRange.Span> spans,
+      List<String> usernames) {
+    StringBuilder sql = new StringBuilder(select);
+    sql.append(" WHERE (").append(StringUtils.join(spanConditions, " OR ")).append(")");
+    if (!usernames.isEmpty()) {
+      List<String> userParams = new ArrayList<String>();
+      for (int i = 0; i < usernames.size(); i++) {
+        userParams.add(":user" + i);
+      }
+      sql.append(" AND username IN (").append(StringUtils.join(userParams, ", ")).append(")");
+    }
+
+    SqlQuery query = ReadReplica.server().createSqlQuery(sql.toString());
+    for (int i = 0; i < spans.size(); i++) {
+      query.setParameter("begin" + i, spans.get(i).getBegin());
+      query.setParameter("end" + i, spans.get(i).getEnd());
+    }
+    for (int i = 0; i < usernames.size(); i++) {
+      query.setParameter("user" + i, usernames.get(i));
+    }
+    return query.findUnique();
+  }
+
+  private static void addTotals(RollupTotals totals, SqlRow row) {
+    if (row == null) {
+      return;
+    }
+    for (Severity severity : Severity.values()) {
+      totals.addApps(severity, getLong(row, "apps_" + severity.getValue()));
+    }
+    totals.add(getLong(row, "resource_used"), getLong(row, "resource_wasted"), getLong(row, "runtime"),
+        getLong(row, "total_delay"));
+  }
+
+  private static long getLong(SqlRow row, String key) {
+    // Sums over no rows are null
+    Long value = row.getLong(key);
+    return value == null ? 0 : value;
+  }
+}
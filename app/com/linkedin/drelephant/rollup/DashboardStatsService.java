@@ -0,0 +1,128 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.rollup;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.log4j.Logger;
+
+
+/**
+ * Serves the counts of the applications analyzed in the last day, shared by the dashboards and the metrics.
+ * <p/>
+ * The counts are read with a single aggregate over the rollups and cached. Once the cached counts are older than the
+ * refresh interval they are still served while one background refresh replaces them, so only the first request
+ * waits for the database and at most one query runs per refresh interval, however many requests come in.
+ */
+public class DashboardStatsService {
+
+  private static final Logger logger = Logger.getLogger(DashboardStatsService.class);
+
+  private static final long DAY = 24 * 60 * 60 * 1000;
+  private static final long REFRESH_INTERVAL = 60 * 1000;
+
+  private static final DashboardStatsService INSTANCE = new DashboardStatsService(new RollupSource(),
+      Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder().setNameFormat("dr-el-dashboard-stats-%d").setDaemon(true).build()),
+      REFRESH_INTERVAL);
+
+  /**
+   * Where the counts are read from.
+   */
+  interface Source {
+    /**
+     * @return The totals of the applications which finished in [begin, end)
+     */
+    RollupTotals load(long begin, long end);
+  }
+
+  private static class Snapshot {
+    private final RollupTotals _totals;
+    private final long _loadTime;
+
+    Snapshot(RollupTotals totals, long loadTime) {
+      _totals = totals;
+      _loadTime = loadTime;
+    }
+  }
+
+  private final Source _source;
+  private final Executor _executor;
+  private final long _refreshInterval;
+  private final AtomicBoolean _refreshing = new AtomicBoolean(false);
+  private volatile Snapshot _snapshot;
+
+  DashboardStatsService(Source source, Executor executor, long refreshInterval) {
+    _source = source;
+    _executor = executor;
+    _refreshInterval = refreshInterval;
+  }
+
+  public static DashboardStatsService instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the totals of the applications which finished in the last day, as of the last refresh.
+   *
+   * @return The totals
+   */
+  public RollupTotals getLastDayTotals() {
+    Snapshot snapshot = _snapshot;
+    if (snapshot == null) {
+      synchronized (this) {
+        snapshot = _snapshot;
+        if (snapshot == null) {
+          snapshot = load();
+          _snapshot = snapshot;
+        }
+      }
+    } else if (currentTime() - snapshot._loadTime > _refreshInterval && _refreshing.compareAndSet(false, true)) {
+      _executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            _snapshot = load();
+          } catch (RuntimeException e) {
+            logger.error("Failed to refresh the dashboard counts, serving the previous ones", e);
+          } finally {
+            _refreshing.set(false);
+          }
+        }
+      });
+    }
+    return snapshot._totals;
+  }
+
+  long currentTime() {
+    return System.currentTimeMillis();
+  }
+
+  private Snapshot load() {
+    long now = currentTime();
+    return new Snapshot(_source.load(now - DAY + 1, Long.MAX_VALUE), now);
+  }
+
+  private static class RollupSource implements Source {
+    @Override
+    public RollupTotals load(long begin, long end) {
+      return AppResultRollups.getTotals(begin, end);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.rollup;
+
+/**
+ * The sizes of the time buckets the application results are rolled up in. Buckets are aligned on multiples of their
+ * size since the epoch, so day buckets start at midnight UTC.
+ */
+public enum RollupGranularity {
+  HOUR(60 * 60 * 1000L),
+  DAY(24 * 60 * 60 * 1000L);
+
+  private final long _millis;
+
+  RollupGranularity(long millis) {
+    _millis = millis;
+  }
+
+  public long getMillis() {
+    return _millis;
+  }
+
+  /**
+   * @return The start of the bucket containing the given time
+   */
+  public long floor(long time) {
+    return time - time % _millis;
+  }
+
+  /**
+   * @return The start of the first bucket that starts at or after the given time
+   */
+  public long ceil(long time) {
+    long floor = floor(time);
+    return floor == time ? time : floor + _millis;
+  }
+}
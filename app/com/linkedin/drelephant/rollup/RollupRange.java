@@ -0,0 +1,146 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.rollup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Splits a range of finish times into the spans that can be read from the day and hour rollups, and the spans at
+ * the edges which are not aligned on an hour and have to be read from the application results.
+ * <p/>
+ * The edges are each shorter than an hour, so reading a range costs a number of rollup buckets plus at most two
+ * hours of application results, whatever the length of the range.
+ */
+public class RollupRange {
+
+  /**
+   * A span of time, [begin, end) in epoch millis.
+   */
+  public static class Span {
+    private final long _begin;
+    private final long _end;
+
+    Span(long begin, long end) {
+      _begin = begin;
+      _end = end;
+    }
+
+    public long getBegin() {
+      return _begin;
+    }
+
+    public long getEnd() {
+      return _end;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Span)) {
+        return false;
+      }
+      Span span = (Span) other;
+      return _begin == span._begin && _end == span._end;
+    }
+
+    @Override
+    public int hashCode() {
+      return (int) (_begin ^ (_begin >>> 32)) * 31 + (int) (_end ^ (_end >>> 32));
+    }
+
+    @Override
+    public String toString() {
+      return "[" + _begin + ", " + _end + ")";
+    }
+  }
+
+  private final List<Span> _rawSpans = new ArrayList<Span>(2);
+  private final Map<RollupGranularity, List<Span>> _bucketSpans =
+      new EnumMap<RollupGranularity, List<Span>>(RollupGranularity.class);
+
+  private RollupRange() {
+    for (RollupGranularity granularity : RollupGranularity.values()) {
+      _bucketSpans.put(granularity, new ArrayList<Span>(2));
+    }
+  }
+
+  /**
+   * Splits the range [begin, end) of finish times. An end of Long.MAX_VALUE leaves the range open, in which case it
+   * is read from the rollups up to the latest bucket.
+   *
+   * @param begin The first finish time in the range
+   * @param end The finish time just after the range, or Long.MAX_VALUE
+   * @return The range split into rollup and raw spans
+   */
+  public static RollupRange split(long begin, long end) {
+    RollupRange range = new RollupRange();
+    begin = Math.max(begin, 0);
+    if (begin >= end) {
+      return range;
+    }
+
+    long hourBegin = RollupGranularity.HOUR.ceil(begin);
+    long hourEnd = end == Long.MAX_VALUE ? end : RollupGranularity.HOUR.floor(end);
+    if (hourBegin >= hourEnd) {
+      range.addRaw(begin, end);
+      return range;
+    }
+    range.addRaw(begin, hourBegin);
+    range.addRaw(hourEnd, end);
+
+    long dayBegin = RollupGranularity.DAY.ceil(hourBegin);
+    long dayEnd = RollupGranularity.DAY.floor(hourEnd);
+    if (dayBegin >= dayEnd) {
+      range.addBuckets(RollupGranularity.HOUR, hourBegin, hourEnd);
+      return range;
+    }
+    range.addBuckets(RollupGranularity.HOUR, hourBegin, dayBegin);
+    range.addBuckets(RollupGranularity.DAY, dayBegin, dayEnd);
+    range.addBuckets(RollupGranularity.HOUR, dayEnd, hourEnd);
+    return range;
+  }
+
+  /**
+   * @return The spans to read from the application results
+   */
+  public List<Span> getRawSpans() {
+    return Collections.unmodifiableList(_rawSpans);
+  }
+
+  /**
+   * @return The spans of bucket start times to read from the rollups of the given granularity
+   */
+  public List<Span> getBucketSpans(RollupGranularity granularity) {
+    return Collections.unmodifiableList(_bucketSpans.get(granularity));
+  }
+
+  private void addRaw(long begin, long end) {
+    if (begin < end) {
+      _rawSpans.add(new Span(begin, end));
+    }
+  }
+
+  private void addBuckets(RollupGranularity granularity, long begin, long end) {
+    if (begin < end) {
+      _bucketSpans.get(granularity).add(new Span(begin, end));
+    }
+  }
+}
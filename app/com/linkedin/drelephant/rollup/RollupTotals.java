@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.rollup;
+
+import com.linkedin.drelephant.analysis.Severity;
+
+
+/**
+ * The totals of the applications which finished in a range of time.
+ */
+public class RollupTotals {
+
+  private final long[] _numAppsBySeverity = new long[Severity.values().length];
+  private long _numJobs;
+  private long _numFlows;
+  private long _resourceUsed;
+  private long _resourceWasted;
+  private long _runtime;
+  private long _totalDelay;
+
+  /**
+   * @return The number of applications
+   */
+  public long getNumApps() {
+    long numApps = 0;
+    for (long count : _numAppsBySeverity) {
+      numApps += count;
+    }
+    return numApps;
+  }
+
+  /**
+   * @return The number of applications of the given severity
+   */
+  public long getNumApps(Severity severity) {
+    return _numAppsBySeverity[severity.getValue()];
+  }
+
+  /**
+   * @return The number of distinct job executions, if they were counted
+   */
+  public long getNumJobs() {
+    return _numJobs;
+  }
+
+  /**
+   * @return The number of distinct flow executions, if they were counted
+   */
+  public long getNumFlows() {
+    return _numFlows;
+  }
+
+  public long getResourceUsed() {
+    return _resourceUsed;
+  }
+
+  public long getResourceWasted() {
+    return _resourceWasted;
+  }
+
+  /**
+   * @return The sum of the run times of the applications in millis
+   */
+  public long getRuntime() {
+    return _runtime;
+  }
+
+  public long getTotalDelay() {
+    return _totalDelay;
+  }
+
+  void addApps(Severity severity, long numApps) {
+    _numAppsBySeverity[severity.getValue()] += numApps;
+  }
+
+  void add(long resourceUsed, long resourceWasted, long runtime, long totalDelay) {
+    _resourceUsed += resourceUsed;
+    _resourceWasted += resourceWasted;
+    _runtime += runtime;
+    _totalDelay += totalDelay;
+  }
+
+  void setExecutions(long numJobs, long numFlows) {
+    _numJobs = numJobs;
+    _numFlows = numFlows;
+  }
+}
@@ -114,7 +114,7 @@ class SparkMetricsAggregator(private val aggregatorConfigurationData: Aggregator
   }
 
   private def totalExecutorTaskTimeMillisOf(data: SparkApplicationData): BigInt = {
-    data.executorSummaries.map { executorSummary => BigInt(executorSummary.totalDuration) }.sum
+    BigInt(data.columns.totalDuration)
   }
 }
 
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.spark.data
+
+import com.linkedin.drelephant.math.QuantileSketch
+import com.linkedin.drelephant.spark.fetchers.statusapiv1.ExecutorSummary
+
+
+/**
+  * Totals and approximate distributions of the executor metrics of a Spark app, folded one executor at a time.
+  *
+  * Apps using dynamic allocation can go through tens of thousands of executors. Instead of keeping every
+  * ExecutorSummary, the fetcher can feed them into this aggregate as they are parsed, so that the memory needed per app
+  * does not depend on the number of executors. The distributions are kept in quantile sketches, and are exact as long
+  * as the app has no more than sketchK executors. The executors are only added through add, the totals are read-only.
+  */
+class ExecutorSummaryAggregate(sketchK: Int = QuantileSketch.DEFAULT_K) {
+  import SparkApplicationColumns.DRIVER_ID
+
+  private var _numExecutors: Int = 0
+  private var _totalMaxMemory: Long = 0L
+  private var _totalMemoryUsed: Long = 0L
+  private var _totalDuration: Long = 0L
+  private var _totalDurationExcludingDriver: Long = 0L
+  private var _totalGCTimeExcludingDriver: Long = 0L
+
+  val memoryUsed: QuantileSketch = new QuantileSketch(sketchK)
+  val totalDurations: QuantileSketch = new QuantileSketch(sketchK)
+  val totalInputBytes: QuantileSketch = new QuantileSketch(sketchK)
+  val totalShuffleRead: QuantileSketch = new QuantileSketch(sketchK)
+  val totalShuffleWrite: QuantileSketch = new QuantileSketch(sketchK)
+  val totalGCTimes: QuantileSketch = new QuantileSketch(sketchK)
+
+  def numExecutors: Int = _numExecutors
+
+  def totalMaxMemory: Long = _totalMaxMemory
+
+  def totalMemoryUsed: Long = _totalMemoryUsed
+
+  def totalDuration: Long = _totalDuration
+
+  def totalDurationExcludingDriver: Long = _totalDurationExcludingDriver
+
+  def totalGCTimeExcludingDriver: Long = _totalGCTimeExcludingDriver
+
+  def add(executorSummary: ExecutorSummary): Unit = {
+    _numExecutors += 1
+    _totalMaxMemory += executorSummary.maxMemory
+    _totalMemoryUsed += executorSummary.memoryUsed
+    _totalDuration += executorSummary.totalDuration
+    if (executorSummary.id != DRIVER_ID) {
+      _totalDurationExcludingDriver += executorSummary.totalDuration
+      _totalGCTimeExcludingDriver += executorSummary.totalGCTime
+    }
+    memoryUsed.add(executorSummary.memoryUsed)
+    totalDurations.add(executorSummary.totalDuration)
+    totalInputBytes.add(executorSummary.totalInputBytes)
+    totalShuffleRead.add(executorSummary.totalShuffleRead)
+    totalShuffleWrite.add(executorSummary.totalShuffleWrite)
+    totalGCTimes.add(executorSummary.totalGCTime)
+  }
+}
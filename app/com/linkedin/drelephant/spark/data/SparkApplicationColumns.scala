@@ -0,0 +1,165 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.spark.data
+
+import com.linkedin.drelephant.spark.fetchers.statusapiv1.{ExecutorSummary, StageData, StageStatus}
+
+
+/**
+  * A columnar view of a Spark app's stages and executors, built once per app.
+  *
+  * Each metric used by the Spark heuristics is copied into a primitive array, indexed the same way as stages and
+  * executors, so that the heuristics can evaluate an app with single loops over primitive values instead of repeated
+  * passes over Seq[StageData] and Seq[ExecutorSummary].
+  *
+  * If the executors were aggregated while fetching, executorSummaries is empty: the executor columns are empty as well
+  * and the executor totals are read from the aggregate.
+  */
+class SparkApplicationColumns(
+  stageDatas: Seq[StageData],
+  executorSummaries: Seq[ExecutorSummary],
+  executorSummaryAggregate: Option[ExecutorSummaryAggregate] = None
+) {
+  import SparkApplicationColumns._
+
+  /** The stages, indexed the same way as the stage columns. */
+  val stages: IndexedSeq[StageData] = stageDatas.toIndexedSeq
+
+  val numStages: Int = stages.length
+
+  val stageStatuses: Array[StageStatus] = new Array[StageStatus](numStages)
+  val stageNumCompleteTasks: Array[Int] = new Array[Int](numStages)
+  val stageNumFailedTasks: Array[Int] = new Array[Int](numStages)
+  val stageExecutorRunTimes: Array[Long] = new Array[Long](numStages)
+
+  private val stageTotals: StageTotals = fillStageColumns()
+
+  /** The number of stages with the status COMPLETE. */
+  val numCompletedStages: Int = stageTotals.numCompleted
+
+  /** The number of stages with the status FAILED. */
+  val numFailedStages: Int = stageTotals.numFailed
+
+  /** The executors, including the driver, indexed the same way as the executor columns. */
+  val executors: IndexedSeq[ExecutorSummary] = executorSummaries.toIndexedSeq
+
+  /** The number of executors, including the driver. */
+  val numExecutors: Int = executorSummaryAggregate.map(_.numExecutors).getOrElse(executors.length)
+
+  val executorIsDriver: Array[Boolean] = new Array[Boolean](executors.length)
+  val executorMaxMemory: Array[Long] = new Array[Long](executors.length)
+  val executorMemoryUsed: Array[Long] = new Array[Long](executors.length)
+  val executorTotalDurations: Array[Long] = new Array[Long](executors.length)
+  val executorTotalInputBytes: Array[Long] = new Array[Long](executors.length)
+  val executorTotalShuffleRead: Array[Long] = new Array[Long](executors.length)
+  val executorTotalShuffleWrite: Array[Long] = new Array[Long](executors.length)
+  val executorTotalGCTimes: Array[Long] = new Array[Long](executors.length)
+
+  private val executorTotals: ExecutorTotals = executorSummaryAggregate match {
+    case Some(aggregate) => ExecutorTotals(aggregate)
+    case None => fillExecutorColumns()
+  }
+
+  /** The sum of maxMemory over all the executors, including the driver. */
+  val totalMaxMemory: Long = executorTotals.maxMemory
+
+  /** The sum of memoryUsed over all the executors, including the driver. */
+  val totalMemoryUsed: Long = executorTotals.memoryUsed
+
+  /** The sum of totalDuration over all the executors, including the driver. */
+  val totalDuration: Long = executorTotals.duration
+
+  /** The sum of totalDuration over the executors, excluding the driver. */
+  val totalDurationExcludingDriver: Long = executorTotals.durationExcludingDriver
+
+  /** The sum of totalGCTime over the executors, excluding the driver. */
+  val totalGCTimeExcludingDriver: Long = executorTotals.gcTimeExcludingDriver
+
+  private def fillStageColumns(): StageTotals = {
+    val totals = new StageTotals()
+    var i = 0
+    while (i < numStages) {
+      val stageData = stages(i)
+      stageStatuses(i) = stageData.status
+      stageNumCompleteTasks(i) = stageData.numCompleteTasks
+      stageNumFailedTasks(i) = stageData.numFailedTasks
+      stageExecutorRunTimes(i) = stageData.executorRunTime
+      if (stageData.status == StageStatus.COMPLETE) {
+        totals.numCompleted += 1
+      } else if (stageData.status == StageStatus.FAILED) {
+        totals.numFailed += 1
+      }
+      i += 1
+    }
+    totals
+  }
+
+  private def fillExecutorColumns(): ExecutorTotals = {
+    val totals = new ExecutorTotals()
+    var i = 0
+    while (i < executors.length) {
+      val executorSummary = executors(i)
+      val isDriver = executorSummary.id == DRIVER_ID
+      executorIsDriver(i) = isDriver
+      executorMaxMemory(i) = executorSummary.maxMemory
+      executorMemoryUsed(i) = executorSummary.memoryUsed
+      executorTotalDurations(i) = executorSummary.totalDuration
+      executorTotalInputBytes(i) = executorSummary.totalInputBytes
+      executorTotalShuffleRead(i) = executorSummary.totalShuffleRead
+      executorTotalShuffleWrite(i) = executorSummary.totalShuffleWrite
+      executorTotalGCTimes(i) = executorSummary.totalGCTime
+      totals.maxMemory += executorSummary.maxMemory
+      totals.memoryUsed += executorSummary.memoryUsed
+      totals.duration += executorSummary.totalDuration
+      if (!isDriver) {
+        totals.durationExcludingDriver += executorSummary.totalDuration
+        totals.gcTimeExcludingDriver += executorSummary.totalGCTime
+      }
+      i += 1
+    }
+    totals
+  }
+}
+
+object SparkApplicationColumns {
+  val DRIVER_ID = "driver"
+
+  private class StageTotals {
+    var numCompleted: Int = 0
+    var numFailed: Int = 0
+  }
+
+  private class ExecutorTotals {
+    var maxMemory: Long = 0L
+    var memoryUsed: Long = 0L
+    var duration: Long = 0L
+    var durationExcludingDriver: Long = 0L
+    var gcTimeExcludingDriver: Long = 0L
+  }
+
+  private object ExecutorTotals {
+    def apply(aggregate: ExecutorSummaryAggregate): ExecutorTotals = {
+      val totals = new ExecutorTotals()
+      totals.maxMemory = aggregate.totalMaxMemory
+      totals.memoryUsed = aggregate.totalMemoryUsed
+      totals.duration = aggregate.totalDuration
+      totals.durationExcludingDriver = aggregate.totalDurationExcludingDriver
+      totals.gcTimeExcludingDriver = aggregate.totalGCTimeExcludingDriver
+      totals
+    }
+  }
+}
@@ -18,10 +18,9 @@ package com.linkedin.drelephant.spark.data
 
 import java.util.Properties
 
-import scala.collection.JavaConverters
-
 import com.linkedin.drelephant.analysis.{ApplicationType, HadoopApplicationData}
 import com.linkedin.drelephant.spark.fetchers.statusapiv1.{ApplicationInfo, ExecutorSummary, JobData, StageData}
+import com.linkedin.drelephant.util.MapBackedProperties
 
 
 case class SparkApplicationData(
@@ -30,18 +29,20 @@ case class SparkApplicationData(
   applicationInfo: ApplicationInfo,
   jobDatas: Seq[JobData],
   stageDatas: Seq[StageData],
-  executorSummaries: Seq[ExecutorSummary]
+  executorSummaries: Seq[ExecutorSummary],
+  executorSummaryAggregate: Option[ExecutorSummaryAggregate] = None
 ) extends HadoopApplicationData {
   import SparkApplicationData._
-  import JavaConverters._
+
+  /** A columnar view of the stages and executors, shared by all the heuristics which run on this app. */
+  lazy val columns: SparkApplicationColumns = new SparkApplicationColumns(stageDatas, executorSummaries, executorSummaryAggregate)
 
   override def getApplicationType(): ApplicationType = APPLICATION_TYPE
 
-  override def getConf(): Properties = {
-    val properties = new Properties()
-    properties.putAll(appConfigurationProperties.asJava)
-    properties
-  }
+  // Built once and shared by all the callers. The view reads straight from appConfigurationProperties.
+  @transient private lazy val conf: Properties = new MapBackedProperties(appConfigurationProperties)
+
+  override def getConf(): Properties = conf
 
   override def getAppId(): String = appId
 
@@ -65,6 +66,7 @@ object SparkApplicationData {
     val jobDatas = restDerivedData.jobDatas
     val stageDatas = restDerivedData.stageDatas
     val executorSummaries = restDerivedData.executorSummaries
-    apply(appId, appConfigurationProperties, applicationInfo, jobDatas, stageDatas, executorSummaries)
+    apply(appId, appConfigurationProperties, applicationInfo, jobDatas, stageDatas, executorSummaries,
+      restDerivedData.executorSummaryAggregate)
   }
 }
@@ -24,4 +24,5 @@ case class SparkRestDerivedData(
   jobDatas: Seq[JobData],
   stageDatas: Seq[StageData],
   executorSummaries: Seq[ExecutorSummary],
-  private[spark] val logDerivedData: Option[SparkLogDerivedData] = None)
+  private[spark] val logDerivedData: Option[SparkLogDerivedData] = None,
+  executorSummaryAggregate: Option[ExecutorSummaryAggregate] = None)
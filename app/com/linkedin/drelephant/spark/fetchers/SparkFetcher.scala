@@ -17,12 +17,15 @@
 package com.linkedin.drelephant.spark.fetchers
 
 import java.util
-import java.util.concurrent.TimeoutException
+import java.util.concurrent.{Executors, TimeoutException}
 
+import scala.collection.mutable
 import scala.concurrent.{Await, ExecutionContext, Future}
-import scala.concurrent.duration.{Duration, SECONDS}
+import scala.concurrent.duration.{Duration, MILLISECONDS, SECONDS}
 import scala.util.{Failure, Success, Try}
-import com.linkedin.drelephant.analysis.{AnalyticJob, ElephantBackfillFetcher, ElephantFetcher}
+import com.google.common.util.concurrent.ThreadFactoryBuilder
+import com.linkedin.drelephant.analysis.{AnalyticJob, ElephantFetcher, ElephantIncrementalBackfillFetcher}
+import com.linkedin.drelephant.analysis.ElephantIncrementalBackfillFetcher.BackfillSliceHandler
 import com.linkedin.drelephant.configurations.fetcher.FetcherConfigurationData
 import com.linkedin.drelephant.spark.data.{SparkApplicationData, SparkRestDerivedData}
 import com.linkedin.drelephant.spark.fetchers.statusapiv1.ApplicationAttemptInfo
@@ -36,7 +39,7 @@ import org.apache.spark.SparkConf
   * A fetcher that gets Spark-related data from a combination of the Spark monitoring REST API and Spark event logs.
   */
 class SparkFetcher(fetcherConfigurationData: FetcherConfigurationData)
-  extends ElephantFetcher[SparkApplicationData] with ElephantBackfillFetcher {
+  extends ElephantFetcher[SparkApplicationData] with ElephantIncrementalBackfillFetcher {
 
   import SparkFetcher._
   import ExecutionContext.Implicits.global
@@ -71,6 +74,24 @@ class SparkFetcher(fetcherConfigurationData: FetcherConfigurationData)
   private[fetchers] lazy val shouldProcessLogsLocally = (eventLogSource == EventLogSource.Rest) &&
     Option(fetcherConfigurationData.getParamMap.get("should_process_logs_locally")).exists(_.toLowerCase == "true")
 
+  private[fetchers] lazy val aggregateExecutors: Boolean =
+    Option(fetcherConfigurationData.getParamMap.get(AGGREGATE_EXECUTORS_XML_FIELD)).exists(_.toBoolean)
+
+  private[fetchers] lazy val readAllExecutors: Boolean =
+    Option(fetcherConfigurationData.getParamMap.get(READ_ALL_EXECUTORS_XML_FIELD)).exists(_.toBoolean)
+
+  private[fetchers] lazy val backfillSliceIntervalMs: Long =
+    Option(fetcherConfigurationData.getParamMap.get(BACKFILL_SLICE_INTERVAL_XML_FIELD)).map(_.toLong)
+      .filter(_ > 0).getOrElse(DEFAULT_BACKFILL_SLICE_INTERVAL_MS)
+
+  private[fetchers] lazy val backfillParallelism: Int =
+    Option(fetcherConfigurationData.getParamMap.get(BACKFILL_PARALLELISM_XML_FIELD)).map(_.toInt)
+      .filter(_ > 0).getOrElse(DEFAULT_BACKFILL_PARALLELISM)
+
+  private[fetchers] lazy val backfillSliceTimeout: Duration =
+    Option(fetcherConfigurationData.getParamMap.get(BACKFILL_SLICE_TIMEOUT_XML_FIELD)).map(_.toLong)
+      .filter(_ > 0).map(Duration(_, MILLISECONDS)).getOrElse(DEFAULT_BACKFILL_SLICE_TIMEOUT)
+
   private[fetchers] lazy val sparkRestClient: SparkRestClient = new SparkRestClient(sparkConf)
 
   private[fetchers] lazy val sparkLogClient: SparkLogClient = {
@@ -113,7 +134,8 @@ class SparkFetcher(fetcherConfigurationData: FetcherConfigurationData)
 
   private def doFetchDataUsingRestAndLogClients(analyticJob: AnalyticJob): Future[SparkApplicationData] = Future {
     val appId = analyticJob.getAppId
-    val restDerivedData = Await.result(sparkRestClient.fetchData(appId, eventLogSource == EventLogSource.Rest), DEFAULT_TIMEOUT)
+    val restDerivedData = Await.result(sparkRestClient.fetchData(appId, eventLogSource == EventLogSource.Rest,
+      aggregateExecutors, readAllExecutors), DEFAULT_TIMEOUT)
     val lastAttemptInfo = restDerivedData.applicationInfo.attempts.maxBy {
       _.startTime
     }
@@ -159,15 +181,91 @@ class SparkFetcher(fetcherConfigurationData: FetcherConfigurationData)
     */
   override def fetchJobsForBackfill(startTime: Long, endTime: Long): util.List[AnalyticJob] = {
     val list = new util.ArrayList[AnalyticJob]()
-    sparkRestClient.fetchCompletedApplicationsData(startTime, endTime).foreach(
+    fetchJobsForBackfill(startTime, endTime, new BackfillSliceHandler {
+      override def onSlice(sliceStartTime: Long, sliceEndTime: Long, jobs: util.List[AnalyticJob]): Unit =
+        list.addAll(jobs)
+    })
+    list
+  }
+
+  /**
+    * Fetches the jobs to be backfilled by splitting the range into slices of backfillSliceIntervalMs. Upto
+    * backfillParallelism slices are requested from SHS at the same time, but slices are handed over to the handler
+    * strictly in time order, so only the slices in flight are held in memory. The slices are fetched on a pool of their
+    * own, which is shut down when the backfill ends, so a slice failing or timing out also cancels the ones in flight.
+    *
+    * @param startTime Start time from when jobs have to be backfilled.
+    * @param endTime   End time upto which jobs can be backfilled.
+    * @param handler   Handler called for each slice, in ascending time order.
+    * @throws Exception
+    */
+  override def fetchJobsForBackfill(startTime: Long, endTime: Long, handler: BackfillSliceHandler): Unit = {
+    val pendingSlices = backfillSlices(startTime, endTime).iterator
+    val inFlightSlices = mutable.Queue[(BackfillSlice, Future[util.List[AnalyticJob]])]()
+    // No more than backfillParallelism slices are in flight, so the pool never queues any.
+    val sliceExecutor = Executors.newFixedThreadPool(backfillParallelism,
+      new ThreadFactoryBuilder().setNameFormat("dr-el-spark-backfill-%d").setDaemon(true).build())
+    val sliceExecutionContext = ExecutionContext.fromExecutorService(sliceExecutor)
+
+    def fetchNextSlice(): Unit = {
+      if (pendingSlices.hasNext) {
+        val slice = pendingSlices.next()
+        inFlightSlices.enqueue((slice, Future { fetchBackfillSlice(slice) }(sliceExecutionContext)))
+      }
+    }
+
+    try {
+      (1 to backfillParallelism).foreach(_ => fetchNextSlice())
+      while (inFlightSlices.nonEmpty) {
+        val (slice, futureJobs) = inFlightSlices.dequeue()
+        val jobs = Await.result(futureJobs, backfillSliceTimeout)
+        fetchNextSlice()
+        logger.info(s"Fetched ${jobs.size} Spark jobs for backfill between ${slice.startTime} and ${slice.endTime}")
+        handler.onSlice(slice.startTime, slice.endTime, jobs)
+      }
+    } finally {
+      if (inFlightSlices.nonEmpty) {
+        logger.warn(s"Cancelling ${inFlightSlices.size} backfill slices still in flight")
+      }
+      sliceExecutor.shutdownNow()
+    }
+  }
+
+  private[fetchers] def backfillSlices(startTime: Long, endTime: Long): Seq[BackfillSlice] = {
+    if (endTime <= startTime) {
+      Seq(BackfillSlice(startTime, endTime, isLast = true))
+    } else {
+      val sliceStartTimes = startTime until endTime by backfillSliceIntervalMs
+      sliceStartTimes.map { sliceStartTime =>
+        val sliceEndTime = math.min(sliceStartTime + backfillSliceIntervalMs, endTime)
+        BackfillSlice(sliceStartTime, sliceEndTime, isLast = sliceEndTime == endTime)
+      }
+    }
+  }
+
+  private def fetchBackfillSlice(slice: BackfillSlice): util.List[AnalyticJob] = {
+    // SHS treats both the bounds as inclusive. Every slice, except the last one, excludes its end time so that it is
+    // not requested twice.
+    val maxEndTime = if (slice.isLast) slice.endTime else slice.endTime - 1
+    val jobs = new util.ArrayList[AnalyticJob]()
+    sparkRestClient.fetchCompletedApplicationsData(slice.startTime, maxEndTime).foreach(
         appInfo => {
           val lastAttemptInfo = appInfo.attempts.maxBy {
             _.endTime
           }
-          list.add(new AnalyticJob().setAppId(appInfo.id).setFinishTime(lastAttemptInfo.endTime.getTime).
-            setUser(lastAttemptInfo.sparkUser).setName(appInfo.name))
+          val finishTime = lastAttemptInfo.endTime.getTime
+          // An app is returned for every slice in which any of its attempts ended. Only keep it in the slice in which
+          // its last attempt ended.
+          if (slice.isLast || finishTime < slice.endTime) {
+            jobs.add(new AnalyticJob().setAppId(appInfo.id).setFinishTime(finishTime).
+              setUser(lastAttemptInfo.sparkUser).setName(appInfo.name))
+          }
         })
-    list
+    util.Collections.sort(jobs, new util.Comparator[AnalyticJob] {
+      override def compare(job1: AnalyticJob, job2: AnalyticJob): Int =
+        java.lang.Long.compare(job1.getFinishTime, job2.getFinishTime)
+    })
+    jobs
   }
 }
 
@@ -191,4 +289,15 @@ object SparkFetcher {
   val SPARK_EVENT_LOG_ENABLED_KEY = "spark.eventLog.enabled"
   val DEFAULT_TIMEOUT = Duration(5, SECONDS)
   val LOG_LOCATION_URI_XML_FIELD = "event_log_location_uri"
+  val AGGREGATE_EXECUTORS_XML_FIELD = "aggregate_executors"
+  val READ_ALL_EXECUTORS_XML_FIELD = "read_all_executors"
+  val BACKFILL_SLICE_INTERVAL_XML_FIELD = "backfill_slice_interval_in_ms"
+  val BACKFILL_PARALLELISM_XML_FIELD = "backfill_parallelism"
+  val BACKFILL_SLICE_TIMEOUT_XML_FIELD = "backfill_slice_timeout_in_ms"
+  val DEFAULT_BACKFILL_SLICE_INTERVAL_MS = 60 * 60 * 1000L
+  val DEFAULT_BACKFILL_PARALLELISM = 4
+  val DEFAULT_BACKFILL_SLICE_TIMEOUT = Duration(60, SECONDS)
+
+  /** A time slice of the backfill range. Apps are fetched from SHS one slice at a time. */
+  case class BackfillSlice(startTime: Long, endTime: Long, isLast: Boolean)
 }
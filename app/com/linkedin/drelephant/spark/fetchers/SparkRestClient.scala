@@ -27,14 +27,16 @@ import org.apache.spark.deploy.history.SparkDataCollection
 
 import scala.concurrent.{Await, ExecutionContext, Future}
 import scala.util.control.NonFatal
+import com.fasterxml.jackson.core.JsonToken
 import com.fasterxml.jackson.databind.{DeserializationFeature, ObjectMapper}
 import com.fasterxml.jackson.module.scala.DefaultScalaModule
 import com.fasterxml.jackson.module.scala.experimental.ScalaObjectMapper
 import com.linkedin.drelephant.analysis.AnalyticJob
-import com.linkedin.drelephant.spark.data.{SparkApplicationData, SparkLogDerivedData, SparkRestDerivedData}
+import com.linkedin.drelephant.spark.data.{ExecutorSummaryAggregate, SparkApplicationData, SparkLogDerivedData, SparkRestDerivedData}
 import com.linkedin.drelephant.spark.fetchers.statusapiv1.{ApplicationInfo, ExecutorSummary, JobData, StageData}
 import com.linkedin.drelephant.spark.fetchers.statusapiv1.{ApplicationInfoImpl, ExecutorSummaryImpl, JobDataImpl, StageDataImpl}
 import com.linkedin.drelephant.util.SparkUtils
+import javax.ws.rs.NotFoundException
 import javax.ws.rs.client.{Client, ClientBuilder, WebTarget}
 import javax.ws.rs.core.MediaType
 import org.apache.log4j.Logger
@@ -100,7 +102,18 @@ class SparkRestClient(sparkConf: SparkConf) {
     }
   }
 
-  def fetchData(appId: String, fetchLogs: Boolean = false)(
+  /**
+    * Fetches the app's data from the REST API.
+    *
+    * @param appId The application id.
+    * @param fetchLogs Whether to fetch the eventlogs through the REST API as well.
+    * @param aggregateExecutors Whether to fold the executor summaries into an ExecutorSummaryAggregate while parsing,
+    *                           instead of keeping all of them. Used for apps with a very large number of executors.
+    * @param allExecutors Whether to read the executors from allexecutors, which also lists the executors removed by
+    *                     dynamic allocation, instead of executors. Applies whether the executors are aggregated or not.
+    */
+  def fetchData(appId: String, fetchLogs: Boolean = false, aggregateExecutors: Boolean = false,
+    allExecutors: Boolean = false)(
     implicit ec: ExecutionContext
   ): Future[SparkRestDerivedData] = {
     val (applicationInfo, attemptTarget) = getApplicationMetaData(appId)
@@ -113,8 +126,13 @@ class SparkRestClient(sparkConf: SparkConf) {
         getStageDatas(attemptTarget)
       }
       val futureExecutorSummaries = Future {
-        getExecutorSummaries(attemptTarget)
+        if (aggregateExecutors) Seq.empty else withExecutorsTarget(attemptTarget, allExecutors)(getExecutorSummaries)
       }
+      val futureExecutorSummaryAggregate = if (aggregateExecutors) {
+        Future {
+          Some(withExecutorsTarget(attemptTarget, allExecutors)(getExecutorSummaryAggregate))
+        }
+      } else Future.successful(None)
       val futureLogData = if (fetchLogs) {
         Future {
           getLogData(attemptTarget)
@@ -126,7 +144,8 @@ class SparkRestClient(sparkConf: SparkConf) {
         Await.result(futureJobDatas, DEFAULT_TIMEOUT),
         Await.result(futureStageDatas, DEFAULT_TIMEOUT),
         Await.result(futureExecutorSummaries, Duration(5, SECONDS)),
-        Await.result(futureLogData, Duration(5, SECONDS))
+        Await.result(futureLogData, Duration(5, SECONDS)),
+        Await.result(futureExecutorSummaryAggregate, Duration(5, SECONDS))
       )
 
     }
@@ -267,11 +286,54 @@ class SparkRestClient(sparkConf: SparkConf) {
     }
   }
 
-  private def getExecutorSummaries(attemptTarget: WebTarget): Seq[ExecutorSummaryImpl] = {
-    val target = attemptTarget.path("executors")
+  /**
+    * Reads the executors with the given function, from allexecutors if asked for and else from executors. Only the
+    * history servers of Spark 2.1 and later serve allexecutors, so the older ones fall back to executors.
+    */
+  private def withExecutorsTarget[T](attemptTarget: WebTarget, allExecutors: Boolean)(read: WebTarget => T): T = {
+    if (allExecutors) {
+      val allExecutorsTarget = attemptTarget.path(ALL_EXECUTORS_PATH)
+      try {
+        return read(allExecutorsTarget)
+      } catch {
+        case e: NotFoundException =>
+          logger.info(s"${allExecutorsTarget.getUri} not found, reading the active executors only")
+      }
+    }
+    read(attemptTarget.path(EXECUTORS_PATH))
+  }
+
+  private def getExecutorSummaries(target: WebTarget): Seq[ExecutorSummaryImpl] = {
     try {
       get(target, SparkRestObjectMapper.readValue[Seq[ExecutorSummaryImpl]])
     } catch {
+      case e: NotFoundException => throw e
+      case NonFatal(e) => {
+        logger.error(s"error reading executorSummary ${target.getUri}. Exception Message = " + e.getMessage)
+        logger.debug(e)
+        throw e
+      }
+    }
+  }
+
+  private def getExecutorSummaryAggregate(target: WebTarget): ExecutorSummaryAggregate = {
+    try {
+      resource.managed {
+        target.request(MediaType.APPLICATION_JSON).get(classOf[InputStream])
+      }.acquireAndGet { inputStream =>
+        // Parse one executor at a time and fold it into the aggregate, so that only the aggregate is kept in memory.
+        val aggregate = new ExecutorSummaryAggregate()
+        val parser = SparkRestObjectMapper.getFactory.createParser(inputStream)
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+          throw new IllegalStateException(s"Expected a list of executors from ${target.getUri}")
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+          aggregate.add(SparkRestObjectMapper.readValue[ExecutorSummaryImpl](parser))
+        }
+        aggregate
+      }
+    } catch {
+      case e: NotFoundException => throw e
       case NonFatal(e) => {
         logger.error(s"error reading executorSummary ${target.getUri}. Exception Message = " + e.getMessage)
         logger.debug(e)
@@ -285,6 +347,8 @@ object SparkRestClient {
   val HISTORY_SERVER_ADDRESS_KEY = "spark.yarn.historyServer.address"
   val API_V1_MOUNT_PATH = "api/v1"
   val IN_PROGRESS = ".inprogress"
+  val EXECUTORS_PATH = "executors"
+  val ALL_EXECUTORS_PATH = "allexecutors"
   val DEFAULT_TIMEOUT = Duration(5, SECONDS);
   val CONNECTION_TIMEOUT = 5000
   val READ_TIMEOUT = 5000
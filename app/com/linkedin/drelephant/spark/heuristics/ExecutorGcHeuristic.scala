@@ -90,30 +90,16 @@ object ExecutorGcHeuristic {
 
   class Evaluator(executorGcHeuristic: ExecutorGcHeuristic, data: SparkApplicationData) {
     lazy val executorAndDriverSummaries: Seq[ExecutorSummary] = data.executorSummaries
-    lazy val executorSummaries: Seq[ExecutorSummary] = executorAndDriverSummaries.filterNot(_.id.equals("driver"))
     lazy val appConfigurationProperties: Map[String, String] =
       data.appConfigurationProperties
-    var (jvmTime, executorRunTimeTotal) = getTimeValues(executorSummaries)
+    // The totals, excluding the driver, are computed once per app by the columnar view.
+    var jvmTime: Long = data.columns.totalGCTimeExcludingDriver
+    var executorRunTimeTotal: Long = data.columns.totalDurationExcludingDriver
 
     var ratio: Double = jvmTime.toDouble / executorRunTimeTotal.toDouble
 
     lazy val severityTimeA: Severity = executorGcHeuristic.gcSeverityAThresholds.severityOf(ratio)
     lazy val severityTimeD: Severity = executorGcHeuristic.gcSeverityDThresholds.severityOf(ratio)
-
-    /**
-      * returns the total JVM GC Time and total executor Run Time across all stages
-      * @param executorSummaries
-      * @return
-      */
-    private def getTimeValues(executorSummaries: Seq[ExecutorSummary]): (Long, Long) = {
-      var jvmGcTimeTotal: Long = 0
-      var executorRunTimeTotal: Long = 0
-      executorSummaries.foreach(executorSummary => {
-        jvmGcTimeTotal+=executorSummary.totalGCTime
-        executorRunTimeTotal+=executorSummary.totalDuration
-      })
-      (jvmGcTimeTotal, executorRunTimeTotal)
-    }
   }
 }
 
@@ -17,12 +17,11 @@
 package com.linkedin.drelephant.spark.heuristics
 
 import scala.collection.JavaConverters
-import scala.collection.mutable.ArrayBuffer
 
 import com.linkedin.drelephant.analysis.{Heuristic, HeuristicResult, HeuristicResultDetails, Severity, SeverityThresholds}
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData
-import com.linkedin.drelephant.math.Statistics
-import com.linkedin.drelephant.spark.data.SparkApplicationData
+import com.linkedin.drelephant.math.{QuantileSketch, Statistics}
+import com.linkedin.drelephant.spark.data.{ExecutorSummaryAggregate, SparkApplicationData}
 import com.linkedin.drelephant.spark.fetchers.statusapiv1.ExecutorSummary
 import com.linkedin.drelephant.util.MemoryFormatUtils
 
@@ -149,40 +148,40 @@ object ExecutorsHeuristic {
   class Evaluator(executorsHeuristic: ExecutorsHeuristic, data: SparkApplicationData) {
     lazy val executorSummaries: Seq[ExecutorSummary] = data.executorSummaries
 
-    lazy val totalStorageMemoryAllocated: Long = executorSummaries.map { _.maxMemory }.sum
+    lazy val totalStorageMemoryAllocated: Long = columns.totalMaxMemory
 
-    lazy val totalStorageMemoryUsed: Long = executorSummaries.map { _.memoryUsed }.sum
+    lazy val totalStorageMemoryUsed: Long = columns.totalMemoryUsed
 
     lazy val storageMemoryUtilizationRate: Double = totalStorageMemoryUsed.toDouble / totalStorageMemoryAllocated.toDouble
 
     lazy val storageMemoryUsedDistribution: Distribution =
-      Distribution(executorSummaries.map { _.memoryUsed })
+      distributionOf(columns.executorMemoryUsed, _.memoryUsed)
 
     lazy val storageMemoryUsedSeverity: Severity =
       severityOfDistribution(storageMemoryUsedDistribution, ignoreMaxBytesLessThanThreshold)
 
     lazy val taskTimeDistribution: Distribution =
-      Distribution(executorSummaries.map { _.totalDuration })
+      distributionOf(columns.executorTotalDurations, _.totalDurations)
 
-    lazy val totalTaskTime : Long = executorSummaries.map(_.totalDuration).sum
+    lazy val totalTaskTime : Long = columns.totalDuration
 
     lazy val taskTimeSeverity: Severity =
       severityOfDistribution(taskTimeDistribution, ignoreMaxMillisLessThanThreshold)
 
     lazy val inputBytesDistribution: Distribution =
-      Distribution(executorSummaries.map { _.totalInputBytes })
+      distributionOf(columns.executorTotalInputBytes, _.totalInputBytes)
 
     lazy val inputBytesSeverity: Severity =
       severityOfDistribution(inputBytesDistribution, ignoreMaxBytesLessThanThreshold)
 
     lazy val shuffleReadBytesDistribution: Distribution =
-      Distribution(executorSummaries.map { _.totalShuffleRead })
+      distributionOf(columns.executorTotalShuffleRead, _.totalShuffleRead)
 
     lazy val shuffleReadBytesSeverity: Severity =
       severityOfDistribution(shuffleReadBytesDistribution, ignoreMaxBytesLessThanThreshold)
 
     lazy val shuffleWriteBytesDistribution: Distribution =
-      Distribution(executorSummaries.map { _.totalShuffleWrite })
+      distributionOf(columns.executorTotalShuffleWrite, _.totalShuffleWrite)
 
     lazy val shuffleWriteBytesSeverity: Severity =
       severityOfDistribution(shuffleWriteBytesDistribution, ignoreMaxBytesLessThanThreshold)
@@ -209,6 +208,15 @@ object ExecutorsHeuristic {
       }
     }
 
+    private lazy val columns = data.columns
+
+    // Executors aggregated while fetching only have sketches of their distributions.
+    private def distributionOf(column: Array[Long], sketchOf: ExecutorSummaryAggregate => QuantileSketch): Distribution =
+      data.executorSummaryAggregate match {
+        case Some(aggregate) => Distribution.of(sketchOf(aggregate))
+        case None => Distribution.of(column)
+      }
+
     private lazy val maxToMedianRatioSeverityThresholds = executorsHeuristic.maxToMedianRatioSeverityThresholds
 
     private lazy val ignoreMaxBytesLessThanThreshold = executorsHeuristic.ignoreMaxBytesLessThanThreshold
@@ -219,16 +227,33 @@ object ExecutorsHeuristic {
   case class Distribution(min: Long, p25: Long, median: Long, p75: Long, max: Long)
 
   object Distribution {
-    def apply(values: Seq[Long]): Distribution = {
-      val sortedValues = values.sorted
-      val sortedValuesAsJava = sortedValues.map(Long.box).to[ArrayBuffer].asJava
+    def apply(values: Seq[Long]): Distribution = of(values.toArray)
+
+    /**
+      * Computes the distribution of the given column. The column itself is left untouched; the percentiles are
+      * selected in place from a single copy.
+      */
+    def of(values: Array[Long]): Distribution = {
+      if (values.isEmpty) {
+        throw new IllegalArgumentException("Distribution of an empty list is not defined.")
+      }
+      val summary = Statistics.summarize(values)
+      val copy = values.clone()
       Distribution(
-        sortedValues.min,
-        p25 = Statistics.percentile(sortedValuesAsJava, 25),
-        Statistics.median(sortedValuesAsJava),
-        p75 = Statistics.percentile(sortedValuesAsJava, 75),
-        sortedValues.max
+        summary.getMin,
+        p25 = Statistics.percentileInPlace(copy, copy.length, 25),
+        median = Statistics.medianInPlace(copy, copy.length),
+        p75 = Statistics.percentileInPlace(copy, copy.length, 75),
+        summary.getMax
       )
     }
+
+    def of(sketch: QuantileSketch): Distribution = Distribution(
+      sketch.getMin,
+      p25 = sketch.percentile(25),
+      median = sketch.median,
+      p75 = sketch.percentile(75),
+      sketch.getMax
+    )
   }
 }
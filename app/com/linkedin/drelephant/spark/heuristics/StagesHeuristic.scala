@@ -18,6 +18,7 @@ package com.linkedin.drelephant.spark.heuristics
 
 import com.linkedin.drelephant.spark.fetchers.statusapiv1.ExecutorSummary
 import scala.collection.JavaConverters
+import scala.collection.mutable.ArrayBuffer
 import scala.concurrent.duration
 import scala.concurrent.duration.Duration
 
@@ -130,23 +131,23 @@ object StagesHeuristic {
 
     lazy val executorSummaries: Seq[ExecutorSummary] = data.executorSummaries
 
-    lazy val numCompletedStages: Int = stageDatas.count { _.status == StageStatus.COMPLETE }
+    lazy val numCompletedStages: Int = columns.numCompletedStages
 
-    lazy val numFailedStages: Int = stageDatas.count { _.status == StageStatus.FAILED }
+    lazy val numFailedStages: Int = columns.numFailedStages
 
     lazy val stageFailureRate: Option[Double] = {
       val numStages = numCompletedStages + numFailedStages
       if (numStages == 0) None else Some(numFailedStages.toDouble / numStages.toDouble)
     }
 
-    lazy val stagesWithHighTaskFailureRates: Seq[(StageData, Double)] =
-      stagesWithHighTaskFailureRateSeverities.map { case (stageData, taskFailureRate, _) => (stageData, taskFailureRate) }
+    lazy val stagesWithHighTaskFailureRates: Seq[(StageData, Double)] = stageSeverities.stagesWithHighTaskFailureRates
 
     lazy val stagesWithLongAverageExecutorRuntimes: Seq[(StageData, Long)] =
-      stagesAndAverageExecutorRuntimeSeverities
-        .collect { case (stageData, runtime, severity) if severity.getValue > Severity.MODERATE.getValue => (stageData, runtime) }
+      stageSeverities.stagesWithLongAverageExecutorRuntimes
 
-    lazy val severity: Severity = Severity.max((stageFailureRateSeverity +: (taskFailureRateSeverities ++ runtimeSeverities)): _*)
+    lazy val severity: Severity = Severity.max(stageFailureRateSeverity, stageSeverities.maxSeverity)
+
+    private lazy val columns = data.columns
 
     private lazy val stageFailureRateSeverityThresholds = stagesHeuristic.stageFailureRateSeverityThresholds
 
@@ -157,46 +158,47 @@ object StagesHeuristic {
     private lazy val stageFailureRateSeverity: Severity =
       stageFailureRateSeverityThresholds.severityOf(stageFailureRate.getOrElse[Double](0.0D))
 
-    private lazy val stagesWithHighTaskFailureRateSeverities: Seq[(StageData, Double, Severity)] =
-      stagesAndTaskFailureRateSeverities.filter { case (_, _, severity) => severity.getValue > Severity.MODERATE.getValue }
-
-    private lazy val stagesAndTaskFailureRateSeverities: Seq[(StageData, Double, Severity)] = for {
-      stageData <- stageDatas
-      (taskFailureRate, severity) = taskFailureRateAndSeverityOf(stageData)
-    } yield (stageData, taskFailureRate, severity)
-
-    private lazy val taskFailureRateSeverities: Seq[Severity] =
-      stagesAndTaskFailureRateSeverities.map { case (_, _, severity) => severity }
-
-    private lazy val stagesAndAverageExecutorRuntimeSeverities: Seq[(StageData, Long, Severity)] = for {
-      stageData <- stageDatas
-      (runtime, severity) = averageExecutorRuntimeAndSeverityOf(stageData)
-    } yield (stageData, runtime, severity)
-
-    private lazy val runtimeSeverities: Seq[Severity] = stagesAndAverageExecutorRuntimeSeverities.map { case (_, _, severity) => severity }
-
     private lazy val executorInstances: Int =
-      appConfigurationProperties.get(SPARK_EXECUTOR_INSTANCES_KEY).map(_.toInt).getOrElse(executorSummaries.size)
-
-    private def taskFailureRateAndSeverityOf(stageData: StageData): (Double, Severity) = {
-      val taskFailureRate = taskFailureRateOf(stageData).getOrElse(0.0D)
-      (taskFailureRate, taskFailureRateSeverityThresholds.severityOf(taskFailureRate))
-    }
-
-    private def taskFailureRateOf(stageData: StageData): Option[Double] = {
-      // Currently, the calculation doesn't include skipped or active tasks.
-      val numCompleteTasks = stageData.numCompleteTasks
-      val numFailedTasks = stageData.numFailedTasks
-      val numTasks = numCompleteTasks + numFailedTasks
-      if (numTasks == 0) None else Some(numFailedTasks.toDouble / numTasks.toDouble)
-    }
-
-    private def averageExecutorRuntimeAndSeverityOf(stageData: StageData): (Long, Severity) = {
-      val averageExecutorRuntime = stageData.executorRunTime / executorInstances
-      (averageExecutorRuntime, stageRuntimeMillisSeverityThresholds.severityOf(averageExecutorRuntime))
+      appConfigurationProperties.get(SPARK_EXECUTOR_INSTANCES_KEY).map(_.toInt).getOrElse(columns.numExecutors)
+
+    /**
+      * Computes the task failure rate and average executor runtime severities of all the stages in a single pass over
+      * the stage columns.
+      */
+    private lazy val stageSeverities: StageSeverities = {
+      val stagesWithHighTaskFailureRates = ArrayBuffer.empty[(StageData, Double)]
+      val stagesWithLongAverageExecutorRuntimes = ArrayBuffer.empty[(StageData, Long)]
+      var maxSeverity = Severity.NONE
+      var i = 0
+      while (i < columns.numStages) {
+        // Currently, the calculation doesn't include skipped or active tasks.
+        val numFailedTasks = columns.stageNumFailedTasks(i)
+        val numTasks = columns.stageNumCompleteTasks(i) + numFailedTasks
+        val taskFailureRate = if (numTasks == 0) 0.0D else numFailedTasks.toDouble / numTasks.toDouble
+        val taskFailureRateSeverity = taskFailureRateSeverityThresholds.severityOf(taskFailureRate)
+        if (taskFailureRateSeverity.getValue > Severity.MODERATE.getValue) {
+          stagesWithHighTaskFailureRates += ((columns.stages(i), taskFailureRate))
+        }
+
+        val averageExecutorRuntime = columns.stageExecutorRunTimes(i) / executorInstances
+        val runtimeSeverity = stageRuntimeMillisSeverityThresholds.severityOf(averageExecutorRuntime)
+        if (runtimeSeverity.getValue > Severity.MODERATE.getValue) {
+          stagesWithLongAverageExecutorRuntimes += ((columns.stages(i), averageExecutorRuntime))
+        }
+
+        maxSeverity = Severity.max(maxSeverity, Severity.max(taskFailureRateSeverity, runtimeSeverity))
+        i += 1
+      }
+      StageSeverities(stagesWithHighTaskFailureRates, stagesWithLongAverageExecutorRuntimes, maxSeverity)
     }
   }
 
+  private case class StageSeverities(
+    stagesWithHighTaskFailureRates: Seq[(StageData, Double)],
+    stagesWithLongAverageExecutorRuntimes: Seq[(StageData, Long)],
+    maxSeverity: Severity
+  )
+
   def minutesSeverityThresholdsToMillisSeverityThresholds(
     minutesSeverityThresholds: SeverityThresholds
   ): SeverityThresholds = SeverityThresholds(
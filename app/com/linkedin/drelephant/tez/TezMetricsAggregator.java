@@ -61,7 +61,8 @@ public class TezMetricsAggregator implements HadoopMetricsAggregator {
     //overwrite reduceTaskSlowStartPercentage to 100%. TODO: make use of the slow start percent
     reduceTaskSlowStartPercentage = 100;
 
-    _mapTasks = new TezTaskLevelAggregatedMetrics(data.getMapTaskData(), mapTaskContainerSize, data.getStartTime());
+    _mapTasks = new TezTaskLevelAggregatedMetrics(data.getMetricsView(), data.getMapTaskData(),
+        mapTaskContainerSize, data.getStartTime());
 
     long reduceIdealStartTime = _mapTasks.getNthPercentileFinishTime(reduceTaskSlowStartPercentage);
 
@@ -71,7 +72,8 @@ public class TezMetricsAggregator implements HadoopMetricsAggregator {
       reduceIdealStartTime = Long.MAX_VALUE;
     }
 
-    _reduceTasks = new TezTaskLevelAggregatedMetrics(data.getReduceTaskData(), reduceTaskContainerSize, reduceIdealStartTime);
+    _reduceTasks = new TezTaskLevelAggregatedMetrics(data.getMetricsView(), data.getReduceTaskData(),
+        reduceTaskContainerSize, reduceIdealStartTime);
 
     _hadoopAggregatedData.setResourceUsed(_mapTasks.getResourceUsed() + _reduceTasks.getResourceUsed());
     _hadoopAggregatedData.setTotalDelay(_mapTasks.getDelay() + _reduceTasks.getDelay());
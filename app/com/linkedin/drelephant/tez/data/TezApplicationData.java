@@ -15,6 +15,7 @@
  */
 package com.linkedin.drelephant.tez.data;
 
+import com.linkedin.drelephant.analysis.ApplicationMetricsView;
 import com.linkedin.drelephant.analysis.ApplicationType;
 import com.linkedin.drelephant.analysis.HadoopApplicationData;
 
@@ -34,6 +35,7 @@ public class TezApplicationData implements HadoopApplicationData {
   private TezTaskData[] _mapTasks;
   private TezTaskData[] _scopeTasks;
   private TezCounterData _counterHolder;
+  private ApplicationMetricsView<TezTaskData, TezCounterData.CounterName> _metricsView;
 
   private long _submitTime = 0;
   private long _startTime = 0;
@@ -109,11 +111,13 @@ public class TezApplicationData implements HadoopApplicationData {
 
   public TezApplicationData setReduceTaskData(TezTaskData[] reduceTasks) {
     this._reduceTasks = reduceTasks;
+    this._metricsView = null;
     return this;
   }
 
   public TezApplicationData setMapTaskData(TezTaskData[] mapTasks) {
     this._mapTasks = mapTasks;
+    this._metricsView = null;
     return this;
   }
 
@@ -123,6 +127,20 @@ public class TezApplicationData implements HadoopApplicationData {
 
   public void setScopeTasks(TezTaskData[] _scopeTasks) {
     this._scopeTasks = _scopeTasks;
+    this._metricsView = null;
+  }
+
+  /**
+   * Returns the task metrics shared by the heuristics and the aggregator of this application, e.g.
+   * {@code getMetricsView().of(getMapTaskData())}.
+   *
+   * @return The metrics view of this application
+   */
+  public synchronized ApplicationMetricsView<TezTaskData, TezCounterData.CounterName> getMetricsView() {
+    if (_metricsView == null) {
+      _metricsView = new ApplicationMetricsView<TezTaskData, TezCounterData.CounterName>(TezTaskData.METRICS_ACCESSOR);
+    }
+    return _metricsView;
   }
 
   public TezApplicationData setSubmitTime(long submitTime) {
@@ -27,6 +27,12 @@ public class TezCounterData {
   // Map to group counters into DAG, Task and application levels.
   private final Map<String, Map<String, Long>> _pubCounters;
 
+  private static final int NUM_COUNTERS = CounterName.values().length;
+
+  // The values of the known counters by ordinal, whatever group they were set in, so that get needs neither to
+  // search the groups nor to unbox. A counter which was never set reads as 0.
+  private final long[] _counterValues = new long[NUM_COUNTERS];
+
   public String toString() {
     return _pubCounters.toString();
   }
@@ -35,20 +41,28 @@ public class TezCounterData {
     _pubCounters = new HashMap<String, Map<String, Long>>(8);
   }
 
+  /**
+   * @return the value of the counter, 0 if not present. The counter is matched by name whatever group
+   * it was set in, and if it was set in several groups the last value set wins.
+   */
   public long get(CounterName counterName) {
-    for(Map<String, Long> counterGrp : _pubCounters.values()) {
-      if(counterGrp.containsKey(counterName._name)) {
-        return counterGrp.get(counterName._name);
-      }
-    }
-    return 0;
+    return _counterValues[counterName.ordinal()];
   }
 
   public void set(CounterName counterName, long value) {
-    set(counterName.getGroupName(), counterName.getName(), value);
+    setInGroup(counterName.getGroupName(), counterName.getName(), value);
+    _counterValues[counterName.ordinal()] = value;
   }
 
   public void set(String groupName, String counterName, long value) {
+    setInGroup(groupName, counterName, value);
+    CounterName knownCounter = CounterName._counterNameMap.get(counterName);
+    if (knownCounter != null) {
+      _counterValues[knownCounter.ordinal()] = value;
+    }
+  }
+
+  private void setInGroup(String groupName, String counterName, long value) {
     Map<String, Long> counterMap = _pubCounters.get(groupName);
     if (counterMap == null) {
       counterMap = new HashMap<String, Long>(4);
@@ -67,7 +81,8 @@ public class TezCounterData {
     if (counterMap == null) {
       counterMap = new HashMap<String, Long>(1);
     }
-    return counterMap;
+    // Read only, as the known counters are also indexed by ordinal
+    return Collections.unmodifiableMap(counterMap);
   }
 
   public static enum GroupName {
@@ -15,11 +15,58 @@
  */
 package com.linkedin.drelephant.tez.data;
 
+import com.linkedin.drelephant.analysis.TaskMetrics;
+
 /**
  * Tez Task Level metadata holding data structure
  */
 
 public class TezTaskData {
+
+  /**
+   * Reads the columns of {@link TaskMetrics} from Tez tasks. Only sampled tasks have time and counter data.
+   */
+  public static final TaskMetrics.TaskAccessor<TezTaskData, TezCounterData.CounterName> METRICS_ACCESSOR =
+      new TaskMetrics.TaskAccessor<TezTaskData, TezCounterData.CounterName>() {
+        @Override
+        public Class<TezCounterData.CounterName> getCounterType() {
+          return TezCounterData.CounterName.class;
+        }
+
+        @Override
+        public boolean isTimeDataPresent(TezTaskData task) {
+          return task.isSampled();
+        }
+
+        @Override
+        public boolean isCounterDataPresent(TezTaskData task) {
+          return task.isSampled();
+        }
+
+        @Override
+        public long getTime(TezTaskData task, TaskMetrics.TimeColumn column) {
+          switch (column) {
+            case RUNTIME:
+              return task.getTotalRunTimeMs();
+            case CODE_EXECUTION:
+              return task.getCodeExecutionTimeMs();
+            case SHUFFLE:
+              return task.getShuffleTimeMs();
+            case SORT:
+              return task.getSortTimeMs();
+            case START:
+              return task.getStartTime();
+            default:
+              return task.getFinishTime();
+          }
+        }
+
+        @Override
+        public long getCounter(TezTaskData task, TezCounterData.CounterName counter) {
+          return task.getCounters().get(counter);
+        }
+      };
+
   private TezCounterData _counterHolder;
   private String _taskId;
   // The successful attempt id
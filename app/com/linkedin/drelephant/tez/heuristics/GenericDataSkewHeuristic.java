@@ -17,12 +17,11 @@
 package com.linkedin.drelephant.tez.heuristics;
 
 
-import com.google.common.primitives.Longs;
 import com.linkedin.drelephant.analysis.HDFSContext;
 import com.linkedin.drelephant.analysis.Heuristic;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
-import com.linkedin.drelephant.math.Statistics;
+import com.linkedin.drelephant.analysis.TaskMetrics;
 
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
 import com.linkedin.drelephant.tez.data.TezApplicationData;
@@ -31,7 +30,6 @@ import com.linkedin.drelephant.tez.data.TezTaskData;
 import com.linkedin.drelephant.util.Utils;
 
 import java.util.Arrays;
-import java.util.ArrayList;
 import java.util.Map;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -110,19 +108,14 @@ public abstract class GenericDataSkewHeuristic implements Heuristic<TezApplicati
 
     TezTaskData[] tasks = getTasks(data);
 
-    //Gathering data for checking time skew
-    List<Long> timeTaken = new ArrayList<Long>();
+    TaskMetrics<TezTaskData, TezCounterData.CounterName> metrics = data.getMetricsView().of(tasks);
 
-    for(int i = 0; i < tasks.length; i++) {
-      if (tasks[i].isSampled()) {
-        timeTaken.add(tasks[i].getTotalRunTimeMs());
-      }
-    }
-
-    long[][] groupsTime = Statistics.findTwoGroups(Longs.toArray(timeTaken));
+    //Checking time skew
+    TaskMetrics.TwoGroups groupsTime =
+        metrics.getTimeGroups(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME_AND_COUNTERS);
 
-    long timeAvg1 = Statistics.average(groupsTime[0]);
-    long timeAvg2 = Statistics.average(groupsTime[1]);
+    long timeAvg1 = groupsTime.getSmallerAverage();
+    long timeAvg2 = groupsTime.getLargerAverage();
 
     //seconds are used for calculating deviation as they provide a better idea than millisecond.
     long timeAvgSec1 = TimeUnit.MILLISECONDS.toSeconds(timeAvg1);
@@ -136,28 +129,14 @@ public abstract class GenericDataSkewHeuristic implements Heuristic<TezApplicati
 
     //This reduces severity if number of tasks is insignificant
     severityTime = Severity.min(severityTime,
-        Severity.getSeverityAscending(groupsTime[0].length, numTasksLimits[0], numTasksLimits[1], numTasksLimits[2],
-            numTasksLimits[3]));
-
-    //Gather data
-    List<Long> inputSizes = new ArrayList<Long>();
-
-    for (int i = 0; i < tasks.length; i++) {
-      if (tasks[i].isSampled()) {
-
-        long inputByte = 0;
-        for (TezCounterData.CounterName counterName : _counterNames) {
-          inputByte += tasks[i].getCounters().get(counterName);
-        }
-
-        inputSizes.add(inputByte);
-      }
-    }
+        Severity.getSeverityAscending(groupsTime.getSmallerCount(), numTasksLimits[0], numTasksLimits[1],
+            numTasksLimits[2], numTasksLimits[3]));
 
-    long[][] groups = Statistics.findTwoGroups(Longs.toArray(inputSizes));
+    //Checking data skew
+    TaskMetrics.TwoGroups groups = metrics.getCounterGroups(_counterNames, TaskMetrics.TaskFilter.TIME_AND_COUNTERS);
 
-    long avg1 = Statistics.average(groups[0]);
-    long avg2 = Statistics.average(groups[1]);
+    long avg1 = groups.getSmallerAverage();
+    long avg2 = groups.getLargerAverage();
 
     long min = Math.min(avg1, avg2);
     long diff = Math.abs(avg2 - avg1);
@@ -169,8 +148,8 @@ public abstract class GenericDataSkewHeuristic implements Heuristic<TezApplicati
 
     //This reduces severity if number of tasks is insignificant
     severityData = Severity.min(severityData,
-        Severity.getSeverityAscending(groups[0].length, numTasksLimits[0], numTasksLimits[1], numTasksLimits[2],
-            numTasksLimits[3]));
+        Severity.getSeverityAscending(groups.getSmallerCount(), numTasksLimits[0], numTasksLimits[1],
+            numTasksLimits[2], numTasksLimits[3]));
 
     Severity severity = Severity.max(severityData, severityTime);
 
@@ -180,15 +159,15 @@ public abstract class GenericDataSkewHeuristic implements Heuristic<TezApplicati
 
     result.addResultDetail("Data skew (Number of tasks)", Integer.toString(tasks.length));
     result.addResultDetail("Data skew (Group A)",
-        groups[0].length + " tasks @ " + FileUtils.byteCountToDisplaySize(avg1) + " avg");
+        groups.getSmallerCount() + " tasks @ " + FileUtils.byteCountToDisplaySize(avg1) + " avg");
     result.addResultDetail("Data skew (Group B)",
-        groups[1].length + " tasks @ " + FileUtils.byteCountToDisplaySize(avg2) + " avg");
+        groups.getLargerCount() + " tasks @ " + FileUtils.byteCountToDisplaySize(avg2) + " avg");
 
     result.addResultDetail("Time skew (Number of tasks)", Integer.toString(tasks.length));
     result.addResultDetail("Time skew (Group A)",
-        groupsTime[0].length + " tasks @ " + convertTimeMs(timeAvg1) + " avg");
+        groupsTime.getSmallerCount() + " tasks @ " + convertTimeMs(timeAvg1) + " avg");
     result.addResultDetail("Time skew (Group B)",
-        groupsTime[1].length + " tasks @ " + convertTimeMs(timeAvg2) + " avg");
+        groupsTime.getLargerCount() + " tasks @ " + convertTimeMs(timeAvg2) + " avg");
 
     return result;
   }
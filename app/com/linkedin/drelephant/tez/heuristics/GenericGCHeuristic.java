@@ -21,12 +21,11 @@ import com.linkedin.drelephant.tez.data.TezApplicationData;
 import com.linkedin.drelephant.tez.data.TezCounterData;
 import com.linkedin.drelephant.tez.data.TezTaskData;
 import com.linkedin.drelephant.util.Utils;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import com.linkedin.drelephant.analysis.Heuristic;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.TaskMetrics;
 import com.linkedin.drelephant.math.Statistics;
 import java.util.Map;
 import org.apache.log4j.Logger;
@@ -88,21 +87,14 @@ public abstract class GenericGCHeuristic implements Heuristic<TezApplicationData
     }
 
     TezTaskData[] tasks = getTasks(data) ;
-    List<Long> gcMs = new ArrayList<Long>();
-    List<Long> cpuMs = new ArrayList<Long>();
-    List<Long> runtimesMs = new ArrayList<Long>();
-
-    for (TezTaskData task : tasks) {
-      if (task.isSampled()) {
-        runtimesMs.add(task.getTotalRunTimeMs());
-        gcMs.add(task.getCounters().get(TezCounterData.CounterName.GC_TIME_MILLIS));
-        cpuMs.add(task.getCounters().get(TezCounterData.CounterName.CPU_MILLISECONDS));
-      }
-    }
-
-    long avgRuntimeMs = Statistics.average(runtimesMs);
-    long avgCpuMs = Statistics.average(cpuMs);
-    long avgGcMs = Statistics.average(gcMs);
+    TaskMetrics<TezTaskData, TezCounterData.CounterName> metrics = data.getMetricsView().of(tasks);
+
+    long avgRuntimeMs =
+        metrics.getTimeSummary(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME_AND_COUNTERS).getAverage();
+    long avgCpuMs = metrics.getCounterSummary(TezCounterData.CounterName.CPU_MILLISECONDS,
+        TaskMetrics.TaskFilter.TIME_AND_COUNTERS).getAverage();
+    long avgGcMs = metrics.getCounterSummary(TezCounterData.CounterName.GC_TIME_MILLIS,
+        TaskMetrics.TaskFilter.TIME_AND_COUNTERS).getAverage();
     double ratio = avgCpuMs != 0 ? avgGcMs*(1.0)/avgCpuMs: 0;
 
     Severity severity;
@@ -20,6 +20,7 @@ import com.google.common.base.Strings;
 import com.linkedin.drelephant.analysis.Heuristic;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.TaskMetrics;
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
 import com.linkedin.drelephant.math.Statistics;
 import com.linkedin.drelephant.tez.data.TezApplicationData;
@@ -101,32 +102,17 @@ public abstract class GenericMemoryHeuristic implements Heuristic<TezApplication
 
     TezTaskData[] tasks = getTasks(data);
 
-    List<Long> totalPhysicalMemory = new LinkedList<Long>();
-    List<Long> totalVirtualMemory = new LinkedList<Long>();
-    List<Long> runTime = new LinkedList<Long>();
-
-    for (TezTaskData task : tasks) {
-      if (task.isSampled()) {
-        totalPhysicalMemory.add(task.getCounters().get(TezCounterData.CounterName.PHYSICAL_MEMORY_BYTES));
-        totalVirtualMemory.add(task.getCounters().get(TezCounterData.CounterName.VIRTUAL_MEMORY_BYTES));
-        runTime.add(task.getTotalRunTimeMs());
-      }
-    }
-
-    long averagePMem = Statistics.average(totalPhysicalMemory);
-    long averageVMem = Statistics.average(totalVirtualMemory);
-    long maxPMem;
-    long minPMem;
-    try{
-      maxPMem = Collections.max(totalPhysicalMemory);
-      minPMem = Collections.min(totalPhysicalMemory);
-
-    }
-    catch(Exception exception){
-      maxPMem = 0;
-      minPMem = 0;
-    }
-    long averageRunTime = Statistics.average(runTime);
+    TaskMetrics<TezTaskData, TezCounterData.CounterName> metrics = data.getMetricsView().of(tasks);
+    Statistics.Summary totalPhysicalMemory = metrics.getCounterSummary(TezCounterData.CounterName.PHYSICAL_MEMORY_BYTES,
+        TaskMetrics.TaskFilter.TIME_AND_COUNTERS);
+
+    long averagePMem = totalPhysicalMemory.getAverage();
+    long averageVMem = metrics.getCounterSummary(TezCounterData.CounterName.VIRTUAL_MEMORY_BYTES,
+        TaskMetrics.TaskFilter.TIME_AND_COUNTERS).getAverage();
+    long maxPMem = totalPhysicalMemory.getMax();
+    long minPMem = totalPhysicalMemory.getMin();
+    long averageRunTime =
+        metrics.getTimeSummary(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME_AND_COUNTERS).getAverage();
 
     String containerSizeStr;
 
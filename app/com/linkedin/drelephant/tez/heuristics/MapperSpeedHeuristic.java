@@ -22,7 +22,6 @@ import com.linkedin.drelephant.tez.data.TezApplicationData;
 import com.linkedin.drelephant.tez.data.TezCounterData;
 import com.linkedin.drelephant.tez.data.TezTaskData;
 import com.linkedin.drelephant.util.Utils;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -30,6 +29,7 @@ import com.linkedin.drelephant.analysis.HDFSContext;
 import com.linkedin.drelephant.analysis.Heuristic;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.TaskMetrics;
 import com.linkedin.drelephant.math.Statistics;
 
 import java.util.Map;
@@ -102,26 +102,14 @@ public class MapperSpeedHeuristic implements Heuristic<TezApplicationData> {
 
     TezTaskData[] tasks = data.getMapTaskData();
 
-    List<Long> inputSizes = new ArrayList<Long>();
-    List<Long> speeds = new ArrayList<Long>();
-    List<Long> runtimesMs = new ArrayList<Long>();
+    TaskMetrics<TezTaskData, TezCounterData.CounterName> metrics = data.getMetricsView().of(tasks);
+    long[] inputSizes = metrics.getCounterValues(_counterNames, TaskMetrics.TaskFilter.TIME_AND_COUNTERS);
+    long[] runtimesMs = metrics.getTimes(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME_AND_COUNTERS);
 
-    for (TezTaskData task : tasks) {
-
-      if (task.isSampled()) {
-
-        long inputBytes = 0;
-
-        for (TezCounterData.CounterName counterName: _counterNames) {
-          inputBytes += task.getCounters().get(counterName);
-        }
-
-        long runtimeMs = task.getTotalRunTimeMs();
-        inputSizes.add(inputBytes);
-        runtimesMs.add(runtimeMs);
-        //Speed is records per second
-        speeds.add((1000 * inputBytes) / (runtimeMs));
-      }
+    long[] speeds = new long[runtimesMs.length];
+    for (int i = 0; i < speeds.length; i++) {
+      //Speed is bytes per second
+      speeds[i] = (1000 * inputSizes[i]) / (runtimesMs[i]);
     }
 
     long medianSpeed;
@@ -129,9 +117,9 @@ public class MapperSpeedHeuristic implements Heuristic<TezApplicationData> {
     long medianRuntimeMs;
 
     if (tasks.length != 0) {
-      medianSpeed = Statistics.median(speeds);
-      medianSize = Statistics.median(inputSizes);
-      medianRuntimeMs = Statistics.median(runtimesMs);
+      medianSpeed = Statistics.medianInPlace(speeds, speeds.length);
+      medianSize = Statistics.medianInPlace(inputSizes.clone(), inputSizes.length);
+      medianRuntimeMs = Statistics.medianInPlace(runtimesMs.clone(), runtimesMs.length);
     } else {
       medianSpeed = 0;
       medianSize = 0;
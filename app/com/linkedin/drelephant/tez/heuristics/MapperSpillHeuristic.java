@@ -17,6 +17,7 @@ package com.linkedin.drelephant.tez.heuristics;
 import com.linkedin.drelephant.analysis.Heuristic;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.TaskMetrics;
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
 import com.linkedin.drelephant.tez.data.TezCounterData;
 import com.linkedin.drelephant.tez.data.TezApplicationData;
@@ -84,18 +85,13 @@ public class MapperSpillHeuristic implements Heuristic<TezApplicationData> {
     }
     TezTaskData[] tasks = data.getMapTaskData();
 
-    long totalSpills = 0;
-    long totalOutputRecords = 0;
+    TaskMetrics<TezTaskData, TezCounterData.CounterName> metrics = data.getMetricsView().of(tasks);
+    long totalSpills = metrics.getCounterSummary(TezCounterData.CounterName.SPILLED_RECORDS,
+        TaskMetrics.TaskFilter.TIME_AND_COUNTERS).getTotal();
+    long totalOutputRecords = metrics.getCounterSummary(TezCounterData.CounterName.OUTPUT_RECORDS,
+        TaskMetrics.TaskFilter.TIME_AND_COUNTERS).getTotal();
     double ratioSpills = 0.0;
 
-    for (TezTaskData task : tasks) {
-
-      if (task.isSampled()) {
-        totalSpills += task.getCounters().get(TezCounterData.CounterName.SPILLED_RECORDS);
-        totalOutputRecords += task.getCounters().get(TezCounterData.CounterName.OUTPUT_RECORDS);
-      }
-    }
-
     //If both totalSpills and totalOutputRecords are zero then set ratioSpills to zero.
     if (totalSpills == 0) {
       ratioSpills = 0;
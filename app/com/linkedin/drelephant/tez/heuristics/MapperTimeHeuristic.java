@@ -20,6 +20,7 @@ package com.linkedin.drelephant.tez.heuristics;
 import com.linkedin.drelephant.analysis.Heuristic;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.TaskMetrics;
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
 import com.linkedin.drelephant.tez.data.TezApplicationData;
 import com.linkedin.drelephant.tez.data.TezCounterData;
@@ -107,32 +108,15 @@ public class MapperTimeHeuristic implements Heuristic<TezApplicationData> {
     }
     TezTaskData[] tasks = data.getMapTaskData();
 
-    List<Long> inputSizes = new ArrayList<Long>();
-    List<Long> runtimesMs = new ArrayList<Long>();
-    long taskMinMs = Long.MAX_VALUE;
-    long taskMaxMs = 0;
-
-    for (TezTaskData task : tasks) {
-
-      if (task.isSampled()) {
-        long inputByte = 0;
-        for (TezCounterData.CounterName counterName: _counterNames) {
-          inputByte += task.getCounters().get(counterName);
-        }
-        inputSizes.add(inputByte);
-        long taskTime = task.getTotalRunTimeMs();
-        runtimesMs.add(taskTime);
-        taskMinMs = Math.min(taskMinMs, taskTime);
-        taskMaxMs = Math.max(taskMaxMs, taskTime);
-      }
-    }
-
-    if(taskMinMs == Long.MAX_VALUE) {
-      taskMinMs = 0;
-    }
+    TaskMetrics<TezTaskData, TezCounterData.CounterName> metrics = data.getMetricsView().of(tasks);
+    Statistics.Summary inputSizes = metrics.getCounterSummary(_counterNames, TaskMetrics.TaskFilter.TIME_AND_COUNTERS);
+    Statistics.Summary runtimesMs =
+        metrics.getTimeSummary(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME_AND_COUNTERS);
 
-    long averageSize = Statistics.average(inputSizes);
-    long averageTimeMs = Statistics.average(runtimesMs);
+    long averageSize = inputSizes.getAverage();
+    long averageTimeMs = runtimesMs.getAverage();
+    long taskMinMs = runtimesMs.getMin();
+    long taskMaxMs = runtimesMs.getMax();
 
     Severity shortTaskSeverity = shortTaskSeverity(tasks.length, averageTimeMs);
     Severity longTaskSeverity = longTaskSeverity(tasks.length, averageTimeMs);
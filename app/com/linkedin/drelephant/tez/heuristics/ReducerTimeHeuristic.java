@@ -20,8 +20,10 @@ package com.linkedin.drelephant.tez.heuristics;
 import com.linkedin.drelephant.analysis.Heuristic;
 import com.linkedin.drelephant.analysis.HeuristicResult;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.analysis.TaskMetrics;
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
 import com.linkedin.drelephant.tez.data.TezApplicationData;
+import com.linkedin.drelephant.tez.data.TezCounterData;
 import com.linkedin.drelephant.tez.data.TezTaskData;
 import com.linkedin.drelephant.util.Utils;
 import org.apache.log4j.Logger;
@@ -99,26 +101,13 @@ public class ReducerTimeHeuristic implements Heuristic<TezApplicationData> {
     }
     TezTaskData[] tasks = data.getReduceTaskData();
 
-    List<Long> runtimesMs = new ArrayList<Long>();
-    long taskMinMs = Long.MAX_VALUE;
-    long taskMaxMs = 0;
+    TaskMetrics<TezTaskData, TezCounterData.CounterName> metrics = data.getMetricsView().of(tasks);
+    Statistics.Summary runtimesMs =
+        metrics.getTimeSummary(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME_AND_COUNTERS);
 
-    for (TezTaskData task : tasks) {
-
-      if (task.isSampled()) {
-        long taskTime = task.getTotalRunTimeMs();
-        runtimesMs.add(taskTime);
-        taskMinMs = Math.min(taskMinMs, taskTime);
-        taskMaxMs = Math.max(taskMaxMs, taskTime);
-      }
-    }
-
-    if(taskMinMs == Long.MAX_VALUE) {
-      taskMinMs = 0;
-    }
-
-
-    long averageTimeMs = Statistics.average(runtimesMs);
+    long averageTimeMs = runtimesMs.getAverage();
+    long taskMinMs = runtimesMs.getMin();
+    long taskMaxMs = runtimesMs.getMax();
 
     Severity shortTaskSeverity = shortTaskSeverity(tasks.length, averageTimeMs);
     Severity longTaskSeverity = longTaskSeverity(tasks.length, averageTimeMs);
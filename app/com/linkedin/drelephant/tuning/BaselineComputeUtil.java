@@ -135,11 +135,13 @@ public class BaselineComputeUtil {
    */
   private Long getAvgInputSizeInBytes(String jobDefId) {
     String sql = "SELECT AVG(inputSizeInBytes) as avgInputSizeInMB FROM "
-        + "(SELECT job_exec_id, SUM(cast(value as decimal)) inputSizeInBytes, MAX(start_time) AS start_time "
+        + "(SELECT job_exec_id, SUM(CASE WHEN numeric_value IS NULL THEN cast(value as decimal) "
+        + "ELSE numeric_value END) inputSizeInBytes, MAX(start_time) AS start_time "
         + "FROM yarn_app_result yar INNER JOIN yarn_app_heuristic_result yahr " + "ON yar.id=yahr.yarn_app_result_id "
         + "INNER JOIN yarn_app_heuristic_result_details yahrd " + "ON yahr.id=yahrd.yarn_app_heuristic_result_id "
+        + "INNER JOIN yarn_app_heuristic_detail_name yahdn " + "ON yahdn.id=yahrd.name_id "
         + "WHERE job_def_id=:jobDefId AND yahr.heuristic_name='" + CommonConstantsHeuristic.MAPPER_SPEED + "' "
-        + "AND yahrd.name='" + CommonConstantsHeuristic.TOTAL_INPUT_SIZE_IN_MB + "' "
+        + "AND yahdn.name='" + CommonConstantsHeuristic.TOTAL_INPUT_SIZE_IN_MB + "' "
         + "GROUP BY job_exec_id ORDER BY start_time DESC LIMIT :num ) temp";
 
     logger.debug("Running query for average input size computation " + sql);
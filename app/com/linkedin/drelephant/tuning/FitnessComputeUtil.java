@@ -521,8 +521,9 @@ public class FitnessComputeUtil {
         if (appHeuristicResult.heuristicName.equals(CommonConstantsHeuristic.MAPPER_SPEED)) {
           if (appHeuristicResult.yarnAppHeuristicResultDetails != null) {
             for (AppHeuristicResultDetails appHeuristicResultDetails : appHeuristicResult.yarnAppHeuristicResultDetails) {
-              if (appHeuristicResultDetails.name.equals(CommonConstantsHeuristic.TOTAL_INPUT_SIZE_IN_MB)) {
-                totalInputBytes += Math.round(Double.parseDouble(appHeuristicResultDetails.value) * FileUtils.ONE_MB);
+              if (CommonConstantsHeuristic.TOTAL_INPUT_SIZE_IN_MB.equals(appHeuristicResultDetails.getName())) {
+                totalInputBytes +=
+                    Math.round(Double.parseDouble(appHeuristicResultDetails.getValue()) * FileUtils.ONE_MB);
               }
             }
           }
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import models.AppHeuristicResultDetailName;
+import org.apache.log4j.Logger;
+
+
+/**
+ * Interns the names of the heuristic result details.
+ * <p/>
+ * The names are kept in the yarn_app_heuristic_detail_name table and cached in both directions, so encoding a name
+ * on write and decoding it on read only go to the database for names this instance hasn't seen yet. The set of names
+ * is small (one per detail a heuristic reports) and names are never removed, so the cache is never evicted.
+ * <p/>
+ * The unique key of the table compares names like its collation does, ignoring case and trailing spaces, so names
+ * which differ only in these share an id and the cache looks them up the same way. Should the collation still find a
+ * duplicate the cache missed, the id is looked up by name in the table.
+ */
+public class HeuristicDetailNames {
+
+  private static final Logger logger = Logger.getLogger(HeuristicDetailNames.class);
+
+  private static volatile HeuristicDetailNames _instance = new HeuristicDetailNames(new EbeanStore());
+
+  /**
+   * The persistent table of names.
+   */
+  public interface Store {
+    /**
+     * @return All the names by id
+     */
+    Map<Integer, String> loadAll();
+
+    /**
+     * Inserts a new name. May fail if another instance inserted the same name concurrently.
+     *
+     * @return The id of the new name
+     */
+    int insert(String name);
+
+    /**
+     * @return The id of the name, compared as the table compares names, or null if there is none
+     */
+    Integer findId(String name);
+  }
+
+  private final Store _store;
+  private final ConcurrentMap<String, Integer> _ids = new ConcurrentHashMap<String, Integer>();
+  private final ConcurrentMap<Integer, String> _names = new ConcurrentHashMap<Integer, String>();
+
+  public HeuristicDetailNames(Store store) {
+    _store = store;
+  }
+
+  public static HeuristicDetailNames instance() {
+    return _instance;
+  }
+
+  /**
+   * Replaces the instance used to encode and decode the names, e.g. by one backed by another store.
+   */
+  @VisibleForTesting
+  public static void setInstance(HeuristicDetailNames instance) {
+    _instance = instance;
+  }
+
+  /**
+   * Forgets the cached names, so that they are read again from the store, e.g. after the table was recreated.
+   */
+  public synchronized void reset() {
+    _ids.clear();
+    _names.clear();
+  }
+
+  /**
+   * Returns the id of the given name, adding the name to the table if it is new.
+   *
+   * @param name The detail name
+   * @return The id of the name
+   */
+  public int idOf(String name) {
+    String key = keyOf(name);
+    Integer id = _ids.get(key);
+    if (id != null) {
+      return id;
+    }
+    synchronized (this) {
+      id = _ids.get(key);
+      if (id == null) {
+        // Another instance may have added it already
+        reload();
+        id = _ids.get(key);
+      }
+      if (id == null) {
+        try {
+          id = _store.insert(name);
+          cache(id, name);
+        } catch (RuntimeException e) {
+          // A duplicate, added concurrently or equal to a known name under the collation of the table
+          id = _store.findId(name);
+          if (id == null) {
+            throw e;
+          }
+          _ids.put(key, id);
+        }
+      }
+      return id;
+    }
+  }
+
+  /**
+   * Returns the name with the given id.
+   *
+   * @param id The id of the name
+   * @return The name, or null if there is no name with this id
+   */
+  public String nameOf(int id) {
+    String name = _names.get(id);
+    if (name != null) {
+      return name;
+    }
+    synchronized (this) {
+      name = _names.get(id);
+      if (name == null) {
+        reload();
+        name = _names.get(id);
+        if (name == null) {
+          logger.warn("Unknown heuristic detail name id " + id);
+        }
+      }
+      return name;
+    }
+  }
+
+  private void reload() {
+    for (Map.Entry<Integer, String> entry : _store.loadAll().entrySet()) {
+      cache(entry.getKey(), entry.getValue());
+    }
+  }
+
+  private void cache(int id, String name) {
+    _ids.put(keyOf(name), id);
+    _names.put(id, name);
+  }
+
+  /**
+   * @return The name as the collation of the table compares it, ignoring case and trailing spaces
+   */
+  @VisibleForTesting
+  static String keyOf(String name) {
+    int end = name.length();
+    while (end > 0 && name.charAt(end - 1) == ' ') {
+      end--;
+    }
+    return name.substring(0, end).toLowerCase(Locale.ROOT);
+  }
+
+  private static class EbeanStore implements Store {
+    @Override
+    public Map<Integer, String> loadAll() {
+      Map<Integer, String> names = new HashMap<Integer, String>();
+      for (AppHeuristicResultDetailName name : AppHeuristicResultDetailName.find.all()) {
+        names.put(name.id, name.name);
+      }
+      return names;
+    }
+
+    @Override
+    public int insert(String name) {
+      AppHeuristicResultDetailName detailName = new AppHeuristicResultDetailName();
+      detailName.name = name;
+      detailName.save();
+      return detailName.id;
+    }
+
+    @Override
+    public Integer findId(String name) {
+      List<AppHeuristicResultDetailName> names = AppHeuristicResultDetailName.find.where()
+          .eq(AppHeuristicResultDetailName.TABLE.NAME, name)
+          .findList();
+      return names.isEmpty() ? null : names.get(0).id;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.util
+
+import java.io.{InputStream, Reader}
+import java.util
+import java.util.Properties
+import java.util.function.{BiConsumer, BiFunction, Function}
+
+import scala.collection.JavaConverters
+
+
+/**
+  * A read-only java.util.Properties view over an immutable Scala map.
+  *
+  * Nothing is copied: every lookup goes straight to the underlying map, so the view can be created once per application
+  * and handed to everything which expects Properties (job type matching, scheduler info extraction and so on). Every
+  * method of Map, Hashtable and Properties which reads the entries is overridden to read the underlying map, as the
+  * inherited table stays empty, and all the mutating ones throw UnsupportedOperationException. clone() and
+  * serialization give a plain Properties copy.
+  */
+class MapBackedProperties(underlying: Map[String, String]) extends Properties {
+  import JavaConverters._
+
+  private val view: util.Map[AnyRef, AnyRef] = util.Collections.unmodifiableMap[AnyRef, AnyRef](underlying.asJava)
+
+  override def getProperty(key: String): String = underlying.getOrElse(key, null)
+
+  override def getProperty(key: String, defaultValue: String): String = underlying.getOrElse(key, defaultValue)
+
+  override def get(key: AnyRef): AnyRef = view.get(key)
+
+  override def getOrDefault(key: AnyRef, defaultValue: AnyRef): AnyRef =
+    if (view.containsKey(key)) view.get(key) else defaultValue
+
+  override def forEach(action: BiConsumer[_ >: AnyRef, _ >: AnyRef]): Unit =
+    underlying.foreach { case (key, value) => action.accept(key, value) }
+
+  override def containsKey(key: AnyRef): Boolean = view.containsKey(key)
+
+  override def contains(value: AnyRef): Boolean = view.containsValue(value)
+
+  override def containsValue(value: AnyRef): Boolean = view.containsValue(value)
+
+  override def size(): Int = underlying.size
+
+  override def isEmpty(): Boolean = underlying.isEmpty
+
+  override def keySet(): util.Set[AnyRef] = view.keySet
+
+  override def entrySet(): util.Set[util.Map.Entry[AnyRef, AnyRef]] = view.entrySet
+
+  override def values(): util.Collection[AnyRef] = view.values
+
+  override def keys(): util.Enumeration[AnyRef] = util.Collections.enumeration(view.keySet)
+
+  override def elements(): util.Enumeration[AnyRef] = util.Collections.enumeration(view.values)
+
+  override def propertyNames(): util.Enumeration[_] = keys()
+
+  override def stringPropertyNames(): util.Set[String] = util.Collections.unmodifiableSet(underlying.keySet.asJava)
+
+  override def equals(o: Any): Boolean = o match {
+    case that: util.Map[_, _] => view.equals(that)
+    case _ => false
+  }
+
+  override def hashCode(): Int = view.hashCode
+
+  override def toString(): String = view.toString
+
+  /**
+    * Returns a mutable copy, as callers clone Properties to modify them.
+    */
+  override def clone(): AnyRef = copy
+
+  // The inherited table is empty, so the copy is serialized instead
+  private def writeReplace(): AnyRef = copy
+
+  private def copy: Properties = {
+    val properties = new Properties()
+    underlying.foreach { case (key, value) => properties.setProperty(key, value) }
+    properties
+  }
+
+  override def setProperty(key: String, value: String): AnyRef = throw readOnly
+
+  override def put(key: AnyRef, value: AnyRef): AnyRef = throw readOnly
+
+  override def putAll(t: util.Map[_ <: AnyRef, _ <: AnyRef]): Unit = throw readOnly
+
+  override def remove(key: AnyRef): AnyRef = throw readOnly
+
+  override def clear(): Unit = throw readOnly
+
+  override def putIfAbsent(key: AnyRef, value: AnyRef): AnyRef = throw readOnly
+
+  override def remove(key: AnyRef, value: AnyRef): Boolean = throw readOnly
+
+  override def replace(key: AnyRef, oldValue: AnyRef, newValue: AnyRef): Boolean = throw readOnly
+
+  override def replace(key: AnyRef, value: AnyRef): AnyRef = throw readOnly
+
+  override def replaceAll(function: BiFunction[_ >: AnyRef, _ >: AnyRef, _]): Unit = throw readOnly
+
+  override def computeIfAbsent(key: AnyRef, mappingFunction: Function[_ >: AnyRef, _]): AnyRef = throw readOnly
+
+  override def computeIfPresent(key: AnyRef, remappingFunction: BiFunction[_ >: AnyRef, _ >: AnyRef, _]): AnyRef =
+    throw readOnly
+
+  override def compute(key: AnyRef, remappingFunction: BiFunction[_ >: AnyRef, _ >: AnyRef, _]): AnyRef =
+    throw readOnly
+
+  override def merge(key: AnyRef, value: AnyRef, remappingFunction: BiFunction[_ >: AnyRef, _ >: AnyRef, _]): AnyRef =
+    throw readOnly
+
+  override def load(reader: Reader): Unit = throw readOnly
+
+  override def load(inStream: InputStream): Unit = throw readOnly
+
+  override def loadFromXML(in: InputStream): Unit = throw readOnly
+
+  private def readOnly: UnsupportedOperationException =
+    new UnsupportedOperationException("Application configuration is read-only")
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.log4j.Logger;
+
+
+/**
+ * An InputStream which reads its source on a background thread.
+ * <p/>
+ * The source, typically a decompressing stream over a file in HDFS, is read ahead into a ring of reusable buffers while
+ * the calling thread consumes the buffers which are already filled. This overlaps the I/O and decompression of the
+ * source with whatever the caller does with the data, e.g. parsing event logs. At most numBuffers * bufferSize bytes
+ * are held at any time.
+ * <p/>
+ * The stream owns its source: the background thread closes the source once it stops reading, and closing this stream
+ * stops that thread and waits for it, so the source must not be closed by anyone else. A failure to read the source is
+ * rethrown by every read which follows it.
+ */
+public class PipelinedInputStream extends InputStream {
+  private static final Logger logger = Logger.getLogger(PipelinedInputStream.class);
+
+  public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+  public static final int DEFAULT_NUM_BUFFERS = 4;
+
+  // How long close waits for the reader to stop, e.g. when a read of the source ignores the interrupt
+  private static final long CLOSE_TIMEOUT_MS = 30000;
+
+  private static final ExecutorService READER_POOL = Executors.newCachedThreadPool(
+      new ThreadFactoryBuilder().setNameFormat("dr-el-pipelined-reader-%d").setDaemon(true).build());
+
+  private final InputStream _source;
+  private final BlockingQueue<Buffer> _freeBuffers;
+  private final BlockingQueue<Buffer> _filledBuffers;
+  private final CountDownLatch _readerDone = new CountDownLatch(1);
+  private final Object _readerLock = new Object();
+  // The thread reading the source, while it does
+  private Thread _readerThread;
+  private Buffer _current;
+  private boolean _eof = false;
+  private IOException _failure;
+  private volatile boolean _closed = false;
+
+  public PipelinedInputStream(InputStream source) {
+    this(source, DEFAULT_BUFFER_SIZE, DEFAULT_NUM_BUFFERS);
+  }
+
+  /**
+   * @param source The stream to read ahead
+   * @param bufferSize The size of each buffer in the ring
+   * @param numBuffers The number of buffers in the ring
+   */
+  public PipelinedInputStream(InputStream source, int bufferSize, int numBuffers) {
+    if (bufferSize <= 0 || numBuffers <= 0) {
+      throw new IllegalArgumentException("Buffer size and number of buffers have to be positive");
+    }
+    _source = source;
+    _freeBuffers = new ArrayBlockingQueue<Buffer>(numBuffers);
+    // One extra slot for the end of stream marker.
+    _filledBuffers = new ArrayBlockingQueue<Buffer>(numBuffers + 1);
+    for (int i = 0; i < numBuffers; i++) {
+      _freeBuffers.add(new Buffer(bufferSize));
+    }
+    READER_POOL.execute(new Runnable() {
+      @Override
+      public void run() {
+        readAhead();
+      }
+    });
+  }
+
+  private void readAhead() {
+    synchronized (_readerLock) {
+      _readerThread = Thread.currentThread();
+    }
+    try {
+      while (!_closed) {
+        Buffer buffer = _freeBuffers.take();
+        buffer.fill(_source);
+        if (buffer._length > 0) {
+          _filledBuffers.put(buffer);
+        }
+        if (buffer._length < buffer._data.length) {
+          _filledBuffers.put(Buffer.END_OF_STREAM);
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      // Closed by the consumer.
+    } catch (Throwable t) {
+      if (!_closed) {
+        _filledBuffers.offer(Buffer.failed(t));
+      }
+    } finally {
+      synchronized (_readerLock) {
+        _readerThread = null;
+        // Clears an interrupt from close, which must not reach the next task of the pool thread
+        Thread.interrupted();
+      }
+      try {
+        _source.close();
+      } catch (IOException e) {
+        logger.warn("Failed to close the source stream", e);
+      }
+      _readerDone.countDown();
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!ensureCurrent()) {
+      return -1;
+    }
+    return _current._data[_current._position++] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!ensureCurrent()) {
+      return -1;
+    }
+    int count = Math.min(len, _current._length - _current._position);
+    System.arraycopy(_current._data, _current._position, b, off, count);
+    _current._position += count;
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return _current == null ? 0 : _current._length - _current._position;
+  }
+
+  /**
+   * Makes sure that the current buffer has data left, taking the next filled buffer if needed.
+   *
+   * @return false at the end of the stream
+   */
+  private boolean ensureCurrent() throws IOException {
+    if (_closed) {
+      throw new IOException("Stream closed");
+    }
+    if (_failure != null) {
+      throw _failure;
+    }
+    while (!_eof && (_current == null || _current._position == _current._length)) {
+      if (_current != null) {
+        _current._position = 0;
+        _freeBuffers.add(_current);
+        _current = null;
+      }
+      Buffer next;
+      try {
+        next = _filledBuffers.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for data");
+      }
+      if (next._error != null) {
+        _failure = new IOException("Failed to read the source stream", next._error);
+        throw _failure;
+      }
+      if (next == Buffer.END_OF_STREAM) {
+        _eof = true;
+      } else {
+        _current = next;
+      }
+    }
+    return !_eof || (_current != null && _current._position < _current._length);
+  }
+
+  /**
+   * Stops the reader, which closes the source, and waits for it.
+   */
+  @Override
+  public void close() throws IOException {
+    if (_closed) {
+      return;
+    }
+    _closed = true;
+    synchronized (_readerLock) {
+      if (_readerThread != null) {
+        _readerThread.interrupt();
+      }
+    }
+    try {
+      if (!_readerDone.await(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        logger.warn("The reader of the source stream did not stop within " + CLOSE_TIMEOUT_MS + " ms");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the reader to stop");
+    }
+  }
+
+  private static class Buffer {
+    private static final Buffer END_OF_STREAM = new Buffer(0);
+
+    private final byte[] _data;
+    private int _length = 0;
+    private int _position = 0;
+    private Throwable _error;
+
+    private Buffer(int size) {
+      _data = new byte[size];
+    }
+
+    private static Buffer failed(Throwable error) {
+      Buffer buffer = new Buffer(0);
+      buffer._error = error;
+      return buffer;
+    }
+
+    /**
+     * Reads from the source until the buffer is full or the source ends.
+     */
+    private void fill(InputStream source) throws IOException {
+      _length = 0;
+      _position = 0;
+      while (_length < _data.length) {
+        int count = source.read(_data, _length, _data.length - _length);
+        if (count < 0) {
+          return;
+        }
+        _length += count;
+      }
+    }
+  }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package com.linkedin.drelephant.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.apache.log4j.Logger;
+
+
+/**
+ * Times the SQL statements run against the database and groups them by the endpoint which ran them, to find the
+ * query patterns worth indexing.
+ * <p/>
+ * The audit wraps the data source of the Ebean server, see models.QueryAuditStartup, so it sees the SQL generated
+ * by Ebean queries as well as the raw SQL. Every statement is logged at debug level, and the statements slower than
+ * the configured threshold at info level. The statements are also aggregated per endpoint and pattern, where a
+ * pattern is the SQL with its IN lists of parameters collapsed, and served sorted by total time at /rest/query-audit.
+ * A statement is timed from its execution until its results are closed, as most of the time of a query returning many
+ * rows is spent fetching them. The statements run outside of a request, e.g. by the analysis threads, are attributed
+ * to {@link #BACKGROUND}, unless the thread is given the endpoint it works for, like the JSON writers and the result
+ * counters.
+ */
+public class QueryAudit {
+
+  private static final Logger logger = Logger.getLogger(QueryAudit.class);
+
+  public static final String BACKGROUND = "background";
+
+  // Bounds the memory used by the statistics if the SQL is built with inlined values
+  static final int MAX_PATTERNS = 2000;
+
+  private static final Pattern IN_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private static final ThreadLocal<String> _endpoint = new ThreadLocal<String>();
+  private static final ConcurrentMap<String, PatternStats> _stats = new ConcurrentHashMap<String, PatternStats>();
+  private static volatile boolean _enabled = false;
+  private static volatile long _slowQueryMs;
+
+  private QueryAudit() {
+  }
+
+  /**
+   * Starts auditing the statements run on the data sources wrapped by {@link #wrap(DataSource)}.
+   *
+   * @param slowQueryMs The time, in milliseconds, from which a statement is logged at info level
+   */
+  public static void enable(long slowQueryMs) {
+    _slowQueryMs = slowQueryMs;
+    _enabled = true;
+    logger.info("Auditing the database queries, logging those slower than " + slowQueryMs + " ms");
+  }
+
+  public static boolean isEnabled() {
+    return _enabled;
+  }
+
+  /**
+   * Attributes the statements run by the current thread to an endpoint, until {@link #clearEndpoint()}.
+   *
+   * @param endpoint The endpoint, e.g. Application.search, or null for none
+   */
+  public static void setEndpoint(String endpoint) {
+    _endpoint.set(endpoint);
+  }
+
+  public static void clearEndpoint() {
+    _endpoint.remove();
+  }
+
+  /**
+   * @return The endpoint the statements run by the current thread are attributed to, or null if none
+   */
+  public static String getEndpoint() {
+    return _endpoint.get();
+  }
+
+  /**
+   * Returns a data source whose statements are audited.
+   *
+   * @param dataSource The data source to audit
+   * @return The audited data source
+   */
+  public static DataSource wrap(final DataSource dataSource) {
+    return proxy(DataSource.class, new InvocationHandler() {
+      @Override
+      public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Object result = invokeTarget(dataSource, method, args);
+        return result instanceof Connection ? wrap((Connection) result) : result;
+      }
+    });
+  }
+
+  private static Connection wrap(final Connection connection) {
+    return proxy(Connection.class, new InvocationHandler() {
+      @Override
+      public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Object result = invokeTarget(connection, method, args);
+        if (result instanceof Statement) {
+          String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+          return wrap((Statement) result, method.getReturnType(), sql);
+        }
+        return result;
+      }
+    });
+  }
+
+  private static Statement wrap(final Statement statement, Class<?> type, final String preparedSql) {
+    Class<? extends Statement> statementType = CallableStatement.class.equals(type) ? CallableStatement.class
+        : PreparedStatement.class.equals(type) ? PreparedStatement.class : Statement.class;
+    return proxy(statementType, new InvocationHandler() {
+      // The last execution, whose results may still be read
+      private Execution _current;
+
+      @Override
+      public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (!name.startsWith("execute")) {
+          Object result = invokeTarget(statement, method, args);
+          if (result instanceof ResultSet && _current != null) {
+            // The results of execute(), timed until they are closed
+            return wrap((ResultSet) result, _current);
+          }
+          if (name.equals("close")) {
+            finishCurrent();
+          }
+          return result;
+        }
+
+        // Executing again closes the results of the previous execution
+        finishCurrent();
+        String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+        Execution execution = new Execution(sql);
+        Object result;
+        try {
+          result = invokeTarget(statement, method, args);
+        } catch (Throwable t) {
+          execution.finish();
+          throw t;
+        }
+        if (result instanceof ResultSet) {
+          _current = execution;
+          return wrap((ResultSet) result, execution);
+        }
+        if (Boolean.TRUE.equals(result)) {
+          _current = execution;
+        } else {
+          execution.finish();
+        }
+        return result;
+      }
+
+      private void finishCurrent() {
+        if (_current != null) {
+          _current.finish();
+          _current = null;
+        }
+      }
+    });
+  }
+
+  private static ResultSet wrap(final ResultSet resultSet, final Execution execution) {
+    return proxy(ResultSet.class, new InvocationHandler() {
+      @Override
+      public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        try {
+          return invokeTarget(resultSet, method, args);
+        } finally {
+          if (method.getName().equals("close")) {
+            execution.finish();
+          }
+        }
+      }
+    });
+  }
+
+  /**
+   * Records a statement run by the current thread.
+   *
+   * @param sql The SQL of the statement
+   * @param nanos The time the statement took, in nanoseconds
+   */
+  static void record(String sql, long nanos) {
+    record(_endpoint.get(), sql, nanos);
+  }
+
+  private static void record(String endpoint, String sql, long nanos) {
+    if (!_enabled || sql == null) {
+      return;
+    }
+    if (endpoint == null) {
+      endpoint = BACKGROUND;
+    }
+    long millis = nanos / 1000000;
+    if (millis >= _slowQueryMs) {
+      logger.info(endpoint + " took " + millis + " ms: " + sql);
+    } else if (logger.isDebugEnabled()) {
+      logger.debug(endpoint + " took " + millis + " ms: " + sql);
+    }
+
+    String pattern = WHITESPACE.matcher(IN_LIST.matcher(sql).replaceAll("?, ...")).replaceAll(" ").trim();
+    String key = endpoint + "\n" + pattern;
+    PatternStats stats = _stats.get(key);
+    if (stats == null) {
+      if (_stats.size() >= MAX_PATTERNS) {
+        return;
+      }
+      PatternStats newStats = new PatternStats(endpoint, pattern);
+      stats = _stats.putIfAbsent(key, newStats);
+      if (stats == null) {
+        stats = newStats;
+      }
+    }
+    stats.add(nanos);
+  }
+
+  /**
+   * Returns the statistics of the query patterns of each endpoint, by decreasing total time.
+   *
+   * @param limit The maximum number of patterns to return
+   * @return The statistics
+   */
+  public static List<PatternStats> getTopPatterns(int limit) {
+    List<PatternStats> patterns = new ArrayList<PatternStats>(_stats.values());
+    Collections.sort(patterns, new Comparator<PatternStats>() {
+      @Override
+      public int compare(PatternStats a, PatternStats b) {
+        return Long.compare(b.getTotalNanos(), a.getTotalNanos());
+      }
+    });
+    return patterns.subList(0, Math.min(limit, patterns.size()));
+  }
+
+  public static void reset() {
+    _stats.clear();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+    return (T) Proxy.newProxyInstance(QueryAudit.class.getClassLoader(), new Class<?>[]{type}, handler);
+  }
+
+  private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * An execution of a statement, recorded once when it finishes, under the endpoint which started it.
+   */
+  private static class Execution {
+    private final String _sql;
+    private final String _endpoint = QueryAudit._endpoint.get();
+    private final long _startNanos = System.nanoTime();
+    private boolean _finished = false;
+
+    Execution(String sql) {
+      _sql = sql;
+    }
+
+    synchronized void finish() {
+      if (!_finished) {
+        _finished = true;
+        record(_endpoint, _sql, System.nanoTime() - _startNanos);
+      }
+    }
+  }
+
+  /**
+   * The statistics of the statements of a pattern run by an endpoint.
+   */
+  public static class PatternStats {
+    private final String _endpoint;
+    private final String _sql;
+    private final AtomicLong _count = new AtomicLong();
+    private final AtomicLong _totalNanos = new AtomicLong();
+    private final AtomicLong _maxNanos = new AtomicLong();
+
+    PatternStats(String endpoint, String sql) {
+      _endpoint = endpoint;
+      _sql = sql;
+    }
+
+    void add(long nanos) {
+      _count.incrementAndGet();
+      _totalNanos.addAndGet(nanos);
+      long max = _maxNanos.get();
+      while (nanos > max && !_maxNanos.compareAndSet(max, nanos)) {
+        max = _maxNanos.get();
+      }
+    }
+
+    public String getEndpoint() {
+      return _endpoint;
+    }
+
+    public String getSql() {
+      return _sql;
+    }
+
+    public long getCount() {
+      return _count.get();
+    }
+
+    public long getTotalNanos() {
+      return _totalNanos.get();
+    }
+
+    public long getMaxNanos() {
+      return _maxNanos.get();
+    }
+  }
+}
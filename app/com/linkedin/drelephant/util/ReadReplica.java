@@ -0,0 +1,212 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package com.linkedin.drelephant.util;
+
+import com.avaje.ebean.Ebean;
+import com.avaje.ebean.EbeanServer;
+import com.avaje.ebean.SqlRow;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.log4j.Logger;
+import play.Configuration;
+import play.Play;
+import play.db.ebean.Model.Finder;
+
+
+/**
+ * Routes the read-only queries of the web UI and the REST API to a read replica of the database, so that they do not
+ * compete with the analysis writes on the primary.
+ * <p/>
+ * The replica is the Ebean server named replica, configured with db.replica.* and ebean.replica="models.*" in the
+ * application configuration. The reads go to the primary when there is no replica, when its replication lag, checked
+ * every few seconds, is above drelephant.replica.max.lag.ms or cannot be read, and within {@link #onPrimary} for
+ * the reads which must see a result just written. A replica which MySQL replication does not report on, e.g. a cluster
+ * reader, is only read from when drelephant.replica.trust.unreported.lag is true.
+ */
+public class ReadReplica {
+
+  private static final Logger logger = Logger.getLogger(ReadReplica.class);
+
+  public static final String PRIMARY_SERVER = "default";
+  public static final String REPLICA_SERVER = "replica";
+
+  public static final String MAX_LAG_MS_KEY = "drelephant.replica.max.lag.ms";
+  public static final String LAG_CHECK_INTERVAL_MS_KEY = "drelephant.replica.lag.check.interval.ms";
+  public static final String TRUST_UNREPORTED_LAG_KEY = "drelephant.replica.trust.unreported.lag";
+
+  private static final long MAX_LAG_MS = 30 * 1000;
+  private static final long LAG_CHECK_INTERVAL_MS = 5 * 1000;
+
+  private static final String LAG_SQL = "SHOW SLAVE STATUS";
+  private static final String LAG_COLUMN = "Seconds_Behind_Master";
+
+  private static final ThreadLocal<Boolean> _onPrimary = new ThreadLocal<Boolean>();
+  private static volatile ReadReplica _instance;
+
+  private final Callable<Long> _lagProbe;
+  private final long _maxLagMs;
+  private final long _lagCheckIntervalMs;
+  private final AtomicBoolean _checking = new AtomicBoolean(false);
+  private volatile long _nextCheck = 0;
+  private volatile boolean _usable = false;
+
+  /**
+   * @param lagProbe Returns the replication lag of the replica in milliseconds, or null if it is not replicating.
+   *     Null when there is no replica.
+   * @param maxLagMs The replication lag from which the reads go to the primary
+   * @param lagCheckIntervalMs The time between two checks of the replication lag
+   */
+  @VisibleForTesting
+  ReadReplica(Callable<Long> lagProbe, long maxLagMs, long lagCheckIntervalMs) {
+    _lagProbe = lagProbe;
+    _maxLagMs = maxLagMs;
+    _lagCheckIntervalMs = lagCheckIntervalMs;
+  }
+
+  private static ReadReplica instance() {
+    if (_instance == null) {
+      synchronized (ReadReplica.class) {
+        if (_instance == null) {
+          _instance = fromConfiguration(Play.application().configuration());
+        }
+      }
+    }
+    return _instance;
+  }
+
+  private static ReadReplica fromConfiguration(Configuration configuration) {
+    if (configuration.getString("ebean." + REPLICA_SERVER) == null) {
+      return new ReadReplica(null, 0, 0);
+    }
+    long maxLagMs = configuration.getLong(MAX_LAG_MS_KEY, MAX_LAG_MS);
+    long lagCheckIntervalMs = configuration.getLong(LAG_CHECK_INTERVAL_MS_KEY, LAG_CHECK_INTERVAL_MS);
+    final boolean trustUnreportedLag = configuration.getBoolean(TRUST_UNREPORTED_LAG_KEY, false);
+    logger.info("Reading from the replica while its replication lag is under " + maxLagMs + " ms");
+    return new ReadReplica(new Callable<Long>() {
+      @Override
+      public Long call() {
+        SqlRow status = Ebean.getServer(REPLICA_SERVER).createSqlQuery(LAG_SQL).findUnique();
+        return lagMsOf(status, trustUnreportedLag);
+      }
+    }, maxLagMs, lagCheckIntervalMs);
+  }
+
+  /**
+   * Returns the replication lag reported by SHOW SLAVE STATUS.
+   *
+   * @param status The row of SHOW SLAVE STATUS, null when MySQL replication does not report on the server
+   * @param trustUnreportedLag Whether a server without a status row is current, e.g. a cluster reader
+   * @return The replication lag in milliseconds, or null if the replica is not replicating or its lag is unknown
+   */
+  @VisibleForTesting
+  static Long lagMsOf(SqlRow status, boolean trustUnreportedLag) {
+    if (status == null) {
+      if (!trustUnreportedLag) {
+        logger.warn("The replica reports no replication status, reading from the primary. Set "
+            + TRUST_UNREPORTED_LAG_KEY + " to read from it anyway");
+        return null;
+      }
+      return 0L;
+    }
+    Long lagSeconds = status.getLong(LAG_COLUMN);
+    return lagSeconds == null ? null : lagSeconds * 1000;
+  }
+
+  /**
+   * Returns the name of the Ebean server the reads of the current thread should go to.
+   *
+   * @return {@link #REPLICA_SERVER} or {@link #PRIMARY_SERVER}
+   */
+  public static String serverName() {
+    return Boolean.TRUE.equals(_onPrimary.get()) ? PRIMARY_SERVER
+        : instance().getServerName(System.currentTimeMillis());
+  }
+
+  /**
+   * Returns the Ebean server the reads of the current thread should go to, for the raw SQL queries.
+   */
+  public static EbeanServer server() {
+    return Ebean.getServer(serverName());
+  }
+
+  /**
+   * Returns the given finder on the server the reads of the current thread should go to, e.g.
+   * ReadReplica.of(AppResult.find).where()...
+   *
+   * @param finder A finder on the primary
+   * @return The finder to read with
+   */
+  public static <I, T> Finder<I, T> of(Finder<I, T> finder) {
+    return finder.on(serverName());
+  }
+
+  /**
+   * Runs reads on the primary, for the reads which must see what was just written, e.g. the result of an analysis
+   * which just completed.
+   *
+   * @param reads The reads
+   * @return The result of the reads
+   */
+  public static <T> T onPrimary(Callable<T> reads) {
+    Boolean previous = _onPrimary.get();
+    _onPrimary.set(Boolean.TRUE);
+    try {
+      return reads.call();
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    } finally {
+      _onPrimary.set(previous);
+    }
+  }
+
+  @VisibleForTesting
+  String getServerName(long now) {
+    if (_lagProbe == null) {
+      return PRIMARY_SERVER;
+    }
+    // A single thread checks the lag when it is due, the others go on with the last result
+    if (now >= _nextCheck && _checking.compareAndSet(false, true)) {
+      try {
+        _usable = checkLag();
+        _nextCheck = now + _lagCheckIntervalMs;
+      } finally {
+        _checking.set(false);
+      }
+    }
+    return _usable ? REPLICA_SERVER : PRIMARY_SERVER;
+  }
+
+  private boolean checkLag() {
+    Long lagMs;
+    try {
+      lagMs = _lagProbe.call();
+    } catch (Exception e) {
+      logger.warn("Unable to read the replication lag of the replica, reading from the primary", e);
+      return false;
+    }
+    boolean usable = lagMs != null && lagMs <= _maxLagMs;
+    if (usable != _usable) {
+      logger.info("Replica " + (lagMs == null ? "is not replicating" : "is " + lagMs + " ms behind") + ", reading from "
+          + (usable ? "the replica" : "the primary"));
+    }
+    return usable;
+  }
+}
@@ -134,11 +134,25 @@ trait SparkUtils {
     * @param fs the filesystem which contains the log
     * @param path the full path to the log
     * @param codec the codec to use for the log
+    * @param pipelined whether to read and decompress the log on a background thread while f consumes it
     */
-  def withEventLog[T](fs: FileSystem, path: Path, codec: Option[CompressionCodec])(f: InputStream => T): T = {
-    resource.managed { openEventLog(path, fs) }
-      .map { in => codec.map { _.compressedInputStream(in) }.getOrElse(in) }
-      .acquireAndGet(f)
+  def withEventLog[T](fs: FileSystem, path: Path, codec: Option[CompressionCodec], pipelined: Boolean = false)(
+    f: InputStream => T
+  ): T = {
+    if (pipelined) {
+      // The pipelined stream owns the log: its reader closes the log once it stops, even if f does not read it all.
+      val in = openEventLog(path, fs)
+      val source = try {
+        codec.map { _.compressedInputStream(in) }.getOrElse(in)
+      } catch {
+        case e: Throwable => in.close(); throw e
+      }
+      resource.managed { new PipelinedInputStream(source) }.acquireAndGet(f)
+    } else {
+      resource.managed { openEventLog(path, fs) }
+        .map { in => codec.map { _.compressedInputStream(in) }.getOrElse(in) }
+        .acquireAndGet(f)
+    }
   }
 
   // Below this line are modified utility methods from
@@ -5,6 +5,7 @@ import org.apache.hadoop.security.authentication.client.AuthenticatedURL;
 import org.apache.hadoop.security.authentication.client.AuthenticationException;
 import org.apache.log4j.Logger;
 import org.codehaus.jackson.JsonNode;
+import org.codehaus.jackson.JsonParser;
 import org.codehaus.jackson.map.ObjectMapper;
 
 import java.io.IOException;
@@ -81,6 +82,15 @@ public final class ThreadContextMR2 {
         return _LOCAL_MAPPER.get().readTree(conn.getInputStream());
     }
 
+    /**
+     * Opens a streaming parser over the response, for responses too large to read as a whole tree. The parser reads
+     * the sub-trees it is positioned on with readValueAsTree, and must be closed.
+     */
+    public static JsonParser readJsonParser(URL url) throws IOException, AuthenticationException {
+        HttpURLConnection conn = _LOCAL_AUTH_URL.get().openConnection(url, _LOCAL_AUTH_TOKEN.get());
+        return _LOCAL_MAPPER.get().getJsonFactory().createJsonParser(conn.getInputStream());
+    }
+
     public static void updateAuthToken() {
         long curTime = System.currentTimeMillis();
         if (curTime - _LOCAL_LAST_UPDATED.get() > _LOCAL_UPDATE_INTERVAL.get()) {
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package controllers;
+
+import com.avaje.ebean.ExpressionList;
+import com.linkedin.drelephant.util.ReadReplica;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import models.AppResult;
+
+
+/**
+ * Reads the application results matching some columns in batches ordered by id, along with their heuristic results.
+ * <p/>
+ * Each batch is read by its own query, seeking past the last id of the previous batch, so that reading all the
+ * results of a large flow takes memory for one batch only, and the later batches cost as little as the first.
+ */
+public class AppResultBatches {
+
+  // The number of application results read by a batch, with all the heuristic results and details of each
+  static final int BATCH_SIZE = 100;
+
+  private final Map<String, String> _conditions = new LinkedHashMap<String, String>();
+  private final HeuristicResults.Projection _projection;
+  private final int _batchSize;
+  private String _lastId;
+  private boolean _done = false;
+
+  public AppResultBatches(HeuristicResults.Projection projection) {
+    this(projection, BATCH_SIZE);
+  }
+
+  AppResultBatches(HeuristicResults.Projection projection, int batchSize) {
+    _projection = projection;
+    _batchSize = batchSize;
+  }
+
+  /**
+   * Only reads the application results whose column has the given value.
+   */
+  public AppResultBatches eq(String column, String value) {
+    _conditions.put(column, value);
+    return this;
+  }
+
+  /**
+   * @return The next application results, with their heuristic results, or an empty list once all were read
+   */
+  public List<AppResult> next() {
+    if (_done) {
+      return new ArrayList<AppResult>();
+    }
+    ExpressionList<AppResult> where = ReadReplica.of(AppResult.find).select("*").where();
+    for (Map.Entry<String, String> condition : _conditions.entrySet()) {
+      where.eq(condition.getKey(), condition.getValue());
+    }
+    if (_lastId != null) {
+      where.gt(AppResult.TABLE.ID, _lastId);
+    }
+    List<AppResult> results = where.orderBy(AppResult.TABLE.ID).setMaxRows(_batchSize).findList();
+    _done = results.size() < _batchSize;
+    if (!results.isEmpty()) {
+      _lastId = results.get(results.size() - 1).id;
+    }
+    return HeuristicResults.load(results, _projection);
+  }
+}
@@ -16,8 +16,10 @@
 
 package controllers;
 
+import com.avaje.ebean.Expr;
 import com.avaje.ebean.ExpressionList;
 import com.avaje.ebean.Query;
+import com.avaje.ebean.SqlRow;
 import com.codahale.metrics.Timer;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -25,8 +27,13 @@ import com.linkedin.drelephant.DrElephant;
 import com.linkedin.drelephant.ElephantContext;
 import com.linkedin.drelephant.analysis.Metrics;
 import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.rollup.DashboardStatsService;
+import com.linkedin.drelephant.rollup.RollupTotals;
+import com.linkedin.drelephant.util.QueryAudit;
+import com.linkedin.drelephant.util.ReadReplica;
 import com.linkedin.drelephant.util.Utils;
 
+import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -40,7 +47,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 import models.AppHeuristicResult;
 import models.AppResult;
@@ -72,6 +82,7 @@ import views.html.page.oldJobHistoryPage;
 import views.html.page.searchPage;
 import views.html.results.*;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
@@ -84,7 +95,6 @@ import com.linkedin.drelephant.tuning.TuningInput;
 public class Application extends Controller {
   private static final Logger logger = Logger.getLogger(Application.class);
   private static final long DAY = 24 * 60 * 60 * 1000;
-  private static final long FETCH_DELAY = 60 * 1000;
 
   private static final int PAGE_LENGTH = 20;                  // Num of jobs in a search page
   private static final int PAGE_BAR_LENGTH = 5;               // Num of pages shown in the page bar
@@ -110,18 +120,14 @@ public class Application extends Controller {
   public static final String COMPARE_FLOW_ID1 = "flow-exec-id1";
   public static final String COMPARE_FLOW_ID2 = "flow-exec-id2";
   public static final String PAGE = "page";
+  public static final String PAGE_TOKEN = "token";
+  public static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
 
   private enum Version {OLD,NEW};
 
   // Configuration properties
   private static final String SEARCH_MATCHES_PARTIAL_CONF = "drelephant.application.search.match.partial";
 
-  private static long _lastFetch = 0;
-  private static int _numJobsAnalyzed = 0;
-  private static int _numJobsCritical = 0;
-  private static int _numJobsSevere = 0;
-
-
   /**
   * Serves the initial index.html page for the new user interface. This page contains the whole web app
   */
@@ -137,32 +143,19 @@ public class Application extends Controller {
   public static Result dashboard() {
     long now = System.currentTimeMillis();
     long finishDate = now - DAY;
-
-    // Update statistics only after FETCH_DELAY
-    if (now - _lastFetch > FETCH_DELAY) {
-      _numJobsAnalyzed = AppResult.find.where().gt(AppResult.TABLE.FINISH_TIME, finishDate).findRowCount();
-      _numJobsCritical = AppResult.find.where()
-          .gt(AppResult.TABLE.FINISH_TIME, finishDate)
-          .eq(AppResult.TABLE.SEVERITY, Severity.CRITICAL.getValue())
-          .findRowCount();
-      _numJobsSevere = AppResult.find.where()
-          .gt(AppResult.TABLE.FINISH_TIME, finishDate)
-          .eq(AppResult.TABLE.SEVERITY, Severity.SEVERE.getValue())
-          .findRowCount();
-      _lastFetch = now;
-    }
+    RollupTotals totals = DashboardStatsService.instance().getLastDayTotals();
 
     // Fetch only required fields for jobs analysed in the last 24 hours up to a max of 50 jobs
-    List<AppResult> results = AppResult.find.select(AppResult.getSearchFields())
+    List<AppResult> results = HeuristicResults.load(ReadReplica.of(AppResult.find).select(AppResult.getSearchFields())
         .where()
         .gt(AppResult.TABLE.FINISH_TIME, finishDate)
         .order()
         .desc(AppResult.TABLE.FINISH_TIME)
         .setMaxRows(50)
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, AppHeuristicResult.getSearchFields())
-        .findList();
+        .findList(), HeuristicResults.Projection.SEVERITY);
 
-    return ok(homePage.render(_numJobsAnalyzed, _numJobsSevere, _numJobsCritical,
+    return ok(homePage.render((int) totals.getNumApps(), (int) totals.getNumApps(Severity.SEVERE),
+        (int) totals.getNumApps(Severity.CRITICAL),
         searchResults.render("Latest analysis", results)));
   }
 
@@ -187,7 +180,7 @@ public class Application extends Controller {
     } else {
       throw new RuntimeException(String.format("%s is not a valid scheduler info id field", schedulerIdField));
     }
-    AppResult result = AppResult.find
+    AppResult result = ReadReplica.of(AppResult.find)
             .select(String.format("%s, %s", schedulerIdField, schedulerUrlField))
             .where().like(schedulerIdField, value)
             .order()
@@ -244,30 +237,23 @@ public class Application extends Controller {
 
     // Search and display job details when job id or flow execution url is provided.
     if (!appId.isEmpty()) {
-      AppResult result = AppResult.find.select("*")
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, "*")
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS + "." + AppHeuristicResult.TABLE.APP_HEURISTIC_RESULT_DETAILS,
-              "*")
-          .where()
-          .idEq(appId).findUnique();
+      AppResult result = getAppResultForId(appId);
       return ok(searchPage.render(null, jobDetails.render(result)));
     } else if (Utils.isSet(partialFlowExecId)) {
       IdUrlPair flowExecPair = bestSchedulerInfoMatchGivenPartialId(partialFlowExecId, AppResult.TABLE.FLOW_EXEC_ID);
-      List<AppResult> results = AppResult.find
+      List<AppResult> results = HeuristicResults.load(ReadReplica.of(AppResult.find)
           .select(AppResult.getSearchFields() + "," + AppResult.TABLE.JOB_EXEC_ID)
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, AppHeuristicResult.getSearchFields())
           .where()
           .eq(AppResult.TABLE.FLOW_EXEC_ID, flowExecPair.getId())
-          .findList();
+          .findList(), HeuristicResults.Projection.SEVERITY);
       Map<IdUrlPair, List<AppResult>> map = ControllerUtil.groupJobs(results, ControllerUtil.GroupBy.JOB_EXECUTION_ID);
       return ok(searchPage.render(null, flowDetails.render(flowExecPair, map)));
     } else if (!jobDefId.isEmpty()) {
-      List<AppResult> results = AppResult.find
+      List<AppResult> results = HeuristicResults.load(ReadReplica.of(AppResult.find)
           .select(AppResult.getSearchFields() + "," + AppResult.TABLE.JOB_DEF_ID)
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, AppHeuristicResult.getSearchFields())
           .where()
           .eq(AppResult.TABLE.JOB_DEF_ID, jobDefId)
-          .findList();
+          .findList(), HeuristicResults.Projection.SEVERITY);
       Map<IdUrlPair, List<AppResult>> map = ControllerUtil.groupJobs(results, ControllerUtil.GroupBy.FLOW_EXECUTION_ID);
 
       String flowDefId = (results.isEmpty()) ? "" :  results.get(0).flowDefId;  // all results should have the same flow id
@@ -293,22 +279,36 @@ public class Application extends Controller {
     int paginationBarStartIndex = paginationStats.getPaginationBarStartIndex();
 
     // Filter jobs by search parameters
-    Query<AppResult> query = generateSearchQuery(AppResult.getSearchFields(), getSearchParams());
-    List<AppResult> results = query.setFirstRow((paginationBarStartIndex - 1) * pageLength)
+    Map<String, String> searchParams = getSearchParams();
+    Query<AppResult> query = generateSearchQuery(AppResult.getSearchFields(), searchParams);
+    int firstRow = (paginationBarStartIndex - 1) * pageLength;
+    List<AppResult> results = HeuristicResults.load(query.setFirstRow(firstRow)
         .setMaxRows((paginationStats.getPageBarLength() - 1) * pageLength + 1)
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, AppHeuristicResult.getSearchFields())
-        .findList();
+        .findList(), HeuristicResults.Projection.SEVERITY);
     paginationStats.setQueryString(getQueryString());
     if (results.isEmpty() || currentPage > paginationStats.computePaginationBarEndIndex(results.size())) {
       return ok(searchPage.render(null, jobDetails.render(null)));
     } else {
       List<AppResult> resultsToDisplay = results.subList((currentPage - paginationBarStartIndex) * pageLength,
               Math.min(results.size(), (currentPage - paginationBarStartIndex + 1) * pageLength));
+      int total = ResultCounts.instance().getCount(getSearchCountKey(searchParams),
+          getCappedCounter(generateSearchQuery(AppResult.TABLE.ID, searchParams)), firstRow + results.size());
       return ok(searchPage.render(paginationStats, searchResults.render(
-              String.format("Results: Showing %,d of %,d", resultsToDisplay.size(), query.findRowCount()), resultsToDisplay)));
+              String.format("Results: Showing %,d of %,d%s", resultsToDisplay.size(), total,
+                  total >= ResultCounts.COUNT_CAP ? "+" : ""), resultsToDisplay)));
     }
   }
 
+  /**
+   * Returns the key identifying a search for {@link ResultCounts}, the same for every page of it.
+   *
+   * @param searchParams The fields to query on the table
+   * @return The key
+   */
+  public static String getSearchCountKey(Map<String, String> searchParams) {
+    return "search" + new TreeMap<String, String>(searchParams);
+  }
+
   /**
    * Parses the request for the queryString
    *
@@ -361,9 +361,10 @@ public class Application extends Controller {
    */
   public static Query<AppResult> generateSearchQuery(String selectParams, Map<String, String> searchParams) {
     if (searchParams == null || searchParams.isEmpty()) {
-      return AppResult.find.select(selectParams).order().desc(AppResult.TABLE.FINISH_TIME);
+      return ReadReplica.of(AppResult.find).select(selectParams)
+          .orderBy(getSearchOrder(AppResult.TABLE.FINISH_TIME, false));
     }
-    ExpressionList<AppResult> query = AppResult.find.select(selectParams).where();
+    ExpressionList<AppResult> query = ReadReplica.of(AppResult.find).select(selectParams).where();
 
     // Build predicates
     String username = searchParams.get(USERNAME);
@@ -422,12 +423,97 @@ public class Application extends Controller {
       }
     }
 
-    // If queried by start time then sort the results by start time.
-    if (Utils.isSet(startedTimeBegin) || Utils.isSet(startedTimeEnd)) {
-      return query.order().desc(AppResult.TABLE.START_TIME);
+    return query.orderBy(getSearchOrder(getSearchSortKey(searchParams), false));
+  }
+
+  /**
+   * Returns the property the results of a search are sorted by. If queried by start time then the results are
+   * sorted by start time, else by finish time.
+   *
+   * @param searchParams The fields to query on the table
+   * @return The property to sort by
+   */
+  public static String getSearchSortKey(Map<String, String> searchParams) {
+    if (searchParams != null && (Utils.isSet(searchParams.get(STARTED_TIME_BEGIN))
+        || Utils.isSet(searchParams.get(STARTED_TIME_END)))) {
+      return AppResult.TABLE.START_TIME;
+    }
+    return AppResult.TABLE.FINISH_TIME;
+  }
+
+  /**
+   * Returns the order by clause sorting on the given property, and then on the id so that the order is total
+   * and a page can be continued from a {@link PageToken}.
+   *
+   * @param sortKey The property to sort by
+   * @param increasing Whether to sort in increasing order
+   * @return The order by clause
+   */
+  public static String getSearchOrder(String sortKey, boolean increasing) {
+    String direction = increasing ? " asc" : " desc";
+    return sortKey + direction + ", " + AppResult.TABLE.ID + direction;
+  }
+
+  /**
+   * Restricts a query sorted by {@link #getSearchOrder} to the results after the one the token was issued for.
+   * The sort key is bound on both sides so that the index on it is read as a range.
+   *
+   * @param query The query sorted by the sort key of the token and then by id
+   * @param token The token issued for the last result of the previous page
+   * @param increasing Whether the query is sorted in increasing order
+   */
+  public static void seekAfter(Query<AppResult> query, PageToken token, boolean increasing) {
+    String sortKey = token.getSortKey();
+    Object value = sortKey.equals(AppResult.TABLE.SEVERITY)
+        ? Severity.byValue((int) token.getValue()) : Long.valueOf(token.getValue());
+    if (increasing) {
+      query.where().ge(sortKey, value)
+          .or(Expr.gt(sortKey, value), Expr.and(Expr.eq(sortKey, value), Expr.gt(AppResult.TABLE.ID, token.getId())));
+    } else {
+      query.where().le(sortKey, value)
+          .or(Expr.lt(sortKey, value), Expr.and(Expr.eq(sortKey, value), Expr.lt(AppResult.TABLE.ID, token.getId())));
+    }
+  }
+
+  /**
+   * Issues the token continuing a page after the given result.
+   *
+   * @param result The last result of the page, with the sort key loaded
+   * @param sortKey The property the results are sorted by
+   * @return The token
+   */
+  public static PageToken getPageToken(AppResult result, String sortKey) {
+    long value;
+    if (sortKey.equals(AppResult.TABLE.START_TIME)) {
+      value = result.startTime;
+    } else if (sortKey.equals(AppResult.TABLE.SEVERITY)) {
+      value = result.severity.getValue();
+    } else if (sortKey.equals(AppResult.TABLE.RESOURCE_USAGE)) {
+      value = result.resourceUsed;
+    } else if (sortKey.equals(AppResult.TABLE.WASTED_RESOURCES)) {
+      value = result.resourceWasted;
+    } else if (sortKey.equals(AppResult.TABLE.TOTAL_DELAY)) {
+      value = result.totalDelay;
     } else {
-      return query.order().desc(AppResult.TABLE.FINISH_TIME);
+      value = result.finishTime;
     }
+    return new PageToken(sortKey, value, result.id);
+  }
+
+  /**
+   * Returns a counter of the results of a query, stopping at {@link ResultCounts#COUNT_CAP}. Only the ids are read
+   * and at most the cap of them, instead of counting every matching row.
+   *
+   * @param query A query of its own, not shared with the caller
+   * @return The counter
+   */
+  public static Callable<Integer> getCappedCounter(final Query<AppResult> query) {
+    return new Callable<Integer>() {
+      @Override
+      public Integer call() {
+        return query.setMaxRows(ResultCounts.COUNT_CAP).findIds().size();
+      }
+    };
   }
 
   /**
@@ -445,19 +531,17 @@ public class Application extends Controller {
     if (partialFlowExecId1 != null && !partialFlowExecId1.isEmpty() && partialFlowExecId2 != null && !partialFlowExecId2.isEmpty()) {
       IdUrlPair flowExecIdPair1 = bestSchedulerInfoMatchGivenPartialId(partialFlowExecId1, AppResult.TABLE.FLOW_EXEC_ID);
       IdUrlPair flowExecIdPair2 = bestSchedulerInfoMatchGivenPartialId(partialFlowExecId2, AppResult.TABLE.FLOW_EXEC_ID);
-      results1 = AppResult.find
+      results1 = HeuristicResults.load(ReadReplica.of(AppResult.find)
           .select(AppResult.getSearchFields() + "," + AppResult.TABLE.JOB_DEF_ID + "," + AppResult.TABLE.JOB_DEF_URL
               + "," + AppResult.TABLE.FLOW_EXEC_ID + "," + AppResult.TABLE.FLOW_EXEC_URL)
           .where().eq(AppResult.TABLE.FLOW_EXEC_ID, flowExecIdPair1.getId()).setMaxRows(100)
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, AppHeuristicResult.getSearchFields())
-          .findList();
-      results2 = AppResult.find
+          .findList(), HeuristicResults.Projection.SEVERITY);
+      results2 = HeuristicResults.load(ReadReplica.of(AppResult.find)
           .select(
               AppResult.getSearchFields() + "," + AppResult.TABLE.JOB_DEF_ID + "," + AppResult.TABLE.JOB_DEF_URL + ","
                   + AppResult.TABLE.FLOW_EXEC_ID + "," + AppResult.TABLE.FLOW_EXEC_URL)
           .where().eq(AppResult.TABLE.FLOW_EXEC_ID, flowExecIdPair2.getId()).setMaxRows(100)
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, AppHeuristicResult.getSearchFields())
-          .findList();
+          .findList(), HeuristicResults.Projection.SEVERITY);
     }
     return ok(comparePage.render(compareResults.render(compareFlows(results1, results2))));
   }
@@ -556,33 +640,41 @@ public class Application extends Controller {
 
     IdUrlPair flowDefPair = bestSchedulerInfoMatchGivenPartialId(partialFlowDefId, AppResult.TABLE.FLOW_DEF_ID);
 
+    // Pick the latest executions with a grouped query, then fetch at most JOB_HISTORY_LIMIT mr jobs of these
+    // executions
+    List<String> flowExecIds = ExecutionSummaries.getLatestFlowExecutionIds("flow_def_id", flowDefPair.getId(),
+        JOB_HISTORY_LIMIT, MAX_HISTORY_LIMIT);
+    if (flowExecIds.isEmpty()) {
+      return notFound("Unable to find record for flow def id: " + flowDefPair.getId());
+    }
+
     List<AppResult> results;
 
     if (graphType.equals("time") || graphType.equals("resources")) {
 
       // if graph type is time or resources, we don't need the result from APP_HEURISTIC_RESULTS
-      results = AppResult.find.select(
+      results = ReadReplica.of(AppResult.find).select(
           AppResult.getSearchFields() + "," + AppResult.TABLE.FLOW_EXEC_ID + "," + AppResult.TABLE.FLOW_EXEC_URL + ","
               + AppResult.TABLE.JOB_DEF_ID + "," + AppResult.TABLE.JOB_DEF_URL + "," + AppResult.TABLE.JOB_NAME)
           .where()
           .eq(AppResult.TABLE.FLOW_DEF_ID, flowDefPair.getId())
+          .in(AppResult.TABLE.FLOW_EXEC_ID, flowExecIds)
           .order()
           .desc(AppResult.TABLE.FINISH_TIME)
           .setMaxRows(JOB_HISTORY_LIMIT)
           .findList();
     } else {
 
-      // Fetch available flow executions with latest JOB_HISTORY_LIMIT mr jobs.
-      results = AppResult.find.select(
+      results = HeuristicResults.load(ReadReplica.of(AppResult.find).select(
           AppResult.getSearchFields() + "," + AppResult.TABLE.FLOW_EXEC_ID + "," + AppResult.TABLE.FLOW_EXEC_URL + ","
               + AppResult.TABLE.JOB_DEF_ID + "," + AppResult.TABLE.JOB_DEF_URL + "," + AppResult.TABLE.JOB_NAME)
           .where()
           .eq(AppResult.TABLE.FLOW_DEF_ID, flowDefPair.getId())
+          .in(AppResult.TABLE.FLOW_EXEC_ID, flowExecIds)
           .order()
           .desc(AppResult.TABLE.FINISH_TIME)
           .setMaxRows(JOB_HISTORY_LIMIT)
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, AppHeuristicResult.getSearchFields())
-          .findList();
+          .findList(), HeuristicResults.Projection.SEVERITY);
     }
     if (results.size() == 0) {
       return notFound("Unable to find record for flow def id: " + flowDefPair.getId());
@@ -594,9 +686,9 @@ public class Application extends Controller {
       }
     }
 
-    Map<IdUrlPair, List<AppResult>> flowExecIdToJobsMap = ControllerUtil
-        .limitHistoryResults(ControllerUtil.groupJobs(results, ControllerUtil.GroupBy.FLOW_EXECUTION_ID),
-            results.size(), MAX_HISTORY_LIMIT);
+    // The oldest executions may be cut by the row limit
+    Map<IdUrlPair, List<AppResult>> flowExecIdToJobsMap = ControllerUtil.limitHistoryResults(
+        ControllerUtil.groupJobs(results, ControllerUtil.GroupBy.FLOW_EXECUTION_ID), results.size(), MAX_HISTORY_LIMIT);
 
     // Compute flow execution data
     List<AppResult> filteredResults = new ArrayList<AppResult>();     // All jobs starting from latest execution
@@ -706,30 +798,37 @@ public class Application extends Controller {
     }
     IdUrlPair jobDefPair = bestSchedulerInfoMatchGivenPartialId(partialJobDefId, AppResult.TABLE.JOB_DEF_ID);
 
+    // Pick the latest executions with a grouped query, then fetch at most JOB_HISTORY_LIMIT mr jobs of these
+    // executions
+    List<String> flowExecIds = ExecutionSummaries.getLatestFlowExecutionIds("job_def_id", jobDefPair.getId(),
+        JOB_HISTORY_LIMIT, MAX_HISTORY_LIMIT);
+    if (flowExecIds.isEmpty()) {
+      return notFound("Unable to find record for job def id: " + jobDefPair.getId());
+    }
+
     List<AppResult> results;
 
     if (graphType.equals("time") || graphType.equals("resources")) {
       // we don't need APP_HEURISTIC_RESULT_DETAILS data to plot for time and resources
-      results = AppResult.find.select(
+      results = ReadReplica.of(AppResult.find).select(
           AppResult.getSearchFields() + "," + AppResult.TABLE.FLOW_EXEC_ID + "," + AppResult.TABLE.FLOW_EXEC_URL)
           .where()
           .eq(AppResult.TABLE.JOB_DEF_ID, jobDefPair.getId())
+          .in(AppResult.TABLE.FLOW_EXEC_ID, flowExecIds)
           .order()
           .desc(AppResult.TABLE.FINISH_TIME)
           .setMaxRows(JOB_HISTORY_LIMIT)
           .findList();
     } else {
-      // Fetch all job executions
-      results = AppResult.find.select(
+      results = HeuristicResults.load(ReadReplica.of(AppResult.find).select(
           AppResult.getSearchFields() + "," + AppResult.TABLE.FLOW_EXEC_ID + "," + AppResult.TABLE.FLOW_EXEC_URL)
           .where()
           .eq(AppResult.TABLE.JOB_DEF_ID, jobDefPair.getId())
+          .in(AppResult.TABLE.FLOW_EXEC_ID, flowExecIds)
           .order()
           .desc(AppResult.TABLE.FINISH_TIME)
           .setMaxRows(JOB_HISTORY_LIMIT)
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, "*")
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS + "." + AppHeuristicResult.TABLE.APP_HEURISTIC_RESULT_DETAILS, "*")
-          .findList();
+          .findList(), HeuristicResults.Projection.DETAILS);
     }
 
     for (AppResult result : results) {
@@ -741,9 +840,9 @@ public class Application extends Controller {
     if (results.size() == 0) {
       return notFound("Unable to find record for job def id: " + jobDefPair.getId());
     }
-    Map<IdUrlPair, List<AppResult>> flowExecIdToJobsMap = ControllerUtil
-        .limitHistoryResults(ControllerUtil.groupJobs(results, ControllerUtil.GroupBy.FLOW_EXECUTION_ID),
-            results.size(), MAX_HISTORY_LIMIT);
+    // The oldest executions may be cut by the row limit
+    Map<IdUrlPair, List<AppResult>> flowExecIdToJobsMap = ControllerUtil.limitHistoryResults(
+        ControllerUtil.groupJobs(results, ControllerUtil.GroupBy.FLOW_EXECUTION_ID), results.size(), MAX_HISTORY_LIMIT);
 
     // Compute job execution data
     List<Long> flowExecTimeList = new ArrayList<Long>();
@@ -864,12 +963,8 @@ public class Application extends Controller {
   }
 
   private static AppResult getAppResultForId(String id) {
-    return AppResult.find.select("*")
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, "*")
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS + "." + AppHeuristicResult.TABLE.APP_HEURISTIC_RESULT_DETAILS, "*")
-        .where()
-        .idEq(id)
-        .findUnique();
+    return HeuristicResults.loadUnique(ReadReplica.of(AppResult.find).select("*").where().idEq(id).query(),
+        HeuristicResults.Projection.DETAILS);
   }
 
   /**
@@ -885,18 +980,37 @@ public class Application extends Controller {
       id = id.replaceAll("job", "application");
     }
 
-    AppResult result = getAppResultForId(id);
+    final String appId = id;
+    final Callable<AppResult> readResult = new Callable<AppResult>() {
+      @Override
+      public AppResult call() {
+        return getAppResultForId(appId);
+      }
+    };
+    // A caller which prioritizes waits for a result which may have just been written, so it reads from the primary
+    final boolean fromPrimary = prioritize;
+    Callable<String> buildResponse = new Callable<String>() {
+      @Override
+      public String call() throws Exception {
+        AppResult result = fromPrimary ? ReadReplica.onPrimary(readResult) : readResult.call();
+        return result == null ? null : Json.toJson(result).toString();
+      }
+    };
+    String cacheKey = "restAppResult:" + id;
 
-    if (result != null) {
-      return ok(Json.toJson(result));
+    Result response = ResponseCache.instance().serve(ResponseCache.Kind.IMMUTABLE, cacheKey, ResponseCache.JSON,
+        buildResponse);
+    if (response != null) {
+      return response;
     }
     // If prioritize flag is set, resubmit the job at higher priority and wait for it to complete.
     if (prioritize && DrElephant.getInstance().getElephant().prioritizeExecutionAndWait(id)) {
       // The analysis job has completed. Get the result.
-      result = getAppResultForId(id);
+      response = ResponseCache.instance().serve(ResponseCache.Kind.IMMUTABLE, cacheKey, ResponseCache.JSON,
+          buildResponse);
     }
-    if (result != null) {
-      return ok(Json.toJson(result));
+    if (response != null) {
+      return response;
     }
     return notFound("Unable to find record on id: " + id);
   }
@@ -1033,12 +1147,10 @@ public class Application extends Controller {
       return badRequest("No job exec url provided.");
     }
 
-    List<AppResult> result = AppResult.find.select("*")
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, "*")
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS + "." + AppHeuristicResult.TABLE.APP_HEURISTIC_RESULT_DETAILS, "*")
+    List<AppResult> result = HeuristicResults.load(ReadReplica.of(AppResult.find).select("*")
         .where()
         .eq(AppResult.TABLE.JOB_EXEC_ID, jobExecId)
-        .findList();
+        .findList(), HeuristicResults.Projection.DETAILS);
 
     if (result.size() == 0) {
       return notFound("Unable to find record on job exec url: " + jobExecId);
@@ -1050,34 +1162,50 @@ public class Application extends Controller {
   /**
    * Rest API for searching all jobs under a particular flow execution
    * E.g., localhost:8080/rest/flowexec?id=xyz
+   *
+   * The jobs are read in batches and streamed, so a large flow is never held in memory as a whole.
    */
-  public static Result restFlowExecResult(String flowExecId) {
+  public static Result restFlowExecResult(final String flowExecId) {
 
     if (flowExecId == null || flowExecId.isEmpty()) {
       return badRequest("No flow exec url provided.");
     }
 
-    List<AppResult> results = AppResult.find.select("*")
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, "*")
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS + "." + AppHeuristicResult.TABLE.APP_HEURISTIC_RESULT_DETAILS, "*")
-        .where()
-        .eq(AppResult.TABLE.FLOW_EXEC_ID, flowExecId)
-        .findList();
+    // The applications are streamed one job execution after the other, grouped under the job execution id
+    final List<String> jobExecIds = ExecutionSummaries.getJobExecutionIdsOfFlow(flowExecId);
 
-    if (results.size() == 0) {
+    if (jobExecIds.isEmpty()) {
       return notFound("Unable to find record on flow exec url: " + flowExecId);
     }
 
-    Map<IdUrlPair, List<AppResult>> groupMap = ControllerUtil.groupJobs(results, ControllerUtil.GroupBy.JOB_EXECUTION_ID);
+    return JsonChunks.ok(new JsonChunks() {
+      @Override
+      protected void write(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        for (String jobExecId : jobExecIds) {
+          AppResultBatches batches = new AppResultBatches(HeuristicResults.Projection.DETAILS)
+              .eq(AppResult.TABLE.FLOW_EXEC_ID, flowExecId)
+              .eq(AppResult.TABLE.JOB_EXEC_ID, jobExecId);
+          generator.writeFieldName(jobExecId);
+          writeAppResults(generator, batches.next(), batches);
+        }
+        generator.writeEndObject();
+      }
+    });
+  }
 
-    Map<String, List<AppResult>> resMap = new HashMap<String, List<AppResult>>();
-    for (Map.Entry<IdUrlPair, List<AppResult>> entry : groupMap.entrySet()) {
-      IdUrlPair jobExecPair = entry.getKey();
-      List<AppResult> value = entry.getValue();
-      resMap.put(jobExecPair.getId(), value);
+  /**
+   * Writes the given application results and those of the next batches as a JSON array.
+   */
+  private static void writeAppResults(JsonGenerator generator, List<AppResult> results, AppResultBatches batches)
+      throws IOException {
+    generator.writeStartArray();
+    for (List<AppResult> batch = results; !batch.isEmpty(); batch = batches.next()) {
+      for (AppResult result : batch) {
+        generator.writeObject(result);
+      }
     }
-
-    return ok(Json.toJson(resMap));
+    generator.writeEndArray();
   }
 
 
@@ -1088,6 +1216,8 @@ public class Application extends Controller {
    * The Rest API for Search Feature
    *
    * http://localhost:8080/rest/search?username=abc&job-type=HadoopJava
+   *
+   * A full page carries the token of the next one in the X-Next-Page-Token header, passed back as token=...
    */
   public static Result restSearch() {
     DynamicForm form = Form.form().bindFromRequest(request());
@@ -1099,30 +1229,25 @@ public class Application extends Controller {
     String flowExecId = form.get(FLOW_EXEC_ID);
     flowExecId = (flowExecId != null) ? flowExecId.trim() : null;
     if (!appId.isEmpty()) {
-      AppResult result = AppResult.find.select("*")
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, "*")
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS + "." + AppHeuristicResult.TABLE.APP_HEURISTIC_RESULT_DETAILS,
-              "*")
-          .where()
-          .idEq(appId)
-          .findUnique();
+      AppResult result = getAppResultForId(appId);
       if (result != null) {
         return ok(Json.toJson(result));
       } else {
         return notFound("Unable to find record on id: " + appId);
       }
     } else if (flowExecId != null && !flowExecId.isEmpty()) {
-      List<AppResult> results = AppResult.find.select("*")
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, "*")
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS + "." + AppHeuristicResult.TABLE.APP_HEURISTIC_RESULT_DETAILS,
-              "*")
-          .where()
-          .eq(AppResult.TABLE.FLOW_EXEC_ID, flowExecId)
-          .findList();
+      final AppResultBatches batches = new AppResultBatches(HeuristicResults.Projection.DETAILS)
+          .eq(AppResult.TABLE.FLOW_EXEC_ID, flowExecId);
+      final List<AppResult> results = batches.next();
       if (results.size() == 0) {
         return notFound("Unable to find record on flow execution: " + flowExecId);
       } else {
-        return ok(Json.toJson(results));
+        return JsonChunks.ok(new JsonChunks() {
+          @Override
+          protected void write(JsonGenerator generator) throws IOException {
+            writeAppResults(generator, results, batches);
+          }
+        });
       }
     }
 
@@ -1134,17 +1259,32 @@ public class Application extends Controller {
       }
     }
 
-    Query<AppResult> query = generateSearchQuery("*", getSearchParams());
-    List<AppResult> results = query.setFirstRow((page - 1) * REST_PAGE_LENGTH)
-        .setMaxRows(REST_PAGE_LENGTH)
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, "*")
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS + "." + AppHeuristicResult.TABLE.APP_HEURISTIC_RESULT_DETAILS, "*")
-        .findList();
+    // A token continues the previous page with a seek on the sort key instead of skipping the rows before it
+    Map<String, String> searchParams = getSearchParams();
+    String sortKey = getSearchSortKey(searchParams);
+    Query<AppResult> query = generateSearchQuery("*", searchParams);
+    PageToken token = PageToken.decode(form.get(PAGE_TOKEN), sortKey);
+    if (token != null) {
+      seekAfter(query, token, false);
+    } else {
+      query.setFirstRow((page - 1) * REST_PAGE_LENGTH);
+    }
+    final List<AppResult> results =
+        HeuristicResults.load(query.setMaxRows(REST_PAGE_LENGTH).findList(), HeuristicResults.Projection.DETAILS);
 
     if (results.size() == 0) {
       return notFound("No records");
     } else {
-      return ok(Json.toJson(results));
+      if (results.size() == REST_PAGE_LENGTH) {
+        response().setHeader(NEXT_PAGE_TOKEN_HEADER,
+            getPageToken(results.get(results.size() - 1), sortKey).encode());
+      }
+      return JsonChunks.ok(new JsonChunks() {
+        @Override
+        protected void write(JsonGenerator generator) throws IOException {
+          generator.writeObject(results);
+        }
+      });
     }
   }
 
@@ -1162,22 +1302,16 @@ public class Application extends Controller {
     List<AppResult> results1 = null;
     List<AppResult> results2 = null;
     if (flowExecId1 != null && !flowExecId1.isEmpty() && flowExecId2 != null && !flowExecId2.isEmpty()) {
-      results1 = AppResult.find.select("*")
+      results1 = HeuristicResults.load(ReadReplica.of(AppResult.find).select("*")
           .where()
           .eq(AppResult.TABLE.FLOW_EXEC_ID, flowExecId1)
           .setMaxRows(100)
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, "*")
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS + "." + AppHeuristicResult.TABLE.APP_HEURISTIC_RESULT_DETAILS,
-              "*")
-          .findList();
-      results2 = AppResult.find.select("*")
+          .findList(), HeuristicResults.Projection.DETAILS);
+      results2 = HeuristicResults.load(ReadReplica.of(AppResult.find).select("*")
           .where()
           .eq(AppResult.TABLE.FLOW_EXEC_ID, flowExecId2)
           .setMaxRows(100)
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, "*")
-          .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS + "." + AppHeuristicResult.TABLE.APP_HEURISTIC_RESULT_DETAILS,
-              "*")
-          .findList();
+          .findList(), HeuristicResults.Projection.DETAILS);
     }
 
     Map<IdUrlPair, Map<IdUrlPair, List<AppResult>>> compareResults = compareFlows(results1, results2);
@@ -1240,10 +1374,21 @@ public class Application extends Controller {
    * }
    * </pre>
    */
-  public static Result restFlowGraphData(String flowDefId) {
+  public static Result restFlowGraphData(final String flowDefId) {
+    String cacheKey = "restFlowGraphData:" + flowDefId;
+    return ResponseCache.instance().serve(ResponseCache.Kind.AGGREGATE, cacheKey, ResponseCache.TEXT,
+        new Callable<String>() {
+          @Override
+          public String call() {
+            return getFlowGraphJson(flowDefId);
+          }
+        });
+  }
+
+  private static String getFlowGraphJson(String flowDefId) {
     JsonArray datasets = new JsonArray();
     if (flowDefId == null || flowDefId.isEmpty()) {
-      return ok(new Gson().toJson(datasets));
+      return new Gson().toJson(datasets);
     }
 
     // Fetch available flow executions with latest JOB_HISTORY_LIMIT mr jobs.
@@ -1293,7 +1438,7 @@ public class Application extends Controller {
 
     JsonArray sortedDatasets = Utils.sortJsonArray(datasets);
 
-    return ok(new Gson().toJson(sortedDatasets));
+    return new Gson().toJson(sortedDatasets);
   }
 
 
@@ -1338,10 +1483,21 @@ public class Application extends Controller {
    * }
    * </pre>
    */
-  public static Result restJobGraphData(String jobDefId) {
+  public static Result restJobGraphData(final String jobDefId) {
+    String cacheKey = "restJobGraphData:" + jobDefId;
+    return ResponseCache.instance().serve(ResponseCache.Kind.AGGREGATE, cacheKey, ResponseCache.TEXT,
+        new Callable<String>() {
+          @Override
+          public String call() {
+            return getJobGraphJson(jobDefId);
+          }
+        });
+  }
+
+  private static String getJobGraphJson(String jobDefId) {
     JsonArray datasets = new JsonArray();
     if (jobDefId == null || jobDefId.isEmpty()) {
-      return ok(new Gson().toJson(datasets));
+      return new Gson().toJson(datasets);
     }
 
     // Fetch available flow executions with latest JOB_HISTORY_LIMIT mr jobs.
@@ -1388,7 +1544,7 @@ public class Application extends Controller {
 
     JsonArray sortedDatasets = Utils.sortJsonArray(datasets);
 
-    return ok(new Gson().toJson(sortedDatasets));
+    return new Gson().toJson(sortedDatasets);
   }
 
   /**
@@ -1432,10 +1588,21 @@ public class Application extends Controller {
    *
    * </pre>
    */
-  public static Result restJobMetricsGraphData(String jobDefId) {
+  public static Result restJobMetricsGraphData(final String jobDefId) {
+    String cacheKey = "restJobMetricsGraphData:" + jobDefId;
+    return ResponseCache.instance().serve(ResponseCache.Kind.AGGREGATE, cacheKey, ResponseCache.TEXT,
+        new Callable<String>() {
+          @Override
+          public String call() {
+            return getJobMetricsGraphJson(jobDefId);
+          }
+        });
+  }
+
+  private static String getJobMetricsGraphJson(String jobDefId) {
     JsonArray datasets = new JsonArray();
     if (jobDefId == null || jobDefId.isEmpty()) {
-      return ok(new Gson().toJson(datasets));
+      return new Gson().toJson(datasets);
     }
 
     List<AppResult> results = getRestJobAppResults(jobDefId);
@@ -1495,7 +1662,34 @@ public class Application extends Controller {
 
     JsonArray sortedDatasets = Utils.sortJsonArray(datasets);
 
-    return ok(new Gson().toJson(sortedDatasets));
+    return new Gson().toJson(sortedDatasets);
+  }
+
+  /**
+   * Rest API for the query patterns audited since the start, by decreasing total time. Returns 404 unless
+   * drelephant.query.audit.enabled is set.
+   *   [{"endpoint":"Application.search","sql":"select ... where t0.queue_name = ? ...","count":12,
+   *     "totalMs":5120,"maxMs":940,"avgMs":426}]
+   *
+   * @param limit The maximum number of patterns to return
+   */
+  public static Result restQueryAudit(int limit) {
+    if (!QueryAudit.isEnabled()) {
+      return notFound("The query audit is disabled");
+    }
+    JsonArray patterns = new JsonArray();
+    for (QueryAudit.PatternStats stats : QueryAudit.getTopPatterns(limit)) {
+      JsonObject pattern = new JsonObject();
+      pattern.addProperty("endpoint", stats.getEndpoint());
+      pattern.addProperty("sql", stats.getSql());
+      pattern.addProperty("count", stats.getCount());
+      pattern.addProperty("totalMs", TimeUnit.NANOSECONDS.toMillis(stats.getTotalNanos()));
+      pattern.addProperty("maxMs", TimeUnit.NANOSECONDS.toMillis(stats.getMaxNanos()));
+      long count = Math.max(1, stats.getCount());
+      pattern.addProperty("avgMs", TimeUnit.NANOSECONDS.toMillis(stats.getTotalNanos() / count));
+      patterns.add(pattern);
+    }
+    return ok(new Gson().toJson(patterns));
   }
 
   /**
@@ -1509,7 +1703,6 @@ public class Application extends Controller {
    */
   public static Result restResourceUsageDataByUser(String startTime, String endTime) {
     try {
-      JsonArray datasets = new JsonArray();
       if(startTime.length() != endTime.length() ||
           (startTime.length() != 10 && startTime.length() != 13)) {
         return status(300);
@@ -1523,9 +1716,22 @@ public class Application extends Controller {
       }
       Date start = tf.parse(startTime);
       Date end = tf.parse(endTime);
-      Collection<AppResourceUsageData> result = getUserResourceUsage(start, end);
-
-      return ok(new Gson().toJson(result));
+      final Collection<AppResourceUsageData> result = getUserResourceUsage(start, end);
+
+      return JsonChunks.ok(new JsonChunks() {
+        @Override
+        protected void write(JsonGenerator generator) throws IOException {
+          generator.writeStartArray();
+          for (AppResourceUsageData data : result) {
+            generator.writeStartObject();
+            JsonChunks.writeStringField(generator, "user", data.user);
+            generator.writeNumberField("resourceUsed", data.resourceUsed);
+            generator.writeNumberField("resourceWasted", data.resourceWasted);
+            generator.writeEndObject();
+          }
+          generator.writeEndArray();
+        }
+      });
     }
     catch(ParseException ex) {
       return status(300,"Invalid datetime format : " + ex.getMessage());
@@ -1573,10 +1779,21 @@ public class Application extends Controller {
    *}
    *]
    **/
-  public static Result restFlowMetricsGraphData(String flowDefId) {
+  public static Result restFlowMetricsGraphData(final String flowDefId) {
+    String cacheKey = "restFlowMetricsGraphData:" + flowDefId;
+    return ResponseCache.instance().serve(ResponseCache.Kind.AGGREGATE, cacheKey, ResponseCache.TEXT,
+        new Callable<String>() {
+          @Override
+          public String call() {
+            return getFlowMetricsGraphJson(flowDefId);
+          }
+        });
+  }
+
+  private static String getFlowMetricsGraphJson(String flowDefId) {
     JsonArray datasets = new JsonArray();
     if (flowDefId == null || flowDefId.isEmpty()) {
-      return ok(new Gson().toJson(datasets));
+      return new Gson().toJson(datasets);
     }
 
     List<AppResult> results = getRestFlowAppResults(flowDefId);
@@ -1647,7 +1864,7 @@ public class Application extends Controller {
 
     JsonArray sortedDatasets = Utils.sortJsonArray(datasets);
 
-    return ok(new Gson().toJson(sortedDatasets));
+    return new Gson().toJson(sortedDatasets);
   }
 
   /**
@@ -1655,15 +1872,14 @@ public class Application extends Controller {
    * @return The list of AppResults
    */
   private static List<AppResult> getRestJobAppResults(String jobDefId) {
-    List<AppResult> results = AppResult.find.select(
+    List<AppResult> results = HeuristicResults.load(ReadReplica.of(AppResult.find).select(
         AppResult.getSearchFields() + "," + AppResult.TABLE.FLOW_EXEC_ID + "," + AppResult.TABLE.FLOW_EXEC_URL)
         .where()
         .eq(AppResult.TABLE.JOB_DEF_ID, jobDefId)
         .order()
         .desc(AppResult.TABLE.FINISH_TIME)
         .setMaxRows(JOB_HISTORY_LIMIT)
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, "*")
-        .findList();
+        .findList(), HeuristicResults.Projection.SCORE);
 
     return results;
   }
@@ -1674,7 +1890,7 @@ public class Application extends Controller {
    */
   private static List<AppResult> getRestFlowAppResults(String flowDefId) {
     // Fetch available flow executions with latest JOB_HISTORY_LIMIT mr jobs.
-    List<AppResult> results = AppResult.find.select("*")
+    List<AppResult> results = ReadReplica.of(AppResult.find).select("*")
         .where()
         .eq(AppResult.TABLE.FLOW_DEF_ID, flowDefId)
         .order()
@@ -1696,25 +1912,24 @@ public class Application extends Controller {
    * @return list of AppResourceUsageData
    **/
   private static Collection<AppResourceUsageData> getUserResourceUsage(Date start, Date end) {
-    long resourceUsed = 0;
-    Map<String, AppResourceUsageData> userResourceUsage = new HashMap<String, AppResourceUsageData>();
-    // Fetch all the appresults for the given time range [startTime, endTime).
-    List<AppResult> results = AppResult.find.select("*")
-        .where()
-        .ge(AppResult.TABLE.START_TIME, start.getTime())
-        .lt(AppResult.TABLE.START_TIME, end.getTime()).findList();
+    // Aggregate the resources of the appresults in the time range [startTime, endTime) by user in the database,
+    // rather than reading every appresult of the range
+    List<SqlRow> rows = ReadReplica.server().createSqlQuery("SELECT username,"
+        + " SUM(resource_used) AS resource_used, SUM(resource_wasted) AS resource_wasted"
+        + " FROM " + AppResult.TABLE.TABLE_NAME
+        + " WHERE start_time >= :start AND start_time < :end GROUP BY username")
+        .setParameter("start", start.getTime())
+        .setParameter("end", end.getTime())
+        .findList();
 
-    // aggregate the resourceUsage data at the user level
-    for (AppResult result : results) {
-      if (!userResourceUsage.containsKey(result.username)) {
-        AppResourceUsageData data = new AppResourceUsageData();
-        data.user = result.username;
-        userResourceUsage.put(result.username, data);
-      }
-      userResourceUsage.get(result.username).resourceUsed += Utils.MBSecondsToGBHours(result.resourceUsed);
-      userResourceUsage.get(result.username).resourceWasted += Utils.MBSecondsToGBHours(result.resourceWasted);
+    List<AppResourceUsageData> userResourceUsage = new ArrayList<AppResourceUsageData>(rows.size());
+    for (SqlRow row : rows) {
+      AppResourceUsageData data = new AppResourceUsageData();
+      data.user = row.getString("username");
+      data.resourceUsed = Utils.MBSecondsToGBHours(row.getLong("resource_used"));
+      data.resourceWasted = Utils.MBSecondsToGBHours(row.getLong("resource_wasted"));
+      userResourceUsage.add(data);
     }
-
-    return userResourceUsage.values();
+    return userResourceUsage;
   }
 }
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package controllers;
+
+import com.avaje.ebean.SqlQuery;
+import com.avaje.ebean.SqlRow;
+import com.linkedin.drelephant.analysis.Severity;
+import com.linkedin.drelephant.util.ReadReplica;
+import com.linkedin.drelephant.util.Utils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import models.AppResult;
+import org.apache.commons.lang.StringUtils;
+
+
+/**
+ * Summarizes job and flow executions with grouped queries over yarn_app_result, so that only one row per execution
+ * and the start, finish and delay of its applications are read rather than the full application results.
+ */
+public class ExecutionSummaries {
+
+  /**
+   * The summary of the applications of a job or flow execution.
+   */
+  public static class ExecutionSummary {
+    private final String _id;
+    private String _username;
+    private String _jobType;
+    private String _jobName;
+    private String _jobDefId;
+    private String _flowExecId;
+    private String _flowDefId;
+    private String _queueName;
+    private String _scheduler;
+    private long _startTime;
+    private long _finishTime;
+    private long _waittime;
+    private long _resourceUsed;
+    private long _resourceWasted;
+    private Severity _severity;
+    private final Map<Severity, Long> _severityCounts = new HashMap<Severity, Long>();
+
+    ExecutionSummary(String id) {
+      _id = id;
+    }
+
+    /**
+     * @return The job or flow execution id
+     */
+    public String getId() {
+      return _id;
+    }
+
+    public String getUsername() {
+      return _username;
+    }
+
+    public String getJobType() {
+      return _jobType;
+    }
+
+    public String getJobName() {
+      return _jobName;
+    }
+
+    public String getJobDefId() {
+      return _jobDefId;
+    }
+
+    public String getFlowExecId() {
+      return _flowExecId;
+    }
+
+    public String getFlowDefId() {
+      return _flowDefId;
+    }
+
+    public String getQueueName() {
+      return _queueName;
+    }
+
+    public String getScheduler() {
+      return _scheduler;
+    }
+
+    public long getStartTime() {
+      return _startTime;
+    }
+
+    public long getFinishTime() {
+      return _finishTime;
+    }
+
+    /**
+     * @return The time from the first start to the last finish of the applications
+     */
+    public long getRuntime() {
+      return _finishTime - _startTime;
+    }
+
+    /**
+     * @return The wait time, as computed by {@link Utils#getTotalWaittime(List)}
+     */
+    public long getWaittime() {
+      return _waittime;
+    }
+
+    public long getResourceUsed() {
+      return _resourceUsed;
+    }
+
+    public long getResourceWasted() {
+      return _resourceWasted;
+    }
+
+    public Severity getSeverity() {
+      return _severity;
+    }
+
+    /**
+     * @return The number of applications of a job, or of jobs of a flow, by severity. The severity of a job is the
+     *     highest severity of its applications.
+     */
+    public Map<Severity, Long> getSeverityCounts() {
+      return _severityCounts;
+    }
+  }
+
+  private static final String JOB_EXEC_ID = "job_exec_id";
+  private static final String FLOW_EXEC_ID = "flow_exec_id";
+
+  /**
+   * A condition on the applications, with its named parameters.
+   */
+  private static class Filter {
+    private final StringBuilder _sql = new StringBuilder("1 = 1");
+    private final Map<String, Object> _params = new HashMap<String, Object>();
+
+    Filter eq(String column, String value) {
+      String param = "p" + _params.size();
+      _sql.append(" AND ").append(column).append(" = :").append(param);
+      _params.put(param, value);
+      return this;
+    }
+
+    Filter ne(String column, String value) {
+      String param = "p" + _params.size();
+      _sql.append(" AND ").append(column).append(" <> :").append(param);
+      _params.put(param, value);
+      return this;
+    }
+
+    Filter in(String column, List<String> values) {
+      List<String> params = new ArrayList<String>(values.size());
+      for (String value : values) {
+        String param = "p" + _params.size();
+        params.add(":" + param);
+        _params.put(param, value);
+      }
+      _sql.append(" AND ").append(column).append(" IN (").append(StringUtils.join(params, ", ")).append(")");
+      return this;
+    }
+
+    List<SqlRow> findList(String sql) {
+      SqlQuery query = ReadReplica.server().createSqlQuery(sql);
+      for (Map.Entry<String, Object> param : _params.entrySet()) {
+        query.setParameter(param.getKey(), param.getValue());
+      }
+      return query.findList();
+    }
+  }
+
+  private ExecutionSummaries() {
+  }
+
+  /**
+   * Returns the latest job executions of the scheduled applications, latest first.
+   *
+   * @param username The user whose applications to summarize, or null or empty for all the users
+   * @param maxApplications The number of latest applications the executions are picked from
+   * @param maxExecutions The maximum number of executions to return
+   * @return The job execution summaries
+   */
+  public static List<ExecutionSummary> getLatestJobExecutions(String username, int maxApplications,
+      int maxExecutions) {
+    Filter filter = scheduledApplications(username);
+    return summarize(JOB_EXEC_ID, filter, getLatestExecutionIds(JOB_EXEC_ID, filter, maxApplications, maxExecutions));
+  }
+
+  /**
+   * Returns the latest flow executions of the scheduled applications, latest first.
+   *
+   * @param username The user whose applications to summarize, or null or empty for all the users
+   * @param maxApplications The number of latest applications the executions are picked from
+   * @param maxExecutions The maximum number of executions to return
+   * @return The flow execution summaries
+   */
+  public static List<ExecutionSummary> getLatestFlowExecutions(String username, int maxApplications,
+      int maxExecutions) {
+    Filter filter = scheduledApplications(username);
+    return summarize(FLOW_EXEC_ID, filter,
+        getLatestExecutionIds(FLOW_EXEC_ID, filter, maxApplications, maxExecutions));
+  }
+
+  /**
+   * @return The summary of the given flow execution, or null if it has no applications
+   */
+  public static ExecutionSummary getFlowExecution(String flowExecId) {
+    List<ExecutionSummary> summaries =
+        summarize(FLOW_EXEC_ID, new Filter(), Collections.singletonList(flowExecId));
+    return summaries.isEmpty() ? null : summaries.get(0);
+  }
+
+  /**
+   * @return The summaries of the job executions of the given flow execution, latest first
+   */
+  public static List<ExecutionSummary> getJobExecutionsOfFlow(String flowExecId) {
+    return summarize(JOB_EXEC_ID, new Filter().eq(FLOW_EXEC_ID, flowExecId), null);
+  }
+
+  /**
+   * @return The ids of the job executions of the given flow execution, in ascending order
+   */
+  public static List<String> getJobExecutionIdsOfFlow(String flowExecId) {
+    Filter filter = new Filter().eq(FLOW_EXEC_ID, flowExecId);
+    String sql = "SELECT DISTINCT " + JOB_EXEC_ID + " AS exec_id FROM " + AppResult.TABLE.TABLE_NAME + " WHERE "
+        + filter._sql + " ORDER BY exec_id";
+    List<String> ids = new ArrayList<String>();
+    for (SqlRow row : filter.findList(sql)) {
+      ids.add(row.getString("exec_id"));
+    }
+    return ids;
+  }
+
+  /**
+   * Returns the flow executions of the latest applications matching the given conditions, latest first. The
+   * executions are picked with a grouped query, so only the flow execution ids of the applications are read.
+   *
+   * @param column The yarn_app_result column to match, e.g. flow_def_id
+   * @param value The value to match
+   * @param maxApplications The number of latest applications the executions are picked from
+   * @param maxExecutions The maximum number of executions to return
+   * @return The flow execution ids
+   */
+  public static List<String> getLatestFlowExecutionIds(String column, String value, int maxApplications,
+      int maxExecutions) {
+    return getLatestExecutionIds(FLOW_EXEC_ID, new Filter().eq(column, value), maxApplications, maxExecutions);
+  }
+
+  private static Filter scheduledApplications(String username) {
+    Filter filter = new Filter().ne(FLOW_EXEC_ID, "");
+    if (username != null && !username.isEmpty()) {
+      filter.eq("username", username);
+    }
+    return filter;
+  }
+
+  private static List<String> getLatestExecutionIds(String idColumn, Filter filter, int maxApplications,
+      int maxExecutions) {
+    String sql = "SELECT recent.exec_id AS exec_id, MAX(recent.finish_time) AS last_finish_time FROM (SELECT "
+        + idColumn + " AS exec_id, finish_time FROM " + AppResult.TABLE.TABLE_NAME + " WHERE " + filter._sql
+        + " ORDER BY finish_time DESC LIMIT " + maxApplications + ") recent GROUP BY recent.exec_id"
+        + " ORDER BY last_finish_time DESC LIMIT " + maxExecutions;
+    List<String> ids = new ArrayList<String>();
+    for (SqlRow row : filter.findList(sql)) {
+      ids.add(row.getString("exec_id"));
+    }
+    return ids;
+  }
+
+  /**
+   * Summarizes the executions with the given ids, or all the executions of the applications matching the filter
+   * if ids is null.
+   */
+  private static List<ExecutionSummary> summarize(String idColumn, Filter filter, List<String> ids) {
+    if (ids != null) {
+      if (ids.isEmpty()) {
+        return new ArrayList<ExecutionSummary>();
+      }
+      filter.in(idColumn, ids);
+    }
+    String from = " FROM " + AppResult.TABLE.TABLE_NAME + " WHERE " + filter._sql;
+
+    Map<String, ExecutionSummary> summaries = new LinkedHashMap<String, ExecutionSummary>();
+    String sql = "SELECT " + idColumn + " AS exec_id, MIN(start_time) AS start_time, MAX(finish_time) AS finish_time,"
+        + " SUM(resource_used) AS resource_used, SUM(resource_wasted) AS resource_wasted, MAX(severity) AS severity,"
+        + " MAX(username) AS username, MAX(job_type) AS job_type, MAX(job_name) AS job_name,"
+        + " MAX(job_def_id) AS job_def_id, MAX(flow_exec_id) AS flow_exec_id, MAX(flow_def_id) AS flow_def_id,"
+        + " MAX(queue_name) AS queue_name, MAX(scheduler) AS scheduler" + from + " GROUP BY " + idColumn
+        + " ORDER BY MAX(finish_time) DESC";
+    for (SqlRow row : filter.findList(sql)) {
+      ExecutionSummary summary = new ExecutionSummary(row.getString("exec_id"));
+      summary._startTime = getLong(row, "start_time");
+      summary._finishTime = getLong(row, "finish_time");
+      summary._resourceUsed = getLong(row, "resource_used");
+      summary._resourceWasted = getLong(row, "resource_wasted");
+      summary._severity = Severity.byValue((int) getLong(row, "severity"));
+      summary._username = row.getString("username");
+      summary._jobType = row.getString("job_type");
+      summary._jobName = row.getString("job_name");
+      summary._jobDefId = row.getString("job_def_id");
+      summary._flowExecId = row.getString("flow_exec_id");
+      summary._flowDefId = row.getString("flow_def_id");
+      summary._queueName = row.getString("queue_name");
+      summary._scheduler = row.getString("scheduler");
+      summaries.put(summary._id, summary);
+    }
+    if (summaries.isEmpty()) {
+      return new ArrayList<ExecutionSummary>();
+    }
+
+    // The severity counts are per application for a job, and per job for a flow
+    if (idColumn.equals(JOB_EXEC_ID)) {
+      sql = "SELECT " + idColumn + " AS exec_id, severity, COUNT(*) AS num" + from + " GROUP BY " + idColumn
+          + ", severity";
+    } else {
+      sql = "SELECT jobs.exec_id AS exec_id, jobs.severity AS severity, COUNT(*) AS num FROM (SELECT " + idColumn
+          + " AS exec_id, MAX(severity) AS severity" + from + " GROUP BY " + idColumn + ", " + JOB_EXEC_ID
+          + ") jobs GROUP BY jobs.exec_id, jobs.severity";
+    }
+    for (SqlRow row : filter.findList(sql)) {
+      ExecutionSummary summary = summaries.get(row.getString("exec_id"));
+      if (summary != null) {
+        summary._severityCounts.put(Severity.byValue((int) getLong(row, "severity")), getLong(row, "num"));
+      }
+    }
+
+    // The wait time depends on how the applications overlap, so it is computed from their start and finish times
+    Map<String, List<AppResult>> timings = new HashMap<String, List<AppResult>>();
+    sql = "SELECT " + idColumn + " AS exec_id, start_time, finish_time, total_delay" + from;
+    for (SqlRow row : filter.findList(sql)) {
+      String id = row.getString("exec_id");
+      List<AppResult> applications = timings.get(id);
+      if (applications == null) {
+        applications = new ArrayList<AppResult>();
+        timings.put(id, applications);
+      }
+      AppResult application = new AppResult();
+      application.startTime = getLong(row, "start_time");
+      application.finishTime = getLong(row, "finish_time");
+      application.totalDelay = getLong(row, "total_delay");
+      applications.add(application);
+    }
+    for (Map.Entry<String, List<AppResult>> entry : timings.entrySet()) {
+      ExecutionSummary summary = summaries.get(entry.getKey());
+      if (summary != null) {
+        summary._waittime = Utils.getTotalWaittime(entry.getValue());
+      }
+    }
+
+    return new ArrayList<ExecutionSummary>(summaries.values());
+  }
+
+  private static long getLong(SqlRow row, String key) {
+    Long value = row.getLong(key);
+    return value == null ? 0 : value;
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package controllers;
+
+import com.avaje.ebean.Query;
+import com.google.common.collect.Lists;
+import com.linkedin.drelephant.util.ReadReplica;
+import com.linkedin.drelephant.util.Utils;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import models.AppHeuristicResult;
+import models.AppResult;
+
+
+/**
+ * Loads the heuristic results of many application results at once.
+ * <p/>
+ * Fetching the heuristic results and their details along with the application results makes Ebean join all three
+ * tables, or split the fetch in query batches, and brings back every detail row even for the views which only show
+ * the severities. Instead the application results are read on their own, and their heuristic results are read with
+ * one more query over the ids of the application results, selecting only what the caller renders.
+ */
+public class HeuristicResults {
+
+  // The number of application results whose heuristic results are read by a single query
+  static final int BATCH_SIZE = 500;
+
+  /**
+   * What is read of the heuristic results.
+   */
+  public enum Projection {
+    /** The heuristic names and severities, for the summaries */
+    SEVERITY(Utils.commaSeparated(AppHeuristicResult.getSearchFields(), AppHeuristicResult.TABLE.APP_RESULT_ID), false),
+    /** The heuristic scores, for the performance graphs */
+    SCORE(Utils.commaSeparated(AppHeuristicResult.TABLE.SCORE, AppHeuristicResult.TABLE.APP_RESULT_ID), false),
+    /** Every column and the details, for the pages and apis showing a whole result */
+    DETAILS("*", true);
+
+    // The application result is selected for its id only, to know which application result to set each one to
+    private final String _fields;
+    private final boolean _withDetails;
+
+    Projection(String fields, boolean withDetails) {
+      _fields = fields;
+      _withDetails = withDetails;
+    }
+  }
+
+  /**
+   * Reads and sets the heuristic results of the given application results, in the order they were saved.
+   *
+   * @param results The application results, read without their heuristic results
+   * @param projection What to read of the heuristic results
+   * @return The given application results
+   */
+  public static <T extends Collection<AppResult>> T load(T results, Projection projection) {
+    if (results.isEmpty()) {
+      return results;
+    }
+    List<String> ids = new ArrayList<String>(results.size());
+    for (AppResult result : results) {
+      ids.add(result.id);
+    }
+
+    List<AppHeuristicResult> heuristicResults = new ArrayList<AppHeuristicResult>();
+    for (List<String> batch : Lists.partition(ids, BATCH_SIZE)) {
+      Query<AppHeuristicResult> query = ReadReplica.of(AppHeuristicResult.find).select(projection._fields);
+      if (projection._withDetails) {
+        query.fetch(AppHeuristicResult.TABLE.APP_HEURISTIC_RESULT_DETAILS, "*");
+      }
+      heuristicResults.addAll(query.where()
+          .in(AppHeuristicResult.TABLE.APP_RESULT_ID + "." + AppResult.TABLE.ID, batch)
+          .orderBy(AppHeuristicResult.TABLE.ID)
+          .findList());
+    }
+    assign(results, heuristicResults);
+    return results;
+  }
+
+  /**
+   * Reads an application result and its heuristic results.
+   *
+   * @param query The query of the application result, without its heuristic results
+   * @param projection What to read of the heuristic results
+   * @return The application result, or null if there is none
+   */
+  public static AppResult loadUnique(Query<AppResult> query, Projection projection) {
+    AppResult result = query.findUnique();
+    if (result != null) {
+      load(Lists.newArrayList(result), projection);
+    }
+    return result;
+  }
+
+  /**
+   * Sets the heuristic results of each application result, application results without any getting an empty list.
+   */
+  static void assign(Collection<AppResult> results, List<AppHeuristicResult> heuristicResults) {
+    Map<String, List<AppHeuristicResult>> resultsById = new LinkedHashMap<String, List<AppHeuristicResult>>();
+    for (AppResult result : results) {
+      resultsById.put(result.id, new ArrayList<AppHeuristicResult>());
+    }
+    for (AppHeuristicResult heuristicResult : heuristicResults) {
+      List<AppHeuristicResult> list = resultsById.get(heuristicResult.yarnAppResult.id);
+      if (list != null) {
+        list.add(heuristicResult);
+      }
+    }
+    for (AppResult result : results) {
+      result.yarnAppHeuristicResults = resultsById.get(result.id);
+    }
+  }
+}
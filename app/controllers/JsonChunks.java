@@ -0,0 +1,307 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package controllers;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.drelephant.util.QueryAudit;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.log4j.Logger;
+import play.mvc.Http;
+import play.mvc.Result;
+import play.mvc.Results;
+
+
+/**
+ * A JSON response written with a streaming generator and sent in chunks as it is written, so that a large response
+ * is built neither as a tree nor as a whole string in memory.
+ * <p/>
+ * The response is written, database reads included, on a dedicated pool of writer threads rather than on Play's
+ * threads. The writer hands the chunks over to Play through a bounded pipe, and blocks while
+ * {@link #MAX_PENDING_CHUNKS} chunks wait for a slow client, so a response holds a bounded amount of memory whatever
+ * its size. The request must be read, and whether anything is found checked, before the response is returned. A
+ * failure while writing can only abort the response, the status being already sent.
+ */
+public abstract class JsonChunks {
+
+  private static final Logger logger = Logger.getLogger(JsonChunks.class);
+
+  // The size of the chunks sent
+  static final int CHUNK_SIZE = 16 * 1024;
+  // The number of chunks written ahead of the client
+  static final int MAX_PENDING_CHUNKS = 4;
+
+  // The number of responses written at once, and of responses waiting for a writer, beyond which the requests are
+  // turned away
+  private static final int MAX_WRITERS = 16;
+  private static final int MAX_QUEUED_RESPONSES = 64;
+
+  private static final ThreadPoolExecutor WRITERS = new ThreadPoolExecutor(MAX_WRITERS, MAX_WRITERS, 60,
+      TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(MAX_QUEUED_RESPONSES),
+      new ThreadFactoryBuilder().setNameFormat("dr-el-json-writer-%d").setDaemon(true).build());
+
+  static {
+    WRITERS.allowCoreThreadTimeOut(true);
+  }
+
+  // Serializes the same as play.libs.Json, without flushing a chunk after each value
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper().configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false);
+
+  // The statements run while writing are audited under the endpoint of the request
+  private final String _endpoint = QueryAudit.getEndpoint();
+
+  /**
+   * Writes the JSON of the response.
+   *
+   * @param generator The generator, which serializes the objects given to writeObject the same as play.libs.Json
+   */
+  protected abstract void write(JsonGenerator generator) throws IOException;
+
+  /**
+   * Writes a string field, unless the value is null, as Gson leaves out the null properties.
+   */
+  public static void writeStringField(JsonGenerator generator, String name, String value) throws IOException {
+    if (value != null) {
+      generator.writeStringField(name, value);
+    }
+  }
+
+  /**
+   * @return An OK response streaming the JSON of the given chunks, or a 503 if too many responses are being written
+   */
+  public static Result ok(final JsonChunks chunks) {
+    final ChunkPipe pipe = new ChunkPipe(CHUNK_SIZE, MAX_PENDING_CHUNKS);
+    try {
+      WRITERS.execute(new Runnable() {
+        @Override
+        public void run() {
+          chunks.writeTo(pipe);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      logger.warn("Turning a request away, " + MAX_QUEUED_RESPONSES + " responses already wait for a writer");
+      return Results.status(Http.Status.SERVICE_UNAVAILABLE, "Too many requests, please retry later");
+    }
+    Http.Context.current().response().setContentType(ResponseCache.JSON);
+    return Results.ok(pipe.getInput(), CHUNK_SIZE);
+  }
+
+  /**
+   * Writes the response into the given pipe, and ends it.
+   */
+  void writeTo(ChunkPipe pipe) {
+    if (_endpoint != null) {
+      QueryAudit.setEndpoint(_endpoint);
+    }
+    Throwable error = null;
+    try {
+      JsonGenerator generator = MAPPER.getFactory().createGenerator(pipe.getOutput(), JsonEncoding.UTF8);
+      write(generator);
+      generator.close();
+    } catch (Throwable t) {
+      error = t;
+      if (pipe.isClosedByReader()) {
+        logger.debug("Stopped writing a JSON response, the client disconnected");
+      } else {
+        logger.error("Failed to write a JSON response", t);
+      }
+    } finally {
+      QueryAudit.clearEndpoint();
+      pipe.end(error);
+    }
+  }
+
+  /**
+   * A pipe of chunks between the thread writing a response and the thread sending it. The writer blocks while
+   * maxChunks chunks wait to be read, so at most about (maxChunks + 2) * chunkSize bytes are held at any time.
+   */
+  static class ChunkPipe {
+    private static final byte[] END_OF_STREAM = new byte[0];
+    // How long a blocked writer waits before checking again whether the reader is gone
+    private static final long POLL_MS = 1000;
+
+    private final int _chunkSize;
+    private final BlockingQueue<byte[]> _chunks;
+    private volatile boolean _closedByReader = false;
+    private volatile Throwable _error;
+
+    // The chunk being written
+    private byte[] _buffer;
+    private int _length = 0;
+
+    // The chunk being read
+    private byte[] _current;
+    private int _position = 0;
+    private boolean _eof = false;
+
+    private final OutputStream _output = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+          int count = Math.min(len, _chunkSize - _length);
+          System.arraycopy(b, off, _buffer, _length, count);
+          _length += count;
+          off += count;
+          len -= count;
+          if (_length == _chunkSize) {
+            send();
+          }
+        }
+      }
+
+      @Override
+      public void close() throws IOException {
+        send();
+      }
+    };
+
+    private final InputStream _input = new InputStream() {
+      @Override
+      public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+          return 0;
+        }
+        if (!ensureCurrent()) {
+          return -1;
+        }
+        int count = Math.min(len, _current.length - _position);
+        System.arraycopy(_current, _position, b, off, count);
+        _position += count;
+        return count;
+      }
+
+      @Override
+      public void close() {
+        _closedByReader = true;
+        _chunks.clear();
+      }
+    };
+
+    ChunkPipe(int chunkSize, int maxChunks) {
+      _chunkSize = chunkSize;
+      _buffer = new byte[chunkSize];
+      _chunks = new ArrayBlockingQueue<byte[]>(maxChunks);
+    }
+
+    OutputStream getOutput() {
+      return _output;
+    }
+
+    InputStream getInput() {
+      return _input;
+    }
+
+    boolean isClosedByReader() {
+      return _closedByReader;
+    }
+
+    /**
+     * Ends the stream, after the chunks written so far unless the writer failed.
+     *
+     * @param error The failure of the writer, rethrown to the reader, or null
+     */
+    void end(Throwable error) {
+      try {
+        if (error == null) {
+          send();
+        } else {
+          _error = error;
+        }
+        put(END_OF_STREAM);
+      } catch (IOException e) {
+        // The reader is gone
+      }
+    }
+
+    private void send() throws IOException {
+      if (_length == 0) {
+        return;
+      }
+      byte[] chunk = _length == _chunkSize ? _buffer : Arrays.copyOf(_buffer, _length);
+      put(chunk);
+      _buffer = new byte[_chunkSize];
+      _length = 0;
+    }
+
+    private void put(byte[] chunk) throws IOException {
+      try {
+        while (!_closedByReader && !_chunks.offer(chunk, POLL_MS, TimeUnit.MILLISECONDS)) {
+          // Wait for the reader to take a chunk, or to be gone
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the client");
+      }
+      if (_closedByReader) {
+        _chunks.clear();
+        throw new IOException("The client disconnected");
+      }
+    }
+
+    /**
+     * Makes sure that the current chunk has data left, taking the next chunk if needed.
+     *
+     * @return false at the end of the stream
+     */
+    private boolean ensureCurrent() throws IOException {
+      while (!_eof && (_current == null || _position == _current.length)) {
+        byte[] next;
+        try {
+          next = _chunks.take();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while waiting for the response");
+        }
+        _position = 0;
+        if (next == END_OF_STREAM) {
+          _eof = true;
+          _current = null;
+        } else {
+          _current = next;
+        }
+      }
+      if (_eof && _error != null) {
+        throw new IOException("Failed to write the response", _error);
+      }
+      return !_eof;
+    }
+  }
+}
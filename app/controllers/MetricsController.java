@@ -27,9 +27,10 @@ import com.codahale.metrics.health.jvm.ThreadDeadlockHealthCheck;
 import com.codahale.metrics.jvm.MemoryUsageGaugeSet;
 import com.linkedin.drelephant.analysis.AnalyticJob;
 import com.linkedin.drelephant.metrics.CustomGarbageCollectorMetricSet;
+import com.linkedin.drelephant.rollup.DashboardStatsService;
+import java.util.concurrent.TimeUnit;
 import org.apache.log4j.Logger;
 
-import models.AppResult;
 import play.Configuration;
 import play.libs.Json;
 import play.mvc.Controller;
@@ -47,6 +48,15 @@ import static com.codahale.metrics.MetricRegistry.name;
  * <ul>/ping - Reports application status if up</ul>
  * <ul>/healthcheck - Returns status in Json format from all the implemented healthchecks</ul>
  * <ul>/metrics - Returns all the metrics in Json format</ul>
+ *
+ * <br><br>
+ * Besides the job level metrics, the time spent in every stage of an analysis is timed per application type:
+ * <ul>AnalyticJob.fetch.&lt;appType&gt;.&lt;fetcher&gt; - Fetching the application data</ul>
+ * <ul>AnalyticJob.heuristic.&lt;appType&gt;.&lt;heuristic&gt; - Applying a heuristic</ul>
+ * <ul>AnalyticJob.aggregate.&lt;appType&gt; - Aggregating the application metrics</ul>
+ * <ul>AnalyticJob.persist.&lt;appType&gt; - Saving the analysis</ul>
+ * Fetchers and heuristics also get an <code>allocatedBytes</code> histogram when the JVM can measure
+ * per-thread allocation.
  */
 public class MetricsController extends Controller {
   private static final Logger LOGGER = Logger.getLogger(MetricsController.class);
@@ -65,6 +75,13 @@ public class MetricsController extends Controller {
   private static Meter _processedJobs;
   private static Histogram _jobProcessingTime;
 
+  private static final String ANALYSIS_METRICS_PREFIX = AnalyticJob.class.getSimpleName();
+  private static final String FETCH_STAGE = "fetch";
+  private static final String HEURISTIC_STAGE = "heuristic";
+  private static final String AGGREGATE_STAGE = "aggregate";
+  private static final String PERSIST_STAGE = "persist";
+  private static final String ALLOCATED_BYTES = "allocatedBytes";
+
   /**
    * Initializer method for the metrics registry. Call this method before registering
    * new metrics with the registry.
@@ -96,22 +113,9 @@ public class MetricsController extends Controller {
       }
     });
     _metricRegistry.register(name(className, "lastDayJobs", "count"), new Gauge<Integer>() {
-      private static final long DAY = 24 * 60 * 60 * 1000;
-      private static final long UPDATE_DELAY = 60 * 1000;
-
-      private long _lastUpdate = 0;
-      private int _count = -1;
-
       @Override
       public Integer getValue() {
-        long now = System.currentTimeMillis();
-        if (now - _lastUpdate > UPDATE_DELAY) {
-          _count = AppResult.find.where()
-                  .gt(AppResult.TABLE.FINISH_TIME, now - DAY)
-                  .findRowCount();
-          _lastUpdate = now;
-        }
-        return _count;
+        return (int) DashboardStatsService.instance().getLastDayTotals().getNumApps();
       }
     });
     _metricRegistry.register(name(className, "retryQueue", "size"), new Gauge<Integer>() {
@@ -198,6 +202,61 @@ public class MetricsController extends Controller {
     }
   }
 
+  /**
+   * Records the time taken by a fetcher to fetch the data of an application.
+   *
+   * @param appType The application type
+   * @param fetcher The simple class name of the fetcher
+   * @param nanos The time taken in nanoseconds
+   * @param allocatedBytes The bytes allocated by the fetching thread, or -1 if unknown
+   */
+  public static void updateFetchMetrics(String appType, String fetcher, long nanos, long allocatedBytes) {
+    updateStageMetrics(name(ANALYSIS_METRICS_PREFIX, FETCH_STAGE, appType, fetcher), nanos, allocatedBytes);
+  }
+
+  /**
+   * Records the time taken by a heuristic to analyze an application.
+   *
+   * @param appType The application type
+   * @param heuristic The simple class name of the heuristic
+   * @param nanos The time taken in nanoseconds
+   * @param allocatedBytes The bytes allocated by the heuristic, or -1 if unknown
+   */
+  public static void updateHeuristicMetrics(String appType, String heuristic, long nanos, long allocatedBytes) {
+    updateStageMetrics(name(ANALYSIS_METRICS_PREFIX, HEURISTIC_STAGE, appType, heuristic), nanos, allocatedBytes);
+  }
+
+  /**
+   * Records the time taken to aggregate the metrics of an application.
+   *
+   * @param appType The application type
+   * @param nanos The time taken in nanoseconds
+   */
+  public static void updateAggregateMetrics(String appType, long nanos) {
+    updateStageMetrics(name(ANALYSIS_METRICS_PREFIX, AGGREGATE_STAGE, appType), nanos, -1);
+  }
+
+  /**
+   * Records the time taken to save the analysis of an application.
+   *
+   * @param appType The application type
+   * @param nanos The time taken in nanoseconds
+   */
+  public static void updatePersistMetrics(String appType, long nanos) {
+    updateStageMetrics(name(ANALYSIS_METRICS_PREFIX, PERSIST_STAGE, appType), nanos, -1);
+  }
+
+  private static void updateStageMetrics(String metricName, long nanos, long allocatedBytes) {
+    MetricRegistry registry = _metricRegistry;
+    if (registry == null) {
+      return;
+    }
+    registry.timer(metricName).update(nanos, TimeUnit.NANOSECONDS);
+    if (allocatedBytes >= 0) {
+      registry.histogram(name(metricName, ALLOCATED_BYTES)).update(allocatedBytes);
+    }
+  }
+
   /**
    * A meter for marking skipped jobs.
    * Jobs which doesn't have any data or which exceeds the set number of
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package controllers;
+
+import java.nio.charset.Charset;
+import org.apache.commons.codec.binary.Base64;
+
+
+/**
+ * An opaque continuation token for keyset (seek) pagination of application results.
+ * <p/>
+ * The token holds the sort key and the id of the last result of a page, so the next page is read with a predicate on
+ * the sort key instead of an offset. Reading a page then costs the same however deep into the results it is, and
+ * results written between two requests neither shift nor repeat a page.
+ */
+public class PageToken {
+
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+  private static final String SEPARATOR = ":";
+
+  private final String _sortKey;
+  private final long _value;
+  private final String _id;
+
+  /**
+   * @param sortKey The property the results are sorted by, descending
+   * @param value The value of the sort key of the last result of the page
+   * @param id The id of the last result of the page, which breaks ties on the sort key
+   */
+  public PageToken(String sortKey, long value, String id) {
+    _sortKey = sortKey;
+    _value = value;
+    _id = id;
+  }
+
+  public String getSortKey() {
+    return _sortKey;
+  }
+
+  public long getValue() {
+    return _value;
+  }
+
+  public String getId() {
+    return _id;
+  }
+
+  /**
+   * @return The url safe encoded token
+   */
+  public String encode() {
+    return Base64.encodeBase64URLSafeString((_sortKey + SEPARATOR + _value + SEPARATOR + _id).getBytes(UTF8));
+  }
+
+  /**
+   * Decodes a token for results sorted by the given key.
+   *
+   * @param token The encoded token
+   * @param sortKey The property the results are sorted by
+   * @return The token, or null if it is malformed or was issued for results sorted by another key
+   */
+  public static PageToken decode(String token, String sortKey) {
+    if (token == null || token.isEmpty()) {
+      return null;
+    }
+    String[] parts = new String(Base64.decodeBase64(token), UTF8).split(SEPARATOR, 3);
+    if (parts.length != 3 || !parts[0].equals(sortKey) || parts[2].isEmpty()) {
+      return null;
+    }
+    try {
+      return new PageToken(parts[0], Long.parseLong(parts[1]), parts[2]);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
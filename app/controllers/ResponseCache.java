@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package controllers;
+
+import com.google.common.base.Charsets;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.common.hash.Hashing;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import org.apache.log4j.Logger;
+import play.mvc.Http;
+import play.mvc.Result;
+import play.mvc.Results;
+
+
+/**
+ * Caches the serialized responses of the REST endpoints which read results, so that repeated views are served from
+ * memory rather than rebuilt from the database.
+ * <p/>
+ * The responses are kept in a least recently used cache bounded by their total size, along with a strong ETag, which
+ * lets the browsers revalidate them with If-None-Match. The responses built from a single application result never
+ * change once the application is analyzed, but the result is eventually removed by the retention purge. The purge
+ * invalidates the cache of its own host, and the responses expire after {@link Kind#IMMUTABLE}'s TTL, the default
+ * interval of the purge, so that the other hosts and the browsers stop serving them soon after. The responses
+ * aggregating the applications of a job or a flow may still grow, so they expire after {@link Kind#AGGREGATE}'s TTL.
+ * Browsers may reuse the responses as long as they are cached. Responses which are not found are not cached.
+ */
+public class ResponseCache {
+
+  private static final Logger logger = Logger.getLogger(ResponseCache.class);
+
+  public static final String JSON = "application/json; charset=utf-8";
+  public static final String TEXT = "text/plain; charset=utf-8";
+
+  private static final long MAX_IMMUTABLE_BYTES = 64 * 1024 * 1024;
+  private static final long MAX_AGGREGATE_BYTES = 32 * 1024 * 1024;
+
+  public enum Kind {
+    IMMUTABLE(60 * 60 * 1000, "public, max-age=3600"),
+    AGGREGATE(60 * 1000, "public, max-age=60");
+
+    private final long _ttlMs;
+    private final String _cacheControl;
+
+    Kind(long ttlMs, String cacheControl) {
+      _ttlMs = ttlMs;
+      _cacheControl = cacheControl;
+    }
+  }
+
+  private static final ResponseCache INSTANCE = new ResponseCache(MAX_IMMUTABLE_BYTES, MAX_AGGREGATE_BYTES);
+
+  private final Cache<String, Entry> _immutable;
+  private final Cache<String, Entry> _aggregate;
+
+  ResponseCache(long maxImmutableBytes, long maxAggregateBytes) {
+    _immutable = newCache(maxImmutableBytes, Kind.IMMUTABLE);
+    _aggregate = newCache(maxAggregateBytes, Kind.AGGREGATE);
+  }
+
+  public static ResponseCache instance() {
+    return INSTANCE;
+  }
+
+  private static Cache<String, Entry> newCache(long maxBytes, Kind kind) {
+    return CacheBuilder.newBuilder()
+        .maximumWeight(maxBytes)
+        .weigher(new Weigher<String, Entry>() {
+          @Override
+          public int weigh(String key, Entry entry) {
+            return key.length() + entry._body.length;
+          }
+        })
+        .expireAfterWrite(kind._ttlMs, TimeUnit.MILLISECONDS)
+        .build();
+  }
+
+  /**
+   * Drops all the cached responses, e.g. once results are purged, or between tests.
+   */
+  public void invalidateAll() {
+    _immutable.invalidateAll();
+    _aggregate.invalidateAll();
+  }
+
+  /**
+   * Returns the response of an endpoint from the cache, building and caching it if needed, with the ETag and
+   * Cache-Control headers. Answers 304 Not Modified when the request already has the response.
+   *
+   * @param kind Whether the response may change
+   * @param key Identifies the response, e.g. the endpoint and the id it is for
+   * @param contentType The content type of the response
+   * @param builder Builds the response, or returns null if there is nothing to respond
+   * @return The response, or null if the builder returned null
+   */
+  public Result serve(Kind kind, String key, String contentType, Callable<String> builder) {
+    Entry entry = get(kind, key, builder);
+    if (entry == null) {
+      return null;
+    }
+    Http.Context context = Http.Context.current();
+    context.response().setHeader(Http.HeaderNames.ETAG, entry._eTag);
+    context.response().setHeader(Http.HeaderNames.CACHE_CONTROL, kind._cacheControl);
+    if (matches(context.request().getHeader(Http.HeaderNames.IF_NONE_MATCH), entry._eTag)) {
+      return Results.status(Http.Status.NOT_MODIFIED);
+    }
+    return Results.ok(entry._body).as(contentType);
+  }
+
+  /**
+   * Returns a response from the cache, building and caching it if needed.
+   */
+  Entry get(Kind kind, String key, Callable<String> builder) {
+    Cache<String, Entry> cache = kind == Kind.IMMUTABLE ? _immutable : _aggregate;
+    Entry entry = cache.getIfPresent(key);
+    if (entry != null) {
+      return entry;
+    }
+
+    String body;
+    try {
+      body = builder.call();
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    if (body == null) {
+      return null;
+    }
+    // Concurrent misses on the same key may build it more than once, the last one is kept
+    entry = new Entry(body.getBytes(Charsets.UTF_8));
+    cache.put(key, entry);
+    logger.debug("Cached " + entry._body.length + " bytes for " + key);
+    return entry;
+  }
+
+  /**
+   * Returns whether an If-None-Match header matches an ETag, using the weak comparison it calls for.
+   */
+  static boolean matches(String ifNoneMatch, String eTag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String tag : ifNoneMatch.split(",")) {
+      tag = tag.trim();
+      if (tag.equals("*") || stripWeak(tag).equals(stripWeak(eTag))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String stripWeak(String tag) {
+    return tag.startsWith("W/") ? tag.substring(2) : tag;
+  }
+
+  /**
+   * A cached response.
+   */
+  static class Entry {
+    private final byte[] _body;
+    private final String _eTag;
+
+    Entry(byte[] body) {
+      _body = body;
+      _eTag = "\"" + Hashing.md5().hashBytes(body).toString() + "\"";
+    }
+
+    byte[] getBody() {
+      return _body;
+    }
+
+    String getETag() {
+      return _eTag;
+    }
+  }
+}
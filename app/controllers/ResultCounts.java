@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package controllers;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.drelephant.util.QueryAudit;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.log4j.Logger;
+
+
+/**
+ * Counts the results of the paginated searches in the background and caches the counts.
+ * <p/>
+ * An exact count scans every matching row, so the counters are expected to stop at {@link #COUNT_CAP}. A search
+ * waits for its count only a short while, the page being read meanwhile. If the count is not ready by then the
+ * search reports the fallback given by the caller and the count, once done, is served to the following pages of
+ * the same search. Concurrent requests for the same search share a single count.
+ * <p/>
+ * The counts run on a small pool with a bounded queue. When the queue is full, the search is not counted and reports
+ * the fallback, so that a burst of distinct searches holds neither an unbounded backlog nor unbounded pending counts.
+ */
+public class ResultCounts {
+
+  private static final Logger logger = Logger.getLogger(ResultCounts.class);
+
+  public static final int COUNT_CAP = 10000;
+
+  private static final long COUNT_TTL_MS = 60 * 1000;
+  private static final long COUNT_WAIT_MS = 500;
+  private static final int MAX_CACHED_COUNTS = 1000;
+  private static final int COUNT_THREADS = 2;
+  private static final int MAX_QUEUED_COUNTS = 50;
+
+  private static final ResultCounts INSTANCE = new ResultCounts(new ThreadPoolExecutor(COUNT_THREADS, COUNT_THREADS,
+      0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(MAX_QUEUED_COUNTS),
+      new ThreadFactoryBuilder().setNameFormat("dr-el-result-counts-%d").setDaemon(true).build()),
+      COUNT_TTL_MS, COUNT_WAIT_MS);
+
+  private final Executor _executor;
+  private final long _waitMs;
+  private final Cache<String, Integer> _counts;
+  private final ConcurrentMap<String, Future<Integer>> _pending = new ConcurrentHashMap<String, Future<Integer>>();
+
+  ResultCounts(Executor executor, long ttlMs, long waitMs) {
+    _executor = executor;
+    _waitMs = waitMs;
+    _counts = CacheBuilder.newBuilder()
+        .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+        .maximumSize(MAX_CACHED_COUNTS)
+        .build();
+  }
+
+  public static ResultCounts instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the count of a search, starting it if it is neither cached nor running, and the executor accepts it.
+   *
+   * @param key Identifies the search, the same for every page of it
+   * @param counter Counts the results of the search, it must not share its query with the caller
+   * @param fallback The count to report if the count is not ready in time
+   * @return The count, or the fallback
+   */
+  public int getCount(final String key, final Callable<Integer> counter, int fallback) {
+    Integer count = _counts.getIfPresent(key);
+    if (count != null) {
+      return count;
+    }
+
+    // The count is audited under the endpoint of the search
+    final String endpoint = QueryAudit.getEndpoint();
+    Callable<Integer> audited = new Callable<Integer>() {
+      @Override
+      public Integer call() throws Exception {
+        String previous = QueryAudit.getEndpoint();
+        QueryAudit.setEndpoint(endpoint);
+        try {
+          return counter.call();
+        } finally {
+          QueryAudit.setEndpoint(previous);
+        }
+      }
+    };
+    FutureTask<Integer> task = new FutureTask<Integer>(audited) {
+      @Override
+      protected void done() {
+        try {
+          if (!isCancelled()) {
+            _counts.put(key, get());
+          }
+        } catch (ExecutionException e) {
+          logger.error("Failed to count the results of " + key, e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          _pending.remove(key, this);
+        }
+      }
+    };
+    Future<Integer> pending = _pending.putIfAbsent(key, task);
+    if (pending == null) {
+      pending = task;
+      try {
+        _executor.execute(task);
+      } catch (RejectedExecutionException e) {
+        _pending.remove(key, task);
+        logger.debug("Too many counts queued, not counting the results of " + key);
+        return fallback;
+      }
+    }
+
+    try {
+      return pending.get(_waitMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      return fallback;
+    } catch (ExecutionException e) {
+      return fallback;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return fallback;
+    }
+  }
+}
@@ -19,11 +19,8 @@ package controllers.api.v1;
 import com.avaje.ebean.Query;
 import com.avaje.ebean.Junction;
 import com.avaje.ebean.ExpressionList;
-import com.avaje.ebean.SqlRow;
-import com.avaje.ebean.SqlQuery;
-import com.avaje.ebean.Ebean;
 
-import com.google.common.collect.Lists;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -34,11 +31,20 @@ import com.linkedin.drelephant.analysis.JobType;
 import com.linkedin.drelephant.analysis.Severity;
 import com.linkedin.drelephant.exceptions.ExceptionFinder;
 import com.linkedin.drelephant.exceptions.HadoopException;
+import com.linkedin.drelephant.rollup.AppResultRollups;
+import com.linkedin.drelephant.rollup.DashboardStatsService;
+import com.linkedin.drelephant.rollup.RollupTotals;
 import com.linkedin.drelephant.security.HadoopSecurity;
 import com.linkedin.drelephant.util.InfoExtractor;
+import com.linkedin.drelephant.util.ReadReplica;
 import com.linkedin.drelephant.util.Utils;
-import controllers.ControllerUtil;
-import controllers.IdUrlPair;
+import controllers.ExecutionSummaries;
+import controllers.ExecutionSummaries.ExecutionSummary;
+import controllers.HeuristicResults;
+import controllers.JsonChunks;
+import controllers.PageToken;
+import controllers.ResponseCache;
+import controllers.ResultCounts;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
@@ -50,13 +56,14 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.Arrays;
+import java.util.concurrent.Callable;
 
 import javax.naming.AuthenticationException;
 import models.AppHeuristicResult;
 import models.AppHeuristicResultDetails;
 import models.AppResult;
-import org.apache.commons.lang.StringUtils;
 import org.apache.log4j.Logger;
 import play.data.DynamicForm;
 import play.data.Form;
@@ -73,7 +80,6 @@ public class Web extends Controller {
   private static final Logger logger = Logger.getLogger(Web.class);
 
   private static final long DAY = 24 * 60 * 60 * 1000;
-  private static final long FETCH_DELAY = 60 * 1000;
 
   private static final int MAX_APPLICATIONS = 50;
   private static final int MAX_APPLICATIONS_IN_WORKFLOW = 5000;
@@ -84,55 +90,25 @@ public class Web extends Controller {
   private static final int SEARCH_DEFAULT_PAGE_LIMIT = 25;
   private static final int SEARCH_APPLICATION_MAX_OFFSET = 500;
 
-  private static long _lastFetch = 0;
-  private static int _numJobsAnalyzed = 0;
-  private static int _numJobsCritical = 0;
-  private static int _numJobsSevere = 0;
-  private static int _numJobsModerate = 0;
-  private static int _numJobsLow = 0;
-  private static int _numJobsNone = 0;
+  // The fields rendered in an application summary, selected up front instead of lazily loaded for every result
+  private static final String APPLICATION_SUMMARY_FIELDS = Utils.commaSeparated(AppResult.getSearchFields(),
+      AppResult.TABLE.START_TIME, AppResult.TABLE.RESOURCE_USAGE, AppResult.TABLE.WASTED_RESOURCES,
+      AppResult.TABLE.TOTAL_DELAY);
 
   /**
    * Returns the json object for the dashboard summaries of jobs analzyed in last day.
    */
   public static Result restDashboardSummaries() {
-
-    long now = System.currentTimeMillis();
-    long finishDate = now - DAY;
-
-    //Update statistics only after FETCH_DELAY
-    if (now - _lastFetch > FETCH_DELAY) {
-      _numJobsAnalyzed = AppResult.find.where()
-          .gt(AppResult.TABLE.FINISH_TIME, finishDate)
-          .findRowCount();
-      _numJobsCritical = AppResult.find.where()
-          .gt(AppResult.TABLE.FINISH_TIME, finishDate)
-          .eq(AppResult.TABLE.SEVERITY, Severity.CRITICAL.getValue())
-          .findRowCount();
-      _numJobsSevere = AppResult.find.where()
-          .gt(AppResult.TABLE.FINISH_TIME, finishDate)
-          .eq(AppResult.TABLE.SEVERITY, Severity.SEVERE.getValue())
-          .findRowCount();
-      _numJobsModerate = AppResult.find.where().gt(AppResult.TABLE.FINISH_TIME, finishDate)
-          .eq(AppResult.TABLE.SEVERITY, Severity.MODERATE.getValue())
-          .findRowCount();
-      _numJobsLow = AppResult.find.where().gt(AppResult.TABLE.FINISH_TIME, finishDate)
-          .eq(AppResult.TABLE.SEVERITY, Severity.LOW.getValue())
-          .findRowCount();
-      _numJobsNone = AppResult.find.where().gt(AppResult.TABLE.FINISH_TIME, finishDate)
-          .eq(AppResult.TABLE.SEVERITY, Severity.NONE.getValue())
-          .findRowCount();
-      _lastFetch = now;
-    }
+    RollupTotals totals = DashboardStatsService.instance().getLastDayTotals();
 
     JsonObject dashboard = new JsonObject();
     dashboard.addProperty(JsonKeys.ID, "dashboard");
-    dashboard.addProperty(JsonKeys.TOTAL, _numJobsAnalyzed);
-    dashboard.addProperty(JsonKeys.CRITICAL, _numJobsCritical);
-    dashboard.addProperty(JsonKeys.SEVERE, _numJobsSevere);
-    dashboard.addProperty(JsonKeys.MODERATE, _numJobsModerate);
-    dashboard.addProperty(JsonKeys.LOW, _numJobsLow);
-    dashboard.addProperty(JsonKeys.NONE, _numJobsNone);
+    dashboard.addProperty(JsonKeys.TOTAL, totals.getNumApps());
+    dashboard.addProperty(JsonKeys.CRITICAL, totals.getNumApps(Severity.CRITICAL));
+    dashboard.addProperty(JsonKeys.SEVERE, totals.getNumApps(Severity.SEVERE));
+    dashboard.addProperty(JsonKeys.MODERATE, totals.getNumApps(Severity.MODERATE));
+    dashboard.addProperty(JsonKeys.LOW, totals.getNumApps(Severity.LOW));
+    dashboard.addProperty(JsonKeys.NONE, totals.getNumApps(Severity.NONE));
     JsonObject parent = new JsonObject();
     parent.add(JsonKeys.DASHBOARD_SUMMARIES, dashboard);
 
@@ -146,9 +122,9 @@ public class Web extends Controller {
    * @return The list of Applications that should for the given username limit by maxApplications
    */
   private static List<AppResult> getApplications(String username, int maxApplications) {
-    List<AppResult> results = AppResult.find.select("*").where().eq(AppResult.TABLE.USERNAME, username).order()
-        .desc(AppResult.TABLE.FINISH_TIME).setMaxRows(maxApplications).findList();
-    return results;
+    List<AppResult> results = ReadReplica.of(AppResult.find).select("*").where().eq(AppResult.TABLE.USERNAME, username)
+        .order().desc(AppResult.TABLE.FINISH_TIME).setMaxRows(maxApplications).findList();
+    return HeuristicResults.load(results, HeuristicResults.Projection.SEVERITY);
   }
 
   /**
@@ -157,61 +133,20 @@ public class Web extends Controller {
    * @return The list of Applications limit by maxApplications
    */
   private static List<AppResult> getApplications(int maxApplications) {
-    List<AppResult> results =
-        AppResult.find.select("*").order().desc(AppResult.TABLE.FINISH_TIME).setMaxRows(maxApplications).findList();
-    return results;
-  }
-
-  /**
-   * Returns the list of AppResults scheduled by a scheduler for the given username limit by maxApplications.
-   * @param username The username for which applications need to be fetched.
-   * @param maxApplications The max number of applications that should be fetched
-   * @return The list of Applications scheduled by a scheduler that should be fetched for the given username limit by maxApplications
-   */
-  private static List<AppResult> getSchedulerApplications(String username, int maxApplications) {
-    List<AppResult> results =
-        AppResult.find.select("*").where().eq(AppResult.TABLE.USERNAME, username).ne(AppResult.TABLE.FLOW_EXEC_ID, null)
-            .ne(AppResult.TABLE.FLOW_EXEC_ID, "").order().desc(AppResult.TABLE.FINISH_TIME).setMaxRows(maxApplications)
-            .findList();
-    return results;
-  }
-
-  /**
-   * Returns the list of AppResults scheduled by a scheduler limit by maxApplications
-   * @param maxApplications The max number of applications that should be fetched
-   * @return The list of Applications scheduled by a scheduler limit by maxApplications
-   */
-  private static List<AppResult> getSchedulerApplications(int maxApplications) {
-    List<AppResult> results =
-        AppResult.find.select("*").where().ne(AppResult.TABLE.FLOW_EXEC_ID, null).ne(AppResult.TABLE.FLOW_EXEC_ID, "")
-            .order().desc(AppResult.TABLE.FINISH_TIME).setMaxRows(maxApplications).findList();
-    return results;
-  }
-
-  /**
-   * Returns a list of AppResult with the the given flowExecId
-   * @param flowExecId The flow execution id of the flow
-   * @return The list of AppResult filtered by flow execution id
-   */
-  private static List<AppResult> getRestFlowResultsFromFlowExecutionId(String flowExecId) {
-    List<AppResult> results = AppResult.find.select("*").where().eq(AppResult.TABLE.FLOW_EXEC_ID, flowExecId).order()
-        .desc(AppResult.TABLE.FINISH_TIME).findList();
-    return results;
+    List<AppResult> results = ReadReplica.of(AppResult.find).select("*").order().desc(AppResult.TABLE.FINISH_TIME)
+        .setMaxRows(maxApplications).findList();
+    return HeuristicResults.load(results, HeuristicResults.Projection.SEVERITY);
   }
 
-  ;
-
   /**
    * Returns a list of AppResult with the given jobExecId
    * @param jobExecId The job execution id of the job
    * @return The list of AppResult filtered by job execution id
    */
   private static List<AppResult> getRestJobResultsFromJobExecutionId(String jobExecId) {
-    List<AppResult> results =
-        AppResult.find.select(AppResult.getSearchFields()).where().eq(AppResult.TABLE.JOB_EXEC_ID, jobExecId).order()
-            .desc(AppResult.TABLE.FINISH_TIME)
-            .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, AppHeuristicResult.getSearchFields()).findList();
-    return results;
+    List<AppResult> results = ReadReplica.of(AppResult.find).select(AppResult.getSearchFields()).where()
+        .eq(AppResult.TABLE.JOB_EXEC_ID, jobExecId).order().desc(AppResult.TABLE.FINISH_TIME).findList();
+    return HeuristicResults.load(results, HeuristicResults.Projection.SEVERITY);
   }
 
   /**
@@ -220,10 +155,8 @@ public class Web extends Controller {
    * @return The AppResult for the given application Id
    */
   private static AppResult getAppResultFromApplicationId(String applicationId) {
-    AppResult result = AppResult.find.select("*").fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, "*")
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS + "." + AppHeuristicResult.TABLE.APP_HEURISTIC_RESULT_DETAILS, "*")
-        .where().idEq(applicationId).order().desc(AppResult.TABLE.FINISH_TIME).findUnique();
-    return result;
+    return HeuristicResults.loadUnique(ReadReplica.of(AppResult.find).select("*").where().idEq(applicationId).query(),
+        HeuristicResults.Projection.DETAILS);
   }
 
   /**
@@ -375,103 +308,30 @@ public class Web extends Controller {
    * </pre>
    **/
   public static Result restJobSummariesForUser(String username) {
-
     JsonArray jobSummaryArray = new JsonArray();
 
-    List<AppResult> results = null;
-    if (username == null || username.isEmpty()) {
-      results = getSchedulerApplications(MAX_APPLICATIONS_IN_WORKFLOW);
-    } else {
-      results = getSchedulerApplications(username, MAX_APPLICATIONS_IN_WORKFLOW);
-    }
-
-    Map<IdUrlPair, List<AppResult>> jobExecIdToJobsMap = ControllerUtil
-        .limitHistoryResults(ControllerUtil.groupJobs(results, ControllerUtil.GroupBy.JOB_EXECUTION_ID), results.size(),
-            MAX_JOB_LIMIT);
-
-    for (IdUrlPair jobDefPair : jobExecIdToJobsMap.keySet()) {
-      long totalJobMemoryUsed = 0L;
-      long totalJobMemoryWasted = 0L;
-      long totalJobDelay = 0L;
-      long totalJobRuntime = 0L;
-      long jobStartTime = Long.MAX_VALUE;
-      long jobEndTime = 0;
-      Severity jobSeverity = Severity.NONE;
-      String jobType = null;
-      String jobId = jobDefPair.getId();
-      String jobName = "";
-      String user = null;
-      String queueName = "";
-      String scheduler = "";
-      String jobDefId = "";
-      String jobExecId = "";
-
-      Map<Severity, Long> applicationSeverityCount = new HashMap<Severity, Long>();
-
-      for (AppResult application : jobExecIdToJobsMap.get(jobDefPair)) {
-
-        totalJobMemoryUsed += application.resourceUsed;
-        totalJobMemoryWasted += application.resourceWasted;
-
-        jobType = application.jobType;
-        jobName = application.jobName;
-        jobDefId = application.jobDefId;
-        jobExecId = application.jobExecId;
-
-        queueName = application.queueName;
-        scheduler = application.scheduler;
-
-        if (application.startTime < jobStartTime) {
-          jobStartTime = application.startTime;
-        }
-
-        if (application.finishTime > jobEndTime) {
-          jobEndTime = application.finishTime;
-        }
-
-        if (application.severity.getValue() > jobSeverity.getValue()) {
-          jobSeverity = application.severity;
-        }
-
-        if (applicationSeverityCount.containsKey(application.severity)) {
-          applicationSeverityCount.put(application.severity, applicationSeverityCount.get(application.severity) + 1L);
-        } else {
-          applicationSeverityCount.put(application.severity, 1L);
-        }
-
-        user = application.username;
-      }
-
-      JsonArray applicationSeverity = new JsonArray();
-      List<Severity> keys = getSortedSeverityKeys(applicationSeverityCount.keySet());
-      for (Severity key : keys) {
-        JsonObject severityObject = new JsonObject();
-        severityObject.addProperty(JsonKeys.SEVERITY, key.getText());
-        severityObject.addProperty(JsonKeys.COUNT, applicationSeverityCount.get(key));
-        applicationSeverity.add(severityObject);
-      }
-
-      totalJobDelay = Utils.getTotalWaittime(jobExecIdToJobsMap.get(jobDefPair));
-      totalJobRuntime = Utils.getTotalRuntime(jobExecIdToJobsMap.get(jobDefPair));
+    List<ExecutionSummary> jobs =
+        ExecutionSummaries.getLatestJobExecutions(username, MAX_APPLICATIONS_IN_WORKFLOW, MAX_JOB_LIMIT);
 
+    for (ExecutionSummary job : jobs) {
       JsonObject jobObject = new JsonObject();
-      jobObject.addProperty(JsonKeys.ID, jobId);
-      jobObject.addProperty(JsonKeys.JOB_NAME, jobName);
-      jobObject.addProperty(JsonKeys.JOB_TYPE, jobType);
-      jobObject.addProperty(JsonKeys.USERNAME, user);
-      jobObject.addProperty(JsonKeys.START_TIME, jobStartTime);
-      jobObject.addProperty(JsonKeys.FINISH_TIME, jobEndTime);
-      jobObject.addProperty(JsonKeys.RUNTIME, totalJobRuntime);
-      jobObject.addProperty(JsonKeys.WAITTIME, totalJobDelay);
-      jobObject.addProperty(JsonKeys.RESOURCE_USED, totalJobMemoryUsed);
-      jobObject.addProperty(JsonKeys.RESOURCE_WASTED, totalJobMemoryWasted);
-      jobObject.addProperty(JsonKeys.QUEUE, queueName);
-      jobObject.addProperty(JsonKeys.SCHEDULER, scheduler);
-      jobObject.addProperty(JsonKeys.SEVERITY, jobSeverity.getText());
-      jobObject.addProperty(JsonKeys.JOB_DEF_ID, jobDefId);
-      jobObject.addProperty(JsonKeys.JOB_EXEC_ID, jobExecId);
-
-      jobObject.add(JsonKeys.TASKS_SEVERITY, applicationSeverity);
+      jobObject.addProperty(JsonKeys.ID, job.getId());
+      jobObject.addProperty(JsonKeys.JOB_NAME, job.getJobName());
+      jobObject.addProperty(JsonKeys.JOB_TYPE, job.getJobType());
+      jobObject.addProperty(JsonKeys.USERNAME, job.getUsername());
+      jobObject.addProperty(JsonKeys.START_TIME, job.getStartTime());
+      jobObject.addProperty(JsonKeys.FINISH_TIME, job.getFinishTime());
+      jobObject.addProperty(JsonKeys.RUNTIME, job.getRuntime());
+      jobObject.addProperty(JsonKeys.WAITTIME, job.getWaittime());
+      jobObject.addProperty(JsonKeys.RESOURCE_USED, job.getResourceUsed());
+      jobObject.addProperty(JsonKeys.RESOURCE_WASTED, job.getResourceWasted());
+      jobObject.addProperty(JsonKeys.QUEUE, job.getQueueName());
+      jobObject.addProperty(JsonKeys.SCHEDULER, job.getScheduler());
+      jobObject.addProperty(JsonKeys.SEVERITY, job.getSeverity().getText());
+      jobObject.addProperty(JsonKeys.JOB_DEF_ID, job.getJobDefId());
+      jobObject.addProperty(JsonKeys.JOB_EXEC_ID, job.getId());
+
+      jobObject.add(JsonKeys.TASKS_SEVERITY, getSeverityCountArray(job.getSeverityCounts()));
 
       jobSummaryArray.add(jobObject);
     }
@@ -526,91 +386,27 @@ public class Web extends Controller {
    */
   public static Result restWorkflowSummariesForUser(String username) {
     JsonArray workflowSummaryArray = new JsonArray();
-    List<AppResult> results = null;
-    if (username == null || username.isEmpty()) {
-      results = getSchedulerApplications(MAX_APPLICATIONS_IN_WORKFLOW);
-    } else {
-      results = getSchedulerApplications(username, MAX_APPLICATIONS_IN_WORKFLOW);
-    }
-
-    Map<IdUrlPair, List<AppResult>> flowExecIdToJobsMap = ControllerUtil
-        .limitHistoryResults(ControllerUtil.groupJobs(results, ControllerUtil.GroupBy.FLOW_EXECUTION_ID),
-            results.size(), MAX_FLOW_LIMIT);
-
-    List<IdUrlPair> keyList = new ArrayList<IdUrlPair>(flowExecIdToJobsMap.keySet());
-
-    for (IdUrlPair flowExecPair : keyList) {
-
-      List<AppResult> mrJobsList = Lists.reverse(flowExecIdToJobsMap.get(flowExecPair));
-
-      Map<IdUrlPair, List<AppResult>> jobDefIdToJobsMap =
-          ControllerUtil.groupJobs(mrJobsList, ControllerUtil.GroupBy.JOB_EXECUTION_ID);
-
-      Map<Severity, Long> jobSeverityCount = new HashMap<Severity, Long>();
-      long totalFlowMemoryUsed = 0;
-      long totalFlowMemoryWasted = 0;
-      long totalFlowDelay = 0;
-      long totalFlowRuntime = 0;
-      Severity flowSeverity = Severity.NONE;
-
-      for (IdUrlPair jobDefPair : jobDefIdToJobsMap.keySet()) {
-
-        Severity jobseverity = Severity.NONE;
-        long totalJobMemoryUsed = 0;
-        long totalJobMemoryWasted = 0;
-
-        for (AppResult job : jobDefIdToJobsMap.get(jobDefPair)) {
-
-          totalJobMemoryUsed += job.resourceUsed;
-          totalJobMemoryWasted += job.resourceWasted;
-
-          if (job.severity.getValue() > jobseverity.getValue()) {
-            jobseverity = job.severity;
-          }
-        }
-
-        if (jobSeverityCount.containsKey(jobseverity)) {
-          jobSeverityCount.put(jobseverity, jobSeverityCount.get(jobseverity) + 1);
-        } else {
-          jobSeverityCount.put(jobseverity, 1L);
-        }
-
-        if (jobseverity.getValue() > flowSeverity.getValue()) {
-          flowSeverity = jobseverity;
-        }
-
-        totalFlowMemoryUsed += totalJobMemoryUsed;
-        totalFlowMemoryWasted += totalJobMemoryWasted;
-      }
 
-      totalFlowDelay = Utils.getTotalWaittime(flowExecIdToJobsMap.get(flowExecPair));
-      totalFlowRuntime = Utils.getTotalRuntime(flowExecIdToJobsMap.get(flowExecPair));
-
-      JsonArray jobSeverity = new JsonArray();
-      List<Severity> keys = getSortedSeverityKeys(jobSeverityCount.keySet());
-      for (Severity key : keys) {
-        JsonObject severityObject = new JsonObject();
-        severityObject.addProperty(JsonKeys.SEVERITY, key.getText());
-        severityObject.addProperty(JsonKeys.COUNT, jobSeverityCount.get(key));
-        jobSeverity.add(severityObject);
-      }
+    List<ExecutionSummary> flows =
+        ExecutionSummaries.getLatestFlowExecutions(username, MAX_APPLICATIONS_IN_WORKFLOW, MAX_FLOW_LIMIT);
 
+    for (ExecutionSummary flow : flows) {
       // Execution record
       JsonObject dataset = new JsonObject();
-      dataset.addProperty(JsonKeys.ID, mrJobsList.get(0).flowExecId);
-      dataset.addProperty(JsonKeys.USERNAME, mrJobsList.get(0).username);
-      dataset.addProperty(JsonKeys.START_TIME, mrJobsList.get(0).startTime);
-      dataset.addProperty(JsonKeys.FINISH_TIME, mrJobsList.get(mrJobsList.size() - 1).finishTime);
-      dataset.addProperty(JsonKeys.RUNTIME, totalFlowRuntime);
-      dataset.addProperty(JsonKeys.WAITTIME, totalFlowDelay);
-      dataset.addProperty(JsonKeys.RESOURCE_USED, totalFlowMemoryUsed);
-      dataset.addProperty(JsonKeys.RESOURCE_WASTED, totalFlowMemoryWasted);
-      dataset.addProperty(JsonKeys.QUEUE, mrJobsList.get(0).queueName);
-      dataset.addProperty(JsonKeys.SEVERITY, flowSeverity.getText());
-      dataset.addProperty(JsonKeys.SCHEDULER, mrJobsList.get(0).scheduler);
-      dataset.addProperty(JsonKeys.FLOW_EXEC_ID, mrJobsList.get(0).flowExecId);
-      dataset.addProperty(JsonKeys.FLOW_DEF_ID, mrJobsList.get(0).flowDefId);
-      dataset.add(JsonKeys.JOBS_SEVERITY, jobSeverity);
+      dataset.addProperty(JsonKeys.ID, flow.getId());
+      dataset.addProperty(JsonKeys.USERNAME, flow.getUsername());
+      dataset.addProperty(JsonKeys.START_TIME, flow.getStartTime());
+      dataset.addProperty(JsonKeys.FINISH_TIME, flow.getFinishTime());
+      dataset.addProperty(JsonKeys.RUNTIME, flow.getRuntime());
+      dataset.addProperty(JsonKeys.WAITTIME, flow.getWaittime());
+      dataset.addProperty(JsonKeys.RESOURCE_USED, flow.getResourceUsed());
+      dataset.addProperty(JsonKeys.RESOURCE_WASTED, flow.getResourceWasted());
+      dataset.addProperty(JsonKeys.QUEUE, flow.getQueueName());
+      dataset.addProperty(JsonKeys.SEVERITY, flow.getSeverity().getText());
+      dataset.addProperty(JsonKeys.SCHEDULER, flow.getScheduler());
+      dataset.addProperty(JsonKeys.FLOW_EXEC_ID, flow.getId());
+      dataset.addProperty(JsonKeys.FLOW_DEF_ID, flow.getFlowDefId());
+      dataset.add(JsonKeys.JOBS_SEVERITY, getSeverityCountArray(flow.getSeverityCounts()));
       workflowSummaryArray.add(dataset);
     }
     JsonArray sortedWorkflowSummaryArray = getSortedJsonArrayByFinishTime(workflowSummaryArray);
@@ -678,160 +474,61 @@ public class Web extends Controller {
       return notFound(new Gson().toJson(parent));
     }
 
-    JsonArray jobSeverityArray = new JsonArray();
-    JsonArray jobSummaryArray = new JsonArray();
-    JsonObject data = new JsonObject();
-
-    String flowExecId = flowId;
-    String username = "";
-    long totalFlowResourceUsed = 0;
-    long totalFlowResourceWasted = 0;
-    long totalFlowRuntime = 0;
-    long totalFlowDelay = 0;
-    Severity flowSeverity = Severity.NONE;
-    long flowStartTime = Long.MAX_VALUE;
-    long flowEndTime = 0;
-    String flowDefinitionId = "";
-    Map<Severity, Long> jobSeverityCount = new HashMap<Severity, Long>();
-    String wfQueueName = "";
-    String wfSchedulerName = "";
-
-    List<AppResult> results = getRestFlowResultsFromFlowExecutionId(flowId);
+    final ExecutionSummary flow = ExecutionSummaries.getFlowExecution(flowId);
 
-    if (results.isEmpty()) {
+    if (flow == null) {
       JsonObject parent = new JsonObject();
-      parent.add(JsonKeys.WORKFLOWS, data);
+      parent.add(JsonKeys.WORKFLOWS, new JsonObject());
       return notFound(new Gson().toJson(parent));
     }
 
-    Map<IdUrlPair, List<AppResult>> jobExecIdToJobsMap =
-        ControllerUtil.groupJobs(results, ControllerUtil.GroupBy.JOB_EXECUTION_ID);
-
-    for (IdUrlPair jobDefPair : jobExecIdToJobsMap.keySet()) {
-      long totalJobMemoryUsed = 0;
-      long totalJobMemoryWasted = 0;
-      long totalJobDelay = 0;
-      long totalJobRuntime = 0;
-      long jobStartTime = Long.MAX_VALUE;
-      long jobEndTime = 0;
-      Severity jobSeverity = Severity.NONE;
-      String jobType = null;
-      String jobId = jobDefPair.getId();
-      String jobName = "";
-      String queueName = "";
-      String schedulerName = "";
-
-      Map<Severity, Long> taskSeverityCount = new HashMap<Severity, Long>();
-
-      for (AppResult task : jobExecIdToJobsMap.get(jobDefPair)) {
-        totalJobMemoryUsed += task.resourceUsed;
-        totalJobMemoryWasted += task.resourceWasted;
-        username = task.username;
-        jobType = task.jobType;
-        jobName = task.jobName;
-        flowDefinitionId = task.flowDefId;
-        queueName = task.queueName;
-        schedulerName = task.scheduler;
-
-        if (task.startTime < jobStartTime) {
-          jobStartTime = task.startTime;
+    final List<ExecutionSummary> jobs = ExecutionSummaries.getJobExecutionsOfFlow(flowId);
+
+    return JsonChunks.ok(new JsonChunks() {
+      @Override
+      protected void write(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectFieldStart(JsonKeys.WORKFLOWS);
+        JsonChunks.writeStringField(generator, JsonKeys.ID, flow.getId());
+        JsonChunks.writeStringField(generator, JsonKeys.USERNAME, flow.getUsername());
+        generator.writeNumberField(JsonKeys.START_TIME, flow.getStartTime());
+        generator.writeNumberField(JsonKeys.FINISH_TIME, flow.getFinishTime());
+        generator.writeNumberField(JsonKeys.RUNTIME, flow.getRuntime());
+        generator.writeNumberField(JsonKeys.WAITTIME, flow.getWaittime());
+        generator.writeNumberField(JsonKeys.RESOURCE_USED, flow.getResourceUsed());
+        generator.writeNumberField(JsonKeys.RESOURCE_WASTED, flow.getResourceWasted());
+        generator.writeStringField(JsonKeys.SEVERITY, flow.getSeverity().getText());
+        JsonChunks.writeStringField(generator, JsonKeys.FLOW_EXEC_ID, flow.getId());
+        JsonChunks.writeStringField(generator, JsonKeys.FLOW_DEF_ID, flow.getFlowDefId());
+        JsonChunks.writeStringField(generator, JsonKeys.QUEUE, flow.getQueueName());
+        JsonChunks.writeStringField(generator, JsonKeys.SCHEDULER, flow.getScheduler());
+
+        generator.writeArrayFieldStart(JsonKeys.JOBSSUMMARIES);
+        for (ExecutionSummary job : jobs) {
+          generator.writeStartObject();
+          JsonChunks.writeStringField(generator, JsonKeys.ID, job.getId());
+          JsonChunks.writeStringField(generator, JsonKeys.JOB_NAME, job.getJobName());
+          JsonChunks.writeStringField(generator, JsonKeys.JOB_TYPE, job.getJobType());
+          JsonChunks.writeStringField(generator, JsonKeys.USERNAME, job.getUsername());
+          generator.writeNumberField(JsonKeys.START_TIME, job.getStartTime());
+          generator.writeNumberField(JsonKeys.FINISH_TIME, job.getFinishTime());
+          generator.writeNumberField(JsonKeys.RUNTIME, job.getRuntime());
+          generator.writeNumberField(JsonKeys.WAITTIME, job.getWaittime());
+          generator.writeNumberField(JsonKeys.RESOURCE_USED, job.getResourceUsed());
+          generator.writeNumberField(JsonKeys.RESOURCE_WASTED, job.getResourceWasted());
+          JsonChunks.writeStringField(generator, JsonKeys.QUEUE, job.getQueueName());
+          JsonChunks.writeStringField(generator, JsonKeys.SCHEDULER, job.getScheduler());
+          generator.writeStringField(JsonKeys.SEVERITY, job.getSeverity().getText());
+          writeSeverityCounts(generator, JsonKeys.TASKS_SEVERITY, job.getSeverityCounts());
+          generator.writeEndObject();
         }
+        generator.writeEndArray();
 
-        if (task.finishTime > jobEndTime) {
-          jobEndTime = task.finishTime;
-        }
-        if (task.severity.getValue() > jobSeverity.getValue()) {
-          jobSeverity = task.severity;
-        }
-
-        if (taskSeverityCount.containsKey(task.severity)) {
-          taskSeverityCount.put(task.severity, taskSeverityCount.get(task.severity) + 1L);
-        } else {
-          taskSeverityCount.put(task.severity, 1L);
-        }
-      } // task scope ends here
-
-      if (jobSeverityCount.containsKey(jobSeverity)) {
-        jobSeverityCount.put(jobSeverity, jobSeverityCount.get(jobSeverity) + 1L);
-      } else {
-        jobSeverityCount.put(jobSeverity, 1L);
-      }
-
-      JsonArray taskSeverity = new JsonArray();
-      List<Severity> keys = getSortedSeverityKeys(taskSeverityCount.keySet());
-      for (Severity key : keys) {
-        JsonObject severityObject = new JsonObject();
-        severityObject.addProperty(JsonKeys.SEVERITY, key.getText());
-        severityObject.addProperty(JsonKeys.COUNT, taskSeverityCount.get(key));
-        taskSeverity.add(severityObject);
+        writeSeverityCounts(generator, JsonKeys.JOBS_SEVERITY, flow.getSeverityCounts());
+        generator.writeEndObject();
+        generator.writeEndObject();
       }
-
-      wfQueueName = queueName;
-      wfSchedulerName = schedulerName;
-      totalJobDelay = Utils.getTotalWaittime(jobExecIdToJobsMap.get(jobDefPair));
-      totalJobRuntime = Utils.getTotalRuntime(jobExecIdToJobsMap.get(jobDefPair));
-
-      JsonObject jobObject = new JsonObject();
-      jobObject.addProperty(JsonKeys.ID, jobId);
-      jobObject.addProperty(JsonKeys.JOB_NAME, jobName);
-      jobObject.addProperty(JsonKeys.JOB_TYPE, jobType);
-      jobObject.addProperty(JsonKeys.USERNAME, username);
-      jobObject.addProperty(JsonKeys.START_TIME, jobStartTime);
-      jobObject.addProperty(JsonKeys.FINISH_TIME, jobEndTime);
-      jobObject.addProperty(JsonKeys.RUNTIME, totalJobRuntime);
-      jobObject.addProperty(JsonKeys.WAITTIME, totalJobDelay);
-      jobObject.addProperty(JsonKeys.RESOURCE_USED, totalJobMemoryUsed);
-      jobObject.addProperty(JsonKeys.RESOURCE_WASTED, totalJobMemoryWasted);
-      jobObject.addProperty(JsonKeys.QUEUE, queueName);
-      jobObject.addProperty(JsonKeys.SCHEDULER, schedulerName);
-      jobObject.addProperty(JsonKeys.SEVERITY, jobSeverity.getText());
-      jobObject.add(JsonKeys.TASKS_SEVERITY, taskSeverity);
-
-      jobSummaryArray.add(jobObject);
-
-      totalFlowResourceUsed += totalJobMemoryUsed;
-      totalFlowResourceWasted += totalJobMemoryWasted;
-      if (jobSeverity.getValue() > flowSeverity.getValue()) {
-        flowSeverity = jobSeverity;
-      }
-
-      if (flowStartTime > jobStartTime) {
-        flowStartTime = jobStartTime;
-      }
-
-      if (flowEndTime < jobEndTime) {
-        flowEndTime = jobEndTime;
-      }
-    }// job map scope ends here
-
-    List<Severity> keys = getSortedSeverityKeys(jobSeverityCount.keySet());
-    for (Severity key : keys) {
-      JsonObject severityObject = new JsonObject();
-      severityObject.addProperty(JsonKeys.SEVERITY, key.getText());
-      severityObject.addProperty(JsonKeys.COUNT, jobSeverityCount.get(key));
-      jobSeverityArray.add(severityObject);
-    }
-
-    totalFlowDelay = Utils.getTotalWaittime(results);
-    totalFlowRuntime = Utils.getTotalRuntime(results);
-    data.addProperty(JsonKeys.ID, flowExecId);
-    data.addProperty(JsonKeys.USERNAME, username);
-    data.addProperty(JsonKeys.START_TIME, flowStartTime);
-    data.addProperty(JsonKeys.FINISH_TIME, flowEndTime);
-    data.addProperty(JsonKeys.RUNTIME, totalFlowRuntime);
-    data.addProperty(JsonKeys.WAITTIME, totalFlowDelay);
-    data.addProperty(JsonKeys.RESOURCE_USED, totalFlowResourceUsed);
-    data.addProperty(JsonKeys.RESOURCE_WASTED, totalFlowResourceWasted);
-    data.addProperty(JsonKeys.SEVERITY, flowSeverity.getText());
-    data.addProperty(JsonKeys.FLOW_EXEC_ID, flowExecId);
-    data.addProperty(JsonKeys.FLOW_DEF_ID, flowDefinitionId);
-    data.addProperty(JsonKeys.QUEUE, wfQueueName);
-    data.addProperty(JsonKeys.SCHEDULER, wfSchedulerName);
-    data.add(JsonKeys.JOBSSUMMARIES, jobSummaryArray);
-    data.add(JsonKeys.JOBS_SEVERITY, jobSeverityArray);
-    JsonObject parent = new JsonObject();
-    parent.add(JsonKeys.WORKFLOWS, data);
-    return ok(new Gson().toJson(parent));
+    });
   }
 
   /**
@@ -934,6 +631,24 @@ public class Web extends Controller {
       return notFound(new Gson().toJson(parent));
     }
 
+    // The applications of a job execution are analyzed as they finish, so its response may still change
+    final String jobExecId = jobid;
+    Result response = ResponseCache.instance().serve(ResponseCache.Kind.AGGREGATE, "restJobFromJobId:" + jobExecId,
+        ResponseCache.TEXT, new Callable<String>() {
+          @Override
+          public String call() {
+            return getJobJson(jobExecId);
+          }
+        });
+    if (response != null) {
+      return response;
+    }
+    JsonObject parent = new JsonObject();
+    parent.add(JsonKeys.JOBS, new JsonObject());
+    return notFound(new Gson().toJson(parent));
+  }
+
+  private static String getJobJson(String jobid) {
     JsonArray taskSummaryArray = new JsonArray();
 
     String jobDefID = jobid;
@@ -957,9 +672,7 @@ public class Web extends Controller {
     List<AppResult> results = getRestJobResultsFromJobExecutionId(jobid);
 
     if (results.isEmpty()) {
-      JsonObject parent = new JsonObject();
-      parent.add(JsonKeys.JOBS, new JsonObject());
-      return notFound(new Gson().toJson(parent));
+      return null;
     }
 
     Map<Severity, Long> taskSeverityCount = new HashMap<Severity, Long>();
@@ -1057,7 +770,7 @@ public class Web extends Controller {
 
     JsonObject parent = new JsonObject();
     parent.add(JsonKeys.JOBS, data);
-    return ok(new Gson().toJson(parent));
+    return new Gson().toJson(parent);
   }
 
   /**
@@ -1144,15 +857,30 @@ public class Web extends Controller {
       applicationid = applicationid.replaceAll("job", "application");
     }
 
+    final String appId = applicationid;
+    Result response = ResponseCache.instance().serve(ResponseCache.Kind.IMMUTABLE,
+        "restApplicationFromApplicationId:" + appId, ResponseCache.TEXT, new Callable<String>() {
+          @Override
+          public String call() {
+            return getApplicationJson(appId);
+          }
+        });
+    if (response != null) {
+      return response;
+    }
+    JsonObject parent = new JsonObject();
+    parent.add(JsonKeys.APPLICATIONS, new JsonObject());
+    return notFound(new Gson().toJson(parent));
+  }
+
+  private static String getApplicationJson(String applicationid) {
     JsonObject applicationObject = new JsonObject();
     JsonArray heuristicsArray = new JsonArray();
 
     AppResult result = getAppResultFromApplicationId(applicationid);
 
     if (result == null) {
-      JsonObject parent = new JsonObject();
-      parent.add(JsonKeys.APPLICATIONS, new JsonObject());
-      return notFound(new Gson().toJson(parent));
+      return null;
     }
 
     for (AppHeuristicResult appHeuristicResult : result.yarnAppHeuristicResults) {
@@ -1160,8 +888,8 @@ public class Web extends Controller {
       JsonObject heuristicResultObject = new JsonObject();
       for (AppHeuristicResultDetails details : appHeuristicResult.yarnAppHeuristicResultDetails) {
         JsonObject detailsObject = new JsonObject();
-        detailsObject.addProperty(JsonKeys.NAME, details.name);
-        detailsObject.addProperty(JsonKeys.VALUE, details.value);
+        detailsObject.addProperty(JsonKeys.NAME, details.getName());
+        detailsObject.addProperty(JsonKeys.VALUE, details.getValue());
         detailsObject.addProperty(JsonKeys.DETAILS, details.details);
         detailsArray.add(detailsObject);
       }
@@ -1193,7 +921,7 @@ public class Web extends Controller {
 
     JsonObject parent = new JsonObject();
     parent.add(JsonKeys.APPLICATIONS, applicationObject);
-    return ok(new Gson().toJson(parent));
+    return new Gson().toJson(parent);
   }
 
   /**
@@ -1378,6 +1106,7 @@ public class Web extends Controller {
    *         start: 0,
    *         end: 20,
    *         total: 0,
+   *         next: "token",
    *         summaries: [
    *                  {
    *                    application_summary_object
@@ -1386,6 +1115,10 @@ public class Web extends Controller {
    *          }
    *  }
    * </pre>
+   *
+   * Passing the next token back as token=... reads the following page with a seek instead of skipping offset
+   * results, the offset then only numbering the results. The total stops at {@link ResultCounts#COUNT_CAP} and is
+   * a lower bound while it is still being counted.
    */
   public static Result search() {
     DynamicForm form = Form.form().bindFromRequest(request());
@@ -1414,19 +1147,29 @@ public class Web extends Controller {
       return ok(new Gson().toJson(parent));
     }
 
-    Query<AppResult> query =
-        Application.generateSearchQuery(AppResult.getSearchFields(), Application.getSearchParams());
-
-    total = query.findRowCount();
+    Map<String, String> searchParams = Application.getSearchParams();
+    String sortKey = Application.getSearchSortKey(searchParams);
+    Query<AppResult> query = Application.generateSearchQuery(APPLICATION_SUMMARY_FIELDS, searchParams);
 
-    if (offset > total) {
-      offset = total;
+    PageToken token = PageToken.decode(form.get(Application.PAGE_TOKEN), sortKey);
+    if (token != null) {
+      Application.seekAfter(query, token, false);
+    } else {
+      query.setFirstRow(offset);
     }
 
-    List<AppResult> results = query.setFirstRow(offset).setMaxRows(limit)
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, AppHeuristicResult.getSearchFields()).findList();
+    // Reading one more result than the page tells whether there is a next page
+    List<AppResult> results = query.setMaxRows(limit + 1).findList();
+    boolean hasNext = results.size() > limit;
+    if (hasNext) {
+      results = results.subList(0, limit);
+    }
+    HeuristicResults.load(results, HeuristicResults.Projection.SEVERITY);
 
     end = offset + results.size();
+    int seen = hasNext ? end + 1 : end;
+    total = Math.max(seen, ResultCounts.instance().getCount(Application.getSearchCountKey(searchParams),
+        Application.getCappedCounter(Application.generateSearchQuery(AppResult.TABLE.ID, searchParams)), seen));
 
     JsonArray applicationSummaryArray = new JsonArray();
 
@@ -1462,6 +1205,10 @@ public class Web extends Controller {
     searchResults.addProperty(JsonKeys.START, offset);
     searchResults.addProperty(JsonKeys.END, end);
     searchResults.addProperty(JsonKeys.TOTAL, total);
+    if (hasNext) {
+      searchResults.addProperty(JsonKeys.NEXT, Application.getPageToken(results.get(results.size() - 1), sortKey)
+          .encode());
+    }
     searchResults.add(JsonKeys.SUMMARIES, applicationSummaryArray);
     parent.add(JsonKeys.SEARCH_RESULTS, searchResults);
     return ok(new Gson().toJson(parent));
@@ -1483,7 +1230,7 @@ public class Web extends Controller {
 
   /**
    *  The rest interface to return the results for a particular user. When the date is not specified, it returns the result
-   *  for the last seven days.
+   *  for the last seven days. Like {@link #search()}, a full page returns the token reading the next one with a seek.
    * @return The json object of the form:
    * result:
    * * {
@@ -1590,12 +1337,6 @@ public class Web extends Controller {
     }
 
     JsonObject userResult = new JsonObject();
-    List<String> usernameQueryList = new ArrayList<String>();
-    for (int i = 0; i < usernames.size(); i++) {
-      usernameQueryList.add("username=:user" + i);
-    }
-
-    String usernameQueryString = StringUtils.join(usernameQueryList, " or ");
 
     // by default, fetch data from last week
     String finishedTimeBegin = String.valueOf(System.currentTimeMillis() - DAY * 7); // week of data if not specified
@@ -1609,66 +1350,43 @@ public class Web extends Controller {
       finishedTimeEnd = filterParamsForUserSummary.get(Application.FINISHED_TIME_END);
     }
 
-    StringBuilder timeFilterStringBuilder = new StringBuilder();
-    if (finishedTimeBegin != null) {
-      timeFilterStringBuilder.append("finish_time");
-      timeFilterStringBuilder.append(">=");
-      timeFilterStringBuilder.append(parseTime(String.valueOf(finishedTimeBegin)));
-      if (finishedTimeEnd != null) {
-        timeFilterStringBuilder.append(" and ");
-      }
-    }
-
-    if (finishedTimeEnd != null) {
-      timeFilterStringBuilder.append("finish_time");
-      timeFilterStringBuilder.append("<=");
-      timeFilterStringBuilder.append(parseTime(String.valueOf(finishedTimeEnd)));
-    }
-
-    String timeFilterString = timeFilterStringBuilder.toString();
-
-    String sql;
-    StringBuilder sqlBuilder = new StringBuilder();
-    sqlBuilder.append(
-        "select count(id) as num_of_applications, count(distinct(job_exec_id)) as num_of_jobs, count(distinct(flow_exec_id)) as num_of_flows, sum(resource_used) as total_resource_used, sum(resource_wasted) as total_resource_wasted, sum(finish_time) - sum(start_time) as execution_time, sum(total_delay) as total_delay from yarn_app_result where");
-    if (timeFilterString != null && !timeFilterString.isEmpty()) {
-      sqlBuilder.append(" ( ");
-      sqlBuilder.append(usernameQueryString);
-      sqlBuilder.append(" ) and ");
-      sqlBuilder.append(timeFilterString);
-    } else {
-      sqlBuilder.append(" ");
-      sqlBuilder.append(usernameQueryString);
-    }
-
-    sql = sqlBuilder.toString();
-    SqlQuery query = Ebean.createSqlQuery(sql);
-
-    int iUserIndex = 0;
-    for (String username : usernames) {
-      query.setParameter("user" + iUserIndex, username);
-      iUserIndex++;
-    }
-
-    SqlRow resultRow = query.findUnique();
+    // The end of the range is inclusive
+    RollupTotals totals =
+        AppResultRollups.getTotals(usernames, parseTime(finishedTimeBegin), parseTime(finishedTimeEnd) + 1, true);
     userResult.addProperty(JsonKeys.ID, usernameString);
-    userResult.addProperty(JsonKeys.TOTAL_APPLICATIONS, resultRow.getLong("num_of_applications"));
-    userResult.addProperty(JsonKeys.TOTAL_JOBS, resultRow.getLong("num_of_jobs"));
-    userResult.addProperty(JsonKeys.TOTAL_WORKFLOWS, resultRow.getLong("num_of_flows"));
-    userResult.addProperty(JsonKeys.RESOURCE_USED, resultRow.getLong("total_resource_used"));
-    userResult.addProperty(JsonKeys.RESOURCE_WASTED, resultRow.getLong("total_resource_wasted"));
-    userResult.addProperty(JsonKeys.RUNTIME, resultRow.getLong("execution_time"));
-    userResult.addProperty(JsonKeys.WAITTIME, resultRow.getLong("total_delay"));
-
+    userResult.addProperty(JsonKeys.TOTAL_APPLICATIONS, totals.getNumApps());
+    userResult.addProperty(JsonKeys.TOTAL_JOBS, totals.getNumJobs());
+    userResult.addProperty(JsonKeys.TOTAL_WORKFLOWS, totals.getNumFlows());
+    userResult.addProperty(JsonKeys.RESOURCE_USED, totals.getResourceUsed());
+    userResult.addProperty(JsonKeys.RESOURCE_WASTED, totals.getResourceWasted());
+    userResult.addProperty(JsonKeys.RUNTIME, totals.getRuntime());
+    userResult.addProperty(JsonKeys.WAITTIME, totals.getTotalDelay());
+
+    String sortKey = getSortKey(sortBy);
     Query<AppResult> userSummaryQuery =
         generateUserApplicationSummaryQuery(usernames, filterParamsForUserSummary, sortBy, increasing);
 
-    total = userSummaryQuery.findRowCount();
+    PageToken token = PageToken.decode(form.get(Application.PAGE_TOKEN), sortKey);
+    if (token != null) {
+      Application.seekAfter(userSummaryQuery, token, increasing);
+    } else {
+      userSummaryQuery.setFirstRow(offset);
+    }
 
-    List<AppResult> results = userSummaryQuery.setFirstRow(offset).setMaxRows(limit)
-        .fetch(AppResult.TABLE.APP_HEURISTIC_RESULTS, AppHeuristicResult.getSearchFields()).findList();
+    // Reading one more result than the page tells whether there is a next page
+    List<AppResult> results = userSummaryQuery.setMaxRows(limit + 1).findList();
+    boolean hasNext = results.size() > limit;
+    if (hasNext) {
+      results = results.subList(0, limit);
+    }
+    HeuristicResults.load(results, HeuristicResults.Projection.SEVERITY);
 
     end = offset + results.size();
+    int seen = hasNext ? end + 1 : end;
+    total = Math.max(seen, ResultCounts.instance().getCount("user-summary" + usernames
+        + new TreeMap<String, String>(filterParamsForUserSummary),
+        Application.getCappedCounter(
+            generateUserApplicationSummaryQuery(usernames, filterParamsForUserSummary, sortBy, increasing)), seen));
 
     JsonArray applicationSummaryArray = new JsonArray();
 
@@ -1703,6 +1421,10 @@ public class Web extends Controller {
     userResult.addProperty(JsonKeys.START, offset);
     userResult.addProperty(JsonKeys.END, end);
     userResult.addProperty(JsonKeys.TOTAL, total);
+    if (hasNext) {
+      userResult.addProperty(JsonKeys.NEXT, Application.getPageToken(results.get(results.size() - 1), sortKey)
+          .encode());
+    }
     userResult.add(JsonKeys.SUMMARIES, applicationSummaryArray);
 
     JsonObject parent = new JsonObject();
@@ -1898,13 +1620,13 @@ public class Web extends Controller {
    * Generates the query for returning the application summaries
    * @param usernames The list of usernames
    * @param searchParams Any additional parameters
-   * @param sortKey The key on which the applications should be sorted
+   * @param sortKey The key on which the applications should be sorted, ties being sorted by id
    * @param increasing The boolean value to sort the output based on the key desc or increasing
    * @return The Query object based on the given above parameters
    */
   public static Query<AppResult> generateUserApplicationSummaryQuery(List<String> usernames,
       Map<String, String> searchParams, String sortKey, boolean increasing) {
-    ExpressionList<AppResult> query = AppResult.find.select(AppResult.getSearchFields()).where();
+    ExpressionList<AppResult> query = ReadReplica.of(AppResult.find).select(APPLICATION_SUMMARY_FIELDS).where();
     Junction<AppResult> junction = query.disjunction();
     for (String username : usernames) {
       junction.eq(AppResult.TABLE.USERNAME, username);
@@ -1931,11 +1653,7 @@ public class Web extends Controller {
       query.le(AppResult.TABLE.FINISH_TIME, time);
     }
 
-    if (increasing) {
-      return query.order(getSortKey(sortKey));
-    } else {
-      return query.order().desc(getSortKey(sortKey));
-    }
+    return query.orderBy(Application.getSearchOrder(getSortKey(sortKey), increasing));
   }
 
   /**
@@ -1993,6 +1711,35 @@ public class Web extends Controller {
     return severityList;
   }
 
+  /**
+   * Returns the counts by severity, highest severity first, as a json array of severity and count objects.
+   */
+  private static JsonArray getSeverityCountArray(Map<Severity, Long> severityCounts) {
+    JsonArray severityArray = new JsonArray();
+    for (Severity key : getSortedSeverityKeys(severityCounts.keySet())) {
+      JsonObject severityObject = new JsonObject();
+      severityObject.addProperty(JsonKeys.SEVERITY, key.getText());
+      severityObject.addProperty(JsonKeys.COUNT, severityCounts.get(key));
+      severityArray.add(severityObject);
+    }
+    return severityArray;
+  }
+
+  /**
+   * Writes the same array as {@link #getSeverityCountArray(Map)} as the given field.
+   */
+  private static void writeSeverityCounts(JsonGenerator generator, String name, Map<Severity, Long> severityCounts)
+      throws IOException {
+    generator.writeArrayFieldStart(name);
+    for (Severity key : getSortedSeverityKeys(severityCounts.keySet())) {
+      generator.writeStartObject();
+      generator.writeStringField(JsonKeys.SEVERITY, key.getText());
+      generator.writeNumberField(JsonKeys.COUNT, severityCounts.get(key));
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
   /**
    * Parse the string for time in long
    *
@@ -83,4 +83,6 @@ public class AppHeuristicResult extends Model {
   @OneToMany(cascade = CascadeType.ALL, mappedBy = "yarnAppHeuristicResult")
   public List<AppHeuristicResultDetails> yarnAppHeuristicResultDetails;
 
+  public static Finder<Integer, AppHeuristicResult> find =
+      new Finder<Integer, AppHeuristicResult>(Integer.class, AppHeuristicResult.class);
 }
\ No newline at end of file
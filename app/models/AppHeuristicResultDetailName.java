@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package models;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import play.db.ebean.Model;
+
+
+/**
+ * An interned heuristic result detail name. Details refer to their name by id, so that names like "Number of tasks"
+ * are stored once instead of once per detail.
+ */
+@Entity
+@Table(name = "yarn_app_heuristic_detail_name")
+public class AppHeuristicResultDetailName extends Model {
+
+  private static final long serialVersionUID = 1L;
+
+  public static class TABLE {
+    public static final String TABLE_NAME = "yarn_app_heuristic_detail_name";
+    public static final String ID = "id";
+    public static final String NAME = "name";
+  }
+
+  @Id
+  public int id;
+
+  @Column(length = AppHeuristicResultDetails.NAME_LIMIT, unique = true, nullable = false)
+  public String name;
+
+  public static Finder<Integer, AppHeuristicResultDetailName> find =
+      new Finder<Integer, AppHeuristicResultDetailName>(Integer.class, AppHeuristicResultDetailName.class);
+}
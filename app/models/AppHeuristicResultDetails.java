@@ -17,10 +17,9 @@
 package models;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.linkedin.drelephant.util.HeuristicDetailNames;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
-import javax.persistence.Embeddable;
-import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.ManyToOne;
 
@@ -31,21 +30,33 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import play.db.ebean.Model;
 
 
+/**
+ * A name/value detail of a heuristic result.
+ * <p/>
+ * Details are stored dictionary encoded. The name is the id of an interned {@link AppHeuristicResultDetailName}, and
+ * values which are plain integers, like the number of tasks, are kept in a numeric column with an empty text value.
+ * Read and write them through {@link #getName()}, {@link #setName(String)}, {@link #getValue()} and
+ * {@link #setValue(String)}, which encode and decode transparently.
+ */
 @Entity
 @Table(name = "yarn_app_heuristic_result_details")
 public class AppHeuristicResultDetails extends Model {
 
-  private static final long serialVersionUID = 3L;
+  private static final long serialVersionUID = 4L;
 
   public static final int NAME_LIMIT = 128;
   public static final int VALUE_LIMIT = 255;
   public static final int DETAILS_LIMIT = 65535;
 
+  // The length of Long.MIN_VALUE
+  private static final int MAX_LONG_LENGTH = 20;
+
   public static class TABLE {
     public static final String TABLE_NAME = "yarn_app_heuristic_result_details";
     public static final String APP_HEURISTIC_RESULT_ID = "yarnAppHeuristicResult";
-    public static final String NAME = "name";
+    public static final String NAME_ID = "nameId";
     public static final String VALUE = "value";
+    public static final String NUMERIC_VALUE = "numericValue";
     public static final String DETAILS = "details";
   }
 
@@ -53,12 +64,68 @@ public class AppHeuristicResultDetails extends Model {
   @ManyToOne(cascade = CascadeType.ALL)
   public AppHeuristicResult yarnAppHeuristicResult;
 
-  @Column(length=NAME_LIMIT, nullable = false)
-  public String name;
+  @JsonIgnore
+  @Column(nullable = false)
+  public int nameId;
 
-  @Column(length=VALUE_LIMIT, nullable = false)
-  public String value;
+  @JsonIgnore
+  @Column(name = "value", length = VALUE_LIMIT, nullable = false)
+  public String textValue;
+
+  @JsonIgnore
+  @Column(nullable = true)
+  public Long numericValue;
 
   @Column(nullable = true)
   public String details;
+
+  public String getName() {
+    return HeuristicDetailNames.instance().nameOf(nameId);
+  }
+
+  public void setName(String name) {
+    nameId = HeuristicDetailNames.instance().idOf(name);
+  }
+
+  public String getValue() {
+    return decodeValue(textValue, numericValue);
+  }
+
+  public void setValue(String value) {
+    numericValue = parseCanonicalLong(value);
+    textValue = numericValue == null ? value : "";
+  }
+
+  static String decodeValue(String textValue, Long numericValue) {
+    return numericValue != null ? Long.toString(numericValue) : textValue;
+  }
+
+  /**
+   * Returns the value as a long if formatting the long gives back the same string, so that the value decodes to
+   * exactly what was stored. Returns null otherwise.
+   */
+  static Long parseCanonicalLong(String value) {
+    if (value == null || value.isEmpty() || value.length() > MAX_LONG_LENGTH) {
+      return null;
+    }
+    int start = value.charAt(0) == '-' ? 1 : 0;
+    if (start == value.length() || (value.charAt(start) == '0' && value.length() > start + 1)) {
+      return null;
+    }
+    for (int i = start; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return null;
+      }
+    }
+    if ("-0".equals(value)) {
+      return null;
+    }
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      // Out of range
+      return null;
+    }
+  }
 }
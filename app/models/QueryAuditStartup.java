@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package models;
+
+import com.avaje.ebean.config.ServerConfig;
+import com.avaje.ebean.event.ServerConfigStartup;
+import com.linkedin.drelephant.util.QueryAudit;
+import play.Configuration;
+import play.Play;
+
+
+/**
+ * Installs the {@link QueryAudit} on the data source of the Ebean server when drelephant.query.audit.enabled is set
+ * in the application configuration. Ebean only runs the startup classes found among the classes it is configured
+ * with, ebean.default, hence the package.
+ */
+public class QueryAuditStartup implements ServerConfigStartup {
+
+  public static final String ENABLED_KEY = "drelephant.query.audit.enabled";
+  public static final String SLOW_QUERY_MS_KEY = "drelephant.query.audit.slow.ms";
+
+  private static final long SLOW_QUERY_MS = 100;
+
+  @Override
+  public void onStart(ServerConfig serverConfig) {
+    Configuration configuration = Play.application().configuration();
+    if (configuration.getBoolean(ENABLED_KEY, false)) {
+      QueryAudit.enable(configuration.getLong(SLOW_QUERY_MS_KEY, SLOW_QUERY_MS));
+      serverConfig.setDataSource(QueryAudit.wrap(serverConfig.getDataSource()));
+    }
+  }
+}
@@ -51,6 +51,8 @@ class SparkFSFetcher(fetcherConfData: FetcherConfigurationData) extends Elephant
   logger.info("The event log limit of Spark application is set to " + eventLogSizeLimitMb + " MB")
   val eventLogUri = Option(fetcherConfData.getParamMap.get(LOG_LOCATION_URI_XML_FIELD))
   logger.info("The event log location of Spark application is set to " + eventLogUri)
+  val pipelinedDecompression = Option(fetcherConfData.getParamMap.get(PIPELINED_DECOMPRESSION_XML_FIELD))
+    .exists(_.toBoolean)
 
   private lazy val security = HadoopSecurity.getInstance()
 
@@ -101,7 +103,7 @@ class SparkFSFetcher(fetcherConfData: FetcherConfigurationData) extends Elephant
                           " withlogPath: " + eventLogPath +
                           " with codec:" + eventLogCodec)
 
-      sparkUtils.withEventLog(eventLogFileSystem, eventLogPath, eventLogCodec) { in =>
+      sparkUtils.withEventLog(eventLogFileSystem, eventLogPath, eventLogCodec, pipelinedDecompression) { in =>
         dataCollection.load(in, eventLogPath.toString())
       }
 
@@ -122,5 +124,7 @@ object SparkFSFetcher {
 
   val LOG_LOCATION_URI_XML_FIELD = "event_log_location_uri"
 
+  val PIPELINED_DECOMPRESSION_XML_FIELD = "pipelined_decompression"
+
   val DEFAULT_ATTEMPT_ID = Some("1")
 }
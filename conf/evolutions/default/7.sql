@@ -0,0 +1,76 @@
+#
+# Copyright 2016 LinkedIn Corp.
+#
+# Licensed under the Apache License, Version 2.0 (the "License"); you may not
+# use this file except in compliance with the License. You may obtain a copy of
+# the License at
+#
+# http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+# WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+# License for the specific language governing permissions and limitations under
+# the License.
+#
+
+# --- Dictionary encoded heuristic result details
+# --- !Ups
+
+CREATE TABLE yarn_app_heuristic_detail_name (
+  id    INT(11)       NOT NULL AUTO_INCREMENT  COMMENT 'The detail name id',
+  name  VARCHAR(128)  NOT NULL                 COMMENT 'The analysis detail entry name/key',
+
+  PRIMARY KEY (id),
+  UNIQUE KEY yarn_app_heuristic_detail_name_u1 (name)
+);
+
+INSERT INTO yarn_app_heuristic_detail_name (name)
+SELECT DISTINCT name FROM yarn_app_heuristic_result_details;
+
+CREATE TABLE yarn_app_heuristic_result_details_v2 (
+  yarn_app_heuristic_result_id  INT(11)       NOT NULL              COMMENT 'The application heuristic result id',
+  name_id                       INT(11)       NOT NULL              COMMENT 'The id of the analysis detail entry name/key',
+  value                         VARCHAR(255)  NOT NULL DEFAULT ''   COMMENT 'The analysis detail value, empty when numeric_value is set',
+  numeric_value                 BIGINT        DEFAULT NULL          COMMENT 'The analysis detail value when it is an integer',
+  details                       TEXT                                COMMENT 'More information on analysis details. e.g, stacktrace',
+
+  PRIMARY KEY (yarn_app_heuristic_result_id,name_id),
+  CONSTRAINT yarn_app_heuristic_result_details_f2 FOREIGN KEY (yarn_app_heuristic_result_id) REFERENCES yarn_app_heuristic_result (id),
+  CONSTRAINT yarn_app_heuristic_result_details_f3 FOREIGN KEY (name_id) REFERENCES yarn_app_heuristic_detail_name (id)
+);
+
+INSERT INTO yarn_app_heuristic_result_details_v2 (yarn_app_heuristic_result_id, name_id, value, details)
+SELECT d.yarn_app_heuristic_result_id, n.id, d.value, d.details
+FROM yarn_app_heuristic_result_details d INNER JOIN yarn_app_heuristic_detail_name n ON n.name = d.name;
+
+DROP TABLE yarn_app_heuristic_result_details;
+
+ALTER TABLE yarn_app_heuristic_result_details_v2 RENAME TO yarn_app_heuristic_result_details;
+
+create index yarn_app_heuristic_result_details_i2 on yarn_app_heuristic_result_details (name_id);
+
+# --- !Downs
+
+CREATE TABLE yarn_app_heuristic_result_details_v1 (
+  yarn_app_heuristic_result_id  INT(11) NOT NULL                  COMMENT 'The application heuristic result id',
+  name                          VARCHAR(128) NOT NULL DEFAULT ''  COMMENT 'The analysis detail entry name/key',
+  value                         VARCHAR(255) NOT NULL DEFAULT ''  COMMENT 'The analysis detail value corresponding to the name',
+  details                       TEXT                              COMMENT 'More information on analysis details. e.g, stacktrace',
+
+  PRIMARY KEY (yarn_app_heuristic_result_id,name),
+  CONSTRAINT yarn_app_heuristic_result_details_f1 FOREIGN KEY (yarn_app_heuristic_result_id) REFERENCES yarn_app_heuristic_result (id)
+);
+
+INSERT INTO yarn_app_heuristic_result_details_v1 (yarn_app_heuristic_result_id, name, value, details)
+SELECT d.yarn_app_heuristic_result_id, n.name,
+  CASE WHEN d.numeric_value IS NULL THEN d.value ELSE CAST(d.numeric_value AS CHAR(20)) END, d.details
+FROM yarn_app_heuristic_result_details d INNER JOIN yarn_app_heuristic_detail_name n ON n.id = d.name_id;
+
+DROP TABLE yarn_app_heuristic_result_details;
+
+ALTER TABLE yarn_app_heuristic_result_details_v1 RENAME TO yarn_app_heuristic_result_details;
+
+create index yarn_app_heuristic_result_details_i1 on yarn_app_heuristic_result_details (name);
+
+DROP TABLE yarn_app_heuristic_detail_name;
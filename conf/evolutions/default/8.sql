@@ -0,0 +1,57 @@
+#
+# Copyright 2016 LinkedIn Corp.
+#
+# Licensed under the Apache License, Version 2.0 (the "License"); you may not
+# use this file except in compliance with the License. You may obtain a copy of
+# the License at
+#
+# http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+# WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+# License for the specific language governing permissions and limitations under
+# the License.
+#
+
+# --- Hourly and daily rollups of the application results
+# --- !Ups
+
+CREATE TABLE yarn_app_result_rollup (
+  granularity      VARCHAR(8)    NOT NULL              COMMENT 'The size of the bucket, HOUR or DAY',
+  bucket_start     BIGINT        UNSIGNED NOT NULL     COMMENT 'The start of the bucket in epoch millis, aligned on its size',
+  username         VARCHAR(50)   NOT NULL              COMMENT 'The user who started the applications',
+  queue_name       VARCHAR(50)   NOT NULL DEFAULT ''   COMMENT 'The queue the applications were submitted to',
+  job_type         VARCHAR(20)   NOT NULL              COMMENT 'The Job Type e.g, Pig, Hive, Spark, HadoopJava',
+  app_type         VARCHAR(20)   NOT NULL DEFAULT ''   COMMENT 'The application type e.g, MAPREDUCE, SPARK. Empty for rows rolled up by this evolution',
+  severity         TINYINT(2)    UNSIGNED NOT NULL     COMMENT 'Aggregate severity of the applications',
+  num_apps         BIGINT        UNSIGNED NOT NULL DEFAULT 0  COMMENT 'The number of applications which finished in the bucket',
+  resource_used    BIGINT        UNSIGNED NOT NULL DEFAULT 0  COMMENT 'The resources used by the applications in MB Seconds',
+  resource_wasted  BIGINT        UNSIGNED NOT NULL DEFAULT 0  COMMENT 'The resources wasted by the applications in MB Seconds',
+  runtime          BIGINT        UNSIGNED NOT NULL DEFAULT 0  COMMENT 'The sum of the run times of the applications in millis',
+  total_delay      BIGINT        UNSIGNED NOT NULL DEFAULT 0  COMMENT 'The total delay in starting of mappers and reducers',
+
+  PRIMARY KEY (granularity,bucket_start,username,queue_name,job_type,app_type,severity)
+);
+
+create index yarn_app_result_rollup_i1 on yarn_app_result_rollup (granularity,username,bucket_start);
+
+INSERT INTO yarn_app_result_rollup (granularity, bucket_start, username, queue_name, job_type, app_type, severity,
+  num_apps, resource_used, resource_wasted, runtime, total_delay)
+SELECT 'HOUR', FLOOR(finish_time / 3600000) * 3600000, username, COALESCE(queue_name, ''), job_type, '', severity,
+  COUNT(*), COALESCE(SUM(resource_used), 0), COALESCE(SUM(resource_wasted), 0), SUM(finish_time - start_time),
+  COALESCE(SUM(total_delay), 0)
+FROM yarn_app_result
+GROUP BY FLOOR(finish_time / 3600000) * 3600000, username, COALESCE(queue_name, ''), job_type, severity;
+
+INSERT INTO yarn_app_result_rollup (granularity, bucket_start, username, queue_name, job_type, app_type, severity,
+  num_apps, resource_used, resource_wasted, runtime, total_delay)
+SELECT 'DAY', FLOOR(finish_time / 86400000) * 86400000, username, COALESCE(queue_name, ''), job_type, '', severity,
+  COUNT(*), COALESCE(SUM(resource_used), 0), COALESCE(SUM(resource_wasted), 0), SUM(finish_time - start_time),
+  COALESCE(SUM(total_delay), 0)
+FROM yarn_app_result
+GROUP BY FLOOR(finish_time / 86400000) * 86400000, username, COALESCE(queue_name, ''), job_type, severity;
+
+# --- !Downs
+
+DROP TABLE yarn_app_result_rollup;
@@ -0,0 +1,56 @@
+#
+# Copyright 2016 LinkedIn Corp.
+#
+# Licensed under the Apache License, Version 2.0 (the "License"); you may not
+# use this file except in compliance with the License. You may obtain a copy of
+# the License at
+#
+# http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+# WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+# License for the specific language governing permissions and limitations under
+# the License.
+#
+
+# --- Composite indexes for the most frequent query patterns reported by the query audit. Each index replaces the
+# --- single column index it starts with. The heuristic result indexes cover the heuristic filter of the search,
+# --- which joins to the applications, and the loading of the heuristic severities of a page of applications.
+# --- !Ups
+
+create index yarn_app_result_i10 on yarn_app_result (queue_name,finish_time);
+drop index yarn_app_result_i8 on yarn_app_result;
+
+create index yarn_app_result_i11 on yarn_app_result (job_exec_id,finish_time);
+
+create index yarn_app_result_i12 on yarn_app_result (job_def_id,finish_time);
+drop index yarn_app_result_i5 on yarn_app_result;
+
+create index yarn_app_result_i13 on yarn_app_result (flow_def_id,finish_time);
+drop index yarn_app_result_i6 on yarn_app_result;
+
+create index yarn_app_heuristic_result_i3 on yarn_app_heuristic_result (heuristic_name,severity,yarn_app_result_id);
+drop index yarn_app_heuristic_result_i2 on yarn_app_heuristic_result;
+
+create index yarn_app_heuristic_result_i4 on yarn_app_heuristic_result (yarn_app_result_id,heuristic_name,severity);
+drop index yarn_app_heuristic_result_i1 on yarn_app_heuristic_result;
+
+# --- !Downs
+
+create index yarn_app_heuristic_result_i1 on yarn_app_heuristic_result (yarn_app_result_id);
+drop index yarn_app_heuristic_result_i4 on yarn_app_heuristic_result;
+
+create index yarn_app_heuristic_result_i2 on yarn_app_heuristic_result (heuristic_name,severity);
+drop index yarn_app_heuristic_result_i3 on yarn_app_heuristic_result;
+
+create index yarn_app_result_i6 on yarn_app_result (flow_def_id);
+drop index yarn_app_result_i13 on yarn_app_result;
+
+create index yarn_app_result_i5 on yarn_app_result (job_def_id);
+drop index yarn_app_result_i12 on yarn_app_result;
+
+drop index yarn_app_result_i11 on yarn_app_result;
+
+create index yarn_app_result_i8 on yarn_app_result (queue_name);
+drop index yarn_app_result_i10 on yarn_app_result;
@@ -0,0 +1,42 @@
+#
+# Copyright 2016 LinkedIn Corp.
+#
+# Licensed under the Apache License, Version 2.0 (the "License"); you may not
+# use this file except in compliance with the License. You may obtain a copy of
+# the License at
+#
+# http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+# WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+# License for the specific language governing permissions and limitations under
+# the License.
+#
+# Range partitions yarn_app_result on finish_time, so that the retention (drelephant.retention.days) drops the expired
+# days with their partitions instead of deleting them row by row. Run it once against the MySQL database of Dr.
+# Elephant, while Dr. Elephant is stopped. Rebuilding the table takes time proportional to its size.
+#
+# MySQL requires the partitioning column in every unique key and does not allow foreign keys referencing a
+# partitioned table, so the primary key becomes (id, finish_time) and yarn_app_heuristic_result_f1 is dropped. The
+# retention deletes the heuristic results of a partition before dropping it.
+#
+# Replace 1460937600000 with the start of the current day (GMT) in epoch millis. The existing results stay in
+# phistory, which is dropped once all of them expire, and before then they are deleted in batches. The retention
+# creates the daily partitions, named pYYYYMMDD, ahead of time by splitting pmax.
+
+ALTER TABLE yarn_app_heuristic_result DROP FOREIGN KEY yarn_app_heuristic_result_f1;
+
+ALTER TABLE yarn_app_result DROP PRIMARY KEY, ADD PRIMARY KEY (id, finish_time);
+
+ALTER TABLE yarn_app_result PARTITION BY RANGE (finish_time) (
+  PARTITION phistory VALUES LESS THAN (1460937600000),
+  PARTITION pmax VALUES LESS THAN MAXVALUE
+);
+
+# To revert:
+#
+# ALTER TABLE yarn_app_result REMOVE PARTITIONING;
+# ALTER TABLE yarn_app_result DROP PRIMARY KEY, ADD PRIMARY KEY (id);
+# ALTER TABLE yarn_app_heuristic_result ADD CONSTRAINT yarn_app_heuristic_result_f1
+#   FOREIGN KEY (yarn_app_result_id) REFERENCES yarn_app_result (id);
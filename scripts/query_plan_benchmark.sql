@@ -0,0 +1,54 @@
+#
+# Copyright 2016 LinkedIn Corp.
+#
+# Licensed under the Apache License, Version 2.0 (the "License"); you may not
+# use this file except in compliance with the License. You may obtain a copy of
+# the License at
+#
+# http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+# WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+# License for the specific language governing permissions and limitations under
+# the License.
+#
+# The query patterns behind evolution 9, as found with the query audit (drelephant.query.audit.enabled), in the form
+# Ebean generates them. Run the script against the MySQL database of Dr. Elephant before and after the evolution, and
+# compare the plans: before, each query reads the rows matching its first column through a single column index and
+# sorts them (Using filesort), or scans finish_time for the missing job_exec_id index; after, it reads only the rows
+# of the time range, in order, from the composite index. Replace the values with ones from your cluster.
+#
+#   mysql -t drelephant < scripts/query_plan_benchmark.sql
+
+# Application.search and Web.search, filtered by queue
+EXPLAIN SELECT t0.id, t0.finish_time FROM yarn_app_result t0
+WHERE t0.queue_name = 'default' AND t0.finish_time >= 1460937600000 AND t0.finish_time <= 1461024000000
+ORDER BY t0.finish_time DESC, t0.id DESC LIMIT 26;
+
+# Application.restJobExecResult and Web.restJobFromJobId
+EXPLAIN SELECT t0.id, t0.finish_time FROM yarn_app_result t0
+WHERE t0.job_exec_id = 'https://azkaban/executor?execid=1&job=job&attempt=0'
+ORDER BY t0.finish_time DESC;
+
+# Application.jobHistory and the job graph data
+EXPLAIN SELECT t0.id, t0.finish_time FROM yarn_app_result t0
+WHERE t0.job_def_id = 'https://azkaban/manager?project=project&flow=flow&job=job'
+ORDER BY t0.finish_time DESC LIMIT 1000;
+
+# Application.flowHistory and the flow graph data
+EXPLAIN SELECT t0.id, t0.finish_time FROM yarn_app_result t0
+WHERE t0.flow_def_id = 'https://azkaban/manager?project=project&flow=flow'
+ORDER BY t0.finish_time DESC LIMIT 1000;
+
+# Application.search, filtered by heuristic and severity
+EXPLAIN SELECT t0.id, t0.finish_time FROM yarn_app_result t0
+JOIN yarn_app_heuristic_result u1 ON u1.yarn_app_result_id = t0.id
+WHERE u1.heuristic_name = 'Mapper Skew' AND u1.severity >= 2
+AND t0.finish_time >= 1460937600000 AND t0.finish_time <= 1461024000000
+ORDER BY t0.finish_time DESC, t0.id DESC LIMIT 26;
+
+# Severities of a page of search results, loaded by HeuristicResults
+EXPLAIN SELECT t0.id, t0.heuristic_name, t0.severity, t0.yarn_app_result_id FROM yarn_app_heuristic_result t0
+WHERE t0.yarn_app_result_id IN ('application_1458194917883_1453361', 'application_1458194917883_1453362')
+ORDER BY t0.id;
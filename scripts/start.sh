@@ -182,6 +182,15 @@ fi
 
 OPTS+=" -Ddb.default.url=$db_loc -Ddb.default.user=$db_user -Ddb.default.password=$db_password"
 
+# db_replica_url is optional. The reads go to the primary without it
+if [ -n "${db_replica_url}" ]; then
+  echo "db replica: " ${db_replica_url}
+  db_replica_loc="jdbc:mysql://"$db_replica_url"/"$db_name"?characterEncoding=UTF-8"
+  OPTS+=" -Ddb.replica.driver=com.mysql.jdbc.Driver -Ddb.replica.url=$db_replica_loc"
+  OPTS+=" -Ddb.replica.user=${db_replica_user:-$db_user} -Ddb.replica.password=${db_replica_password:-$db_password}"
+  OPTS+=" -Debean.replica=models.*"
+fi
+
 # set Java related options (e.g. -Xms1024m -Xmx1024m)
 export JAVA_OPTS="-XX:+HeapDumpOnOutOfMemoryError"
 
@@ -110,7 +110,7 @@ public class AnalyticJobTest {
         fetcher.fetchData(analyticJob);
         result = data;
 
-        elephantContext.getHeuristicsForApplicationType(analyticJob.getAppType());
+        elephantContext.getHeuristicsForJobType(analyticJob.getAppType(), jobType);
         result = heuristics;
 
         elephantContext.matchJobType(data);
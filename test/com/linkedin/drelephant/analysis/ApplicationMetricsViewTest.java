@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+import com.linkedin.drelephant.mapreduce.data.MapReduceApplicationData;
+import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
+import com.linkedin.drelephant.mapreduce.data.MapReduceTaskData;
+import com.linkedin.drelephant.math.Statistics;
+import java.util.Arrays;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+
+public class ApplicationMetricsViewTest {
+
+  private static MapReduceTaskData task(long runtimeMs, long inputBytes, boolean withCounters) {
+    MapReduceTaskData task = new MapReduceTaskData("task", "attempt");
+    MapReduceCounterData counters = null;
+    if (withCounters) {
+      counters = new MapReduceCounterData();
+      counters.set(MapReduceCounterData.CounterName.HDFS_BYTES_READ, inputBytes);
+      counters.set(MapReduceCounterData.CounterName.S3A_BYTES_READ, 1);
+    }
+    task.setTimeAndCounter(new long[]{runtimeMs, 0, 0, 0, runtimeMs}, counters);
+    return task;
+  }
+
+  @Test
+  public void testMetricsAreSharedPerTaskArray() {
+    MapReduceTaskData[] mappers = new MapReduceTaskData[]{task(10, 100, true), task(20, 200, true)};
+    MapReduceTaskData[] reducers = new MapReduceTaskData[]{task(30, 300, true)};
+    MapReduceApplicationData data = new MapReduceApplicationData().setMapperData(mappers).setReducerData(reducers);
+
+    TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> mapperMetrics = data.getMetricsView().of(mappers);
+    assertSame(mapperMetrics, data.getMetricsView().of(data.getMapperData()));
+    assertEquals(1, data.getMetricsView().of(reducers).getNumTasks());
+    assertSame(mapperMetrics.getTimeSummary(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME),
+        mapperMetrics.getTimeSummary(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME));
+  }
+
+  @Test
+  public void testTaskFilters() {
+    MapReduceTaskData noData = new MapReduceTaskData("task", "attempt");
+    MapReduceTaskData[] tasks = new MapReduceTaskData[]{task(10, 100, true), task(20, 0, false), noData,
+        task(40, 400, true)};
+    TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics =
+        new MapReduceApplicationData().setMapperData(tasks).getMetricsView().of(tasks);
+
+    assertEquals(4, metrics.getNumTasks());
+    assertArrayEquals(new long[]{10, 20, 40},
+        metrics.getTimes(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME));
+    assertArrayEquals(new long[]{10, 40},
+        metrics.getTimes(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME_AND_COUNTERS));
+    assertArrayEquals(new long[]{101, 401}, metrics.getCounterValues(Arrays.asList(
+        MapReduceCounterData.CounterName.HDFS_BYTES_READ, MapReduceCounterData.CounterName.S3A_BYTES_READ),
+        TaskMetrics.TaskFilter.COUNTERS));
+
+    Statistics.Summary runtimes = metrics.getTimeSummary(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME);
+    assertEquals(3, runtimes.getCount());
+    assertEquals(23, runtimes.getAverage());
+    assertEquals(10, runtimes.getMin());
+    assertEquals(40, runtimes.getMax());
+    assertEquals(500, metrics.getCounterSummary(MapReduceCounterData.CounterName.HDFS_BYTES_READ,
+        TaskMetrics.TaskFilter.COUNTERS).getTotal());
+  }
+
+  @Test
+  public void testTwoGroups() {
+    MapReduceTaskData[] tasks = new MapReduceTaskData[]{task(1000, 10, true), task(1000, 10, true),
+        task(1000, 10, true), task(1000, 1000, true)};
+    TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics =
+        new MapReduceApplicationData().setMapperData(tasks).getMetricsView().of(tasks);
+
+    TaskMetrics.TwoGroups groups = metrics.getCounterGroups(
+        Arrays.asList(MapReduceCounterData.CounterName.HDFS_BYTES_READ), TaskMetrics.TaskFilter.COUNTERS);
+    assertEquals(3, groups.getSmallerCount());
+    assertEquals(10, groups.getSmallerAverage());
+    assertEquals(1, groups.getLargerCount());
+    assertEquals(1000, groups.getLargerAverage());
+
+    // The cached column keeps the task order after the split
+    assertArrayEquals(new long[]{10, 10, 10, 1000}, metrics.getCounterValues(
+        Arrays.asList(MapReduceCounterData.CounterName.HDFS_BYTES_READ), TaskMetrics.TaskFilter.COUNTERS));
+  }
+
+  @Test
+  public void testNullTasks() {
+    TaskMetrics<MapReduceTaskData, MapReduceCounterData.CounterName> metrics =
+        new MapReduceApplicationData().getMetricsView().of(null);
+    assertEquals(0, metrics.getNumTasks());
+    assertEquals(0, metrics.getTimeSummary(TaskMetrics.TimeColumn.RUNTIME, TaskMetrics.TaskFilter.TIME).getAverage());
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class HeuristicEvaluatorTest {
+
+  private static final HadoopApplicationData DATA = new HadoopApplicationData() {
+    @Override
+    public String getAppId() {
+      return "application_1";
+    }
+
+    @Override
+    public Properties getConf() {
+      return new Properties();
+    }
+
+    @Override
+    public ApplicationType getApplicationType() {
+      return new ApplicationType("TEST");
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return false;
+    }
+  };
+
+  private static class SleepingHeuristic implements Heuristic<HadoopApplicationData> {
+    private final String _name;
+    private final long _sleepMs;
+
+    SleepingHeuristic(String name, long sleepMs) {
+      _name = name;
+      _sleepMs = sleepMs;
+    }
+
+    @Override
+    public HeuristicResult apply(HadoopApplicationData data) {
+      try {
+        Thread.sleep(_sleepMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return _name == null ? null : new HeuristicResult(_name, _name, Severity.NONE, 0);
+    }
+
+    @Override
+    public HeuristicConfigurationData getHeuristicConfData() {
+      return null;
+    }
+  }
+
+  private static class CountingAggregator implements HadoopMetricsAggregator {
+    private final HadoopAggregatedData _result = new HadoopAggregatedData();
+    private int _calls = 0;
+
+    @Override
+    public void aggregate(HadoopApplicationData data) {
+      _calls++;
+      _result.setResourceUsed(_calls);
+    }
+
+    @Override
+    public HadoopAggregatedData getResult() {
+      return _result;
+    }
+  }
+
+  private static List<String> names(List<HeuristicResult> results) {
+    List<String> names = new ArrayList<String>();
+    for (HeuristicResult result : results) {
+      names.add(result.getHeuristicName());
+    }
+    return names;
+  }
+
+  private static List<Heuristic> heuristics() {
+    return Arrays.<Heuristic>asList(new SleepingHeuristic("slow", 200), new SleepingHeuristic(null, 0),
+        new SleepingHeuristic("fast", 0), new SleepingHeuristic("medium", 50));
+  }
+
+  @Test
+  public void testSerialEvaluation() throws Exception {
+    CountingAggregator aggregator = new CountingAggregator();
+    HeuristicEvaluator.Evaluation evaluation = new HeuristicEvaluator().evaluate(heuristics(), aggregator, DATA);
+
+    assertEquals(Arrays.asList("slow", "fast", "medium"), names(evaluation.getHeuristicResults()));
+    assertSame(aggregator.getResult(), evaluation.getAggregatedData());
+    assertEquals(1, evaluation.getAggregatedData().getResourceUsed());
+  }
+
+  @Test
+  public void testParallelEvaluationKeepsConfiguredOrder() throws Exception {
+    HeuristicEvaluator evaluator = new HeuristicEvaluator(true, 4, 0);
+    try {
+      CountingAggregator aggregator = new CountingAggregator();
+      HeuristicEvaluator.Evaluation evaluation = evaluator.evaluate(heuristics(), aggregator, DATA);
+
+      assertEquals(Arrays.asList("slow", "fast", "medium"), names(evaluation.getHeuristicResults()));
+      assertEquals(1, evaluation.getAggregatedData().getResourceUsed());
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelEvaluationRunsConcurrently() throws Exception {
+    final CountDownLatch latch = new CountDownLatch(2);
+    Heuristic<HadoopApplicationData> waiting = new SleepingHeuristic("waiting", 0) {
+      @Override
+      public HeuristicResult apply(HadoopApplicationData data) {
+        latch.countDown();
+        try {
+          latch.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return super.apply(data);
+      }
+    };
+    HeuristicEvaluator evaluator = new HeuristicEvaluator(true, 2, 5000);
+    try {
+      List<HeuristicResult> results =
+          evaluator.evaluate(Arrays.<Heuristic>asList(waiting, waiting), null, DATA).getHeuristicResults();
+      assertEquals(Arrays.asList("waiting", "waiting"), names(results));
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void testTimedOutHeuristicIsSkipped() throws Exception {
+    HeuristicEvaluator evaluator = new HeuristicEvaluator(true, 2, 100);
+    try {
+      List<Heuristic> heuristics = Arrays.<Heuristic>asList(new SleepingHeuristic("stuck", 2000),
+          new SleepingHeuristic("fast", 0));
+      List<HeuristicResult> results = evaluator.evaluate(heuristics, null, DATA).getHeuristicResults();
+      assertEquals(Arrays.asList("fast"), names(results));
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void testTimeoutIsSharedByTheHeuristics() throws Exception {
+    // One worker runs the heuristics one after the other, the second ends after the timeout
+    HeuristicEvaluator evaluator = new HeuristicEvaluator(true, 1, 300);
+    try {
+      List<Heuristic> heuristics = Arrays.<Heuristic>asList(new SleepingHeuristic("first", 200),
+          new SleepingHeuristic("second", 200));
+      List<HeuristicResult> results = evaluator.evaluate(heuristics, null, DATA).getHeuristicResults();
+      assertEquals(Arrays.asList("first"), names(results));
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void testTimedOutHeuristicIsInterrupted() throws Exception {
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    Heuristic<HadoopApplicationData> stuck = new SleepingHeuristic("stuck", 0) {
+      @Override
+      public HeuristicResult apply(HadoopApplicationData data) {
+        try {
+          Thread.sleep(10000);
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+        }
+        return null;
+      }
+    };
+    HeuristicEvaluator evaluator = new HeuristicEvaluator(true, 1, 100);
+    try {
+      assertTrue(evaluator.evaluate(Arrays.<Heuristic>asList(stuck), null, DATA).getHeuristicResults().isEmpty());
+      assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void testTimedOutAggregatorFails() throws Exception {
+    HadoopMetricsAggregator stuck = new CountingAggregator() {
+      @Override
+      public void aggregate(HadoopApplicationData data) {
+        try {
+          Thread.sleep(10000);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+    HeuristicEvaluator evaluator = new HeuristicEvaluator(true, 2, 100);
+    try {
+      evaluator.evaluate(Arrays.<Heuristic>asList(new SleepingHeuristic("fast", 0)), stuck, DATA);
+      fail("The evaluation should fail when the aggregator times out");
+    } catch (TimeoutException e) {
+      // expected
+    } finally {
+      evaluator.shutdown();
+    }
+  }
+
+  @Test
+  public void testHeuristicFailureIsRethrown() throws Exception {
+    Heuristic<HadoopApplicationData> failing = new SleepingHeuristic("failing", 0) {
+      @Override
+      public HeuristicResult apply(HadoopApplicationData data) {
+        throw new IllegalStateException("broken heuristic");
+      }
+    };
+    HeuristicEvaluator evaluator = new HeuristicEvaluator(true, 2, 0);
+    try {
+      evaluator.evaluate(Arrays.<Heuristic>asList(new SleepingHeuristic("fast", 0), failing), null, DATA);
+      fail("The heuristic failure should be rethrown");
+    } catch (IllegalStateException e) {
+      assertEquals("broken heuristic", e.getMessage());
+    } finally {
+      evaluator.shutdown();
+    }
+    assertTrue(evaluator.isParallel());
+    assertFalse(new HeuristicEvaluator().isParallel());
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+
+public class JobTypeClassifierTest {
+  private static final ApplicationType TEST_TYPE = new ApplicationType("TEST");
+
+  private static final JobType PIG = new JobType("Pig", "pig.script", ".*");
+  private static final JobType HIVE = new JobType("Hive", "hive.mapred.mode", ".*");
+  private static final JobType OOZIE = new JobType("OozieLauncher", "oozie.launcher.action.main.class", ".*");
+  private static final JobType STREAMING = new JobType("Streaming", "mapreduce.job.name", "streamjob\\d+.jar");
+  private static final JobType SPECIAL = new JobType("Special", "mapreduce.job.name", "special");
+  private static final JobType HADOOP = new JobType("HadoopJava", "mapred.child.java.opts", ".*");
+
+  private static Heuristic heuristic(String name, String excludedJobTypes) {
+    final Map<String, String> params = new HashMap<String, String>();
+    if (excludedJobTypes != null) {
+      params.put(JobTypeClassifier.EXCLUDE_JOBTYPE, excludedJobTypes);
+    }
+    final HeuristicConfigurationData confData = new HeuristicConfigurationData(name, name, null, TEST_TYPE, params);
+    return new Heuristic<HadoopApplicationData>() {
+      @Override
+      public HeuristicResult apply(HadoopApplicationData data) {
+        return null;
+      }
+
+      @Override
+      public HeuristicConfigurationData getHeuristicConfData() {
+        return confData;
+      }
+    };
+  }
+
+  private static Properties properties(String... keyValues) {
+    Properties properties = new Properties();
+    for (int i = 0; i < keyValues.length; i += 2) {
+      properties.put(keyValues[i], keyValues[i + 1]);
+    }
+    return properties;
+  }
+
+  private static JobTypeClassifier classifier(List<Heuristic> heuristics) {
+    return new JobTypeClassifier(Arrays.asList(PIG, HIVE, OOZIE, STREAMING, SPECIAL, HADOOP), heuristics);
+  }
+
+  @Test
+  public void testClassifyKeepsJobTypeOrder() {
+    JobTypeClassifier classifier = classifier(Collections.<Heuristic>emptyList());
+
+    assertSame(PIG, classifier.classify(properties("pig.script", "a.pig", "hive.mapred.mode", "strict")));
+    assertSame(HIVE, classifier.classify(properties("hive.mapred.mode", "strict", "mapred.child.java.opts", "-X")));
+    assertSame(STREAMING, classifier.classify(properties("mapreduce.job.name", "streamjob123.jar")));
+    assertSame(SPECIAL, classifier.classify(properties("mapreduce.job.name", "special")));
+    assertSame(HADOOP, classifier.classify(properties("mapreduce.job.name", "specials", "mapred.child.java.opts", "")));
+    assertNull(classifier.classify(properties("mapreduce.job.name", "other")));
+    assertNull(classifier.classify(new Properties()));
+    assertNull(classifier.classify(null));
+  }
+
+  @Test
+  public void testClassifyMatchesJobTypeMatchType() {
+    JobTypeClassifier classifier = classifier(Collections.<Heuristic>emptyList());
+    List<JobType> jobTypes = Arrays.asList(PIG, HIVE, OOZIE, STREAMING, SPECIAL, HADOOP);
+    Properties[] samples = new Properties[] {
+        properties("oozie.launcher.action.main.class", "Main"),
+        properties("mapreduce.job.name", "streamjob1.jar", "oozie.launcher.action.main.class", "Main"),
+        properties("mapreduce.job.name", "streamjob.jar"),
+        properties("mapred.child.java.opts", "-Xmx1g")
+    };
+    for (Properties sample : samples) {
+      JobType expected = null;
+      for (JobType jobType : jobTypes) {
+        if (jobType.matchType(sample)) {
+          expected = jobType;
+          break;
+        }
+      }
+      assertSame(expected, classifier.classify(sample));
+    }
+  }
+
+  @Test
+  public void testHeuristicsPerJobType() {
+    Heuristic all = heuristic("All", null);
+    Heuristic noOozie = heuristic("NoOozie", "OozieLauncher");
+    Heuristic noPigNoUnknown = heuristic("NoPigNoUnknown", "Pig,Unknown");
+    JobTypeClassifier classifier = classifier(Arrays.asList(all, noOozie, noPigNoUnknown));
+
+    assertEquals(Arrays.asList(all, noOozie), classifier.getHeuristics(PIG));
+    assertEquals(Arrays.asList(all, noPigNoUnknown), classifier.getHeuristics(OOZIE));
+    assertEquals(Arrays.asList(all, noOozie, noPigNoUnknown), classifier.getHeuristics(HIVE));
+    assertEquals(Arrays.asList(all, noOozie), classifier.getHeuristics(null));
+    assertEquals(2, classifier.getEnabledHeuristics(OOZIE).cardinality());
+    assertFalse(classifier.getEnabledHeuristics(OOZIE).get(1));
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.analysis;
+
+import java.util.Random;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+
+public class TaskResourceUsageTest {
+
+  @Test
+  public void testMatchesPerTaskCosts() {
+    Random random = new Random(7);
+    int numTasks = 10000;
+    long[] startTimes = new long[numTasks];
+    long[] finishTimes = new long[numTasks];
+    long[] physicalMemory = new long[numTasks];
+    long[] virtualMemory = new long[numTasks];
+    for (int i = 0; i < numTasks; i++) {
+      startTimes[i] = 1000000 + random.nextInt(600000);
+      finishTimes[i] = startTimes[i] + random.nextInt(3600000);
+      physicalMemory[i] = random.nextInt(1024) * FileUtils.ONE_MB;
+      virtualMemory[i] = random.nextInt(2048) * FileUtils.ONE_MB;
+    }
+    long containerSize = 4096;
+
+    // Each task is charged for its whole seconds only
+    long used = 0;
+    long seconds = 0;
+    long peakMemory = 0;
+    for (int i = 0; i < numTasks; i++) {
+      long taskSeconds = (finishTimes[i] - startTimes[i]) / 1000;
+      used += containerSize * taskSeconds;
+      seconds += taskSeconds;
+      peakMemory = Math.max(peakMemory,
+          Math.max(physicalMemory[i] / FileUtils.ONE_MB, (long) (virtualMemory[i] / FileUtils.ONE_MB / 2.1)));
+    }
+
+    TaskResourceUsage usage =
+        TaskResourceUsage.compute(startTimes, finishTimes, physicalMemory, virtualMemory, containerSize, 1000000);
+    assertEquals(used, usage.getResourceUsed());
+    assertEquals((containerSize - (long) (peakMemory * 1.5)) * seconds, usage.getResourceWasted());
+  }
+
+  @Test
+  public void testDelay() {
+    long[] startTimes = new long[]{1000, 5000};
+    long[] finishTimes = new long[]{3000, 9000};
+    long[] memory = new long[]{0, 0};
+
+    // The longest task took 4 seconds and the last one finished at 9 seconds
+    assertEquals(4000, TaskResourceUsage.compute(startTimes, finishTimes, memory, memory, 1024, 1000).getDelay());
+    assertEquals(0, TaskResourceUsage.compute(startTimes, finishTimes, memory, memory, 1024, 6000).getDelay());
+    assertEquals(0, TaskResourceUsage.compute(new long[0], new long[0], new long[0], new long[0], 1024, 0)
+        .getResourceUsed());
+  }
+}
@@ -18,6 +18,10 @@ package com.linkedin.drelephant.mapreduce;
 
 import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceTaskData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -58,4 +62,26 @@ public class TestTaskLevelAggregatedMetrics {
         Assert.assertEquals(taskMetrics.getResourceUsed(), 135168L);
         Assert.assertEquals(taskMetrics.getResourceWasted(), 66627L);
     }
+
+    @Test
+    public void testNthPercentileFinishTimeOfManyTasks() {
+        List<Long> finishTimes = new ArrayList<Long>();
+        for (long i = 1; i <= 1000; i++) {
+            finishTimes.add(i * 1000);
+        }
+        Collections.shuffle(finishTimes, new Random(42));
+        MapReduceCounterData counterData = new MapReduceCounterData();
+        MapReduceTaskData taskData[] = new MapReduceTaskData[finishTimes.size()];
+        for (int i = 0; i < taskData.length; i++) {
+            taskData[i] = new MapReduceTaskData("task", "id");
+            taskData[i].setTimeAndCounter(new long[]{0, 0, 0, 0, finishTimes.get(i)}, counterData);
+        }
+        TaskLevelAggregatedMetrics taskMetrics = new TaskLevelAggregatedMetrics(taskData, 4096L, 0);
+        // Nearest rank over all the tasks
+        Assert.assertEquals(500000L, taskMetrics.getNthPercentileFinishTime(50));
+        Assert.assertEquals(900000L, taskMetrics.getNthPercentileFinishTime(90));
+        Assert.assertEquals(990000L, taskMetrics.getNthPercentileFinishTime(99));
+        Assert.assertEquals(1000000L, taskMetrics.getNthPercentileFinishTime(100));
+        Assert.assertEquals(900000L, taskMetrics.getNthPercentileFinishTime(90));
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.mapreduce.data;
+
+import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData.CounterName;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MapReduceCounterDataTest {
+
+  @Test
+  public void testUnsetCounter() {
+    MapReduceCounterData counters = new MapReduceCounterData();
+    Assert.assertEquals(0, counters.get(CounterName.HDFS_BYTES_READ));
+  }
+
+  @Test
+  public void testKnownCounterInAnyGroup() {
+    MapReduceCounterData counters = new MapReduceCounterData();
+    counters.set("org.apache.hadoop.mapreduce.FileSystemCounter", "HDFS_BYTES_READ", 100);
+    Assert.assertEquals(100, counters.get(CounterName.HDFS_BYTES_READ));
+    Assert.assertEquals(100L, (long) counters.getAllCountersInGroup("org.apache.hadoop.mapreduce.FileSystemCounter").get("HDFS_BYTES_READ"));
+
+    counters.set(CounterName.SPILLED_RECORDS, 7);
+    Assert.assertEquals(7, counters.get(CounterName.SPILLED_RECORDS));
+    Assert.assertEquals(100, counters.get(CounterName.HDFS_BYTES_READ));
+  }
+
+  @Test
+  public void testLastValueSetWins() {
+    MapReduceCounterData counters = new MapReduceCounterData();
+    counters.set("FileSystemCounters", "HDFS_BYTES_READ", 100);
+    counters.set("org.apache.hadoop.mapreduce.FileSystemCounter", "HDFS_BYTES_READ", 200);
+    Assert.assertEquals(200, counters.get(CounterName.HDFS_BYTES_READ));
+    counters.set(CounterName.HDFS_BYTES_READ, 300);
+    Assert.assertEquals(300, counters.get(CounterName.HDFS_BYTES_READ));
+  }
+
+  @Test
+  public void testCustomCounter() {
+    MapReduceCounterData counters = new MapReduceCounterData();
+    counters.set("CustomGroup", "CUSTOM_COUNTER", 42);
+    Assert.assertEquals(42L, (long) counters.getAllCountersInGroup("CustomGroup").get("CUSTOM_COUNTER"));
+    Assert.assertTrue(counters.getGroupNames().contains("CustomGroup"));
+    for (CounterName counterName : CounterName.values()) {
+      Assert.assertEquals(0, counters.get(counterName));
+    }
+  }
+}
@@ -16,10 +16,17 @@
 
 package com.linkedin.drelephant.mapreduce.fetchers;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.linkedin.drelephant.util.ThreadContextMR2;
+import org.codehaus.jackson.JsonNode;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
+import org.codehaus.jackson.map.ObjectMapper;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -35,4 +42,28 @@ public class MapReduceFetcherHadoop2Test {
     Assert.assertEquals("task_1443068695259_9143_m_000475", matcher.group(1));
   }
 
+  @Test
+  public void testMoveToArray() throws IOException {
+    String tasks = "{\"job\":{\"task\":[{\"id\":\"job\"}]},\"tasks\":{\"count\":{\"maps\":2},"
+        + "\"task\":[{\"id\":\"task_1\",\"counters\":[1,2]},{\"id\":\"task_2\"}]},\"after\":1}";
+    Assert.assertEquals(2, readTaskIds(tasks).size());
+    Assert.assertEquals("task_2", readTaskIds(tasks).get(1));
+
+    Assert.assertTrue(readTaskIds("{\"tasks\":null}").isEmpty());
+    Assert.assertTrue(readTaskIds("{\"tasks\":{\"task\":[]}}").isEmpty());
+    Assert.assertTrue(readTaskIds("{}").isEmpty());
+  }
+
+  private static List<String> readTaskIds(String json) throws IOException {
+    JsonParser parser = new ObjectMapper().getJsonFactory().createJsonParser(json);
+    List<String> ids = new ArrayList<String>();
+    if (MapReduceFetcherHadoop2.moveToArray(parser, "tasks", "task")) {
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        JsonNode task = parser.readValueAsTree();
+        ids.add(task.get("id").getValueAsText());
+      }
+    }
+    parser.close();
+    return ids;
+  }
 }
@@ -20,6 +20,7 @@ import com.linkedin.drelephant.analysis.ApplicationType;
 import com.linkedin.drelephant.analysis.HDFSContext;
 import com.linkedin.drelephant.analysis.Heuristic;
 import com.linkedin.drelephant.analysis.HeuristicResult;
+import com.linkedin.drelephant.analysis.HeuristicResultDetails;
 import com.linkedin.drelephant.analysis.Severity;
 import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
 import com.linkedin.drelephant.mapreduce.data.MapReduceApplicationData;
@@ -29,8 +30,12 @@ import com.linkedin.drelephant.math.Statistics;
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
 import java.io.IOException;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import junit.framework.TestCase;
 import org.apache.commons.io.FileUtils;
 
@@ -80,6 +85,37 @@ public class MapperSpeedHeuristicTest extends TestCase {
     assertEquals(Severity.NONE, analyzeJob(runtime, 1 * speed_factor));
   }
 
+  public void testExactMedianOfManyTasks() throws IOException {
+    List<Long> runtimesMs = new ArrayList<Long>();
+    for (long i = 1; i <= 1000; i++) {
+      runtimesMs.add(i * MINUTE_IN_MS);
+    }
+    Collections.shuffle(runtimesMs, new Random(42));
+    MapReduceCounterData counter = new MapReduceCounterData();
+    counter.set(MapReduceCounterData.CounterName.HDFS_BYTES_READ, 100 * MB_IN_BYTES);
+    MapReduceTaskData[] mappers = new MapReduceTaskData[runtimesMs.size()];
+    for (int i = 0; i < mappers.length; i++) {
+      mappers[i] = new MapReduceTaskData("task-id-" + i, "task-attempt-id-" + i);
+      mappers[i].setTimeAndCounter(new long[] { runtimesMs.get(i), 0, 0, 0, 0 }, counter);
+    }
+
+    // The median of the 1000 runtimes averages the 500th and 501st minutes, the same on every run
+    for (int run = 0; run < 2; run++) {
+      MapReduceApplicationData data =
+          new MapReduceApplicationData().setCounters(new MapReduceCounterData()).setMapperData(mappers);
+      assertEquals("8 hr 20 min 30 sec", getDetail(_heuristic.apply(data), "Median task runtime"));
+    }
+  }
+
+  private static String getDetail(HeuristicResult result, String name) {
+    for (HeuristicResultDetails detail : result.getHeuristicResultDetails()) {
+      if (detail.getName().equals(name)) {
+        return detail.getValue();
+      }
+    }
+    return null;
+  }
+
   private Severity analyzeJob(long runtimeMs, long readBytes) throws IOException {
     MapReduceCounterData jobCounter = new MapReduceCounterData();
     MapReduceTaskData[] mappers = new MapReduceTaskData[NUMTASKS + 1];
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.mapreduce.heuristics;
+
+import com.linkedin.drelephant.analysis.ApplicationType;
+import com.linkedin.drelephant.analysis.Heuristic;
+import com.linkedin.drelephant.analysis.HeuristicResult;
+import com.linkedin.drelephant.analysis.HeuristicResultDetails;
+import com.linkedin.drelephant.analysis.HeuristicStream;
+import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData;
+import com.linkedin.drelephant.mapreduce.data.MapReduceApplicationData;
+import com.linkedin.drelephant.mapreduce.data.MapReduceCounterData;
+import com.linkedin.drelephant.mapreduce.data.MapReduceTaskData;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Checks that the MapReduce heuristics give the same results when their tasks are streamed as when they are
+ * applied to the fetched data.
+ */
+public class StreamingHeuristicTest {
+
+  private static HeuristicConfigurationData confData(String name) {
+    return new HeuristicConfigurationData(name, name, "test_view", new ApplicationType("test_apptype"),
+        new HashMap<String, String>());
+  }
+
+  private static final List<Heuristic> HEURISTICS = Arrays.<Heuristic>asList(
+      new MapperSkewHeuristic(confData("MapperSkew")),
+      new ReducerSkewHeuristic(confData("ReducerSkew")),
+      new MapperTimeHeuristic(confData("MapperTime")),
+      new ReducerTimeHeuristic(confData("ReducerTime")),
+      new MapperGCHeuristic(confData("MapperGC")),
+      new ReducerGCHeuristic(confData("ReducerGC")),
+      new MapperMemoryHeuristic(confData("MapperMemory")),
+      new ReducerMemoryHeuristic(confData("ReducerMemory")));
+
+  private static MapReduceTaskData[] tasks(Random random, String type, int count) {
+    MapReduceTaskData[] tasks = new MapReduceTaskData[count];
+    for (int i = 0; i < count; i++) {
+      tasks[i] = new MapReduceTaskData(type + "-" + i, type + "-attempt-" + i);
+      if (random.nextInt(10) == 0) {
+        // Sampled out task, without time and counter data
+        continue;
+      }
+      MapReduceCounterData counters = new MapReduceCounterData();
+      for (MapReduceCounterData.CounterName counter : MapReduceCounterData.CounterName.values()) {
+        counters.set(counter, (long) random.nextInt(1 << 30));
+      }
+      long start = random.nextInt(1000000);
+      long runtime = random.nextInt(3600000);
+      long shuffle = random.nextInt((int) runtime + 1);
+      tasks[i].setTimeAndCounter(new long[]{runtime, shuffle, (runtime - shuffle) / 2, start, start + runtime},
+          random.nextInt(20) == 0 ? null : counters);
+    }
+    return tasks;
+  }
+
+  private static MapReduceApplicationData fetch(Random random, HeuristicStream stream, int mappers, int reducers) {
+    MapReduceTaskData[] mapperData = tasks(random, "m", mappers);
+    MapReduceTaskData[] reducerData = tasks(random, "r", reducers);
+    for (MapReduceTaskData task : mapperData) {
+      stream.publish(MapReduceApplicationData.MAPPER_STREAM, task);
+    }
+    for (MapReduceTaskData task : reducerData) {
+      stream.publish(MapReduceApplicationData.REDUCER_STREAM, task);
+    }
+    Properties conf = new Properties();
+    conf.setProperty("mapreduce.map.memory.mb", "2048");
+    conf.setProperty("mapreduce.reduce.memory.mb", "4096");
+    return new MapReduceApplicationData().setCounters(new MapReduceCounterData()).setJobConf(conf)
+        .setMapperData(mapperData).setReducerData(reducerData);
+  }
+
+  private static void assertSameResult(HeuristicResult expected, HeuristicResult actual) {
+    assertEquals(expected.getHeuristicName(), actual.getHeuristicName());
+    assertEquals(expected.getSeverity(), actual.getSeverity());
+    assertEquals(expected.getScore(), actual.getScore());
+    List<HeuristicResultDetails> expectedDetails = expected.getHeuristicResultDetails();
+    List<HeuristicResultDetails> actualDetails = actual.getHeuristicResultDetails();
+    assertEquals(expectedDetails.size(), actualDetails.size());
+    for (int i = 0; i < expectedDetails.size(); i++) {
+      assertEquals(expectedDetails.get(i).getName(), actualDetails.get(i).getName());
+      assertEquals(expectedDetails.get(i).getValue(), actualDetails.get(i).getValue());
+    }
+  }
+
+  @Test
+  public void testStreamedResultsMatchAppliedResults() {
+    Random random = new Random(42);
+    int[][] sizes = {{0, 0}, {1, 0}, {3, 1}, {150, 20}, {1000, 333}};
+    for (int[] size : sizes) {
+      HeuristicStream stream = new HeuristicStream(HEURISTICS);
+      assertTrue(stream.isEnabled());
+      MapReduceApplicationData data = fetch(random, stream, size[0], size[1]);
+      stream.complete();
+      for (Heuristic heuristic : HEURISTICS) {
+        assertSameResult(heuristic.apply(data), stream.apply(heuristic, data));
+      }
+    }
+  }
+
+  @Test
+  public void testFailedJobHasNoResult() {
+    HeuristicStream stream = new HeuristicStream(HEURISTICS);
+    MapReduceApplicationData data = fetch(new Random(7), stream, 20, 5).setSucceeded(false);
+    stream.complete();
+    for (Heuristic heuristic : HEURISTICS) {
+      assertNull(stream.apply(heuristic, data));
+    }
+  }
+
+  @Test
+  public void testIncompleteStreamFallsBackToData() {
+    Random random = new Random(11);
+    HeuristicStream stream = new HeuristicStream(HEURISTICS);
+    // Tasks published to the stream are not the ones of the data, but the stream is never completed
+    fetch(random, stream, 50, 10);
+    MapReduceApplicationData data = fetch(random, HeuristicStream.DISABLED, 80, 30);
+    assertFalse(stream.isComplete());
+    for (Heuristic heuristic : HEURISTICS) {
+      assertSameResult(heuristic.apply(data), stream.apply(heuristic, data));
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class QuantileSketchTest {
+
+  @Test
+  public void testExactWhileSmall() {
+    QuantileSketch sketch = new QuantileSketch();
+    List<Long> values = new ArrayList<Long>();
+    for (long value : new long[]{40, 10, 30, 20}) {
+      sketch.add(value);
+      values.add(value);
+    }
+    assertTrue(sketch.isExact());
+    assertEquals(10, sketch.getMin());
+    assertEquals(40, sketch.getMax());
+    assertEquals(Statistics.percentile(values, 25), sketch.percentile(25));
+    assertEquals(Statistics.percentile(values, 75), sketch.percentile(75));
+    assertEquals(Statistics.median(values), sketch.median());
+  }
+
+  @Test
+  public void testApproximateQuantiles() {
+    Random random = new Random(42);
+    QuantileSketch first = new QuantileSketch();
+    QuantileSketch second = new QuantileSketch();
+    long[] values = new long[100000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextInt(1000000);
+      if (i % 2 == 0) {
+        first.add(values[i]);
+      } else {
+        second.add(values[i]);
+      }
+    }
+    first.merge(second);
+    Arrays.sort(values);
+
+    assertFalse(first.isExact());
+    assertEquals(values.length, first.getCount());
+    assertEquals(values[0], first.getMin());
+    assertEquals(values[values.length - 1], first.getMax());
+    for (int percentile : new int[]{10, 25, 50, 75, 90}) {
+      long exact = values[(int) Math.ceil(values.length * percentile / 100.0) - 1];
+      // Values are uniform over [0, 1000000), so a 2% rank error is at most 20000 apart.
+      assertEquals(exact, first.percentile(percentile), 20000);
+    }
+  }
+
+  @Test
+  public void testDeterministicCompaction() {
+    Random random = new Random(42);
+    long[] values = new long[10000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextInt(1000000);
+    }
+    QuantileSketch first = new QuantileSketch();
+    QuantileSketch second = new QuantileSketch();
+    for (long value : values) {
+      first.add(value);
+      second.add(value);
+    }
+
+    assertFalse(first.isExact());
+    assertEquals(first.median(), second.median());
+    for (int percentile = 1; percentile <= 100; percentile++) {
+      assertEquals(first.percentile(percentile), second.percentile(percentile));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptySketch() {
+    new QuantileSketch().median();
+  }
+}
@@ -23,6 +23,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 
@@ -113,4 +114,77 @@ public class StatisticsTest {
     assertEquals(10,Statistics.percentile(finishTimeSingle, 10));
     assertEquals(10,Statistics.percentile(finishTimeSingle, 50));
   }
+
+  @Test
+  public void testPercentileAndMedianKeepListOrder() {
+    List<Long> values = new ArrayList<Long>();
+    for (long value : new long[]{50, 10, 40, 20, 30}) {
+      values.add(value);
+    }
+    List<Long> expected = new ArrayList<Long>(values);
+
+    assertEquals(40, Statistics.percentile(values, 80));
+    assertEquals(30, Statistics.median(values));
+    assertEquals(expected, values);
+  }
+
+  @Test
+  public void testPercentileAndMedianInPlace() {
+    long[] values = new long[]{9, 3, 7, 1, 5, 5, 8, 2, 6, 4, 0, 0};
+    // Only the first ten values are in use
+    assertEquals(9, Statistics.percentileInPlace(values.clone(), 10, 100));
+    assertEquals(5, Statistics.percentileInPlace(values.clone(), 10, 50));
+    assertEquals(1, Statistics.percentileInPlace(values.clone(), 10, 10));
+    assertEquals(0, Statistics.percentileInPlace(values.clone(), 10, 0));
+    assertEquals(5, Statistics.medianInPlace(values.clone(), 10));
+    assertEquals(5, Statistics.medianInPlace(values.clone(), 9));
+
+    long[] large = new long[1001];
+    for (int i = 0; i < large.length; i++) {
+      large[i] = (i * 7919L) % large.length;
+    }
+    assertEquals(500, Statistics.medianInPlace(large.clone(), large.length));
+    assertEquals(950, Statistics.percentileInPlace(large.clone(), large.length, 95));
+    assertEquals(500, Statistics.medianInPlace(large, large.length - 1));
+  }
+
+  @Test
+  public void testFindTwoGroups() {
+    long[] values = new long[]{1, 100, 2, 102, 3, 98};
+    long[][] groups = Statistics.findTwoGroups(values);
+    assertArrayEquals(new long[]{1, 2, 3}, groups[0]);
+    assertArrayEquals(new long[]{100, 102, 98}, groups[1]);
+
+    long[] scratch = new long[]{1, 100, 2, 102, 3, 98, -1};
+    int split = Statistics.partitionTwoGroups(scratch, 6);
+    assertEquals(3, split);
+    assertEquals(2, Statistics.average(scratch, 0, split));
+    assertEquals(100, Statistics.average(scratch, split, 6));
+    assertEquals(-1, scratch[6]);
+
+    assertEquals(0, Statistics.partitionTwoGroups(new long[0], 0));
+  }
+
+  @Test
+  public void testDeviates() {
+    assertArrayEquals(new int[]{3}, Statistics.deviates(new long[]{10, 10, 10, 100, 10}, 5, 1.0));
+    assertArrayEquals(new int[0], Statistics.deviates(new long[]{10, 10, 10}, 5, 1.0));
+  }
+
+  @Test
+  public void testSummarize() {
+    Statistics.Summary summary = Statistics.summarize(new long[]{2, 4, 4, 4, 5, 5, 7, 9});
+    assertEquals(8, summary.getCount());
+    assertEquals(5, summary.getAverage());
+    assertEquals(2, summary.getMin());
+    assertEquals(9, summary.getMax());
+    assertEquals(4.0, summary.getVariance(), 1e-9);
+    assertEquals(2.0, summary.getStandardDeviation(), 1e-9);
+
+    Statistics.Summary empty = Statistics.summarize(new long[0]);
+    assertEquals(0, empty.getAverage());
+    assertEquals(0, empty.getMin());
+    assertEquals(0, empty.getMax());
+    assertEquals(0.0, empty.getVariance(), 0.0);
+  }
 }
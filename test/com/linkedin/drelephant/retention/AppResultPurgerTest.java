@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package com.linkedin.drelephant.retention;
+
+import com.avaje.ebean.Ebean;
+import java.util.HashMap;
+import java.util.Map;
+import models.AppHeuristicResult;
+import models.AppResult;
+import org.junit.Before;
+import org.junit.Test;
+import play.test.FakeApplication;
+
+import static common.DBTestUtil.initDB;
+import static common.TestConstants.APPLY_EVOLUTIONS_DEFAULT_KEY;
+import static common.TestConstants.APPLY_EVOLUTIONS_DEFAULT_VALUE;
+import static common.TestConstants.DB_DEFAULT_DRIVER_KEY;
+import static common.TestConstants.DB_DEFAULT_DRIVER_VALUE;
+import static common.TestConstants.DB_DEFAULT_URL_KEY;
+import static common.TestConstants.DB_DEFAULT_URL_VALUE;
+import static common.TestConstants.EVOLUTION_PLUGIN_KEY;
+import static common.TestConstants.EVOLUTION_PLUGIN_VALUE;
+import static common.TestConstants.TEST_SERVER_PORT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static play.test.Helpers.fakeApplication;
+import static play.test.Helpers.running;
+import static play.test.Helpers.testServer;
+
+
+public class AppResultPurgerTest {
+
+  private static final String EXPIRED_APP_ID = "application_1458194917883_1453361";
+  private static final String KEPT_APP_ID = "application_1458194917883_1453362";
+
+  // Between the finish times of the two applications
+  private static final long CUTOFF = 1460980800000L;
+
+  private static FakeApplication fakeApp;
+
+  @Before
+  public void setup() {
+    Map<String, String> dbConn = new HashMap<String, String>();
+    dbConn.put(DB_DEFAULT_DRIVER_KEY, DB_DEFAULT_DRIVER_VALUE);
+    dbConn.put(DB_DEFAULT_URL_KEY, DB_DEFAULT_URL_VALUE);
+    dbConn.put(EVOLUTION_PLUGIN_KEY, EVOLUTION_PLUGIN_VALUE);
+    dbConn.put(APPLY_EVOLUTIONS_DEFAULT_KEY, APPLY_EVOLUTIONS_DEFAULT_VALUE);
+
+    fakeApp = fakeApplication(dbConn);
+  }
+
+  @Test
+  public void testDeleteBefore() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        populateTestData();
+        AppResultPurger purger = new AppResultPurger(1);
+
+        assertEquals(1, purger.deleteBefore(CUTOFF));
+        assertNull(AppResult.find.byId(EXPIRED_APP_ID));
+        assertEquals(0, countHeuristicResults(EXPIRED_APP_ID));
+        assertEquals(0, countDetails(137594500, 137594600));
+
+        assertNotNull(AppResult.find.byId(KEPT_APP_ID));
+        assertTrue(countHeuristicResults(KEPT_APP_ID) > 0);
+        assertTrue(countDetails(137594600, 137594700) > 0);
+
+        assertEquals(0, purger.deleteBefore(CUTOFF));
+      }
+    });
+  }
+
+  // H2 does not partition tables, so the purger does not look for partitions
+  @Test
+  public void testNoPartitions() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        populateTestData();
+        assertTrue(new AppResultPurger(10).getPartitions().isEmpty());
+      }
+    });
+  }
+
+  private static int countHeuristicResults(String appId) {
+    return AppHeuristicResult.find.where().eq("yarnAppResult.id", appId).findRowCount();
+  }
+
+  private static int countDetails(int fromId, int toId) {
+    return Ebean.createSqlQuery("SELECT COUNT(*) AS num_details FROM yarn_app_heuristic_result_details"
+        + " WHERE yarn_app_heuristic_result_id >= :fromId AND yarn_app_heuristic_result_id < :toId")
+        .setParameter("fromId", fromId)
+        .setParameter("toId", toId)
+        .findUnique()
+        .getInteger("num_details");
+  }
+
+  private void populateTestData() {
+    try {
+      initDB();
+    } catch (Exception e) {
+      e.printStackTrace();
+    }
+  }
+}
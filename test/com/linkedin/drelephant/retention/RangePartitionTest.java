@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package com.linkedin.drelephant.retention;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class RangePartitionTest {
+
+  // 2016-04-18 00:00:00 GMT
+  private static final long DAY_START = 1460937600000L;
+  private static final long NOW = DAY_START + 12 * 60 * 60 * 1000L;
+
+  private static final RangePartition HISTORY = new RangePartition("phistory", DAY_START - RangePartition.DAY);
+  private static final RangePartition MAX = new RangePartition("pmax", RangePartition.MAX_VALUE);
+
+  @Test
+  public void testOfDay() {
+    RangePartition partition = RangePartition.ofDay(DAY_START);
+    assertEquals("p20160418", partition.getName());
+    assertEquals(DAY_START + RangePartition.DAY, partition.getBound());
+  }
+
+  @Test
+  public void testPlanAdditionsFromToday() {
+    List<RangePartition> additions = RangePartition.planAdditions(Arrays.asList(HISTORY, MAX), NOW, 2);
+    assertEquals(3, additions.size());
+    assertEquals("p20160418", additions.get(0).getName());
+    assertEquals("p20160419", additions.get(1).getName());
+    assertEquals("p20160420", additions.get(2).getName());
+    assertEquals(DAY_START + 3 * RangePartition.DAY, additions.get(2).getBound());
+  }
+
+  @Test
+  public void testPlanAdditionsAfterLastPartition() {
+    List<RangePartition> partitions = Arrays.asList(HISTORY, RangePartition.ofDay(DAY_START),
+        RangePartition.ofDay(DAY_START + RangePartition.DAY), MAX);
+    List<RangePartition> additions = RangePartition.planAdditions(partitions, NOW, 2);
+    assertEquals(1, additions.size());
+    assertEquals("p20160420", additions.get(0).getName());
+
+    assertTrue(RangePartition.planAdditions(partitions, NOW, 1).isEmpty());
+  }
+
+  @Test
+  public void testPlanDrops() {
+    RangePartition today = RangePartition.ofDay(DAY_START);
+    List<RangePartition> partitions = Arrays.asList(HISTORY, today, MAX);
+
+    assertTrue(RangePartition.planDrops(partitions, HISTORY.getBound() - 1).isEmpty());
+    assertEquals(Collections.singletonList(HISTORY), RangePartition.planDrops(partitions, HISTORY.getBound()));
+    assertEquals(Arrays.asList(HISTORY, today), RangePartition.planDrops(partitions, Long.MAX_VALUE));
+  }
+}
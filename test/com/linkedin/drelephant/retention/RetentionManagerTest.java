@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package com.linkedin.drelephant.retention;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+
+public class RetentionManagerTest {
+
+  // 2016-04-18 12:00:00 GMT
+  private static final long NOW = 1460980800000L;
+
+  @Test
+  public void testDeleteWhenNotPartitioned() {
+    TestPurger purger = new TestPurger(Collections.<RangePartition>emptyList());
+    new RetentionManager(purger, 2, 1000, RetentionManager.Mode.AUTO, 1).purge(NOW);
+
+    assertEquals(Collections.singletonList("delete " + (NOW - 2 * RangePartition.DAY)), purger._calls);
+  }
+
+  @Test
+  public void testDropExpiredPartitions() {
+    RangePartition history = new RangePartition("phistory", 1460764800000L);
+    RangePartition day = RangePartition.ofDay(1460764800000L);
+    TestPurger purger = new TestPurger(Arrays.asList(history, day, new RangePartition("pmax",
+        RangePartition.MAX_VALUE)));
+    new RetentionManager(purger, 2, 1000, RetentionManager.Mode.AUTO, 1).purge(NOW);
+
+    assertEquals(Arrays.asList("add [p20160418 < 1461024000000, p20160419 < 1461110400000]", "drop phistory",
+        "delete " + (NOW - 2 * RangePartition.DAY)), purger._calls);
+  }
+
+  @Test
+  public void testDeleteMode() {
+    TestPurger purger = new TestPurger(Collections.singletonList(new RangePartition("phistory", 1460764800000L)));
+    new RetentionManager(purger, 1, 1000, RetentionManager.Mode.DELETE, 1).purge(NOW);
+
+    assertEquals(Collections.singletonList("delete " + (NOW - RangePartition.DAY)), purger._calls);
+  }
+
+  @Test
+  public void testDisabledByDefault() {
+    assertFalse(RetentionManager.fromConfiguration(new Configuration()).isEnabled());
+  }
+
+  private static class TestPurger extends AppResultPurger {
+    private final List<RangePartition> _partitions;
+    private final List<String> _calls = new ArrayList<String>();
+
+    TestPurger(List<RangePartition> partitions) {
+      super(10);
+      _partitions = partitions;
+    }
+
+    @Override
+    public List<RangePartition> getPartitions() {
+      return _partitions;
+    }
+
+    @Override
+    public void addPartitions(List<RangePartition> partitions, List<RangePartition> additions) {
+      if (!additions.isEmpty()) {
+        _calls.add("add " + additions);
+      }
+    }
+
+    @Override
+    public int dropPartition(RangePartition partition) {
+      _calls.add("drop " + partition.getName());
+      return 0;
+    }
+
+    @Override
+    public int deleteBefore(long cutoff) {
+      _calls.add("delete " + cutoff);
+      return 0;
+    }
+  }
+}
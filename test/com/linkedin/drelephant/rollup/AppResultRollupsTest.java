@@ -0,0 +1,193 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.rollup;
+
+import com.avaje.ebean.Ebean;
+import com.avaje.ebean.SqlRow;
+import com.avaje.ebean.TxRunnable;
+import com.linkedin.drelephant.analysis.Severity;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import models.AppResult;
+import org.junit.Before;
+import org.junit.Test;
+import play.test.FakeApplication;
+
+import static common.DBTestUtil.initDB;
+import static common.TestConstants.APPLY_EVOLUTIONS_DEFAULT_KEY;
+import static common.TestConstants.APPLY_EVOLUTIONS_DEFAULT_VALUE;
+import static common.TestConstants.DB_DEFAULT_DRIVER_KEY;
+import static common.TestConstants.DB_DEFAULT_DRIVER_VALUE;
+import static common.TestConstants.DB_DEFAULT_URL_KEY;
+import static common.TestConstants.DB_DEFAULT_URL_VALUE;
+import static common.TestConstants.EVOLUTION_PLUGIN_KEY;
+import static common.TestConstants.EVOLUTION_PLUGIN_VALUE;
+import static common.TestConstants.TEST_SERVER_PORT;
+import static org.junit.Assert.assertEquals;
+import static play.test.Helpers.fakeApplication;
+import static play.test.Helpers.running;
+import static play.test.Helpers.testServer;
+
+
+public class AppResultRollupsTest {
+
+  private static final String USERNAME = "rollup";
+  private static final List<String> USERNAMES = Collections.singletonList(USERNAME);
+
+  private static final long HOUR = RollupGranularity.HOUR.getMillis();
+  // Aligned on a day, after the applications of the test data
+  private static final long DAY_START = 1461024000000L;
+
+  private static FakeApplication fakeApp;
+
+  @Before
+  public void setup() {
+    Map<String, String> dbConn = new HashMap<String, String>();
+    dbConn.put(DB_DEFAULT_DRIVER_KEY, DB_DEFAULT_DRIVER_VALUE);
+    dbConn.put(DB_DEFAULT_URL_KEY, DB_DEFAULT_URL_VALUE);
+    dbConn.put(EVOLUTION_PLUGIN_KEY, EVOLUTION_PLUGIN_VALUE);
+    dbConn.put(APPLY_EVOLUTIONS_DEFAULT_KEY, APPLY_EVOLUTIONS_DEFAULT_VALUE);
+
+    fakeApp = fakeApplication(dbConn);
+  }
+
+  @Test
+  public void testRecord() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        populateTestData();
+        save(newAppResult("application_1_0001", "job1", "flow1", DAY_START + 10 * 60000, Severity.CRITICAL));
+        save(newAppResult("application_1_0002", "job1", "flow1", DAY_START + 20 * 60000, Severity.CRITICAL));
+        save(newAppResult("application_1_0003", "job2", "flow1", DAY_START + 30 * 60000, Severity.LOW));
+
+        SqlRow bucket = Ebean.createSqlQuery("SELECT num_apps, resource_used, runtime FROM "
+            + AppResultRollups.TABLE_NAME + " WHERE granularity = 'HOUR' AND bucket_start = :bucketStart"
+            + " AND username = :username AND severity = :severity")
+            .setParameter("bucketStart", DAY_START)
+            .setParameter("username", USERNAME)
+            .setParameter("severity", Severity.CRITICAL.getValue())
+            .findUnique();
+        assertEquals(2L, (long) bucket.getLong("num_apps"));
+        assertEquals(200L, (long) bucket.getLong("resource_used"));
+        assertEquals(120000L, (long) bucket.getLong("runtime"));
+
+        RollupTotals totals = AppResultRollups.getTotals(USERNAMES, DAY_START, DAY_START + HOUR, true);
+        assertEquals(3, totals.getNumApps());
+        assertEquals(2, totals.getNumApps(Severity.CRITICAL));
+        assertEquals(1, totals.getNumApps(Severity.LOW));
+        assertEquals(2, totals.getNumJobs());
+        assertEquals(1, totals.getNumFlows());
+        assertEquals(300, totals.getResourceUsed());
+        assertEquals(30, totals.getResourceWasted());
+        assertEquals(180000, totals.getRuntime());
+      }
+    });
+  }
+
+  @Test
+  public void testExecutionsCountedOnceOverTheRange() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        populateTestData();
+        // A job started before the range, with applications in two buckets and in an unaligned edge of the range
+        save(newAppResult("application_1_0001", "job1", "flow1", DAY_START - 10 * 60000, Severity.NONE));
+        save(newAppResult("application_1_0002", "job1", "flow1", DAY_START + 10 * 60000, Severity.NONE));
+        save(newAppResult("application_1_0003", "job1", "flow1", DAY_START + HOUR + 10 * 60000, Severity.NONE));
+        save(newAppResult("application_1_0004", "job1", "flow1", DAY_START + 2 * HOUR + 10 * 60000, Severity.NONE));
+
+        RollupTotals totals =
+            AppResultRollups.getTotals(USERNAMES, DAY_START - 5 * 60000, DAY_START + 2 * HOUR + 20 * 60000, true);
+        assertEquals(3, totals.getNumApps());
+        assertEquals(1, totals.getNumJobs());
+        assertEquals(1, totals.getNumFlows());
+
+        // Only counted if asked for
+        totals = AppResultRollups.getTotals(USERNAMES, DAY_START - 5 * 60000, DAY_START + 2 * HOUR + 20 * 60000, false);
+        assertEquals(3, totals.getNumApps());
+        assertEquals(0, totals.getNumJobs());
+      }
+    });
+  }
+
+  @Test
+  public void testTotalsOfUnalignedRange() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        populateTestData();
+        // The two applications of the test data are read from the results, the range being shorter than an hour
+        RollupTotals totals = AppResultRollups.getTotals(Collections.<String>emptyList(), 1460980600000L,
+            1460981000000L, true);
+        assertEquals(2, totals.getNumApps());
+        assertEquals(2, totals.getNumJobs());
+        assertEquals(2, totals.getNumFlows());
+
+        totals = AppResultRollups.getTotals(Collections.singletonList("growth"), 1460980600000L, 1460981000000L, true);
+        assertEquals(1, totals.getNumApps());
+        assertEquals(1, totals.getNumJobs());
+      }
+    });
+  }
+
+  private static AppResult newAppResult(String id, String jobExecId, String flowExecId, long finishTime,
+      Severity severity) {
+    AppResult result = new AppResult();
+    result.id = id;
+    result.name = "rollup test";
+    result.username = USERNAME;
+    result.queueName = "default";
+    result.startTime = finishTime - 60000;
+    result.finishTime = finishTime;
+    result.trackingUrl = "";
+    result.jobType = "HadoopJava";
+    result.severity = severity;
+    result.score = 0;
+    result.workflowDepth = 0;
+    result.scheduler = "azkaban";
+    result.jobName = jobExecId;
+    result.jobExecId = jobExecId;
+    result.flowExecId = flowExecId;
+    result.jobDefId = jobExecId;
+    result.flowDefId = flowExecId;
+    result.jobExecUrl = jobExecId;
+    result.flowExecUrl = flowExecId;
+    result.jobDefUrl = jobExecId;
+    result.flowDefUrl = flowExecId;
+    result.resourceUsed = 100;
+    result.resourceWasted = 10;
+    result.totalDelay = 0;
+    return result;
+  }
+
+  private static void save(final AppResult result) {
+    Ebean.execute(new TxRunnable() {
+      public void run() {
+        AppResultRollups.record(result, "MAPREDUCE");
+        result.save();
+      }
+    });
+  }
+
+  private void populateTestData() {
+    try {
+      initDB();
+    } catch (Exception e) {
+      e.printStackTrace();
+    }
+  }
+}
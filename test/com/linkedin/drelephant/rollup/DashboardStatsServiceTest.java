@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.rollup;
+
+import com.linkedin.drelephant.analysis.Severity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DashboardStatsServiceTest {
+
+  private static final long REFRESH_INTERVAL = 1000;
+
+  private static class CountingSource implements DashboardStatsService.Source {
+    private int _loads = 0;
+    private boolean _fail = false;
+
+    @Override
+    public RollupTotals load(long begin, long end) {
+      if (_fail) {
+        throw new RuntimeException("Database unavailable");
+      }
+      _loads++;
+      RollupTotals totals = new RollupTotals();
+      totals.addApps(Severity.CRITICAL, _loads);
+      return totals;
+    }
+  }
+
+  private static class QueuedExecutor implements Executor {
+    private final List<Runnable> _tasks = new ArrayList<Runnable>();
+
+    @Override
+    public void execute(Runnable task) {
+      _tasks.add(task);
+    }
+
+    void runAll() {
+      for (Runnable task : _tasks) {
+        task.run();
+      }
+      _tasks.clear();
+    }
+  }
+
+  private static class TestService extends DashboardStatsService {
+    private long _time = 0;
+
+    TestService(Source source, Executor executor) {
+      super(source, executor, REFRESH_INTERVAL);
+    }
+
+    @Override
+    long currentTime() {
+      return _time;
+    }
+  }
+
+  @Test
+  public void testCachedWithinRefreshInterval() {
+    CountingSource source = new CountingSource();
+    QueuedExecutor executor = new QueuedExecutor();
+    TestService service = new TestService(source, executor);
+
+    Assert.assertEquals(1, service.getLastDayTotals().getNumApps(Severity.CRITICAL));
+    service._time = REFRESH_INTERVAL;
+    Assert.assertEquals(1, service.getLastDayTotals().getNumApps());
+    Assert.assertEquals(1, source._loads);
+    Assert.assertTrue(executor._tasks.isEmpty());
+  }
+
+  @Test
+  public void testStaleServedWhileRefreshing() {
+    CountingSource source = new CountingSource();
+    QueuedExecutor executor = new QueuedExecutor();
+    TestService service = new TestService(source, executor);
+
+    service.getLastDayTotals();
+    service._time = REFRESH_INTERVAL + 1;
+    Assert.assertEquals(1, service.getLastDayTotals().getNumApps());
+    Assert.assertEquals(1, service.getLastDayTotals().getNumApps());
+    // A single refresh is scheduled however many requests see stale counts
+    Assert.assertEquals(1, executor._tasks.size());
+
+    executor.runAll();
+    Assert.assertEquals(2, service.getLastDayTotals().getNumApps());
+    Assert.assertTrue(executor._tasks.isEmpty());
+  }
+
+  @Test
+  public void testFailedRefreshKeepsCounts() {
+    CountingSource source = new CountingSource();
+    QueuedExecutor executor = new QueuedExecutor();
+    TestService service = new TestService(source, executor);
+
+    service.getLastDayTotals();
+    service._time = REFRESH_INTERVAL + 1;
+    source._fail = true;
+    service.getLastDayTotals();
+    executor.runAll();
+    Assert.assertEquals(1, service.getLastDayTotals().getNumApps());
+
+    // The request above scheduled another refresh
+    source._fail = false;
+    executor.runAll();
+    Assert.assertEquals(2, service.getLastDayTotals().getNumApps());
+  }
+}
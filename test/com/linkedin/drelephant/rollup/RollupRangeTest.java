@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.rollup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RollupRangeTest {
+
+  private static final long HOUR = RollupGranularity.HOUR.getMillis();
+  private static final long DAY = RollupGranularity.DAY.getMillis();
+
+  @Test
+  public void testGranularity() {
+    Assert.assertEquals(2 * HOUR, RollupGranularity.HOUR.floor(2 * HOUR + 1));
+    Assert.assertEquals(3 * HOUR, RollupGranularity.HOUR.ceil(2 * HOUR + 1));
+    Assert.assertEquals(2 * HOUR, RollupGranularity.HOUR.ceil(2 * HOUR));
+    Assert.assertEquals(DAY, RollupGranularity.DAY.floor(DAY + 5 * HOUR));
+  }
+
+  @Test
+  public void testEmptyRange() {
+    RollupRange range = RollupRange.split(10, 10);
+    Assert.assertTrue(range.getRawSpans().isEmpty());
+    Assert.assertTrue(range.getBucketSpans(RollupGranularity.HOUR).isEmpty());
+    Assert.assertTrue(range.getBucketSpans(RollupGranularity.DAY).isEmpty());
+  }
+
+  @Test
+  public void testRangeWithinAnHour() {
+    RollupRange range = RollupRange.split(HOUR + 10, 2 * HOUR - 10);
+    Assert.assertEquals(Collections.singletonList(new RollupRange.Span(HOUR + 10, 2 * HOUR - 10)),
+        range.getRawSpans());
+    Assert.assertTrue(range.getBucketSpans(RollupGranularity.HOUR).isEmpty());
+  }
+
+  @Test
+  public void testRangeWithinADay() {
+    RollupRange range = RollupRange.split(DAY + HOUR + 10, DAY + 5 * HOUR + 10);
+    Assert.assertEquals(Arrays.asList(new RollupRange.Span(DAY + HOUR + 10, DAY + 2 * HOUR),
+        new RollupRange.Span(DAY + 5 * HOUR, DAY + 5 * HOUR + 10)), range.getRawSpans());
+    Assert.assertEquals(Collections.singletonList(new RollupRange.Span(DAY + 2 * HOUR, DAY + 5 * HOUR)),
+        range.getBucketSpans(RollupGranularity.HOUR));
+    Assert.assertTrue(range.getBucketSpans(RollupGranularity.DAY).isEmpty());
+  }
+
+  @Test
+  public void testRangeOverDays() {
+    RollupRange range = RollupRange.split(DAY - HOUR, 4 * DAY + 2 * HOUR);
+    Assert.assertTrue(range.getRawSpans().isEmpty());
+    Assert.assertEquals(Arrays.asList(new RollupRange.Span(DAY - HOUR, DAY),
+        new RollupRange.Span(4 * DAY, 4 * DAY + 2 * HOUR)), range.getBucketSpans(RollupGranularity.HOUR));
+    Assert.assertEquals(Collections.singletonList(new RollupRange.Span(DAY, 4 * DAY)),
+        range.getBucketSpans(RollupGranularity.DAY));
+  }
+
+  @Test
+  public void testOpenRange() {
+    RollupRange range = RollupRange.split(DAY - HOUR + 1, Long.MAX_VALUE);
+    Assert.assertEquals(Collections.singletonList(new RollupRange.Span(DAY - HOUR + 1, DAY)), range.getRawSpans());
+    long lastDay = RollupGranularity.DAY.floor(Long.MAX_VALUE);
+    Assert.assertEquals(Collections.singletonList(new RollupRange.Span(DAY, lastDay)),
+        range.getBucketSpans(RollupGranularity.DAY));
+    Assert.assertEquals(Collections.singletonList(new RollupRange.Span(lastDay, Long.MAX_VALUE)),
+        range.getBucketSpans(RollupGranularity.HOUR));
+  }
+}
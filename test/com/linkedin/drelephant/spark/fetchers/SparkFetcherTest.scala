@@ -21,6 +21,7 @@ import java.util.Date
 import java.util.concurrent.TimeoutException
 
 import scala.concurrent.{ExecutionContext, Future}
+import scala.concurrent.duration.{Duration, MILLISECONDS}
 import com.linkedin.drelephant.analysis.{AnalyticJob, ApplicationType}
 import com.linkedin.drelephant.configurations.fetcher.FetcherConfigurationData
 import com.linkedin.drelephant.spark.data.{SparkApplicationData, SparkLogDerivedData, SparkRestDerivedData}
@@ -36,6 +37,7 @@ import org.scalatest.mockito.MockitoSugar
 
 class SparkFetcherTest extends FunSpec with Matchers with MockitoSugar {
   import SparkFetcherTest._
+  import scala.collection.JavaConverters._
 
   describe("SparkFetcher") {
     import ExecutionContext.Implicits.global
@@ -293,6 +295,43 @@ class SparkFetcherTest extends FunSpec with Matchers with MockitoSugar {
       result.get(0).getFinishTime should be(lastAttempt.endTime.getTime)
       result.get(0).getUser should be(lastAttempt.sparkUser)
     }
+
+    it("fetch jobs for backfill in time slices ordered by finish time") {
+      val sliceFetcherConfigurationData = newFakeFetcherConfigurationData(
+        Map(SparkFetcher.BACKFILL_SLICE_INTERVAL_XML_FIELD -> "100", SparkFetcher.BACKFILL_PARALLELISM_XML_FIELD -> "2"))
+      def newApplicationInfo(id: String, endTimes: Long*): ApplicationInfoImpl = new ApplicationInfoImpl(id, id,
+        endTimes.map(endTime => newFakeApplicationAttemptInfo(None, new Date(endTime - 10), new Date(endTime))))
+      val restClient = Mockito.mock(classOf[SparkRestClient])
+      Mockito.when(restClient.fetchCompletedApplicationsData(0, 99)).thenReturn(
+        Seq(newApplicationInfo("app_2", 80), newApplicationInfo("app_1", 20), newApplicationInfo("app_4", 50, 150)))
+      Mockito.when(restClient.fetchCompletedApplicationsData(100, 199)).thenReturn(
+        Seq(newApplicationInfo("app_4", 50, 150), newApplicationInfo("app_3", 120)))
+      Mockito.when(restClient.fetchCompletedApplicationsData(200, 250)).thenReturn(Seq(newApplicationInfo("app_5", 250)))
+      val sparkFetcher = new SparkFetcher(sliceFetcherConfigurationData) {
+        override lazy val sparkConf = new SparkConf()
+        override lazy val sparkRestClient = restClient
+      }
+      sparkFetcher.backfillSlices(0, 250).map(slice => (slice.startTime, slice.endTime)) should be(
+        Seq((0L, 100L), (100L, 200L), (200L, 250L)))
+      val result = sparkFetcher.fetchJobsForBackfill(0, 250)
+      result.asScala.map(_.getAppId) should be(Seq("app_1", "app_2", "app_3", "app_4", "app_5"))
+      result.asScala.map(_.getFinishTime) should be(Seq(20L, 80L, 120L, 150L, 250L))
+    }
+
+    it("stops fetching backfill slices when a slice fails") {
+      val sliceFetcherConfigurationData = newFakeFetcherConfigurationData(
+        Map(SparkFetcher.BACKFILL_SLICE_INTERVAL_XML_FIELD -> "100", SparkFetcher.BACKFILL_PARALLELISM_XML_FIELD -> "1",
+          SparkFetcher.BACKFILL_SLICE_TIMEOUT_XML_FIELD -> "1000"))
+      val restClient = Mockito.mock(classOf[SparkRestClient])
+      Mockito.when(restClient.fetchCompletedApplicationsData(0, 99)).thenThrow(new IllegalStateException("SHS is down"))
+      val sparkFetcher = new SparkFetcher(sliceFetcherConfigurationData) {
+        override lazy val sparkConf = new SparkConf()
+        override lazy val sparkRestClient = restClient
+      }
+      sparkFetcher.backfillSliceTimeout should be(Duration(1000, MILLISECONDS))
+      an[IllegalStateException] should be thrownBy { sparkFetcher.fetchJobsForBackfill(0, 250) }
+      Mockito.verify(restClient, Mockito.never()).fetchCompletedApplicationsData(100, 199)
+    }
   }
 }
 
@@ -24,7 +24,7 @@ import java.util.{Calendar, Date, SimpleTimeZone}
 import javax.ws.rs.client.WebTarget
 import com.linkedin.drelephant.spark.fetchers.statusapiv1.StageStatus
 
-import scala.concurrent.ExecutionContext
+import scala.concurrent.{ExecutionContext, Future}
 import scala.util.Try
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.module.scala.DefaultScalaModule
@@ -238,6 +238,64 @@ class SparkRestClientTest extends AsyncFunSpec with Matchers {
       }
     }
 
+    it("reads the active executors by default, whether they are aggregated or not") {
+      import ExecutionContext.Implicits.global
+      withFakeHistoryServer(classOf[FetchExecutorsFixtures.AllExecutorsApiResource]) { sparkRestClient =>
+        for {
+          restDerivedData <- sparkRestClient.fetchData(FetchExecutorsFixtures.APP_ID)
+          aggregatedRestDerivedData <- sparkRestClient.fetchData(FetchExecutorsFixtures.APP_ID, aggregateExecutors = true)
+        } yield {
+          restDerivedData.executorSummaries.map(_.id) should be(Seq("driver", "1", "2"))
+          restDerivedData.executorSummaryAggregate should be(None)
+          aggregatedRestDerivedData.executorSummaries should be(Seq.empty)
+          aggregatedRestDerivedData.executorSummaryAggregate.get.numExecutors should be(3)
+        }
+      }
+    }
+
+    it("aggregates the executors while parsing them") {
+      import ExecutionContext.Implicits.global
+      withFakeHistoryServer(classOf[FetchExecutorsFixtures.AllExecutorsApiResource]) { sparkRestClient =>
+        sparkRestClient.fetchData(FetchExecutorsFixtures.APP_ID, aggregateExecutors = true, allExecutors = true) map {
+          restDerivedData =>
+            restDerivedData.executorSummaries should be(Seq.empty)
+            val aggregate = restDerivedData.executorSummaryAggregate.get
+            aggregate.numExecutors should be(4)
+            aggregate.totalDuration should be(6000L)
+            aggregate.totalDurationExcludingDriver should be(6000L)
+            aggregate.totalGCTimeExcludingDriver should be(60L)
+            aggregate.totalMaxMemory should be(4000L)
+            aggregate.totalInputBytes.getMin should be(0L)
+            aggregate.totalInputBytes.median should be(150L)
+            aggregate.totalInputBytes.getMax should be(300L)
+        }
+      }
+    }
+
+    it("reads allexecutors when asked to, whether the executors are aggregated or not") {
+      import ExecutionContext.Implicits.global
+      withFakeHistoryServer(classOf[FetchExecutorsFixtures.AllExecutorsApiResource]) { sparkRestClient =>
+        sparkRestClient.fetchData(FetchExecutorsFixtures.APP_ID, allExecutors = true) map { restDerivedData =>
+          restDerivedData.executorSummaries.map(_.id) should be(Seq("driver", "1", "2", "3"))
+        }
+      }
+    }
+
+    it("falls back to the active executors when the history server does not serve allexecutors") {
+      import ExecutionContext.Implicits.global
+      withFakeHistoryServer(classOf[FetchExecutorsFixtures.ApiResource]) { sparkRestClient =>
+        for {
+          restDerivedData <- sparkRestClient.fetchData(FetchExecutorsFixtures.APP_ID, allExecutors = true)
+          aggregatedRestDerivedData <-
+            sparkRestClient.fetchData(FetchExecutorsFixtures.APP_ID, aggregateExecutors = true, allExecutors = true)
+        } yield {
+          restDerivedData.executorSummaries.map(_.id) should be(Seq("driver", "1", "2"))
+          aggregatedRestDerivedData.executorSummaryAggregate.get.numExecutors should be(3)
+          aggregatedRestDerivedData.executorSummaryAggregate.get.totalDuration should be(4000L)
+        }
+      }
+    }
+
     it("throws an exception if spark.yarn.historyServer.address is missing") {
       an[IllegalArgumentException] should be thrownBy(new SparkRestClient(new SparkConf()))
     }
@@ -485,6 +543,117 @@ object SparkRestClientTest {
     }
   }
 
+  object FetchExecutorsFixtures {
+    val APP_ID = "application_1"
+
+    val ACTIVE_EXECUTORS = Seq(
+      newFakeExecutorSummary("driver", totalDuration = 0L, totalInputBytes = 0L),
+      newFakeExecutorSummary("1", totalDuration = 1000L, totalInputBytes = 100L),
+      newFakeExecutorSummary("2", totalDuration = 3000L, totalInputBytes = 300L)
+    )
+
+    // Executor 3 was removed by dynamic allocation, so only allexecutors lists it
+    val ALL_EXECUTORS = ACTIVE_EXECUTORS :+ newFakeExecutorSummary("3", totalDuration = 2000L, totalInputBytes = 200L)
+
+    /** A history server older than Spark 2.1, which does not serve allexecutors. */
+    @Path("/api/v1")
+    class ApiResource {
+      @Path("applications/{appId}")
+      def getApplication(): FetchClientModeDataFixtures.ApplicationResource =
+        new FetchClientModeDataFixtures.ApplicationResource()
+
+      @Path("applications/{appId}/jobs")
+      def getJobs(): FetchClientModeDataFixtures.JobsResource = new FetchClientModeDataFixtures.JobsResource()
+
+      @Path("applications/{appId}/stages")
+      def getStages(): FetchClientModeDataFixtures.StagesResource = new FetchClientModeDataFixtures.StagesResource()
+
+      @Path("applications/{appId}/executors")
+      def getExecutors(): ActiveExecutorsResource = new ActiveExecutorsResource()
+    }
+
+    @Path("/api/v1")
+    class AllExecutorsApiResource {
+      @Path("applications/{appId}")
+      def getApplication(): FetchClientModeDataFixtures.ApplicationResource =
+        new FetchClientModeDataFixtures.ApplicationResource()
+
+      @Path("applications/{appId}/jobs")
+      def getJobs(): FetchClientModeDataFixtures.JobsResource = new FetchClientModeDataFixtures.JobsResource()
+
+      @Path("applications/{appId}/stages")
+      def getStages(): FetchClientModeDataFixtures.StagesResource = new FetchClientModeDataFixtures.StagesResource()
+
+      @Path("applications/{appId}/executors")
+      def getExecutors(): ActiveExecutorsResource = new ActiveExecutorsResource()
+
+      @Path("applications/{appId}/allexecutors")
+      def getAllExecutors(): AllExecutorsResource = new AllExecutorsResource()
+    }
+
+    @Produces(Array(MediaType.APPLICATION_JSON))
+    class ActiveExecutorsResource {
+      @GET
+      def getExecutors(@PathParam("appId") appId: String): Seq[ExecutorSummaryImpl] = ACTIVE_EXECUTORS
+    }
+
+    @Produces(Array(MediaType.APPLICATION_JSON))
+    class AllExecutorsResource {
+      @GET
+      def getExecutors(@PathParam("appId") appId: String): Seq[ExecutorSummaryImpl] = ALL_EXECUTORS
+    }
+
+    def newFakeExecutorSummary(id: String, totalDuration: Long, totalInputBytes: Long): ExecutorSummaryImpl =
+      new ExecutorSummaryImpl(
+        id = id,
+        hostPort = "",
+        rddBlocks = 0,
+        memoryUsed = 0L,
+        diskUsed = 0L,
+        activeTasks = 0,
+        failedTasks = 0,
+        completedTasks = 0,
+        totalTasks = 0,
+        totalDuration = totalDuration,
+        totalInputBytes = totalInputBytes,
+        totalShuffleRead = 0L,
+        totalShuffleWrite = 0L,
+        maxMemory = 1000L,
+        totalGCTime = totalDuration / 100,
+        executorLogs = Map.empty
+      )
+  }
+
+  /**
+    * Runs the test against a fake history server serving the given API resource, with the resources of the client
+    * mode fixtures and of the executors fixtures.
+    */
+  def withFakeHistoryServer(apiResource: Class[_])(test: SparkRestClient => Future[Assertion])(
+    implicit ec: ExecutionContext
+  ): Future[Assertion] = {
+    val fakeJerseyServer = new FakeJerseyServer() {
+      override def configure(): Application = super.configure() match {
+        case resourceConfig: ResourceConfig =>
+          resourceConfig
+            .register(apiResource)
+            .register(classOf[FetchClientModeDataFixtures.ApplicationResource])
+            .register(classOf[FetchClientModeDataFixtures.JobsResource])
+            .register(classOf[FetchClientModeDataFixtures.StagesResource])
+            .register(classOf[FetchExecutorsFixtures.ActiveExecutorsResource])
+            .register(classOf[FetchExecutorsFixtures.AllExecutorsResource])
+        case config => config
+      }
+    }
+    fakeJerseyServer.setUp()
+
+    val historyServerUri = fakeJerseyServer.target.getUri
+    val sparkConf = new SparkConf().set(
+      "spark.yarn.historyServer.address", s"${historyServerUri.getHost}:${historyServerUri.getPort}")
+    test(new SparkRestClient(sparkConf)) andThen { case _ =>
+      fakeJerseyServer.tearDown()
+    }
+  }
+
   def newFakeApplicationAttemptInfo(
     attemptId: Option[String],
     startTime: Date,
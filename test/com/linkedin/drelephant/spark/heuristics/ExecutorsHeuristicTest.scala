@@ -20,7 +20,8 @@ import scala.collection.JavaConverters
 
 import com.linkedin.drelephant.analysis.{ApplicationType, Severity, SeverityThresholds}
 import com.linkedin.drelephant.configurations.heuristic.HeuristicConfigurationData
-import com.linkedin.drelephant.spark.data.{SparkApplicationData, SparkLogDerivedData, SparkRestDerivedData}
+import com.linkedin.drelephant.spark.data.{ExecutorSummaryAggregate, SparkApplicationData, SparkLogDerivedData}
+import com.linkedin.drelephant.spark.data.SparkRestDerivedData
 import com.linkedin.drelephant.spark.fetchers.statusapiv1.{ApplicationInfoImpl, ExecutorSummaryImpl}
 import org.apache.spark.scheduler.SparkListenerEnvironmentUpdate
 import org.scalatest.{FunSpec, Matchers}
@@ -144,6 +145,24 @@ class ExecutorsHeuristicTest extends FunSpec with Matchers {
       }
     }
 
+    describe(".apply with the executors aggregated while fetching") {
+      import JavaConverters._
+      val aggregate = new ExecutorSummaryAggregate()
+      executorSummaries.foreach(aggregate.add)
+      val heuristicResult =
+        executorsHeuristic.apply(newFakeSparkApplicationData(Seq.empty, executorSummaryAggregate = Some(aggregate)))
+      val expectedHeuristicResult = executorsHeuristic.apply(newFakeSparkApplicationData(executorSummaries))
+
+      it("returns the severity of the executor summaries") {
+        heuristicResult.getSeverity should be(expectedHeuristicResult.getSeverity)
+      }
+
+      it("returns the details of the executor summaries") {
+        heuristicResult.getHeuristicResultDetails.asScala.map(details => (details.getName, details.getValue)) should be(
+          expectedHeuristicResult.getHeuristicResultDetails.asScala.map(details => (details.getName, details.getValue)))
+      }
+    }
+
     describe(".Evaluator") {
       import ExecutorsHeuristic.Evaluator
       import ExecutorsHeuristic.Distribution
@@ -253,14 +272,18 @@ object ExecutorsHeuristicTest {
     executorLogs = Map.empty
   )
 
-  def newFakeSparkApplicationData(executorSummaries: Seq[ExecutorSummaryImpl]): SparkApplicationData = {
+  def newFakeSparkApplicationData(
+    executorSummaries: Seq[ExecutorSummaryImpl],
+    executorSummaryAggregate: Option[ExecutorSummaryAggregate] = None
+  ): SparkApplicationData = {
     val appId = "application_1"
 
     val restDerivedData = SparkRestDerivedData(
       new ApplicationInfoImpl(appId, name = "app", Seq.empty),
       jobDatas = Seq.empty,
       stageDatas = Seq.empty,
-      executorSummaries = executorSummaries
+      executorSummaries = executorSummaries,
+      executorSummaryAggregate = executorSummaryAggregate
     )
 
     SparkApplicationData(appId, restDerivedData, logDerivedData = None)
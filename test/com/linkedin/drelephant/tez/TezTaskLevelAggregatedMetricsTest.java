@@ -19,6 +19,10 @@ package com.linkedin.drelephant.tez;
 
 import com.linkedin.drelephant.tez.data.TezCounterData;
 import com.linkedin.drelephant.tez.data.TezTaskData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -59,4 +63,26 @@ public class TezTaskLevelAggregatedMetricsTest {
     Assert.assertEquals(taskMetrics.getResourceUsed(), 135168L);
     Assert.assertEquals(taskMetrics.getResourceWasted(), 66627L);
   }
+
+  @Test
+  public void testNthPercentileFinishTimeOfManyTasks() {
+    List<Long> finishTimes = new ArrayList<Long>();
+    for (long i = 1; i <= 1000; i++) {
+      finishTimes.add(i * 1000);
+    }
+    Collections.shuffle(finishTimes, new Random(42));
+    TezCounterData counterData = new TezCounterData();
+    TezTaskData taskData[] = new TezTaskData[finishTimes.size()];
+    for (int i = 0; i < taskData.length; i++) {
+      taskData[i] = new TezTaskData("task", "id");
+      taskData[i].setTimeAndCounter(new long[]{0, 0, 0, 0, finishTimes.get(i)}, counterData);
+    }
+    TezTaskLevelAggregatedMetrics taskMetrics = new TezTaskLevelAggregatedMetrics(taskData, 4096L, 0);
+    // Nearest rank over all the tasks
+    Assert.assertEquals(500000L, taskMetrics.getNthPercentileFinishTime(50));
+    Assert.assertEquals(900000L, taskMetrics.getNthPercentileFinishTime(90));
+    Assert.assertEquals(990000L, taskMetrics.getNthPercentileFinishTime(99));
+    Assert.assertEquals(1000000L, taskMetrics.getNthPercentileFinishTime(100));
+    Assert.assertEquals(900000L, taskMetrics.getNthPercentileFinishTime(90));
+  }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.tez.data;
+
+import com.linkedin.drelephant.tez.data.TezCounterData.CounterName;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TezCounterDataTest {
+
+  private static final String FILE_SYSTEM_GROUP = "org.apache.tez.common.counters.FileSystemCounter";
+
+  @Test
+  public void testKnownCounter() {
+    TezCounterData counters = new TezCounterData();
+    Assert.assertEquals(0, counters.get(CounterName.HDFS_BYTES_READ));
+    counters.set(FILE_SYSTEM_GROUP, "HDFS_BYTES_READ", 100);
+    Assert.assertEquals(100, counters.get(CounterName.HDFS_BYTES_READ));
+    counters.set(CounterName.HDFS_BYTES_READ, 200);
+    Assert.assertEquals(200, counters.get(CounterName.HDFS_BYTES_READ));
+  }
+
+  @Test
+  public void testUnknownCounter() {
+    TezCounterData counters = new TezCounterData();
+    counters.set("CustomGroup", "CUSTOM_COUNTER", 42);
+    Assert.assertEquals(42L, (long) counters.getAllCountersInGroup("CustomGroup").get("CUSTOM_COUNTER"));
+    for (CounterName counterName : CounterName.values()) {
+      Assert.assertEquals(0, counters.get(counterName));
+    }
+  }
+
+  @Test
+  public void testGroupListing() {
+    TezCounterData counters = new TezCounterData();
+    counters.set(FILE_SYSTEM_GROUP, "HDFS_BYTES_READ", 100);
+    counters.set(FILE_SYSTEM_GROUP, "HDFS_BYTES_WRITTEN", 50);
+    counters.set("CustomGroup", "CUSTOM_COUNTER", 42);
+    Assert.assertEquals(2, counters.getGroupNames().size());
+    Assert.assertTrue(counters.getGroupNames().contains(FILE_SYSTEM_GROUP));
+    Assert.assertTrue(counters.getGroupNames().contains("CustomGroup"));
+    Assert.assertEquals(2, counters.getAllCountersInGroup(FILE_SYSTEM_GROUP).size());
+    Assert.assertTrue(counters.getAllCountersInGroup("MissingGroup").isEmpty());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testCountersInGroupAreReadOnly() {
+    TezCounterData counters = new TezCounterData();
+    counters.set(FILE_SYSTEM_GROUP, "HDFS_BYTES_READ", 100);
+    Map<String, Long> counterMap = counters.getAllCountersInGroup(FILE_SYSTEM_GROUP);
+    counterMap.put("HDFS_BYTES_READ", 200L);
+  }
+}
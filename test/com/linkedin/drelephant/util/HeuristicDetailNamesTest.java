@@ -0,0 +1,162 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+
+public class HeuristicDetailNamesTest {
+
+  /**
+   * A table of names shared by several instances, like the database is shared by several Dr. Elephant hosts.
+   */
+  private static class MapStore implements HeuristicDetailNames.Store {
+    private final Map<Integer, String> _names = new HashMap<Integer, String>();
+    private int _loads = 0;
+    private int _inserts = 0;
+
+    @Override
+    public synchronized Map<Integer, String> loadAll() {
+      _loads++;
+      return new HashMap<Integer, String>(_names);
+    }
+
+    @Override
+    public synchronized int insert(String name) {
+      if (findId(name) != null) {
+        throw new IllegalStateException("Duplicate name " + name);
+      }
+      _inserts++;
+      int id = _names.size() + 1;
+      _names.put(id, name);
+      return id;
+    }
+
+    // Compares the names like a case insensitive collation padding trailing spaces
+    @Override
+    public synchronized Integer findId(String name) {
+      for (Map.Entry<Integer, String> entry : _names.entrySet()) {
+        if (HeuristicDetailNames.keyOf(entry.getValue()).equals(HeuristicDetailNames.keyOf(name))) {
+          return entry.getKey();
+        }
+      }
+      return null;
+    }
+  }
+
+  @Test
+  public void testNamesAreInternedOnce() {
+    MapStore store = new MapStore();
+    HeuristicDetailNames names = new HeuristicDetailNames(store);
+
+    int tasks = names.idOf("Number of tasks");
+    int groupA = names.idOf("Group A");
+    assertEquals(tasks, names.idOf("Number of tasks"));
+    assertEquals("Number of tasks", names.nameOf(tasks));
+    assertEquals("Group A", names.nameOf(groupA));
+    assertEquals(2, store._inserts);
+    assertEquals(2, store._loads);
+  }
+
+  @Test
+  public void testNamesAddedByAnotherInstance() {
+    MapStore store = new MapStore();
+    HeuristicDetailNames first = new HeuristicDetailNames(store);
+    HeuristicDetailNames second = new HeuristicDetailNames(store);
+
+    int id = first.idOf("Group A");
+    assertEquals("Group A", second.nameOf(id));
+    assertEquals(id, second.idOf("Group A"));
+    assertEquals(1, store._inserts);
+  }
+
+  @Test
+  public void testNamesComparedLikeTheTable() {
+    MapStore store = new MapStore();
+    HeuristicDetailNames names = new HeuristicDetailNames(store);
+
+    int id = names.idOf("Number of tasks");
+    assertEquals(id, names.idOf("number of Tasks"));
+    assertEquals(id, names.idOf("Number of tasks  "));
+    assertEquals("Number of tasks", names.nameOf(id));
+    assertEquals(1, store._inserts);
+  }
+
+  @Test
+  public void testNameInsertedConcurrently() {
+    final MapStore store = new MapStore();
+    HeuristicDetailNames names = new HeuristicDetailNames(new HeuristicDetailNames.Store() {
+      @Override
+      public Map<Integer, String> loadAll() {
+        return store.loadAll();
+      }
+
+      @Override
+      public int insert(String name) {
+        // Another host inserts the name between the reload and the insert
+        store.insert(name);
+        return store.insert(name);
+      }
+
+      @Override
+      public Integer findId(String name) {
+        return store.findId(name);
+      }
+    });
+
+    int id = names.idOf("Group A");
+    assertEquals("Group A", names.nameOf(id));
+    assertEquals(1, store._inserts);
+  }
+
+  @Test
+  public void testReset() {
+    MapStore store = new MapStore();
+    HeuristicDetailNames names = new HeuristicDetailNames(store);
+    int id = names.idOf("Group A");
+
+    // The table is recreated with other ids
+    store._names.clear();
+    store._names.put(7, "Group A");
+    assertEquals(id, names.idOf("Group A"));
+    names.reset();
+    assertEquals(7, names.idOf("Group A"));
+  }
+
+  @Test
+  public void testSetInstance() {
+    HeuristicDetailNames original = HeuristicDetailNames.instance();
+    HeuristicDetailNames names = new HeuristicDetailNames(new MapStore());
+    try {
+      HeuristicDetailNames.setInstance(names);
+      assertSame(names, HeuristicDetailNames.instance());
+    } finally {
+      HeuristicDetailNames.setInstance(original);
+    }
+  }
+
+  @Test
+  public void testUnknownId() {
+    assertNull(new HeuristicDetailNames(new MapStore()).nameOf(42));
+  }
+}
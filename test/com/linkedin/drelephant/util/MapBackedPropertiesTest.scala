@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.util
+
+import java.io.{ByteArrayInputStream, ByteArrayOutputStream, ObjectInputStream, ObjectOutputStream}
+import java.util.Properties
+import java.util.function.{BiConsumer, BiFunction}
+
+import scala.collection.JavaConverters
+import scala.collection.mutable
+
+import org.scalatest.{FunSpec, Matchers}
+
+class MapBackedPropertiesTest extends FunSpec with Matchers {
+  import JavaConverters._
+
+  describe("MapBackedProperties") {
+    val underlying = Map("spark.executor.memory" -> "1g", "spark.executor.instances" -> "900")
+    val properties = new MapBackedProperties(underlying)
+
+    it("reads properties from the underlying map") {
+      properties.getProperty("spark.executor.memory") should be("1g")
+      properties.getProperty("spark.driver.memory") should be(null)
+      properties.getProperty("spark.driver.memory", "2g") should be("2g")
+      properties.containsKey("spark.executor.instances") should be(true)
+      properties.size should be(2)
+      properties.stringPropertyNames.asScala should contain theSameElementsAs(underlying.keySet)
+      properties.asScala should contain theSameElementsAs(underlying)
+      properties.getOrDefault("spark.executor.memory", "2g") should be("1g")
+      properties.getOrDefault("spark.driver.memory", "2g") should be("2g")
+
+      val entries = mutable.Map.empty[AnyRef, AnyRef]
+      properties.forEach(new BiConsumer[AnyRef, AnyRef] {
+        override def accept(key: AnyRef, value: AnyRef): Unit = entries(key) = value
+      })
+      entries should be(underlying)
+    }
+
+    it("clones and serializes to a mutable copy") {
+      val copy = properties.clone().asInstanceOf[Properties]
+      copy.asScala should contain theSameElementsAs(underlying)
+      copy.setProperty("spark.driver.memory", "2g")
+      properties.containsKey("spark.driver.memory") should be(false)
+
+      val bytes = new ByteArrayOutputStream()
+      val out = new ObjectOutputStream(bytes)
+      out.writeObject(properties)
+      out.close()
+      val in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray))
+      val read = in.readObject().asInstanceOf[Properties]
+      read.asScala should contain theSameElementsAs(underlying)
+    }
+
+    it("is read-only") {
+      an[UnsupportedOperationException] should be thrownBy properties.setProperty("spark.driver.memory", "2g")
+      an[UnsupportedOperationException] should be thrownBy properties.put("spark.driver.memory", "2g")
+      an[UnsupportedOperationException] should be thrownBy properties.remove("spark.executor.memory")
+      an[UnsupportedOperationException] should be thrownBy properties.putIfAbsent("spark.driver.memory", "2g")
+      an[UnsupportedOperationException] should be thrownBy properties.replace("spark.executor.memory", "2g")
+      an[UnsupportedOperationException] should be thrownBy properties.merge("spark.executor.memory", "2g",
+        new BiFunction[AnyRef, AnyRef, AnyRef] {
+          override def apply(oldValue: AnyRef, value: AnyRef): AnyRef = value
+        })
+      properties.getProperty("spark.executor.memory") should be("1g")
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.linkedin.drelephant.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class PipelinedInputStreamTest {
+
+  @Test
+  public void testReadsWholeSource() throws IOException {
+    // Sizes around the buffer boundaries and larger than the whole ring.
+    for (int size : new int[]{0, 1, 7, 8, 9, 24, 100000}) {
+      byte[] data = new byte[size];
+      new Random(size).nextBytes(data);
+      InputStream in = new PipelinedInputStream(new ByteArrayInputStream(data), 8, 3);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      IOUtils.copy(in, out);
+      assertEquals(-1, in.read());
+      in.close();
+      assertArrayEquals(data, out.toByteArray());
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void testPropagatesSourceFailure() throws IOException {
+    InputStream failingSource = new InputStream() {
+      @Override
+      public int read() throws IOException {
+        throw new IOException("broken source");
+      }
+    };
+    InputStream in = new PipelinedInputStream(failingSource, 8, 2);
+    try {
+      in.read();
+    } finally {
+      in.close();
+    }
+  }
+
+  @Test
+  public void testRethrowsSourceFailureOnEveryRead() throws IOException {
+    InputStream failingSource = new InputStream() {
+      @Override
+      public int read() throws IOException {
+        throw new IOException("broken source");
+      }
+    };
+    InputStream in = new PipelinedInputStream(failingSource, 8, 2);
+    try {
+      for (int i = 0; i < 2; i++) {
+        try {
+          in.read(new byte[4], 0, 4);
+          fail("The failure of the source should be rethrown");
+        } catch (IOException e) {
+          assertEquals("broken source", e.getCause().getMessage());
+        }
+      }
+    } finally {
+      in.close();
+    }
+  }
+
+  @Test
+  public void testReaderClosesTheSourceOnce() throws IOException {
+    // An endless source, which the consumer stops reading
+    final AtomicInteger closes = new AtomicInteger();
+    final AtomicReference<String> closingThread = new AtomicReference<String>();
+    InputStream source = new InputStream() {
+      @Override
+      public int read() {
+        return 'a';
+      }
+
+      @Override
+      public void close() {
+        closes.incrementAndGet();
+        closingThread.set(Thread.currentThread().getName());
+      }
+    };
+    InputStream in = new PipelinedInputStream(source, 8, 2);
+    assertEquals('a', in.read());
+    in.close();
+    in.close();
+
+    assertEquals(1, closes.get());
+    assertTrue(closingThread.get().startsWith("dr-el-pipelined-reader-"));
+    try {
+      in.read();
+      fail("Reading should fail once the stream is closed");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+}
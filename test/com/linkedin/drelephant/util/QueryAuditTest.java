@@ -0,0 +1,136 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package com.linkedin.drelephant.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class QueryAuditTest {
+
+  @Before
+  public void setUp() {
+    QueryAudit.enable(Long.MAX_VALUE);
+    QueryAudit.reset();
+  }
+
+  @After
+  public void tearDown() {
+    QueryAudit.clearEndpoint();
+    QueryAudit.reset();
+  }
+
+  @Test
+  public void testPatternsByEndpoint() {
+    QueryAudit.setEndpoint("Application.search");
+    QueryAudit.record("select * from yarn_app_result where id in (?, ?,?)", 3000000);
+    QueryAudit.record("select *\n  from yarn_app_result where id in (?,?)", 1000000);
+    QueryAudit.clearEndpoint();
+    QueryAudit.record("select * from yarn_app_result where id in (?,?)", 1000000);
+
+    List<QueryAudit.PatternStats> patterns = QueryAudit.getTopPatterns(10);
+    assertEquals(2, patterns.size());
+    assertEquals("Application.search", patterns.get(0).getEndpoint());
+    assertEquals("select * from yarn_app_result where id in (?, ...)", patterns.get(0).getSql());
+    assertEquals(2, patterns.get(0).getCount());
+    assertEquals(4000000, patterns.get(0).getTotalNanos());
+    assertEquals(3000000, patterns.get(0).getMaxNanos());
+    assertEquals(QueryAudit.BACKGROUND, patterns.get(1).getEndpoint());
+
+    assertEquals(1, QueryAudit.getTopPatterns(1).size());
+  }
+
+  @Test
+  public void testWrappedDataSource() throws Exception {
+    DataSource dataSource = QueryAudit.wrap(fake(DataSource.class, fake(Connection.class,
+        fake(PreparedStatement.class, 1))));
+
+    QueryAudit.setEndpoint("Web.search");
+    Connection connection = dataSource.getConnection();
+    PreparedStatement statement = connection.prepareStatement("select count(*) from yarn_app_result");
+    assertEquals(1, statement.executeUpdate());
+    statement.close();
+
+    List<QueryAudit.PatternStats> patterns = QueryAudit.getTopPatterns(10);
+    assertEquals(1, patterns.size());
+    assertEquals("Web.search", patterns.get(0).getEndpoint());
+    assertEquals("select count(*) from yarn_app_result", patterns.get(0).getSql());
+    assertEquals(1, patterns.get(0).getCount());
+    assertTrue(patterns.get(0).getTotalNanos() >= 0);
+  }
+
+  @Test
+  public void testTimedUntilTheResultsAreClosed() throws Exception {
+    DataSource dataSource = QueryAudit.wrap(fake(DataSource.class, fake(Connection.class,
+        fake(PreparedStatement.class, fake(ResultSet.class, null)))));
+
+    QueryAudit.setEndpoint("Application.search");
+    PreparedStatement statement = dataSource.getConnection().prepareStatement("select * from yarn_app_result");
+    ResultSet results = statement.executeQuery();
+    QueryAudit.clearEndpoint();
+    Thread.sleep(50);
+    assertTrue(QueryAudit.getTopPatterns(10).isEmpty());
+    results.close();
+    statement.close();
+
+    List<QueryAudit.PatternStats> patterns = QueryAudit.getTopPatterns(10);
+    assertEquals(1, patterns.size());
+    assertEquals("Application.search", patterns.get(0).getEndpoint());
+    assertEquals(1, patterns.get(0).getCount());
+    assertTrue(patterns.get(0).getTotalNanos() >= 50000000);
+  }
+
+  @Test
+  public void testResultsClosedWithTheStatement() throws Exception {
+    DataSource dataSource = QueryAudit.wrap(fake(DataSource.class, fake(Connection.class,
+        fake(PreparedStatement.class, fake(ResultSet.class, null)))));
+
+    PreparedStatement statement = dataSource.getConnection().prepareStatement("select * from yarn_app_result");
+    statement.executeQuery();
+    statement.executeQuery();
+    statement.close();
+
+    List<QueryAudit.PatternStats> patterns = QueryAudit.getTopPatterns(10);
+    assertEquals(1, patterns.size());
+    assertEquals(2, patterns.get(0).getCount());
+  }
+
+  // Returns an object of the given type whose methods which return objects return the given result
+  private static <T> T fake(Class<T> type, final Object result) {
+    return type.cast(Proxy.newProxyInstance(QueryAuditTest.class.getClassLoader(), new Class<?>[]{type},
+        new InvocationHandler() {
+          @Override
+          public Object invoke(Object proxy, Method method, Object[] args) {
+            return method.getReturnType().isInstance(result) || method.getReturnType().equals(int.class) ? result
+                : null;
+          }
+        }));
+  }
+}
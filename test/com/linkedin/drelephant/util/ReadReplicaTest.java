@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package com.linkedin.drelephant.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+
+public class ReadReplicaTest {
+
+  private static final long MAX_LAG_MS = 1000;
+  private static final long LAG_CHECK_INTERVAL_MS = 100;
+
+  @Test
+  public void testNoReplica() {
+    assertEquals(ReadReplica.PRIMARY_SERVER, new ReadReplica(null, MAX_LAG_MS, LAG_CHECK_INTERVAL_MS).getServerName(0));
+  }
+
+  @Test
+  public void testLagAware() {
+    TestProbe probe = new TestProbe(0L);
+    ReadReplica replica = new ReadReplica(probe, MAX_LAG_MS, LAG_CHECK_INTERVAL_MS);
+    assertEquals(ReadReplica.REPLICA_SERVER, replica.getServerName(0));
+
+    // The lag is only checked again after the interval
+    probe._lagMs = MAX_LAG_MS + 1;
+    assertEquals(ReadReplica.REPLICA_SERVER, replica.getServerName(LAG_CHECK_INTERVAL_MS - 1));
+    assertEquals(1, probe._calls.get());
+    assertEquals(ReadReplica.PRIMARY_SERVER, replica.getServerName(LAG_CHECK_INTERVAL_MS));
+
+    probe._lagMs = MAX_LAG_MS;
+    assertEquals(ReadReplica.REPLICA_SERVER, replica.getServerName(2 * LAG_CHECK_INTERVAL_MS));
+
+    // Replication stopped
+    probe._lagMs = null;
+    assertEquals(ReadReplica.PRIMARY_SERVER, replica.getServerName(3 * LAG_CHECK_INTERVAL_MS));
+    assertEquals(4, probe._calls.get());
+  }
+
+  @Test
+  public void testUnreadableLag() {
+    ReadReplica replica = new ReadReplica(new Callable<Long>() {
+      @Override
+      public Long call() {
+        throw new IllegalStateException("Access denied");
+      }
+    }, MAX_LAG_MS, LAG_CHECK_INTERVAL_MS);
+    assertEquals(ReadReplica.PRIMARY_SERVER, replica.getServerName(0));
+  }
+
+  @Test
+  public void testUnreportedLag() {
+    assertNull(ReadReplica.lagMsOf(null, false));
+    assertEquals(Long.valueOf(0), ReadReplica.lagMsOf(null, true));
+  }
+
+  @Test
+  public void testOnPrimary() {
+    assertEquals(ReadReplica.PRIMARY_SERVER, ReadReplica.onPrimary(new Callable<String>() {
+      @Override
+      public String call() {
+        return ReadReplica.serverName();
+      }
+    }));
+  }
+
+  private static class TestProbe implements Callable<Long> {
+    private volatile Long _lagMs;
+    private final AtomicInteger _calls = new AtomicInteger();
+
+    TestProbe(Long lagMs) {
+      _lagMs = lagMs;
+    }
+
+    @Override
+    public Long call() {
+      _calls.incrementAndGet();
+      return _lagMs;
+    }
+  }
+}
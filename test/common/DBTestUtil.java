@@ -16,6 +16,8 @@
 
 package common;
 
+import com.linkedin.drelephant.util.HeuristicDetailNames;
+import controllers.ResponseCache;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.sql.Connection;
@@ -56,6 +58,9 @@ public class DBTestUtil {
     } finally {
       connection.close();
     }
+    // The ids of the detail names and the responses cached for an earlier database mean nothing in this one
+    HeuristicDetailNames.instance().reset();
+    ResponseCache.instance().invalidateAll();
   }
 
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package controllers;
+
+import com.linkedin.drelephant.analysis.Severity;
+import controllers.ExecutionSummaries.ExecutionSummary;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import models.AppResult;
+import org.junit.Before;
+import org.junit.Test;
+import play.test.FakeApplication;
+
+import static common.DBTestUtil.initDB;
+import static common.TestConstants.APPLY_EVOLUTIONS_DEFAULT_KEY;
+import static common.TestConstants.APPLY_EVOLUTIONS_DEFAULT_VALUE;
+import static common.TestConstants.DB_DEFAULT_DRIVER_KEY;
+import static common.TestConstants.DB_DEFAULT_DRIVER_VALUE;
+import static common.TestConstants.DB_DEFAULT_URL_KEY;
+import static common.TestConstants.DB_DEFAULT_URL_VALUE;
+import static common.TestConstants.EVOLUTION_PLUGIN_KEY;
+import static common.TestConstants.EVOLUTION_PLUGIN_VALUE;
+import static common.TestConstants.TEST_FLOW_EXEC_ID1;
+import static common.TestConstants.TEST_FLOW_EXEC_ID2;
+import static common.TestConstants.TEST_SERVER_PORT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static play.test.Helpers.fakeApplication;
+import static play.test.Helpers.running;
+import static play.test.Helpers.testServer;
+
+
+public class ExecutionSummariesTest {
+
+  private static final String USERNAME = "summaries";
+
+  private static FakeApplication fakeApp;
+
+  @Before
+  public void setup() {
+    Map<String, String> dbConn = new HashMap<String, String>();
+    dbConn.put(DB_DEFAULT_DRIVER_KEY, DB_DEFAULT_DRIVER_VALUE);
+    dbConn.put(DB_DEFAULT_URL_KEY, DB_DEFAULT_URL_VALUE);
+    dbConn.put(EVOLUTION_PLUGIN_KEY, EVOLUTION_PLUGIN_VALUE);
+    dbConn.put(APPLY_EVOLUTIONS_DEFAULT_KEY, APPLY_EVOLUTIONS_DEFAULT_VALUE);
+
+    fakeApp = fakeApplication(dbConn);
+  }
+
+  @Test
+  public void testGetFlowExecution() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        populateTestData();
+        ExecutionSummary flow = ExecutionSummaries.getFlowExecution("flowA");
+        assertEquals("flowA", flow.getId());
+        assertEquals(USERNAME, flow.getUsername());
+        assertEquals("flowDefA", flow.getFlowDefId());
+        assertEquals(1000, flow.getStartTime());
+        assertEquals(12000, flow.getFinishTime());
+        assertEquals(11000, flow.getRuntime());
+        assertEquals(1050, flow.getWaittime());
+        assertEquals(600, flow.getResourceUsed());
+        assertEquals(60, flow.getResourceWasted());
+        assertEquals(Severity.CRITICAL, flow.getSeverity());
+
+        // The severity counts of a flow are per job, a job having the highest severity of its applications
+        assertEquals(2, flow.getSeverityCounts().size());
+        assertEquals(1L, (long) flow.getSeverityCounts().get(Severity.CRITICAL));
+        assertEquals(1L, (long) flow.getSeverityCounts().get(Severity.LOW));
+
+        assertNull(ExecutionSummaries.getFlowExecution("unknown"));
+      }
+    });
+  }
+
+  @Test
+  public void testGetJobExecutionsOfFlow() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        populateTestData();
+        List<ExecutionSummary> jobs = ExecutionSummaries.getJobExecutionsOfFlow("flowA");
+        assertEquals(2, jobs.size());
+
+        // Latest first
+        ExecutionSummary job2 = jobs.get(0);
+        assertEquals("job2", job2.getId());
+        assertEquals("job2 name", job2.getJobName());
+        assertEquals(9000, job2.getStartTime());
+        assertEquals(12000, job2.getFinishTime());
+        assertEquals(30, job2.getWaittime());
+        assertEquals(Severity.LOW, job2.getSeverity());
+
+        // The severity counts of a job are per application
+        ExecutionSummary job1 = jobs.get(1);
+        assertEquals("job1", job1.getId());
+        assertEquals("flowA", job1.getFlowExecId());
+        assertEquals(1000, job1.getStartTime());
+        assertEquals(8000, job1.getFinishTime());
+        assertEquals(20, job1.getWaittime());
+        assertEquals(400, job1.getResourceUsed());
+        assertEquals(Severity.CRITICAL, job1.getSeverity());
+        assertEquals(1L, (long) job1.getSeverityCounts().get(Severity.MODERATE));
+        assertEquals(1L, (long) job1.getSeverityCounts().get(Severity.CRITICAL));
+
+        assertTrue(ExecutionSummaries.getJobExecutionsOfFlow("unknown").isEmpty());
+      }
+    });
+  }
+
+  @Test
+  public void testGetLatestJobExecutions() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        populateTestData();
+        assertEquals(Arrays.asList("job2", "job1", "job3"),
+            ids(ExecutionSummaries.getLatestJobExecutions(USERNAME, 100, 10)));
+        assertEquals(Arrays.asList("job2"), ids(ExecutionSummaries.getLatestJobExecutions(USERNAME, 100, 1)));
+
+        // The executions are picked from the latest scheduled applications only
+        assertEquals(Arrays.asList("job2", "job1"), ids(ExecutionSummaries.getLatestJobExecutions(USERNAME, 2, 10)));
+      }
+    });
+  }
+
+  @Test
+  public void testGetLatestFlowExecutions() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        populateTestData();
+        List<ExecutionSummary> flows = ExecutionSummaries.getLatestFlowExecutions(USERNAME, 100, 10);
+        assertEquals(Arrays.asList("flowA", "flowB"), ids(flows));
+        assertEquals(200, flows.get(1).getResourceUsed());
+        assertEquals(Arrays.asList("flowA"), ids(ExecutionSummaries.getLatestFlowExecutions(USERNAME, 100, 1)));
+
+        // All the users, the unscheduled applications left out
+        assertEquals(Arrays.asList(TEST_FLOW_EXEC_ID2, TEST_FLOW_EXEC_ID1, "flowA", "flowB"),
+            ids(ExecutionSummaries.getLatestFlowExecutions(null, 100, 10)));
+      }
+    });
+  }
+
+  @Test
+  public void testGetLatestFlowExecutionIds() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        populateTestData();
+        assertEquals(Arrays.asList("flowA", "flowB"),
+            ExecutionSummaries.getLatestFlowExecutionIds("flow_def_id", "flowDefA", 100, 10));
+        assertEquals(Arrays.asList("flowA"),
+            ExecutionSummaries.getLatestFlowExecutionIds("flow_def_id", "flowDefA", 100, 1));
+        // Only the flows of the latest application
+        assertEquals(Arrays.asList("flowA"),
+            ExecutionSummaries.getLatestFlowExecutionIds("flow_def_id", "flowDefA", 1, 10));
+        assertEquals(Arrays.asList("flowB"),
+            ExecutionSummaries.getLatestFlowExecutionIds("job_def_id", "job3", 100, 10));
+        assertTrue(ExecutionSummaries.getLatestFlowExecutionIds("flow_def_id", "unknown", 100, 10).isEmpty());
+      }
+    });
+  }
+
+  @Test
+  public void testGetJobExecutionIdsOfFlow() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        populateTestData();
+        assertEquals(Arrays.asList("job1", "job2"), ExecutionSummaries.getJobExecutionIdsOfFlow("flowA"));
+        assertTrue(ExecutionSummaries.getJobExecutionIdsOfFlow("unknown").isEmpty());
+      }
+    });
+  }
+
+  private static List<String> ids(List<ExecutionSummary> summaries) {
+    String[] ids = new String[summaries.size()];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = summaries.get(i).getId();
+    }
+    return Arrays.asList(ids);
+  }
+
+  private void populateTestData() {
+    try {
+      initDB();
+    } catch (Exception e) {
+      e.printStackTrace();
+    }
+    // Two jobs of flowA, the first with overlapping applications
+    save("application_1_0001", "job1", "flowA", 1000, 5000, 10, Severity.MODERATE);
+    save("application_1_0002", "job1", "flowA", 2000, 8000, 20, Severity.CRITICAL);
+    save("application_1_0003", "job2", "flowA", 9000, 12000, 30, Severity.LOW);
+    // An earlier execution of the same flow
+    save("application_1_0004", "job3", "flowB", 100, 900, 5, Severity.NONE);
+    // An unscheduled application
+    save("application_1_0005", "", "", 20000, 21000, 0, Severity.SEVERE);
+  }
+
+  private static void save(String id, String jobExecId, String flowExecId, long startTime, long finishTime,
+      long totalDelay, Severity severity) {
+    AppResult result = new AppResult();
+    result.id = id;
+    result.name = "summaries test";
+    result.username = USERNAME;
+    result.queueName = "default";
+    result.startTime = startTime;
+    result.finishTime = finishTime;
+    result.trackingUrl = "";
+    result.jobType = "HadoopJava";
+    result.severity = severity;
+    result.score = 0;
+    result.workflowDepth = 0;
+    result.scheduler = flowExecId.isEmpty() ? null : "azkaban";
+    result.jobName = jobExecId.isEmpty() ? "" : jobExecId + " name";
+    result.jobExecId = jobExecId;
+    result.flowExecId = flowExecId;
+    result.jobDefId = jobExecId;
+    result.flowDefId = flowExecId.isEmpty() ? "" : "flowDefA";
+    result.jobExecUrl = jobExecId;
+    result.flowExecUrl = flowExecId;
+    result.jobDefUrl = jobExecId;
+    result.flowDefUrl = result.flowDefId;
+    result.resourceUsed = 200;
+    result.resourceWasted = 20;
+    result.totalDelay = totalDelay;
+    result.save();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package controllers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import models.AppHeuristicResult;
+import models.AppResult;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HeuristicResultsTest {
+
+  private static AppResult appResult(String id) {
+    AppResult result = new AppResult();
+    result.id = id;
+    return result;
+  }
+
+  private static AppHeuristicResult heuristicResult(String appId, String name) {
+    AppHeuristicResult heuristicResult = new AppHeuristicResult();
+    heuristicResult.yarnAppResult = appResult(appId);
+    heuristicResult.heuristicName = name;
+    return heuristicResult;
+  }
+
+  @Test
+  public void testAssignGroupsByApplicationInOrder() {
+    AppResult first = appResult("application_1");
+    AppResult second = appResult("application_2");
+    AppHeuristicResult a = heuristicResult("application_1", "a");
+    AppHeuristicResult b = heuristicResult("application_2", "b");
+    AppHeuristicResult c = heuristicResult("application_1", "c");
+
+    HeuristicResults.assign(Arrays.asList(first, second), Arrays.asList(a, b, c));
+
+    Assert.assertEquals(Arrays.asList(a, c), first.yarnAppHeuristicResults);
+    Assert.assertEquals(Collections.singletonList(b), second.yarnAppHeuristicResults);
+  }
+
+  @Test
+  public void testAssignGivesEmptyListWithoutHeuristicResults() {
+    AppResult result = appResult("application_1");
+    HeuristicResults.assign(Collections.singletonList(result), new ArrayList<AppHeuristicResult>());
+    Assert.assertNotNull(result.yarnAppHeuristicResults);
+    Assert.assertTrue(result.yarnAppHeuristicResults.isEmpty());
+  }
+
+  @Test
+  public void testAssignIgnoresHeuristicResultsOfOtherApplications() {
+    AppResult result = appResult("application_1");
+    List<AppHeuristicResult> heuristicResults = Collections.singletonList(heuristicResult("application_2", "a"));
+    HeuristicResults.assign(Collections.singletonList(result), heuristicResults);
+    Assert.assertTrue(result.yarnAppHeuristicResults.isEmpty());
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package controllers;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class JsonChunksTest {
+
+  @Test
+  public void testChunksMakeUpTheJson() throws Exception {
+    JsonChunks chunks = new JsonChunks() {
+      @Override
+      protected void write(JsonGenerator generator) throws IOException {
+        writeApplications(generator);
+      }
+    };
+    JsonChunks.ChunkPipe pipe = new JsonChunks.ChunkPipe(64, 2);
+    Thread writer = startWriting(chunks, pipe);
+    String sent = readAll(pipe.getInput());
+    writer.join();
+
+    StringWriter expected = new StringWriter();
+    writeApplications(new JsonFactory().createGenerator(expected));
+    assertEquals(expected.toString(), sent);
+  }
+
+  @Test
+  public void testWriterWaitsForTheReader() throws Exception {
+    final JsonChunks.ChunkPipe pipe = new JsonChunks.ChunkPipe(4, 2);
+    final AtomicInteger written = new AtomicInteger();
+    Thread writer = new Thread() {
+      @Override
+      public void run() {
+        try {
+          OutputStream out = pipe.getOutput();
+          for (int i = 0; i < 100; i++) {
+            out.write('a');
+            written.incrementAndGet();
+          }
+          out.close();
+        } catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+        pipe.end(null);
+      }
+    };
+    writer.start();
+    Thread.sleep(200);
+
+    // Two chunks wait, a third fills up
+    assertTrue(writer.isAlive());
+    assertTrue(written.get() <= 3 * 4);
+    assertEquals(100, readAll(pipe.getInput()).length());
+    writer.join();
+  }
+
+  @Test
+  public void testStopsWritingOnceTheReaderIsClosed() throws Exception {
+    JsonChunks.ChunkPipe pipe = new JsonChunks.ChunkPipe(4, 1);
+    OutputStream out = pipe.getOutput();
+    out.write("[1,2".getBytes("UTF-8"));
+    pipe.getInput().close();
+    assertTrue(pipe.isClosedByReader());
+    try {
+      out.write(",3,4]".getBytes("UTF-8"));
+      fail("Writing should fail once the client is disconnected");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testRethrowsTheFailureOfTheWriter() throws Exception {
+    JsonChunks chunks = new JsonChunks() {
+      @Override
+      protected void write(JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        throw new IllegalStateException("The database is gone");
+      }
+    };
+    JsonChunks.ChunkPipe pipe = new JsonChunks.ChunkPipe(64, 2);
+    startWriting(chunks, pipe).join();
+    try {
+      readAll(pipe.getInput());
+      fail("Reading should fail when the writer failed");
+    } catch (IOException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+  }
+
+  @Test
+  public void testLeavesOutNullStrings() throws IOException {
+    StringWriter writer = new StringWriter();
+    JsonGenerator generator = new JsonFactory().createGenerator(writer);
+    generator.writeStartObject();
+    JsonChunks.writeStringField(generator, "id", "flow");
+    JsonChunks.writeStringField(generator, "scheduler", null);
+    generator.writeEndObject();
+    generator.close();
+    assertEquals("{\"id\":\"flow\"}", writer.toString());
+  }
+
+  private static void writeApplications(JsonGenerator generator) throws IOException {
+    generator.writeStartArray();
+    for (int i = 0; i < 1000; i++) {
+      generator.writeStartObject();
+      generator.writeNumberField("id", i);
+      generator.writeStringField("name", "application_" + i);
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.close();
+  }
+
+  private static Thread startWriting(final JsonChunks chunks, final JsonChunks.ChunkPipe pipe) {
+    Thread writer = new Thread() {
+      @Override
+      public void run() {
+        chunks.writeTo(pipe);
+      }
+    };
+    writer.start();
+    return writer;
+  }
+
+  private static String readAll(InputStream in) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[7];
+    int count;
+    while ((count = in.read(buffer)) >= 0) {
+      out.write(buffer, 0, count);
+    }
+    in.close();
+    return out.toString("UTF-8");
+  }
+}
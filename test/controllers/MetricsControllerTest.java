@@ -31,6 +31,7 @@ import static play.test.Helpers.running;
 import static play.test.Helpers.testServer;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -78,6 +79,31 @@ public class MetricsControllerTest {
     });
   }
 
+  /**
+   * Test fetching the per stage analysis timers from Dr.Elephant's "/metrics" endpoint.
+   */
+  @Test
+  public void testAnalysisStageMetrics() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        MetricsController.init();
+        MetricsController.updateFetchMetrics("TEST", "TestFetcher", 2000000L, 1024);
+        MetricsController.updateHeuristicMetrics("TEST", "TestHeuristic", 1000000L, -1);
+        MetricsController.updateHeuristicMetrics("TEST", "TestHeuristic", 3000000L, -1);
+        MetricsController.updateAggregateMetrics("TEST", 1000000L);
+        MetricsController.updatePersistMetrics("TEST", 5000000L);
+
+        JsonNode metricsNode = getAndVerifyJsonNode(getMetricsEndpointResponse(), "metrics");
+        assertMetricsCount(metricsNode, "AnalyticJob.fetch.TEST.TestFetcher", 1);
+        assertMetricsCount(metricsNode, "AnalyticJob.fetch.TEST.TestFetcher.allocatedBytes", 1);
+        assertMetricsCount(metricsNode, "AnalyticJob.heuristic.TEST.TestHeuristic", 2);
+        assertMetricsCount(metricsNode, "AnalyticJob.aggregate.TEST", 1);
+        assertMetricsCount(metricsNode, "AnalyticJob.persist.TEST", 1);
+        assertTrue(metricsNode.path("AnalyticJob.heuristic.TEST.TestHeuristic.allocatedBytes").isMissingNode());
+      }
+    });
+  }
+
   private static JsonNode getMetricsEndpointResponse() {
     WS.Response response = WS.url(BASE_URL + METRICS_ENDPOINT).
         get().get(RESPONSE_TIMEOUT, TimeUnit.MILLISECONDS);
@@ -90,6 +116,11 @@ public class MetricsControllerTest {
     return node;
   }
 
+  private static void assertMetricsCount(JsonNode metricsNode, String metricName, int expectedCount) {
+    JsonNode metricNameNode = getAndVerifyJsonNode(metricsNode, metricName);
+    assertEquals(expectedCount, metricNameNode.path("count").asInt());
+  }
+
   private static void assertMetricsIntValue(JsonNode metricsNode, String metricName,
       int expectedValue) {
     JsonNode metricNameNode = getAndVerifyJsonNode(metricsNode, metricName);
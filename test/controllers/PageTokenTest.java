@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package controllers;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PageTokenTest {
+
+  @Test
+  public void testRoundTrip() {
+    PageToken token = PageToken.decode(new PageToken("finishTime", 1500000000000L, "application_1_2").encode(),
+        "finishTime");
+    Assert.assertNotNull(token);
+    Assert.assertEquals("finishTime", token.getSortKey());
+    Assert.assertEquals(1500000000000L, token.getValue());
+    Assert.assertEquals("application_1_2", token.getId());
+  }
+
+  @Test
+  public void testEncodedTokenIsUrlSafe() {
+    String encoded = new PageToken("finishTime", Long.MAX_VALUE, "application_1_2???>>>").encode();
+    Assert.assertTrue(encoded, encoded.matches("[A-Za-z0-9_-]+"));
+  }
+
+  @Test
+  public void testIdMayContainSeparator() {
+    PageToken token = PageToken.decode(new PageToken("startTime", 1, "a:b:c").encode(), "startTime");
+    Assert.assertEquals("a:b:c", token.getId());
+  }
+
+  @Test
+  public void testTokenOfAnotherSortKeyIsRejected() {
+    Assert.assertNull(PageToken.decode(new PageToken("startTime", 1, "id").encode(), "finishTime"));
+  }
+
+  @Test
+  public void testMalformedTokenIsRejected() {
+    Assert.assertNull(PageToken.decode(null, "finishTime"));
+    Assert.assertNull(PageToken.decode("", "finishTime"));
+    Assert.assertNull(PageToken.decode("not a token", "finishTime"));
+    Assert.assertNull(PageToken.decode(new PageToken("finishTime", 1, "").encode(), "finishTime"));
+    Assert.assertNull(PageToken.decode(new PageToken("finishTime:x", 1, "id").encode(), "finishTime"));
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package controllers;
+
+import com.google.common.base.Charsets;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+public class ResponseCacheTest {
+
+  @Test
+  public void testBuildsOnce() {
+    ResponseCache cache = new ResponseCache(1024, 1024);
+    CountingBuilder builder = new CountingBuilder("{\"id\":1}");
+
+    ResponseCache.Entry entry = cache.get(ResponseCache.Kind.IMMUTABLE, "restAppResult:1", builder);
+    assertEquals("{\"id\":1}", new String(entry.getBody(), Charsets.UTF_8));
+    assertSame(entry, cache.get(ResponseCache.Kind.IMMUTABLE, "restAppResult:1", builder));
+    assertEquals(1, builder._calls.get());
+
+    // The kinds are cached apart
+    cache.get(ResponseCache.Kind.AGGREGATE, "restAppResult:1", builder);
+    assertEquals(2, builder._calls.get());
+  }
+
+  @Test
+  public void testNotFoundIsNotCached() {
+    ResponseCache cache = new ResponseCache(1024, 1024);
+    CountingBuilder builder = new CountingBuilder(null);
+
+    assertNull(cache.get(ResponseCache.Kind.IMMUTABLE, "restAppResult:2", builder));
+    assertNull(cache.get(ResponseCache.Kind.IMMUTABLE, "restAppResult:2", builder));
+    assertEquals(2, builder._calls.get());
+  }
+
+  @Test
+  public void testBoundedBySize() {
+    ResponseCache cache = new ResponseCache(1000, 1000);
+    CountingBuilder builder = new CountingBuilder(new String(new char[60]).replace('\0', 'x'));
+
+    // 50 responses of 60 bytes do not fit in 1000 bytes, so some are built again
+    for (int round = 0; round < 2; round++) {
+      for (int i = 0; i < 50; i++) {
+        cache.get(ResponseCache.Kind.IMMUTABLE, "restAppResult:" + i, builder);
+      }
+    }
+    assertTrue(builder._calls.get() > 50);
+  }
+
+  @Test
+  public void testInvalidateAll() {
+    ResponseCache cache = new ResponseCache(1024, 1024);
+    CountingBuilder builder = new CountingBuilder("{\"id\":1}");
+
+    cache.get(ResponseCache.Kind.IMMUTABLE, "restAppResult:1", builder);
+    cache.get(ResponseCache.Kind.AGGREGATE, "restJobFromJobId:1", builder);
+    cache.invalidateAll();
+    cache.get(ResponseCache.Kind.IMMUTABLE, "restAppResult:1", builder);
+    cache.get(ResponseCache.Kind.AGGREGATE, "restJobFromJobId:1", builder);
+    assertEquals(4, builder._calls.get());
+  }
+
+  @Test
+  public void testETags() {
+    ResponseCache.Entry entry = new ResponseCache.Entry("{}".getBytes(Charsets.UTF_8));
+    String eTag = entry.getETag();
+    assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""));
+    assertEquals(eTag, new ResponseCache.Entry("{}".getBytes(Charsets.UTF_8)).getETag());
+    assertFalse(eTag.equals(new ResponseCache.Entry("[]".getBytes(Charsets.UTF_8)).getETag()));
+
+    assertFalse(ResponseCache.matches(null, eTag));
+    assertFalse(ResponseCache.matches("\"other\"", eTag));
+    assertTrue(ResponseCache.matches(eTag, eTag));
+    assertTrue(ResponseCache.matches("\"other\", W/" + eTag, eTag));
+    assertTrue(ResponseCache.matches("*", eTag));
+  }
+
+  private static class CountingBuilder implements Callable<String> {
+    private final String _body;
+    private final AtomicInteger _calls = new AtomicInteger();
+
+    CountingBuilder(String body) {
+      _body = body;
+    }
+
+    @Override
+    public String call() {
+      _calls.incrementAndGet();
+      return _body;
+    }
+  }
+}
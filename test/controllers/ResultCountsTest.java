@@ -0,0 +1,151 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package controllers;
+
+import com.linkedin.drelephant.util.QueryAudit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ResultCountsTest {
+
+  private static class CountingCounter implements Callable<Integer> {
+    private int _calls = 0;
+
+    @Override
+    public Integer call() {
+      _calls++;
+      return 42;
+    }
+  }
+
+  private static class QueuedExecutor implements Executor {
+    private final List<Runnable> _tasks = new ArrayList<Runnable>();
+
+    @Override
+    public void execute(Runnable task) {
+      _tasks.add(task);
+    }
+
+    void runAll() {
+      for (Runnable task : _tasks) {
+        task.run();
+      }
+      _tasks.clear();
+    }
+  }
+
+  @Test
+  public void testFallbackUntilCountedThenCached() {
+    QueuedExecutor executor = new QueuedExecutor();
+    ResultCounts counts = new ResultCounts(executor, 60 * 1000, 0);
+    CountingCounter counter = new CountingCounter();
+
+    Assert.assertEquals(20, counts.getCount("search", counter, 20));
+    Assert.assertEquals(40, counts.getCount("search", counter, 40));
+    executor.runAll();
+    Assert.assertEquals(1, counter._calls);
+
+    Assert.assertEquals(42, counts.getCount("search", counter, 60));
+    executor.runAll();
+    Assert.assertEquals(1, counter._calls);
+  }
+
+  @Test
+  public void testCountReadyInTimeIsReturned() {
+    Executor direct = new Executor() {
+      @Override
+      public void execute(Runnable task) {
+        task.run();
+      }
+    };
+    ResultCounts counts = new ResultCounts(direct, 60 * 1000, 0);
+    Assert.assertEquals(42, counts.getCount("search", new CountingCounter(), 0));
+  }
+
+  @Test
+  public void testFailedCountIsRetried() {
+    QueuedExecutor executor = new QueuedExecutor();
+    ResultCounts counts = new ResultCounts(executor, 60 * 1000, 0);
+    Callable<Integer> failing = new Callable<Integer>() {
+      @Override
+      public Integer call() {
+        throw new RuntimeException("Database unavailable");
+      }
+    };
+
+    Assert.assertEquals(10, counts.getCount("search", failing, 10));
+    executor.runAll();
+    CountingCounter counter = new CountingCounter();
+    counts.getCount("search", counter, 10);
+    executor.runAll();
+    Assert.assertEquals(1, counter._calls);
+    Assert.assertEquals(42, counts.getCount("search", counter, 10));
+  }
+
+  @Test
+  public void testCountAuditedUnderTheEndpointOfTheSearch() {
+    QueuedExecutor executor = new QueuedExecutor();
+    ResultCounts counts = new ResultCounts(executor, 60 * 1000, 0);
+    final String[] endpoint = new String[1];
+    Callable<Integer> counter = new Callable<Integer>() {
+      @Override
+      public Integer call() {
+        endpoint[0] = QueryAudit.getEndpoint();
+        return 42;
+      }
+    };
+
+    QueryAudit.setEndpoint("Application.search");
+    counts.getCount("search", counter, 10);
+    QueryAudit.clearEndpoint();
+    executor.runAll();
+    Assert.assertEquals("Application.search", endpoint[0]);
+    Assert.assertNull(QueryAudit.getEndpoint());
+  }
+
+  @Test
+  public void testRejectedCountIsSkipped() {
+    final QueuedExecutor queue = new QueuedExecutor();
+    final boolean[] full = { true };
+    Executor bounded = new Executor() {
+      @Override
+      public void execute(Runnable task) {
+        if (full[0]) {
+          throw new RejectedExecutionException("Queue full");
+        }
+        queue.execute(task);
+      }
+    };
+    ResultCounts counts = new ResultCounts(bounded, 60 * 1000, 0);
+    CountingCounter counter = new CountingCounter();
+
+    Assert.assertEquals(10, counts.getCount("search", counter, 10));
+    Assert.assertEquals(0, counter._calls);
+
+    // The rejected count is not left pending, the next request counts
+    full[0] = false;
+    Assert.assertEquals(10, counts.getCount("search", counter, 10));
+    queue.runAll();
+    Assert.assertEquals(42, counts.getCount("search", counter, 10));
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2016 LinkedIn Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package models;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+
+public class AppHeuristicResultDetailsTest {
+
+  @Test
+  public void testIntegersAreStoredNumerically() {
+    for (String value : new String[]{"0", "2", "-7", "11510", "9223372036854775807", "-9223372036854775808"}) {
+      Long numericValue = AppHeuristicResultDetails.parseCanonicalLong(value);
+      assertEquals(value, Long.valueOf(value), numericValue);
+      assertEquals(value, AppHeuristicResultDetails.decodeValue("", numericValue));
+    }
+  }
+
+  @Test
+  public void testOtherValuesAreStoredAsText() {
+    for (String value : new String[]{null, "", "-", "-0", "007", "+1", "1.5", "0.006602953953084275 ", " 12",
+        "42 MB", "9223372036854775808", "1 tasks @ 4 MB avg"}) {
+      assertNull(value, AppHeuristicResultDetails.parseCanonicalLong(value));
+      assertEquals(value, AppHeuristicResultDetails.decodeValue(value, null));
+    }
+  }
+}
@@ -42,4 +42,6 @@ INSERT INTO `job_suggested_param_value`(id, job_suggested_param_set_id, tuning_p
 
 INSERT INTO `yarn_app_result`(id,name,username,queue_name,start_time,finish_time,tracking_url,job_type,severity,score,workflow_depth,scheduler,job_name,job_exec_id,flow_exec_id,job_def_id,flow_def_id,job_exec_url,flow_exec_url,job_def_url,flow_def_url,resource_used,resource_wasted,total_delay) VALUES ('application_1506645932520_14618965','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515864742550,1515864947012,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14618965','Pig',3,1809,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5146403&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5146403','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5146403&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5146403','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',104318976,16860147,12093),('application_1506645932520_14618978','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515864747221,1515865052849,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14618978','Pig',3,5835,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5146403&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5146403','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5146403&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5146403','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',349622272,53433482,24885),('application_1506645932520_14618986','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515864749064,1515864871027,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14618986','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5146403&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5146403','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5146403&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5146403','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',423936,75348,3168),('application_1506645932520_14618990','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515864750944,1515864963817,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14618990','Pig',2,408,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5146403&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5146403','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5146403&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5146403','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',33875968,5673563,42593),('application_1506645932520_14618994','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515864752042,1515864968073,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14618994','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5146403&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5146403','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5146403&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5146403','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',985088,149591,3109),('application_1506645932520_14819554','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987211575,1515987345216,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14819554','Pig',2,994,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',41111040,0,5629),('application_1506645932520_14819557','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987213364,1515987353613,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14819557','Pig',4,6520,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',148128768,0,4803),('application_1506645932520_14819559','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987214957,1515987289457,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14819559','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',159744,0,2335),('application_1506645932520_14819561','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987216374,1515987328839,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14819561','Pig',2,298,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',12905472,0,2710),('application_1506645932520_14819564','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987217458,1515987328877,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14819564','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',242688,0,3036),('application_1506645932520_14819566','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987218578,1515987337373,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14819566','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',276480,0,2428),('application_1506645932520_14819567','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987219755,1515987345926,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14819567','Pig',2,996,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',39914496,0,4385),('application_1506645932520_14819799','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987384869,1515987654239,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14819799','Pig',3,3171,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',84836352,0,8879),('application_1506645932520_14819804','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987386490,1515987624024,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14819804','Pig',3,3168,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',86373888,0,7496),('application_1506645932520_14819806','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987387715,1515987628906,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14819806','Pig',4,10113,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',204218880,0,12516),('application_1506645932520_14820502','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987672309,1515987731074,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14820502','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',95232,0,4795),('application_1506645932520_14820601','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987743030,1515987809262,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14820601','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',79872,0,4812),('application_1506645932520_14820710','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987821752,1515987866959,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14820710','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',46080,0,5151),('application_1506645932520_14820781','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515987880705,1515988060797,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14820781','Pig',1,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',2429952,0,30350),('application_1506645932520_14820903','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515988082745,1515988166282,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14820903','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',1453056,0,4934),('application_1506645932520_14820904','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515988083623,1515988172147,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14820904','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',615936,0,5217),('application_1506645932520_14820960','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515988182390,1515988255602,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14820960','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',328704,0,5271),('application_1506645932520_14820995','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515988270096,1515988320392,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14820995','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5157830&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5157830','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',145920,0,4778),('application_1506645932520_14824675','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991076714,1515991231731,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14824675','Pig',3,1518,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',51489792,0,3885),('application_1506645932520_14824676','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991079060,1515991237503,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14824676','Pig',3,4896,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',158307840,0,5956),('application_1506645932520_14824677','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991080425,1515991187851,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14824677','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',233472,0,2877),('application_1506645932520_14824680','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991082049,1515991240032,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14824680','Pig',2,302,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',13275648,0,43306),('application_1506645932520_14824683','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991083758,1515991247488,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14824683','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',281088,0,40714),('application_1506645932520_14824685','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991085047,1515991265419,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14824685','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',287232,0,41607),('application_1506645932520_14824687','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991086759,1515991294536,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14824687','Pig',3,1500,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',41547264,0,70495),('application_1506645932520_14824996','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991326143,1515991641190,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14824996','Pig',3,3213,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',92054016,0,6387),('application_1506645932520_14824999','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991327452,1515991670369,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14824999','Pig',3,3165,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',117229056,0,11406),('application_1506645932520_14825000','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991328750,1515991660916,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14825000','Pig',4,10129,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',243571200,0,19257),('application_1506645932520_14825298','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991684212,1515991767524,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14825298','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',127488,0,4634),('application_1506645932520_14825364','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991778730,1515991873235,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14825364','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',124416,0,4678),('application_1506645932520_14825463','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991888162,1515991971005,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14825463','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',56832,0,37362),('application_1506645932520_14825523','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515991982696,1515992198290,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14825523','Pig',1,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',3177984,0,6575),('application_1506645932520_14825763','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515992221397,1515992318476,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14825763','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',1463808,0,18682),('application_1506645932520_14825769','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515992222425,1515992350395,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14825769','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',737280,0,4593),('application_1506645932520_14826095','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515992373009,1515992451751,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14826095','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',347136,0,5224),('application_1506645932520_14826163','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515992466247,1515992538144,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14826163','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158194&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158194','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',198144,0,5388),('application_1506645932520_14828901','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515994413751,1515994540123,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14828901','Pig',3,1527,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',41195520,0,3799),('application_1506645932520_14828909','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515994415531,1515994564943,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14828909','Pig',4,6496,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',135762432,0,21059),('application_1506645932520_14828915','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515994417787,1515994516440,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14828915','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',192000,0,2372),('application_1506645932520_14828918','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515994418955,1515994535247,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14828918','Pig',2,300,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',11008512,0,3043),('application_1506645932520_14828920','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515994420115,1515994548888,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14828920','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',271872,0,2402),('application_1506645932520_14828927','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515994421136,1515994524042,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14828927','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',215040,0,3006),('application_1506645932520_14828931','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515994422273,1515994554177,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14828931','Pig',2,990,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',40410624,0,17972),('application_1506645932520_14829374','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515994598599,1515994826719,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14829374','Pig',3,3234,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',76623663,0,13428),('application_1506645932520_14829375','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515994599701,1515994811605,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14829375','Pig',3,2643,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',73923525,0,12955),('application_1506645932520_14829377','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515994601160,1515994871831,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14829377','Pig',4,10093,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',227204472,0,12798),('application_1506645932520_14829662','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515994884732,1515994942466,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14829662','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',100554,0,5346),('application_1506645932520_14829738','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515994954814,1515995030508,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14829738','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',102957,0,4962),('application_1506645932520_14829819','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515995045481,1515995093836,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14829819','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',58839,0,5399),('application_1506645932520_14829871','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515995113082,1515995270705,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14829871','Pig',1,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',2724270,0,4927),('application_1506645932520_14830034','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515995291854,1515995356948,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14830034','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',1442952,0,4843),('application_1506645932520_14830035','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515995293330,1515995363322,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14830035','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',609561,0,4607),('application_1506645932520_14830183','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515995379978,1515995475455,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14830183','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',346434,0,35580),('application_1506645932520_14830345','PigLatin:generateImpressionAction.pig','dev_svc','sna_default',1515995489495,1515995541281,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_14830345','Pig',0,0,0,'azkaban','score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images','https://elephant.linkedin.com:8443/executor?execid=5158533&job=score-all-images_generate-impression-action&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5158533','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images&job=score-all-images_generate-impression-action','https://elephant.linkedin.com:8443/manager?project=nus-virals-autotuning-test&flow=score-all-images',169446,0,4860),('application_1506645932520_18304591','PigLatin:count_by_country_small.pig','mkumar1','sna_default',1517997086752,1517997308615,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_18304591','Pig',2,2,0,'azkaban','countByCountryFlowSmallNew_countByCountry','https://elephant.linkedin.com:8443/executor?execid=5356377&job=countByCountryFlowSmallNew_countByCountry&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5356377','https://elephant.linkedin.com:8443/manager?project=AzkabanHelloPigTest&flow=countByCountryFlowSmallNew&job=countByCountryFlowSmallNew_countByCountry','https://elephant.linkedin.com:8443/manager?project=AzkabanHelloPigTest&flow=countByCountryFlowSmallNew','https://elephant.linkedin.com:8443/executor?execid=5356377&job=countByCountryFlowSmallNew_countByCountry&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5356377','https://elephant.linkedin.com:8443/manager?project=AzkabanHelloPigTest&flow=countByCountryFlowSmallNew&job=countByCountryFlowSmallNew_countByCountry','https://elephant.linkedin.com:8443/manager?project=AzkabanHelloPigTest&flow=countByCountryFlowSmallNew',28334400,1248,7201),('application_1506645932520_18311651','PigLatin:count_by_country_small.pig','mkumar1','sna_default',1518001319781,1518001775270,'http://ltx1-holdemjh01.grid.linkedin.com:19888/jobhistory/job/job_1506645932520_18311651','Pig',3,6,0,'azkaban','countByCountryFlowSmall_countByCountry','https://elephant.linkedin.com:8443/executor?execid=5221700&job=countByCountryFlowSmall_countByCountry&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5221700','https://elephant.linkedin.com:8443/manager?project=AzkabanHelloPigTest&flow=countByCountryFlowSmall&job=countByCountryFlowSmall_countByCountry','https://elephant.linkedin.com:8443/manager?project=AzkabanHelloPigTest&flow=countByCountryFlowSmall','https://elephant.linkedin.com:8443/executor?execid=5221700&job=countByCountryFlowSmall_countByCountry&attempt=0','https://elephant.linkedin.com:8443/executor?execid=5221700','https://elephant.linkedin.com:8443/manager?project=AzkabanHelloPigTest&flow=countByCountryFlowSmall&job=countByCountryFlowSmall_countByCountry','https://elephant.linkedin.com:8443/manager?project=AzkabanHelloPigTest&flow=countByCountryFlowSmall',794624,469908,242749);
 INSERT INTO `yarn_app_heuristic_result` VALUES (1511830,'application_1506645932520_14618986','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1511831,'application_1506645932520_14618986','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1511832,'application_1506645932520_14618986','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1511833,'application_1506645932520_14618986','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1511834,'application_1506645932520_14618986','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1511835,'application_1506645932520_14618986','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1511836,'application_1506645932520_14618986','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1511837,'application_1506645932520_14618986','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1511838,'application_1506645932520_14618986','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1511839,'application_1506645932520_14618986','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1511840,'application_1506645932520_14618986','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1511841,'application_1506645932520_14618986','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1511842,'application_1506645932520_14618994','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1511843,'application_1506645932520_14618994','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1511844,'application_1506645932520_14618994','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1511845,'application_1506645932520_14618994','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1511846,'application_1506645932520_14618994','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1511847,'application_1506645932520_14618994','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1511848,'application_1506645932520_14618994','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1511849,'application_1506645932520_14618994','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1511850,'application_1506645932520_14618994','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1511851,'application_1506645932520_14618994','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1511852,'application_1506645932520_14618994','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1511853,'application_1506645932520_14618994','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1511866,'application_1506645932520_14618990','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1511867,'application_1506645932520_14618990','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1511868,'application_1506645932520_14618990','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',2,408),(1511869,'application_1506645932520_14618990','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1511870,'application_1506645932520_14618990','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1511871,'application_1506645932520_14618990','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1511872,'application_1506645932520_14618990','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1511873,'application_1506645932520_14618990','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1511874,'application_1506645932520_14618990','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1511875,'application_1506645932520_14618990','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1511876,'application_1506645932520_14618990','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1511877,'application_1506645932520_14618990','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1511878,'application_1506645932520_14618965','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1511879,'application_1506645932520_14618965','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1511880,'application_1506645932520_14618965','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',3,1809),(1511881,'application_1506645932520_14618965','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1511882,'application_1506645932520_14618965','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1511883,'application_1506645932520_14618965','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1511884,'application_1506645932520_14618965','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1511885,'application_1506645932520_14618965','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1511886,'application_1506645932520_14618965','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1511887,'application_1506645932520_14618965','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1511888,'application_1506645932520_14618965','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1511889,'application_1506645932520_14618965','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1511902,'application_1506645932520_14618978','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1511903,'application_1506645932520_14618978','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1511904,'application_1506645932520_14618978','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',3,5835),(1511905,'application_1506645932520_14618978','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1511906,'application_1506645932520_14618978','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1511907,'application_1506645932520_14618978','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1511908,'application_1506645932520_14618978','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1511909,'application_1506645932520_14618978','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1511910,'application_1506645932520_14618978','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1511911,'application_1506645932520_14618978','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1511912,'application_1506645932520_14618978','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1511913,'application_1506645932520_14618978','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519428,'application_1506645932520_14819566','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519429,'application_1506645932520_14819566','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519430,'application_1506645932520_14819566','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519431,'application_1506645932520_14819566','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519432,'application_1506645932520_14819566','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519433,'application_1506645932520_14819566','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519434,'application_1506645932520_14819566','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519435,'application_1506645932520_14819566','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519436,'application_1506645932520_14819566','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519437,'application_1506645932520_14819566','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519438,'application_1506645932520_14819566','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519439,'application_1506645932520_14819566','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519440,'application_1506645932520_14819564','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519441,'application_1506645932520_14819564','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519442,'application_1506645932520_14819564','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519443,'application_1506645932520_14819564','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519444,'application_1506645932520_14819564','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519445,'application_1506645932520_14819564','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519446,'application_1506645932520_14819564','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519447,'application_1506645932520_14819564','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519448,'application_1506645932520_14819564','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519449,'application_1506645932520_14819564','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519450,'application_1506645932520_14819564','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519451,'application_1506645932520_14819564','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519452,'application_1506645932520_14819559','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519453,'application_1506645932520_14819559','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519454,'application_1506645932520_14819559','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519455,'application_1506645932520_14819559','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519456,'application_1506645932520_14819559','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519457,'application_1506645932520_14819559','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519458,'application_1506645932520_14819559','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519459,'application_1506645932520_14819559','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519460,'application_1506645932520_14819559','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519461,'application_1506645932520_14819559','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519462,'application_1506645932520_14819559','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519463,'application_1506645932520_14819559','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519464,'application_1506645932520_14819561','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519465,'application_1506645932520_14819561','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519466,'application_1506645932520_14819561','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',2,298),(1519467,'application_1506645932520_14819561','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519468,'application_1506645932520_14819561','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519469,'application_1506645932520_14819561','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519470,'application_1506645932520_14819561','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519471,'application_1506645932520_14819561','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519472,'application_1506645932520_14819561','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519473,'application_1506645932520_14819561','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519474,'application_1506645932520_14819561','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519475,'application_1506645932520_14819561','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519476,'application_1506645932520_14819567','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519477,'application_1506645932520_14819567','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519478,'application_1506645932520_14819567','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',2,996),(1519479,'application_1506645932520_14819567','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519480,'application_1506645932520_14819567','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519481,'application_1506645932520_14819567','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519482,'application_1506645932520_14819567','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519483,'application_1506645932520_14819567','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519484,'application_1506645932520_14819567','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519485,'application_1506645932520_14819567','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519486,'application_1506645932520_14819567','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519487,'application_1506645932520_14819567','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519488,'application_1506645932520_14819554','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519489,'application_1506645932520_14819554','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519490,'application_1506645932520_14819554','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',2,994),(1519491,'application_1506645932520_14819554','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519492,'application_1506645932520_14819554','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519493,'application_1506645932520_14819554','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519494,'application_1506645932520_14819554','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519495,'application_1506645932520_14819554','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519496,'application_1506645932520_14819554','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519497,'application_1506645932520_14819554','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519498,'application_1506645932520_14819554','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519499,'application_1506645932520_14819554','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519512,'application_1506645932520_14819557','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519513,'application_1506645932520_14819557','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519514,'application_1506645932520_14819557','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',4,6520),(1519515,'application_1506645932520_14819557','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519516,'application_1506645932520_14819557','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519517,'application_1506645932520_14819557','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519518,'application_1506645932520_14819557','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519519,'application_1506645932520_14819557','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519520,'application_1506645932520_14819557','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519521,'application_1506645932520_14819557','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519522,'application_1506645932520_14819557','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519523,'application_1506645932520_14819557','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519524,'application_1506645932520_14819804','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519525,'application_1506645932520_14819804','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519526,'application_1506645932520_14819804','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',3,1503),(1519527,'application_1506645932520_14819804','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519528,'application_1506645932520_14819804','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519529,'application_1506645932520_14819804','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519530,'application_1506645932520_14819804','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519531,'application_1506645932520_14819804','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519532,'application_1506645932520_14819804','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',3,1665),(1519533,'application_1506645932520_14819804','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519534,'application_1506645932520_14819804','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519535,'application_1506645932520_14819804','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519536,'application_1506645932520_14820502','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519537,'application_1506645932520_14820502','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519538,'application_1506645932520_14820502','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519539,'application_1506645932520_14820502','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519540,'application_1506645932520_14820502','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519541,'application_1506645932520_14820502','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519542,'application_1506645932520_14820502','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519543,'application_1506645932520_14820502','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519544,'application_1506645932520_14820502','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519545,'application_1506645932520_14820502','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519546,'application_1506645932520_14820502','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519547,'application_1506645932520_14820502','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519548,'application_1506645932520_14820601','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519549,'application_1506645932520_14820601','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519550,'application_1506645932520_14820601','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519551,'application_1506645932520_14820601','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519552,'application_1506645932520_14820601','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519553,'application_1506645932520_14820601','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519554,'application_1506645932520_14820601','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519555,'application_1506645932520_14820601','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519556,'application_1506645932520_14820601','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519557,'application_1506645932520_14820601','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519558,'application_1506645932520_14820601','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519559,'application_1506645932520_14820601','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519560,'application_1506645932520_14820710','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519561,'application_1506645932520_14820710','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519562,'application_1506645932520_14820710','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519563,'application_1506645932520_14820710','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519564,'application_1506645932520_14820710','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519565,'application_1506645932520_14820710','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519566,'application_1506645932520_14820710','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519567,'application_1506645932520_14820710','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519568,'application_1506645932520_14820710','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519569,'application_1506645932520_14820710','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519570,'application_1506645932520_14820710','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519571,'application_1506645932520_14820710','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519572,'application_1506645932520_14820781','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519573,'application_1506645932520_14820781','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519574,'application_1506645932520_14820781','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519575,'application_1506645932520_14820781','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519576,'application_1506645932520_14820781','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519577,'application_1506645932520_14820781','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519578,'application_1506645932520_14820781','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',1,0),(1519579,'application_1506645932520_14820781','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519580,'application_1506645932520_14820781','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519581,'application_1506645932520_14820781','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519582,'application_1506645932520_14820781','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519583,'application_1506645932520_14820781','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519584,'application_1506645932520_14820903','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519585,'application_1506645932520_14820903','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519586,'application_1506645932520_14820903','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519587,'application_1506645932520_14820903','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519588,'application_1506645932520_14820903','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519589,'application_1506645932520_14820903','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519590,'application_1506645932520_14820903','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519591,'application_1506645932520_14820903','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519592,'application_1506645932520_14820903','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519593,'application_1506645932520_14820903','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519594,'application_1506645932520_14820903','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519595,'application_1506645932520_14820903','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519596,'application_1506645932520_14820904','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519597,'application_1506645932520_14820904','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519598,'application_1506645932520_14820904','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519599,'application_1506645932520_14820904','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519600,'application_1506645932520_14820904','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519601,'application_1506645932520_14820904','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519602,'application_1506645932520_14820904','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519603,'application_1506645932520_14820904','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519604,'application_1506645932520_14820904','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519605,'application_1506645932520_14820904','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519606,'application_1506645932520_14820904','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519607,'application_1506645932520_14820904','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519608,'application_1506645932520_14820960','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519609,'application_1506645932520_14820960','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519610,'application_1506645932520_14820960','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519611,'application_1506645932520_14820960','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519612,'application_1506645932520_14820960','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519613,'application_1506645932520_14820960','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519614,'application_1506645932520_14820960','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519615,'application_1506645932520_14820960','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519616,'application_1506645932520_14820960','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519617,'application_1506645932520_14820960','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519618,'application_1506645932520_14820960','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519619,'application_1506645932520_14820960','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519620,'application_1506645932520_14820995','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519621,'application_1506645932520_14820995','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519622,'application_1506645932520_14820995','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519623,'application_1506645932520_14820995','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519624,'application_1506645932520_14820995','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519625,'application_1506645932520_14820995','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519626,'application_1506645932520_14820995','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519627,'application_1506645932520_14820995','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519628,'application_1506645932520_14820995','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519629,'application_1506645932520_14820995','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519630,'application_1506645932520_14820995','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519631,'application_1506645932520_14820995','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519632,'application_1506645932520_14819799','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519633,'application_1506645932520_14819799','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519634,'application_1506645932520_14819799','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',3,1500),(1519635,'application_1506645932520_14819799','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519636,'application_1506645932520_14819799','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519637,'application_1506645932520_14819799','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519638,'application_1506645932520_14819799','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519639,'application_1506645932520_14819799','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519640,'application_1506645932520_14819799','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',3,1671),(1519641,'application_1506645932520_14819799','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519642,'application_1506645932520_14819799','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519643,'application_1506645932520_14819799','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519644,'application_1506645932520_14824677','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519645,'application_1506645932520_14824677','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519646,'application_1506645932520_14824677','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519647,'application_1506645932520_14824677','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519648,'application_1506645932520_14824677','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519649,'application_1506645932520_14824677','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519650,'application_1506645932520_14824677','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519651,'application_1506645932520_14824677','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519652,'application_1506645932520_14824677','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519653,'application_1506645932520_14824677','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519654,'application_1506645932520_14824677','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519655,'application_1506645932520_14824677','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519656,'application_1506645932520_14824680','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519657,'application_1506645932520_14824680','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519658,'application_1506645932520_14824680','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',2,302),(1519659,'application_1506645932520_14824680','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519660,'application_1506645932520_14824680','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519661,'application_1506645932520_14824680','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519662,'application_1506645932520_14824680','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519663,'application_1506645932520_14824680','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519664,'application_1506645932520_14824680','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519665,'application_1506645932520_14824680','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519666,'application_1506645932520_14824680','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519667,'application_1506645932520_14824680','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519668,'application_1506645932520_14824675','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519669,'application_1506645932520_14824675','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519670,'application_1506645932520_14824675','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',3,1518),(1519671,'application_1506645932520_14824675','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519672,'application_1506645932520_14824675','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519673,'application_1506645932520_14824675','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519674,'application_1506645932520_14824675','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519675,'application_1506645932520_14824675','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519676,'application_1506645932520_14824675','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519677,'application_1506645932520_14824675','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519678,'application_1506645932520_14824675','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519679,'application_1506645932520_14824675','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519680,'application_1506645932520_14819806','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519681,'application_1506645932520_14819806','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519682,'application_1506645932520_14819806','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',4,7116),(1519683,'application_1506645932520_14819806','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519684,'application_1506645932520_14819806','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519685,'application_1506645932520_14819806','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519686,'application_1506645932520_14819806','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519687,'application_1506645932520_14819806','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519688,'application_1506645932520_14819806','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',3,2997),(1519689,'application_1506645932520_14819806','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519690,'application_1506645932520_14819806','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519691,'application_1506645932520_14819806','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519692,'application_1506645932520_14824685','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519693,'application_1506645932520_14824685','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519694,'application_1506645932520_14824685','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519695,'application_1506645932520_14824685','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519696,'application_1506645932520_14824685','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519697,'application_1506645932520_14824685','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519698,'application_1506645932520_14824685','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519699,'application_1506645932520_14824685','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519700,'application_1506645932520_14824685','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519701,'application_1506645932520_14824685','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519702,'application_1506645932520_14824685','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519703,'application_1506645932520_14824685','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519704,'application_1506645932520_14824683','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519705,'application_1506645932520_14824683','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519706,'application_1506645932520_14824683','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519707,'application_1506645932520_14824683','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519708,'application_1506645932520_14824683','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519709,'application_1506645932520_14824683','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519710,'application_1506645932520_14824683','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519711,'application_1506645932520_14824683','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519712,'application_1506645932520_14824683','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519713,'application_1506645932520_14824683','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519714,'application_1506645932520_14824683','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519715,'application_1506645932520_14824683','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519716,'application_1506645932520_14824687','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519717,'application_1506645932520_14824687','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519718,'application_1506645932520_14824687','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',3,1500),(1519719,'application_1506645932520_14824687','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519720,'application_1506645932520_14824687','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519721,'application_1506645932520_14824687','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519722,'application_1506645932520_14824687','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519723,'application_1506645932520_14824687','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519724,'application_1506645932520_14824687','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519725,'application_1506645932520_14824687','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519726,'application_1506645932520_14824687','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519727,'application_1506645932520_14824687','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519728,'application_1506645932520_14824676','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519729,'application_1506645932520_14824676','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519730,'application_1506645932520_14824676','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',3,4896),(1519731,'application_1506645932520_14824676','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519732,'application_1506645932520_14824676','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519733,'application_1506645932520_14824676','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519734,'application_1506645932520_14824676','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519735,'application_1506645932520_14824676','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519736,'application_1506645932520_14824676','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519737,'application_1506645932520_14824676','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519738,'application_1506645932520_14824676','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519739,'application_1506645932520_14824676','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519740,'application_1506645932520_14824996','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519741,'application_1506645932520_14824996','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519742,'application_1506645932520_14824996','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',3,1527),(1519743,'application_1506645932520_14824996','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519744,'application_1506645932520_14824996','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519745,'application_1506645932520_14824996','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519746,'application_1506645932520_14824996','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519747,'application_1506645932520_14824996','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519748,'application_1506645932520_14824996','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',3,1686),(1519749,'application_1506645932520_14824996','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519750,'application_1506645932520_14824996','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519751,'application_1506645932520_14824996','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519752,'application_1506645932520_14825298','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519753,'application_1506645932520_14825298','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519754,'application_1506645932520_14825298','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519755,'application_1506645932520_14825298','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519756,'application_1506645932520_14825298','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519757,'application_1506645932520_14825298','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519758,'application_1506645932520_14825298','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519759,'application_1506645932520_14825298','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519760,'application_1506645932520_14825298','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519761,'application_1506645932520_14825298','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519762,'application_1506645932520_14825298','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519763,'application_1506645932520_14825298','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519764,'application_1506645932520_14825364','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519765,'application_1506645932520_14825364','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519766,'application_1506645932520_14825364','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519767,'application_1506645932520_14825364','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519768,'application_1506645932520_14825364','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519769,'application_1506645932520_14825364','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519770,'application_1506645932520_14825364','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519771,'application_1506645932520_14825364','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519772,'application_1506645932520_14825364','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519773,'application_1506645932520_14825364','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519774,'application_1506645932520_14825364','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519775,'application_1506645932520_14825364','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519776,'application_1506645932520_14825463','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519777,'application_1506645932520_14825463','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519778,'application_1506645932520_14825463','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519779,'application_1506645932520_14825463','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519780,'application_1506645932520_14825463','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519781,'application_1506645932520_14825463','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519782,'application_1506645932520_14825463','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519783,'application_1506645932520_14825463','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519784,'application_1506645932520_14825463','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519785,'application_1506645932520_14825463','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519786,'application_1506645932520_14825463','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519787,'application_1506645932520_14825463','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519788,'application_1506645932520_14825523','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519789,'application_1506645932520_14825523','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519790,'application_1506645932520_14825523','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519791,'application_1506645932520_14825523','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519792,'application_1506645932520_14825523','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519793,'application_1506645932520_14825523','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519794,'application_1506645932520_14825523','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',1,0),(1519795,'application_1506645932520_14825523','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519796,'application_1506645932520_14825523','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519797,'application_1506645932520_14825523','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519798,'application_1506645932520_14825523','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519799,'application_1506645932520_14825523','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519800,'application_1506645932520_14825763','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519801,'application_1506645932520_14825763','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519802,'application_1506645932520_14825763','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519803,'application_1506645932520_14825763','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519804,'application_1506645932520_14825763','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519805,'application_1506645932520_14825763','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519806,'application_1506645932520_14825763','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519807,'application_1506645932520_14825763','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519808,'application_1506645932520_14825763','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519809,'application_1506645932520_14825763','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519810,'application_1506645932520_14825763','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519811,'application_1506645932520_14825763','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519812,'application_1506645932520_14825769','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519813,'application_1506645932520_14825769','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519814,'application_1506645932520_14825769','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519815,'application_1506645932520_14825769','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519816,'application_1506645932520_14825769','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519817,'application_1506645932520_14825769','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519818,'application_1506645932520_14825769','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519819,'application_1506645932520_14825769','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519820,'application_1506645932520_14825769','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519821,'application_1506645932520_14825769','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519822,'application_1506645932520_14825769','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519823,'application_1506645932520_14825769','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519824,'application_1506645932520_14826095','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519825,'application_1506645932520_14826095','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519826,'application_1506645932520_14826095','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519827,'application_1506645932520_14826095','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519828,'application_1506645932520_14826095','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519829,'application_1506645932520_14826095','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519830,'application_1506645932520_14826095','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519831,'application_1506645932520_14826095','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519832,'application_1506645932520_14826095','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519833,'application_1506645932520_14826095','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519834,'application_1506645932520_14826095','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519835,'application_1506645932520_14826095','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519836,'application_1506645932520_14826163','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519837,'application_1506645932520_14826163','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519838,'application_1506645932520_14826163','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519839,'application_1506645932520_14826163','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519840,'application_1506645932520_14826163','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519841,'application_1506645932520_14826163','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519842,'application_1506645932520_14826163','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519843,'application_1506645932520_14826163','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519844,'application_1506645932520_14826163','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519845,'application_1506645932520_14826163','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519846,'application_1506645932520_14826163','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519847,'application_1506645932520_14826163','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519848,'application_1506645932520_14824999','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519849,'application_1506645932520_14824999','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519850,'application_1506645932520_14824999','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',3,1509),(1519851,'application_1506645932520_14824999','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519852,'application_1506645932520_14824999','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519853,'application_1506645932520_14824999','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519854,'application_1506645932520_14824999','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519855,'application_1506645932520_14824999','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519856,'application_1506645932520_14824999','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',3,1656),(1519857,'application_1506645932520_14824999','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519858,'application_1506645932520_14824999','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519859,'application_1506645932520_14824999','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519860,'application_1506645932520_14828927','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519861,'application_1506645932520_14828927','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519862,'application_1506645932520_14828927','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519863,'application_1506645932520_14828927','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519864,'application_1506645932520_14828927','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519865,'application_1506645932520_14828927','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519866,'application_1506645932520_14828927','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519867,'application_1506645932520_14828927','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519868,'application_1506645932520_14828927','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519869,'application_1506645932520_14828927','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519870,'application_1506645932520_14828927','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519871,'application_1506645932520_14828927','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519872,'application_1506645932520_14828918','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519873,'application_1506645932520_14828918','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519874,'application_1506645932520_14828918','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',2,300),(1519875,'application_1506645932520_14828918','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519876,'application_1506645932520_14828918','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519877,'application_1506645932520_14828918','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519878,'application_1506645932520_14828918','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519879,'application_1506645932520_14828918','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519880,'application_1506645932520_14828918','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519881,'application_1506645932520_14828918','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519882,'application_1506645932520_14828918','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519883,'application_1506645932520_14828918','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519884,'application_1506645932520_14828915','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519885,'application_1506645932520_14828915','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519886,'application_1506645932520_14828915','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519887,'application_1506645932520_14828915','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519888,'application_1506645932520_14828915','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519889,'application_1506645932520_14828915','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519890,'application_1506645932520_14828915','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519891,'application_1506645932520_14828915','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519892,'application_1506645932520_14828915','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519893,'application_1506645932520_14828915','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519894,'application_1506645932520_14828915','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519895,'application_1506645932520_14828915','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519896,'application_1506645932520_14828901','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519897,'application_1506645932520_14828901','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519898,'application_1506645932520_14828901','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',3,1527),(1519899,'application_1506645932520_14828901','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519900,'application_1506645932520_14828901','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519901,'application_1506645932520_14828901','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519902,'application_1506645932520_14828901','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519903,'application_1506645932520_14828901','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519904,'application_1506645932520_14828901','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519905,'application_1506645932520_14828901','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519906,'application_1506645932520_14828901','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519907,'application_1506645932520_14828901','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519908,'application_1506645932520_14828920','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519909,'application_1506645932520_14828920','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519910,'application_1506645932520_14828920','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519911,'application_1506645932520_14828920','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519912,'application_1506645932520_14828920','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519913,'application_1506645932520_14828920','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519914,'application_1506645932520_14828920','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519915,'application_1506645932520_14828920','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519916,'application_1506645932520_14828920','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519917,'application_1506645932520_14828920','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519918,'application_1506645932520_14828920','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519919,'application_1506645932520_14828920','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519920,'application_1506645932520_14828931','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519921,'application_1506645932520_14828931','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519922,'application_1506645932520_14828931','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',2,990),(1519923,'application_1506645932520_14828931','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519924,'application_1506645932520_14828931','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519925,'application_1506645932520_14828931','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519926,'application_1506645932520_14828931','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519927,'application_1506645932520_14828931','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519928,'application_1506645932520_14828931','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519929,'application_1506645932520_14828931','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519930,'application_1506645932520_14828931','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519931,'application_1506645932520_14828931','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519932,'application_1506645932520_14825000','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519933,'application_1506645932520_14825000','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519934,'application_1506645932520_14825000','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',4,7132),(1519935,'application_1506645932520_14825000','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519936,'application_1506645932520_14825000','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519937,'application_1506645932520_14825000','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519938,'application_1506645932520_14825000','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519939,'application_1506645932520_14825000','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519940,'application_1506645932520_14825000','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',3,2997),(1519941,'application_1506645932520_14825000','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519942,'application_1506645932520_14825000','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519943,'application_1506645932520_14825000','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519944,'application_1506645932520_14828909','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519945,'application_1506645932520_14828909','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519946,'application_1506645932520_14828909','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',4,6496),(1519947,'application_1506645932520_14828909','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519948,'application_1506645932520_14828909','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519949,'application_1506645932520_14828909','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519950,'application_1506645932520_14828909','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519951,'application_1506645932520_14828909','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519952,'application_1506645932520_14828909','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519953,'application_1506645932520_14828909','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519954,'application_1506645932520_14828909','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519955,'application_1506645932520_14828909','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519956,'application_1506645932520_14829375','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519957,'application_1506645932520_14829375','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519958,'application_1506645932520_14829375','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',2,996),(1519959,'application_1506645932520_14829375','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519960,'application_1506645932520_14829375','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519961,'application_1506645932520_14829375','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519962,'application_1506645932520_14829375','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519963,'application_1506645932520_14829375','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519964,'application_1506645932520_14829375','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',3,1647),(1519965,'application_1506645932520_14829375','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519966,'application_1506645932520_14829375','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519967,'application_1506645932520_14829375','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519968,'application_1506645932520_14829662','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519969,'application_1506645932520_14829662','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519970,'application_1506645932520_14829662','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519971,'application_1506645932520_14829662','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519972,'application_1506645932520_14829662','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519973,'application_1506645932520_14829662','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519974,'application_1506645932520_14829662','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519975,'application_1506645932520_14829662','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519976,'application_1506645932520_14829662','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519977,'application_1506645932520_14829662','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519978,'application_1506645932520_14829662','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519979,'application_1506645932520_14829662','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519980,'application_1506645932520_14829738','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519981,'application_1506645932520_14829738','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519982,'application_1506645932520_14829738','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519983,'application_1506645932520_14829738','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519984,'application_1506645932520_14829738','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519985,'application_1506645932520_14829738','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519986,'application_1506645932520_14829738','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519987,'application_1506645932520_14829738','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1519988,'application_1506645932520_14829738','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1519989,'application_1506645932520_14829738','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1519990,'application_1506645932520_14829738','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1519991,'application_1506645932520_14829738','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1519992,'application_1506645932520_14829819','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1519993,'application_1506645932520_14829819','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1519994,'application_1506645932520_14829819','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1519995,'application_1506645932520_14829819','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1519996,'application_1506645932520_14829819','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1519997,'application_1506645932520_14829819','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1519998,'application_1506645932520_14829819','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1519999,'application_1506645932520_14829819','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1520000,'application_1506645932520_14829819','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1520001,'application_1506645932520_14829819','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1520002,'application_1506645932520_14829819','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1520003,'application_1506645932520_14829819','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1520004,'application_1506645932520_14829871','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1520005,'application_1506645932520_14829871','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1520006,'application_1506645932520_14829871','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1520007,'application_1506645932520_14829871','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1520008,'application_1506645932520_14829871','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1520009,'application_1506645932520_14829871','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1520010,'application_1506645932520_14829871','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',1,0),(1520011,'application_1506645932520_14829871','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1520012,'application_1506645932520_14829871','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1520013,'application_1506645932520_14829871','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1520014,'application_1506645932520_14829871','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1520015,'application_1506645932520_14829871','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1520016,'application_1506645932520_14830035','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1520017,'application_1506645932520_14830035','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1520018,'application_1506645932520_14830035','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1520019,'application_1506645932520_14830035','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1520020,'application_1506645932520_14830035','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1520021,'application_1506645932520_14830035','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1520022,'application_1506645932520_14830035','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1520023,'application_1506645932520_14830035','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1520024,'application_1506645932520_14830035','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1520025,'application_1506645932520_14830035','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1520026,'application_1506645932520_14830035','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1520027,'application_1506645932520_14830035','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1520028,'application_1506645932520_14830034','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1520029,'application_1506645932520_14830034','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1520030,'application_1506645932520_14830034','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1520031,'application_1506645932520_14830034','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1520032,'application_1506645932520_14830034','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1520033,'application_1506645932520_14830034','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1520034,'application_1506645932520_14830034','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1520035,'application_1506645932520_14830034','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1520036,'application_1506645932520_14830034','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1520037,'application_1506645932520_14830034','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1520038,'application_1506645932520_14830034','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1520039,'application_1506645932520_14830034','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1520040,'application_1506645932520_14830183','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1520041,'application_1506645932520_14830183','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1520042,'application_1506645932520_14830183','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1520043,'application_1506645932520_14830183','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1520044,'application_1506645932520_14830183','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1520045,'application_1506645932520_14830183','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1520046,'application_1506645932520_14830183','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1520047,'application_1506645932520_14830183','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1520048,'application_1506645932520_14830183','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1520049,'application_1506645932520_14830183','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1520050,'application_1506645932520_14830183','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1520051,'application_1506645932520_14830183','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1520052,'application_1506645932520_14830345','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1520053,'application_1506645932520_14830345','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1520054,'application_1506645932520_14830345','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1520055,'application_1506645932520_14830345','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1520056,'application_1506645932520_14830345','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1520057,'application_1506645932520_14830345','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1520058,'application_1506645932520_14830345','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1520059,'application_1506645932520_14830345','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1520060,'application_1506645932520_14830345','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1520061,'application_1506645932520_14830345','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1520062,'application_1506645932520_14830345','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1520063,'application_1506645932520_14830345','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1520064,'application_1506645932520_14829374','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1520065,'application_1506645932520_14829374','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1520066,'application_1506645932520_14829374','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',3,1536),(1520067,'application_1506645932520_14829374','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1520068,'application_1506645932520_14829374','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1520069,'application_1506645932520_14829374','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1520070,'application_1506645932520_14829374','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1520071,'application_1506645932520_14829374','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1520072,'application_1506645932520_14829374','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',3,1698),(1520073,'application_1506645932520_14829374','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1520074,'application_1506645932520_14829374','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1520075,'application_1506645932520_14829374','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1520076,'application_1506645932520_14829377','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1520077,'application_1506645932520_14829377','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1520078,'application_1506645932520_14829377','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',4,7096),(1520079,'application_1506645932520_14829377','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1520080,'application_1506645932520_14829377','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1520081,'application_1506645932520_14829377','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1520082,'application_1506645932520_14829377','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1520083,'application_1506645932520_14829377','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1520084,'application_1506645932520_14829377','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',3,2997),(1520085,'application_1506645932520_14829377','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',0,0),(1520086,'application_1506645932520_14829377','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1520087,'application_1506645932520_14829377','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1536115,'application_1506645932520_18304591','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1536116,'application_1506645932520_18304591','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1536117,'application_1506645932520_18304591','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1536118,'application_1506645932520_18304591','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1536119,'application_1506645932520_18304591','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1536120,'application_1506645932520_18304591','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',0,0),(1536121,'application_1506645932520_18304591','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1536122,'application_1506645932520_18304591','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1536123,'application_1506645932520_18304591','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1536124,'application_1506645932520_18304591','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',2,2),(1536125,'application_1506645932520_18304591','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1536126,'application_1506645932520_18304591','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0),(1536163,'application_1506645932520_18311651','com.linkedin.drelephant.mapreduce.heuristics.MapperDataSkewHeuristic','Mapper Data Skew',0,0),(1536164,'application_1506645932520_18311651','com.linkedin.drelephant.mapreduce.heuristics.MapperGCHeuristic','Mapper GC',0,0),(1536165,'application_1506645932520_18311651','com.linkedin.drelephant.mapreduce.heuristics.MapperTimeHeuristic','Mapper Time',0,0),(1536166,'application_1506645932520_18311651','com.linkedin.drelephant.mapreduce.heuristics.MapperSpeedHeuristic','Mapper Speed',0,0),(1536167,'application_1506645932520_18311651','com.linkedin.drelephant.mapreduce.heuristics.MapperSpillHeuristic','Mapper Spill',0,0),(1536168,'application_1506645932520_18311651','com.linkedin.drelephant.mapreduce.heuristics.MapperMemoryHeuristic','Mapper Memory',3,3),(1536169,'application_1506645932520_18311651','com.linkedin.drelephant.mapreduce.heuristics.ReducerDataSkewHeuristic','Reducer Data Skew',0,0),(1536170,'application_1506645932520_18311651','com.linkedin.drelephant.mapreduce.heuristics.ReducerGCHeuristic','Reducer GC',0,0),(1536171,'application_1506645932520_18311651','com.linkedin.drelephant.mapreduce.heuristics.ReducerTimeHeuristic','Reducer Time',0,0),(1536172,'application_1506645932520_18311651','com.linkedin.drelephant.mapreduce.heuristics.ReducerMemoryHeuristic','Reducer Memory',3,3),(1536173,'application_1506645932520_18311651','com.linkedin.drelephant.mapreduce.heuristics.ShuffleSortHeuristic','Shuffle & Sort',0,0),(1536174,'application_1506645932520_18311651','com.linkedin.drelephant.mapreduce.heuristics.DistributedCacheLimitHeuristic','Distributed Cache Limit',0,0);
-INSERT INTO `yarn_app_heuristic_result_details`(yarn_app_heuristic_result_id,name,value,details) VALUES (1511830,'Group A','1 tasks @ 9 MB avg',NULL),(1511830,'Group B','2 tasks @ 513 MB avg',NULL),(1511830,'Number of tasks','3',NULL),(1511831,'Avg task CPU time (ms)','55903',NULL),(1511831,'Avg task GC time (ms)','316',NULL),(1511831,'Avg task runtime (ms)','69313',NULL),(1511831,'Number of tasks','3',NULL),(1511831,'Task GC/CPU ratio','0.005652648337298535',NULL),(1511832,'Average task input size','345 MB',NULL),(1511832,'Average task runtime','1 min 9 sec',NULL),(1511832,'Max task runtime','1 min 42 sec',NULL),(1511832,'Min task runtime','9 sec',NULL),(1511832,'Number of tasks','3',NULL),(1511833,'Median task input size','511 MB',NULL),(1511833,'Median task runtime','1 min 36 sec',NULL),(1511833,'Median task speed','5 MB/s',NULL),(1511833,'Number of tasks','3',NULL),(1511833,'Total input size in MB','1035.5147895812988',NULL),(1511834,'Avg output records per task','1094880',NULL),(1511834,'Avg spilled records per task','0',NULL),(1511834,'Number of tasks','3',NULL),(1511834,'Ratio of spilled records to output records','0.0',NULL),(1511835,'Avg Physical Memory (MB)','656',NULL),(1511835,'Avg task runtime','1 min 9 sec',NULL),(1511835,'Avg Virtual Memory (MB)','2354',NULL),(1511835,'Max Physical Memory (MB)','743',NULL),(1511835,'Min Physical Memory (MB)','500',NULL),(1511835,'Number of tasks','3',NULL),(1511835,'Requested Container Memory','2 GB',NULL),(1511836,'Group A','0 tasks @ 0 bytes avg',NULL),(1511836,'Group B','0 tasks @ 0 bytes avg',NULL),(1511836,'Number of tasks','0',NULL),(1511837,'Avg task CPU time (ms)','0',NULL),(1511837,'Avg task GC time (ms)','0',NULL),(1511837,'Avg task runtime (ms)','0',NULL),(1511837,'Number of tasks','0',NULL),(1511837,'Task GC/CPU ratio','0.0',NULL),(1511838,'Average task runtime','0 sec',NULL),(1511838,'Max task runtime','0 sec',NULL),(1511838,'Min task runtime','0 sec',NULL),(1511838,'Number of tasks','0',NULL),(1511839,'Avg Physical Memory (MB)','0',NULL),(1511839,'Avg task runtime','0 sec',NULL),(1511839,'Avg Virtual Memory (MB)','0',NULL),(1511839,'Max Physical Memory (MB)','0',NULL),(1511839,'Min Physical Memory (MB)','0',NULL),(1511839,'Number of tasks','0',NULL),(1511839,'Requested Container Memory','2 GB',NULL),(1511840,'Average code runtime','0 sec',NULL),(1511840,'Average shuffle time','0 sec ',NULL),(1511840,'Average sort time','0 sec ',NULL),(1511840,'Number of tasks','0',NULL),(1511842,'Group A','1 tasks @ 157 MB avg',NULL),(1511842,'Group B','2 tasks @ 504 MB avg',NULL),(1511842,'Number of tasks','3',NULL),(1511843,'Avg task CPU time (ms)','148426',NULL),(1511843,'Avg task GC time (ms)','3774',NULL),(1511843,'Avg task runtime (ms)','161024',NULL),(1511843,'Number of tasks','3',NULL),(1511843,'Task GC/CPU ratio','0.025426812014067615',NULL),(1511844,'Average task input size','388 MB',NULL),(1511844,'Average task runtime','2 min 41 sec',NULL),(1511844,'Max task runtime','3 min 22 sec',NULL),(1511844,'Min task runtime','1 min 25 sec',NULL),(1511844,'Number of tasks','3',NULL),(1511845,'Median task input size','500 MB',NULL),(1511845,'Median task runtime','3 min 14 sec',NULL),(1511845,'Median task speed','2 MB/s',NULL),(1511845,'Number of tasks','3',NULL),(1511845,'Total input size in MB','1165.6459951400757',NULL),(1511846,'Avg output records per task','1157494',NULL),(1511846,'Avg spilled records per task','0',NULL),(1511846,'Number of tasks','3',NULL),(1511846,'Ratio of spilled records to output records','0.0',NULL),(1511847,'Avg Physical Memory (MB)','904',NULL),(1511847,'Avg task runtime','2 min 41 sec',NULL),(1511847,'Avg Virtual Memory (MB)','2388',NULL),(1511847,'Max Physical Memory (MB)','1109',NULL),(1511847,'Min Physical Memory (MB)','747',NULL),(1511847,'Number of tasks','3',NULL),(1511847,'Requested Container Memory','2 GB',NULL),(1511848,'Group A','0 tasks @ 0 bytes avg',NULL),(1511848,'Group B','0 tasks @ 0 bytes avg',NULL),(1511848,'Number of tasks','0',NULL),(1511849,'Avg task CPU time (ms)','0',NULL),(1511849,'Avg task GC time (ms)','0',NULL),(1511849,'Avg task runtime (ms)','0',NULL),(1511849,'Number of tasks','0',NULL),(1511849,'Task GC/CPU ratio','0.0',NULL),(1511850,'Average task runtime','0 sec',NULL),(1511850,'Max task runtime','0 sec',NULL),(1511850,'Min task runtime','0 sec',NULL),(1511850,'Number of tasks','0',NULL),(1511851,'Avg Physical Memory (MB)','0',NULL),(1511851,'Avg task runtime','0 sec',NULL),(1511851,'Avg Virtual Memory (MB)','0',NULL),(1511851,'Max Physical Memory (MB)','0',NULL),(1511851,'Min Physical Memory (MB)','0',NULL),(1511851,'Number of tasks','0',NULL),(1511851,'Requested Container Memory','2 GB',NULL),(1511852,'Average code runtime','0 sec',NULL),(1511852,'Average shuffle time','0 sec ',NULL),(1511852,'Average sort time','0 sec ',NULL),(1511852,'Number of tasks','0',NULL),(1511866,'Group A','105 tasks @ 302 MB avg',NULL),(1511866,'Group B','99 tasks @ 471 MB avg',NULL),(1511866,'Number of tasks','204',NULL),(1511867,'Avg task CPU time (ms)','69552',NULL),(1511867,'Avg task GC time (ms)','431',NULL),(1511867,'Avg task runtime (ms)','81565',NULL),(1511867,'Number of tasks','204',NULL),(1511867,'Task GC/CPU ratio','0.006196802392454567',NULL),(1511868,'Average task input size','384 MB',NULL),(1511868,'Average task runtime','1 min 21 sec',NULL),(1511868,'Max task runtime','2 min 41 sec',NULL),(1511868,'Min task runtime','41 sec',NULL),(1511868,'Number of tasks','204',NULL),(1511869,'Median task input size','377 MB',NULL),(1511869,'Median task runtime','1 min 19 sec',NULL),(1511869,'Median task speed','4 MB/s',NULL),(1511869,'Number of tasks','204',NULL),(1511869,'Total input size in MB','78404.13675880432',NULL),(1511870,'Avg output records per task','1411730',NULL),(1511870,'Avg spilled records per task','0',NULL),(1511870,'Number of tasks','204',NULL),(1511870,'Ratio of spilled records to output records','0.0',NULL),(1511871,'Avg Physical Memory (MB)','722',NULL),(1511871,'Avg task runtime','1 min 21 sec',NULL),(1511871,'Avg Virtual Memory (MB)','2358',NULL),(1511871,'Max Physical Memory (MB)','768',NULL),(1511871,'Min Physical Memory (MB)','669',NULL),(1511871,'Number of tasks','204',NULL),(1511871,'Requested Container Memory','2 GB',NULL),(1511872,'Group A','0 tasks @ 0 bytes avg',NULL),(1511872,'Group B','0 tasks @ 0 bytes avg',NULL),(1511872,'Number of tasks','0',NULL),(1511873,'Avg task CPU time (ms)','0',NULL),(1511873,'Avg task GC time (ms)','0',NULL),(1511873,'Avg task runtime (ms)','0',NULL),(1511873,'Number of tasks','0',NULL),(1511873,'Task GC/CPU ratio','0.0',NULL),(1511874,'Average task runtime','0 sec',NULL),(1511874,'Max task runtime','0 sec',NULL),(1511874,'Min task runtime','0 sec',NULL),(1511874,'Number of tasks','0',NULL),(1511875,'Avg Physical Memory (MB)','0',NULL),(1511875,'Avg task runtime','0 sec',NULL),(1511875,'Avg Virtual Memory (MB)','0',NULL),(1511875,'Max Physical Memory (MB)','0',NULL),(1511875,'Min Physical Memory (MB)','0',NULL),(1511875,'Number of tasks','0',NULL),(1511875,'Requested Container Memory','2 GB',NULL),(1511876,'Average code runtime','0 sec',NULL),(1511876,'Average shuffle time','0 sec ',NULL),(1511876,'Average sort time','0 sec ',NULL),(1511876,'Number of tasks','0',NULL),(1511878,'Group A','348 tasks @ 300 MB avg',NULL),(1511878,'Group B','255 tasks @ 438 MB avg',NULL),(1511878,'Number of tasks','603',NULL),(1511879,'Avg task CPU time (ms)','74298',NULL),(1511879,'Avg task GC time (ms)','762',NULL),(1511879,'Avg task runtime (ms)','84955',NULL),(1511879,'Number of tasks','603',NULL),(1511879,'Task GC/CPU ratio','0.010255996123718001',NULL),(1511880,'Average task input size','358 MB',NULL),(1511880,'Average task runtime','1 min 24 sec',NULL),(1511880,'Max task runtime','2 min 53 sec',NULL),(1511880,'Min task runtime','39 sec',NULL),(1511880,'Number of tasks','603',NULL),(1511881,'Median task input size','336 MB',NULL),(1511881,'Median task runtime','1 min 21 sec',NULL),(1511881,'Median task speed','4 MB/s',NULL),(1511881,'Number of tasks','603',NULL),(1511881,'Total input size in MB','216403.73294448853',NULL),(1511882,'Avg output records per task','327606',NULL),(1511882,'Avg spilled records per task','0',NULL),(1511882,'Number of tasks','603',NULL),(1511882,'Ratio of spilled records to output records','0.0',NULL),(1511883,'Avg Physical Memory (MB)','714',NULL),(1511883,'Avg task runtime','1 min 24 sec',NULL),(1511883,'Avg Virtual Memory (MB)','2352',NULL),(1511883,'Max Physical Memory (MB)','854',NULL),(1511883,'Min Physical Memory (MB)','650',NULL),(1511883,'Number of tasks','603',NULL),(1511883,'Requested Container Memory','2 GB',NULL),(1511884,'Group A','0 tasks @ 0 bytes avg',NULL),(1511884,'Group B','0 tasks @ 0 bytes avg',NULL),(1511884,'Number of tasks','0',NULL),(1511885,'Avg task CPU time (ms)','0',NULL),(1511885,'Avg task GC time (ms)','0',NULL),(1511885,'Avg task runtime (ms)','0',NULL),(1511885,'Number of tasks','0',NULL),(1511885,'Task GC/CPU ratio','0.0',NULL),(1511886,'Average task runtime','0 sec',NULL),(1511886,'Max task runtime','0 sec',NULL),(1511886,'Min task runtime','0 sec',NULL),(1511886,'Number of tasks','0',NULL),(1511887,'Avg Physical Memory (MB)','0',NULL),(1511887,'Avg task runtime','0 sec',NULL),(1511887,'Avg Virtual Memory (MB)','0',NULL),(1511887,'Max Physical Memory (MB)','0',NULL),(1511887,'Min Physical Memory (MB)','0',NULL),(1511887,'Number of tasks','0',NULL),(1511887,'Requested Container Memory','2 GB',NULL),(1511888,'Average code runtime','0 sec',NULL),(1511888,'Average shuffle time','0 sec ',NULL),(1511888,'Average sort time','0 sec ',NULL),(1511888,'Number of tasks','0',NULL),(1511902,'Group A','959 tasks @ 318 MB avg',NULL),(1511902,'Group B','986 tasks @ 467 MB avg',NULL),(1511902,'Number of tasks','1945',NULL),(1511903,'Avg task CPU time (ms)','76812',NULL),(1511903,'Avg task GC time (ms)','876',NULL),(1511903,'Avg task runtime (ms)','88276',NULL),(1511903,'Number of tasks','1945',NULL),(1511903,'Task GC/CPU ratio','0.011404468051866895',NULL),(1511904,'Average task input size','393 MB',NULL),(1511904,'Average task runtime','1 min 28 sec',NULL),(1511904,'Max task runtime','4 min 28 sec',NULL),(1511904,'Min task runtime','34 sec',NULL),(1511904,'Number of tasks','1945',NULL),(1511905,'Median task input size','396 MB',NULL),(1511905,'Median task runtime','1 min 24 sec',NULL),(1511905,'Median task speed','4 MB/s',NULL),(1511905,'Number of tasks','1945',NULL),(1511905,'Total input size in MB','766235.623585701',NULL),(1511906,'Avg output records per task','377268',NULL),(1511906,'Avg spilled records per task','0',NULL),(1511906,'Number of tasks','1945',NULL),(1511906,'Ratio of spilled records to output records','0.0',NULL),(1511907,'Avg Physical Memory (MB)','719',NULL),(1511907,'Avg task runtime','1 min 28 sec',NULL),(1511907,'Avg Virtual Memory (MB)','2354',NULL),(1511907,'Max Physical Memory (MB)','895',NULL),(1511907,'Min Physical Memory (MB)','675',NULL),(1511907,'Number of tasks','1945',NULL),(1511907,'Requested Container Memory','2 GB',NULL),(1511908,'Group A','0 tasks @ 0 bytes avg',NULL),(1511908,'Group B','0 tasks @ 0 bytes avg',NULL),(1511908,'Number of tasks','0',NULL),(1511909,'Avg task CPU time (ms)','0',NULL),(1511909,'Avg task GC time (ms)','0',NULL),(1511909,'Avg task runtime (ms)','0',NULL),(1511909,'Number of tasks','0',NULL),(1511909,'Task GC/CPU ratio','0.0',NULL),(1511910,'Average task runtime','0 sec',NULL),(1511910,'Max task runtime','0 sec',NULL),(1511910,'Min task runtime','0 sec',NULL),(1511910,'Number of tasks','0',NULL),(1511911,'Avg Physical Memory (MB)','0',NULL),(1511911,'Avg task runtime','0 sec',NULL),(1511911,'Avg Virtual Memory (MB)','0',NULL),(1511911,'Max Physical Memory (MB)','0',NULL),(1511911,'Min Physical Memory (MB)','0',NULL),(1511911,'Number of tasks','0',NULL),(1511911,'Requested Container Memory','2 GB',NULL),(1511912,'Average code runtime','0 sec',NULL),(1511912,'Average shuffle time','0 sec ',NULL),(1511912,'Average sort time','0 sec ',NULL),(1511912,'Number of tasks','0',NULL),(1519428,'Group A','1 tasks @ 297 MB avg',NULL),(1519428,'Group B','1 tasks @ 497 MB avg',NULL),(1519428,'Number of tasks','2',NULL),(1519429,'Avg task CPU time (ms)','160770',NULL),(1519429,'Avg task GC time (ms)','4433',NULL),(1519429,'Avg task runtime (ms)','90300',NULL),(1519429,'Number of tasks','2',NULL),(1519429,'Task GC/CPU ratio','0.027573552279654166',NULL),(1519430,'Average task input size','397 MB',NULL),(1519430,'Average task runtime','1 min 30 sec',NULL),(1519430,'Max task runtime','1 min 47 sec',NULL),(1519430,'Min task runtime','1 min 13 sec',NULL),(1519430,'Number of tasks','2',NULL),(1519431,'Median task input size','397 MB',NULL),(1519431,'Median task runtime','1 min 30 sec',NULL),(1519431,'Median task speed','4 MB/s',NULL),(1519431,'Number of tasks','2',NULL),(1519431,'Total input size in MB','794.1982917785645',NULL),(1519432,'Avg output records per task','1244514',NULL),(1519432,'Avg spilled records per task','0',NULL),(1519432,'Number of tasks','2',NULL),(1519432,'Ratio of spilled records to output records','0.0',NULL),(1519433,'Avg Physical Memory (MB)','766',NULL),(1519433,'Avg task runtime','1 min 30 sec',NULL),(1519433,'Avg Virtual Memory (MB)','2966',NULL),(1519433,'Max Physical Memory (MB)','826',NULL),(1519433,'Min Physical Memory (MB)','707',NULL),(1519433,'Number of tasks','2',NULL),(1519433,'Requested Container Memory','1 GB',NULL),(1519434,'Group A','0 tasks @ 0 bytes avg',NULL),(1519434,'Group B','0 tasks @ 0 bytes avg',NULL),(1519434,'Number of tasks','0',NULL),(1519435,'Avg task CPU time (ms)','0',NULL),(1519435,'Avg task GC time (ms)','0',NULL),(1519435,'Avg task runtime (ms)','0',NULL),(1519435,'Number of tasks','0',NULL),(1519435,'Task GC/CPU ratio','0.0',NULL),(1519436,'Average task runtime','0 sec',NULL),(1519436,'Max task runtime','0 sec',NULL),(1519436,'Min task runtime','0 sec',NULL),(1519436,'Number of tasks','0',NULL),(1519437,'Avg Physical Memory (MB)','0',NULL),(1519437,'Avg task runtime','0 sec',NULL),(1519437,'Avg Virtual Memory (MB)','0',NULL),(1519437,'Max Physical Memory (MB)','0',NULL),(1519437,'Min Physical Memory (MB)','0',NULL),(1519437,'Number of tasks','0',NULL),(1519437,'Requested Container Memory','1 GB',NULL),(1519438,'Average code runtime','0 sec',NULL),(1519438,'Average shuffle time','0 sec ',NULL),(1519438,'Average sort time','0 sec ',NULL),(1519438,'Number of tasks','0',NULL),(1519440,'Group A','1 tasks @ 304 MB avg',NULL),(1519440,'Group B','1 tasks @ 512 MB avg',NULL),(1519440,'Number of tasks','2',NULL),(1519441,'Avg task CPU time (ms)','117545',NULL),(1519441,'Avg task GC time (ms)','2388',NULL),(1519441,'Avg task runtime (ms)','79402',NULL),(1519441,'Number of tasks','2',NULL),(1519441,'Task GC/CPU ratio','0.020315623803649666',NULL),(1519442,'Average task input size','408 MB',NULL),(1519442,'Average task runtime','1 min 19 sec',NULL),(1519442,'Max task runtime','1 min 37 sec',NULL),(1519442,'Min task runtime','1 min 1 sec',NULL),(1519442,'Number of tasks','2',NULL),(1519443,'Median task input size','408 MB',NULL),(1519443,'Median task runtime','1 min 19 sec',NULL),(1519443,'Median task speed','5 MB/s',NULL),(1519443,'Number of tasks','2',NULL),(1519443,'Total input size in MB','817.0285835266113',NULL),(1519444,'Avg output records per task','1193587',NULL),(1519444,'Avg spilled records per task','0',NULL),(1519444,'Number of tasks','2',NULL),(1519444,'Ratio of spilled records to output records','0.0',NULL),(1519445,'Avg Physical Memory (MB)','742',NULL),(1519445,'Avg task runtime','1 min 19 sec',NULL),(1519445,'Avg Virtual Memory (MB)','2921',NULL),(1519445,'Max Physical Memory (MB)','807',NULL),(1519445,'Min Physical Memory (MB)','676',NULL),(1519445,'Number of tasks','2',NULL),(1519445,'Requested Container Memory','1 GB',NULL),(1519446,'Group A','0 tasks @ 0 bytes avg',NULL),(1519446,'Group B','0 tasks @ 0 bytes avg',NULL),(1519446,'Number of tasks','0',NULL),(1519447,'Avg task CPU time (ms)','0',NULL),(1519447,'Avg task GC time (ms)','0',NULL),(1519447,'Avg task runtime (ms)','0',NULL),(1519447,'Number of tasks','0',NULL),(1519447,'Task GC/CPU ratio','0.0',NULL),(1519448,'Average task runtime','0 sec',NULL),(1519448,'Max task runtime','0 sec',NULL),(1519448,'Min task runtime','0 sec',NULL),(1519448,'Number of tasks','0',NULL),(1519449,'Avg Physical Memory (MB)','0',NULL),(1519449,'Avg task runtime','0 sec',NULL),(1519449,'Avg Virtual Memory (MB)','0',NULL),(1519449,'Max Physical Memory (MB)','0',NULL),(1519449,'Min Physical Memory (MB)','0',NULL),(1519449,'Number of tasks','0',NULL),(1519449,'Requested Container Memory','1 GB',NULL),(1519450,'Average code runtime','0 sec',NULL),(1519450,'Average shuffle time','0 sec ',NULL),(1519450,'Average sort time','0 sec ',NULL),(1519450,'Number of tasks','0',NULL),(1519452,'Group A','1 tasks @ 271 MB avg',NULL),(1519452,'Group B','1 tasks @ 510 MB avg',NULL),(1519452,'Number of tasks','2',NULL),(1519453,'Avg task CPU time (ms)','56870',NULL),(1519453,'Avg task GC time (ms)','442',NULL),(1519453,'Avg task runtime (ms)','52394',NULL),(1519453,'Number of tasks','2',NULL),(1519453,'Task GC/CPU ratio','0.007772111834007386',NULL),(1519454,'Average task input size','391 MB',NULL),(1519454,'Average task runtime','52 sec',NULL),(1519454,'Max task runtime','1 min 5 sec',NULL),(1519454,'Min task runtime','39 sec',NULL),(1519454,'Number of tasks','2',NULL),(1519455,'Median task input size','391 MB',NULL),(1519455,'Median task runtime','52 sec',NULL),(1519455,'Median task speed','7 MB/s',NULL),(1519455,'Number of tasks','2',NULL),(1519455,'Total input size in MB','782.293210029602',NULL),(1519456,'Avg output records per task','1244941',NULL),(1519456,'Avg spilled records per task','0',NULL),(1519456,'Number of tasks','2',NULL),(1519456,'Ratio of spilled records to output records','0.0',NULL),(1519457,'Avg Physical Memory (MB)','623',NULL),(1519457,'Avg task runtime','52 sec',NULL),(1519457,'Avg Virtual Memory (MB)','2923',NULL),(1519457,'Max Physical Memory (MB)','624',NULL),(1519457,'Min Physical Memory (MB)','622',NULL),(1519457,'Number of tasks','2',NULL),(1519457,'Requested Container Memory','1 GB',NULL),(1519458,'Group A','0 tasks @ 0 bytes avg',NULL),(1519458,'Group B','0 tasks @ 0 bytes avg',NULL),(1519458,'Number of tasks','0',NULL),(1519459,'Avg task CPU time (ms)','0',NULL),(1519459,'Avg task GC time (ms)','0',NULL),(1519459,'Avg task runtime (ms)','0',NULL),(1519459,'Number of tasks','0',NULL),(1519459,'Task GC/CPU ratio','0.0',NULL),(1519460,'Average task runtime','0 sec',NULL),(1519460,'Max task runtime','0 sec',NULL),(1519460,'Min task runtime','0 sec',NULL),(1519460,'Number of tasks','0',NULL),(1519461,'Avg Physical Memory (MB)','0',NULL),(1519461,'Avg task runtime','0 sec',NULL),(1519461,'Avg Virtual Memory (MB)','0',NULL),(1519461,'Max Physical Memory (MB)','0',NULL),(1519461,'Min Physical Memory (MB)','0',NULL),(1519461,'Number of tasks','0',NULL),(1519461,'Requested Container Memory','1 GB',NULL),(1519462,'Average code runtime','0 sec',NULL),(1519462,'Average shuffle time','0 sec ',NULL),(1519462,'Average sort time','0 sec ',NULL),(1519462,'Number of tasks','0',NULL),(1519464,'Group A','49 tasks @ 305 MB avg',NULL),(1519464,'Group B','100 tasks @ 488 MB avg',NULL),(1519464,'Number of tasks','149',NULL),(1519465,'Avg task CPU time (ms)','65602',NULL),(1519465,'Avg task GC time (ms)','717',NULL),(1519465,'Avg task runtime (ms)','56899',NULL),(1519465,'Number of tasks','149',NULL),(1519465,'Task GC/CPU ratio','0.010929544830950277',NULL),(1519466,'Average task input size','427 MB',NULL),(1519466,'Average task runtime','56 sec',NULL),(1519466,'Max task runtime','1 min 43 sec',NULL),(1519466,'Min task runtime','28 sec',NULL),(1519466,'Number of tasks','149',NULL),(1519467,'Median task input size','474 MB',NULL),(1519467,'Median task runtime','56 sec',NULL),(1519467,'Median task speed','7 MB/s',NULL),(1519467,'Number of tasks','149',NULL),(1519467,'Total input size in MB','63770.37501811981',NULL),(1519468,'Avg output records per task','1560839',NULL),(1519468,'Avg spilled records per task','0',NULL),(1519468,'Number of tasks','149',NULL),(1519468,'Ratio of spilled records to output records','0.0',NULL),(1519469,'Avg Physical Memory (MB)','612',NULL),(1519469,'Avg task runtime','56 sec',NULL),(1519469,'Avg Virtual Memory (MB)','2928',NULL),(1519469,'Max Physical Memory (MB)','645',NULL),(1519469,'Min Physical Memory (MB)','572',NULL),(1519469,'Number of tasks','149',NULL),(1519469,'Requested Container Memory','1 GB',NULL),(1519470,'Group A','0 tasks @ 0 bytes avg',NULL),(1519470,'Group B','0 tasks @ 0 bytes avg',NULL),(1519470,'Number of tasks','0',NULL),(1519471,'Avg task CPU time (ms)','0',NULL),(1519471,'Avg task GC time (ms)','0',NULL),(1519471,'Avg task runtime (ms)','0',NULL),(1519471,'Number of tasks','0',NULL),(1519471,'Task GC/CPU ratio','0.0',NULL),(1519472,'Average task runtime','0 sec',NULL),(1519472,'Max task runtime','0 sec',NULL),(1519472,'Min task runtime','0 sec',NULL),(1519472,'Number of tasks','0',NULL),(1519473,'Avg Physical Memory (MB)','0',NULL),(1519473,'Avg task runtime','0 sec',NULL),(1519473,'Avg Virtual Memory (MB)','0',NULL),(1519473,'Max Physical Memory (MB)','0',NULL),(1519473,'Min Physical Memory (MB)','0',NULL),(1519473,'Number of tasks','0',NULL),(1519473,'Requested Container Memory','1 GB',NULL),(1519474,'Average code runtime','0 sec',NULL),(1519474,'Average shuffle time','0 sec ',NULL),(1519474,'Average sort time','0 sec ',NULL),(1519474,'Number of tasks','0',NULL),(1519476,'Group A','305 tasks @ 295 MB avg',NULL),(1519476,'Group B','193 tasks @ 453 MB avg',NULL),(1519476,'Number of tasks','498',NULL),(1519477,'Avg task CPU time (ms)','67224',NULL),(1519477,'Avg task GC time (ms)','978',NULL),(1519477,'Avg task runtime (ms)','52679',NULL),(1519477,'Number of tasks','498',NULL),(1519477,'Task GC/CPU ratio','0.014548375580149946',NULL),(1519478,'Average task input size','357 MB',NULL),(1519478,'Average task runtime','52 sec',NULL),(1519478,'Max task runtime','1 min 54 sec',NULL),(1519478,'Min task runtime','32 sec',NULL),(1519478,'Number of tasks','498',NULL),(1519479,'Median task input size','321 MB',NULL),(1519479,'Median task runtime','49 sec',NULL),(1519479,'Median task speed','7 MB/s',NULL),(1519479,'Number of tasks','498',NULL),(1519479,'Total input size in MB','177790.3564529419',NULL),(1519480,'Avg output records per task','306035',NULL),(1519480,'Avg spilled records per task','0',NULL),(1519480,'Number of tasks','498',NULL),(1519480,'Ratio of spilled records to output records','0.0',NULL),(1519481,'Avg Physical Memory (MB)','604',NULL),(1519481,'Avg task runtime','52 sec',NULL),(1519481,'Avg Virtual Memory (MB)','2927',NULL),(1519481,'Max Physical Memory (MB)','728',NULL),(1519481,'Min Physical Memory (MB)','565',NULL),(1519481,'Number of tasks','498',NULL),(1519481,'Requested Container Memory','1 GB',NULL),(1519482,'Group A','0 tasks @ 0 bytes avg',NULL),(1519482,'Group B','0 tasks @ 0 bytes avg',NULL),(1519482,'Number of tasks','0',NULL),(1519483,'Avg task CPU time (ms)','0',NULL),(1519483,'Avg task GC time (ms)','0',NULL),(1519483,'Avg task runtime (ms)','0',NULL),(1519483,'Number of tasks','0',NULL),(1519483,'Task GC/CPU ratio','0.0',NULL),(1519484,'Average task runtime','0 sec',NULL),(1519484,'Max task runtime','0 sec',NULL),(1519484,'Min task runtime','0 sec',NULL),(1519484,'Number of tasks','0',NULL),(1519485,'Avg Physical Memory (MB)','0',NULL),(1519485,'Avg task runtime','0 sec',NULL),(1519485,'Avg Virtual Memory (MB)','0',NULL),(1519485,'Max Physical Memory (MB)','0',NULL),(1519485,'Min Physical Memory (MB)','0',NULL),(1519485,'Number of tasks','0',NULL),(1519485,'Requested Container Memory','1 GB',NULL),(1519486,'Average code runtime','0 sec',NULL),(1519486,'Average shuffle time','0 sec ',NULL),(1519486,'Average sort time','0 sec ',NULL),(1519486,'Number of tasks','0',NULL),(1519488,'Group A','297 tasks @ 291 MB avg',NULL),(1519488,'Group B','200 tasks @ 458 MB avg',NULL),(1519488,'Number of tasks','497',NULL),(1519489,'Avg task CPU time (ms)','67218',NULL),(1519489,'Avg task GC time (ms)','994',NULL),(1519489,'Avg task runtime (ms)','54348',NULL),(1519489,'Number of tasks','497',NULL),(1519489,'Task GC/CPU ratio','0.014787705674075396',NULL),(1519490,'Average task input size','358 MB',NULL),(1519490,'Average task runtime','54 sec',NULL),(1519490,'Max task runtime','1 min 59 sec',NULL),(1519490,'Min task runtime','31 sec',NULL),(1519490,'Number of tasks','497',NULL),(1519491,'Median task input size','320 MB',NULL),(1519491,'Median task runtime','51 sec',NULL),(1519491,'Median task speed','6 MB/s',NULL),(1519491,'Number of tasks','497',NULL),(1519491,'Total input size in MB','178118.81388187408',NULL),(1519492,'Avg output records per task','309389',NULL),(1519492,'Avg spilled records per task','0',NULL),(1519492,'Number of tasks','497',NULL),(1519492,'Ratio of spilled records to output records','0.0',NULL),(1519493,'Avg Physical Memory (MB)','602',NULL),(1519493,'Avg task runtime','54 sec',NULL),(1519493,'Avg Virtual Memory (MB)','2924',NULL),(1519493,'Max Physical Memory (MB)','716',NULL),(1519493,'Min Physical Memory (MB)','568',NULL),(1519493,'Number of tasks','497',NULL),(1519493,'Requested Container Memory','1 GB',NULL),(1519494,'Group A','0 tasks @ 0 bytes avg',NULL),(1519494,'Group B','0 tasks @ 0 bytes avg',NULL),(1519494,'Number of tasks','0',NULL),(1519495,'Avg task CPU time (ms)','0',NULL),(1519495,'Avg task GC time (ms)','0',NULL),(1519495,'Avg task runtime (ms)','0',NULL),(1519495,'Number of tasks','0',NULL),(1519495,'Task GC/CPU ratio','0.0',NULL),(1519496,'Average task runtime','0 sec',NULL),(1519496,'Max task runtime','0 sec',NULL),(1519496,'Min task runtime','0 sec',NULL),(1519496,'Number of tasks','0',NULL),(1519497,'Avg Physical Memory (MB)','0',NULL),(1519497,'Avg task runtime','0 sec',NULL),(1519497,'Avg Virtual Memory (MB)','0',NULL),(1519497,'Max Physical Memory (MB)','0',NULL),(1519497,'Min Physical Memory (MB)','0',NULL),(1519497,'Number of tasks','0',NULL),(1519497,'Requested Container Memory','1 GB',NULL),(1519498,'Average code runtime','0 sec',NULL),(1519498,'Average shuffle time','0 sec ',NULL),(1519498,'Average sort time','0 sec ',NULL),(1519498,'Number of tasks','0',NULL),(1519512,'Group A','896 tasks @ 310 MB avg',NULL),(1519512,'Group B','734 tasks @ 448 MB avg',NULL),(1519512,'Number of tasks','1630',NULL),(1519513,'Avg task CPU time (ms)','72118',NULL),(1519513,'Avg task GC time (ms)','1457',NULL),(1519513,'Avg task runtime (ms)','59668',NULL),(1519513,'Number of tasks','1630',NULL),(1519513,'Task GC/CPU ratio','0.020203000637843534',NULL),(1519514,'Average task input size','372 MB',NULL),(1519514,'Average task runtime','59 sec',NULL),(1519514,'Max task runtime','2 min 8 sec',NULL),(1519514,'Min task runtime','30 sec',NULL),(1519514,'Number of tasks','1630',NULL),(1519515,'Median task input size','359 MB',NULL),(1519515,'Median task runtime','58 sec',NULL),(1519515,'Median task speed','6 MB/s',NULL),(1519515,'Number of tasks','1630',NULL),(1519515,'Total input size in MB','607747.2612476349',NULL),(1519516,'Avg output records per task','336482',NULL),(1519516,'Avg spilled records per task','0',NULL),(1519516,'Number of tasks','1630',NULL),(1519516,'Ratio of spilled records to output records','0.0',NULL),(1519517,'Avg Physical Memory (MB)','605',NULL),(1519517,'Avg task runtime','59 sec',NULL),(1519517,'Avg Virtual Memory (MB)','2927',NULL),(1519517,'Max Physical Memory (MB)','692',NULL),(1519517,'Min Physical Memory (MB)','562',NULL),(1519517,'Number of tasks','1630',NULL),(1519517,'Requested Container Memory','1 GB',NULL),(1519518,'Group A','0 tasks @ 0 bytes avg',NULL),(1519518,'Group B','0 tasks @ 0 bytes avg',NULL),(1519518,'Number of tasks','0',NULL),(1519519,'Avg task CPU time (ms)','0',NULL),(1519519,'Avg task GC time (ms)','0',NULL),(1519519,'Avg task runtime (ms)','0',NULL),(1519519,'Number of tasks','0',NULL),(1519519,'Task GC/CPU ratio','0.0',NULL),(1519520,'Average task runtime','0 sec',NULL),(1519520,'Max task runtime','0 sec',NULL),(1519520,'Min task runtime','0 sec',NULL),(1519520,'Number of tasks','0',NULL),(1519521,'Avg Physical Memory (MB)','0',NULL),(1519521,'Avg task runtime','0 sec',NULL),(1519521,'Avg Virtual Memory (MB)','0',NULL),(1519521,'Max Physical Memory (MB)','0',NULL),(1519521,'Min Physical Memory (MB)','0',NULL),(1519521,'Number of tasks','0',NULL),(1519521,'Requested Container Memory','1 GB',NULL),(1519522,'Average code runtime','0 sec',NULL),(1519522,'Average shuffle time','0 sec ',NULL),(1519522,'Average sort time','0 sec ',NULL),(1519522,'Number of tasks','0',NULL),(1519524,'Group A','1 tasks @ 381 MB avg',NULL),(1519524,'Group B','500 tasks @ 1 GB avg',NULL),(1519524,'Number of tasks','501',NULL),(1519525,'Avg task CPU time (ms)','126005',NULL),(1519525,'Avg task GC time (ms)','3854',NULL),(1519525,'Avg task runtime (ms)','105024',NULL),(1519525,'Number of tasks','501',NULL),(1519525,'Task GC/CPU ratio','0.0305860878536566',NULL),(1519526,'Average task input size','1 GB',NULL),(1519526,'Average task runtime','1 min 45 sec',NULL),(1519526,'Max task runtime','3 min 19 sec',NULL),(1519526,'Min task runtime','13 sec',NULL),(1519526,'Number of tasks','501',NULL),(1519527,'Median task input size','953 MB',NULL),(1519527,'Median task runtime','1 min 40 sec',NULL),(1519527,'Median task speed','10 MB/s',NULL),(1519527,'Number of tasks','501',NULL),(1519527,'Total input size in MB','528976.7128763199',NULL),(1519528,'Avg output records per task','757787',NULL),(1519528,'Avg spilled records per task','245456',NULL),(1519528,'Number of tasks','501',NULL),(1519528,'Ratio of spilled records to output records','0.3239116237443114',NULL),(1519529,'Avg Physical Memory (MB)','982',NULL),(1519529,'Avg task runtime','1 min 45 sec',NULL),(1519529,'Avg Virtual Memory (MB)','2923',NULL),(1519529,'Max Physical Memory (MB)','1096',NULL),(1519529,'Min Physical Memory (MB)','937',NULL),(1519529,'Number of tasks','501',NULL),(1519529,'Requested Container Memory','1 GB',NULL),(1519530,'Group A','280 tasks @ 7 MB avg',NULL),(1519530,'Group B','275 tasks @ 7 MB avg',NULL),(1519530,'Number of tasks','555',NULL),(1519531,'Avg task CPU time (ms)','8870',NULL),(1519531,'Avg task GC time (ms)','84',NULL),(1519531,'Avg task runtime (ms)','7490',NULL),(1519531,'Number of tasks','555',NULL),(1519531,'Task GC/CPU ratio','0.00947012401352875',NULL),(1519532,'Average task runtime','7 sec',NULL),(1519532,'Max task runtime','21 sec',NULL),(1519532,'Min task runtime','3 sec',NULL),(1519532,'Number of tasks','555',NULL),(1519533,'Avg Physical Memory (MB)','566',NULL),(1519533,'Avg task runtime','7 sec',NULL),(1519533,'Avg Virtual Memory (MB)','2944',NULL),(1519533,'Max Physical Memory (MB)','628',NULL),(1519533,'Min Physical Memory (MB)','509',NULL),(1519533,'Number of tasks','555',NULL),(1519533,'Requested Container Memory','1 GB',NULL),(1519534,'Average code runtime','',NULL),(1519534,'Average shuffle time','6 sec (27.00x)',NULL),(1519534,'Average sort time',' (1.25x)',NULL),(1519534,'Number of tasks','555',NULL),(1519536,'Group A','1 tasks @ 150 MB avg',NULL),(1519536,'Group B','1 tasks @ 154 MB avg',NULL),(1519536,'Number of tasks','2',NULL),(1519537,'Avg task CPU time (ms)','23865',NULL),(1519537,'Avg task GC time (ms)','307',NULL),(1519537,'Avg task runtime (ms)','18223',NULL),(1519537,'Number of tasks','2',NULL),(1519537,'Task GC/CPU ratio','0.01286402681751519',NULL),(1519538,'Average task input size','152 MB',NULL),(1519538,'Average task runtime','18 sec',NULL),(1519538,'Max task runtime','19 sec',NULL),(1519538,'Min task runtime','17 sec',NULL),(1519538,'Number of tasks','2',NULL),(1519539,'Median task input size','152 MB',NULL),(1519539,'Median task runtime','18 sec',NULL),(1519539,'Median task speed','8 MB/s',NULL),(1519539,'Number of tasks','2',NULL),(1519539,'Total input size in MB','305.83719635009766',NULL),(1519540,'Avg output records per task','2898219',NULL),(1519540,'Avg spilled records per task','5796438',NULL),(1519540,'Number of tasks','2',NULL),(1519540,'Ratio of spilled records to output records','2.0',NULL),(1519541,'Avg Physical Memory (MB)','920',NULL),(1519541,'Avg task runtime','18 sec',NULL),(1519541,'Avg Virtual Memory (MB)','2921',NULL),(1519541,'Max Physical Memory (MB)','921',NULL),(1519541,'Min Physical Memory (MB)','920',NULL),(1519541,'Number of tasks','2',NULL),(1519541,'Requested Container Memory','1 GB',NULL),(1519542,'Group A','0 tasks @ 0 bytes avg',NULL),(1519542,'Group B','1 tasks @ 187 MB avg',NULL),(1519542,'Number of tasks','1',NULL),(1519543,'Avg task CPU time (ms)','32280',NULL),(1519543,'Avg task GC time (ms)','299',NULL),(1519543,'Avg task runtime (ms)','26825',NULL),(1519543,'Number of tasks','1',NULL),(1519543,'Task GC/CPU ratio','0.00926270136307311',NULL),(1519544,'Average task runtime','26 sec',NULL),(1519544,'Max task runtime','26 sec',NULL),(1519544,'Min task runtime','26 sec',NULL),(1519544,'Number of tasks','1',NULL),(1519545,'Avg Physical Memory (MB)','761',NULL),(1519545,'Avg task runtime','26 sec',NULL),(1519545,'Avg Virtual Memory (MB)','2922',NULL),(1519545,'Max Physical Memory (MB)','761',NULL),(1519545,'Min Physical Memory (MB)','761',NULL),(1519545,'Number of tasks','1',NULL),(1519545,'Requested Container Memory','1 GB',NULL),(1519546,'Average code runtime','17 sec',NULL),(1519546,'Average shuffle time','5 sec (0.31x)',NULL),(1519546,'Average sort time','3 sec (0.19x)',NULL),(1519546,'Number of tasks','1',NULL),(1519548,'Group A','0 tasks @ 0 bytes avg',NULL),(1519548,'Group B','1 tasks @ 162 MB avg',NULL),(1519548,'Number of tasks','1',NULL),(1519549,'Avg task CPU time (ms)','42220',NULL),(1519549,'Avg task GC time (ms)','574',NULL),(1519549,'Avg task runtime (ms)','29318',NULL),(1519549,'Number of tasks','1',NULL),(1519549,'Task GC/CPU ratio','0.01359545239223117',NULL),(1519550,'Average task input size','162 MB',NULL),(1519550,'Average task runtime','29 sec',NULL),(1519550,'Max task runtime','29 sec',NULL),(1519550,'Min task runtime','29 sec',NULL),(1519550,'Number of tasks','1',NULL),(1519551,'Median task input size','162 MB',NULL),(1519551,'Median task runtime','29 sec',NULL),(1519551,'Median task speed','5 MB/s',NULL),(1519551,'Number of tasks','1',NULL),(1519551,'Total input size in MB','162.62904262542725',NULL),(1519552,'Avg output records per task','2909795',NULL),(1519552,'Avg spilled records per task','5819590',NULL),(1519552,'Number of tasks','1',NULL),(1519552,'Ratio of spilled records to output records','2.0',NULL),(1519553,'Avg Physical Memory (MB)','950',NULL),(1519553,'Avg task runtime','29 sec',NULL),(1519553,'Avg Virtual Memory (MB)','2910',NULL),(1519553,'Max Physical Memory (MB)','950',NULL),(1519553,'Min Physical Memory (MB)','950',NULL),(1519553,'Number of tasks','1',NULL),(1519553,'Requested Container Memory','1 GB',NULL),(1519554,'Group A','0 tasks @ 0 bytes avg',NULL),(1519554,'Group B','1 tasks @ 96 MB avg',NULL),(1519554,'Number of tasks','1',NULL),(1519555,'Avg task CPU time (ms)','27850',NULL),(1519555,'Avg task GC time (ms)','544',NULL),(1519555,'Avg task runtime (ms)','23846',NULL),(1519555,'Number of tasks','1',NULL),(1519555,'Task GC/CPU ratio','0.019533213644524237',NULL),(1519556,'Average task runtime','23 sec',NULL),(1519556,'Max task runtime','23 sec',NULL),(1519556,'Min task runtime','23 sec',NULL),(1519556,'Number of tasks','1',NULL),(1519557,'Avg Physical Memory (MB)','577',NULL),(1519557,'Avg task runtime','23 sec',NULL),(1519557,'Avg Virtual Memory (MB)','2930',NULL),(1519557,'Max Physical Memory (MB)','577',NULL),(1519557,'Min Physical Memory (MB)','577',NULL),(1519557,'Number of tasks','1',NULL),(1519557,'Requested Container Memory','1 GB',NULL),(1519558,'Average code runtime','15 sec',NULL),(1519558,'Average shuffle time','5 sec (0.37x)',NULL),(1519558,'Average sort time','2 sec (0.13x)',NULL),(1519558,'Number of tasks','1',NULL),(1519560,'Group A','0 tasks @ 0 bytes avg',NULL),(1519560,'Group B','1 tasks @ 157 MB avg',NULL),(1519560,'Number of tasks','1',NULL),(1519561,'Avg task CPU time (ms)','20500',NULL),(1519561,'Avg task GC time (ms)','309',NULL),(1519561,'Avg task runtime (ms)','16962',NULL),(1519561,'Number of tasks','1',NULL),(1519561,'Task GC/CPU ratio','0.015073170731707317',NULL),(1519562,'Average task input size','157 MB',NULL),(1519562,'Average task runtime','16 sec',NULL),(1519562,'Max task runtime','16 sec',NULL),(1519562,'Min task runtime','16 sec',NULL),(1519562,'Number of tasks','1',NULL),(1519563,'Median task input size','157 MB',NULL),(1519563,'Median task runtime','16 sec',NULL),(1519563,'Median task speed','9 MB/s',NULL),(1519563,'Number of tasks','1',NULL),(1519563,'Total input size in MB','157.62358570098877',NULL),(1519564,'Avg output records per task','2909795',NULL),(1519564,'Avg spilled records per task','5819590',NULL),(1519564,'Number of tasks','1',NULL),(1519564,'Ratio of spilled records to output records','2.0',NULL),(1519565,'Avg Physical Memory (MB)','901',NULL),(1519565,'Avg task runtime','16 sec',NULL),(1519565,'Avg Virtual Memory (MB)','2920',NULL),(1519565,'Max Physical Memory (MB)','901',NULL),(1519565,'Min Physical Memory (MB)','901',NULL),(1519565,'Number of tasks','1',NULL),(1519565,'Requested Container Memory','1 GB',NULL),(1519566,'Group A','0 tasks @ 0 bytes avg',NULL),(1519566,'Group B','1 tasks @ 93 MB avg',NULL),(1519566,'Number of tasks','1',NULL),(1519567,'Avg task CPU time (ms)','14500',NULL),(1519567,'Avg task GC time (ms)','115',NULL),(1519567,'Avg task runtime (ms)','14486',NULL),(1519567,'Number of tasks','1',NULL),(1519567,'Task GC/CPU ratio','0.007931034482758621',NULL),(1519568,'Average task runtime','14 sec',NULL),(1519568,'Max task runtime','14 sec',NULL),(1519568,'Min task runtime','14 sec',NULL),(1519568,'Number of tasks','1',NULL),(1519569,'Avg Physical Memory (MB)','551',NULL),(1519569,'Avg task runtime','14 sec',NULL),(1519569,'Avg Virtual Memory (MB)','2921',NULL),(1519569,'Max Physical Memory (MB)','551',NULL),(1519569,'Min Physical Memory (MB)','551',NULL),(1519569,'Number of tasks','1',NULL),(1519569,'Requested Container Memory','1 GB',NULL),(1519570,'Average code runtime','7 sec',NULL),(1519570,'Average shuffle time','5 sec (0.70x)',NULL),(1519570,'Average sort time','1 sec (0.23x)',NULL),(1519570,'Number of tasks','1',NULL),(1519572,'Group A','2 tasks @ 176 MB avg',NULL),(1519572,'Group B','31 tasks @ 511 MB avg',NULL),(1519572,'Number of tasks','33',NULL),(1519573,'Avg task CPU time (ms)','45107',NULL),(1519573,'Avg task GC time (ms)','574',NULL),(1519573,'Avg task runtime (ms)','32716',NULL),(1519573,'Number of tasks','33',NULL),(1519573,'Task GC/CPU ratio','0.012725297625645686',NULL),(1519574,'Average task input size','491 MB',NULL),(1519574,'Average task runtime','32 sec',NULL),(1519574,'Max task runtime','46 sec',NULL),(1519574,'Min task runtime','16 sec',NULL),(1519574,'Number of tasks','33',NULL),(1519575,'Median task input size','509 MB',NULL),(1519575,'Median task runtime','32 sec',NULL),(1519575,'Median task speed','15 MB/s',NULL),(1519575,'Number of tasks','33',NULL),(1519575,'Total input size in MB','16218.928217887878',NULL),(1519576,'Avg output records per task','5394385',NULL),(1519576,'Avg spilled records per task','10788771',NULL),(1519576,'Number of tasks','33',NULL),(1519576,'Ratio of spilled records to output records','2.0',NULL),(1519577,'Avg Physical Memory (MB)','930',NULL),(1519577,'Avg task runtime','32 sec',NULL),(1519577,'Avg Virtual Memory (MB)','2920',NULL),(1519577,'Max Physical Memory (MB)','947',NULL),(1519577,'Min Physical Memory (MB)','897',NULL),(1519577,'Number of tasks','33',NULL),(1519577,'Requested Container Memory','1 GB',NULL),(1519578,'Group A','17 tasks @ 127 MB avg',NULL),(1519578,'Group B','1 tasks @ 992 MB avg',NULL),(1519578,'Number of tasks','18',NULL),(1519579,'Avg task CPU time (ms)','39060',NULL),(1519579,'Avg task GC time (ms)','782',NULL),(1519579,'Avg task runtime (ms)','29503',NULL),(1519579,'Number of tasks','18',NULL),(1519579,'Task GC/CPU ratio','0.020020481310803893',NULL),(1519580,'Average task runtime','29 sec',NULL),(1519580,'Max task runtime','1 min 34 sec',NULL),(1519580,'Min task runtime','21 sec',NULL),(1519580,'Number of tasks','18',NULL),(1519581,'Avg Physical Memory (MB)','1288',NULL),(1519581,'Avg task runtime','29 sec',NULL),(1519581,'Avg Virtual Memory (MB)','2929',NULL),(1519581,'Max Physical Memory (MB)','1379',NULL),(1519581,'Min Physical Memory (MB)','1158',NULL),(1519581,'Number of tasks','18',NULL),(1519581,'Requested Container Memory','1 GB',NULL),(1519582,'Average code runtime','17 sec',NULL),(1519582,'Average shuffle time','10 sec (0.59x)',NULL),(1519582,'Average sort time','1 sec (0.08x)',NULL),(1519582,'Number of tasks','18',NULL),(1519584,'Group A','18 tasks @ 444 MB avg',NULL),(1519584,'Group B','9 tasks @ 478 MB avg',NULL),(1519584,'Number of tasks','27',NULL),(1519585,'Avg task CPU time (ms)','37574',NULL),(1519585,'Avg task GC time (ms)','857',NULL),(1519585,'Avg task runtime (ms)','28244',NULL),(1519585,'Number of tasks','27',NULL),(1519585,'Task GC/CPU ratio','0.022808324905519775',NULL),(1519586,'Average task input size','455 MB',NULL),(1519586,'Average task runtime','28 sec',NULL),(1519586,'Max task runtime','51 sec',NULL),(1519586,'Min task runtime','19 sec',NULL),(1519586,'Number of tasks','27',NULL),(1519587,'Median task input size','451 MB',NULL),(1519587,'Median task runtime','25 sec',NULL),(1519587,'Median task speed','17 MB/s',NULL),(1519587,'Number of tasks','27',NULL),(1519587,'Total input size in MB','12298.221353530884',NULL),(1519588,'Avg output records per task','4316983',NULL),(1519588,'Avg spilled records per task','2133848',NULL),(1519588,'Number of tasks','27',NULL),(1519588,'Ratio of spilled records to output records','0.4942915898368947',NULL),(1519589,'Avg Physical Memory (MB)','944',NULL),(1519589,'Avg task runtime','28 sec',NULL),(1519589,'Avg Virtual Memory (MB)','2924',NULL),(1519589,'Max Physical Memory (MB)','961',NULL),(1519589,'Min Physical Memory (MB)','924',NULL),(1519589,'Number of tasks','27',NULL),(1519589,'Requested Container Memory','1 GB',NULL),(1519590,'Group A','6 tasks @ 48 MB avg',NULL),(1519590,'Group B','7 tasks @ 48 MB avg',NULL),(1519590,'Number of tasks','13',NULL),(1519591,'Avg task CPU time (ms)','20741',NULL),(1519591,'Avg task GC time (ms)','168',NULL),(1519591,'Avg task runtime (ms)','15476',NULL),(1519591,'Number of tasks','13',NULL),(1519591,'Task GC/CPU ratio','0.00809989875126561',NULL),(1519592,'Average task runtime','15 sec',NULL),(1519592,'Max task runtime','19 sec',NULL),(1519592,'Min task runtime','14 sec',NULL),(1519592,'Number of tasks','13',NULL),(1519593,'Avg Physical Memory (MB)','605',NULL),(1519593,'Avg task runtime','15 sec',NULL),(1519593,'Avg Virtual Memory (MB)','2936',NULL),(1519593,'Max Physical Memory (MB)','652',NULL),(1519593,'Min Physical Memory (MB)','574',NULL),(1519593,'Number of tasks','13',NULL),(1519593,'Requested Container Memory','1 GB',NULL),(1519594,'Average code runtime','8 sec',NULL),(1519594,'Average shuffle time','5 sec (0.61x)',NULL),(1519594,'Average sort time','1 sec (0.17x)',NULL),(1519594,'Number of tasks','13',NULL),(1519596,'Group A','6 tasks @ 444 MB avg',NULL),(1519596,'Group B','3 tasks @ 478 MB avg',NULL),(1519596,'Number of tasks','9',NULL),(1519597,'Avg task CPU time (ms)','45667',NULL),(1519597,'Avg task GC time (ms)','644',NULL),(1519597,'Avg task runtime (ms)','33362',NULL),(1519597,'Number of tasks','9',NULL),(1519597,'Task GC/CPU ratio','0.014102086846081415',NULL),(1519598,'Average task input size','455 MB',NULL),(1519598,'Average task runtime','33 sec',NULL),(1519598,'Max task runtime','48 sec',NULL),(1519598,'Min task runtime','29 sec',NULL),(1519598,'Number of tasks','9',NULL),(1519599,'Median task input size','451 MB',NULL),(1519599,'Median task runtime','31 sec',NULL),(1519599,'Median task speed','13 MB/s',NULL),(1519599,'Number of tasks','9',NULL),(1519599,'Total input size in MB','4099.407117843628',NULL),(1519600,'Avg output records per task','4243305',NULL),(1519600,'Avg spilled records per task','4855608',NULL),(1519600,'Number of tasks','9',NULL),(1519600,'Ratio of spilled records to output records','1.1442985879719034',NULL),(1519601,'Avg Physical Memory (MB)','952',NULL),(1519601,'Avg task runtime','33 sec',NULL),(1519601,'Avg Virtual Memory (MB)','2927',NULL),(1519601,'Max Physical Memory (MB)','959',NULL),(1519601,'Min Physical Memory (MB)','943',NULL),(1519601,'Number of tasks','9',NULL),(1519601,'Requested Container Memory','1 GB',NULL),(1519602,'Group A','3 tasks @ 65 MB avg',NULL),(1519602,'Group B','2 tasks @ 65 MB avg',NULL),(1519602,'Number of tasks','5',NULL),(1519603,'Avg task CPU time (ms)','28524',NULL),(1519603,'Avg task GC time (ms)','756',NULL),(1519603,'Avg task runtime (ms)','21506',NULL),(1519603,'Number of tasks','5',NULL),(1519603,'Task GC/CPU ratio','0.026503996634413125',NULL),(1519604,'Average task runtime','21 sec',NULL),(1519604,'Max task runtime','26 sec',NULL),(1519604,'Min task runtime','18 sec',NULL),(1519604,'Number of tasks','5',NULL),(1519605,'Avg Physical Memory (MB)','963',NULL),(1519605,'Avg task runtime','21 sec',NULL),(1519605,'Avg Virtual Memory (MB)','2938',NULL),(1519605,'Max Physical Memory (MB)','1173',NULL),(1519605,'Min Physical Memory (MB)','891',NULL),(1519605,'Number of tasks','5',NULL),(1519605,'Requested Container Memory','1 GB',NULL),(1519606,'Average code runtime','12 sec',NULL),(1519606,'Average shuffle time','6 sec (0.50x)',NULL),(1519606,'Average sort time','2 sec (0.19x)',NULL),(1519606,'Number of tasks','5',NULL),(1519608,'Group A','1 tasks @ 157 MB avg',NULL),(1519608,'Group B','5 tasks @ 370 MB avg',NULL),(1519608,'Number of tasks','6',NULL),(1519609,'Avg task CPU time (ms)','28300',NULL),(1519609,'Avg task GC time (ms)','476',NULL),(1519609,'Avg task runtime (ms)','22000',NULL),(1519609,'Number of tasks','6',NULL),(1519609,'Task GC/CPU ratio','0.016819787985865725',NULL),(1519610,'Average task input size','334 MB',NULL),(1519610,'Average task runtime','22 sec',NULL),(1519610,'Max task runtime','27 sec',NULL),(1519610,'Min task runtime','17 sec',NULL),(1519610,'Number of tasks','6',NULL),(1519611,'Median task input size','355 MB',NULL),(1519611,'Median task runtime','20 sec',NULL),(1519611,'Median task speed','15 MB/s',NULL),(1519611,'Number of tasks','6',NULL),(1519611,'Total input size in MB','2008.3901090621948',NULL),(1519612,'Avg output records per task','4925411',NULL),(1519612,'Avg spilled records per task','9850822',NULL),(1519612,'Number of tasks','6',NULL),(1519612,'Ratio of spilled records to output records','2.0',NULL),(1519613,'Avg Physical Memory (MB)','927',NULL),(1519613,'Avg task runtime','22 sec',NULL),(1519613,'Avg Virtual Memory (MB)','2916',NULL),(1519613,'Max Physical Memory (MB)','943',NULL),(1519613,'Min Physical Memory (MB)','912',NULL),(1519613,'Number of tasks','6',NULL),(1519613,'Requested Container Memory','1 GB',NULL),(1519614,'Group A','1 tasks @ 85 MB avg',NULL),(1519614,'Group B','2 tasks @ 86 MB avg',NULL),(1519614,'Number of tasks','3',NULL),(1519615,'Avg task CPU time (ms)','40850',NULL),(1519615,'Avg task GC time (ms)','653',NULL),(1519615,'Avg task runtime (ms)','29500',NULL),(1519615,'Number of tasks','3',NULL),(1519615,'Task GC/CPU ratio','0.01598531211750306',NULL),(1519616,'Average task runtime','29 sec',NULL),(1519616,'Max task runtime','29 sec',NULL),(1519616,'Min task runtime','28 sec',NULL),(1519616,'Number of tasks','3',NULL),(1519617,'Avg Physical Memory (MB)','1272',NULL),(1519617,'Avg task runtime','29 sec',NULL),(1519617,'Avg Virtual Memory (MB)','2932',NULL),(1519617,'Max Physical Memory (MB)','1297',NULL),(1519617,'Min Physical Memory (MB)','1230',NULL),(1519617,'Number of tasks','3',NULL),(1519617,'Requested Container Memory','1 GB',NULL),(1519618,'Average code runtime','19 sec',NULL),(1519618,'Average shuffle time','5 sec (0.26x)',NULL),(1519618,'Average sort time','4 sec (0.22x)',NULL),(1519618,'Number of tasks','3',NULL),(1519620,'Group A','1 tasks @ 477 MB avg',NULL),(1519620,'Group B','2 tasks @ 496 MB avg',NULL),(1519620,'Number of tasks','3',NULL),(1519621,'Avg task CPU time (ms)','38393',NULL),(1519621,'Avg task GC time (ms)','484',NULL),(1519621,'Avg task runtime (ms)','27491',NULL),(1519621,'Number of tasks','3',NULL),(1519621,'Task GC/CPU ratio','0.012606464720131274',NULL),(1519622,'Average task input size','490 MB',NULL),(1519622,'Average task runtime','27 sec',NULL),(1519622,'Max task runtime','30 sec',NULL),(1519622,'Min task runtime','25 sec',NULL),(1519622,'Number of tasks','3',NULL),(1519623,'Median task input size','496 MB',NULL),(1519623,'Median task runtime','26 sec',NULL),(1519623,'Median task speed','18 MB/s',NULL),(1519623,'Number of tasks','3',NULL),(1519623,'Total input size in MB','1471.195945739746',NULL),(1519624,'Avg output records per task','8880890',NULL),(1519624,'Avg spilled records per task','635557',NULL),(1519624,'Number of tasks','3',NULL),(1519624,'Ratio of spilled records to output records','0.07156455897383562',NULL),(1519625,'Avg Physical Memory (MB)','943',NULL),(1519625,'Avg task runtime','27 sec',NULL),(1519625,'Avg Virtual Memory (MB)','2922',NULL),(1519625,'Max Physical Memory (MB)','953',NULL),(1519625,'Min Physical Memory (MB)','932',NULL),(1519625,'Number of tasks','3',NULL),(1519625,'Requested Container Memory','1 GB',NULL),(1519626,'Group A','1 tasks @ 15 MB avg',NULL),(1519626,'Group B','1 tasks @ 15 MB avg',NULL),(1519626,'Number of tasks','2',NULL),(1519627,'Avg task CPU time (ms)','7175',NULL),(1519627,'Avg task GC time (ms)','103',NULL),(1519627,'Avg task runtime (ms)','7740',NULL),(1519627,'Number of tasks','2',NULL),(1519627,'Task GC/CPU ratio','0.014355400696864112',NULL),(1519628,'Average task runtime','7 sec',NULL),(1519628,'Max task runtime','8 sec',NULL),(1519628,'Min task runtime','6 sec',NULL),(1519628,'Number of tasks','2',NULL),(1519629,'Avg Physical Memory (MB)','520',NULL),(1519629,'Avg task runtime','7 sec',NULL),(1519629,'Avg Virtual Memory (MB)','2928',NULL),(1519629,'Max Physical Memory (MB)','524',NULL),(1519629,'Min Physical Memory (MB)','517',NULL),(1519629,'Number of tasks','2',NULL),(1519629,'Requested Container Memory','1 GB',NULL),(1519630,'Average code runtime','2 sec',NULL),(1519630,'Average shuffle time','5 sec (2.49x)',NULL),(1519630,'Average sort time',' (0.19x)',NULL),(1519630,'Number of tasks','2',NULL),(1519632,'Group A','299 tasks @ 862 MB avg',NULL),(1519632,'Group B','201 tasks @ 1 GB avg',NULL),(1519632,'Number of tasks','500',NULL),(1519633,'Avg task CPU time (ms)','123768',NULL),(1519633,'Avg task GC time (ms)','3603',NULL),(1519633,'Avg task runtime (ms)','103449',NULL),(1519633,'Number of tasks','500',NULL),(1519633,'Task GC/CPU ratio','0.029110917199922436',NULL),(1519634,'Average task input size','1 GB',NULL),(1519634,'Average task runtime','1 min 43 sec',NULL),(1519634,'Max task runtime','3 min 53 sec',NULL),(1519634,'Min task runtime','23 sec',NULL),(1519634,'Number of tasks','500',NULL),(1519635,'Median task input size','950 MB',NULL),(1519635,'Median task runtime','1 min 40 sec',NULL),(1519635,'Median task speed','10 MB/s',NULL),(1519635,'Number of tasks','500',NULL),(1519635,'Total input size in MB','530836.3677902222',NULL),(1519636,'Avg output records per task','744680',NULL),(1519636,'Avg spilled records per task','238063',NULL),(1519636,'Number of tasks','500',NULL),(1519636,'Ratio of spilled records to output records','0.3196848153856348',NULL),(1519637,'Avg Physical Memory (MB)','980',NULL),(1519637,'Avg task runtime','1 min 43 sec',NULL),(1519637,'Avg Virtual Memory (MB)','2924',NULL),(1519637,'Max Physical Memory (MB)','1112',NULL),(1519637,'Min Physical Memory (MB)','947',NULL),(1519637,'Number of tasks','500',NULL),(1519637,'Requested Container Memory','1 GB',NULL),(1519638,'Group A','277 tasks @ 7 MB avg',NULL),(1519638,'Group B','280 tasks @ 7 MB avg',NULL),(1519638,'Number of tasks','557',NULL),(1519639,'Avg task CPU time (ms)','9354',NULL),(1519639,'Avg task GC time (ms)','85',NULL),(1519639,'Avg task runtime (ms)','7249',NULL),(1519639,'Number of tasks','557',NULL),(1519639,'Task GC/CPU ratio','0.009087021595039555',NULL),(1519640,'Average task runtime','7 sec',NULL),(1519640,'Max task runtime','17 sec',NULL),(1519640,'Min task runtime','3 sec',NULL),(1519640,'Number of tasks','557',NULL),(1519641,'Avg Physical Memory (MB)','565',NULL),(1519641,'Avg task runtime','7 sec',NULL),(1519641,'Avg Virtual Memory (MB)','2944',NULL),(1519641,'Max Physical Memory (MB)','610',NULL),(1519641,'Min Physical Memory (MB)','516',NULL),(1519641,'Number of tasks','557',NULL),(1519641,'Requested Container Memory','1 GB',NULL),(1519642,'Average code runtime','',NULL),(1519642,'Average shuffle time','6 sec (26.12x)',NULL),(1519642,'Average sort time',' (1.20x)',NULL),(1519642,'Number of tasks','557',NULL),(1519644,'Group A','1 tasks @ 266 MB avg',NULL),(1519644,'Group B','1 tasks @ 514 MB avg',NULL),(1519644,'Number of tasks','2',NULL),(1519645,'Avg task CPU time (ms)','70820',NULL),(1519645,'Avg task GC time (ms)','2151',NULL),(1519645,'Avg task runtime (ms)','76709',NULL),(1519645,'Number of tasks','2',NULL),(1519645,'Task GC/CPU ratio','0.030372776051962723',NULL),(1519646,'Average task input size','390 MB',NULL),(1519646,'Average task runtime','1 min 16 sec',NULL),(1519646,'Max task runtime','1 min 37 sec',NULL),(1519646,'Min task runtime','55 sec',NULL),(1519646,'Number of tasks','2',NULL),(1519647,'Median task input size','390 MB',NULL),(1519647,'Median task runtime','1 min 16 sec',NULL),(1519647,'Median task speed','5 MB/s',NULL),(1519647,'Number of tasks','2',NULL),(1519647,'Total input size in MB','780.7726430892944',NULL),(1519648,'Avg output records per task','1242835',NULL),(1519648,'Avg spilled records per task','0',NULL),(1519648,'Number of tasks','2',NULL),(1519648,'Ratio of spilled records to output records','0.0',NULL),(1519649,'Avg Physical Memory (MB)','637',NULL),(1519649,'Avg task runtime','1 min 16 sec',NULL),(1519649,'Avg Virtual Memory (MB)','2983',NULL),(1519649,'Max Physical Memory (MB)','654',NULL),(1519649,'Min Physical Memory (MB)','620',NULL),(1519649,'Number of tasks','2',NULL),(1519649,'Requested Container Memory','1 GB',NULL),(1519650,'Group A','0 tasks @ 0 bytes avg',NULL),(1519650,'Group B','0 tasks @ 0 bytes avg',NULL),(1519650,'Number of tasks','0',NULL),(1519651,'Avg task CPU time (ms)','0',NULL),(1519651,'Avg task GC time (ms)','0',NULL),(1519651,'Avg task runtime (ms)','0',NULL),(1519651,'Number of tasks','0',NULL),(1519651,'Task GC/CPU ratio','0.0',NULL),(1519652,'Average task runtime','0 sec',NULL),(1519652,'Max task runtime','0 sec',NULL),(1519652,'Min task runtime','0 sec',NULL),(1519652,'Number of tasks','0',NULL),(1519653,'Avg Physical Memory (MB)','0',NULL),(1519653,'Avg task runtime','0 sec',NULL),(1519653,'Avg Virtual Memory (MB)','0',NULL),(1519653,'Max Physical Memory (MB)','0',NULL),(1519653,'Min Physical Memory (MB)','0',NULL),(1519653,'Number of tasks','0',NULL),(1519653,'Requested Container Memory','1 GB',NULL),(1519654,'Average code runtime','0 sec',NULL),(1519654,'Average shuffle time','0 sec ',NULL),(1519654,'Average sort time','0 sec ',NULL),(1519654,'Number of tasks','0',NULL),(1519656,'Group A','53 tasks @ 306 MB avg',NULL),(1519656,'Group B','98 tasks @ 483 MB avg',NULL),(1519656,'Number of tasks','151',NULL),(1519657,'Avg task CPU time (ms)','64471',NULL),(1519657,'Avg task GC time (ms)','728',NULL),(1519657,'Avg task runtime (ms)','57720',NULL),(1519657,'Number of tasks','151',NULL),(1519657,'Task GC/CPU ratio','0.011291898683128848',NULL),(1519658,'Average task input size','421 MB',NULL),(1519658,'Average task runtime','57 sec',NULL),(1519658,'Max task runtime','1 min 44 sec',NULL),(1519658,'Min task runtime','28 sec',NULL),(1519658,'Number of tasks','151',NULL),(1519659,'Median task input size','469 MB',NULL),(1519659,'Median task runtime','55 sec',NULL),(1519659,'Median task speed','7 MB/s',NULL),(1519659,'Number of tasks','151',NULL),(1519659,'Total input size in MB','63655.82713317871',NULL),(1519660,'Avg output records per task','1537392',NULL),(1519660,'Avg spilled records per task','0',NULL),(1519660,'Number of tasks','151',NULL),(1519660,'Ratio of spilled records to output records','0.0',NULL),(1519661,'Avg Physical Memory (MB)','609',NULL),(1519661,'Avg task runtime','57 sec',NULL),(1519661,'Avg Virtual Memory (MB)','2927',NULL),(1519661,'Max Physical Memory (MB)','645',NULL),(1519661,'Min Physical Memory (MB)','576',NULL),(1519661,'Number of tasks','151',NULL),(1519661,'Requested Container Memory','1 GB',NULL),(1519662,'Group A','0 tasks @ 0 bytes avg',NULL),(1519662,'Group B','0 tasks @ 0 bytes avg',NULL),(1519662,'Number of tasks','0',NULL),(1519663,'Avg task CPU time (ms)','0',NULL),(1519663,'Avg task GC time (ms)','0',NULL),(1519663,'Avg task runtime (ms)','0',NULL),(1519663,'Number of tasks','0',NULL),(1519663,'Task GC/CPU ratio','0.0',NULL),(1519664,'Average task runtime','0 sec',NULL),(1519664,'Max task runtime','0 sec',NULL),(1519664,'Min task runtime','0 sec',NULL),(1519664,'Number of tasks','0',NULL),(1519665,'Avg Physical Memory (MB)','0',NULL),(1519665,'Avg task runtime','0 sec',NULL),(1519665,'Avg Virtual Memory (MB)','0',NULL),(1519665,'Max Physical Memory (MB)','0',NULL),(1519665,'Min Physical Memory (MB)','0',NULL),(1519665,'Number of tasks','0',NULL),(1519665,'Requested Container Memory','1 GB',NULL),(1519666,'Average code runtime','0 sec',NULL),(1519666,'Average shuffle time','0 sec ',NULL),(1519666,'Average sort time','0 sec ',NULL),(1519666,'Number of tasks','0',NULL),(1519668,'Group A','305 tasks @ 290 MB avg',NULL),(1519668,'Group B','201 tasks @ 453 MB avg',NULL),(1519668,'Number of tasks','506',NULL),(1519669,'Avg task CPU time (ms)','73100',NULL),(1519669,'Avg task GC time (ms)','1589',NULL),(1519669,'Avg task runtime (ms)','66727',NULL),(1519669,'Number of tasks','506',NULL),(1519669,'Task GC/CPU ratio','0.02173734610123119',NULL),(1519670,'Average task input size','355 MB',NULL),(1519670,'Average task runtime','1 min 6 sec',NULL),(1519670,'Max task runtime','2 min 23 sec',NULL),(1519670,'Min task runtime','31 sec',NULL),(1519670,'Number of tasks','506',NULL),(1519671,'Median task input size','320 MB',NULL),(1519671,'Median task runtime','1 min 2 sec',NULL),(1519671,'Median task speed','5 MB/s',NULL),(1519671,'Number of tasks','506',NULL),(1519671,'Total input size in MB','179708.45590114594',NULL),(1519672,'Avg output records per task','307333',NULL),(1519672,'Avg spilled records per task','0',NULL),(1519672,'Number of tasks','506',NULL),(1519672,'Ratio of spilled records to output records','0.0',NULL),(1519673,'Avg Physical Memory (MB)','598',NULL),(1519673,'Avg task runtime','1 min 6 sec',NULL),(1519673,'Avg Virtual Memory (MB)','2922',NULL),(1519673,'Max Physical Memory (MB)','644',NULL),(1519673,'Min Physical Memory (MB)','567',NULL),(1519673,'Number of tasks','506',NULL),(1519673,'Requested Container Memory','1 GB',NULL),(1519674,'Group A','0 tasks @ 0 bytes avg',NULL),(1519674,'Group B','0 tasks @ 0 bytes avg',NULL),(1519674,'Number of tasks','0',NULL),(1519675,'Avg task CPU time (ms)','0',NULL),(1519675,'Avg task GC time (ms)','0',NULL),(1519675,'Avg task runtime (ms)','0',NULL),(1519675,'Number of tasks','0',NULL),(1519675,'Task GC/CPU ratio','0.0',NULL),(1519676,'Average task runtime','0 sec',NULL),(1519676,'Max task runtime','0 sec',NULL),(1519676,'Min task runtime','0 sec',NULL),(1519676,'Number of tasks','0',NULL),(1519677,'Avg Physical Memory (MB)','0',NULL),(1519677,'Avg task runtime','0 sec',NULL),(1519677,'Avg Virtual Memory (MB)','0',NULL),(1519677,'Max Physical Memory (MB)','0',NULL),(1519677,'Min Physical Memory (MB)','0',NULL),(1519677,'Number of tasks','0',NULL),(1519677,'Requested Container Memory','1 GB',NULL),(1519678,'Average code runtime','0 sec',NULL),(1519678,'Average shuffle time','0 sec ',NULL),(1519678,'Average sort time','0 sec ',NULL),(1519678,'Number of tasks','0',NULL),(1519680,'Group A','932 tasks @ 780 MB avg',NULL),(1519680,'Group B','847 tasks @ 1 GB avg',NULL),(1519680,'Number of tasks','1779',NULL),(1519681,'Avg task CPU time (ms)','71616',NULL),(1519681,'Avg task GC time (ms)','2456',NULL),(1519681,'Avg task runtime (ms)','47598',NULL),(1519681,'Number of tasks','1779',NULL),(1519681,'Task GC/CPU ratio','0.03429401251117069',NULL),(1519682,'Average task input size','944 MB',NULL),(1519682,'Average task runtime','47 sec',NULL),(1519682,'Max task runtime','1 min 56 sec',NULL),(1519682,'Min task runtime','22 sec',NULL),(1519682,'Number of tasks','1779',NULL),(1519683,'Median task input size','924 MB',NULL),(1519683,'Median task runtime','45 sec',NULL),(1519683,'Median task speed','20 MB/s',NULL),(1519683,'Number of tasks','1779',NULL),(1519683,'Total input size in MB','1679594.0204076767',NULL),(1519684,'Avg output records per task','3494130',NULL),(1519684,'Avg spilled records per task','6988261',NULL),(1519684,'Number of tasks','1779',NULL),(1519684,'Ratio of spilled records to output records','2.0',NULL),(1519685,'Avg Physical Memory (MB)','989',NULL),(1519685,'Avg task runtime','47 sec',NULL),(1519685,'Avg Virtual Memory (MB)','2940',NULL),(1519685,'Max Physical Memory (MB)','1094',NULL),(1519685,'Min Physical Memory (MB)','915',NULL),(1519685,'Number of tasks','1779',NULL),(1519685,'Requested Container Memory','1 GB',NULL),(1519686,'Group A','525 tasks @ 500 MB avg',NULL),(1519686,'Group B','474 tasks @ 501 MB avg',NULL),(1519686,'Number of tasks','999',NULL),(1519687,'Avg task CPU time (ms)','69159',NULL),(1519687,'Avg task GC time (ms)','1680',NULL),(1519687,'Avg task runtime (ms)','49701',NULL),(1519687,'Number of tasks','999',NULL),(1519687,'Task GC/CPU ratio','0.024291849217021644',NULL),(1519688,'Average task runtime','49 sec',NULL),(1519688,'Max task runtime','1 min 43 sec',NULL),(1519688,'Min task runtime','36 sec',NULL),(1519688,'Number of tasks','999',NULL),(1519689,'Avg Physical Memory (MB)','1298',NULL),(1519689,'Avg task runtime','49 sec',NULL),(1519689,'Avg Virtual Memory (MB)','2960',NULL),(1519689,'Max Physical Memory (MB)','1468',NULL),(1519689,'Min Physical Memory (MB)','1038',NULL),(1519689,'Number of tasks','999',NULL),(1519689,'Requested Container Memory','1 GB',NULL),(1519690,'Average code runtime','29 sec',NULL),(1519690,'Average shuffle time','18 sec (0.64x)',NULL),(1519690,'Average sort time','2 sec (0.07x)',NULL),(1519690,'Number of tasks','999',NULL),(1519692,'Group A','1 tasks @ 291 MB avg',NULL),(1519692,'Group B','1 tasks @ 500 MB avg',NULL),(1519692,'Number of tasks','2',NULL),(1519693,'Avg task CPU time (ms)','128560',NULL),(1519693,'Avg task GC time (ms)','5568',NULL),(1519693,'Avg task runtime (ms)','93906',NULL),(1519693,'Number of tasks','2',NULL),(1519693,'Task GC/CPU ratio','0.0433105164903547',NULL),(1519694,'Average task input size','396 MB',NULL),(1519694,'Average task runtime','1 min 33 sec',NULL),(1519694,'Max task runtime','2 min 11 sec',NULL),(1519694,'Min task runtime','56 sec',NULL),(1519694,'Number of tasks','2',NULL),(1519695,'Median task input size','396 MB',NULL),(1519695,'Median task runtime','1 min 33 sec',NULL),(1519695,'Median task speed','4 MB/s',NULL),(1519695,'Number of tasks','2',NULL),(1519695,'Total input size in MB','792.533878326416',NULL),(1519696,'Avg output records per task','1243839',NULL),(1519696,'Avg spilled records per task','0',NULL),(1519696,'Number of tasks','2',NULL),(1519696,'Ratio of spilled records to output records','0.0',NULL),(1519697,'Avg Physical Memory (MB)','722',NULL),(1519697,'Avg task runtime','1 min 33 sec',NULL),(1519697,'Avg Virtual Memory (MB)','2921',NULL),(1519697,'Max Physical Memory (MB)','731',NULL),(1519697,'Min Physical Memory (MB)','712',NULL),(1519697,'Number of tasks','2',NULL),(1519697,'Requested Container Memory','1 GB',NULL),(1519698,'Group A','0 tasks @ 0 bytes avg',NULL),(1519698,'Group B','0 tasks @ 0 bytes avg',NULL),(1519698,'Number of tasks','0',NULL),(1519699,'Avg task CPU time (ms)','0',NULL),(1519699,'Avg task GC time (ms)','0',NULL),(1519699,'Avg task runtime (ms)','0',NULL),(1519699,'Number of tasks','0',NULL),(1519699,'Task GC/CPU ratio','0.0',NULL),(1519700,'Average task runtime','0 sec',NULL),(1519700,'Max task runtime','0 sec',NULL),(1519700,'Min task runtime','0 sec',NULL),(1519700,'Number of tasks','0',NULL),(1519701,'Avg Physical Memory (MB)','0',NULL),(1519701,'Avg task runtime','0 sec',NULL),(1519701,'Avg Virtual Memory (MB)','0',NULL),(1519701,'Max Physical Memory (MB)','0',NULL),(1519701,'Min Physical Memory (MB)','0',NULL),(1519701,'Number of tasks','0',NULL),(1519701,'Requested Container Memory','1 GB',NULL),(1519702,'Average code runtime','0 sec',NULL),(1519702,'Average shuffle time','0 sec ',NULL),(1519702,'Average sort time','0 sec ',NULL),(1519702,'Number of tasks','0',NULL),(1519704,'Group A','1 tasks @ 315 MB avg',NULL),(1519704,'Group B','1 tasks @ 513 MB avg',NULL),(1519704,'Number of tasks','2',NULL),(1519705,'Avg task CPU time (ms)','147230',NULL),(1519705,'Avg task GC time (ms)','3980',NULL),(1519705,'Avg task runtime (ms)','91773',NULL),(1519705,'Number of tasks','2',NULL),(1519705,'Task GC/CPU ratio','0.027032534130272363',NULL),(1519706,'Average task input size','414 MB',NULL),(1519706,'Average task runtime','1 min 31 sec',NULL),(1519706,'Max task runtime','1 min 52 sec',NULL),(1519706,'Min task runtime','1 min 11 sec',NULL),(1519706,'Number of tasks','2',NULL),(1519707,'Median task input size','414 MB',NULL),(1519707,'Median task runtime','1 min 31 sec',NULL),(1519707,'Median task speed','4 MB/s',NULL),(1519707,'Number of tasks','2',NULL),(1519707,'Total input size in MB','828.9662179946899',NULL),(1519708,'Avg output records per task','1205502',NULL),(1519708,'Avg spilled records per task','0',NULL),(1519708,'Number of tasks','2',NULL),(1519708,'Ratio of spilled records to output records','0.0',NULL),(1519709,'Avg Physical Memory (MB)','741',NULL),(1519709,'Avg task runtime','1 min 31 sec',NULL),(1519709,'Avg Virtual Memory (MB)','2920',NULL),(1519709,'Max Physical Memory (MB)','788',NULL),(1519709,'Min Physical Memory (MB)','694',NULL),(1519709,'Number of tasks','2',NULL),(1519709,'Requested Container Memory','1 GB',NULL),(1519710,'Group A','0 tasks @ 0 bytes avg',NULL),(1519710,'Group B','0 tasks @ 0 bytes avg',NULL),(1519710,'Number of tasks','0',NULL),(1519711,'Avg task CPU time (ms)','0',NULL),(1519711,'Avg task GC time (ms)','0',NULL),(1519711,'Avg task runtime (ms)','0',NULL),(1519711,'Number of tasks','0',NULL),(1519711,'Task GC/CPU ratio','0.0',NULL),(1519712,'Average task runtime','0 sec',NULL),(1519712,'Max task runtime','0 sec',NULL),(1519712,'Min task runtime','0 sec',NULL),(1519712,'Number of tasks','0',NULL),(1519713,'Avg Physical Memory (MB)','0',NULL),(1519713,'Avg task runtime','0 sec',NULL),(1519713,'Avg Virtual Memory (MB)','0',NULL),(1519713,'Max Physical Memory (MB)','0',NULL),(1519713,'Min Physical Memory (MB)','0',NULL),(1519713,'Number of tasks','0',NULL),(1519713,'Requested Container Memory','1 GB',NULL),(1519714,'Average code runtime','0 sec',NULL),(1519714,'Average shuffle time','0 sec ',NULL),(1519714,'Average sort time','0 sec ',NULL),(1519714,'Number of tasks','0',NULL),(1519716,'Group A','307 tasks @ 293 MB avg',NULL),(1519716,'Group B','193 tasks @ 448 MB avg',NULL),(1519716,'Number of tasks','500',NULL),(1519717,'Avg task CPU time (ms)','66281',NULL),(1519717,'Avg task GC time (ms)','1015',NULL),(1519717,'Avg task runtime (ms)','54589',NULL),(1519717,'Number of tasks','500',NULL),(1519717,'Task GC/CPU ratio','0.015313589113018814',NULL),(1519718,'Average task input size','353 MB',NULL),(1519718,'Average task runtime','54 sec',NULL),(1519718,'Max task runtime','2 min 4 sec',NULL),(1519718,'Min task runtime','32 sec',NULL),(1519718,'Number of tasks','500',NULL),(1519719,'Median task input size','319 MB',NULL),(1519719,'Median task runtime','51 sec',NULL),(1519719,'Median task speed','6 MB/s',NULL),(1519719,'Number of tasks','500',NULL),(1519719,'Total input size in MB','176676.36856079102',NULL),(1519720,'Avg output records per task','302754',NULL),(1519720,'Avg spilled records per task','0',NULL),(1519720,'Number of tasks','500',NULL),(1519720,'Ratio of spilled records to output records','0.0',NULL),(1519721,'Avg Physical Memory (MB)','602',NULL),(1519721,'Avg task runtime','54 sec',NULL),(1519721,'Avg Virtual Memory (MB)','2923',NULL),(1519721,'Max Physical Memory (MB)','674',NULL),(1519721,'Min Physical Memory (MB)','569',NULL),(1519721,'Number of tasks','500',NULL),(1519721,'Requested Container Memory','1 GB',NULL),(1519722,'Group A','0 tasks @ 0 bytes avg',NULL),(1519722,'Group B','0 tasks @ 0 bytes avg',NULL),(1519722,'Number of tasks','0',NULL),(1519723,'Avg task CPU time (ms)','0',NULL),(1519723,'Avg task GC time (ms)','0',NULL),(1519723,'Avg task runtime (ms)','0',NULL),(1519723,'Number of tasks','0',NULL),(1519723,'Task GC/CPU ratio','0.0',NULL),(1519724,'Average task runtime','0 sec',NULL),(1519724,'Max task runtime','0 sec',NULL),(1519724,'Min task runtime','0 sec',NULL),(1519724,'Number of tasks','0',NULL),(1519725,'Avg Physical Memory (MB)','0',NULL),(1519725,'Avg task runtime','0 sec',NULL),(1519725,'Avg Virtual Memory (MB)','0',NULL),(1519725,'Max Physical Memory (MB)','0',NULL),(1519725,'Min Physical Memory (MB)','0',NULL),(1519725,'Number of tasks','0',NULL),(1519725,'Requested Container Memory','1 GB',NULL),(1519726,'Average code runtime','0 sec',NULL),(1519726,'Average shuffle time','0 sec ',NULL),(1519726,'Average sort time','0 sec ',NULL),(1519726,'Number of tasks','0',NULL),(1519728,'Group A','897 tasks @ 309 MB avg',NULL),(1519728,'Group B','735 tasks @ 448 MB avg',NULL),(1519728,'Number of tasks','1632',NULL),(1519729,'Avg task CPU time (ms)','72014',NULL),(1519729,'Avg task GC time (ms)','1596',NULL),(1519729,'Avg task runtime (ms)','63650',NULL),(1519729,'Number of tasks','1632',NULL),(1519729,'Task GC/CPU ratio','0.022162357319410114',NULL),(1519730,'Average task input size','372 MB',NULL),(1519730,'Average task runtime','1 min 3 sec',NULL),(1519730,'Max task runtime','2 min 25 sec',NULL),(1519730,'Min task runtime','29 sec',NULL),(1519730,'Number of tasks','1632',NULL),(1519731,'Median task input size','358 MB',NULL),(1519731,'Median task runtime','59 sec',NULL),(1519731,'Median task speed','6 MB/s',NULL),(1519731,'Number of tasks','1632',NULL),(1519731,'Total input size in MB','607337.425579071',NULL),(1519732,'Avg output records per task','335777',NULL),(1519732,'Avg spilled records per task','0',NULL),(1519732,'Number of tasks','1632',NULL),(1519732,'Ratio of spilled records to output records','0.0',NULL),(1519733,'Avg Physical Memory (MB)','605',NULL),(1519733,'Avg task runtime','1 min 3 sec',NULL),(1519733,'Avg Virtual Memory (MB)','2925',NULL),(1519733,'Max Physical Memory (MB)','700',NULL),(1519733,'Min Physical Memory (MB)','568',NULL),(1519733,'Number of tasks','1632',NULL),(1519733,'Requested Container Memory','1 GB',NULL),(1519734,'Group A','0 tasks @ 0 bytes avg',NULL),(1519734,'Group B','0 tasks @ 0 bytes avg',NULL),(1519734,'Number of tasks','0',NULL),(1519735,'Avg task CPU time (ms)','0',NULL),(1519735,'Avg task GC time (ms)','0',NULL),(1519735,'Avg task runtime (ms)','0',NULL),(1519735,'Number of tasks','0',NULL),(1519735,'Task GC/CPU ratio','0.0',NULL),(1519736,'Average task runtime','0 sec',NULL),(1519736,'Max task runtime','0 sec',NULL),(1519736,'Min task runtime','0 sec',NULL),(1519736,'Number of tasks','0',NULL),(1519737,'Avg Physical Memory (MB)','0',NULL),(1519737,'Avg task runtime','0 sec',NULL),(1519737,'Avg Virtual Memory (MB)','0',NULL),(1519737,'Max Physical Memory (MB)','0',NULL),(1519737,'Min Physical Memory (MB)','0',NULL),(1519737,'Number of tasks','0',NULL),(1519737,'Requested Container Memory','1 GB',NULL),(1519738,'Average code runtime','0 sec',NULL),(1519738,'Average shuffle time','0 sec ',NULL),(1519738,'Average sort time','0 sec ',NULL),(1519738,'Number of tasks','0',NULL),(1519740,'Group A','307 tasks @ 858 MB avg',NULL),(1519740,'Group B','202 tasks @ 1 GB avg',NULL),(1519740,'Number of tasks','509',NULL),(1519741,'Avg task CPU time (ms)','126395',NULL),(1519741,'Avg task GC time (ms)','3820',NULL),(1519741,'Avg task runtime (ms)','107833',NULL),(1519741,'Number of tasks','509',NULL),(1519741,'Task GC/CPU ratio','0.030222714506111793',NULL),(1519742,'Average task input size','1 GB',NULL),(1519742,'Average task runtime','1 min 47 sec',NULL),(1519742,'Max task runtime','3 min 56 sec',NULL),(1519742,'Min task runtime','16 sec',NULL),(1519742,'Number of tasks','509',NULL),(1519743,'Median task input size','949 MB',NULL),(1519743,'Median task runtime','1 min 44 sec',NULL),(1519743,'Median task speed','10 MB/s',NULL),(1519743,'Number of tasks','509',NULL),(1519743,'Total input size in MB','535416.1670970917',NULL),(1519744,'Avg output records per task','736745',NULL),(1519744,'Avg spilled records per task','235806',NULL),(1519744,'Number of tasks','509',NULL),(1519744,'Ratio of spilled records to output records','0.3200645473294221',NULL),(1519745,'Avg Physical Memory (MB)','1039',NULL),(1519745,'Avg task runtime','1 min 47 sec',NULL),(1519745,'Avg Virtual Memory (MB)','2925',NULL),(1519745,'Max Physical Memory (MB)','1095',NULL),(1519745,'Min Physical Memory (MB)','811',NULL),(1519745,'Number of tasks','509',NULL),(1519745,'Requested Container Memory','1 GB',NULL),(1519746,'Group A','281 tasks @ 7 MB avg',NULL),(1519746,'Group B','281 tasks @ 7 MB avg',NULL),(1519746,'Number of tasks','562',NULL),(1519747,'Avg task CPU time (ms)','9259',NULL),(1519747,'Avg task GC time (ms)','92',NULL),(1519747,'Avg task runtime (ms)','9909',NULL),(1519747,'Number of tasks','562',NULL),(1519747,'Task GC/CPU ratio','0.009936278215790042',NULL),(1519748,'Average task runtime','9 sec',NULL),(1519748,'Max task runtime','1 min 6 sec',NULL),(1519748,'Min task runtime','3 sec',NULL),(1519748,'Number of tasks','562',NULL),(1519749,'Avg Physical Memory (MB)','567',NULL),(1519749,'Avg task runtime','9 sec',NULL),(1519749,'Avg Virtual Memory (MB)','2943',NULL),(1519749,'Max Physical Memory (MB)','618',NULL),(1519749,'Min Physical Memory (MB)','512',NULL),(1519749,'Number of tasks','562',NULL),(1519749,'Requested Container Memory','1 GB',NULL),(1519750,'Average code runtime','',NULL),(1519750,'Average shuffle time','9 sec (-31.16x)',NULL),(1519750,'Average sort time',' (-1.00x)',NULL),(1519750,'Number of tasks','562',NULL),(1519752,'Group A','1 tasks @ 150 MB avg',NULL),(1519752,'Group B','1 tasks @ 155 MB avg',NULL),(1519752,'Number of tasks','2',NULL),(1519753,'Avg task CPU time (ms)','24660',NULL),(1519753,'Avg task GC time (ms)','509',NULL),(1519753,'Avg task runtime (ms)','21495',NULL),(1519753,'Number of tasks','2',NULL),(1519753,'Task GC/CPU ratio','0.020640713706407136',NULL),(1519754,'Average task input size','153 MB',NULL),(1519754,'Average task runtime','21 sec',NULL),(1519754,'Max task runtime','25 sec',NULL),(1519754,'Min task runtime','17 sec',NULL),(1519754,'Number of tasks','2',NULL),(1519755,'Median task input size','153 MB',NULL),(1519755,'Median task runtime','21 sec',NULL),(1519755,'Median task speed','7 MB/s',NULL),(1519755,'Number of tasks','2',NULL),(1519755,'Total input size in MB','306.038969039917',NULL),(1519756,'Avg output records per task','2900081',NULL),(1519756,'Avg spilled records per task','5800162',NULL),(1519756,'Number of tasks','2',NULL),(1519756,'Ratio of spilled records to output records','2.0',NULL),(1519757,'Avg Physical Memory (MB)','993',NULL),(1519757,'Avg task runtime','21 sec',NULL),(1519757,'Avg Virtual Memory (MB)','2923',NULL),(1519757,'Max Physical Memory (MB)','996',NULL),(1519757,'Min Physical Memory (MB)','990',NULL),(1519757,'Number of tasks','2',NULL),(1519757,'Requested Container Memory','1 GB',NULL),(1519758,'Group A','0 tasks @ 0 bytes avg',NULL),(1519758,'Group B','1 tasks @ 187 MB avg',NULL),(1519758,'Number of tasks','1',NULL),(1519759,'Avg task CPU time (ms)','47200',NULL),(1519759,'Avg task GC time (ms)','1500',NULL),(1519759,'Avg task runtime (ms)','41974',NULL),(1519759,'Number of tasks','1',NULL),(1519759,'Task GC/CPU ratio','0.03177966101694915',NULL),(1519760,'Average task runtime','41 sec',NULL),(1519760,'Max task runtime','41 sec',NULL),(1519760,'Min task runtime','41 sec',NULL),(1519760,'Number of tasks','1',NULL),(1519761,'Avg Physical Memory (MB)','743',NULL),(1519761,'Avg task runtime','41 sec',NULL),(1519761,'Avg Virtual Memory (MB)','2914',NULL),(1519761,'Max Physical Memory (MB)','743',NULL),(1519761,'Min Physical Memory (MB)','743',NULL),(1519761,'Number of tasks','1',NULL),(1519761,'Requested Container Memory','1 GB',NULL),(1519762,'Average code runtime','27 sec',NULL),(1519762,'Average shuffle time','10 sec (0.37x)',NULL),(1519762,'Average sort time','4 sec (0.16x)',NULL),(1519762,'Number of tasks','1',NULL),(1519764,'Group A','0 tasks @ 0 bytes avg',NULL),(1519764,'Group B','1 tasks @ 163 MB avg',NULL),(1519764,'Number of tasks','1',NULL),(1519765,'Avg task CPU time (ms)','61890',NULL),(1519765,'Avg task GC time (ms)','5056',NULL),(1519765,'Avg task runtime (ms)','62645',NULL),(1519765,'Number of tasks','1',NULL),(1519765,'Task GC/CPU ratio','0.08169332687025367',NULL),(1519766,'Average task input size','163 MB',NULL),(1519766,'Average task runtime','1 min 2 sec',NULL),(1519766,'Max task runtime','1 min 2 sec',NULL),(1519766,'Min task runtime','1 min 2 sec',NULL),(1519766,'Number of tasks','1',NULL),(1519767,'Median task input size','163 MB',NULL),(1519767,'Median task runtime','1 min 2 sec',NULL),(1519767,'Median task speed','2 MB/s',NULL),(1519767,'Number of tasks','1',NULL),(1519767,'Total input size in MB','163.07244873046875',NULL),(1519768,'Avg output records per task','2917846',NULL),(1519768,'Avg spilled records per task','5835692',NULL),(1519768,'Number of tasks','1',NULL),(1519768,'Ratio of spilled records to output records','2.0',NULL),(1519769,'Avg Physical Memory (MB)','1017',NULL),(1519769,'Avg task runtime','1 min 2 sec',NULL),(1519769,'Avg Virtual Memory (MB)','2912',NULL),(1519769,'Max Physical Memory (MB)','1017',NULL),(1519769,'Min Physical Memory (MB)','1017',NULL),(1519769,'Number of tasks','1',NULL),(1519769,'Requested Container Memory','1 GB',NULL),(1519770,'Group A','0 tasks @ 0 bytes avg',NULL),(1519770,'Group B','1 tasks @ 96 MB avg',NULL),(1519770,'Number of tasks','1',NULL),(1519771,'Avg task CPU time (ms)','20850',NULL),(1519771,'Avg task GC time (ms)','105',NULL),(1519771,'Avg task runtime (ms)','19324',NULL),(1519771,'Number of tasks','1',NULL),(1519771,'Task GC/CPU ratio','0.005035971223021582',NULL),(1519772,'Average task runtime','19 sec',NULL),(1519772,'Max task runtime','19 sec',NULL),(1519772,'Min task runtime','19 sec',NULL),(1519772,'Number of tasks','1',NULL),(1519773,'Avg Physical Memory (MB)','573',NULL),(1519773,'Avg task runtime','19 sec',NULL),(1519773,'Avg Virtual Memory (MB)','2914',NULL),(1519773,'Max Physical Memory (MB)','573',NULL),(1519773,'Min Physical Memory (MB)','573',NULL),(1519773,'Number of tasks','1',NULL),(1519773,'Requested Container Memory','1 GB',NULL),(1519774,'Average code runtime','12 sec',NULL),(1519774,'Average shuffle time','5 sec (0.41x)',NULL),(1519774,'Average sort time','1 sec (0.14x)',NULL),(1519774,'Number of tasks','1',NULL),(1519776,'Group A','0 tasks @ 0 bytes avg',NULL),(1519776,'Group B','1 tasks @ 158 MB avg',NULL),(1519776,'Number of tasks','1',NULL),(1519777,'Avg task CPU time (ms)','19580',NULL),(1519777,'Avg task GC time (ms)','355',NULL),(1519777,'Avg task runtime (ms)','15753',NULL),(1519777,'Number of tasks','1',NULL),(1519777,'Task GC/CPU ratio','0.018130745658835545',NULL),(1519778,'Average task input size','158 MB',NULL),(1519778,'Average task runtime','15 sec',NULL),(1519778,'Max task runtime','15 sec',NULL),(1519778,'Min task runtime','15 sec',NULL),(1519778,'Number of tasks','1',NULL),(1519779,'Median task input size','158 MB',NULL),(1519779,'Median task runtime','15 sec',NULL),(1519779,'Median task speed','10 MB/s',NULL),(1519779,'Number of tasks','1',NULL),(1519779,'Total input size in MB','158.0611515045166',NULL),(1519780,'Avg output records per task','2917846',NULL),(1519780,'Avg spilled records per task','5835692',NULL),(1519780,'Number of tasks','1',NULL),(1519780,'Ratio of spilled records to output records','2.0',NULL),(1519781,'Avg Physical Memory (MB)','979',NULL),(1519781,'Avg task runtime','15 sec',NULL),(1519781,'Avg Virtual Memory (MB)','2914',NULL),(1519781,'Max Physical Memory (MB)','979',NULL),(1519781,'Min Physical Memory (MB)','979',NULL),(1519781,'Number of tasks','1',NULL),(1519781,'Requested Container Memory','1 GB',NULL),(1519782,'Group A','0 tasks @ 0 bytes avg',NULL),(1519782,'Group B','1 tasks @ 93 MB avg',NULL),(1519782,'Number of tasks','1',NULL),(1519783,'Avg task CPU time (ms)','20940',NULL),(1519783,'Avg task GC time (ms)','539',NULL),(1519783,'Avg task runtime (ms)','22238',NULL),(1519783,'Number of tasks','1',NULL),(1519783,'Task GC/CPU ratio','0.02574021012416428',NULL),(1519784,'Average task runtime','22 sec',NULL),(1519784,'Max task runtime','22 sec',NULL),(1519784,'Min task runtime','22 sec',NULL),(1519784,'Number of tasks','1',NULL),(1519785,'Avg Physical Memory (MB)','549',NULL),(1519785,'Avg task runtime','22 sec',NULL),(1519785,'Avg Virtual Memory (MB)','2922',NULL),(1519785,'Max Physical Memory (MB)','549',NULL),(1519785,'Min Physical Memory (MB)','549',NULL),(1519785,'Number of tasks','1',NULL),(1519785,'Requested Container Memory','1 GB',NULL),(1519786,'Average code runtime','11 sec',NULL),(1519786,'Average shuffle time','8 sec (0.71x)',NULL),(1519786,'Average sort time','2 sec (0.24x)',NULL),(1519786,'Number of tasks','1',NULL),(1519788,'Group A','2 tasks @ 176 MB avg',NULL),(1519788,'Group B','31 tasks @ 511 MB avg',NULL),(1519788,'Number of tasks','33',NULL),(1519789,'Avg task CPU time (ms)','53643',NULL),(1519789,'Avg task GC time (ms)','1419',NULL),(1519789,'Avg task runtime (ms)','44953',NULL),(1519789,'Number of tasks','33',NULL),(1519789,'Task GC/CPU ratio','0.02645265924724568',NULL),(1519790,'Average task input size','490 MB',NULL),(1519790,'Average task runtime','44 sec',NULL),(1519790,'Max task runtime','1 min 32 sec',NULL),(1519790,'Min task runtime','12 sec',NULL),(1519790,'Number of tasks','33',NULL),(1519791,'Median task input size','509 MB',NULL),(1519791,'Median task runtime','40 sec',NULL),(1519791,'Median task speed','11 MB/s',NULL),(1519791,'Number of tasks','33',NULL),(1519791,'Total input size in MB','16195.266300201416',NULL),(1519792,'Avg output records per task','5386511',NULL),(1519792,'Avg spilled records per task','10773022',NULL),(1519792,'Number of tasks','33',NULL),(1519792,'Ratio of spilled records to output records','2.0',NULL),(1519793,'Avg Physical Memory (MB)','971',NULL),(1519793,'Avg task runtime','44 sec',NULL),(1519793,'Avg Virtual Memory (MB)','2926',NULL),(1519793,'Max Physical Memory (MB)','1022',NULL),(1519793,'Min Physical Memory (MB)','770',NULL),(1519793,'Number of tasks','33',NULL),(1519793,'Requested Container Memory','1 GB',NULL),(1519794,'Group A','16 tasks @ 135 MB avg',NULL),(1519794,'Group B','1 tasks @ 995 MB avg',NULL),(1519794,'Number of tasks','17',NULL),(1519795,'Avg task CPU time (ms)','45495',NULL),(1519795,'Avg task GC time (ms)','1219',NULL),(1519795,'Avg task runtime (ms)','35958',NULL),(1519795,'Number of tasks','17',NULL),(1519795,'Task GC/CPU ratio','0.026794153203648752',NULL),(1519796,'Average task runtime','35 sec',NULL),(1519796,'Max task runtime','1 min 46 sec',NULL),(1519796,'Min task runtime','23 sec',NULL),(1519796,'Number of tasks','17',NULL),(1519797,'Avg Physical Memory (MB)','1329',NULL),(1519797,'Avg task runtime','35 sec',NULL),(1519797,'Avg Virtual Memory (MB)','2936',NULL),(1519797,'Max Physical Memory (MB)','1398',NULL),(1519797,'Min Physical Memory (MB)','1250',NULL),(1519797,'Number of tasks','17',NULL),(1519797,'Requested Container Memory','1 GB',NULL),(1519798,'Average code runtime','21 sec',NULL),(1519798,'Average shuffle time','12 sec (0.57x)',NULL),(1519798,'Average sort time','1 sec (0.07x)',NULL),(1519798,'Number of tasks','17',NULL),(1519800,'Group A','3 tasks @ 256 MB avg',NULL),(1519800,'Group B','24 tasks @ 480 MB avg',NULL),(1519800,'Number of tasks','27',NULL),(1519801,'Avg task CPU time (ms)','38015',NULL),(1519801,'Avg task GC time (ms)','890',NULL),(1519801,'Avg task runtime (ms)','27943',NULL),(1519801,'Number of tasks','27',NULL),(1519801,'Task GC/CPU ratio','0.023411811127186637',NULL),(1519802,'Average task input size','455 MB',NULL),(1519802,'Average task runtime','27 sec',NULL),(1519802,'Max task runtime','42 sec',NULL),(1519802,'Min task runtime','14 sec',NULL),(1519802,'Number of tasks','27',NULL),(1519803,'Median task input size','477 MB',NULL),(1519803,'Median task runtime','28 sec',NULL),(1519803,'Median task speed','17 MB/s',NULL),(1519803,'Number of tasks','27',NULL),(1519803,'Total input size in MB','12289.610097885132',NULL),(1519804,'Avg output records per task','4313924',NULL),(1519804,'Avg spilled records per task','2132270',NULL),(1519804,'Number of tasks','27',NULL),(1519804,'Ratio of spilled records to output records','0.49427629490420477',NULL),(1519805,'Avg Physical Memory (MB)','1014',NULL),(1519805,'Avg task runtime','27 sec',NULL),(1519805,'Avg Virtual Memory (MB)','2924',NULL),(1519805,'Max Physical Memory (MB)','1036',NULL),(1519805,'Min Physical Memory (MB)','799',NULL),(1519805,'Number of tasks','27',NULL),(1519805,'Requested Container Memory','1 GB',NULL),(1519806,'Group A','7 tasks @ 48 MB avg',NULL),(1519806,'Group B','6 tasks @ 48 MB avg',NULL),(1519806,'Number of tasks','13',NULL),(1519807,'Avg task CPU time (ms)','21024',NULL),(1519807,'Avg task GC time (ms)','286',NULL),(1519807,'Avg task runtime (ms)','16699',NULL),(1519807,'Number of tasks','13',NULL),(1519807,'Task GC/CPU ratio','0.013603500761035007',NULL),(1519808,'Average task runtime','16 sec',NULL),(1519808,'Max task runtime','28 sec',NULL),(1519808,'Min task runtime','13 sec',NULL),(1519808,'Number of tasks','13',NULL),(1519809,'Avg Physical Memory (MB)','605',NULL),(1519809,'Avg task runtime','16 sec',NULL),(1519809,'Avg Virtual Memory (MB)','2936',NULL),(1519809,'Max Physical Memory (MB)','623',NULL),(1519809,'Min Physical Memory (MB)','576',NULL),(1519809,'Number of tasks','13',NULL),(1519809,'Requested Container Memory','1 GB',NULL),(1519810,'Average code runtime','9 sec',NULL),(1519810,'Average shuffle time','5 sec (0.55x)',NULL),(1519810,'Average sort time','1 sec (0.16x)',NULL),(1519810,'Number of tasks','13',NULL),(1519812,'Group A','1 tasks @ 256 MB avg',NULL),(1519812,'Group B','8 tasks @ 480 MB avg',NULL),(1519812,'Number of tasks','9',NULL),(1519813,'Avg task CPU time (ms)','48771',NULL),(1519813,'Avg task GC time (ms)','1233',NULL),(1519813,'Avg task runtime (ms)','40227',NULL),(1519813,'Number of tasks','9',NULL),(1519813,'Task GC/CPU ratio','0.025281417235652335',NULL),(1519814,'Average task input size','455 MB',NULL),(1519814,'Average task runtime','40 sec',NULL),(1519814,'Max task runtime','1 min 22 sec',NULL),(1519814,'Min task runtime','23 sec',NULL),(1519814,'Number of tasks','9',NULL),(1519815,'Median task input size','477 MB',NULL),(1519815,'Median task runtime','36 sec',NULL),(1519815,'Median task speed','12 MB/s',NULL),(1519815,'Number of tasks','9',NULL),(1519815,'Total input size in MB','4096.536699295044',NULL),(1519816,'Avg output records per task','4240278',NULL),(1519816,'Avg spilled records per task','4851508',NULL),(1519816,'Number of tasks','9',NULL),(1519816,'Ratio of spilled records to output records','1.1441486724324312',NULL),(1519817,'Avg Physical Memory (MB)','1025',NULL),(1519817,'Avg task runtime','40 sec',NULL),(1519817,'Avg Virtual Memory (MB)','2917',NULL),(1519817,'Max Physical Memory (MB)','1040',NULL),(1519817,'Min Physical Memory (MB)','1003',NULL),(1519817,'Number of tasks','9',NULL),(1519817,'Requested Container Memory','1 GB',NULL),(1519818,'Group A','3 tasks @ 65 MB avg',NULL),(1519818,'Group B','2 tasks @ 65 MB avg',NULL),(1519818,'Number of tasks','5',NULL),(1519819,'Avg task CPU time (ms)','32478',NULL),(1519819,'Avg task GC time (ms)','1188',NULL),(1519819,'Avg task runtime (ms)','24655',NULL),(1519819,'Number of tasks','5',NULL),(1519819,'Task GC/CPU ratio','0.036578607057084794',NULL),(1519820,'Average task runtime','24 sec',NULL),(1519820,'Max task runtime','33 sec',NULL),(1519820,'Min task runtime','18 sec',NULL),(1519820,'Number of tasks','5',NULL),(1519821,'Avg Physical Memory (MB)','1140',NULL),(1519821,'Avg task runtime','24 sec',NULL),(1519821,'Avg Virtual Memory (MB)','2930',NULL),(1519821,'Max Physical Memory (MB)','1174',NULL),(1519821,'Min Physical Memory (MB)','1064',NULL),(1519821,'Number of tasks','5',NULL),(1519821,'Requested Container Memory','1 GB',NULL),(1519822,'Average code runtime','15 sec',NULL),(1519822,'Average shuffle time','6 sec (0.44x)',NULL),(1519822,'Average sort time','2 sec (0.18x)',NULL),(1519822,'Number of tasks','5',NULL),(1519824,'Group A','2 tasks @ 150 MB avg',NULL),(1519824,'Group B','4 tasks @ 426 MB avg',NULL),(1519824,'Number of tasks','6',NULL),(1519825,'Avg task CPU time (ms)','29083',NULL),(1519825,'Avg task GC time (ms)','614',NULL),(1519825,'Avg task runtime (ms)','22866',NULL),(1519825,'Number of tasks','6',NULL),(1519825,'Task GC/CPU ratio','0.02111198982223292',NULL),(1519826,'Average task input size','334 MB',NULL),(1519826,'Average task runtime','22 sec',NULL),(1519826,'Max task runtime','33 sec',NULL),(1519826,'Min task runtime','13 sec',NULL),(1519826,'Number of tasks','6',NULL),(1519827,'Median task input size','426 MB',NULL),(1519827,'Median task runtime','23 sec',NULL),(1519827,'Median task speed','14 MB/s',NULL),(1519827,'Number of tasks','6',NULL),(1519827,'Total input size in MB','2007.4812812805176',NULL),(1519828,'Avg output records per task','4923496',NULL),(1519828,'Avg spilled records per task','9506000',NULL),(1519828,'Number of tasks','6',NULL),(1519828,'Ratio of spilled records to output records','1.9307419971499926',NULL),(1519829,'Avg Physical Memory (MB)','1004',NULL),(1519829,'Avg task runtime','22 sec',NULL),(1519829,'Avg Virtual Memory (MB)','2918',NULL),(1519829,'Max Physical Memory (MB)','1021',NULL),(1519829,'Min Physical Memory (MB)','984',NULL),(1519829,'Number of tasks','6',NULL),(1519829,'Requested Container Memory','1 GB',NULL),(1519830,'Group A','1 tasks @ 84 MB avg',NULL),(1519830,'Group B','2 tasks @ 85 MB avg',NULL),(1519830,'Number of tasks','3',NULL),(1519831,'Avg task CPU time (ms)','43036',NULL),(1519831,'Avg task GC time (ms)','716',NULL),(1519831,'Avg task runtime (ms)','31501',NULL),(1519831,'Number of tasks','3',NULL),(1519831,'Task GC/CPU ratio','0.016637233943675063',NULL),(1519832,'Average task runtime','31 sec',NULL),(1519832,'Max task runtime','32 sec',NULL),(1519832,'Min task runtime','30 sec',NULL),(1519832,'Number of tasks','3',NULL),(1519833,'Avg Physical Memory (MB)','1293',NULL),(1519833,'Avg task runtime','31 sec',NULL),(1519833,'Avg Virtual Memory (MB)','2935',NULL),(1519833,'Max Physical Memory (MB)','1354',NULL),(1519833,'Min Physical Memory (MB)','1249',NULL),(1519833,'Number of tasks','3',NULL),(1519833,'Requested Container Memory','1 GB',NULL),(1519834,'Average code runtime','20 sec',NULL),(1519834,'Average shuffle time','6 sec (0.34x)',NULL),(1519834,'Average sort time','4 sec (0.22x)',NULL),(1519834,'Number of tasks','3',NULL),(1519836,'Group A','1 tasks @ 477 MB avg',NULL),(1519836,'Group B','2 tasks @ 496 MB avg',NULL),(1519836,'Number of tasks','3',NULL),(1519837,'Avg task CPU time (ms)','50053',NULL),(1519837,'Avg task GC time (ms)','1307',NULL),(1519837,'Avg task runtime (ms)','39273',NULL),(1519837,'Number of tasks','3',NULL),(1519837,'Task GC/CPU ratio','0.02611232093980381',NULL),(1519838,'Average task input size','490 MB',NULL),(1519838,'Average task runtime','39 sec',NULL),(1519838,'Max task runtime','50 sec',NULL),(1519838,'Min task runtime','25 sec',NULL),(1519838,'Number of tasks','3',NULL),(1519839,'Median task input size','495 MB',NULL),(1519839,'Median task runtime','41 sec',NULL),(1519839,'Median task speed','11 MB/s',NULL),(1519839,'Number of tasks','3',NULL),(1519839,'Total input size in MB','1470.1559200286865',NULL),(1519840,'Avg output records per task','8874376',NULL),(1519840,'Avg spilled records per task','635707',NULL),(1519840,'Number of tasks','3',NULL),(1519840,'Ratio of spilled records to output records','0.07163402650251867',NULL),(1519841,'Avg Physical Memory (MB)','1023',NULL),(1519841,'Avg task runtime','39 sec',NULL),(1519841,'Avg Virtual Memory (MB)','2917',NULL),(1519841,'Max Physical Memory (MB)','1031',NULL),(1519841,'Min Physical Memory (MB)','1018',NULL),(1519841,'Number of tasks','3',NULL),(1519841,'Requested Container Memory','1 GB',NULL),(1519842,'Group A','1 tasks @ 15 MB avg',NULL),(1519842,'Group B','1 tasks @ 15 MB avg',NULL),(1519842,'Number of tasks','2',NULL),(1519843,'Avg task CPU time (ms)','6380',NULL),(1519843,'Avg task GC time (ms)','56',NULL),(1519843,'Avg task runtime (ms)','7000',NULL),(1519843,'Number of tasks','2',NULL),(1519843,'Task GC/CPU ratio','0.00877742946708464',NULL),(1519844,'Average task runtime','7 sec',NULL),(1519844,'Max task runtime','7 sec',NULL),(1519844,'Min task runtime','6 sec',NULL),(1519844,'Number of tasks','2',NULL),(1519845,'Avg Physical Memory (MB)','520',NULL),(1519845,'Avg task runtime','7 sec',NULL),(1519845,'Avg Virtual Memory (MB)','2928',NULL),(1519845,'Max Physical Memory (MB)','522',NULL),(1519845,'Min Physical Memory (MB)','519',NULL),(1519845,'Number of tasks','2',NULL),(1519845,'Requested Container Memory','1 GB',NULL),(1519846,'Average code runtime','1 sec',NULL),(1519846,'Average shuffle time','4 sec (2.74x)',NULL),(1519846,'Average sort time',' (0.20x)',NULL),(1519846,'Number of tasks','2',NULL),(1519848,'Group A','1 tasks @ 403 MB avg',NULL),(1519848,'Group B','502 tasks @ 1 GB avg',NULL),(1519848,'Number of tasks','503',NULL),(1519849,'Avg task CPU time (ms)','124523',NULL),(1519849,'Avg task GC time (ms)','3644',NULL),(1519849,'Avg task runtime (ms)','106319',NULL),(1519849,'Number of tasks','503',NULL),(1519849,'Task GC/CPU ratio','0.029263670165350978',NULL),(1519850,'Average task input size','1 GB',NULL),(1519850,'Average task runtime','1 min 46 sec',NULL),(1519850,'Max task runtime','3 min 39 sec',NULL),(1519850,'Min task runtime','17 sec',NULL),(1519850,'Number of tasks','503',NULL),(1519851,'Median task input size','947 MB',NULL),(1519851,'Median task runtime','1 min 41 sec',NULL),(1519851,'Median task speed','10 MB/s',NULL),(1519851,'Number of tasks','503',NULL),(1519851,'Total input size in MB','525751.9063234329',NULL),(1519852,'Avg output records per task','750069',NULL),(1519852,'Avg spilled records per task','243854',NULL),(1519852,'Number of tasks','503',NULL),(1519852,'Ratio of spilled records to output records','0.32510910400171833',NULL),(1519853,'Avg Physical Memory (MB)','1045',NULL),(1519853,'Avg task runtime','1 min 46 sec',NULL),(1519853,'Avg Virtual Memory (MB)','2924',NULL),(1519853,'Max Physical Memory (MB)','1088',NULL),(1519853,'Min Physical Memory (MB)','814',NULL),(1519853,'Number of tasks','503',NULL),(1519853,'Requested Container Memory','1 GB',NULL),(1519854,'Group A','283 tasks @ 7 MB avg',NULL),(1519854,'Group B','269 tasks @ 7 MB avg',NULL),(1519854,'Number of tasks','552',NULL),(1519855,'Avg task CPU time (ms)','9793',NULL),(1519855,'Avg task GC time (ms)','100',NULL),(1519855,'Avg task runtime (ms)','42346',NULL),(1519855,'Number of tasks','552',NULL),(1519855,'Task GC/CPU ratio','0.010211375472276116',NULL),(1519856,'Average task runtime','42 sec',NULL),(1519856,'Max task runtime','1 min 43 sec',NULL),(1519856,'Min task runtime','7 sec',NULL),(1519856,'Number of tasks','552',NULL),(1519857,'Avg Physical Memory (MB)','577',NULL),(1519857,'Avg task runtime','42 sec',NULL),(1519857,'Avg Virtual Memory (MB)','2943',NULL),(1519857,'Max Physical Memory (MB)','623',NULL),(1519857,'Min Physical Memory (MB)','511',NULL),(1519857,'Number of tasks','552',NULL),(1519857,'Requested Container Memory','1 GB',NULL),(1519858,'Average code runtime','',NULL),(1519858,'Average shuffle time','41 sec (51.92x)',NULL),(1519858,'Average sort time',' (0.41x)',NULL),(1519858,'Number of tasks','552',NULL),(1519860,'Group A','1 tasks @ 280 MB avg',NULL),(1519860,'Group B','1 tasks @ 512 MB avg',NULL),(1519860,'Number of tasks','2',NULL),(1519861,'Avg task CPU time (ms)','102620',NULL),(1519861,'Avg task GC time (ms)','1747',NULL),(1519861,'Avg task runtime (ms)','70706',NULL),(1519861,'Number of tasks','2',NULL),(1519861,'Task GC/CPU ratio','0.017023971935295264',NULL),(1519862,'Average task input size','396 MB',NULL),(1519862,'Average task runtime','1 min 10 sec',NULL),(1519862,'Max task runtime','1 min 30 sec',NULL),(1519862,'Min task runtime','50 sec',NULL),(1519862,'Number of tasks','2',NULL),(1519863,'Median task input size','396 MB',NULL),(1519863,'Median task runtime','1 min 10 sec',NULL),(1519863,'Median task speed','5 MB/s',NULL),(1519863,'Number of tasks','2',NULL),(1519863,'Total input size in MB','792.506085395813',NULL),(1519864,'Avg output records per task','1245503',NULL),(1519864,'Avg spilled records per task','0',NULL),(1519864,'Number of tasks','2',NULL),(1519864,'Ratio of spilled records to output records','0.0',NULL),(1519865,'Avg Physical Memory (MB)','692',NULL),(1519865,'Avg task runtime','1 min 10 sec',NULL),(1519865,'Avg Virtual Memory (MB)','2929',NULL),(1519865,'Max Physical Memory (MB)','700',NULL),(1519865,'Min Physical Memory (MB)','684',NULL),(1519865,'Number of tasks','2',NULL),(1519865,'Requested Container Memory','1 GB',NULL),(1519866,'Group A','0 tasks @ 0 bytes avg',NULL),(1519866,'Group B','0 tasks @ 0 bytes avg',NULL),(1519866,'Number of tasks','0',NULL),(1519867,'Avg task CPU time (ms)','0',NULL),(1519867,'Avg task GC time (ms)','0',NULL),(1519867,'Avg task runtime (ms)','0',NULL),(1519867,'Number of tasks','0',NULL),(1519867,'Task GC/CPU ratio','0.0',NULL),(1519868,'Average task runtime','0 sec',NULL),(1519868,'Max task runtime','0 sec',NULL),(1519868,'Min task runtime','0 sec',NULL),(1519868,'Number of tasks','0',NULL),(1519869,'Avg Physical Memory (MB)','0',NULL),(1519869,'Avg task runtime','0 sec',NULL),(1519869,'Avg Virtual Memory (MB)','0',NULL),(1519869,'Max Physical Memory (MB)','0',NULL),(1519869,'Min Physical Memory (MB)','0',NULL),(1519869,'Number of tasks','0',NULL),(1519869,'Requested Container Memory','1 GB',NULL),(1519870,'Average code runtime','0 sec',NULL),(1519870,'Average shuffle time','0 sec ',NULL),(1519870,'Average sort time','0 sec ',NULL),(1519870,'Number of tasks','0',NULL),(1519872,'Group A','50 tasks @ 302 MB avg',NULL),(1519872,'Group B','100 tasks @ 483 MB avg',NULL),(1519872,'Number of tasks','150',NULL),(1519873,'Avg task CPU time (ms)','56132',NULL),(1519873,'Avg task GC time (ms)','306',NULL),(1519873,'Avg task runtime (ms)','48303',NULL),(1519873,'Number of tasks','150',NULL),(1519873,'Task GC/CPU ratio','0.005451435901090288',NULL),(1519874,'Average task input size','423 MB',NULL),(1519874,'Average task runtime','48 sec',NULL),(1519874,'Max task runtime','1 min 36 sec',NULL),(1519874,'Min task runtime','27 sec',NULL),(1519874,'Number of tasks','150',NULL),(1519875,'Median task input size','468 MB',NULL),(1519875,'Median task runtime','50 sec',NULL),(1519875,'Median task speed','9 MB/s',NULL),(1519875,'Number of tasks','150',NULL),(1519875,'Total input size in MB','63494.425676345825',NULL),(1519876,'Avg output records per task','1543736',NULL),(1519876,'Avg spilled records per task','0',NULL),(1519876,'Number of tasks','150',NULL),(1519876,'Ratio of spilled records to output records','0.0',NULL),(1519877,'Avg Physical Memory (MB)','607',NULL),(1519877,'Avg task runtime','48 sec',NULL),(1519877,'Avg Virtual Memory (MB)','2928',NULL),(1519877,'Max Physical Memory (MB)','645',NULL),(1519877,'Min Physical Memory (MB)','559',NULL),(1519877,'Number of tasks','150',NULL),(1519877,'Requested Container Memory','1 GB',NULL),(1519878,'Group A','0 tasks @ 0 bytes avg',NULL),(1519878,'Group B','0 tasks @ 0 bytes avg',NULL),(1519878,'Number of tasks','0',NULL),(1519879,'Avg task CPU time (ms)','0',NULL),(1519879,'Avg task GC time (ms)','0',NULL),(1519879,'Avg task runtime (ms)','0',NULL),(1519879,'Number of tasks','0',NULL),(1519879,'Task GC/CPU ratio','0.0',NULL),(1519880,'Average task runtime','0 sec',NULL),(1519880,'Max task runtime','0 sec',NULL),(1519880,'Min task runtime','0 sec',NULL),(1519880,'Number of tasks','0',NULL),(1519881,'Avg Physical Memory (MB)','0',NULL),(1519881,'Avg task runtime','0 sec',NULL),(1519881,'Avg Virtual Memory (MB)','0',NULL),(1519881,'Max Physical Memory (MB)','0',NULL),(1519881,'Min Physical Memory (MB)','0',NULL),(1519881,'Number of tasks','0',NULL),(1519881,'Requested Container Memory','1 GB',NULL),(1519882,'Average code runtime','0 sec',NULL),(1519882,'Average shuffle time','0 sec ',NULL),(1519882,'Average sort time','0 sec ',NULL),(1519882,'Number of tasks','0',NULL),(1519884,'Group A','1 tasks @ 264 MB avg',NULL),(1519884,'Group B','1 tasks @ 515 MB avg',NULL),(1519884,'Number of tasks','2',NULL),(1519885,'Avg task CPU time (ms)','66695',NULL),(1519885,'Avg task GC time (ms)','813',NULL),(1519885,'Avg task runtime (ms)','62888',NULL),(1519885,'Number of tasks','2',NULL),(1519885,'Task GC/CPU ratio','0.012189819326786117',NULL),(1519886,'Average task input size','390 MB',NULL),(1519886,'Average task runtime','1 min 2 sec',NULL),(1519886,'Max task runtime','1 min 28 sec',NULL),(1519886,'Min task runtime','37 sec',NULL),(1519886,'Number of tasks','2',NULL),(1519887,'Median task input size','390 MB',NULL),(1519887,'Median task runtime','1 min 2 sec',NULL),(1519887,'Median task speed','6 MB/s',NULL),(1519887,'Number of tasks','2',NULL),(1519887,'Total input size in MB','780.0830526351929',NULL),(1519888,'Avg output records per task','1242122',NULL),(1519888,'Avg spilled records per task','0',NULL),(1519888,'Number of tasks','2',NULL),(1519888,'Ratio of spilled records to output records','0.0',NULL),(1519889,'Avg Physical Memory (MB)','624',NULL),(1519889,'Avg task runtime','1 min 2 sec',NULL),(1519889,'Avg Virtual Memory (MB)','2966',NULL),(1519889,'Max Physical Memory (MB)','633',NULL),(1519889,'Min Physical Memory (MB)','614',NULL),(1519889,'Number of tasks','2',NULL),(1519889,'Requested Container Memory','1 GB',NULL),(1519890,'Group A','0 tasks @ 0 bytes avg',NULL),(1519890,'Group B','0 tasks @ 0 bytes avg',NULL),(1519890,'Number of tasks','0',NULL),(1519891,'Avg task CPU time (ms)','0',NULL),(1519891,'Avg task GC time (ms)','0',NULL),(1519891,'Avg task runtime (ms)','0',NULL),(1519891,'Number of tasks','0',NULL),(1519891,'Task GC/CPU ratio','0.0',NULL),(1519892,'Average task runtime','0 sec',NULL),(1519892,'Max task runtime','0 sec',NULL),(1519892,'Min task runtime','0 sec',NULL),(1519892,'Number of tasks','0',NULL),(1519893,'Avg Physical Memory (MB)','0',NULL),(1519893,'Avg task runtime','0 sec',NULL),(1519893,'Avg Virtual Memory (MB)','0',NULL),(1519893,'Max Physical Memory (MB)','0',NULL),(1519893,'Min Physical Memory (MB)','0',NULL),(1519893,'Number of tasks','0',NULL),(1519893,'Requested Container Memory','1 GB',NULL),(1519894,'Average code runtime','0 sec',NULL),(1519894,'Average shuffle time','0 sec ',NULL),(1519894,'Average sort time','0 sec ',NULL),(1519894,'Number of tasks','0',NULL),(1519896,'Group A','306 tasks @ 290 MB avg',NULL),(1519896,'Group B','203 tasks @ 454 MB avg',NULL),(1519896,'Number of tasks','509',NULL),(1519897,'Avg task CPU time (ms)','65394',NULL),(1519897,'Avg task GC time (ms)','909',NULL),(1519897,'Avg task runtime (ms)','53214',NULL),(1519897,'Number of tasks','509',NULL),(1519897,'Task GC/CPU ratio','0.013900357830993668',NULL),(1519898,'Average task input size','355 MB',NULL),(1519898,'Average task runtime','53 sec',NULL),(1519898,'Max task runtime','1 min 55 sec',NULL),(1519898,'Min task runtime','32 sec',NULL),(1519898,'Number of tasks','509',NULL),(1519899,'Median task input size','320 MB',NULL),(1519899,'Median task runtime','50 sec',NULL),(1519899,'Median task speed','7 MB/s',NULL),(1519899,'Number of tasks','509',NULL),(1519899,'Total input size in MB','181091.6296787262',NULL),(1519900,'Avg output records per task','308768',NULL),(1519900,'Avg spilled records per task','0',NULL),(1519900,'Number of tasks','509',NULL),(1519900,'Ratio of spilled records to output records','0.0',NULL),(1519901,'Avg Physical Memory (MB)','604',NULL),(1519901,'Avg task runtime','53 sec',NULL),(1519901,'Avg Virtual Memory (MB)','2924',NULL),(1519901,'Max Physical Memory (MB)','698',NULL),(1519901,'Min Physical Memory (MB)','569',NULL),(1519901,'Number of tasks','509',NULL),(1519901,'Requested Container Memory','1 GB',NULL),(1519902,'Group A','0 tasks @ 0 bytes avg',NULL),(1519902,'Group B','0 tasks @ 0 bytes avg',NULL),(1519902,'Number of tasks','0',NULL),(1519903,'Avg task CPU time (ms)','0',NULL),(1519903,'Avg task GC time (ms)','0',NULL),(1519903,'Avg task runtime (ms)','0',NULL),(1519903,'Number of tasks','0',NULL),(1519903,'Task GC/CPU ratio','0.0',NULL),(1519904,'Average task runtime','0 sec',NULL),(1519904,'Max task runtime','0 sec',NULL),(1519904,'Min task runtime','0 sec',NULL),(1519904,'Number of tasks','0',NULL),(1519905,'Avg Physical Memory (MB)','0',NULL),(1519905,'Avg task runtime','0 sec',NULL),(1519905,'Avg Virtual Memory (MB)','0',NULL),(1519905,'Max Physical Memory (MB)','0',NULL),(1519905,'Min Physical Memory (MB)','0',NULL),(1519905,'Number of tasks','0',NULL),(1519905,'Requested Container Memory','1 GB',NULL),(1519906,'Average code runtime','0 sec',NULL),(1519906,'Average shuffle time','0 sec ',NULL),(1519906,'Average sort time','0 sec ',NULL),(1519906,'Number of tasks','0',NULL),(1519908,'Group A','1 tasks @ 324 MB avg',NULL),(1519908,'Group B','1 tasks @ 507 MB avg',NULL),(1519908,'Number of tasks','2',NULL),(1519909,'Avg task CPU time (ms)','129925',NULL),(1519909,'Avg task GC time (ms)','3734',NULL),(1519909,'Avg task runtime (ms)','89082',NULL),(1519909,'Number of tasks','2',NULL),(1519909,'Task GC/CPU ratio','0.028739657494708484',NULL),(1519910,'Average task input size','415 MB',NULL),(1519910,'Average task runtime','1 min 29 sec',NULL),(1519910,'Max task runtime','1 min 59 sec',NULL),(1519910,'Min task runtime','58 sec',NULL),(1519910,'Number of tasks','2',NULL),(1519911,'Median task input size','415 MB',NULL),(1519911,'Median task runtime','1 min 29 sec',NULL),(1519911,'Median task speed','4 MB/s',NULL),(1519911,'Number of tasks','2',NULL),(1519911,'Total input size in MB','831.6270980834961',NULL),(1519912,'Avg output records per task','1211133',NULL),(1519912,'Avg spilled records per task','0',NULL),(1519912,'Number of tasks','2',NULL),(1519912,'Ratio of spilled records to output records','0.0',NULL),(1519913,'Avg Physical Memory (MB)','761',NULL),(1519913,'Avg task runtime','1 min 29 sec',NULL),(1519913,'Avg Virtual Memory (MB)','2926',NULL),(1519913,'Max Physical Memory (MB)','795',NULL),(1519913,'Min Physical Memory (MB)','726',NULL),(1519913,'Number of tasks','2',NULL),(1519913,'Requested Container Memory','1 GB',NULL),(1519914,'Group A','0 tasks @ 0 bytes avg',NULL),(1519914,'Group B','0 tasks @ 0 bytes avg',NULL),(1519914,'Number of tasks','0',NULL),(1519915,'Avg task CPU time (ms)','0',NULL),(1519915,'Avg task GC time (ms)','0',NULL),(1519915,'Avg task runtime (ms)','0',NULL),(1519915,'Number of tasks','0',NULL),(1519915,'Task GC/CPU ratio','0.0',NULL),(1519916,'Average task runtime','0 sec',NULL),(1519916,'Max task runtime','0 sec',NULL),(1519916,'Min task runtime','0 sec',NULL),(1519916,'Number of tasks','0',NULL),(1519917,'Avg Physical Memory (MB)','0',NULL),(1519917,'Avg task runtime','0 sec',NULL),(1519917,'Avg Virtual Memory (MB)','0',NULL),(1519917,'Max Physical Memory (MB)','0',NULL),(1519917,'Min Physical Memory (MB)','0',NULL),(1519917,'Number of tasks','0',NULL),(1519917,'Requested Container Memory','1 GB',NULL),(1519918,'Average code runtime','0 sec',NULL),(1519918,'Average shuffle time','0 sec ',NULL),(1519918,'Average sort time','0 sec ',NULL),(1519918,'Number of tasks','0',NULL),(1519920,'Group A','297 tasks @ 293 MB avg',NULL),(1519920,'Group B','198 tasks @ 448 MB avg',NULL),(1519920,'Number of tasks','495',NULL),(1519921,'Avg task CPU time (ms)','65955',NULL),(1519921,'Avg task GC time (ms)','971',NULL),(1519921,'Avg task runtime (ms)','53647',NULL),(1519921,'Number of tasks','495',NULL),(1519921,'Task GC/CPU ratio','0.014722159047835645',NULL),(1519922,'Average task input size','355 MB',NULL),(1519922,'Average task runtime','53 sec',NULL),(1519922,'Max task runtime','1 min 46 sec',NULL),(1519922,'Min task runtime','31 sec',NULL),(1519922,'Number of tasks','495',NULL),(1519923,'Median task input size','321 MB',NULL),(1519923,'Median task runtime','50 sec',NULL),(1519923,'Median task speed','6 MB/s',NULL),(1519923,'Number of tasks','495',NULL),(1519923,'Total input size in MB','175900.1569595337',NULL),(1519924,'Avg output records per task','304294',NULL),(1519924,'Avg spilled records per task','0',NULL),(1519924,'Number of tasks','495',NULL),(1519924,'Ratio of spilled records to output records','0.0',NULL),(1519925,'Avg Physical Memory (MB)','602',NULL),(1519925,'Avg task runtime','53 sec',NULL),(1519925,'Avg Virtual Memory (MB)','2927',NULL),(1519925,'Max Physical Memory (MB)','645',NULL),(1519925,'Min Physical Memory (MB)','569',NULL),(1519925,'Number of tasks','495',NULL),(1519925,'Requested Container Memory','1 GB',NULL),(1519926,'Group A','0 tasks @ 0 bytes avg',NULL),(1519926,'Group B','0 tasks @ 0 bytes avg',NULL),(1519926,'Number of tasks','0',NULL),(1519927,'Avg task CPU time (ms)','0',NULL),(1519927,'Avg task GC time (ms)','0',NULL),(1519927,'Avg task runtime (ms)','0',NULL),(1519927,'Number of tasks','0',NULL),(1519927,'Task GC/CPU ratio','0.0',NULL),(1519928,'Average task runtime','0 sec',NULL),(1519928,'Max task runtime','0 sec',NULL),(1519928,'Min task runtime','0 sec',NULL),(1519928,'Number of tasks','0',NULL),(1519929,'Avg Physical Memory (MB)','0',NULL),(1519929,'Avg task runtime','0 sec',NULL),(1519929,'Avg Virtual Memory (MB)','0',NULL),(1519929,'Max Physical Memory (MB)','0',NULL),(1519929,'Min Physical Memory (MB)','0',NULL),(1519929,'Number of tasks','0',NULL),(1519929,'Requested Container Memory','1 GB',NULL),(1519930,'Average code runtime','0 sec',NULL),(1519930,'Average shuffle time','0 sec ',NULL),(1519930,'Average sort time','0 sec ',NULL),(1519930,'Number of tasks','0',NULL),(1519932,'Group A','948 tasks @ 779 MB avg',NULL),(1519932,'Group B','835 tasks @ 1 GB avg',NULL),(1519932,'Number of tasks','1783',NULL),(1519933,'Avg task CPU time (ms)','71503',NULL),(1519933,'Avg task GC time (ms)','2697',NULL),(1519933,'Avg task runtime (ms)','47954',NULL),(1519933,'Number of tasks','1783',NULL),(1519933,'Task GC/CPU ratio','0.03771869711760346',NULL),(1519934,'Average task input size','941 MB',NULL),(1519934,'Average task runtime','47 sec',NULL),(1519934,'Max task runtime','1 min 54 sec',NULL),(1519934,'Min task runtime','20 sec',NULL),(1519934,'Number of tasks','1783',NULL),(1519935,'Median task input size','916 MB',NULL),(1519935,'Median task runtime','44 sec',NULL),(1519935,'Median task speed','21 MB/s',NULL),(1519935,'Number of tasks','1783',NULL),(1519935,'Total input size in MB','1678477.7600755692',NULL),(1519936,'Avg output records per task','3484134',NULL),(1519936,'Avg spilled records per task','6968269',NULL),(1519936,'Number of tasks','1783',NULL),(1519936,'Ratio of spilled records to output records','2.0',NULL),(1519937,'Avg Physical Memory (MB)','1055',NULL),(1519937,'Avg task runtime','47 sec',NULL),(1519937,'Avg Virtual Memory (MB)','2937',NULL),(1519937,'Max Physical Memory (MB)','1306',NULL),(1519937,'Min Physical Memory (MB)','778',NULL),(1519937,'Number of tasks','1783',NULL),(1519937,'Requested Container Memory','1 GB',NULL),(1519938,'Group A','520 tasks @ 500 MB avg',NULL),(1519938,'Group B','479 tasks @ 501 MB avg',NULL),(1519938,'Number of tasks','999',NULL),(1519939,'Avg task CPU time (ms)','69540',NULL),(1519939,'Avg task GC time (ms)','1728',NULL),(1519939,'Avg task runtime (ms)','74531',NULL),(1519939,'Number of tasks','999',NULL),(1519939,'Task GC/CPU ratio','0.024849007765314925',NULL),(1519940,'Average task runtime','1 min 14 sec',NULL),(1519940,'Max task runtime','3 min 1 sec',NULL),(1519940,'Min task runtime','39 sec',NULL),(1519940,'Number of tasks','999',NULL),(1519941,'Avg Physical Memory (MB)','1299',NULL),(1519941,'Avg task runtime','1 min 14 sec',NULL),(1519941,'Avg Virtual Memory (MB)','2962',NULL),(1519941,'Max Physical Memory (MB)','1479',NULL),(1519941,'Min Physical Memory (MB)','1088',NULL),(1519941,'Number of tasks','999',NULL),(1519941,'Requested Container Memory','1 GB',NULL),(1519942,'Average code runtime','29 sec',NULL),(1519942,'Average shuffle time','42 sec (1.45x)',NULL),(1519942,'Average sort time','2 sec (0.07x)',NULL),(1519942,'Number of tasks','999',NULL),(1519944,'Group A','889 tasks @ 310 MB avg',NULL),(1519944,'Group B','735 tasks @ 450 MB avg',NULL),(1519944,'Number of tasks','1624',NULL),(1519945,'Avg task CPU time (ms)','67810',NULL),(1519945,'Avg task GC time (ms)','1125',NULL),(1519945,'Avg task runtime (ms)','54926',NULL),(1519945,'Number of tasks','1624',NULL),(1519945,'Task GC/CPU ratio','0.016590473381507154',NULL),(1519946,'Average task input size','373 MB',NULL),(1519946,'Average task runtime','54 sec',NULL),(1519946,'Max task runtime','1 min 59 sec',NULL),(1519946,'Min task runtime','30 sec',NULL),(1519946,'Number of tasks','1624',NULL),(1519947,'Median task input size','361 MB',NULL),(1519947,'Median task runtime','52 sec',NULL),(1519947,'Median task speed','7 MB/s',NULL),(1519947,'Number of tasks','1624',NULL),(1519947,'Total input size in MB','606587.9218597412',NULL),(1519948,'Avg output records per task','337012',NULL),(1519948,'Avg spilled records per task','0',NULL),(1519948,'Number of tasks','1624',NULL),(1519948,'Ratio of spilled records to output records','0.0',NULL),(1519949,'Avg Physical Memory (MB)','607',NULL),(1519949,'Avg task runtime','54 sec',NULL),(1519949,'Avg Virtual Memory (MB)','2927',NULL),(1519949,'Max Physical Memory (MB)','674',NULL),(1519949,'Min Physical Memory (MB)','568',NULL),(1519949,'Number of tasks','1624',NULL),(1519949,'Requested Container Memory','1 GB',NULL),(1519950,'Group A','0 tasks @ 0 bytes avg',NULL),(1519950,'Group B','0 tasks @ 0 bytes avg',NULL),(1519950,'Number of tasks','0',NULL),(1519951,'Avg task CPU time (ms)','0',NULL),(1519951,'Avg task GC time (ms)','0',NULL),(1519951,'Avg task runtime (ms)','0',NULL),(1519951,'Number of tasks','0',NULL),(1519951,'Task GC/CPU ratio','0.0',NULL),(1519952,'Average task runtime','0 sec',NULL),(1519952,'Max task runtime','0 sec',NULL),(1519952,'Min task runtime','0 sec',NULL),(1519952,'Number of tasks','0',NULL),(1519953,'Avg Physical Memory (MB)','0',NULL),(1519953,'Avg task runtime','0 sec',NULL),(1519953,'Avg Virtual Memory (MB)','0',NULL),(1519953,'Max Physical Memory (MB)','0',NULL),(1519953,'Min Physical Memory (MB)','0',NULL),(1519953,'Number of tasks','0',NULL),(1519953,'Requested Container Memory','1 GB',NULL),(1519954,'Average code runtime','0 sec',NULL),(1519954,'Average shuffle time','0 sec ',NULL),(1519954,'Average sort time','0 sec ',NULL),(1519954,'Number of tasks','0',NULL),(1519956,'Group A','1 tasks @ 452 MB avg',NULL),(1519956,'Group B','497 tasks @ 1 GB avg',NULL),(1519956,'Number of tasks','498',NULL),(1519957,'Avg task CPU time (ms)','104899',NULL),(1519957,'Avg task GC time (ms)','1484',NULL),(1519957,'Avg task runtime (ms)','86266',NULL),(1519957,'Number of tasks','498',NULL),(1519957,'Task GC/CPU ratio','0.014146941343578108',NULL),(1519958,'Average task input size','1 GB',NULL),(1519958,'Average task runtime','1 min 26 sec',NULL),(1519958,'Max task runtime','2 min 46 sec',NULL),(1519958,'Min task runtime','16 sec',NULL),(1519958,'Number of tasks','498',NULL),(1519959,'Median task input size','949 MB',NULL),(1519959,'Median task runtime','1 min 21 sec',NULL),(1519959,'Median task speed','12 MB/s',NULL),(1519959,'Number of tasks','498',NULL),(1519959,'Total input size in MB','523536.60893917084',NULL),(1519960,'Avg output records per task','754187',NULL),(1519960,'Avg spilled records per task','244061',NULL),(1519960,'Number of tasks','498',NULL),(1519960,'Ratio of spilled records to output records','0.3236081854476542',NULL),(1519961,'Avg Physical Memory (MB)','891',NULL),(1519961,'Avg task runtime','1 min 26 sec',NULL),(1519961,'Avg Virtual Memory (MB)','2926',NULL),(1519961,'Max Physical Memory (MB)','965',NULL),(1519961,'Min Physical Memory (MB)','865',NULL),(1519961,'Number of tasks','498',NULL),(1519961,'Requested Container Memory','1 GB',NULL),(1519962,'Group A','276 tasks @ 7 MB avg',NULL),(1519962,'Group B','273 tasks @ 7 MB avg',NULL),(1519962,'Number of tasks','549',NULL),(1519963,'Avg task CPU time (ms)','9068',NULL),(1519963,'Avg task GC time (ms)','88',NULL),(1519963,'Avg task runtime (ms)','8130',NULL),(1519963,'Number of tasks','549',NULL),(1519963,'Task GC/CPU ratio','0.009704455227172474',NULL),(1519964,'Average task runtime','8 sec',NULL),(1519964,'Max task runtime','20 sec',NULL),(1519964,'Min task runtime','3 sec',NULL),(1519964,'Number of tasks','549',NULL),(1519965,'Avg Physical Memory (MB)','604',NULL),(1519965,'Avg task runtime','8 sec',NULL),(1519965,'Avg Virtual Memory (MB)','3285',NULL),(1519965,'Max Physical Memory (MB)','683',NULL),(1519965,'Min Physical Memory (MB)','507',NULL),(1519965,'Number of tasks','549',NULL),(1519965,'Requested Container Memory','1 GB',NULL),(1519966,'Average code runtime','',NULL),(1519966,'Average shuffle time','7 sec (16.20x)',NULL),(1519966,'Average sort time',' (0.71x)',NULL),(1519966,'Number of tasks','549',NULL),(1519968,'Group A','1 tasks @ 150 MB avg',NULL),(1519968,'Group B','1 tasks @ 155 MB avg',NULL),(1519968,'Number of tasks','2',NULL),(1519969,'Avg task CPU time (ms)','19210',NULL),(1519969,'Avg task GC time (ms)','164',NULL),(1519969,'Avg task runtime (ms)','16503',NULL),(1519969,'Number of tasks','2',NULL),(1519969,'Task GC/CPU ratio','0.008537220197813639',NULL),(1519970,'Average task input size','153 MB',NULL),(1519970,'Average task runtime','16 sec',NULL),(1519970,'Max task runtime','16 sec',NULL),(1519970,'Min task runtime','16 sec',NULL),(1519970,'Number of tasks','2',NULL),(1519971,'Median task input size','153 MB',NULL),(1519971,'Median task runtime','16 sec',NULL),(1519971,'Median task speed','9 MB/s',NULL),(1519971,'Number of tasks','2',NULL),(1519971,'Total input size in MB','306.22699069976807',NULL),(1519972,'Avg output records per task','2901809',NULL),(1519972,'Avg spilled records per task','5803619',NULL),(1519972,'Number of tasks','2',NULL),(1519972,'Ratio of spilled records to output records','2.0',NULL),(1519973,'Avg Physical Memory (MB)','848',NULL),(1519973,'Avg task runtime','16 sec',NULL),(1519973,'Avg Virtual Memory (MB)','2923',NULL),(1519973,'Max Physical Memory (MB)','852',NULL),(1519973,'Min Physical Memory (MB)','845',NULL),(1519973,'Number of tasks','2',NULL),(1519973,'Requested Container Memory','1 GB',NULL),(1519974,'Group A','0 tasks @ 0 bytes avg',NULL),(1519974,'Group B','1 tasks @ 188 MB avg',NULL),(1519974,'Number of tasks','1',NULL),(1519975,'Avg task CPU time (ms)','28760',NULL),(1519975,'Avg task GC time (ms)','174',NULL),(1519975,'Avg task runtime (ms)','26051',NULL),(1519975,'Number of tasks','1',NULL),(1519975,'Task GC/CPU ratio','0.0060500695410292075',NULL),(1519976,'Average task runtime','26 sec',NULL),(1519976,'Max task runtime','26 sec',NULL),(1519976,'Min task runtime','26 sec',NULL),(1519976,'Number of tasks','1',NULL),(1519977,'Avg Physical Memory (MB)','689',NULL),(1519977,'Avg task runtime','26 sec',NULL),(1519977,'Avg Virtual Memory (MB)','3255',NULL),(1519977,'Max Physical Memory (MB)','689',NULL),(1519977,'Min Physical Memory (MB)','689',NULL),(1519977,'Number of tasks','1',NULL),(1519977,'Requested Container Memory','1 GB',NULL),(1519978,'Average code runtime','16 sec',NULL),(1519978,'Average shuffle time','5 sec (0.33x)',NULL),(1519978,'Average sort time','3 sec (0.21x)',NULL),(1519978,'Number of tasks','1',NULL),(1519980,'Group A','0 tasks @ 0 bytes avg',NULL),(1519980,'Group B','1 tasks @ 163 MB avg',NULL),(1519980,'Number of tasks','1',NULL),(1519981,'Avg task CPU time (ms)','53920',NULL),(1519981,'Avg task GC time (ms)','631',NULL),(1519981,'Avg task runtime (ms)','40213',NULL),(1519981,'Number of tasks','1',NULL),(1519981,'Task GC/CPU ratio','0.011702522255192879',NULL),(1519982,'Average task input size','163 MB',NULL),(1519982,'Average task runtime','40 sec',NULL),(1519982,'Max task runtime','40 sec',NULL),(1519982,'Min task runtime','40 sec',NULL),(1519982,'Number of tasks','1',NULL),(1519983,'Median task input size','163 MB',NULL),(1519983,'Median task runtime','40 sec',NULL),(1519983,'Median task speed','4 MB/s',NULL),(1519983,'Number of tasks','1',NULL),(1519983,'Total input size in MB','163.50396060943604',NULL),(1519984,'Avg output records per task','2925684',NULL),(1519984,'Avg spilled records per task','5851368',NULL),(1519984,'Number of tasks','1',NULL),(1519984,'Ratio of spilled records to output records','2.0',NULL),(1519985,'Avg Physical Memory (MB)','856',NULL),(1519985,'Avg task runtime','40 sec',NULL),(1519985,'Avg Virtual Memory (MB)','2918',NULL),(1519985,'Max Physical Memory (MB)','856',NULL),(1519985,'Min Physical Memory (MB)','856',NULL),(1519985,'Number of tasks','1',NULL),(1519985,'Requested Container Memory','1 GB',NULL),(1519986,'Group A','0 tasks @ 0 bytes avg',NULL),(1519986,'Group B','1 tasks @ 97 MB avg',NULL),(1519986,'Number of tasks','1',NULL),(1519987,'Avg task CPU time (ms)','21470',NULL),(1519987,'Avg task GC time (ms)','304',NULL),(1519987,'Avg task runtime (ms)','21594',NULL),(1519987,'Number of tasks','1',NULL),(1519987,'Task GC/CPU ratio','0.01415929203539823',NULL),(1519988,'Average task runtime','21 sec',NULL),(1519988,'Max task runtime','21 sec',NULL),(1519988,'Min task runtime','21 sec',NULL),(1519988,'Number of tasks','1',NULL),(1519989,'Avg Physical Memory (MB)','687',NULL),(1519989,'Avg task runtime','21 sec',NULL),(1519989,'Avg Virtual Memory (MB)','3263',NULL),(1519989,'Max Physical Memory (MB)','687',NULL),(1519989,'Min Physical Memory (MB)','687',NULL),(1519989,'Number of tasks','1',NULL),(1519989,'Requested Container Memory','1 GB',NULL),(1519990,'Average code runtime','12 sec',NULL),(1519990,'Average shuffle time','7 sec (0.60x)',NULL),(1519990,'Average sort time','1 sec (0.15x)',NULL),(1519990,'Number of tasks','1',NULL),(1519992,'Group A','0 tasks @ 0 bytes avg',NULL),(1519992,'Group B','1 tasks @ 158 MB avg',NULL),(1519992,'Number of tasks','1',NULL),(1519993,'Avg task CPU time (ms)','22650',NULL),(1519993,'Avg task GC time (ms)','231',NULL),(1519993,'Avg task runtime (ms)','19696',NULL),(1519993,'Number of tasks','1',NULL),(1519993,'Task GC/CPU ratio','0.010198675496688741',NULL),(1519994,'Average task input size','158 MB',NULL),(1519994,'Average task runtime','19 sec',NULL),(1519994,'Max task runtime','19 sec',NULL),(1519994,'Min task runtime','19 sec',NULL),(1519994,'Number of tasks','1',NULL),(1519995,'Median task input size','158 MB',NULL),(1519995,'Median task runtime','19 sec',NULL),(1519995,'Median task speed','8 MB/s',NULL),(1519995,'Number of tasks','1',NULL),(1519995,'Total input size in MB','158.48675537109375',NULL),(1519996,'Avg output records per task','2925684',NULL),(1519996,'Avg spilled records per task','5851368',NULL),(1519996,'Number of tasks','1',NULL),(1519996,'Ratio of spilled records to output records','2.0',NULL),(1519997,'Avg Physical Memory (MB)','827',NULL),(1519997,'Avg task runtime','19 sec',NULL),(1519997,'Avg Virtual Memory (MB)','2924',NULL),(1519997,'Max Physical Memory (MB)','827',NULL),(1519997,'Min Physical Memory (MB)','827',NULL),(1519997,'Number of tasks','1',NULL),(1519997,'Requested Container Memory','1 GB',NULL),(1519998,'Group A','0 tasks @ 0 bytes avg',NULL),(1519998,'Group B','1 tasks @ 93 MB avg',NULL),(1519998,'Number of tasks','1',NULL),(1519999,'Avg task CPU time (ms)','15320',NULL),(1519999,'Avg task GC time (ms)','99',NULL),(1519999,'Avg task runtime (ms)','15367',NULL),(1519999,'Number of tasks','1',NULL),(1519999,'Task GC/CPU ratio','0.006462140992167102',NULL),(1520000,'Average task runtime','15 sec',NULL),(1520000,'Max task runtime','15 sec',NULL),(1520000,'Min task runtime','15 sec',NULL),(1520000,'Number of tasks','1',NULL),(1520001,'Avg Physical Memory (MB)','659',NULL),(1520001,'Avg task runtime','15 sec',NULL),(1520001,'Avg Virtual Memory (MB)','3270',NULL),(1520001,'Max Physical Memory (MB)','659',NULL),(1520001,'Min Physical Memory (MB)','659',NULL),(1520001,'Number of tasks','1',NULL),(1520001,'Requested Container Memory','1 GB',NULL),(1520002,'Average code runtime','7 sec',NULL),(1520002,'Average shuffle time','5 sec (0.71x)',NULL),(1520002,'Average sort time','1 sec (0.22x)',NULL),(1520002,'Number of tasks','1',NULL),(1520004,'Group A','2 tasks @ 176 MB avg',NULL),(1520004,'Group B','31 tasks @ 509 MB avg',NULL),(1520004,'Number of tasks','33',NULL),(1520005,'Avg task CPU time (ms)','46196',NULL),(1520005,'Avg task GC time (ms)','439',NULL),(1520005,'Avg task runtime (ms)','33085',NULL),(1520005,'Number of tasks','33',NULL),(1520005,'Task GC/CPU ratio','0.00950298727162525',NULL),(1520006,'Average task input size','489 MB',NULL),(1520006,'Average task runtime','33 sec',NULL),(1520006,'Max task runtime','49 sec',NULL),(1520006,'Min task runtime','11 sec',NULL),(1520006,'Number of tasks','33',NULL),(1520007,'Median task input size','507 MB',NULL),(1520007,'Median task runtime','32 sec',NULL),(1520007,'Median task speed','15 MB/s',NULL),(1520007,'Number of tasks','33',NULL),(1520007,'Total input size in MB','16157.14318561554',NULL),(1520008,'Avg output records per task','5373356',NULL),(1520008,'Avg spilled records per task','10746712',NULL),(1520008,'Number of tasks','33',NULL),(1520008,'Ratio of spilled records to output records','2.0',NULL),(1520009,'Avg Physical Memory (MB)','844',NULL),(1520009,'Avg task runtime','33 sec',NULL),(1520009,'Avg Virtual Memory (MB)','2923',NULL),(1520009,'Max Physical Memory (MB)','861',NULL),(1520009,'Min Physical Memory (MB)','816',NULL),(1520009,'Number of tasks','33',NULL),(1520009,'Requested Container Memory','1 GB',NULL),(1520010,'Group A','16 tasks @ 134 MB avg',NULL),(1520010,'Group B','1 tasks @ 993 MB avg',NULL),(1520010,'Number of tasks','17',NULL),(1520011,'Avg task CPU time (ms)','42275',NULL),(1520011,'Avg task GC time (ms)','727',NULL),(1520011,'Avg task runtime (ms)','32433',NULL),(1520011,'Number of tasks','17',NULL),(1520011,'Task GC/CPU ratio','0.01719692489651094',NULL),(1520012,'Average task runtime','32 sec',NULL),(1520012,'Max task runtime','1 min 35 sec',NULL),(1520012,'Min task runtime','23 sec',NULL),(1520012,'Number of tasks','17',NULL),(1520013,'Avg Physical Memory (MB)','1592',NULL),(1520013,'Avg task runtime','32 sec',NULL),(1520013,'Avg Virtual Memory (MB)','3271',NULL),(1520013,'Max Physical Memory (MB)','1710',NULL),(1520013,'Min Physical Memory (MB)','1407',NULL),(1520013,'Number of tasks','17',NULL),(1520013,'Requested Container Memory','1 GB',NULL),(1520014,'Average code runtime','19 sec',NULL),(1520014,'Average shuffle time','9 sec (0.50x)',NULL),(1520014,'Average sort time','2 sec (0.14x)',NULL),(1520014,'Number of tasks','17',NULL),(1520016,'Group A','1 tasks @ 260 MB avg',NULL),(1520016,'Group B','8 tasks @ 478 MB avg',NULL),(1520016,'Number of tasks','9',NULL),(1520017,'Avg task CPU time (ms)','41783',NULL),(1520017,'Avg task GC time (ms)','365',NULL),(1520017,'Avg task runtime (ms)','30677',NULL),(1520017,'Number of tasks','9',NULL),(1520017,'Task GC/CPU ratio','0.008735610176387526',NULL),(1520018,'Average task input size','454 MB',NULL),(1520018,'Average task runtime','30 sec',NULL),(1520018,'Max task runtime','35 sec',NULL),(1520018,'Min task runtime','20 sec',NULL),(1520018,'Number of tasks','9',NULL),(1520019,'Median task input size','476 MB',NULL),(1520019,'Median task runtime','31 sec',NULL),(1520019,'Median task speed','15 MB/s',NULL),(1520019,'Number of tasks','9',NULL),(1520019,'Total input size in MB','4087.891945838928',NULL),(1520020,'Avg output records per task','4231253',NULL),(1520020,'Avg spilled records per task','4840442',NULL),(1520020,'Number of tasks','9',NULL),(1520020,'Ratio of spilled records to output records','1.1439735330352832',NULL),(1520021,'Avg Physical Memory (MB)','855',NULL),(1520021,'Avg task runtime','30 sec',NULL),(1520021,'Avg Virtual Memory (MB)','2919',NULL),(1520021,'Max Physical Memory (MB)','874',NULL),(1520021,'Min Physical Memory (MB)','841',NULL),(1520021,'Number of tasks','9',NULL),(1520021,'Requested Container Memory','1 GB',NULL),(1520022,'Group A','2 tasks @ 65 MB avg',NULL),(1520022,'Group B','3 tasks @ 65 MB avg',NULL),(1520022,'Number of tasks','5',NULL),(1520023,'Avg task CPU time (ms)','26902',NULL),(1520023,'Avg task GC time (ms)','509',NULL),(1520023,'Avg task runtime (ms)','19608',NULL),(1520023,'Number of tasks','5',NULL),(1520023,'Task GC/CPU ratio','0.01892052635491785',NULL),(1520024,'Average task runtime','19 sec',NULL),(1520024,'Max task runtime','23 sec',NULL),(1520024,'Min task runtime','17 sec',NULL),(1520024,'Number of tasks','5',NULL),(1520025,'Avg Physical Memory (MB)','1041',NULL),(1520025,'Avg task runtime','19 sec',NULL),(1520025,'Avg Virtual Memory (MB)','3291',NULL),(1520025,'Max Physical Memory (MB)','1125',NULL),(1520025,'Min Physical Memory (MB)','981',NULL),(1520025,'Number of tasks','5',NULL),(1520025,'Requested Container Memory','1 GB',NULL),(1520026,'Average code runtime','11 sec',NULL),(1520026,'Average shuffle time','5 sec (0.53x)',NULL),(1520026,'Average sort time','2 sec (0.21x)',NULL),(1520026,'Number of tasks','5',NULL),(1520028,'Group A','3 tasks @ 260 MB avg',NULL),(1520028,'Group B','24 tasks @ 478 MB avg',NULL),(1520028,'Number of tasks','27',NULL),(1520029,'Avg task CPU time (ms)','34687',NULL),(1520029,'Avg task GC time (ms)','428',NULL),(1520029,'Avg task runtime (ms)','25760',NULL),(1520029,'Number of tasks','27',NULL),(1520029,'Task GC/CPU ratio','0.012338916596995993',NULL),(1520030,'Average task input size','454 MB',NULL),(1520030,'Average task runtime','25 sec',NULL),(1520030,'Max task runtime','36 sec',NULL),(1520030,'Min task runtime','13 sec',NULL),(1520030,'Number of tasks','27',NULL),(1520031,'Median task input size','476 MB',NULL),(1520031,'Median task runtime','24 sec',NULL),(1520031,'Median task speed','18 MB/s',NULL),(1520031,'Number of tasks','27',NULL),(1520031,'Total input size in MB','12263.675837516785',NULL),(1520032,'Avg output records per task','4304775',NULL),(1520032,'Avg spilled records per task','2127942',NULL),(1520032,'Number of tasks','27',NULL),(1520032,'Ratio of spilled records to output records','0.4943213459297361',NULL),(1520033,'Avg Physical Memory (MB)','854',NULL),(1520033,'Avg task runtime','25 sec',NULL),(1520033,'Avg Virtual Memory (MB)','2923',NULL),(1520033,'Max Physical Memory (MB)','872',NULL),(1520033,'Min Physical Memory (MB)','824',NULL),(1520033,'Number of tasks','27',NULL),(1520033,'Requested Container Memory','1 GB',NULL),(1520034,'Group A','8 tasks @ 48 MB avg',NULL),(1520034,'Group B','5 tasks @ 48 MB avg',NULL),(1520034,'Number of tasks','13',NULL),(1520035,'Avg task CPU time (ms)','20102',NULL),(1520035,'Avg task GC time (ms)','112',NULL),(1520035,'Avg task runtime (ms)','15768',NULL),(1520035,'Number of tasks','13',NULL),(1520035,'Task GC/CPU ratio','0.005571584916923689',NULL),(1520036,'Average task runtime','15 sec',NULL),(1520036,'Max task runtime','17 sec',NULL),(1520036,'Min task runtime','14 sec',NULL),(1520036,'Number of tasks','13',NULL),(1520037,'Avg Physical Memory (MB)','713',NULL),(1520037,'Avg task runtime','15 sec',NULL),(1520037,'Avg Virtual Memory (MB)','3282',NULL),(1520037,'Max Physical Memory (MB)','747',NULL),(1520037,'Min Physical Memory (MB)','681',NULL),(1520037,'Number of tasks','13',NULL),(1520037,'Requested Container Memory','1 GB',NULL),(1520038,'Average code runtime','8 sec',NULL),(1520038,'Average shuffle time','5 sec (0.69x)',NULL),(1520038,'Average sort time','1 sec (0.18x)',NULL),(1520038,'Number of tasks','13',NULL),(1520040,'Group A','2 tasks @ 150 MB avg',NULL),(1520040,'Group B','4 tasks @ 425 MB avg',NULL),(1520040,'Number of tasks','6',NULL),(1520041,'Avg task CPU time (ms)','25606',NULL),(1520041,'Avg task GC time (ms)','236',NULL),(1520041,'Avg task runtime (ms)','20435',NULL),(1520041,'Number of tasks','6',NULL),(1520041,'Task GC/CPU ratio','0.009216589861751152',NULL),(1520042,'Average task input size','334 MB',NULL),(1520042,'Average task runtime','20 sec',NULL),(1520042,'Max task runtime','24 sec',NULL),(1520042,'Min task runtime','12 sec',NULL),(1520042,'Number of tasks','6',NULL),(1520043,'Median task input size','425 MB',NULL),(1520043,'Median task runtime','22 sec',NULL),(1520043,'Median task speed','17 MB/s',NULL),(1520043,'Number of tasks','6',NULL),(1520043,'Total input size in MB','2004.069811820984',NULL),(1520044,'Avg output records per task','4915562',NULL),(1520044,'Avg spilled records per task','9831125',NULL),(1520044,'Number of tasks','6',NULL),(1520044,'Ratio of spilled records to output records','2.0',NULL),(1520045,'Avg Physical Memory (MB)','839',NULL),(1520045,'Avg task runtime','20 sec',NULL),(1520045,'Avg Virtual Memory (MB)','2915',NULL),(1520045,'Max Physical Memory (MB)','855',NULL),(1520045,'Min Physical Memory (MB)','821',NULL),(1520045,'Number of tasks','6',NULL),(1520045,'Requested Container Memory','1 GB',NULL),(1520046,'Group A','1 tasks @ 85 MB avg',NULL),(1520046,'Group B','2 tasks @ 86 MB avg',NULL),(1520046,'Number of tasks','3',NULL),(1520047,'Avg task CPU time (ms)','38256',NULL),(1520047,'Avg task GC time (ms)','454',NULL),(1520047,'Avg task runtime (ms)','27717',NULL),(1520047,'Number of tasks','3',NULL),(1520047,'Task GC/CPU ratio','0.011867419489753242',NULL),(1520048,'Average task runtime','27 sec',NULL),(1520048,'Max task runtime','28 sec',NULL),(1520048,'Min task runtime','26 sec',NULL),(1520048,'Number of tasks','3',NULL),(1520049,'Avg Physical Memory (MB)','1105',NULL),(1520049,'Avg task runtime','27 sec',NULL),(1520049,'Avg Virtual Memory (MB)','3276',NULL),(1520049,'Max Physical Memory (MB)','1176',NULL),(1520049,'Min Physical Memory (MB)','1057',NULL),(1520049,'Number of tasks','3',NULL),(1520049,'Requested Container Memory','1 GB',NULL),(1520050,'Average code runtime','18 sec',NULL),(1520050,'Average shuffle time','5 sec (0.28x)',NULL),(1520050,'Average sort time','4 sec (0.23x)',NULL),(1520050,'Number of tasks','3',NULL),(1520052,'Group A','1 tasks @ 476 MB avg',NULL),(1520052,'Group B','2 tasks @ 495 MB avg',NULL),(1520052,'Number of tasks','3',NULL),(1520053,'Avg task CPU time (ms)','39180',NULL),(1520053,'Avg task GC time (ms)','353',NULL),(1520053,'Avg task runtime (ms)','27557',NULL),(1520053,'Number of tasks','3',NULL),(1520053,'Task GC/CPU ratio','0.009009698825931597',NULL),(1520054,'Average task input size','489 MB',NULL),(1520054,'Average task runtime','27 sec',NULL),(1520054,'Max task runtime','29 sec',NULL),(1520054,'Min task runtime','26 sec',NULL),(1520054,'Number of tasks','3',NULL),(1520055,'Median task input size','495 MB',NULL),(1520055,'Median task runtime','27 sec',NULL),(1520055,'Median task speed','17 MB/s',NULL),(1520055,'Number of tasks','3',NULL),(1520055,'Total input size in MB','1467.140121459961',NULL),(1520056,'Avg output records per task','8855897',NULL),(1520056,'Avg spilled records per task','635697',NULL),(1520056,'Number of tasks','3',NULL),(1520056,'Ratio of spilled records to output records','0.07178233623003459',NULL),(1520057,'Avg Physical Memory (MB)','846',NULL),(1520057,'Avg task runtime','27 sec',NULL),(1520057,'Avg Virtual Memory (MB)','2917',NULL),(1520057,'Max Physical Memory (MB)','860',NULL),(1520057,'Min Physical Memory (MB)','834',NULL),(1520057,'Number of tasks','3',NULL),(1520057,'Requested Container Memory','1 GB',NULL),(1520058,'Group A','1 tasks @ 15 MB avg',NULL),(1520058,'Group B','1 tasks @ 15 MB avg',NULL),(1520058,'Number of tasks','2',NULL),(1520059,'Avg task CPU time (ms)','6420',NULL),(1520059,'Avg task GC time (ms)','59',NULL),(1520059,'Avg task runtime (ms)','11536',NULL),(1520059,'Number of tasks','2',NULL),(1520059,'Task GC/CPU ratio','0.009190031152647975',NULL),(1520060,'Average task runtime','11 sec',NULL),(1520060,'Max task runtime','11 sec',NULL),(1520060,'Min task runtime','11 sec',NULL),(1520060,'Number of tasks','2',NULL),(1520061,'Avg Physical Memory (MB)','617',NULL),(1520061,'Avg task runtime','11 sec',NULL),(1520061,'Avg Virtual Memory (MB)','3267',NULL),(1520061,'Max Physical Memory (MB)','617',NULL),(1520061,'Min Physical Memory (MB)','617',NULL),(1520061,'Number of tasks','2',NULL),(1520061,'Requested Container Memory','1 GB',NULL),(1520062,'Average code runtime','1 sec',NULL),(1520062,'Average shuffle time','9 sec (4.77x)',NULL),(1520062,'Average sort time',' (0.19x)',NULL),(1520062,'Number of tasks','2',NULL),(1520064,'Group A','308 tasks @ 859 MB avg',NULL),(1520064,'Group B','204 tasks @ 1 GB avg',NULL),(1520064,'Number of tasks','512',NULL),(1520065,'Avg task CPU time (ms)','105256',NULL),(1520065,'Avg task GC time (ms)','1649',NULL),(1520065,'Avg task runtime (ms)','87523',NULL),(1520065,'Number of tasks','512',NULL),(1520065,'Task GC/CPU ratio','0.015666565326442197',NULL),(1520066,'Average task input size','1 GB',NULL),(1520066,'Average task runtime','1 min 27 sec',NULL),(1520066,'Max task runtime','3 min 7 sec',NULL),(1520066,'Min task runtime','18 sec',NULL),(1520066,'Number of tasks','512',NULL),(1520067,'Median task input size','948 MB',NULL),(1520067,'Median task runtime','1 min 22 sec',NULL),(1520067,'Median task speed','12 MB/s',NULL),(1520067,'Number of tasks','512',NULL),(1520067,'Total input size in MB','539270.6440467834',NULL),(1520068,'Avg output records per task','736811',NULL),(1520068,'Avg spilled records per task','235320',NULL),(1520068,'Number of tasks','512',NULL),(1520068,'Ratio of spilled records to output records','0.3193772050486382',NULL),(1520069,'Avg Physical Memory (MB)','892',NULL),(1520069,'Avg task runtime','1 min 27 sec',NULL),(1520069,'Avg Virtual Memory (MB)','2924',NULL),(1520069,'Max Physical Memory (MB)','1001',NULL),(1520069,'Min Physical Memory (MB)','864',NULL),(1520069,'Number of tasks','512',NULL),(1520069,'Requested Container Memory','1 GB',NULL),(1520070,'Group A','291 tasks @ 7 MB avg',NULL),(1520070,'Group B','275 tasks @ 7 MB avg',NULL),(1520070,'Number of tasks','566',NULL),(1520071,'Avg task CPU time (ms)','9313',NULL),(1520071,'Avg task GC time (ms)','80',NULL),(1520071,'Avg task runtime (ms)','7792',NULL),(1520071,'Number of tasks','566',NULL),(1520071,'Task GC/CPU ratio','0.008590142811124236',NULL),(1520072,'Average task runtime','7 sec',NULL),(1520072,'Max task runtime','16 sec',NULL),(1520072,'Min task runtime','3 sec',NULL),(1520072,'Number of tasks','566',NULL),(1520073,'Avg Physical Memory (MB)','608',NULL),(1520073,'Avg task runtime','7 sec',NULL),(1520073,'Avg Virtual Memory (MB)','3286',NULL),(1520073,'Max Physical Memory (MB)','705',NULL),(1520073,'Min Physical Memory (MB)','508',NULL),(1520073,'Number of tasks','566',NULL),(1520073,'Requested Container Memory','1 GB',NULL),(1520074,'Average code runtime','',NULL),(1520074,'Average shuffle time','6 sec (8.14x)',NULL),(1520074,'Average sort time',' (0.38x)',NULL),(1520074,'Number of tasks','566',NULL),(1520076,'Group A','934 tasks @ 779 MB avg',NULL),(1520076,'Group B','840 tasks @ 1 GB avg',NULL),(1520076,'Number of tasks','1774',NULL),(1520077,'Avg task CPU time (ms)','64423',NULL),(1520077,'Avg task GC time (ms)','1714',NULL),(1520077,'Avg task runtime (ms)','46509',NULL),(1520077,'Number of tasks','1774',NULL),(1520077,'Task GC/CPU ratio','0.026605404901976003',NULL),(1520078,'Average task input size','944 MB',NULL),(1520078,'Average task runtime','46 sec',NULL),(1520078,'Max task runtime','2 min 23 sec',NULL),(1520078,'Min task runtime','23 sec',NULL),(1520078,'Number of tasks','1774',NULL),(1520079,'Median task input size','926 MB',NULL),(1520079,'Median task runtime','43 sec',NULL),(1520079,'Median task speed','21 MB/s',NULL),(1520079,'Number of tasks','1774',NULL),(1520079,'Total input size in MB','1676399.0118570328',NULL),(1520080,'Avg output records per task','3497298',NULL),(1520080,'Avg spilled records per task','6994597',NULL),(1520080,'Number of tasks','1774',NULL),(1520080,'Ratio of spilled records to output records','2.0',NULL),(1520081,'Avg Physical Memory (MB)','900',NULL),(1520081,'Avg task runtime','46 sec',NULL),(1520081,'Avg Virtual Memory (MB)','2936',NULL),(1520081,'Max Physical Memory (MB)','1000',NULL),(1520081,'Min Physical Memory (MB)','828',NULL),(1520081,'Number of tasks','1774',NULL),(1520081,'Requested Container Memory','1 GB',NULL),(1520082,'Group A','513 tasks @ 499 MB avg',NULL),(1520082,'Group B','486 tasks @ 500 MB avg',NULL),(1520082,'Number of tasks','999',NULL),(1520083,'Avg task CPU time (ms)','71535',NULL),(1520083,'Avg task GC time (ms)','1696',NULL),(1520083,'Avg task runtime (ms)','52042',NULL),(1520083,'Number of tasks','999',NULL),(1520083,'Task GC/CPU ratio','0.023708674075627316',NULL),(1520084,'Average task runtime','52 sec',NULL),(1520084,'Max task runtime','1 min 48 sec',NULL),(1520084,'Min task runtime','38 sec',NULL),(1520084,'Number of tasks','999',NULL),(1520085,'Avg Physical Memory (MB)','1612',NULL),(1520085,'Avg task runtime','52 sec',NULL),(1520085,'Avg Virtual Memory (MB)','3297',NULL),(1520085,'Max Physical Memory (MB)','1792',NULL),(1520085,'Min Physical Memory (MB)','1389',NULL),(1520085,'Number of tasks','999',NULL),(1520085,'Requested Container Memory','1 GB',NULL),(1520086,'Average code runtime','29 sec',NULL),(1520086,'Average shuffle time','15 sec (0.54x)',NULL),(1520086,'Average sort time','6 sec (0.22x)',NULL),(1520086,'Number of tasks','999',NULL),(1536115,'Group A','0 tasks @ 0 bytes avg',NULL),(1536115,'Group B','1 tasks @ 515 MB avg',NULL),(1536115,'Number of tasks','1',NULL),(1536116,'Avg task CPU time (ms)','109330',NULL),(1536116,'Avg task GC time (ms)','6065',NULL),(1536116,'Avg task runtime (ms)','102946',NULL),(1536116,'Number of tasks','1',NULL),(1536116,'Task GC/CPU ratio','0.05547425226378853',NULL),(1536117,'Average task input size','515 MB',NULL),(1536117,'Average task runtime','1 min 42 sec',NULL),(1536117,'Max task runtime','1 min 42 sec',NULL),(1536117,'Min task runtime','1 min 42 sec',NULL),(1536117,'Number of tasks','1',NULL),(1536118,'Median task input size','515 MB',NULL),(1536118,'Median task runtime','1 min 42 sec',NULL),(1536118,'Median task speed','5 MB/s',NULL),(1536118,'Number of tasks','1',NULL),(1536118,'Total input size in MB','515.5552177429199',NULL),(1536119,'Avg output records per task','977313',NULL),(1536119,'Avg spilled records per task','251',NULL),(1536119,'Number of tasks','1',NULL),(1536119,'Ratio of spilled records to output records','2.5682662565626365E-4',NULL),(1536120,'Avg Physical Memory (MB)','1860',NULL),(1536120,'Avg task runtime','1 min 42 sec',NULL),(1536120,'Avg Virtual Memory (MB)','3672',NULL),(1536120,'Max Physical Memory (MB)','1860',NULL),(1536120,'Min Physical Memory (MB)','1860',NULL),(1536120,'Number of tasks','1',NULL),(1536120,'Requested Container Memory','2 GB',NULL),(1536121,'Group A','0 tasks @ 0 bytes avg',NULL),(1536121,'Group B','1 tasks @ 1 KB avg',NULL),(1536121,'Number of tasks','1',NULL),(1536122,'Avg task CPU time (ms)','2700',NULL),(1536122,'Avg task GC time (ms)','109',NULL),(1536122,'Avg task runtime (ms)','8496',NULL),(1536122,'Number of tasks','1',NULL),(1536122,'Task GC/CPU ratio','0.04037037037037037',NULL),(1536123,'Average task runtime','8 sec',NULL),(1536123,'Max task runtime','8 sec',NULL),(1536123,'Min task runtime','8 sec',NULL),(1536123,'Number of tasks','1',NULL),(1536124,'Avg Physical Memory (MB)','398',NULL),(1536124,'Avg task runtime','8 sec',NULL),(1536124,'Avg Virtual Memory (MB)','4100',NULL),(1536124,'Max Physical Memory (MB)','398',NULL),(1536124,'Min Physical Memory (MB)','398',NULL),(1536124,'Number of tasks','1',NULL),(1536124,'Requested Container Memory','3 GB',NULL),(1536125,'Average code runtime','',NULL),(1536125,'Average shuffle time','7 sec (9.49x)',NULL),(1536125,'Average sort time',' (0.05x)',NULL),(1536125,'Number of tasks','1',NULL),(1536163,'Group A','0 tasks @ 0 bytes avg',NULL),(1536163,'Group B','1 tasks @ 515 MB avg',NULL),(1536163,'Number of tasks','1',NULL),(1536164,'Avg task CPU time (ms)','132240',NULL),(1536164,'Avg task GC time (ms)','6714',NULL),(1536164,'Avg task runtime (ms)','186804',NULL),(1536164,'Number of tasks','1',NULL),(1536164,'Task GC/CPU ratio','0.050771324863883846',NULL),(1536165,'Average task input size','515 MB',NULL),(1536165,'Average task runtime','3 min 6 sec',NULL),(1536165,'Max task runtime','3 min 6 sec',NULL),(1536165,'Min task runtime','3 min 6 sec',NULL),(1536165,'Number of tasks','1',NULL),(1536166,'Median task input size','515 MB',NULL),(1536166,'Median task runtime','3 min 6 sec',NULL),(1536166,'Median task speed','2 MB/s',NULL),(1536166,'Number of tasks','1',NULL),(1536166,'Total input size in MB','515.5552177429199',NULL),(1536167,'Avg output records per task','977313',NULL),(1536167,'Avg spilled records per task','251',NULL),(1536167,'Number of tasks','1',NULL),(1536167,'Ratio of spilled records to output records','2.5682662565626365E-4',NULL),(1536168,'Avg Physical Memory (MB)','968',NULL),(1536168,'Avg task runtime','3 min 6 sec',NULL),(1536168,'Avg Virtual Memory (MB)','2345',NULL),(1536168,'Max Physical Memory (MB)','968',NULL),(1536168,'Min Physical Memory (MB)','968',NULL),(1536168,'Number of tasks','1',NULL),(1536168,'Requested Container Memory','4 GB',NULL),(1536169,'Group A','0 tasks @ 0 bytes avg',NULL),(1536169,'Group B','1 tasks @ 1 KB avg',NULL),(1536169,'Number of tasks','1',NULL),(1536170,'Avg task CPU time (ms)','2830',NULL),(1536170,'Avg task GC time (ms)','73',NULL),(1536170,'Avg task runtime (ms)','8188',NULL),(1536170,'Number of tasks','1',NULL),(1536170,'Task GC/CPU ratio','0.025795053003533568',NULL),(1536171,'Average task runtime','8 sec',NULL),(1536171,'Max task runtime','8 sec',NULL),(1536171,'Min task runtime','8 sec',NULL),(1536171,'Number of tasks','1',NULL),(1536172,'Avg Physical Memory (MB)','301',NULL),(1536172,'Avg task runtime','8 sec',NULL),(1536172,'Avg Virtual Memory (MB)','2338',NULL),(1536172,'Max Physical Memory (MB)','301',NULL),(1536172,'Min Physical Memory (MB)','301',NULL),(1536172,'Number of tasks','1',NULL),(1536172,'Requested Container Memory','4 GB',NULL),(1536173,'Average code runtime','',NULL),(1536173,'Average shuffle time','7 sec (9.03x)',NULL),(1536173,'Average sort time',' (0.04x)',NULL),(1536173,'Number of tasks','1',NULL);
+INSERT INTO yarn_app_heuristic_detail_name (id,name) VALUES (1,'Group A'), (2,'Group B'), (3,'Number of tasks'), (4,'Avg task CPU time (ms)'), (5,'Avg task GC time (ms)'), (6,'Avg task runtime (ms)'), (7,'Task GC/CPU ratio'), (8,'Average task input size'), (9,'Average task runtime'), (10,'Max task runtime'), (11,'Min task runtime'), (12,'Median task input size'), (13,'Median task runtime'), (14,'Median task speed'), (27,'Total input size in MB'), (15,'Avg output records per task'), (16,'Avg spilled records per task'), (17,'Ratio of spilled records to output records'), (18,'Avg Physical Memory (MB)'), (19,'Avg task runtime'), (20,'Avg Virtual Memory (MB)'), (21,'Max Physical Memory (MB)'), (22,'Min Physical Memory (MB)'), (23,'Requested Container Memory'), (24,'Average code runtime'), (25,'Average shuffle time'), (26,'Average sort time');
+
+INSERT INTO yarn_app_heuristic_result_details (yarn_app_heuristic_result_id,name_id,value,details) VALUES (1511830,1,'1 tasks @ 9 MB avg',NULL), (1511830,2,'2 tasks @ 513 MB avg',NULL), (1511830,3,'3',NULL), (1511831,4,'55903',NULL), (1511831,5,'316',NULL), (1511831,6,'69313',NULL), (1511831,3,'3',NULL), (1511831,7,'0.005652648337298535',NULL), (1511832,8,'345 MB',NULL), (1511832,9,'1 min 9 sec',NULL), (1511832,10,'1 min 42 sec',NULL), (1511832,11,'9 sec',NULL), (1511832,3,'3',NULL), (1511833,12,'511 MB',NULL), (1511833,13,'1 min 36 sec',NULL), (1511833,14,'5 MB/s',NULL), (1511833,3,'3',NULL), (1511833,27,'1035.5147895812988',NULL), (1511834,15,'1094880',NULL), (1511834,16,'0',NULL), (1511834,3,'3',NULL), (1511834,17,'0.0',NULL), (1511835,18,'656',NULL), (1511835,19,'1 min 9 sec',NULL), (1511835,20,'2354',NULL), (1511835,21,'743',NULL), (1511835,22,'500',NULL), (1511835,3,'3',NULL), (1511835,23,'2 GB',NULL), (1511836,1,'0 tasks @ 0 bytes avg',NULL), (1511836,2,'0 tasks @ 0 bytes avg',NULL), (1511836,3,'0',NULL), (1511837,4,'0',NULL), (1511837,5,'0',NULL), (1511837,6,'0',NULL), (1511837,3,'0',NULL), (1511837,7,'0.0',NULL), (1511838,9,'0 sec',NULL), (1511838,10,'0 sec',NULL), (1511838,11,'0 sec',NULL), (1511838,3,'0',NULL), (1511839,18,'0',NULL), (1511839,19,'0 sec',NULL), (1511839,20,'0',NULL), (1511839,21,'0',NULL), (1511839,22,'0',NULL), (1511839,3,'0',NULL), (1511839,23,'2 GB',NULL), (1511840,24,'0 sec',NULL), (1511840,25,'0 sec ',NULL), (1511840,26,'0 sec ',NULL), (1511840,3,'0',NULL), (1511842,1,'1 tasks @ 157 MB avg',NULL), (1511842,2,'2 tasks @ 504 MB avg',NULL), (1511842,3,'3',NULL), (1511843,4,'148426',NULL), (1511843,5,'3774',NULL), (1511843,6,'161024',NULL), (1511843,3,'3',NULL), (1511843,7,'0.025426812014067615',NULL), (1511844,8,'388 MB',NULL), (1511844,9,'2 min 41 sec',NULL), (1511844,10,'3 min 22 sec',NULL), (1511844,11,'1 min 25 sec',NULL), (1511844,3,'3',NULL), (1511845,12,'500 MB',NULL), (1511845,13,'3 min 14 sec',NULL), (1511845,14,'2 MB/s',NULL), (1511845,3,'3',NULL), (1511845,27,'1165.6459951400757',NULL), (1511846,15,'1157494',NULL), (1511846,16,'0',NULL), (1511846,3,'3',NULL), (1511846,17,'0.0',NULL), (1511847,18,'904',NULL), (1511847,19,'2 min 41 sec',NULL), (1511847,20,'2388',NULL), (1511847,21,'1109',NULL), (1511847,22,'747',NULL), (1511847,3,'3',NULL), (1511847,23,'2 GB',NULL), (1511848,1,'0 tasks @ 0 bytes avg',NULL), (1511848,2,'0 tasks @ 0 bytes avg',NULL), (1511848,3,'0',NULL), (1511849,4,'0',NULL), (1511849,5,'0',NULL), (1511849,6,'0',NULL), (1511849,3,'0',NULL), (1511849,7,'0.0',NULL), (1511850,9,'0 sec',NULL), (1511850,10,'0 sec',NULL), (1511850,11,'0 sec',NULL), (1511850,3,'0',NULL), (1511851,18,'0',NULL), (1511851,19,'0 sec',NULL), (1511851,20,'0',NULL), (1511851,21,'0',NULL), (1511851,22,'0',NULL), (1511851,3,'0',NULL), (1511851,23,'2 GB',NULL), (1511852,24,'0 sec',NULL), (1511852,25,'0 sec ',NULL), (1511852,26,'0 sec ',NULL), (1511852,3,'0',NULL), (1511866,1,'105 tasks @ 302 MB avg',NULL), (1511866,2,'99 tasks @ 471 MB avg',NULL), (1511866,3,'204',NULL), (1511867,4,'69552',NULL), (1511867,5,'431',NULL), (1511867,6,'81565',NULL), (1511867,3,'204',NULL), (1511867,7,'0.006196802392454567',NULL), (1511868,8,'384 MB',NULL), (1511868,9,'1 min 21 sec',NULL), (1511868,10,'2 min 41 sec',NULL), (1511868,11,'41 sec',NULL), (1511868,3,'204',NULL), (1511869,12,'377 MB',NULL), (1511869,13,'1 min 19 sec',NULL), (1511869,14,'4 MB/s',NULL), (1511869,3,'204',NULL), (1511869,27,'78404.13675880432',NULL), (1511870,15,'1411730',NULL), (1511870,16,'0',NULL), (1511870,3,'204',NULL), (1511870,17,'0.0',NULL), (1511871,18,'722',NULL), (1511871,19,'1 min 21 sec',NULL), (1511871,20,'2358',NULL), (1511871,21,'768',NULL), (1511871,22,'669',NULL), (1511871,3,'204',NULL), (1511871,23,'2 GB',NULL), (1511872,1,'0 tasks @ 0 bytes avg',NULL), (1511872,2,'0 tasks @ 0 bytes avg',NULL), (1511872,3,'0',NULL), (1511873,4,'0',NULL), (1511873,5,'0',NULL), (1511873,6,'0',NULL), (1511873,3,'0',NULL), (1511873,7,'0.0',NULL), (1511874,9,'0 sec',NULL), (1511874,10,'0 sec',NULL), (1511874,11,'0 sec',NULL), (1511874,3,'0',NULL), (1511875,18,'0',NULL), (1511875,19,'0 sec',NULL), (1511875,20,'0',NULL), (1511875,21,'0',NULL), (1511875,22,'0',NULL), (1511875,3,'0',NULL), (1511875,23,'2 GB',NULL), (1511876,24,'0 sec',NULL), (1511876,25,'0 sec ',NULL), (1511876,26,'0 sec ',NULL), (1511876,3,'0',NULL), (1511878,1,'348 tasks @ 300 MB avg',NULL), (1511878,2,'255 tasks @ 438 MB avg',NULL), (1511878,3,'603',NULL), (1511879,4,'74298',NULL), (1511879,5,'762',NULL), (1511879,6,'84955',NULL), (1511879,3,'603',NULL), (1511879,7,'0.010255996123718001',NULL), (1511880,8,'358 MB',NULL), (1511880,9,'1 min 24 sec',NULL), (1511880,10,'2 min 53 sec',NULL), (1511880,11,'39 sec',NULL), (1511880,3,'603',NULL), (1511881,12,'336 MB',NULL), (1511881,13,'1 min 21 sec',NULL), (1511881,14,'4 MB/s',NULL), (1511881,3,'603',NULL), (1511881,27,'216403.73294448853',NULL), (1511882,15,'327606',NULL), (1511882,16,'0',NULL), (1511882,3,'603',NULL), (1511882,17,'0.0',NULL), (1511883,18,'714',NULL), (1511883,19,'1 min 24 sec',NULL), (1511883,20,'2352',NULL), (1511883,21,'854',NULL), (1511883,22,'650',NULL), (1511883,3,'603',NULL), (1511883,23,'2 GB',NULL), (1511884,1,'0 tasks @ 0 bytes avg',NULL), (1511884,2,'0 tasks @ 0 bytes avg',NULL), (1511884,3,'0',NULL), (1511885,4,'0',NULL), (1511885,5,'0',NULL), (1511885,6,'0',NULL), (1511885,3,'0',NULL), (1511885,7,'0.0',NULL), (1511886,9,'0 sec',NULL), (1511886,10,'0 sec',NULL), (1511886,11,'0 sec',NULL), (1511886,3,'0',NULL), (1511887,18,'0',NULL), (1511887,19,'0 sec',NULL), (1511887,20,'0',NULL), (1511887,21,'0',NULL), (1511887,22,'0',NULL), (1511887,3,'0',NULL), (1511887,23,'2 GB',NULL), (1511888,24,'0 sec',NULL), (1511888,25,'0 sec ',NULL), (1511888,26,'0 sec ',NULL), (1511888,3,'0',NULL), (1511902,1,'959 tasks @ 318 MB avg',NULL), (1511902,2,'986 tasks @ 467 MB avg',NULL), (1511902,3,'1945',NULL), (1511903,4,'76812',NULL), (1511903,5,'876',NULL), (1511903,6,'88276',NULL), (1511903,3,'1945',NULL), (1511903,7,'0.011404468051866895',NULL), (1511904,8,'393 MB',NULL), (1511904,9,'1 min 28 sec',NULL), (1511904,10,'4 min 28 sec',NULL), (1511904,11,'34 sec',NULL), (1511904,3,'1945',NULL), (1511905,12,'396 MB',NULL), (1511905,13,'1 min 24 sec',NULL), (1511905,14,'4 MB/s',NULL), (1511905,3,'1945',NULL), (1511905,27,'766235.623585701',NULL), (1511906,15,'377268',NULL), (1511906,16,'0',NULL), (1511906,3,'1945',NULL), (1511906,17,'0.0',NULL), (1511907,18,'719',NULL), (1511907,19,'1 min 28 sec',NULL), (1511907,20,'2354',NULL), (1511907,21,'895',NULL), (1511907,22,'675',NULL), (1511907,3,'1945',NULL), (1511907,23,'2 GB',NULL), (1511908,1,'0 tasks @ 0 bytes avg',NULL), (1511908,2,'0 tasks @ 0 bytes avg',NULL), (1511908,3,'0',NULL), (1511909,4,'0',NULL), (1511909,5,'0',NULL), (1511909,6,'0',NULL), (1511909,3,'0',NULL), (1511909,7,'0.0',NULL), (1511910,9,'0 sec',NULL), (1511910,10,'0 sec',NULL), (1511910,11,'0 sec',NULL), (1511910,3,'0',NULL), (1511911,18,'0',NULL), (1511911,19,'0 sec',NULL), (1511911,20,'0',NULL), (1511911,21,'0',NULL), (1511911,22,'0',NULL), (1511911,3,'0',NULL), (1511911,23,'2 GB',NULL), (1511912,24,'0 sec',NULL), (1511912,25,'0 sec ',NULL), (1511912,26,'0 sec ',NULL), (1511912,3,'0',NULL), (1519428,1,'1 tasks @ 297 MB avg',NULL), (1519428,2,'1 tasks @ 497 MB avg',NULL), (1519428,3,'2',NULL), (1519429,4,'160770',NULL), (1519429,5,'4433',NULL), (1519429,6,'90300',NULL), (1519429,3,'2',NULL), (1519429,7,'0.027573552279654166',NULL), (1519430,8,'397 MB',NULL), (1519430,9,'1 min 30 sec',NULL), (1519430,10,'1 min 47 sec',NULL), (1519430,11,'1 min 13 sec',NULL), (1519430,3,'2',NULL), (1519431,12,'397 MB',NULL), (1519431,13,'1 min 30 sec',NULL), (1519431,14,'4 MB/s',NULL), (1519431,3,'2',NULL), (1519431,27,'794.1982917785645',NULL), (1519432,15,'1244514',NULL), (1519432,16,'0',NULL), (1519432,3,'2',NULL), (1519432,17,'0.0',NULL), (1519433,18,'766',NULL), (1519433,19,'1 min 30 sec',NULL), (1519433,20,'2966',NULL), (1519433,21,'826',NULL), (1519433,22,'707',NULL), (1519433,3,'2',NULL), (1519433,23,'1 GB',NULL), (1519434,1,'0 tasks @ 0 bytes avg',NULL), (1519434,2,'0 tasks @ 0 bytes avg',NULL), (1519434,3,'0',NULL), (1519435,4,'0',NULL), (1519435,5,'0',NULL), (1519435,6,'0',NULL), (1519435,3,'0',NULL), (1519435,7,'0.0',NULL), (1519436,9,'0 sec',NULL), (1519436,10,'0 sec',NULL), (1519436,11,'0 sec',NULL), (1519436,3,'0',NULL), (1519437,18,'0',NULL), (1519437,19,'0 sec',NULL), (1519437,20,'0',NULL), (1519437,21,'0',NULL), (1519437,22,'0',NULL), (1519437,3,'0',NULL), (1519437,23,'1 GB',NULL), (1519438,24,'0 sec',NULL), (1519438,25,'0 sec ',NULL), (1519438,26,'0 sec ',NULL), (1519438,3,'0',NULL), (1519440,1,'1 tasks @ 304 MB avg',NULL), (1519440,2,'1 tasks @ 512 MB avg',NULL), (1519440,3,'2',NULL), (1519441,4,'117545',NULL), (1519441,5,'2388',NULL), (1519441,6,'79402',NULL), (1519441,3,'2',NULL), (1519441,7,'0.020315623803649666',NULL), (1519442,8,'408 MB',NULL), (1519442,9,'1 min 19 sec',NULL), (1519442,10,'1 min 37 sec',NULL), (1519442,11,'1 min 1 sec',NULL), (1519442,3,'2',NULL), (1519443,12,'408 MB',NULL), (1519443,13,'1 min 19 sec',NULL), (1519443,14,'5 MB/s',NULL), (1519443,3,'2',NULL), (1519443,27,'817.0285835266113',NULL), (1519444,15,'1193587',NULL), (1519444,16,'0',NULL), (1519444,3,'2',NULL), (1519444,17,'0.0',NULL), (1519445,18,'742',NULL), (1519445,19,'1 min 19 sec',NULL), (1519445,20,'2921',NULL), (1519445,21,'807',NULL), (1519445,22,'676',NULL), (1519445,3,'2',NULL), (1519445,23,'1 GB',NULL), (1519446,1,'0 tasks @ 0 bytes avg',NULL), (1519446,2,'0 tasks @ 0 bytes avg',NULL), (1519446,3,'0',NULL), (1519447,4,'0',NULL), (1519447,5,'0',NULL), (1519447,6,'0',NULL), (1519447,3,'0',NULL), (1519447,7,'0.0',NULL), (1519448,9,'0 sec',NULL), (1519448,10,'0 sec',NULL), (1519448,11,'0 sec',NULL), (1519448,3,'0',NULL), (1519449,18,'0',NULL), (1519449,19,'0 sec',NULL), (1519449,20,'0',NULL), (1519449,21,'0',NULL), (1519449,22,'0',NULL), (1519449,3,'0',NULL), (1519449,23,'1 GB',NULL), (1519450,24,'0 sec',NULL), (1519450,25,'0 sec ',NULL), (1519450,26,'0 sec ',NULL), (1519450,3,'0',NULL), (1519452,1,'1 tasks @ 271 MB avg',NULL), (1519452,2,'1 tasks @ 510 MB avg',NULL), (1519452,3,'2',NULL), (1519453,4,'56870',NULL), (1519453,5,'442',NULL), (1519453,6,'52394',NULL), (1519453,3,'2',NULL), (1519453,7,'0.007772111834007386',NULL), (1519454,8,'391 MB',NULL), (1519454,9,'52 sec',NULL), (1519454,10,'1 min 5 sec',NULL), (1519454,11,'39 sec',NULL), (1519454,3,'2',NULL), (1519455,12,'391 MB',NULL), (1519455,13,'52 sec',NULL), (1519455,14,'7 MB/s',NULL), (1519455,3,'2',NULL), (1519455,27,'782.293210029602',NULL), (1519456,15,'1244941',NULL), (1519456,16,'0',NULL), (1519456,3,'2',NULL), (1519456,17,'0.0',NULL), (1519457,18,'623',NULL), (1519457,19,'52 sec',NULL), (1519457,20,'2923',NULL), (1519457,21,'624',NULL), (1519457,22,'622',NULL), (1519457,3,'2',NULL), (1519457,23,'1 GB',NULL), (1519458,1,'0 tasks @ 0 bytes avg',NULL), (1519458,2,'0 tasks @ 0 bytes avg',NULL), (1519458,3,'0',NULL), (1519459,4,'0',NULL), (1519459,5,'0',NULL), (1519459,6,'0',NULL), (1519459,3,'0',NULL), (1519459,7,'0.0',NULL), (1519460,9,'0 sec',NULL), (1519460,10,'0 sec',NULL), (1519460,11,'0 sec',NULL), (1519460,3,'0',NULL), (1519461,18,'0',NULL), (1519461,19,'0 sec',NULL), (1519461,20,'0',NULL), (1519461,21,'0',NULL), (1519461,22,'0',NULL), (1519461,3,'0',NULL), (1519461,23,'1 GB',NULL), (1519462,24,'0 sec',NULL), (1519462,25,'0 sec ',NULL), (1519462,26,'0 sec ',NULL), (1519462,3,'0',NULL), (1519464,1,'49 tasks @ 305 MB avg',NULL), (1519464,2,'100 tasks @ 488 MB avg',NULL), (1519464,3,'149',NULL), (1519465,4,'65602',NULL), (1519465,5,'717',NULL), (1519465,6,'56899',NULL), (1519465,3,'149',NULL), (1519465,7,'0.010929544830950277',NULL), (1519466,8,'427 MB',NULL), (1519466,9,'56 sec',NULL), (1519466,10,'1 min 43 sec',NULL), (1519466,11,'28 sec',NULL), (1519466,3,'149',NULL), (1519467,12,'474 MB',NULL), (1519467,13,'56 sec',NULL), (1519467,14,'7 MB/s',NULL), (1519467,3,'149',NULL), (1519467,27,'63770.37501811981',NULL), (1519468,15,'1560839',NULL), (1519468,16,'0',NULL), (1519468,3,'149',NULL), (1519468,17,'0.0',NULL), (1519469,18,'612',NULL), (1519469,19,'56 sec',NULL), (1519469,20,'2928',NULL), (1519469,21,'645',NULL), (1519469,22,'572',NULL), (1519469,3,'149',NULL), (1519469,23,'1 GB',NULL), (1519470,1,'0 tasks @ 0 bytes avg',NULL), (1519470,2,'0 tasks @ 0 bytes avg',NULL), (1519470,3,'0',NULL), (1519471,4,'0',NULL), (1519471,5,'0',NULL), (1519471,6,'0',NULL), (1519471,3,'0',NULL), (1519471,7,'0.0',NULL), (1519472,9,'0 sec',NULL), (1519472,10,'0 sec',NULL), (1519472,11,'0 sec',NULL), (1519472,3,'0',NULL), (1519473,18,'0',NULL), (1519473,19,'0 sec',NULL), (1519473,20,'0',NULL), (1519473,21,'0',NULL), (1519473,22,'0',NULL), (1519473,3,'0',NULL), (1519473,23,'1 GB',NULL), (1519474,24,'0 sec',NULL), (1519474,25,'0 sec ',NULL), (1519474,26,'0 sec ',NULL), (1519474,3,'0',NULL), (1519476,1,'305 tasks @ 295 MB avg',NULL), (1519476,2,'193 tasks @ 453 MB avg',NULL), (1519476,3,'498',NULL), (1519477,4,'67224',NULL), (1519477,5,'978',NULL), (1519477,6,'52679',NULL), (1519477,3,'498',NULL), (1519477,7,'0.014548375580149946',NULL), (1519478,8,'357 MB',NULL), (1519478,9,'52 sec',NULL), (1519478,10,'1 min 54 sec',NULL), (1519478,11,'32 sec',NULL), (1519478,3,'498',NULL), (1519479,12,'321 MB',NULL), (1519479,13,'49 sec',NULL), (1519479,14,'7 MB/s',NULL), (1519479,3,'498',NULL), (1519479,27,'177790.3564529419',NULL), (1519480,15,'306035',NULL), (1519480,16,'0',NULL), (1519480,3,'498',NULL), (1519480,17,'0.0',NULL), (1519481,18,'604',NULL), (1519481,19,'52 sec',NULL), (1519481,20,'2927',NULL), (1519481,21,'728',NULL), (1519481,22,'565',NULL), (1519481,3,'498',NULL), (1519481,23,'1 GB',NULL), (1519482,1,'0 tasks @ 0 bytes avg',NULL), (1519482,2,'0 tasks @ 0 bytes avg',NULL), (1519482,3,'0',NULL), (1519483,4,'0',NULL), (1519483,5,'0',NULL), (1519483,6,'0',NULL), (1519483,3,'0',NULL), (1519483,7,'0.0',NULL), (1519484,9,'0 sec',NULL), (1519484,10,'0 sec',NULL), (1519484,11,'0 sec',NULL), (1519484,3,'0',NULL), (1519485,18,'0',NULL), (1519485,19,'0 sec',NULL), (1519485,20,'0',NULL), (1519485,21,'0',NULL), (1519485,22,'0',NULL), (1519485,3,'0',NULL), (1519485,23,'1 GB',NULL), (1519486,24,'0 sec',NULL), (1519486,25,'0 sec ',NULL), (1519486,26,'0 sec ',NULL), (1519486,3,'0',NULL), (1519488,1,'297 tasks @ 291 MB avg',NULL), (1519488,2,'200 tasks @ 458 MB avg',NULL), (1519488,3,'497',NULL), (1519489,4,'67218',NULL), (1519489,5,'994',NULL), (1519489,6,'54348',NULL), (1519489,3,'497',NULL), (1519489,7,'0.014787705674075396',NULL), (1519490,8,'358 MB',NULL), (1519490,9,'54 sec',NULL), (1519490,10,'1 min 59 sec',NULL), (1519490,11,'31 sec',NULL), (1519490,3,'497',NULL), (1519491,12,'320 MB',NULL), (1519491,13,'51 sec',NULL), (1519491,14,'6 MB/s',NULL), (1519491,3,'497',NULL), (1519491,27,'178118.81388187408',NULL), (1519492,15,'309389',NULL), (1519492,16,'0',NULL), (1519492,3,'497',NULL), (1519492,17,'0.0',NULL), (1519493,18,'602',NULL), (1519493,19,'54 sec',NULL), (1519493,20,'2924',NULL), (1519493,21,'716',NULL), (1519493,22,'568',NULL), (1519493,3,'497',NULL), (1519493,23,'1 GB',NULL), (1519494,1,'0 tasks @ 0 bytes avg',NULL), (1519494,2,'0 tasks @ 0 bytes avg',NULL), (1519494,3,'0',NULL), (1519495,4,'0',NULL), (1519495,5,'0',NULL), (1519495,6,'0',NULL), (1519495,3,'0',NULL), (1519495,7,'0.0',NULL), (1519496,9,'0 sec',NULL), (1519496,10,'0 sec',NULL), (1519496,11,'0 sec',NULL), (1519496,3,'0',NULL), (1519497,18,'0',NULL), (1519497,19,'0 sec',NULL), (1519497,20,'0',NULL), (1519497,21,'0',NULL), (1519497,22,'0',NULL), (1519497,3,'0',NULL), (1519497,23,'1 GB',NULL), (1519498,24,'0 sec',NULL), (1519498,25,'0 sec ',NULL), (1519498,26,'0 sec ',NULL), (1519498,3,'0',NULL), (1519512,1,'896 tasks @ 310 MB avg',NULL), (1519512,2,'734 tasks @ 448 MB avg',NULL), (1519512,3,'1630',NULL), (1519513,4,'72118',NULL), (1519513,5,'1457',NULL), (1519513,6,'59668',NULL), (1519513,3,'1630',NULL), (1519513,7,'0.020203000637843534',NULL), (1519514,8,'372 MB',NULL), (1519514,9,'59 sec',NULL), (1519514,10,'2 min 8 sec',NULL), (1519514,11,'30 sec',NULL), (1519514,3,'1630',NULL), (1519515,12,'359 MB',NULL), (1519515,13,'58 sec',NULL), (1519515,14,'6 MB/s',NULL), (1519515,3,'1630',NULL), (1519515,27,'607747.2612476349',NULL), (1519516,15,'336482',NULL), (1519516,16,'0',NULL), (1519516,3,'1630',NULL), (1519516,17,'0.0',NULL), (1519517,18,'605',NULL), (1519517,19,'59 sec',NULL), (1519517,20,'2927',NULL), (1519517,21,'692',NULL), (1519517,22,'562',NULL), (1519517,3,'1630',NULL), (1519517,23,'1 GB',NULL), (1519518,1,'0 tasks @ 0 bytes avg',NULL), (1519518,2,'0 tasks @ 0 bytes avg',NULL), (1519518,3,'0',NULL), (1519519,4,'0',NULL), (1519519,5,'0',NULL), (1519519,6,'0',NULL), (1519519,3,'0',NULL), (1519519,7,'0.0',NULL), (1519520,9,'0 sec',NULL), (1519520,10,'0 sec',NULL), (1519520,11,'0 sec',NULL), (1519520,3,'0',NULL), (1519521,18,'0',NULL), (1519521,19,'0 sec',NULL), (1519521,20,'0',NULL), (1519521,21,'0',NULL), (1519521,22,'0',NULL), (1519521,3,'0',NULL), (1519521,23,'1 GB',NULL), (1519522,24,'0 sec',NULL), (1519522,25,'0 sec ',NULL), (1519522,26,'0 sec ',NULL), (1519522,3,'0',NULL), (1519524,1,'1 tasks @ 381 MB avg',NULL), (1519524,2,'500 tasks @ 1 GB avg',NULL), (1519524,3,'501',NULL), (1519525,4,'126005',NULL), (1519525,5,'3854',NULL), (1519525,6,'105024',NULL), (1519525,3,'501',NULL), (1519525,7,'0.0305860878536566',NULL), (1519526,8,'1 GB',NULL), (1519526,9,'1 min 45 sec',NULL), (1519526,10,'3 min 19 sec',NULL), (1519526,11,'13 sec',NULL), (1519526,3,'501',NULL), (1519527,12,'953 MB',NULL), (1519527,13,'1 min 40 sec',NULL), (1519527,14,'10 MB/s',NULL), (1519527,3,'501',NULL), (1519527,27,'528976.7128763199',NULL), (1519528,15,'757787',NULL), (1519528,16,'245456',NULL), (1519528,3,'501',NULL), (1519528,17,'0.3239116237443114',NULL), (1519529,18,'982',NULL), (1519529,19,'1 min 45 sec',NULL), (1519529,20,'2923',NULL), (1519529,21,'1096',NULL), (1519529,22,'937',NULL), (1519529,3,'501',NULL), (1519529,23,'1 GB',NULL), (1519530,1,'280 tasks @ 7 MB avg',NULL), (1519530,2,'275 tasks @ 7 MB avg',NULL), (1519530,3,'555',NULL), (1519531,4,'8870',NULL), (1519531,5,'84',NULL), (1519531,6,'7490',NULL), (1519531,3,'555',NULL), (1519531,7,'0.00947012401352875',NULL), (1519532,9,'7 sec',NULL), (1519532,10,'21 sec',NULL), (1519532,11,'3 sec',NULL), (1519532,3,'555',NULL), (1519533,18,'566',NULL), (1519533,19,'7 sec',NULL), (1519533,20,'2944',NULL), (1519533,21,'628',NULL), (1519533,22,'509',NULL), (1519533,3,'555',NULL), (1519533,23,'1 GB',NULL), (1519534,24,'',NULL), (1519534,25,'6 sec (27.00x)',NULL), (1519534,26,' (1.25x)',NULL), (1519534,3,'555',NULL), (1519536,1,'1 tasks @ 150 MB avg',NULL), (1519536,2,'1 tasks @ 154 MB avg',NULL), (1519536,3,'2',NULL), (1519537,4,'23865',NULL), (1519537,5,'307',NULL), (1519537,6,'18223',NULL), (1519537,3,'2',NULL), (1519537,7,'0.01286402681751519',NULL), (1519538,8,'152 MB',NULL), (1519538,9,'18 sec',NULL), (1519538,10,'19 sec',NULL), (1519538,11,'17 sec',NULL), (1519538,3,'2',NULL), (1519539,12,'152 MB',NULL), (1519539,13,'18 sec',NULL), (1519539,14,'8 MB/s',NULL), (1519539,3,'2',NULL), (1519539,27,'305.83719635009766',NULL), (1519540,15,'2898219',NULL), (1519540,16,'5796438',NULL), (1519540,3,'2',NULL), (1519540,17,'2.0',NULL), (1519541,18,'920',NULL), (1519541,19,'18 sec',NULL), (1519541,20,'2921',NULL), (1519541,21,'921',NULL), (1519541,22,'920',NULL), (1519541,3,'2',NULL), (1519541,23,'1 GB',NULL), (1519542,1,'0 tasks @ 0 bytes avg',NULL), (1519542,2,'1 tasks @ 187 MB avg',NULL), (1519542,3,'1',NULL), (1519543,4,'32280',NULL), (1519543,5,'299',NULL), (1519543,6,'26825',NULL), (1519543,3,'1',NULL), (1519543,7,'0.00926270136307311',NULL), (1519544,9,'26 sec',NULL), (1519544,10,'26 sec',NULL), (1519544,11,'26 sec',NULL), (1519544,3,'1',NULL), (1519545,18,'761',NULL), (1519545,19,'26 sec',NULL), (1519545,20,'2922',NULL), (1519545,21,'761',NULL), (1519545,22,'761',NULL), (1519545,3,'1',NULL), (1519545,23,'1 GB',NULL), (1519546,24,'17 sec',NULL), (1519546,25,'5 sec (0.31x)',NULL), (1519546,26,'3 sec (0.19x)',NULL), (1519546,3,'1',NULL), (1519548,1,'0 tasks @ 0 bytes avg',NULL), (1519548,2,'1 tasks @ 162 MB avg',NULL), (1519548,3,'1',NULL), (1519549,4,'42220',NULL), (1519549,5,'574',NULL), (1519549,6,'29318',NULL), (1519549,3,'1',NULL), (1519549,7,'0.01359545239223117',NULL), (1519550,8,'162 MB',NULL), (1519550,9,'29 sec',NULL), (1519550,10,'29 sec',NULL), (1519550,11,'29 sec',NULL), (1519550,3,'1',NULL), (1519551,12,'162 MB',NULL), (1519551,13,'29 sec',NULL), (1519551,14,'5 MB/s',NULL), (1519551,3,'1',NULL), (1519551,27,'162.62904262542725',NULL), (1519552,15,'2909795',NULL), (1519552,16,'5819590',NULL), (1519552,3,'1',NULL), (1519552,17,'2.0',NULL), (1519553,18,'950',NULL), (1519553,19,'29 sec',NULL), (1519553,20,'2910',NULL), (1519553,21,'950',NULL), (1519553,22,'950',NULL), (1519553,3,'1',NULL), (1519553,23,'1 GB',NULL), (1519554,1,'0 tasks @ 0 bytes avg',NULL), (1519554,2,'1 tasks @ 96 MB avg',NULL), (1519554,3,'1',NULL), (1519555,4,'27850',NULL), (1519555,5,'544',NULL), (1519555,6,'23846',NULL), (1519555,3,'1',NULL), (1519555,7,'0.019533213644524237',NULL), (1519556,9,'23 sec',NULL), (1519556,10,'23 sec',NULL), (1519556,11,'23 sec',NULL), (1519556,3,'1',NULL), (1519557,18,'577',NULL), (1519557,19,'23 sec',NULL), (1519557,20,'2930',NULL), (1519557,21,'577',NULL), (1519557,22,'577',NULL), (1519557,3,'1',NULL), (1519557,23,'1 GB',NULL), (1519558,24,'15 sec',NULL), (1519558,25,'5 sec (0.37x)',NULL), (1519558,26,'2 sec (0.13x)',NULL), (1519558,3,'1',NULL), (1519560,1,'0 tasks @ 0 bytes avg',NULL), (1519560,2,'1 tasks @ 157 MB avg',NULL), (1519560,3,'1',NULL), (1519561,4,'20500',NULL), (1519561,5,'309',NULL), (1519561,6,'16962',NULL), (1519561,3,'1',NULL), (1519561,7,'0.015073170731707317',NULL), (1519562,8,'157 MB',NULL), (1519562,9,'16 sec',NULL), (1519562,10,'16 sec',NULL), (1519562,11,'16 sec',NULL), (1519562,3,'1',NULL), (1519563,12,'157 MB',NULL), (1519563,13,'16 sec',NULL), (1519563,14,'9 MB/s',NULL), (1519563,3,'1',NULL), (1519563,27,'157.62358570098877',NULL), (1519564,15,'2909795',NULL), (1519564,16,'5819590',NULL), (1519564,3,'1',NULL), (1519564,17,'2.0',NULL), (1519565,18,'901',NULL), (1519565,19,'16 sec',NULL), (1519565,20,'2920',NULL), (1519565,21,'901',NULL), (1519565,22,'901',NULL), (1519565,3,'1',NULL), (1519565,23,'1 GB',NULL), (1519566,1,'0 tasks @ 0 bytes avg',NULL), (1519566,2,'1 tasks @ 93 MB avg',NULL), (1519566,3,'1',NULL), (1519567,4,'14500',NULL), (1519567,5,'115',NULL), (1519567,6,'14486',NULL), (1519567,3,'1',NULL), (1519567,7,'0.007931034482758621',NULL), (1519568,9,'14 sec',NULL), (1519568,10,'14 sec',NULL), (1519568,11,'14 sec',NULL), (1519568,3,'1',NULL), (1519569,18,'551',NULL), (1519569,19,'14 sec',NULL), (1519569,20,'2921',NULL), (1519569,21,'551',NULL), (1519569,22,'551',NULL), (1519569,3,'1',NULL), (1519569,23,'1 GB',NULL), (1519570,24,'7 sec',NULL), (1519570,25,'5 sec (0.70x)',NULL), (1519570,26,'1 sec (0.23x)',NULL), (1519570,3,'1',NULL), (1519572,1,'2 tasks @ 176 MB avg',NULL), (1519572,2,'31 tasks @ 511 MB avg',NULL), (1519572,3,'33',NULL), (1519573,4,'45107',NULL), (1519573,5,'574',NULL), (1519573,6,'32716',NULL), (1519573,3,'33',NULL), (1519573,7,'0.012725297625645686',NULL), (1519574,8,'491 MB',NULL), (1519574,9,'32 sec',NULL), (1519574,10,'46 sec',NULL), (1519574,11,'16 sec',NULL), (1519574,3,'33',NULL), (1519575,12,'509 MB',NULL), (1519575,13,'32 sec',NULL), (1519575,14,'15 MB/s',NULL), (1519575,3,'33',NULL), (1519575,27,'16218.928217887878',NULL), (1519576,15,'5394385',NULL), (1519576,16,'10788771',NULL), (1519576,3,'33',NULL), (1519576,17,'2.0',NULL), (1519577,18,'930',NULL), (1519577,19,'32 sec',NULL), (1519577,20,'2920',NULL), (1519577,21,'947',NULL), (1519577,22,'897',NULL), (1519577,3,'33',NULL), (1519577,23,'1 GB',NULL), (1519578,1,'17 tasks @ 127 MB avg',NULL), (1519578,2,'1 tasks @ 992 MB avg',NULL), (1519578,3,'18',NULL), (1519579,4,'39060',NULL), (1519579,5,'782',NULL), (1519579,6,'29503',NULL), (1519579,3,'18',NULL), (1519579,7,'0.020020481310803893',NULL), (1519580,9,'29 sec',NULL), (1519580,10,'1 min 34 sec',NULL), (1519580,11,'21 sec',NULL), (1519580,3,'18',NULL), (1519581,18,'1288',NULL), (1519581,19,'29 sec',NULL), (1519581,20,'2929',NULL), (1519581,21,'1379',NULL), (1519581,22,'1158',NULL), (1519581,3,'18',NULL), (1519581,23,'1 GB',NULL), (1519582,24,'17 sec',NULL), (1519582,25,'10 sec (0.59x)',NULL), (1519582,26,'1 sec (0.08x)',NULL), (1519582,3,'18',NULL), (1519584,1,'18 tasks @ 444 MB avg',NULL), (1519584,2,'9 tasks @ 478 MB avg',NULL), (1519584,3,'27',NULL), (1519585,4,'37574',NULL), (1519585,5,'857',NULL), (1519585,6,'28244',NULL), (1519585,3,'27',NULL), (1519585,7,'0.022808324905519775',NULL), (1519586,8,'455 MB',NULL), (1519586,9,'28 sec',NULL), (1519586,10,'51 sec',NULL), (1519586,11,'19 sec',NULL), (1519586,3,'27',NULL), (1519587,12,'451 MB',NULL), (1519587,13,'25 sec',NULL), (1519587,14,'17 MB/s',NULL), (1519587,3,'27',NULL), (1519587,27,'12298.221353530884',NULL), (1519588,15,'4316983',NULL), (1519588,16,'2133848',NULL), (1519588,3,'27',NULL), (1519588,17,'0.4942915898368947',NULL), (1519589,18,'944',NULL), (1519589,19,'28 sec',NULL), (1519589,20,'2924',NULL), (1519589,21,'961',NULL), (1519589,22,'924',NULL), (1519589,3,'27',NULL), (1519589,23,'1 GB',NULL), (1519590,1,'6 tasks @ 48 MB avg',NULL), (1519590,2,'7 tasks @ 48 MB avg',NULL), (1519590,3,'13',NULL), (1519591,4,'20741',NULL), (1519591,5,'168',NULL), (1519591,6,'15476',NULL), (1519591,3,'13',NULL), (1519591,7,'0.00809989875126561',NULL), (1519592,9,'15 sec',NULL), (1519592,10,'19 sec',NULL), (1519592,11,'14 sec',NULL), (1519592,3,'13',NULL), (1519593,18,'605',NULL), (1519593,19,'15 sec',NULL), (1519593,20,'2936',NULL), (1519593,21,'652',NULL), (1519593,22,'574',NULL), (1519593,3,'13',NULL), (1519593,23,'1 GB',NULL), (1519594,24,'8 sec',NULL), (1519594,25,'5 sec (0.61x)',NULL), (1519594,26,'1 sec (0.17x)',NULL), (1519594,3,'13',NULL), (1519596,1,'6 tasks @ 444 MB avg',NULL), (1519596,2,'3 tasks @ 478 MB avg',NULL), (1519596,3,'9',NULL), (1519597,4,'45667',NULL), (1519597,5,'644',NULL), (1519597,6,'33362',NULL), (1519597,3,'9',NULL), (1519597,7,'0.014102086846081415',NULL), (1519598,8,'455 MB',NULL), (1519598,9,'33 sec',NULL), (1519598,10,'48 sec',NULL), (1519598,11,'29 sec',NULL), (1519598,3,'9',NULL), (1519599,12,'451 MB',NULL), (1519599,13,'31 sec',NULL), (1519599,14,'13 MB/s',NULL), (1519599,3,'9',NULL), (1519599,27,'4099.407117843628',NULL), (1519600,15,'4243305',NULL), (1519600,16,'4855608',NULL), (1519600,3,'9',NULL), (1519600,17,'1.1442985879719034',NULL), (1519601,18,'952',NULL), (1519601,19,'33 sec',NULL), (1519601,20,'2927',NULL), (1519601,21,'959',NULL), (1519601,22,'943',NULL), (1519601,3,'9',NULL), (1519601,23,'1 GB',NULL), (1519602,1,'3 tasks @ 65 MB avg',NULL), (1519602,2,'2 tasks @ 65 MB avg',NULL), (1519602,3,'5',NULL), (1519603,4,'28524',NULL), (1519603,5,'756',NULL), (1519603,6,'21506',NULL), (1519603,3,'5',NULL), (1519603,7,'0.026503996634413125',NULL), (1519604,9,'21 sec',NULL), (1519604,10,'26 sec',NULL), (1519604,11,'18 sec',NULL), (1519604,3,'5',NULL), (1519605,18,'963',NULL), (1519605,19,'21 sec',NULL), (1519605,20,'2938',NULL), (1519605,21,'1173',NULL), (1519605,22,'891',NULL), (1519605,3,'5',NULL), (1519605,23,'1 GB',NULL), (1519606,24,'12 sec',NULL), (1519606,25,'6 sec (0.50x)',NULL), (1519606,26,'2 sec (0.19x)',NULL), (1519606,3,'5',NULL), (1519608,1,'1 tasks @ 157 MB avg',NULL), (1519608,2,'5 tasks @ 370 MB avg',NULL), (1519608,3,'6',NULL), (1519609,4,'28300',NULL), (1519609,5,'476',NULL), (1519609,6,'22000',NULL), (1519609,3,'6',NULL), (1519609,7,'0.016819787985865725',NULL), (1519610,8,'334 MB',NULL), (1519610,9,'22 sec',NULL), (1519610,10,'27 sec',NULL), (1519610,11,'17 sec',NULL), (1519610,3,'6',NULL), (1519611,12,'355 MB',NULL), (1519611,13,'20 sec',NULL), (1519611,14,'15 MB/s',NULL), (1519611,3,'6',NULL), (1519611,27,'2008.3901090621948',NULL), (1519612,15,'4925411',NULL), (1519612,16,'9850822',NULL), (1519612,3,'6',NULL), (1519612,17,'2.0',NULL), (1519613,18,'927',NULL), (1519613,19,'22 sec',NULL), (1519613,20,'2916',NULL), (1519613,21,'943',NULL), (1519613,22,'912',NULL), (1519613,3,'6',NULL), (1519613,23,'1 GB',NULL), (1519614,1,'1 tasks @ 85 MB avg',NULL), (1519614,2,'2 tasks @ 86 MB avg',NULL), (1519614,3,'3',NULL), (1519615,4,'40850',NULL), (1519615,5,'653',NULL), (1519615,6,'29500',NULL), (1519615,3,'3',NULL), (1519615,7,'0.01598531211750306',NULL), (1519616,9,'29 sec',NULL), (1519616,10,'29 sec',NULL), (1519616,11,'28 sec',NULL), (1519616,3,'3',NULL), (1519617,18,'1272',NULL), (1519617,19,'29 sec',NULL), (1519617,20,'2932',NULL), (1519617,21,'1297',NULL), (1519617,22,'1230',NULL), (1519617,3,'3',NULL), (1519617,23,'1 GB',NULL), (1519618,24,'19 sec',NULL), (1519618,25,'5 sec (0.26x)',NULL), (1519618,26,'4 sec (0.22x)',NULL), (1519618,3,'3',NULL), (1519620,1,'1 tasks @ 477 MB avg',NULL), (1519620,2,'2 tasks @ 496 MB avg',NULL), (1519620,3,'3',NULL), (1519621,4,'38393',NULL), (1519621,5,'484',NULL), (1519621,6,'27491',NULL), (1519621,3,'3',NULL), (1519621,7,'0.012606464720131274',NULL), (1519622,8,'490 MB',NULL), (1519622,9,'27 sec',NULL), (1519622,10,'30 sec',NULL), (1519622,11,'25 sec',NULL), (1519622,3,'3',NULL), (1519623,12,'496 MB',NULL), (1519623,13,'26 sec',NULL), (1519623,14,'18 MB/s',NULL), (1519623,3,'3',NULL), (1519623,27,'1471.195945739746',NULL), (1519624,15,'8880890',NULL), (1519624,16,'635557',NULL), (1519624,3,'3',NULL), (1519624,17,'0.07156455897383562',NULL), (1519625,18,'943',NULL), (1519625,19,'27 sec',NULL), (1519625,20,'2922',NULL), (1519625,21,'953',NULL), (1519625,22,'932',NULL), (1519625,3,'3',NULL), (1519625,23,'1 GB',NULL), (1519626,1,'1 tasks @ 15 MB avg',NULL), (1519626,2,'1 tasks @ 15 MB avg',NULL), (1519626,3,'2',NULL), (1519627,4,'7175',NULL), (1519627,5,'103',NULL), (1519627,6,'7740',NULL), (1519627,3,'2',NULL), (1519627,7,'0.014355400696864112',NULL), (1519628,9,'7 sec',NULL), (1519628,10,'8 sec',NULL), (1519628,11,'6 sec',NULL), (1519628,3,'2',NULL), (1519629,18,'520',NULL), (1519629,19,'7 sec',NULL), (1519629,20,'2928',NULL), (1519629,21,'524',NULL), (1519629,22,'517',NULL), (1519629,3,'2',NULL), (1519629,23,'1 GB',NULL), (1519630,24,'2 sec',NULL), (1519630,25,'5 sec (2.49x)',NULL), (1519630,26,' (0.19x)',NULL), (1519630,3,'2',NULL), (1519632,1,'299 tasks @ 862 MB avg',NULL), (1519632,2,'201 tasks @ 1 GB avg',NULL), (1519632,3,'500',NULL), (1519633,4,'123768',NULL), (1519633,5,'3603',NULL), (1519633,6,'103449',NULL), (1519633,3,'500',NULL), (1519633,7,'0.029110917199922436',NULL), (1519634,8,'1 GB',NULL), (1519634,9,'1 min 43 sec',NULL), (1519634,10,'3 min 53 sec',NULL), (1519634,11,'23 sec',NULL), (1519634,3,'500',NULL), (1519635,12,'950 MB',NULL), (1519635,13,'1 min 40 sec',NULL), (1519635,14,'10 MB/s',NULL), (1519635,3,'500',NULL), (1519635,27,'530836.3677902222',NULL), (1519636,15,'744680',NULL), (1519636,16,'238063',NULL), (1519636,3,'500',NULL), (1519636,17,'0.3196848153856348',NULL), (1519637,18,'980',NULL), (1519637,19,'1 min 43 sec',NULL), (1519637,20,'2924',NULL), (1519637,21,'1112',NULL), (1519637,22,'947',NULL), (1519637,3,'500',NULL), (1519637,23,'1 GB',NULL), (1519638,1,'277 tasks @ 7 MB avg',NULL), (1519638,2,'280 tasks @ 7 MB avg',NULL), (1519638,3,'557',NULL), (1519639,4,'9354',NULL), (1519639,5,'85',NULL), (1519639,6,'7249',NULL), (1519639,3,'557',NULL), (1519639,7,'0.009087021595039555',NULL), (1519640,9,'7 sec',NULL), (1519640,10,'17 sec',NULL), (1519640,11,'3 sec',NULL), (1519640,3,'557',NULL), (1519641,18,'565',NULL), (1519641,19,'7 sec',NULL), (1519641,20,'2944',NULL), (1519641,21,'610',NULL), (1519641,22,'516',NULL), (1519641,3,'557',NULL), (1519641,23,'1 GB',NULL), (1519642,24,'',NULL), (1519642,25,'6 sec (26.12x)',NULL), (1519642,26,' (1.20x)',NULL), (1519642,3,'557',NULL), (1519644,1,'1 tasks @ 266 MB avg',NULL), (1519644,2,'1 tasks @ 514 MB avg',NULL), (1519644,3,'2',NULL), (1519645,4,'70820',NULL), (1519645,5,'2151',NULL), (1519645,6,'76709',NULL), (1519645,3,'2',NULL), (1519645,7,'0.030372776051962723',NULL), (1519646,8,'390 MB',NULL), (1519646,9,'1 min 16 sec',NULL), (1519646,10,'1 min 37 sec',NULL), (1519646,11,'55 sec',NULL), (1519646,3,'2',NULL), (1519647,12,'390 MB',NULL), (1519647,13,'1 min 16 sec',NULL), (1519647,14,'5 MB/s',NULL), (1519647,3,'2',NULL), (1519647,27,'780.7726430892944',NULL), (1519648,15,'1242835',NULL), (1519648,16,'0',NULL), (1519648,3,'2',NULL), (1519648,17,'0.0',NULL), (1519649,18,'637',NULL), (1519649,19,'1 min 16 sec',NULL), (1519649,20,'2983',NULL), (1519649,21,'654',NULL), (1519649,22,'620',NULL), (1519649,3,'2',NULL), (1519649,23,'1 GB',NULL), (1519650,1,'0 tasks @ 0 bytes avg',NULL), (1519650,2,'0 tasks @ 0 bytes avg',NULL), (1519650,3,'0',NULL), (1519651,4,'0',NULL), (1519651,5,'0',NULL), (1519651,6,'0',NULL), (1519651,3,'0',NULL), (1519651,7,'0.0',NULL), (1519652,9,'0 sec',NULL), (1519652,10,'0 sec',NULL), (1519652,11,'0 sec',NULL), (1519652,3,'0',NULL), (1519653,18,'0',NULL), (1519653,19,'0 sec',NULL), (1519653,20,'0',NULL), (1519653,21,'0',NULL), (1519653,22,'0',NULL), (1519653,3,'0',NULL), (1519653,23,'1 GB',NULL), (1519654,24,'0 sec',NULL), (1519654,25,'0 sec ',NULL), (1519654,26,'0 sec ',NULL), (1519654,3,'0',NULL), (1519656,1,'53 tasks @ 306 MB avg',NULL), (1519656,2,'98 tasks @ 483 MB avg',NULL), (1519656,3,'151',NULL), (1519657,4,'64471',NULL), (1519657,5,'728',NULL), (1519657,6,'57720',NULL), (1519657,3,'151',NULL), (1519657,7,'0.011291898683128848',NULL), (1519658,8,'421 MB',NULL), (1519658,9,'57 sec',NULL), (1519658,10,'1 min 44 sec',NULL), (1519658,11,'28 sec',NULL), (1519658,3,'151',NULL), (1519659,12,'469 MB',NULL), (1519659,13,'55 sec',NULL), (1519659,14,'7 MB/s',NULL), (1519659,3,'151',NULL), (1519659,27,'63655.82713317871',NULL), (1519660,15,'1537392',NULL), (1519660,16,'0',NULL), (1519660,3,'151',NULL), (1519660,17,'0.0',NULL), (1519661,18,'609',NULL), (1519661,19,'57 sec',NULL), (1519661,20,'2927',NULL), (1519661,21,'645',NULL), (1519661,22,'576',NULL), (1519661,3,'151',NULL), (1519661,23,'1 GB',NULL), (1519662,1,'0 tasks @ 0 bytes avg',NULL), (1519662,2,'0 tasks @ 0 bytes avg',NULL), (1519662,3,'0',NULL), (1519663,4,'0',NULL), (1519663,5,'0',NULL), (1519663,6,'0',NULL), (1519663,3,'0',NULL), (1519663,7,'0.0',NULL), (1519664,9,'0 sec',NULL), (1519664,10,'0 sec',NULL), (1519664,11,'0 sec',NULL), (1519664,3,'0',NULL), (1519665,18,'0',NULL), (1519665,19,'0 sec',NULL), (1519665,20,'0',NULL), (1519665,21,'0',NULL), (1519665,22,'0',NULL), (1519665,3,'0',NULL), (1519665,23,'1 GB',NULL), (1519666,24,'0 sec',NULL), (1519666,25,'0 sec ',NULL), (1519666,26,'0 sec ',NULL), (1519666,3,'0',NULL), (1519668,1,'305 tasks @ 290 MB avg',NULL), (1519668,2,'201 tasks @ 453 MB avg',NULL), (1519668,3,'506',NULL), (1519669,4,'73100',NULL), (1519669,5,'1589',NULL), (1519669,6,'66727',NULL), (1519669,3,'506',NULL), (1519669,7,'0.02173734610123119',NULL), (1519670,8,'355 MB',NULL), (1519670,9,'1 min 6 sec',NULL), (1519670,10,'2 min 23 sec',NULL), (1519670,11,'31 sec',NULL), (1519670,3,'506',NULL), (1519671,12,'320 MB',NULL), (1519671,13,'1 min 2 sec',NULL), (1519671,14,'5 MB/s',NULL), (1519671,3,'506',NULL), (1519671,27,'179708.45590114594',NULL), (1519672,15,'307333',NULL), (1519672,16,'0',NULL), (1519672,3,'506',NULL), (1519672,17,'0.0',NULL), (1519673,18,'598',NULL), (1519673,19,'1 min 6 sec',NULL), (1519673,20,'2922',NULL), (1519673,21,'644',NULL), (1519673,22,'567',NULL), (1519673,3,'506',NULL), (1519673,23,'1 GB',NULL), (1519674,1,'0 tasks @ 0 bytes avg',NULL), (1519674,2,'0 tasks @ 0 bytes avg',NULL), (1519674,3,'0',NULL), (1519675,4,'0',NULL), (1519675,5,'0',NULL), (1519675,6,'0',NULL), (1519675,3,'0',NULL), (1519675,7,'0.0',NULL), (1519676,9,'0 sec',NULL), (1519676,10,'0 sec',NULL), (1519676,11,'0 sec',NULL), (1519676,3,'0',NULL), (1519677,18,'0',NULL), (1519677,19,'0 sec',NULL), (1519677,20,'0',NULL), (1519677,21,'0',NULL), (1519677,22,'0',NULL), (1519677,3,'0',NULL), (1519677,23,'1 GB',NULL), (1519678,24,'0 sec',NULL), (1519678,25,'0 sec ',NULL), (1519678,26,'0 sec ',NULL), (1519678,3,'0',NULL), (1519680,1,'932 tasks @ 780 MB avg',NULL), (1519680,2,'847 tasks @ 1 GB avg',NULL), (1519680,3,'1779',NULL), (1519681,4,'71616',NULL), (1519681,5,'2456',NULL), (1519681,6,'47598',NULL), (1519681,3,'1779',NULL), (1519681,7,'0.03429401251117069',NULL), (1519682,8,'944 MB',NULL), (1519682,9,'47 sec',NULL), (1519682,10,'1 min 56 sec',NULL), (1519682,11,'22 sec',NULL), (1519682,3,'1779',NULL), (1519683,12,'924 MB',NULL), (1519683,13,'45 sec',NULL), (1519683,14,'20 MB/s',NULL), (1519683,3,'1779',NULL), (1519683,27,'1679594.0204076767',NULL), (1519684,15,'3494130',NULL), (1519684,16,'6988261',NULL), (1519684,3,'1779',NULL), (1519684,17,'2.0',NULL), (1519685,18,'989',NULL), (1519685,19,'47 sec',NULL), (1519685,20,'2940',NULL), (1519685,21,'1094',NULL), (1519685,22,'915',NULL), (1519685,3,'1779',NULL), (1519685,23,'1 GB',NULL), (1519686,1,'525 tasks @ 500 MB avg',NULL), (1519686,2,'474 tasks @ 501 MB avg',NULL), (1519686,3,'999',NULL), (1519687,4,'69159',NULL), (1519687,5,'1680',NULL), (1519687,6,'49701',NULL), (1519687,3,'999',NULL), (1519687,7,'0.024291849217021644',NULL), (1519688,9,'49 sec',NULL), (1519688,10,'1 min 43 sec',NULL), (1519688,11,'36 sec',NULL), (1519688,3,'999',NULL), (1519689,18,'1298',NULL), (1519689,19,'49 sec',NULL), (1519689,20,'2960',NULL), (1519689,21,'1468',NULL), (1519689,22,'1038',NULL), (1519689,3,'999',NULL), (1519689,23,'1 GB',NULL), (1519690,24,'29 sec',NULL), (1519690,25,'18 sec (0.64x)',NULL), (1519690,26,'2 sec (0.07x)',NULL), (1519690,3,'999',NULL), (1519692,1,'1 tasks @ 291 MB avg',NULL), (1519692,2,'1 tasks @ 500 MB avg',NULL), (1519692,3,'2',NULL), (1519693,4,'128560',NULL), (1519693,5,'5568',NULL), (1519693,6,'93906',NULL), (1519693,3,'2',NULL), (1519693,7,'0.0433105164903547',NULL), (1519694,8,'396 MB',NULL), (1519694,9,'1 min 33 sec',NULL), (1519694,10,'2 min 11 sec',NULL), (1519694,11,'56 sec',NULL), (1519694,3,'2',NULL), (1519695,12,'396 MB',NULL), (1519695,13,'1 min 33 sec',NULL), (1519695,14,'4 MB/s',NULL), (1519695,3,'2',NULL), (1519695,27,'792.533878326416',NULL), (1519696,15,'1243839',NULL), (1519696,16,'0',NULL), (1519696,3,'2',NULL), (1519696,17,'0.0',NULL), (1519697,18,'722',NULL), (1519697,19,'1 min 33 sec',NULL), (1519697,20,'2921',NULL), (1519697,21,'731',NULL), (1519697,22,'712',NULL), (1519697,3,'2',NULL), (1519697,23,'1 GB',NULL), (1519698,1,'0 tasks @ 0 bytes avg',NULL), (1519698,2,'0 tasks @ 0 bytes avg',NULL), (1519698,3,'0',NULL), (1519699,4,'0',NULL), (1519699,5,'0',NULL), (1519699,6,'0',NULL), (1519699,3,'0',NULL), (1519699,7,'0.0',NULL), (1519700,9,'0 sec',NULL), (1519700,10,'0 sec',NULL), (1519700,11,'0 sec',NULL), (1519700,3,'0',NULL), (1519701,18,'0',NULL), (1519701,19,'0 sec',NULL), (1519701,20,'0',NULL), (1519701,21,'0',NULL), (1519701,22,'0',NULL), (1519701,3,'0',NULL), (1519701,23,'1 GB',NULL), (1519702,24,'0 sec',NULL), (1519702,25,'0 sec ',NULL), (1519702,26,'0 sec ',NULL), (1519702,3,'0',NULL), (1519704,1,'1 tasks @ 315 MB avg',NULL), (1519704,2,'1 tasks @ 513 MB avg',NULL), (1519704,3,'2',NULL), (1519705,4,'147230',NULL), (1519705,5,'3980',NULL), (1519705,6,'91773',NULL), (1519705,3,'2',NULL), (1519705,7,'0.027032534130272363',NULL), (1519706,8,'414 MB',NULL), (1519706,9,'1 min 31 sec',NULL), (1519706,10,'1 min 52 sec',NULL), (1519706,11,'1 min 11 sec',NULL), (1519706,3,'2',NULL), (1519707,12,'414 MB',NULL), (1519707,13,'1 min 31 sec',NULL), (1519707,14,'4 MB/s',NULL), (1519707,3,'2',NULL), (1519707,27,'828.9662179946899',NULL), (1519708,15,'1205502',NULL), (1519708,16,'0',NULL), (1519708,3,'2',NULL), (1519708,17,'0.0',NULL), (1519709,18,'741',NULL), (1519709,19,'1 min 31 sec',NULL), (1519709,20,'2920',NULL), (1519709,21,'788',NULL), (1519709,22,'694',NULL), (1519709,3,'2',NULL), (1519709,23,'1 GB',NULL), (1519710,1,'0 tasks @ 0 bytes avg',NULL), (1519710,2,'0 tasks @ 0 bytes avg',NULL), (1519710,3,'0',NULL), (1519711,4,'0',NULL), (1519711,5,'0',NULL), (1519711,6,'0',NULL), (1519711,3,'0',NULL), (1519711,7,'0.0',NULL), (1519712,9,'0 sec',NULL), (1519712,10,'0 sec',NULL), (1519712,11,'0 sec',NULL), (1519712,3,'0',NULL), (1519713,18,'0',NULL), (1519713,19,'0 sec',NULL), (1519713,20,'0',NULL), (1519713,21,'0',NULL), (1519713,22,'0',NULL), (1519713,3,'0',NULL), (1519713,23,'1 GB',NULL), (1519714,24,'0 sec',NULL), (1519714,25,'0 sec ',NULL), (1519714,26,'0 sec ',NULL), (1519714,3,'0',NULL), (1519716,1,'307 tasks @ 293 MB avg',NULL), (1519716,2,'193 tasks @ 448 MB avg',NULL), (1519716,3,'500',NULL), (1519717,4,'66281',NULL), (1519717,5,'1015',NULL), (1519717,6,'54589',NULL), (1519717,3,'500',NULL), (1519717,7,'0.015313589113018814',NULL), (1519718,8,'353 MB',NULL), (1519718,9,'54 sec',NULL), (1519718,10,'2 min 4 sec',NULL), (1519718,11,'32 sec',NULL), (1519718,3,'500',NULL), (1519719,12,'319 MB',NULL), (1519719,13,'51 sec',NULL), (1519719,14,'6 MB/s',NULL), (1519719,3,'500',NULL), (1519719,27,'176676.36856079102',NULL), (1519720,15,'302754',NULL), (1519720,16,'0',NULL), (1519720,3,'500',NULL), (1519720,17,'0.0',NULL), (1519721,18,'602',NULL), (1519721,19,'54 sec',NULL), (1519721,20,'2923',NULL), (1519721,21,'674',NULL), (1519721,22,'569',NULL), (1519721,3,'500',NULL), (1519721,23,'1 GB',NULL), (1519722,1,'0 tasks @ 0 bytes avg',NULL), (1519722,2,'0 tasks @ 0 bytes avg',NULL), (1519722,3,'0',NULL), (1519723,4,'0',NULL), (1519723,5,'0',NULL), (1519723,6,'0',NULL), (1519723,3,'0',NULL), (1519723,7,'0.0',NULL), (1519724,9,'0 sec',NULL), (1519724,10,'0 sec',NULL), (1519724,11,'0 sec',NULL), (1519724,3,'0',NULL), (1519725,18,'0',NULL), (1519725,19,'0 sec',NULL), (1519725,20,'0',NULL), (1519725,21,'0',NULL), (1519725,22,'0',NULL), (1519725,3,'0',NULL), (1519725,23,'1 GB',NULL), (1519726,24,'0 sec',NULL), (1519726,25,'0 sec ',NULL), (1519726,26,'0 sec ',NULL), (1519726,3,'0',NULL), (1519728,1,'897 tasks @ 309 MB avg',NULL), (1519728,2,'735 tasks @ 448 MB avg',NULL), (1519728,3,'1632',NULL), (1519729,4,'72014',NULL), (1519729,5,'1596',NULL), (1519729,6,'63650',NULL), (1519729,3,'1632',NULL), (1519729,7,'0.022162357319410114',NULL), (1519730,8,'372 MB',NULL), (1519730,9,'1 min 3 sec',NULL), (1519730,10,'2 min 25 sec',NULL), (1519730,11,'29 sec',NULL), (1519730,3,'1632',NULL), (1519731,12,'358 MB',NULL), (1519731,13,'59 sec',NULL), (1519731,14,'6 MB/s',NULL), (1519731,3,'1632',NULL), (1519731,27,'607337.425579071',NULL), (1519732,15,'335777',NULL), (1519732,16,'0',NULL), (1519732,3,'1632',NULL), (1519732,17,'0.0',NULL), (1519733,18,'605',NULL), (1519733,19,'1 min 3 sec',NULL), (1519733,20,'2925',NULL), (1519733,21,'700',NULL), (1519733,22,'568',NULL), (1519733,3,'1632',NULL), (1519733,23,'1 GB',NULL), (1519734,1,'0 tasks @ 0 bytes avg',NULL), (1519734,2,'0 tasks @ 0 bytes avg',NULL), (1519734,3,'0',NULL), (1519735,4,'0',NULL), (1519735,5,'0',NULL), (1519735,6,'0',NULL), (1519735,3,'0',NULL), (1519735,7,'0.0',NULL), (1519736,9,'0 sec',NULL), (1519736,10,'0 sec',NULL), (1519736,11,'0 sec',NULL), (1519736,3,'0',NULL), (1519737,18,'0',NULL), (1519737,19,'0 sec',NULL), (1519737,20,'0',NULL), (1519737,21,'0',NULL), (1519737,22,'0',NULL), (1519737,3,'0',NULL), (1519737,23,'1 GB',NULL), (1519738,24,'0 sec',NULL), (1519738,25,'0 sec ',NULL), (1519738,26,'0 sec ',NULL), (1519738,3,'0',NULL), (1519740,1,'307 tasks @ 858 MB avg',NULL), (1519740,2,'202 tasks @ 1 GB avg',NULL), (1519740,3,'509',NULL), (1519741,4,'126395',NULL), (1519741,5,'3820',NULL), (1519741,6,'107833',NULL), (1519741,3,'509',NULL), (1519741,7,'0.030222714506111793',NULL), (1519742,8,'1 GB',NULL), (1519742,9,'1 min 47 sec',NULL), (1519742,10,'3 min 56 sec',NULL), (1519742,11,'16 sec',NULL), (1519742,3,'509',NULL), (1519743,12,'949 MB',NULL), (1519743,13,'1 min 44 sec',NULL), (1519743,14,'10 MB/s',NULL), (1519743,3,'509',NULL), (1519743,27,'535416.1670970917',NULL), (1519744,15,'736745',NULL), (1519744,16,'235806',NULL), (1519744,3,'509',NULL), (1519744,17,'0.3200645473294221',NULL), (1519745,18,'1039',NULL), (1519745,19,'1 min 47 sec',NULL), (1519745,20,'2925',NULL), (1519745,21,'1095',NULL), (1519745,22,'811',NULL), (1519745,3,'509',NULL), (1519745,23,'1 GB',NULL), (1519746,1,'281 tasks @ 7 MB avg',NULL), (1519746,2,'281 tasks @ 7 MB avg',NULL), (1519746,3,'562',NULL), (1519747,4,'9259',NULL), (1519747,5,'92',NULL), (1519747,6,'9909',NULL), (1519747,3,'562',NULL), (1519747,7,'0.009936278215790042',NULL), (1519748,9,'9 sec',NULL), (1519748,10,'1 min 6 sec',NULL), (1519748,11,'3 sec',NULL), (1519748,3,'562',NULL), (1519749,18,'567',NULL), (1519749,19,'9 sec',NULL), (1519749,20,'2943',NULL), (1519749,21,'618',NULL), (1519749,22,'512',NULL), (1519749,3,'562',NULL), (1519749,23,'1 GB',NULL), (1519750,24,'',NULL), (1519750,25,'9 sec (-31.16x)',NULL), (1519750,26,' (-1.00x)',NULL), (1519750,3,'562',NULL), (1519752,1,'1 tasks @ 150 MB avg',NULL), (1519752,2,'1 tasks @ 155 MB avg',NULL), (1519752,3,'2',NULL), (1519753,4,'24660',NULL), (1519753,5,'509',NULL), (1519753,6,'21495',NULL), (1519753,3,'2',NULL), (1519753,7,'0.020640713706407136',NULL), (1519754,8,'153 MB',NULL), (1519754,9,'21 sec',NULL), (1519754,10,'25 sec',NULL), (1519754,11,'17 sec',NULL), (1519754,3,'2',NULL), (1519755,12,'153 MB',NULL), (1519755,13,'21 sec',NULL), (1519755,14,'7 MB/s',NULL), (1519755,3,'2',NULL), (1519755,27,'306.038969039917',NULL), (1519756,15,'2900081',NULL), (1519756,16,'5800162',NULL), (1519756,3,'2',NULL), (1519756,17,'2.0',NULL), (1519757,18,'993',NULL), (1519757,19,'21 sec',NULL), (1519757,20,'2923',NULL), (1519757,21,'996',NULL), (1519757,22,'990',NULL), (1519757,3,'2',NULL), (1519757,23,'1 GB',NULL), (1519758,1,'0 tasks @ 0 bytes avg',NULL), (1519758,2,'1 tasks @ 187 MB avg',NULL), (1519758,3,'1',NULL), (1519759,4,'47200',NULL), (1519759,5,'1500',NULL), (1519759,6,'41974',NULL), (1519759,3,'1',NULL), (1519759,7,'0.03177966101694915',NULL), (1519760,9,'41 sec',NULL), (1519760,10,'41 sec',NULL), (1519760,11,'41 sec',NULL), (1519760,3,'1',NULL), (1519761,18,'743',NULL), (1519761,19,'41 sec',NULL), (1519761,20,'2914',NULL), (1519761,21,'743',NULL), (1519761,22,'743',NULL), (1519761,3,'1',NULL), (1519761,23,'1 GB',NULL), (1519762,24,'27 sec',NULL), (1519762,25,'10 sec (0.37x)',NULL), (1519762,26,'4 sec (0.16x)',NULL), (1519762,3,'1',NULL), (1519764,1,'0 tasks @ 0 bytes avg',NULL), (1519764,2,'1 tasks @ 163 MB avg',NULL), (1519764,3,'1',NULL), (1519765,4,'61890',NULL), (1519765,5,'5056',NULL), (1519765,6,'62645',NULL), (1519765,3,'1',NULL), (1519765,7,'0.08169332687025367',NULL), (1519766,8,'163 MB',NULL), (1519766,9,'1 min 2 sec',NULL), (1519766,10,'1 min 2 sec',NULL), (1519766,11,'1 min 2 sec',NULL), (1519766,3,'1',NULL), (1519767,12,'163 MB',NULL), (1519767,13,'1 min 2 sec',NULL), (1519767,14,'2 MB/s',NULL), (1519767,3,'1',NULL), (1519767,27,'163.07244873046875',NULL), (1519768,15,'2917846',NULL), (1519768,16,'5835692',NULL), (1519768,3,'1',NULL), (1519768,17,'2.0',NULL), (1519769,18,'1017',NULL), (1519769,19,'1 min 2 sec',NULL), (1519769,20,'2912',NULL), (1519769,21,'1017',NULL), (1519769,22,'1017',NULL), (1519769,3,'1',NULL), (1519769,23,'1 GB',NULL), (1519770,1,'0 tasks @ 0 bytes avg',NULL), (1519770,2,'1 tasks @ 96 MB avg',NULL), (1519770,3,'1',NULL), (1519771,4,'20850',NULL), (1519771,5,'105',NULL), (1519771,6,'19324',NULL), (1519771,3,'1',NULL), (1519771,7,'0.005035971223021582',NULL), (1519772,9,'19 sec',NULL), (1519772,10,'19 sec',NULL), (1519772,11,'19 sec',NULL), (1519772,3,'1',NULL), (1519773,18,'573',NULL), (1519773,19,'19 sec',NULL), (1519773,20,'2914',NULL), (1519773,21,'573',NULL), (1519773,22,'573',NULL), (1519773,3,'1',NULL), (1519773,23,'1 GB',NULL), (1519774,24,'12 sec',NULL), (1519774,25,'5 sec (0.41x)',NULL), (1519774,26,'1 sec (0.14x)',NULL), (1519774,3,'1',NULL), (1519776,1,'0 tasks @ 0 bytes avg',NULL), (1519776,2,'1 tasks @ 158 MB avg',NULL), (1519776,3,'1',NULL), (1519777,4,'19580',NULL), (1519777,5,'355',NULL), (1519777,6,'15753',NULL), (1519777,3,'1',NULL), (1519777,7,'0.018130745658835545',NULL), (1519778,8,'158 MB',NULL), (1519778,9,'15 sec',NULL), (1519778,10,'15 sec',NULL), (1519778,11,'15 sec',NULL), (1519778,3,'1',NULL), (1519779,12,'158 MB',NULL), (1519779,13,'15 sec',NULL), (1519779,14,'10 MB/s',NULL), (1519779,3,'1',NULL), (1519779,27,'158.0611515045166',NULL), (1519780,15,'2917846',NULL), (1519780,16,'5835692',NULL), (1519780,3,'1',NULL), (1519780,17,'2.0',NULL), (1519781,18,'979',NULL), (1519781,19,'15 sec',NULL), (1519781,20,'2914',NULL), (1519781,21,'979',NULL), (1519781,22,'979',NULL), (1519781,3,'1',NULL), (1519781,23,'1 GB',NULL), (1519782,1,'0 tasks @ 0 bytes avg',NULL), (1519782,2,'1 tasks @ 93 MB avg',NULL), (1519782,3,'1',NULL), (1519783,4,'20940',NULL), (1519783,5,'539',NULL), (1519783,6,'22238',NULL), (1519783,3,'1',NULL), (1519783,7,'0.02574021012416428',NULL), (1519784,9,'22 sec',NULL), (1519784,10,'22 sec',NULL), (1519784,11,'22 sec',NULL), (1519784,3,'1',NULL), (1519785,18,'549',NULL), (1519785,19,'22 sec',NULL), (1519785,20,'2922',NULL), (1519785,21,'549',NULL), (1519785,22,'549',NULL), (1519785,3,'1',NULL), (1519785,23,'1 GB',NULL), (1519786,24,'11 sec',NULL), (1519786,25,'8 sec (0.71x)',NULL), (1519786,26,'2 sec (0.24x)',NULL), (1519786,3,'1',NULL), (1519788,1,'2 tasks @ 176 MB avg',NULL), (1519788,2,'31 tasks @ 511 MB avg',NULL), (1519788,3,'33',NULL), (1519789,4,'53643',NULL), (1519789,5,'1419',NULL), (1519789,6,'44953',NULL), (1519789,3,'33',NULL), (1519789,7,'0.02645265924724568',NULL), (1519790,8,'490 MB',NULL), (1519790,9,'44 sec',NULL), (1519790,10,'1 min 32 sec',NULL), (1519790,11,'12 sec',NULL), (1519790,3,'33',NULL), (1519791,12,'509 MB',NULL), (1519791,13,'40 sec',NULL), (1519791,14,'11 MB/s',NULL), (1519791,3,'33',NULL), (1519791,27,'16195.266300201416',NULL), (1519792,15,'5386511',NULL), (1519792,16,'10773022',NULL), (1519792,3,'33',NULL), (1519792,17,'2.0',NULL), (1519793,18,'971',NULL), (1519793,19,'44 sec',NULL), (1519793,20,'2926',NULL), (1519793,21,'1022',NULL), (1519793,22,'770',NULL), (1519793,3,'33',NULL), (1519793,23,'1 GB',NULL), (1519794,1,'16 tasks @ 135 MB avg',NULL), (1519794,2,'1 tasks @ 995 MB avg',NULL), (1519794,3,'17',NULL), (1519795,4,'45495',NULL), (1519795,5,'1219',NULL), (1519795,6,'35958',NULL), (1519795,3,'17',NULL), (1519795,7,'0.026794153203648752',NULL), (1519796,9,'35 sec',NULL), (1519796,10,'1 min 46 sec',NULL), (1519796,11,'23 sec',NULL), (1519796,3,'17',NULL), (1519797,18,'1329',NULL), (1519797,19,'35 sec',NULL), (1519797,20,'2936',NULL), (1519797,21,'1398',NULL), (1519797,22,'1250',NULL), (1519797,3,'17',NULL), (1519797,23,'1 GB',NULL), (1519798,24,'21 sec',NULL), (1519798,25,'12 sec (0.57x)',NULL), (1519798,26,'1 sec (0.07x)',NULL), (1519798,3,'17',NULL), (1519800,1,'3 tasks @ 256 MB avg',NULL), (1519800,2,'24 tasks @ 480 MB avg',NULL), (1519800,3,'27',NULL), (1519801,4,'38015',NULL), (1519801,5,'890',NULL), (1519801,6,'27943',NULL), (1519801,3,'27',NULL), (1519801,7,'0.023411811127186637',NULL), (1519802,8,'455 MB',NULL), (1519802,9,'27 sec',NULL), (1519802,10,'42 sec',NULL), (1519802,11,'14 sec',NULL), (1519802,3,'27',NULL), (1519803,12,'477 MB',NULL), (1519803,13,'28 sec',NULL), (1519803,14,'17 MB/s',NULL), (1519803,3,'27',NULL), (1519803,27,'12289.610097885132',NULL), (1519804,15,'4313924',NULL), (1519804,16,'2132270',NULL), (1519804,3,'27',NULL), (1519804,17,'0.49427629490420477',NULL), (1519805,18,'1014',NULL), (1519805,19,'27 sec',NULL), (1519805,20,'2924',NULL), (1519805,21,'1036',NULL), (1519805,22,'799',NULL), (1519805,3,'27',NULL), (1519805,23,'1 GB',NULL), (1519806,1,'7 tasks @ 48 MB avg',NULL), (1519806,2,'6 tasks @ 48 MB avg',NULL), (1519806,3,'13',NULL), (1519807,4,'21024',NULL), (1519807,5,'286',NULL), (1519807,6,'16699',NULL), (1519807,3,'13',NULL), (1519807,7,'0.013603500761035007',NULL), (1519808,9,'16 sec',NULL), (1519808,10,'28 sec',NULL), (1519808,11,'13 sec',NULL), (1519808,3,'13',NULL), (1519809,18,'605',NULL), (1519809,19,'16 sec',NULL), (1519809,20,'2936',NULL), (1519809,21,'623',NULL), (1519809,22,'576',NULL), (1519809,3,'13',NULL), (1519809,23,'1 GB',NULL), (1519810,24,'9 sec',NULL), (1519810,25,'5 sec (0.55x)',NULL), (1519810,26,'1 sec (0.16x)',NULL), (1519810,3,'13',NULL), (1519812,1,'1 tasks @ 256 MB avg',NULL), (1519812,2,'8 tasks @ 480 MB avg',NULL), (1519812,3,'9',NULL), (1519813,4,'48771',NULL), (1519813,5,'1233',NULL), (1519813,6,'40227',NULL), (1519813,3,'9',NULL), (1519813,7,'0.025281417235652335',NULL), (1519814,8,'455 MB',NULL), (1519814,9,'40 sec',NULL), (1519814,10,'1 min 22 sec',NULL), (1519814,11,'23 sec',NULL), (1519814,3,'9',NULL), (1519815,12,'477 MB',NULL), (1519815,13,'36 sec',NULL), (1519815,14,'12 MB/s',NULL), (1519815,3,'9',NULL), (1519815,27,'4096.536699295044',NULL), (1519816,15,'4240278',NULL), (1519816,16,'4851508',NULL), (1519816,3,'9',NULL), (1519816,17,'1.1441486724324312',NULL), (1519817,18,'1025',NULL), (1519817,19,'40 sec',NULL), (1519817,20,'2917',NULL), (1519817,21,'1040',NULL), (1519817,22,'1003',NULL), (1519817,3,'9',NULL), (1519817,23,'1 GB',NULL), (1519818,1,'3 tasks @ 65 MB avg',NULL), (1519818,2,'2 tasks @ 65 MB avg',NULL), (1519818,3,'5',NULL), (1519819,4,'32478',NULL), (1519819,5,'1188',NULL), (1519819,6,'24655',NULL), (1519819,3,'5',NULL), (1519819,7,'0.036578607057084794',NULL), (1519820,9,'24 sec',NULL), (1519820,10,'33 sec',NULL), (1519820,11,'18 sec',NULL), (1519820,3,'5',NULL), (1519821,18,'1140',NULL), (1519821,19,'24 sec',NULL), (1519821,20,'2930',NULL), (1519821,21,'1174',NULL), (1519821,22,'1064',NULL), (1519821,3,'5',NULL), (1519821,23,'1 GB',NULL), (1519822,24,'15 sec',NULL), (1519822,25,'6 sec (0.44x)',NULL), (1519822,26,'2 sec (0.18x)',NULL), (1519822,3,'5',NULL), (1519824,1,'2 tasks @ 150 MB avg',NULL), (1519824,2,'4 tasks @ 426 MB avg',NULL), (1519824,3,'6',NULL), (1519825,4,'29083',NULL), (1519825,5,'614',NULL), (1519825,6,'22866',NULL), (1519825,3,'6',NULL), (1519825,7,'0.02111198982223292',NULL), (1519826,8,'334 MB',NULL), (1519826,9,'22 sec',NULL), (1519826,10,'33 sec',NULL), (1519826,11,'13 sec',NULL), (1519826,3,'6',NULL), (1519827,12,'426 MB',NULL), (1519827,13,'23 sec',NULL), (1519827,14,'14 MB/s',NULL), (1519827,3,'6',NULL), (1519827,27,'2007.4812812805176',NULL), (1519828,15,'4923496',NULL), (1519828,16,'9506000',NULL), (1519828,3,'6',NULL), (1519828,17,'1.9307419971499926',NULL), (1519829,18,'1004',NULL), (1519829,19,'22 sec',NULL), (1519829,20,'2918',NULL), (1519829,21,'1021',NULL), (1519829,22,'984',NULL), (1519829,3,'6',NULL), (1519829,23,'1 GB',NULL), (1519830,1,'1 tasks @ 84 MB avg',NULL), (1519830,2,'2 tasks @ 85 MB avg',NULL), (1519830,3,'3',NULL), (1519831,4,'43036',NULL), (1519831,5,'716',NULL), (1519831,6,'31501',NULL), (1519831,3,'3',NULL), (1519831,7,'0.016637233943675063',NULL), (1519832,9,'31 sec',NULL), (1519832,10,'32 sec',NULL), (1519832,11,'30 sec',NULL), (1519832,3,'3',NULL), (1519833,18,'1293',NULL), (1519833,19,'31 sec',NULL), (1519833,20,'2935',NULL), (1519833,21,'1354',NULL), (1519833,22,'1249',NULL), (1519833,3,'3',NULL), (1519833,23,'1 GB',NULL), (1519834,24,'20 sec',NULL), (1519834,25,'6 sec (0.34x)',NULL), (1519834,26,'4 sec (0.22x)',NULL), (1519834,3,'3',NULL), (1519836,1,'1 tasks @ 477 MB avg',NULL), (1519836,2,'2 tasks @ 496 MB avg',NULL), (1519836,3,'3',NULL), (1519837,4,'50053',NULL), (1519837,5,'1307',NULL), (1519837,6,'39273',NULL), (1519837,3,'3',NULL), (1519837,7,'0.02611232093980381',NULL), (1519838,8,'490 MB',NULL), (1519838,9,'39 sec',NULL), (1519838,10,'50 sec',NULL), (1519838,11,'25 sec',NULL), (1519838,3,'3',NULL), (1519839,12,'495 MB',NULL), (1519839,13,'41 sec',NULL), (1519839,14,'11 MB/s',NULL), (1519839,3,'3',NULL), (1519839,27,'1470.1559200286865',NULL), (1519840,15,'8874376',NULL), (1519840,16,'635707',NULL), (1519840,3,'3',NULL), (1519840,17,'0.07163402650251867',NULL), (1519841,18,'1023',NULL), (1519841,19,'39 sec',NULL), (1519841,20,'2917',NULL), (1519841,21,'1031',NULL), (1519841,22,'1018',NULL), (1519841,3,'3',NULL), (1519841,23,'1 GB',NULL), (1519842,1,'1 tasks @ 15 MB avg',NULL), (1519842,2,'1 tasks @ 15 MB avg',NULL), (1519842,3,'2',NULL), (1519843,4,'6380',NULL), (1519843,5,'56',NULL), (1519843,6,'7000',NULL), (1519843,3,'2',NULL), (1519843,7,'0.00877742946708464',NULL), (1519844,9,'7 sec',NULL), (1519844,10,'7 sec',NULL), (1519844,11,'6 sec',NULL), (1519844,3,'2',NULL), (1519845,18,'520',NULL), (1519845,19,'7 sec',NULL), (1519845,20,'2928',NULL), (1519845,21,'522',NULL), (1519845,22,'519',NULL), (1519845,3,'2',NULL), (1519845,23,'1 GB',NULL), (1519846,24,'1 sec',NULL), (1519846,25,'4 sec (2.74x)',NULL), (1519846,26,' (0.20x)',NULL), (1519846,3,'2',NULL), (1519848,1,'1 tasks @ 403 MB avg',NULL), (1519848,2,'502 tasks @ 1 GB avg',NULL), (1519848,3,'503',NULL), (1519849,4,'124523',NULL), (1519849,5,'3644',NULL), (1519849,6,'106319',NULL), (1519849,3,'503',NULL), (1519849,7,'0.029263670165350978',NULL), (1519850,8,'1 GB',NULL), (1519850,9,'1 min 46 sec',NULL), (1519850,10,'3 min 39 sec',NULL), (1519850,11,'17 sec',NULL), (1519850,3,'503',NULL), (1519851,12,'947 MB',NULL), (1519851,13,'1 min 41 sec',NULL), (1519851,14,'10 MB/s',NULL), (1519851,3,'503',NULL), (1519851,27,'525751.9063234329',NULL), (1519852,15,'750069',NULL), (1519852,16,'243854',NULL), (1519852,3,'503',NULL), (1519852,17,'0.32510910400171833',NULL), (1519853,18,'1045',NULL), (1519853,19,'1 min 46 sec',NULL), (1519853,20,'2924',NULL), (1519853,21,'1088',NULL), (1519853,22,'814',NULL), (1519853,3,'503',NULL), (1519853,23,'1 GB',NULL), (1519854,1,'283 tasks @ 7 MB avg',NULL), (1519854,2,'269 tasks @ 7 MB avg',NULL), (1519854,3,'552',NULL), (1519855,4,'9793',NULL), (1519855,5,'100',NULL), (1519855,6,'42346',NULL), (1519855,3,'552',NULL), (1519855,7,'0.010211375472276116',NULL), (1519856,9,'42 sec',NULL), (1519856,10,'1 min 43 sec',NULL), (1519856,11,'7 sec',NULL), (1519856,3,'552',NULL), (1519857,18,'577',NULL), (1519857,19,'42 sec',NULL), (1519857,20,'2943',NULL), (1519857,21,'623',NULL), (1519857,22,'511',NULL), (1519857,3,'552',NULL), (1519857,23,'1 GB',NULL), (1519858,24,'',NULL), (1519858,25,'41 sec (51.92x)',NULL), (1519858,26,' (0.41x)',NULL), (1519858,3,'552',NULL), (1519860,1,'1 tasks @ 280 MB avg',NULL), (1519860,2,'1 tasks @ 512 MB avg',NULL), (1519860,3,'2',NULL), (1519861,4,'102620',NULL), (1519861,5,'1747',NULL), (1519861,6,'70706',NULL), (1519861,3,'2',NULL), (1519861,7,'0.017023971935295264',NULL), (1519862,8,'396 MB',NULL), (1519862,9,'1 min 10 sec',NULL), (1519862,10,'1 min 30 sec',NULL), (1519862,11,'50 sec',NULL), (1519862,3,'2',NULL), (1519863,12,'396 MB',NULL), (1519863,13,'1 min 10 sec',NULL), (1519863,14,'5 MB/s',NULL), (1519863,3,'2',NULL), (1519863,27,'792.506085395813',NULL), (1519864,15,'1245503',NULL), (1519864,16,'0',NULL), (1519864,3,'2',NULL), (1519864,17,'0.0',NULL), (1519865,18,'692',NULL), (1519865,19,'1 min 10 sec',NULL), (1519865,20,'2929',NULL), (1519865,21,'700',NULL), (1519865,22,'684',NULL), (1519865,3,'2',NULL), (1519865,23,'1 GB',NULL), (1519866,1,'0 tasks @ 0 bytes avg',NULL), (1519866,2,'0 tasks @ 0 bytes avg',NULL), (1519866,3,'0',NULL), (1519867,4,'0',NULL), (1519867,5,'0',NULL), (1519867,6,'0',NULL), (1519867,3,'0',NULL), (1519867,7,'0.0',NULL), (1519868,9,'0 sec',NULL), (1519868,10,'0 sec',NULL), (1519868,11,'0 sec',NULL), (1519868,3,'0',NULL), (1519869,18,'0',NULL), (1519869,19,'0 sec',NULL), (1519869,20,'0',NULL), (1519869,21,'0',NULL), (1519869,22,'0',NULL), (1519869,3,'0',NULL), (1519869,23,'1 GB',NULL), (1519870,24,'0 sec',NULL), (1519870,25,'0 sec ',NULL), (1519870,26,'0 sec ',NULL), (1519870,3,'0',NULL), (1519872,1,'50 tasks @ 302 MB avg',NULL), (1519872,2,'100 tasks @ 483 MB avg',NULL), (1519872,3,'150',NULL), (1519873,4,'56132',NULL), (1519873,5,'306',NULL), (1519873,6,'48303',NULL), (1519873,3,'150',NULL), (1519873,7,'0.005451435901090288',NULL), (1519874,8,'423 MB',NULL), (1519874,9,'48 sec',NULL), (1519874,10,'1 min 36 sec',NULL), (1519874,11,'27 sec',NULL), (1519874,3,'150',NULL), (1519875,12,'468 MB',NULL), (1519875,13,'50 sec',NULL), (1519875,14,'9 MB/s',NULL), (1519875,3,'150',NULL), (1519875,27,'63494.425676345825',NULL), (1519876,15,'1543736',NULL), (1519876,16,'0',NULL), (1519876,3,'150',NULL), (1519876,17,'0.0',NULL), (1519877,18,'607',NULL), (1519877,19,'48 sec',NULL), (1519877,20,'2928',NULL), (1519877,21,'645',NULL), (1519877,22,'559',NULL), (1519877,3,'150',NULL), (1519877,23,'1 GB',NULL), (1519878,1,'0 tasks @ 0 bytes avg',NULL), (1519878,2,'0 tasks @ 0 bytes avg',NULL), (1519878,3,'0',NULL), (1519879,4,'0',NULL), (1519879,5,'0',NULL), (1519879,6,'0',NULL), (1519879,3,'0',NULL), (1519879,7,'0.0',NULL), (1519880,9,'0 sec',NULL), (1519880,10,'0 sec',NULL), (1519880,11,'0 sec',NULL), (1519880,3,'0',NULL), (1519881,18,'0',NULL), (1519881,19,'0 sec',NULL), (1519881,20,'0',NULL), (1519881,21,'0',NULL), (1519881,22,'0',NULL), (1519881,3,'0',NULL), (1519881,23,'1 GB',NULL), (1519882,24,'0 sec',NULL), (1519882,25,'0 sec ',NULL), (1519882,26,'0 sec ',NULL), (1519882,3,'0',NULL), (1519884,1,'1 tasks @ 264 MB avg',NULL), (1519884,2,'1 tasks @ 515 MB avg',NULL), (1519884,3,'2',NULL), (1519885,4,'66695',NULL), (1519885,5,'813',NULL), (1519885,6,'62888',NULL), (1519885,3,'2',NULL), (1519885,7,'0.012189819326786117',NULL), (1519886,8,'390 MB',NULL), (1519886,9,'1 min 2 sec',NULL), (1519886,10,'1 min 28 sec',NULL), (1519886,11,'37 sec',NULL), (1519886,3,'2',NULL), (1519887,12,'390 MB',NULL), (1519887,13,'1 min 2 sec',NULL), (1519887,14,'6 MB/s',NULL), (1519887,3,'2',NULL), (1519887,27,'780.0830526351929',NULL), (1519888,15,'1242122',NULL), (1519888,16,'0',NULL), (1519888,3,'2',NULL), (1519888,17,'0.0',NULL), (1519889,18,'624',NULL), (1519889,19,'1 min 2 sec',NULL), (1519889,20,'2966',NULL), (1519889,21,'633',NULL), (1519889,22,'614',NULL), (1519889,3,'2',NULL), (1519889,23,'1 GB',NULL), (1519890,1,'0 tasks @ 0 bytes avg',NULL), (1519890,2,'0 tasks @ 0 bytes avg',NULL), (1519890,3,'0',NULL), (1519891,4,'0',NULL), (1519891,5,'0',NULL), (1519891,6,'0',NULL), (1519891,3,'0',NULL), (1519891,7,'0.0',NULL), (1519892,9,'0 sec',NULL), (1519892,10,'0 sec',NULL), (1519892,11,'0 sec',NULL), (1519892,3,'0',NULL), (1519893,18,'0',NULL), (1519893,19,'0 sec',NULL), (1519893,20,'0',NULL), (1519893,21,'0',NULL), (1519893,22,'0',NULL), (1519893,3,'0',NULL), (1519893,23,'1 GB',NULL), (1519894,24,'0 sec',NULL), (1519894,25,'0 sec ',NULL), (1519894,26,'0 sec ',NULL), (1519894,3,'0',NULL), (1519896,1,'306 tasks @ 290 MB avg',NULL), (1519896,2,'203 tasks @ 454 MB avg',NULL), (1519896,3,'509',NULL), (1519897,4,'65394',NULL), (1519897,5,'909',NULL), (1519897,6,'53214',NULL), (1519897,3,'509',NULL), (1519897,7,'0.013900357830993668',NULL), (1519898,8,'355 MB',NULL), (1519898,9,'53 sec',NULL), (1519898,10,'1 min 55 sec',NULL), (1519898,11,'32 sec',NULL), (1519898,3,'509',NULL), (1519899,12,'320 MB',NULL), (1519899,13,'50 sec',NULL), (1519899,14,'7 MB/s',NULL), (1519899,3,'509',NULL), (1519899,27,'181091.6296787262',NULL), (1519900,15,'308768',NULL), (1519900,16,'0',NULL), (1519900,3,'509',NULL), (1519900,17,'0.0',NULL), (1519901,18,'604',NULL), (1519901,19,'53 sec',NULL), (1519901,20,'2924',NULL), (1519901,21,'698',NULL), (1519901,22,'569',NULL), (1519901,3,'509',NULL), (1519901,23,'1 GB',NULL), (1519902,1,'0 tasks @ 0 bytes avg',NULL), (1519902,2,'0 tasks @ 0 bytes avg',NULL), (1519902,3,'0',NULL), (1519903,4,'0',NULL), (1519903,5,'0',NULL), (1519903,6,'0',NULL), (1519903,3,'0',NULL), (1519903,7,'0.0',NULL), (1519904,9,'0 sec',NULL), (1519904,10,'0 sec',NULL), (1519904,11,'0 sec',NULL), (1519904,3,'0',NULL), (1519905,18,'0',NULL), (1519905,19,'0 sec',NULL), (1519905,20,'0',NULL), (1519905,21,'0',NULL), (1519905,22,'0',NULL), (1519905,3,'0',NULL), (1519905,23,'1 GB',NULL), (1519906,24,'0 sec',NULL), (1519906,25,'0 sec ',NULL), (1519906,26,'0 sec ',NULL), (1519906,3,'0',NULL), (1519908,1,'1 tasks @ 324 MB avg',NULL), (1519908,2,'1 tasks @ 507 MB avg',NULL), (1519908,3,'2',NULL), (1519909,4,'129925',NULL), (1519909,5,'3734',NULL), (1519909,6,'89082',NULL), (1519909,3,'2',NULL), (1519909,7,'0.028739657494708484',NULL), (1519910,8,'415 MB',NULL), (1519910,9,'1 min 29 sec',NULL), (1519910,10,'1 min 59 sec',NULL), (1519910,11,'58 sec',NULL), (1519910,3,'2',NULL), (1519911,12,'415 MB',NULL), (1519911,13,'1 min 29 sec',NULL), (1519911,14,'4 MB/s',NULL), (1519911,3,'2',NULL), (1519911,27,'831.6270980834961',NULL), (1519912,15,'1211133',NULL), (1519912,16,'0',NULL), (1519912,3,'2',NULL), (1519912,17,'0.0',NULL), (1519913,18,'761',NULL), (1519913,19,'1 min 29 sec',NULL), (1519913,20,'2926',NULL), (1519913,21,'795',NULL), (1519913,22,'726',NULL), (1519913,3,'2',NULL), (1519913,23,'1 GB',NULL), (1519914,1,'0 tasks @ 0 bytes avg',NULL), (1519914,2,'0 tasks @ 0 bytes avg',NULL), (1519914,3,'0',NULL), (1519915,4,'0',NULL), (1519915,5,'0',NULL), (1519915,6,'0',NULL), (1519915,3,'0',NULL), (1519915,7,'0.0',NULL), (1519916,9,'0 sec',NULL), (1519916,10,'0 sec',NULL), (1519916,11,'0 sec',NULL), (1519916,3,'0',NULL), (1519917,18,'0',NULL), (1519917,19,'0 sec',NULL), (1519917,20,'0',NULL), (1519917,21,'0',NULL), (1519917,22,'0',NULL), (1519917,3,'0',NULL), (1519917,23,'1 GB',NULL), (1519918,24,'0 sec',NULL), (1519918,25,'0 sec ',NULL), (1519918,26,'0 sec ',NULL), (1519918,3,'0',NULL), (1519920,1,'297 tasks @ 293 MB avg',NULL), (1519920,2,'198 tasks @ 448 MB avg',NULL), (1519920,3,'495',NULL), (1519921,4,'65955',NULL), (1519921,5,'971',NULL), (1519921,6,'53647',NULL), (1519921,3,'495',NULL), (1519921,7,'0.014722159047835645',NULL), (1519922,8,'355 MB',NULL), (1519922,9,'53 sec',NULL), (1519922,10,'1 min 46 sec',NULL), (1519922,11,'31 sec',NULL), (1519922,3,'495',NULL), (1519923,12,'321 MB',NULL), (1519923,13,'50 sec',NULL), (1519923,14,'6 MB/s',NULL), (1519923,3,'495',NULL), (1519923,27,'175900.1569595337',NULL), (1519924,15,'304294',NULL), (1519924,16,'0',NULL), (1519924,3,'495',NULL), (1519924,17,'0.0',NULL), (1519925,18,'602',NULL), (1519925,19,'53 sec',NULL), (1519925,20,'2927',NULL), (1519925,21,'645',NULL), (1519925,22,'569',NULL), (1519925,3,'495',NULL), (1519925,23,'1 GB',NULL), (1519926,1,'0 tasks @ 0 bytes avg',NULL), (1519926,2,'0 tasks @ 0 bytes avg',NULL), (1519926,3,'0',NULL), (1519927,4,'0',NULL), (1519927,5,'0',NULL), (1519927,6,'0',NULL), (1519927,3,'0',NULL), (1519927,7,'0.0',NULL), (1519928,9,'0 sec',NULL), (1519928,10,'0 sec',NULL), (1519928,11,'0 sec',NULL), (1519928,3,'0',NULL), (1519929,18,'0',NULL), (1519929,19,'0 sec',NULL), (1519929,20,'0',NULL), (1519929,21,'0',NULL), (1519929,22,'0',NULL), (1519929,3,'0',NULL), (1519929,23,'1 GB',NULL), (1519930,24,'0 sec',NULL), (1519930,25,'0 sec ',NULL), (1519930,26,'0 sec ',NULL), (1519930,3,'0',NULL), (1519932,1,'948 tasks @ 779 MB avg',NULL), (1519932,2,'835 tasks @ 1 GB avg',NULL), (1519932,3,'1783',NULL), (1519933,4,'71503',NULL), (1519933,5,'2697',NULL), (1519933,6,'47954',NULL), (1519933,3,'1783',NULL), (1519933,7,'0.03771869711760346',NULL), (1519934,8,'941 MB',NULL), (1519934,9,'47 sec',NULL), (1519934,10,'1 min 54 sec',NULL), (1519934,11,'20 sec',NULL), (1519934,3,'1783',NULL), (1519935,12,'916 MB',NULL), (1519935,13,'44 sec',NULL), (1519935,14,'21 MB/s',NULL), (1519935,3,'1783',NULL), (1519935,27,'1678477.7600755692',NULL), (1519936,15,'3484134',NULL), (1519936,16,'6968269',NULL), (1519936,3,'1783',NULL), (1519936,17,'2.0',NULL), (1519937,18,'1055',NULL), (1519937,19,'47 sec',NULL), (1519937,20,'2937',NULL), (1519937,21,'1306',NULL), (1519937,22,'778',NULL), (1519937,3,'1783',NULL), (1519937,23,'1 GB',NULL), (1519938,1,'520 tasks @ 500 MB avg',NULL), (1519938,2,'479 tasks @ 501 MB avg',NULL), (1519938,3,'999',NULL), (1519939,4,'69540',NULL), (1519939,5,'1728',NULL), (1519939,6,'74531',NULL), (1519939,3,'999',NULL), (1519939,7,'0.024849007765314925',NULL), (1519940,9,'1 min 14 sec',NULL), (1519940,10,'3 min 1 sec',NULL), (1519940,11,'39 sec',NULL), (1519940,3,'999',NULL), (1519941,18,'1299',NULL), (1519941,19,'1 min 14 sec',NULL), (1519941,20,'2962',NULL), (1519941,21,'1479',NULL), (1519941,22,'1088',NULL), (1519941,3,'999',NULL), (1519941,23,'1 GB',NULL), (1519942,24,'29 sec',NULL), (1519942,25,'42 sec (1.45x)',NULL), (1519942,26,'2 sec (0.07x)',NULL), (1519942,3,'999',NULL), (1519944,1,'889 tasks @ 310 MB avg',NULL), (1519944,2,'735 tasks @ 450 MB avg',NULL), (1519944,3,'1624',NULL), (1519945,4,'67810',NULL), (1519945,5,'1125',NULL), (1519945,6,'54926',NULL), (1519945,3,'1624',NULL), (1519945,7,'0.016590473381507154',NULL), (1519946,8,'373 MB',NULL), (1519946,9,'54 sec',NULL), (1519946,10,'1 min 59 sec',NULL), (1519946,11,'30 sec',NULL), (1519946,3,'1624',NULL), (1519947,12,'361 MB',NULL), (1519947,13,'52 sec',NULL), (1519947,14,'7 MB/s',NULL), (1519947,3,'1624',NULL), (1519947,27,'606587.9218597412',NULL), (1519948,15,'337012',NULL), (1519948,16,'0',NULL), (1519948,3,'1624',NULL), (1519948,17,'0.0',NULL), (1519949,18,'607',NULL), (1519949,19,'54 sec',NULL), (1519949,20,'2927',NULL), (1519949,21,'674',NULL), (1519949,22,'568',NULL), (1519949,3,'1624',NULL), (1519949,23,'1 GB',NULL), (1519950,1,'0 tasks @ 0 bytes avg',NULL), (1519950,2,'0 tasks @ 0 bytes avg',NULL), (1519950,3,'0',NULL), (1519951,4,'0',NULL), (1519951,5,'0',NULL), (1519951,6,'0',NULL), (1519951,3,'0',NULL), (1519951,7,'0.0',NULL), (1519952,9,'0 sec',NULL), (1519952,10,'0 sec',NULL), (1519952,11,'0 sec',NULL), (1519952,3,'0',NULL), (1519953,18,'0',NULL), (1519953,19,'0 sec',NULL), (1519953,20,'0',NULL), (1519953,21,'0',NULL), (1519953,22,'0',NULL), (1519953,3,'0',NULL), (1519953,23,'1 GB',NULL), (1519954,24,'0 sec',NULL), (1519954,25,'0 sec ',NULL), (1519954,26,'0 sec ',NULL), (1519954,3,'0',NULL), (1519956,1,'1 tasks @ 452 MB avg',NULL), (1519956,2,'497 tasks @ 1 GB avg',NULL), (1519956,3,'498',NULL), (1519957,4,'104899',NULL), (1519957,5,'1484',NULL), (1519957,6,'86266',NULL), (1519957,3,'498',NULL), (1519957,7,'0.014146941343578108',NULL), (1519958,8,'1 GB',NULL), (1519958,9,'1 min 26 sec',NULL), (1519958,10,'2 min 46 sec',NULL), (1519958,11,'16 sec',NULL), (1519958,3,'498',NULL), (1519959,12,'949 MB',NULL), (1519959,13,'1 min 21 sec',NULL), (1519959,14,'12 MB/s',NULL), (1519959,3,'498',NULL), (1519959,27,'523536.60893917084',NULL), (1519960,15,'754187',NULL), (1519960,16,'244061',NULL), (1519960,3,'498',NULL), (1519960,17,'0.3236081854476542',NULL), (1519961,18,'891',NULL), (1519961,19,'1 min 26 sec',NULL), (1519961,20,'2926',NULL), (1519961,21,'965',NULL), (1519961,22,'865',NULL), (1519961,3,'498',NULL), (1519961,23,'1 GB',NULL), (1519962,1,'276 tasks @ 7 MB avg',NULL), (1519962,2,'273 tasks @ 7 MB avg',NULL), (1519962,3,'549',NULL), (1519963,4,'9068',NULL), (1519963,5,'88',NULL), (1519963,6,'8130',NULL), (1519963,3,'549',NULL), (1519963,7,'0.009704455227172474',NULL), (1519964,9,'8 sec',NULL), (1519964,10,'20 sec',NULL), (1519964,11,'3 sec',NULL), (1519964,3,'549',NULL), (1519965,18,'604',NULL), (1519965,19,'8 sec',NULL), (1519965,20,'3285',NULL), (1519965,21,'683',NULL), (1519965,22,'507',NULL), (1519965,3,'549',NULL), (1519965,23,'1 GB',NULL), (1519966,24,'',NULL), (1519966,25,'7 sec (16.20x)',NULL), (1519966,26,' (0.71x)',NULL), (1519966,3,'549',NULL), (1519968,1,'1 tasks @ 150 MB avg',NULL), (1519968,2,'1 tasks @ 155 MB avg',NULL), (1519968,3,'2',NULL), (1519969,4,'19210',NULL), (1519969,5,'164',NULL), (1519969,6,'16503',NULL), (1519969,3,'2',NULL), (1519969,7,'0.008537220197813639',NULL), (1519970,8,'153 MB',NULL), (1519970,9,'16 sec',NULL), (1519970,10,'16 sec',NULL), (1519970,11,'16 sec',NULL), (1519970,3,'2',NULL), (1519971,12,'153 MB',NULL), (1519971,13,'16 sec',NULL), (1519971,14,'9 MB/s',NULL), (1519971,3,'2',NULL), (1519971,27,'306.22699069976807',NULL), (1519972,15,'2901809',NULL), (1519972,16,'5803619',NULL), (1519972,3,'2',NULL), (1519972,17,'2.0',NULL), (1519973,18,'848',NULL), (1519973,19,'16 sec',NULL), (1519973,20,'2923',NULL), (1519973,21,'852',NULL), (1519973,22,'845',NULL), (1519973,3,'2',NULL), (1519973,23,'1 GB',NULL), (1519974,1,'0 tasks @ 0 bytes avg',NULL), (1519974,2,'1 tasks @ 188 MB avg',NULL), (1519974,3,'1',NULL), (1519975,4,'28760',NULL), (1519975,5,'174',NULL), (1519975,6,'26051',NULL), (1519975,3,'1',NULL), (1519975,7,'0.0060500695410292075',NULL), (1519976,9,'26 sec',NULL), (1519976,10,'26 sec',NULL), (1519976,11,'26 sec',NULL), (1519976,3,'1',NULL), (1519977,18,'689',NULL), (1519977,19,'26 sec',NULL), (1519977,20,'3255',NULL), (1519977,21,'689',NULL), (1519977,22,'689',NULL), (1519977,3,'1',NULL), (1519977,23,'1 GB',NULL), (1519978,24,'16 sec',NULL), (1519978,25,'5 sec (0.33x)',NULL), (1519978,26,'3 sec (0.21x)',NULL), (1519978,3,'1',NULL), (1519980,1,'0 tasks @ 0 bytes avg',NULL), (1519980,2,'1 tasks @ 163 MB avg',NULL), (1519980,3,'1',NULL), (1519981,4,'53920',NULL), (1519981,5,'631',NULL), (1519981,6,'40213',NULL), (1519981,3,'1',NULL), (1519981,7,'0.011702522255192879',NULL), (1519982,8,'163 MB',NULL), (1519982,9,'40 sec',NULL), (1519982,10,'40 sec',NULL), (1519982,11,'40 sec',NULL), (1519982,3,'1',NULL), (1519983,12,'163 MB',NULL), (1519983,13,'40 sec',NULL), (1519983,14,'4 MB/s',NULL), (1519983,3,'1',NULL), (1519983,27,'163.50396060943604',NULL), (1519984,15,'2925684',NULL), (1519984,16,'5851368',NULL), (1519984,3,'1',NULL), (1519984,17,'2.0',NULL), (1519985,18,'856',NULL), (1519985,19,'40 sec',NULL), (1519985,20,'2918',NULL), (1519985,21,'856',NULL), (1519985,22,'856',NULL), (1519985,3,'1',NULL), (1519985,23,'1 GB',NULL), (1519986,1,'0 tasks @ 0 bytes avg',NULL), (1519986,2,'1 tasks @ 97 MB avg',NULL), (1519986,3,'1',NULL), (1519987,4,'21470',NULL), (1519987,5,'304',NULL), (1519987,6,'21594',NULL), (1519987,3,'1',NULL), (1519987,7,'0.01415929203539823',NULL), (1519988,9,'21 sec',NULL), (1519988,10,'21 sec',NULL), (1519988,11,'21 sec',NULL), (1519988,3,'1',NULL), (1519989,18,'687',NULL), (1519989,19,'21 sec',NULL), (1519989,20,'3263',NULL), (1519989,21,'687',NULL), (1519989,22,'687',NULL), (1519989,3,'1',NULL), (1519989,23,'1 GB',NULL), (1519990,24,'12 sec',NULL), (1519990,25,'7 sec (0.60x)',NULL), (1519990,26,'1 sec (0.15x)',NULL), (1519990,3,'1',NULL), (1519992,1,'0 tasks @ 0 bytes avg',NULL), (1519992,2,'1 tasks @ 158 MB avg',NULL), (1519992,3,'1',NULL), (1519993,4,'22650',NULL), (1519993,5,'231',NULL), (1519993,6,'19696',NULL), (1519993,3,'1',NULL), (1519993,7,'0.010198675496688741',NULL), (1519994,8,'158 MB',NULL), (1519994,9,'19 sec',NULL), (1519994,10,'19 sec',NULL), (1519994,11,'19 sec',NULL), (1519994,3,'1',NULL), (1519995,12,'158 MB',NULL), (1519995,13,'19 sec',NULL), (1519995,14,'8 MB/s',NULL), (1519995,3,'1',NULL), (1519995,27,'158.48675537109375',NULL), (1519996,15,'2925684',NULL), (1519996,16,'5851368',NULL), (1519996,3,'1',NULL), (1519996,17,'2.0',NULL), (1519997,18,'827',NULL), (1519997,19,'19 sec',NULL), (1519997,20,'2924',NULL), (1519997,21,'827',NULL), (1519997,22,'827',NULL), (1519997,3,'1',NULL), (1519997,23,'1 GB',NULL), (1519998,1,'0 tasks @ 0 bytes avg',NULL), (1519998,2,'1 tasks @ 93 MB avg',NULL), (1519998,3,'1',NULL), (1519999,4,'15320',NULL), (1519999,5,'99',NULL), (1519999,6,'15367',NULL), (1519999,3,'1',NULL), (1519999,7,'0.006462140992167102',NULL), (1520000,9,'15 sec',NULL), (1520000,10,'15 sec',NULL), (1520000,11,'15 sec',NULL), (1520000,3,'1',NULL), (1520001,18,'659',NULL), (1520001,19,'15 sec',NULL), (1520001,20,'3270',NULL), (1520001,21,'659',NULL), (1520001,22,'659',NULL), (1520001,3,'1',NULL), (1520001,23,'1 GB',NULL), (1520002,24,'7 sec',NULL), (1520002,25,'5 sec (0.71x)',NULL), (1520002,26,'1 sec (0.22x)',NULL), (1520002,3,'1',NULL), (1520004,1,'2 tasks @ 176 MB avg',NULL), (1520004,2,'31 tasks @ 509 MB avg',NULL), (1520004,3,'33',NULL), (1520005,4,'46196',NULL), (1520005,5,'439',NULL), (1520005,6,'33085',NULL), (1520005,3,'33',NULL), (1520005,7,'0.00950298727162525',NULL), (1520006,8,'489 MB',NULL), (1520006,9,'33 sec',NULL), (1520006,10,'49 sec',NULL), (1520006,11,'11 sec',NULL), (1520006,3,'33',NULL), (1520007,12,'507 MB',NULL), (1520007,13,'32 sec',NULL), (1520007,14,'15 MB/s',NULL), (1520007,3,'33',NULL), (1520007,27,'16157.14318561554',NULL), (1520008,15,'5373356',NULL), (1520008,16,'10746712',NULL), (1520008,3,'33',NULL), (1520008,17,'2.0',NULL), (1520009,18,'844',NULL), (1520009,19,'33 sec',NULL), (1520009,20,'2923',NULL), (1520009,21,'861',NULL), (1520009,22,'816',NULL), (1520009,3,'33',NULL), (1520009,23,'1 GB',NULL), (1520010,1,'16 tasks @ 134 MB avg',NULL), (1520010,2,'1 tasks @ 993 MB avg',NULL), (1520010,3,'17',NULL), (1520011,4,'42275',NULL), (1520011,5,'727',NULL), (1520011,6,'32433',NULL), (1520011,3,'17',NULL), (1520011,7,'0.01719692489651094',NULL), (1520012,9,'32 sec',NULL), (1520012,10,'1 min 35 sec',NULL), (1520012,11,'23 sec',NULL), (1520012,3,'17',NULL), (1520013,18,'1592',NULL), (1520013,19,'32 sec',NULL), (1520013,20,'3271',NULL), (1520013,21,'1710',NULL), (1520013,22,'1407',NULL), (1520013,3,'17',NULL), (1520013,23,'1 GB',NULL), (1520014,24,'19 sec',NULL), (1520014,25,'9 sec (0.50x)',NULL), (1520014,26,'2 sec (0.14x)',NULL), (1520014,3,'17',NULL), (1520016,1,'1 tasks @ 260 MB avg',NULL), (1520016,2,'8 tasks @ 478 MB avg',NULL), (1520016,3,'9',NULL), (1520017,4,'41783',NULL), (1520017,5,'365',NULL), (1520017,6,'30677',NULL), (1520017,3,'9',NULL), (1520017,7,'0.008735610176387526',NULL), (1520018,8,'454 MB',NULL), (1520018,9,'30 sec',NULL), (1520018,10,'35 sec',NULL), (1520018,11,'20 sec',NULL), (1520018,3,'9',NULL), (1520019,12,'476 MB',NULL), (1520019,13,'31 sec',NULL), (1520019,14,'15 MB/s',NULL), (1520019,3,'9',NULL), (1520019,27,'4087.891945838928',NULL), (1520020,15,'4231253',NULL), (1520020,16,'4840442',NULL), (1520020,3,'9',NULL), (1520020,17,'1.1439735330352832',NULL), (1520021,18,'855',NULL), (1520021,19,'30 sec',NULL), (1520021,20,'2919',NULL), (1520021,21,'874',NULL), (1520021,22,'841',NULL), (1520021,3,'9',NULL), (1520021,23,'1 GB',NULL), (1520022,1,'2 tasks @ 65 MB avg',NULL), (1520022,2,'3 tasks @ 65 MB avg',NULL), (1520022,3,'5',NULL), (1520023,4,'26902',NULL), (1520023,5,'509',NULL), (1520023,6,'19608',NULL), (1520023,3,'5',NULL), (1520023,7,'0.01892052635491785',NULL), (1520024,9,'19 sec',NULL), (1520024,10,'23 sec',NULL), (1520024,11,'17 sec',NULL), (1520024,3,'5',NULL), (1520025,18,'1041',NULL), (1520025,19,'19 sec',NULL), (1520025,20,'3291',NULL), (1520025,21,'1125',NULL), (1520025,22,'981',NULL), (1520025,3,'5',NULL), (1520025,23,'1 GB',NULL), (1520026,24,'11 sec',NULL), (1520026,25,'5 sec (0.53x)',NULL), (1520026,26,'2 sec (0.21x)',NULL), (1520026,3,'5',NULL), (1520028,1,'3 tasks @ 260 MB avg',NULL), (1520028,2,'24 tasks @ 478 MB avg',NULL), (1520028,3,'27',NULL), (1520029,4,'34687',NULL), (1520029,5,'428',NULL), (1520029,6,'25760',NULL), (1520029,3,'27',NULL), (1520029,7,'0.012338916596995993',NULL), (1520030,8,'454 MB',NULL), (1520030,9,'25 sec',NULL), (1520030,10,'36 sec',NULL), (1520030,11,'13 sec',NULL), (1520030,3,'27',NULL), (1520031,12,'476 MB',NULL), (1520031,13,'24 sec',NULL), (1520031,14,'18 MB/s',NULL), (1520031,3,'27',NULL), (1520031,27,'12263.675837516785',NULL), (1520032,15,'4304775',NULL), (1520032,16,'2127942',NULL), (1520032,3,'27',NULL), (1520032,17,'0.4943213459297361',NULL), (1520033,18,'854',NULL), (1520033,19,'25 sec',NULL), (1520033,20,'2923',NULL), (1520033,21,'872',NULL), (1520033,22,'824',NULL), (1520033,3,'27',NULL), (1520033,23,'1 GB',NULL), (1520034,1,'8 tasks @ 48 MB avg',NULL), (1520034,2,'5 tasks @ 48 MB avg',NULL), (1520034,3,'13',NULL), (1520035,4,'20102',NULL), (1520035,5,'112',NULL), (1520035,6,'15768',NULL), (1520035,3,'13',NULL), (1520035,7,'0.005571584916923689',NULL), (1520036,9,'15 sec',NULL), (1520036,10,'17 sec',NULL), (1520036,11,'14 sec',NULL), (1520036,3,'13',NULL), (1520037,18,'713',NULL), (1520037,19,'15 sec',NULL), (1520037,20,'3282',NULL), (1520037,21,'747',NULL), (1520037,22,'681',NULL), (1520037,3,'13',NULL), (1520037,23,'1 GB',NULL), (1520038,24,'8 sec',NULL), (1520038,25,'5 sec (0.69x)',NULL), (1520038,26,'1 sec (0.18x)',NULL), (1520038,3,'13',NULL), (1520040,1,'2 tasks @ 150 MB avg',NULL), (1520040,2,'4 tasks @ 425 MB avg',NULL), (1520040,3,'6',NULL), (1520041,4,'25606',NULL), (1520041,5,'236',NULL), (1520041,6,'20435',NULL), (1520041,3,'6',NULL), (1520041,7,'0.009216589861751152',NULL), (1520042,8,'334 MB',NULL), (1520042,9,'20 sec',NULL), (1520042,10,'24 sec',NULL), (1520042,11,'12 sec',NULL), (1520042,3,'6',NULL), (1520043,12,'425 MB',NULL), (1520043,13,'22 sec',NULL), (1520043,14,'17 MB/s',NULL), (1520043,3,'6',NULL), (1520043,27,'2004.069811820984',NULL), (1520044,15,'4915562',NULL), (1520044,16,'9831125',NULL), (1520044,3,'6',NULL), (1520044,17,'2.0',NULL), (1520045,18,'839',NULL), (1520045,19,'20 sec',NULL), (1520045,20,'2915',NULL), (1520045,21,'855',NULL), (1520045,22,'821',NULL), (1520045,3,'6',NULL), (1520045,23,'1 GB',NULL), (1520046,1,'1 tasks @ 85 MB avg',NULL), (1520046,2,'2 tasks @ 86 MB avg',NULL), (1520046,3,'3',NULL), (1520047,4,'38256',NULL), (1520047,5,'454',NULL), (1520047,6,'27717',NULL), (1520047,3,'3',NULL), (1520047,7,'0.011867419489753242',NULL), (1520048,9,'27 sec',NULL), (1520048,10,'28 sec',NULL), (1520048,11,'26 sec',NULL), (1520048,3,'3',NULL), (1520049,18,'1105',NULL), (1520049,19,'27 sec',NULL), (1520049,20,'3276',NULL), (1520049,21,'1176',NULL), (1520049,22,'1057',NULL), (1520049,3,'3',NULL), (1520049,23,'1 GB',NULL), (1520050,24,'18 sec',NULL), (1520050,25,'5 sec (0.28x)',NULL), (1520050,26,'4 sec (0.23x)',NULL), (1520050,3,'3',NULL), (1520052,1,'1 tasks @ 476 MB avg',NULL), (1520052,2,'2 tasks @ 495 MB avg',NULL), (1520052,3,'3',NULL), (1520053,4,'39180',NULL), (1520053,5,'353',NULL), (1520053,6,'27557',NULL), (1520053,3,'3',NULL), (1520053,7,'0.009009698825931597',NULL), (1520054,8,'489 MB',NULL), (1520054,9,'27 sec',NULL), (1520054,10,'29 sec',NULL), (1520054,11,'26 sec',NULL), (1520054,3,'3',NULL), (1520055,12,'495 MB',NULL), (1520055,13,'27 sec',NULL), (1520055,14,'17 MB/s',NULL), (1520055,3,'3',NULL), (1520055,27,'1467.140121459961',NULL), (1520056,15,'8855897',NULL), (1520056,16,'635697',NULL), (1520056,3,'3',NULL), (1520056,17,'0.07178233623003459',NULL), (1520057,18,'846',NULL), (1520057,19,'27 sec',NULL), (1520057,20,'2917',NULL), (1520057,21,'860',NULL), (1520057,22,'834',NULL), (1520057,3,'3',NULL), (1520057,23,'1 GB',NULL), (1520058,1,'1 tasks @ 15 MB avg',NULL), (1520058,2,'1 tasks @ 15 MB avg',NULL), (1520058,3,'2',NULL), (1520059,4,'6420',NULL), (1520059,5,'59',NULL), (1520059,6,'11536',NULL), (1520059,3,'2',NULL), (1520059,7,'0.009190031152647975',NULL), (1520060,9,'11 sec',NULL), (1520060,10,'11 sec',NULL), (1520060,11,'11 sec',NULL), (1520060,3,'2',NULL), (1520061,18,'617',NULL), (1520061,19,'11 sec',NULL), (1520061,20,'3267',NULL), (1520061,21,'617',NULL), (1520061,22,'617',NULL), (1520061,3,'2',NULL), (1520061,23,'1 GB',NULL), (1520062,24,'1 sec',NULL), (1520062,25,'9 sec (4.77x)',NULL), (1520062,26,' (0.19x)',NULL), (1520062,3,'2',NULL), (1520064,1,'308 tasks @ 859 MB avg',NULL), (1520064,2,'204 tasks @ 1 GB avg',NULL), (1520064,3,'512',NULL), (1520065,4,'105256',NULL), (1520065,5,'1649',NULL), (1520065,6,'87523',NULL), (1520065,3,'512',NULL), (1520065,7,'0.015666565326442197',NULL), (1520066,8,'1 GB',NULL), (1520066,9,'1 min 27 sec',NULL), (1520066,10,'3 min 7 sec',NULL), (1520066,11,'18 sec',NULL), (1520066,3,'512',NULL), (1520067,12,'948 MB',NULL), (1520067,13,'1 min 22 sec',NULL), (1520067,14,'12 MB/s',NULL), (1520067,3,'512',NULL), (1520067,27,'539270.6440467834',NULL), (1520068,15,'736811',NULL), (1520068,16,'235320',NULL), (1520068,3,'512',NULL), (1520068,17,'0.3193772050486382',NULL), (1520069,18,'892',NULL), (1520069,19,'1 min 27 sec',NULL), (1520069,20,'2924',NULL), (1520069,21,'1001',NULL), (1520069,22,'864',NULL), (1520069,3,'512',NULL), (1520069,23,'1 GB',NULL), (1520070,1,'291 tasks @ 7 MB avg',NULL), (1520070,2,'275 tasks @ 7 MB avg',NULL), (1520070,3,'566',NULL), (1520071,4,'9313',NULL), (1520071,5,'80',NULL), (1520071,6,'7792',NULL), (1520071,3,'566',NULL), (1520071,7,'0.008590142811124236',NULL), (1520072,9,'7 sec',NULL), (1520072,10,'16 sec',NULL), (1520072,11,'3 sec',NULL), (1520072,3,'566',NULL), (1520073,18,'608',NULL), (1520073,19,'7 sec',NULL), (1520073,20,'3286',NULL), (1520073,21,'705',NULL), (1520073,22,'508',NULL), (1520073,3,'566',NULL), (1520073,23,'1 GB',NULL), (1520074,24,'',NULL), (1520074,25,'6 sec (8.14x)',NULL), (1520074,26,' (0.38x)',NULL), (1520074,3,'566',NULL), (1520076,1,'934 tasks @ 779 MB avg',NULL), (1520076,2,'840 tasks @ 1 GB avg',NULL), (1520076,3,'1774',NULL), (1520077,4,'64423',NULL), (1520077,5,'1714',NULL), (1520077,6,'46509',NULL), (1520077,3,'1774',NULL), (1520077,7,'0.026605404901976003',NULL), (1520078,8,'944 MB',NULL), (1520078,9,'46 sec',NULL), (1520078,10,'2 min 23 sec',NULL), (1520078,11,'23 sec',NULL), (1520078,3,'1774',NULL), (1520079,12,'926 MB',NULL), (1520079,13,'43 sec',NULL), (1520079,14,'21 MB/s',NULL), (1520079,3,'1774',NULL), (1520079,27,'1676399.0118570328',NULL), (1520080,15,'3497298',NULL), (1520080,16,'6994597',NULL), (1520080,3,'1774',NULL), (1520080,17,'2.0',NULL), (1520081,18,'900',NULL), (1520081,19,'46 sec',NULL), (1520081,20,'2936',NULL), (1520081,21,'1000',NULL), (1520081,22,'828',NULL), (1520081,3,'1774',NULL), (1520081,23,'1 GB',NULL), (1520082,1,'513 tasks @ 499 MB avg',NULL), (1520082,2,'486 tasks @ 500 MB avg',NULL), (1520082,3,'999',NULL), (1520083,4,'71535',NULL), (1520083,5,'1696',NULL), (1520083,6,'52042',NULL), (1520083,3,'999',NULL), (1520083,7,'0.023708674075627316',NULL), (1520084,9,'52 sec',NULL), (1520084,10,'1 min 48 sec',NULL), (1520084,11,'38 sec',NULL), (1520084,3,'999',NULL), (1520085,18,'1612',NULL), (1520085,19,'52 sec',NULL), (1520085,20,'3297',NULL), (1520085,21,'1792',NULL), (1520085,22,'1389',NULL), (1520085,3,'999',NULL), (1520085,23,'1 GB',NULL), (1520086,24,'29 sec',NULL), (1520086,25,'15 sec (0.54x)',NULL), (1520086,26,'6 sec (0.22x)',NULL), (1520086,3,'999',NULL), (1536115,1,'0 tasks @ 0 bytes avg',NULL), (1536115,2,'1 tasks @ 515 MB avg',NULL), (1536115,3,'1',NULL), (1536116,4,'109330',NULL), (1536116,5,'6065',NULL), (1536116,6,'102946',NULL), (1536116,3,'1',NULL), (1536116,7,'0.05547425226378853',NULL), (1536117,8,'515 MB',NULL), (1536117,9,'1 min 42 sec',NULL), (1536117,10,'1 min 42 sec',NULL), (1536117,11,'1 min 42 sec',NULL), (1536117,3,'1',NULL), (1536118,12,'515 MB',NULL), (1536118,13,'1 min 42 sec',NULL), (1536118,14,'5 MB/s',NULL), (1536118,3,'1',NULL), (1536118,27,'515.5552177429199',NULL), (1536119,15,'977313',NULL), (1536119,16,'251',NULL), (1536119,3,'1',NULL), (1536119,17,'2.5682662565626365E-4',NULL), (1536120,18,'1860',NULL), (1536120,19,'1 min 42 sec',NULL), (1536120,20,'3672',NULL), (1536120,21,'1860',NULL), (1536120,22,'1860',NULL), (1536120,3,'1',NULL), (1536120,23,'2 GB',NULL), (1536121,1,'0 tasks @ 0 bytes avg',NULL), (1536121,2,'1 tasks @ 1 KB avg',NULL), (1536121,3,'1',NULL), (1536122,4,'2700',NULL), (1536122,5,'109',NULL), (1536122,6,'8496',NULL), (1536122,3,'1',NULL), (1536122,7,'0.04037037037037037',NULL), (1536123,9,'8 sec',NULL), (1536123,10,'8 sec',NULL), (1536123,11,'8 sec',NULL), (1536123,3,'1',NULL), (1536124,18,'398',NULL), (1536124,19,'8 sec',NULL), (1536124,20,'4100',NULL), (1536124,21,'398',NULL), (1536124,22,'398',NULL), (1536124,3,'1',NULL), (1536124,23,'3 GB',NULL), (1536125,24,'',NULL), (1536125,25,'7 sec (9.49x)',NULL), (1536125,26,' (0.05x)',NULL), (1536125,3,'1',NULL), (1536163,1,'0 tasks @ 0 bytes avg',NULL), (1536163,2,'1 tasks @ 515 MB avg',NULL), (1536163,3,'1',NULL), (1536164,4,'132240',NULL), (1536164,5,'6714',NULL), (1536164,6,'186804',NULL), (1536164,3,'1',NULL), (1536164,7,'0.050771324863883846',NULL), (1536165,8,'515 MB',NULL), (1536165,9,'3 min 6 sec',NULL), (1536165,10,'3 min 6 sec',NULL), (1536165,11,'3 min 6 sec',NULL), (1536165,3,'1',NULL), (1536166,12,'515 MB',NULL), (1536166,13,'3 min 6 sec',NULL), (1536166,14,'2 MB/s',NULL), (1536166,3,'1',NULL), (1536166,27,'515.5552177429199',NULL), (1536167,15,'977313',NULL), (1536167,16,'251',NULL), (1536167,3,'1',NULL), (1536167,17,'2.5682662565626365E-4',NULL), (1536168,18,'968',NULL), (1536168,19,'3 min 6 sec',NULL), (1536168,20,'2345',NULL), (1536168,21,'968',NULL), (1536168,22,'968',NULL), (1536168,3,'1',NULL), (1536168,23,'4 GB',NULL), (1536169,1,'0 tasks @ 0 bytes avg',NULL), (1536169,2,'1 tasks @ 1 KB avg',NULL), (1536169,3,'1',NULL), (1536170,4,'2830',NULL), (1536170,5,'73',NULL), (1536170,6,'8188',NULL), (1536170,3,'1',NULL), (1536170,7,'0.025795053003533568',NULL), (1536171,9,'8 sec',NULL), (1536171,10,'8 sec',NULL), (1536171,11,'8 sec',NULL), (1536171,3,'1',NULL), (1536172,18,'301',NULL), (1536172,19,'8 sec',NULL), (1536172,20,'2338',NULL), (1536172,21,'301',NULL), (1536172,22,'301',NULL), (1536172,3,'1',NULL), (1536172,23,'4 GB',NULL), (1536173,24,'',NULL), (1536173,25,'7 sec (9.03x)',NULL), (1536173,26,' (0.04x)',NULL), (1536173,3,'1',NULL);
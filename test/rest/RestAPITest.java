@@ -122,6 +122,30 @@ public class RestAPITest {
     });
   }
 
+  /**
+   * <p>
+   * Rest API - Revalidates a cached job information with its ETag
+   * </p>
+   */
+  @Test
+  public void testrestAppResultNotModified() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        populateTestData();
+        final WS.Response response = WS.url(BASE_URL + REST_APP_RESULT_PATH).
+            setQueryParameter("id", TEST_JOB_ID1).
+            get().get(RESPONSE_TIMEOUT, TimeUnit.MILLISECONDS);
+        String eTag = response.getHeader("ETag");
+        assertTrue("ETag missing", eTag != null && eTag.startsWith("\""));
+
+        final WS.Response revalidation = WS.url(BASE_URL + REST_APP_RESULT_PATH).
+            setQueryParameter("id", TEST_JOB_ID1).setHeader("If-None-Match", eTag).
+            get().get(RESPONSE_TIMEOUT, TimeUnit.MILLISECONDS);
+        assertTrue("Job was not reported as not modified", revalidation.getStatus() == 304);
+      }
+    });
+  }
+
   @Test
   public void testRestGetCurrentRunParameters() {
     Configuration configuration = ElephantContext.instance().getAutoTuningConf();
@@ -374,6 +398,31 @@ public class RestAPITest {
     });
   }
 
+  /**
+   * <p>
+   * Rest API - Perform a search by flow execution id
+   * <br>
+   * Test verifies if the streamed response holds the jobs of the flow execution only
+   * </p>
+   */
+  @Test
+  public void testrestSearchByFlowExecId() {
+    running(testServer(TEST_SERVER_PORT, fakeApp), new Runnable() {
+      public void run() {
+        populateTestData();
+        final WS.Response response = WS.url(BASE_URL + REST_SEARCH_PATH).
+            setQueryParameter("flow-exec-id", TEST_FLOW_EXEC_ID1).
+            get().get(RESPONSE_TIMEOUT, TimeUnit.MILLISECONDS);
+        assertTrue("Response is not json", response.getHeader("Content-Type").startsWith("application/json"));
+        List<String> flowExecIdList = response.asJson().findValuesAsText("flowExecId");
+        assertTrue("No job returned", !flowExecIdList.isEmpty());
+        for (String flowExecId : flowExecIdList) {
+          assertTrue("Flow execution id did not match", TEST_FLOW_EXEC_ID1.equals(flowExecId));
+        }
+      }
+    });
+  }
+
   /**
    * <p>
    * Rest API - Perform a search with additional params